@@ -0,0 +1,191 @@
+package com.example.admin.permission.aop;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.admin.permission.annotation.RequirePermission;
+import com.example.admin.permission.audit.PermissionAuditLogger;
+import com.example.admin.permission.context.AuthContext;
+import com.example.admin.permission.domain.PermissionAssignment;
+import com.example.admin.permission.domain.PermissionGroup;
+import com.example.admin.permission.domain.PermissionGroupRoot;
+import com.example.admin.permission.repository.PermissionGroupRepository;
+import com.example.admin.permission.repository.PermissionGroupRootRepository;
+import com.example.admin.permission.service.PermissionEvaluator;
+import com.example.admin.permission.service.PermissionGroupService;
+import com.example.common.security.ActionCode;
+import com.example.common.security.FeatureCode;
+import com.example.common.user.spi.UserAccountInfo;
+import com.example.common.user.spi.UserAccountProvider;
+import com.example.common.version.ChangeAction;
+
+/**
+* {@code @RequirePermission} 권한 검사 비용.
+* <p>
+* {@code legacyLookup}은 변경 전 경로(호출마다 리플렉션 어노테이션 탐색 + 할당 목록 stream 선형 탐색),
+* {@code compiledLookup}은 메서드별 어노테이션 캐시 + EnumMap 할당 테이블, {@code proxiedCall}은 실제 aspect 프록시
+* 호출 전체({@code directCall} 대비 오버헤드)를 잰다. 할당 수는 권한 그룹 크기({@code assignments})로 바꾼다.
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequirePermissionBenchmark {
+
+  private static final String GROUP_CODE = "BENCH";
+
+  @Param({"8", "64"})
+  public int assignments;
+
+  private Service target;
+  private Service proxy;
+  private Method method;
+  private PermissionGroup group;
+  private List<PermissionAssignment> assignmentList;
+  private RequirePermissionAspect aspect;
+
+  @Setup
+  public void setUp() throws NoSuchMethodException {
+    OffsetDateTime now = OffsetDateTime.now();
+    assignmentList = new ArrayList<>();
+    FeatureCode[] features = FeatureCode.values();
+    ActionCode[] actions = ActionCode.values();
+    for (int i = 0; assignmentList.size() < assignments - 1; i++) {
+      PermissionAssignment candidate = new PermissionAssignment(
+          features[i / actions.length % features.length], actions[i % actions.length]);
+      if (candidate.getFeature() != FeatureCode.ORGANIZATION || candidate.getAction() != ActionCode.READ) {
+        assignmentList.add(candidate);
+      }
+    }
+    // 조회 대상은 목록 끝에 둔다(선형 탐색 최악 경우).
+    assignmentList.add(new PermissionAssignment(FeatureCode.ORGANIZATION, ActionCode.READ));
+
+    PermissionGroupRoot root = PermissionGroupRoot.createWithCode(GROUP_CODE, now);
+    group = PermissionGroup.create(root, 1, "bench", null, true, assignmentList, List.of(),
+        ChangeAction.CREATE, null, "bench", "bench", now);
+    root.activateNewVersion(group, now);
+
+    PermissionGroupService groupService = new PermissionGroupService(
+        stub(PermissionGroupRootRepository.class, Optional.of(root)),
+        stub(PermissionGroupRepository.class, null));
+    UserAccountInfo account = stub(UserAccountInfo.class, null);
+    PermissionEvaluator evaluator = new PermissionEvaluator(
+        stub(UserAccountProvider.class, account), groupService);
+    aspect = new RequirePermissionAspect(evaluator, new NoopAuditLogger());
+
+    target = new Service();
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(aspect);
+    proxy = factory.getProxy();
+    method = Service.class.getMethod("read");
+
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken("bench", null, List.of()));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Benchmark
+  public Optional<PermissionAssignment> legacyLookup() {
+    RequirePermission annotation = AnnotationUtils.findAnnotation(method, RequirePermission.class);
+    if (annotation == null) {
+      annotation = AnnotationUtils.findAnnotation(target.getClass(), RequirePermission.class);
+    }
+    FeatureCode feature = annotation.feature();
+    ActionCode action = annotation.action();
+    return assignmentList.stream()
+        .filter(a -> a.getFeature() == feature && a.getAction() == action)
+        .findFirst();
+  }
+
+  @Benchmark
+  public Optional<PermissionAssignment> compiledLookup() {
+    RequirePermission annotation = aspect.cachedAnnotation(method, target.getClass());
+    return group.assignmentFor(annotation.feature(), annotation.action());
+  }
+
+  @Benchmark
+  public int directCall() {
+    return target.read();
+  }
+
+  @Benchmark
+  public int proxiedCall() {
+    return proxy.read();
+  }
+
+  /** 권한 검사 대상. */
+  public static class Service {
+
+    @RequirePermission(feature = FeatureCode.ORGANIZATION, action = ActionCode.READ, audit = false)
+    public int read() {
+      return 1;
+    }
+  }
+
+  private static final class NoopAuditLogger implements PermissionAuditLogger {
+
+    @Override
+    public void onAccessGranted(AuthContext context) {
+    }
+
+    @Override
+    public void onAccessDenied(AuthContext context, Throwable throwable) {
+    }
+  }
+
+  /**
+  * Optional/객체를 돌려주는 조회 메서드는 {@code result}를, 문자열 getter는 벤치마크 고정값을 돌려주는 스텁.
+  */
+  @SuppressWarnings("unchecked")
+  private static <T> T stub(Class<T> type, Object result) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, m, args) -> {
+      Class<?> returnType = m.getReturnType();
+      if (m.getName().equals("getPermissionGroupCode")) {
+        return GROUP_CODE;
+      }
+      if (m.getName().equals("getUsername")) {
+        return "bench";
+      }
+      if (returnType == boolean.class) {
+        return false;
+      }
+      if (returnType == int.class) {
+        return 0;
+      }
+      if (result != null && returnType.isInstance(result)) {
+        return result;
+      }
+      return returnType == Optional.class ? Optional.empty() : null;
+    });
+  }
+}
@@ -114,10 +114,11 @@ public interface MaskingPolicyRepository extends JpaRepository<MaskingPolicy, UU
             @Param("version2") Integer version2);
 
     /**
-     * 모든 현재 활성 버전 조회 (우선순위 오름차순).
+     * 모든 현재 활성 버전 조회 (우선순위 오름차순). 트랜잭션 밖에서 인덱스를 만들 수 있도록 root를 함께 읽는다.
      */
     @Query("""
             SELECT v FROM MaskingPolicy v
+            JOIN FETCH v.root
             WHERE v.validTo IS NULL
               AND v.status = com.example.common.version.VersionStatus.PUBLISHED
               AND v.active = true
@@ -4,9 +4,13 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import com.example.common.security.ActionCode;
 import com.example.common.masking.DataKind;
@@ -34,6 +38,7 @@ import lombok.extern.slf4j.Slf4j;
 public class MaskingEvaluator {
 
     private static final String DEFAULT_MASK = "***";
+    private static final String MEMO_ATTRIBUTE = MaskingEvaluator.class.getName() + ".decisions";
 
     private final CurrentUserProvider currentUserProvider;
     private final MaskingPolicyProvider maskingPolicyProvider;
@@ -84,7 +89,7 @@ public class MaskingEvaluator {
             Instant.now()
         );
 
-        Optional<MaskingMatch> maybePolicy = maskingPolicyProvider.evaluate(query);
+        Optional<MaskingMatch> maybePolicy = decide(user, dataKind, query);
 
         if (maybePolicy.isEmpty()) {
             // 매칭되는 정책이 없으면 기본 마스킹
@@ -137,6 +142,29 @@ public class MaskingEvaluator {
         return applyMaskRule(rawValue, dataKind);
     }
 
+    /**
+     * 요청 안에서 같은 사용자·DataKind 조합은 처음 평가한 결과를 재사용합니다.
+     * 목록 응답처럼 같은 필드가 행마다 반복되어도 정책 평가는 DataKind당 한 번입니다.
+     * 요청 컨텍스트가 없으면(배치 등) 매번 평가합니다.
+     */
+    private Optional<MaskingMatch> decide(CurrentUser user, DataKind dataKind, MaskingQuery query) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return maskingPolicyProvider.evaluate(query);
+        }
+        DecisionMemo memo = (DecisionMemo) attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null || !memo.user.equals(user)) {
+            memo = new DecisionMemo(user);
+            attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        Optional<MaskingMatch> decided = memo.decisions.get(dataKind);
+        if (decided == null) {
+            decided = maskingPolicyProvider.evaluate(query);
+            memo.decisions.put(dataKind, decided);
+        }
+        return decided;
+    }
+
     /**
      * DataKind의 기본 마스킹 규칙에 따라 값을 마스킹합니다.
      */
@@ -213,4 +241,15 @@ public class MaskingEvaluator {
         }
         return maskWith;
     }
+
+    /** 요청 범위 정책 평가 결과. 직렬화는 요청 스레드 하나에서만 일어난다. */
+    private static final class DecisionMemo {
+
+        private final CurrentUser user;
+        private final Map<DataKind, Optional<MaskingMatch>> decisions = new HashMap<>();
+
+        private DecisionMemo(CurrentUser user) {
+            this.user = user;
+        }
+    }
 }
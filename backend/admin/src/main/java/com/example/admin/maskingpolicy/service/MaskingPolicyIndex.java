@@ -0,0 +1,170 @@
+package com.example.admin.maskingpolicy.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import com.example.admin.maskingpolicy.domain.MaskingPolicy;
+import com.example.common.masking.DataKind;
+import com.example.common.policy.MaskingMatch;
+import com.example.common.security.ActionCode;
+import com.example.common.security.FeatureCode;
+
+/**
+ * 활성 마스킹 정책을 (FeatureCode, ActionCode) 버킷으로 미리 나눠 둔 불변 인덱스.
+ * <p>
+ * 버킷 안의 항목은 우선순위 오름차순이며, 조회는 버킷의 첫 일치 항목에서 멈춘다.
+ * 항목별 {@link MaskingMatch}는 컴파일 시점에 만들어 두므로 조회 중 객체를 만들지 않는다.
+ * 정책이 바뀌면 새 인덱스를 컴파일해 통째로 교체한다({@link MaskingPolicyService#reload()}).
+ */
+public final class MaskingPolicyIndex {
+
+    private static final FeatureCode[] FEATURES = FeatureCode.values();
+    private static final ActionCode[] ACTIONS = ActionCode.values();
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    /** [feature.ordinal][action.ordinal + 1]. 0번 칸은 action 없는 조회용(action 미지정 정책만). */
+    private final Entry[][][] buckets;
+    private final long generation;
+    private final int size;
+
+    private MaskingPolicyIndex(Entry[][][] buckets, long generation, int size) {
+        this.buckets = buckets;
+        this.generation = generation;
+        this.size = size;
+    }
+
+    /** 빈 인덱스. */
+    public static MaskingPolicyIndex empty() {
+        return compile(List.of(), 0);
+    }
+
+    /**
+     * 현재 활성 버전 목록으로 인덱스를 만든다. {@code root}는 초기화된 상태여야 한다.
+     *
+     * @param generation 인덱스 세대 번호(재컴파일마다 증가)
+     */
+    public static MaskingPolicyIndex compile(List<MaskingPolicy> policies, long generation) {
+        List<Entry> entries = new ArrayList<>(policies.size());
+        for (MaskingPolicy policy : policies) {
+            if (policy.getFeatureCode() != null) {
+                entries.add(new Entry(policy));
+            }
+        }
+        // 같은 우선순위는 조회 순서를 유지한다(stable sort).
+        entries.sort(Comparator.comparing((Entry e) -> e.priority, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        Entry[][][] buckets = new Entry[FEATURES.length][ACTIONS.length + 1][];
+        for (FeatureCode feature : FEATURES) {
+            for (int slot = 0; slot <= ACTIONS.length; slot++) {
+                ActionCode action = slot == 0 ? null : ACTIONS[slot - 1];
+                List<Entry> bucket = new ArrayList<>();
+                for (Entry entry : entries) {
+                    if (entry.feature == feature && (entry.action == null || entry.action == action)) {
+                        bucket.add(entry);
+                    }
+                }
+                buckets[feature.ordinal()][slot] = bucket.isEmpty() ? NO_ENTRIES : bucket.toArray(NO_ENTRIES);
+            }
+        }
+        return new MaskingPolicyIndex(buckets, generation, entries.size());
+    }
+
+    /**
+     * 조건에 맞는 최우선 정책. 없으면 null.
+     */
+    public MaskingMatch find(FeatureCode feature,
+                             ActionCode action,
+                             String permGroupCode,
+                             List<String> orgGroupCodes,
+                             DataKind dataKind,
+                             Instant now) {
+        if (feature == null) {
+            return null;
+        }
+        Entry[] bucket = buckets[feature.ordinal()][action == null ? 0 : action.ordinal() + 1];
+        for (Entry entry : bucket) {
+            if (entry.matches(permGroupCode, orgGroupCodes, dataKind, now)) {
+                return entry.match;
+            }
+        }
+        return null;
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static final class Entry {
+
+        private final FeatureCode feature;
+        private final ActionCode action;
+        private final String permGroupCode;
+        private final String orgGroupCode;
+        /** null이면 모든 DataKind에 적용. */
+        private final Set<DataKind> dataKinds;
+        private final Instant effectiveFrom;
+        private final Instant effectiveTo;
+        private final Integer priority;
+        private final MaskingMatch match;
+
+        private Entry(MaskingPolicy policy) {
+            this.feature = policy.getFeatureCode();
+            this.action = policy.getActionCode();
+            this.permGroupCode = blankToNull(policy.getPermGroupCode());
+            this.orgGroupCode = blankToNull(policy.getOrgGroupCode());
+            this.dataKinds = policy.getDataKinds() == null || policy.getDataKinds().isEmpty()
+                    ? null
+                    : EnumSet.copyOf(policy.getDataKinds());
+            this.effectiveFrom = policy.getEffectiveFrom();
+            this.effectiveTo = policy.getEffectiveTo();
+            this.priority = policy.getPriority();
+            this.match = MaskingMatch.builder()
+                    .policyId(policy.getRoot().getId())
+                    .dataKinds(policy.getDataKinds())
+                    .maskingEnabled(Boolean.TRUE.equals(policy.getMaskingEnabled()))
+                    .auditEnabled(Boolean.TRUE.equals(policy.getAuditEnabled()))
+                    .priority(policy.getPriority())
+                    .build();
+        }
+
+        private boolean matches(String permGroup, List<String> orgGroups, DataKind dataKind, Instant now) {
+            if (effectiveFrom != null && now.isBefore(effectiveFrom)) {
+                return false;
+            }
+            if (effectiveTo != null && !now.isBefore(effectiveTo)) {
+                return false;
+            }
+            if (permGroupCode != null && (permGroup == null || !permGroupCode.equalsIgnoreCase(permGroup))) {
+                return false;
+            }
+            if (orgGroupCode != null && !containsIgnoreCase(orgGroups, orgGroupCode)) {
+                return false;
+            }
+            return dataKinds == null || (dataKind != null && dataKinds.contains(dataKind));
+        }
+
+        private static boolean containsIgnoreCase(List<String> values, String target) {
+            if (values == null) {
+                return false;
+            }
+            for (int i = 0; i < values.size(); i++) {
+                if (target.equalsIgnoreCase(values.get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String blankToNull(String value) {
+            return value == null || value.isBlank() ? null : value;
+        }
+    }
+}
@@ -1,121 +1,123 @@
 package com.example.admin.maskingpolicy.service;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import com.example.admin.maskingpolicy.domain.MaskingPolicy;
 import com.example.admin.maskingpolicy.repository.MaskingPolicyRepository;
 import com.example.common.security.ActionCode;
 import com.example.common.security.FeatureCode;
 import com.example.common.masking.DataKind;
 import com.example.common.policy.MaskingMatch;
+import com.example.common.policy.PolicyChangedEvent;
 
 /**
  * 마스킹 정책 평가 서비스.
  * <p>
  * 새로운 버전 기반 구조(MaskingPolicy)를 사용하여 마스킹 정책을 평가합니다.
+ * 활성 정책은 {@link MaskingPolicyIndex}로 컴파일해 메모리에 두고 조회마다 DB를 타지 않습니다.
+ * 인덱스는 정책 변경 이벤트({@link #POLICY_CODE}) 커밋 후 또는 5분이 지나면 다시 만듭니다.
+ * 시간 기준 재생성은 다른 노드에서 바뀐 정책을 따라잡기 위한 상한입니다.
  */
 @Service
 public class MaskingPolicyService {
 
+    /** 마스킹 정책 변경 시 {@link PolicyChangedEvent#code()}. */
+    public static final String POLICY_CODE = "masking.policy";
+
+    private static final Duration INDEX_TTL = Duration.ofMinutes(5);
+    private static final Map<String, FeatureCode> FEATURES_BY_NAME = namesOf(FeatureCode.values());
+    private static final Map<String, ActionCode> ACTIONS_BY_NAME = namesOf(ActionCode.values());
+
     private final MaskingPolicyRepository versionRepository;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile LoadedIndex loaded;
 
     public MaskingPolicyService(MaskingPolicyRepository versionRepository) {
         this.versionRepository = versionRepository;
     }
 
-    @Transactional(readOnly = true)
     public Optional<MaskingMatch> evaluate(String featureCode,
                                            String actionCode,
                                            String permGroupCode,
                                            List<String> orgGroupCodes,
                                            DataKind dataKind,
                                            Instant now) {
-        // 활성화된 현재 버전들 조회 (우선순위 순)
-        List<MaskingPolicy> candidates = versionRepository.findAllCurrentActiveVersions();
-        Instant ts = now != null ? now : Instant.now();
-
-        FeatureCode feature = parseFeatureCode(featureCode);
-        ActionCode action = parseActionCode(actionCode);
-
+        FeatureCode feature = parse(FEATURES_BY_NAME, featureCode);
         if (feature == null) {
             return Optional.empty();
         }
-
-        return candidates.stream()
-                .filter(v -> isEffective(v, ts))
-                .filter(v -> v.getFeatureCode() == feature)
-                .filter(v -> matchAction(action, v.getActionCode()))
-                .filter(v -> matchNullable(permGroupCode, v.getPermGroupCode()))
-                .filter(v -> matchGroup(orgGroupCodes, v.getOrgGroupCode()))
-                .filter(v -> matchDataKinds(dataKind, v.getDataKinds()))
-                .min(Comparator.comparing(MaskingPolicy::getPriority))
-                .map(this::toMatch);
-    }
-
-    private FeatureCode parseFeatureCode(String code) {
-        if (code == null || code.isBlank()) return null;
-        try {
-            return FeatureCode.valueOf(code.trim().toUpperCase());
-        } catch (IllegalArgumentException e) {
-            return null;
-        }
+        ActionCode action = parse(ACTIONS_BY_NAME, actionCode);
+        Instant ts = now != null ? now : Instant.now();
+        return Optional.ofNullable(index().find(feature, action, permGroupCode, orgGroupCodes, dataKind, ts));
     }
 
-    private ActionCode parseActionCode(String code) {
-        if (code == null || code.isBlank()) return null;
-        try {
-            return ActionCode.valueOf(code.trim().toUpperCase());
-        } catch (IllegalArgumentException e) {
-            return null;
+    /** 현재 인덱스. 아직 없거나 TTL이 지났으면 다시 만든다. */
+    public MaskingPolicyIndex index() {
+        LoadedIndex current = loaded;
+        if (current == null || current.isExpired()) {
+            return refresh(current);
         }
+        return current.index;
     }
 
-    private boolean matchAction(ActionCode value, ActionCode target) {
-        if (target == null) return true;
-        return value != null && value == target;
+    /**
+     * 활성 정책을 다시 읽어 인덱스를 교체한다. 동시 재컴파일은 직렬화되어 나중에 시작한 쪽이 최신 상태를 남긴다.
+     */
+    public synchronized MaskingPolicyIndex reload() {
+        MaskingPolicyIndex index = MaskingPolicyIndex.compile(
+                versionRepository.findAllCurrentActiveVersions(), generation.incrementAndGet());
+        loaded = new LoadedIndex(index, System.nanoTime());
+        return index;
     }
 
-    private boolean isEffective(MaskingPolicy v, Instant ts) {
-        return (v.getEffectiveFrom() == null || !ts.isBefore(v.getEffectiveFrom()))
-                && (v.getEffectiveTo() == null || ts.isBefore(v.getEffectiveTo()));
+    /** 다른 스레드가 이미 교체했으면 다시 읽지 않는다. */
+    private synchronized MaskingPolicyIndex refresh(LoadedIndex stale) {
+        LoadedIndex current = loaded;
+        if (current != stale && current != null && !current.isExpired()) {
+            return current.index;
+        }
+        return reload();
     }
 
-    private boolean matchNullable(String value, String target) {
-        if (target == null || target.isBlank()) return true;
-        return value != null && value.equalsIgnoreCase(target);
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolicyChanged(PolicyChangedEvent event) {
+        if (POLICY_CODE.equals(event.code())) {
+            reload();
+        }
     }
 
-    private boolean matchGroup(List<String> groupCodes, String target) {
-        if (target == null || target.isBlank()) return true;
-        return groupCodes != null && groupCodes.stream().anyMatch(target::equalsIgnoreCase);
+    private static <E extends Enum<E>> E parse(Map<String, E> byName, String code) {
+        if (code == null) {
+            return null;
+        }
+        E exact = byName.get(code);
+        if (exact != null || code.isBlank()) {
+            return exact;
+        }
+        return byName.get(code.trim().toUpperCase(Locale.ROOT));
     }
 
-    /**
-     * DataKind 매칭 로직.
-     * 정책의 dataKinds가 비어있으면 모든 종류에 적용됨.
-     */
-    private boolean matchDataKinds(DataKind queryKind, Set<DataKind> policyKinds) {
-        // 정책의 dataKinds가 비어있으면 모든 종류에 적용
-        if (policyKinds == null || policyKinds.isEmpty()) {
-            return true;
+    private static <E extends Enum<E>> Map<String, E> namesOf(E[] values) {
+        Map<String, E> byName = new HashMap<>();
+        for (E value : values) {
+            byName.put(value.name(), value);
         }
-        return queryKind != null && policyKinds.contains(queryKind);
+        return Map.copyOf(byName);
     }
 
-    private MaskingMatch toMatch(MaskingPolicy v) {
-        return MaskingMatch.builder()
-                .policyId(v.getRoot().getId())
-                .dataKinds(v.getDataKinds())
-                .maskingEnabled(Boolean.TRUE.equals(v.getMaskingEnabled()))
-                .auditEnabled(Boolean.TRUE.equals(v.getAuditEnabled()))
-                .priority(v.getPriority())
-                .build();
+    private record LoadedIndex(MaskingPolicyIndex index, long loadedAtNanos) {
+
+        boolean isExpired() {
+            return System.nanoTime() - loadedAtNanos > INDEX_TTL.toNanos();
+        }
     }
 }
@@ -7,6 +7,8 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ import com.example.admin.maskingpolicy.exception.MaskingPolicyRootNotFoundExcept
 import com.example.admin.maskingpolicy.repository.MaskingPolicyRootRepository;
 import com.example.admin.maskingpolicy.repository.MaskingPolicyRepository;
 import com.example.admin.permission.context.AuthContext;
+import com.example.common.policy.PolicyChangedEvent;
 import com.example.common.version.ChangeAction;
 
 /**
@@ -27,10 +30,11 @@ import com.example.common.version.ChangeAction;
  */
 @Service
 @Transactional
-public class MaskingPolicyVersioningService {
+public class MaskingPolicyVersioningService implements ApplicationEventPublisherAware {
 
     private final MaskingPolicyRootRepository rootRepository;
     private final MaskingPolicyRepository versionRepository;
+    private ApplicationEventPublisher eventPublisher;
 
     public MaskingPolicyVersioningService(MaskingPolicyRootRepository rootRepository,
                                                MaskingPolicyRepository versionRepository) {
@@ -38,6 +42,11 @@ public class MaskingPolicyVersioningService {
         this.versionRepository = versionRepository;
     }
 
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.eventPublisher = applicationEventPublisher;
+    }
+
     // ==========================================================================
     // 버전 이력 조회
     // ==========================================================================
@@ -133,6 +142,7 @@ public class MaskingPolicyVersioningService {
 
         rollbackVersion = versionRepository.save(rollbackVersion);
         root.activateNewVersion(rollbackVersion, now);
+        publishChange(root);
 
         return MaskingPolicyHistoryResponse.from(rollbackVersion);
     }
@@ -245,6 +255,7 @@ public class MaskingPolicyVersioningService {
         // 초안 게시
         draft.publish(now);
         root.activateNewVersion(draft, now);
+        publishChange(root);
 
         return MaskingPolicyHistoryResponse.from(draft);
     }
@@ -300,6 +311,7 @@ public class MaskingPolicyVersioningService {
 
         version = versionRepository.save(version);
         root.activateNewVersion(version, now);
+        publishChange(root);
 
         return version;
     }
@@ -345,6 +357,7 @@ public class MaskingPolicyVersioningService {
 
         newVersion = versionRepository.save(newVersion);
         root.activateNewVersion(newVersion, now);
+        publishChange(root);
 
         return newVersion;
     }
@@ -386,6 +399,7 @@ public class MaskingPolicyVersioningService {
 
         deleteVersion = versionRepository.save(deleteVersion);
         root.activateNewVersion(deleteVersion, now);
+        publishChange(root);
 
         return deleteVersion;
     }
@@ -427,6 +441,7 @@ public class MaskingPolicyVersioningService {
 
         restoreVersion = versionRepository.save(restoreVersion);
         root.activateNewVersion(restoreVersion, now);
+        publishChange(root);
 
         return restoreVersion;
     }
@@ -435,6 +450,15 @@ public class MaskingPolicyVersioningService {
     // 헬퍼 메서드
     // ==========================================================================
 
+    /**
+     * 활성 버전이 바뀌었음을 알린다. 평가 인덱스({@link MaskingPolicyService})는 커밋 후 다시 만들어진다.
+     */
+    private void publishChange(MaskingPolicyRoot root) {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new PolicyChangedEvent(MaskingPolicyService.POLICY_CODE, String.valueOf(root.getId())));
+        }
+    }
+
     private MaskingPolicyRoot findRootOrThrow(UUID id) {
         return rootRepository.findById(id)
                 .orElseThrow(() -> new MaskingPolicyRootNotFoundException("마스킹 정책을 찾을 수 없습니다."));
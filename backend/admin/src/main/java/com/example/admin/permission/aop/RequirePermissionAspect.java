@@ -7,10 +7,15 @@ import com.example.admin.permission.context.AuthContextHolder;
 import com.example.admin.permission.context.PermissionDecision;
 import com.example.admin.permission.exception.PermissionDeniedException;
 import com.example.admin.permission.service.PermissionEvaluator;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodClassKey;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Component;
 
@@ -20,6 +25,9 @@ public class RequirePermissionAspect {
 
   private final PermissionEvaluator permissionEvaluator;
   private final PermissionAuditLogger auditLogger;
+  /** (메서드, 대상 클래스)별 어노테이션 해석 결과. 어노테이션이 없으면 empty. */
+  private final Map<MethodClassKey, Optional<RequirePermission>> annotationCache =
+      new ConcurrentHashMap<>();
 
   public RequirePermissionAspect(
       PermissionEvaluator permissionEvaluator, PermissionAuditLogger auditLogger) {
@@ -66,12 +74,21 @@ public class RequirePermissionAspect {
 
   private RequirePermission resolveAnnotation(ProceedingJoinPoint joinPoint) {
     MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-    RequirePermission annotation =
-        AnnotationUtils.findAnnotation(signature.getMethod(), RequirePermission.class);
+    return cachedAnnotation(signature.getMethod(), joinPoint.getTarget().getClass());
+  }
+
+  RequirePermission cachedAnnotation(Method method, Class<?> targetClass) {
+    return annotationCache
+        .computeIfAbsent(
+            new MethodClassKey(method, targetClass), key -> findAnnotation(method, targetClass))
+        .orElse(null);
+  }
+
+  private static Optional<RequirePermission> findAnnotation(Method method, Class<?> targetClass) {
+    RequirePermission annotation = AnnotationUtils.findAnnotation(method, RequirePermission.class);
     if (annotation != null) {
-      return annotation;
+      return Optional.of(annotation);
     }
-    Class<?> targetClass = joinPoint.getTarget().getClass();
-    return AnnotationUtils.findAnnotation(targetClass, RequirePermission.class);
+    return Optional.ofNullable(AnnotationUtils.findAnnotation(targetClass, RequirePermission.class));
   }
 }
@@ -16,10 +16,13 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -111,6 +114,11 @@ public class PermissionGroup extends PrimaryKeyEntity {
   @Column(name = "version_tag", length = 100)
   private String versionTag;
 
+  /** (feature, action) → 할당 조회 테이블. assignments가 바뀌면 다시 만든다. */
+  @Transient
+  @Getter(AccessLevel.NONE)
+  private volatile Map<FeatureCode, Map<ActionCode, Optional<PermissionAssignment>>> assignmentTable;
+
   private PermissionGroup(PermissionGroupRoot root,
                           Integer version,
                           String name,
@@ -260,6 +268,7 @@ public class PermissionGroup extends PrimaryKeyEntity {
     this.active = active;
     this.assignments = assignments != null ? new ArrayList<>(assignments) : new ArrayList<>();
     this.approvalGroupCodes = approvalGroupCodes != null ? new ArrayList<>(approvalGroupCodes) : new ArrayList<>();
+    this.assignmentTable = null;
     this.changeReason = changeReason;
     this.changedAt = now;
   }
@@ -289,11 +298,45 @@ public class PermissionGroup extends PrimaryKeyEntity {
 
   /**
    * 특정 feature/action에 대한 권한 할당을 조회합니다.
+   * <p>
+   * 할당 목록을 처음 조회할 때 EnumMap 테이블로 컴파일해 두고 이후에는 테이블만 봅니다.
+   * </p>
    */
   public Optional<PermissionAssignment> assignmentFor(FeatureCode feature, ActionCode action) {
-    return assignments.stream()
-        .filter(a -> a.getFeature() == feature && a.getAction() == action)
-        .findFirst();
+    if (feature == null || action == null) {
+      return Optional.empty();
+    }
+    Map<ActionCode, Optional<PermissionAssignment>> actions = assignmentTable().get(feature);
+    if (actions == null) {
+      return Optional.empty();
+    }
+    return actions.getOrDefault(action, Optional.empty());
+  }
+
+  /**
+   * 권한 할당 조회 테이블을 미리 만들어 둡니다. 캐시에 올리기 전에 호출합니다.
+   */
+  public void compileAssignments() {
+    assignmentTable();
+  }
+
+  /** 같은 (feature, action)이 여러 번 있으면 목록에서 먼저 나온 할당을 사용합니다. */
+  private Map<FeatureCode, Map<ActionCode, Optional<PermissionAssignment>>> assignmentTable() {
+    Map<FeatureCode, Map<ActionCode, Optional<PermissionAssignment>>> table = assignmentTable;
+    if (table != null) {
+      return table;
+    }
+    Map<FeatureCode, Map<ActionCode, Optional<PermissionAssignment>>> built = new EnumMap<>(FeatureCode.class);
+    for (PermissionAssignment assignment : assignments) {
+      if (assignment.getFeature() == null || assignment.getAction() == null) {
+        continue;
+      }
+      built.computeIfAbsent(assignment.getFeature(), f -> new EnumMap<>(ActionCode.class))
+          .putIfAbsent(assignment.getAction(), Optional.of(assignment));
+    }
+    table = Collections.unmodifiableMap(built);
+    assignmentTable = table;
+    return table;
   }
 
   /**
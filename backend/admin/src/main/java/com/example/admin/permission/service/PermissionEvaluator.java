@@ -12,7 +12,15 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+/**
+ * 현재 인증 사용자의 권한 그룹에서 feature/action 할당을 찾는다.
+ *
+ * <p>사용자 계정은 요청당 한 번만 조회한다. 인증 principal이 이미 {@link UserAccountInfo}이면 그대로 쓰고,
+ * 아니면 조회 결과를 요청 속성에 두어 같은 요청의 다음 권한 검사에서 재사용한다.
+ */
 @SuppressFBWarnings(
     value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"},
     justification = "Evaluator returns domain objects by design")
@@ -20,6 +28,7 @@ import org.springframework.stereotype.Component;
 public class PermissionEvaluator {
 
   private static final String DEFAULT_PERMISSION_GROUP = "DEFAULT";
+  private static final String PRINCIPAL_ATTRIBUTE = PermissionEvaluator.class.getName() + ".principal";
 
   private final UserAccountProvider userAccountProvider;
   private final PermissionGroupService permissionGroupService;
@@ -36,8 +45,7 @@ public class PermissionEvaluator {
     if (authentication == null || !authentication.isAuthenticated()) {
       throw new PermissionDeniedException("인증 정보가 없습니다.");
     }
-    String username = authentication.getName();
-    UserAccountInfo userInfo = userAccountProvider.getByUsernameOrThrow(username);
+    UserAccountInfo userInfo = resolveUser(authentication);
     String groupCode = determineGroupCode(userInfo);
     PermissionGroup group = permissionGroupService.getByCodeOrThrow(groupCode);
     PermissionAssignment assignment =
@@ -48,6 +56,24 @@ public class PermissionEvaluator {
     return new PermissionDecision(userInfo, assignment, group);
   }
 
+  private UserAccountInfo resolveUser(Authentication authentication) {
+    if (authentication.getPrincipal() instanceof UserAccountInfo principal) {
+      return principal;
+    }
+    String username = authentication.getName();
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return userAccountProvider.getByUsernameOrThrow(username);
+    }
+    Object cached = attributes.getAttribute(PRINCIPAL_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (cached instanceof UserAccountInfo info && username.equals(info.getUsername())) {
+      return info;
+    }
+    UserAccountInfo userInfo = userAccountProvider.getByUsernameOrThrow(username);
+    attributes.setAttribute(PRINCIPAL_ATTRIBUTE, userInfo, RequestAttributes.SCOPE_REQUEST);
+    return userInfo;
+  }
+
   private String determineGroupCode(UserAccountInfo userInfo) {
     String groupCode = userInfo.getPermissionGroupCode();
     if (groupCode == null || groupCode.isBlank()) {
@@ -6,7 +6,6 @@ import com.example.admin.permission.event.PermissionSetChangedEvent;
 import com.example.admin.permission.repository.PermissionGroupRepository;
 import com.example.admin.permission.repository.PermissionGroupRootRepository;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -19,6 +18,7 @@ import org.springframework.stereotype.Service;
  * 권한 그룹 서비스.
  * <p>
  * 권한 그룹의 현재 활성 버전을 조회하고 캐싱합니다.
+ * 캐시에 올리는 시점에 권한 할당 조회 테이블({@link PermissionGroup#compileAssignments()})을 함께 만듭니다.
  * </p>
  */
 @Service
@@ -62,6 +62,7 @@ public class PermissionGroupService implements ApplicationEventPublisherAware {
             throw new IllegalArgumentException("권한그룹의 활성 버전이 없습니다: " + code);
           }
 
+          currentVersion.compileAssignments();
           cache.put(code, new CachedPermissionGroup(currentVersion));
           return currentVersion;
         });
@@ -121,15 +122,15 @@ public class PermissionGroupService implements ApplicationEventPublisherAware {
   private static final class CachedPermissionGroup {
 
     private final PermissionGroup group;
-    private final Instant cachedAt;
+    private final long cachedAtNanos;
 
     private CachedPermissionGroup(PermissionGroup group) {
       this.group = group;
-      this.cachedAt = Instant.now();
+      this.cachedAtNanos = System.nanoTime();
     }
 
     private boolean isExpired() {
-      return cachedAt.plus(CACHE_TTL).isBefore(Instant.now());
+      return System.nanoTime() - cachedAtNanos > CACHE_TTL.toNanos();
     }
 
     private PermissionGroup group() {
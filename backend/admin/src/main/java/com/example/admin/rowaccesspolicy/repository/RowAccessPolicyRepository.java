@@ -23,6 +23,7 @@ public interface RowAccessPolicyRepository extends JpaRepository<RowAccessPolicy
      */
     @Query("""
             SELECT p FROM RowAccessPolicy p
+            JOIN FETCH p.root
             WHERE p.validTo IS NULL
               AND p.status = 'PUBLISHED'
               AND p.active = true
@@ -0,0 +1,150 @@
+package com.example.admin.rowaccesspolicy.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import com.example.admin.rowaccesspolicy.domain.RowAccessPolicy;
+import com.example.common.policy.RowAccessMatch;
+import com.example.common.security.ActionCode;
+import com.example.common.security.FeatureCode;
+
+/**
+ * 활성 행 접근 정책을 (FeatureCode, ActionCode) 버킷으로 미리 나눠 둔 불변 인덱스.
+ * <p>
+ * 권한 그룹/조직 그룹 코드는 컴파일 시 대문자로 정규화해 두고, 버킷 안은 우선순위 오름차순이다.
+ * 조회는 버킷의 첫 일치 항목에서 멈추며 미리 만든 {@link RowAccessMatch}를 그대로 돌려준다.
+ */
+public final class RowAccessPolicyIndex {
+
+    private static final FeatureCode[] FEATURES = FeatureCode.values();
+    private static final ActionCode[] ACTIONS = ActionCode.values();
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    /** [feature.ordinal][action.ordinal + 1]. 0번 칸은 action 없는 조회용(action 미지정 정책만). */
+    private final Entry[][][] buckets;
+    private final long generation;
+    private final int size;
+
+    private RowAccessPolicyIndex(Entry[][][] buckets, long generation, int size) {
+        this.buckets = buckets;
+        this.generation = generation;
+        this.size = size;
+    }
+
+    /**
+     * 현재 활성 버전 목록으로 인덱스를 만든다. {@code root}는 초기화된 상태여야 한다.
+     *
+     * @param generation 인덱스 세대 번호(재컴파일마다 증가)
+     */
+    public static RowAccessPolicyIndex compile(List<RowAccessPolicy> policies, long generation) {
+        List<Entry> entries = new ArrayList<>(policies.size());
+        for (RowAccessPolicy policy : policies) {
+            if (policy.getFeatureCode() != null) {
+                entries.add(new Entry(policy));
+            }
+        }
+        entries.sort(Comparator.comparing((Entry e) -> e.priority, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        Entry[][][] buckets = new Entry[FEATURES.length][ACTIONS.length + 1][];
+        for (FeatureCode feature : FEATURES) {
+            for (int slot = 0; slot <= ACTIONS.length; slot++) {
+                ActionCode action = slot == 0 ? null : ACTIONS[slot - 1];
+                List<Entry> bucket = new ArrayList<>();
+                for (Entry entry : entries) {
+                    if (entry.feature == feature && (entry.action == null || entry.action == action)) {
+                        bucket.add(entry);
+                    }
+                }
+                buckets[feature.ordinal()][slot] = bucket.isEmpty() ? NO_ENTRIES : bucket.toArray(NO_ENTRIES);
+            }
+        }
+        return new RowAccessPolicyIndex(buckets, generation, entries.size());
+    }
+
+    /**
+     * 조건에 맞는 최우선 정책. 없으면 null.
+     */
+    public RowAccessMatch find(FeatureCode feature,
+                               ActionCode action,
+                               String permGroupCode,
+                               List<String> orgGroupCodes,
+                               Instant now) {
+        if (feature == null) {
+            return null;
+        }
+        Entry[] bucket = buckets[feature.ordinal()][action == null ? 0 : action.ordinal() + 1];
+        for (Entry entry : bucket) {
+            if (entry.matches(permGroupCode, orgGroupCodes, now)) {
+                return entry.match;
+            }
+        }
+        return null;
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static final class Entry {
+
+        private final FeatureCode feature;
+        private final ActionCode action;
+        private final String permGroupCode;
+        private final String orgGroupCode;
+        private final Instant effectiveFrom;
+        private final Instant effectiveTo;
+        private final Integer priority;
+        private final RowAccessMatch match;
+
+        private Entry(RowAccessPolicy policy) {
+            this.feature = policy.getFeatureCode();
+            this.action = policy.getActionCode();
+            this.permGroupCode = normalize(policy.getPermGroupCode());
+            this.orgGroupCode = normalize(policy.getOrgGroupCode());
+            this.effectiveFrom = policy.getEffectiveFrom();
+            this.effectiveTo = policy.getEffectiveTo();
+            this.priority = policy.getPriority();
+            this.match = RowAccessMatch.builder()
+                    .policyId(policy.getRoot().getId())
+                    .rowScope(policy.getRowScope())
+                    .priority(policy.getPriority())
+                    .build();
+        }
+
+        private boolean matches(String permGroup, List<String> orgGroups, Instant now) {
+            if (effectiveFrom != null && now.isBefore(effectiveFrom)) {
+                return false;
+            }
+            if (effectiveTo != null && !now.isBefore(effectiveTo)) {
+                return false;
+            }
+            if (permGroupCode != null && (permGroup == null || !permGroupCode.equalsIgnoreCase(permGroup))) {
+                return false;
+            }
+            return orgGroupCode == null || containsIgnoreCase(orgGroups, orgGroupCode);
+        }
+
+        private static boolean containsIgnoreCase(List<String> values, String target) {
+            if (values == null) {
+                return false;
+            }
+            for (int i = 0; i < values.size(); i++) {
+                if (target.equalsIgnoreCase(values.get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String normalize(String value) {
+            return value == null || value.isBlank() ? null : value.toUpperCase(Locale.ROOT);
+        }
+    }
+}
@@ -1,28 +1,44 @@
 package com.example.admin.rowaccesspolicy.service;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.example.common.security.ActionCode;
 import com.example.common.security.FeatureCode;
-import com.example.admin.rowaccesspolicy.domain.RowAccessPolicy;
 import com.example.admin.rowaccesspolicy.repository.RowAccessPolicyRepository;
+import com.example.common.policy.PolicyChangedEvent;
 import com.example.common.policy.RowAccessMatch;
 
 /**
  * 행 접근 정책 평가 서비스.
  * <p>
  * 새로운 버전 기반 구조(RowAccessPolicy)를 사용하여 행 접근 정책을 평가합니다.
+ * 활성 정책은 노드별로 {@link RowAccessPolicyIndex}에 컴파일해 두며, 요청마다 DB를 조회하지 않습니다.
+ * 인덱스는 이 노드의 버전 게시({@link #POLICY_CODE} 이벤트 커밋 후), 다른 노드의 캐시 무효화 메시지,
+ * 또는 5분 경과 시 다시 만들어 원자적으로 교체합니다.
  */
 @Service
 public class RowAccessPolicyService {
 
+    /** 행 접근 정책 변경 시 {@link PolicyChangedEvent#code()}. */
+    public static final String POLICY_CODE = "row-access.policy";
+
+    private static final Duration INDEX_TTL = Duration.ofMinutes(5);
+    private static final Map<String, FeatureCode> FEATURES_BY_NAME = namesOf(FeatureCode.values());
+    private static final Map<String, ActionCode> ACTIONS_BY_NAME = namesOf(ActionCode.values());
+
     private final RowAccessPolicyRepository versionRepository;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile LoadedIndex loaded;
 
     public RowAccessPolicyService(RowAccessPolicyRepository versionRepository) {
         this.versionRepository = versionRepository;
@@ -38,76 +54,78 @@ public class RowAccessPolicyService {
      * @param now 평가 시점 (null이면 현재 시점 사용)
      * @return 매칭된 정책 결과
      */
-    @Transactional(readOnly = true)
     public Optional<RowAccessMatch> evaluate(String featureCode,
                                              String actionCode,
                                              String permGroupCode,
                                              List<String> orgGroupCodes,
                                              Instant now) {
-        // 활성화된 현재 버전들 조회 (우선순위 순)
-        List<RowAccessPolicy> candidates = versionRepository.findAllCurrentActiveVersions();
-        Instant ts = now != null ? now : Instant.now();
-
-        FeatureCode feature = parseFeatureCode(featureCode);
-        ActionCode action = parseActionCode(actionCode);
-
+        FeatureCode feature = parse(FEATURES_BY_NAME, featureCode);
         if (feature == null) {
             return Optional.empty();
         }
-
-        return candidates.stream()
-                .filter(v -> isEffective(v, ts))
-                .filter(v -> v.getFeatureCode() == feature)
-                .filter(v -> matchAction(action, v.getActionCode()))
-                .filter(v -> matchNullable(permGroupCode, v.getPermGroupCode()))
-                .filter(v -> matchGroup(orgGroupCodes, v.getOrgGroupCode()))
-                .min(Comparator.comparing(RowAccessPolicy::getPriority))
-                .map(this::toMatch);
+        ActionCode action = parse(ACTIONS_BY_NAME, actionCode);
+        Instant ts = now != null ? now : Instant.now();
+        return Optional.ofNullable(index().find(feature, action, permGroupCode, orgGroupCodes, ts));
     }
 
-    private FeatureCode parseFeatureCode(String code) {
-        if (code == null || code.isBlank()) return null;
-        try {
-            return FeatureCode.valueOf(code.trim().toUpperCase());
-        } catch (IllegalArgumentException e) {
-            return null;
+    /** 현재 인덱스. 아직 없거나 5분이 지났으면 다시 만든다. */
+    public RowAccessPolicyIndex index() {
+        LoadedIndex current = loaded;
+        if (current == null || current.isExpired()) {
+            return refresh(current);
         }
+        return current.index;
     }
 
-    private ActionCode parseActionCode(String code) {
-        if (code == null || code.isBlank()) return null;
-        try {
-            return ActionCode.valueOf(code.trim().toUpperCase());
-        } catch (IllegalArgumentException e) {
-            return null;
-        }
+    /**
+     * 활성 정책을 다시 읽어 인덱스를 교체한다. 동시 재컴파일은 직렬화되어 나중에 시작한 쪽이 최신 상태를 남긴다.
+     */
+    public synchronized RowAccessPolicyIndex reload() {
+        RowAccessPolicyIndex index = RowAccessPolicyIndex.compile(
+                versionRepository.findAllCurrentActiveVersions(), generation.incrementAndGet());
+        loaded = new LoadedIndex(index, System.nanoTime());
+        return index;
     }
 
-    private boolean matchAction(ActionCode value, ActionCode target) {
-        if (target == null) return true;
-        return value != null && value == target;
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolicyChanged(PolicyChangedEvent event) {
+        if (POLICY_CODE.equals(event.code())) {
+            reload();
+        }
     }
 
-    private boolean isEffective(RowAccessPolicy v, Instant ts) {
-        return (v.getEffectiveFrom() == null || !ts.isBefore(v.getEffectiveFrom()))
-                && (v.getEffectiveTo() == null || ts.isBefore(v.getEffectiveTo()));
+    /** 다른 스레드가 이미 교체했으면 다시 읽지 않는다. */
+    private synchronized RowAccessPolicyIndex refresh(LoadedIndex stale) {
+        LoadedIndex current = loaded;
+        if (current != stale && current != null && !current.isExpired()) {
+            return current.index;
+        }
+        return reload();
     }
 
-    private boolean matchNullable(String value, String target) {
-        if (target == null || target.isBlank()) return true;
-        return value != null && value.equalsIgnoreCase(target);
+    private static <E extends Enum<E>> E parse(Map<String, E> byName, String code) {
+        if (code == null) {
+            return null;
+        }
+        E exact = byName.get(code);
+        if (exact != null || code.isBlank()) {
+            return exact;
+        }
+        return byName.get(code.trim().toUpperCase(Locale.ROOT));
     }
 
-    private boolean matchGroup(List<String> groupCodes, String target) {
-        if (target == null || target.isBlank()) return true;
-        return groupCodes != null && groupCodes.stream().anyMatch(target::equalsIgnoreCase);
+    private static <E extends Enum<E>> Map<String, E> namesOf(E[] values) {
+        Map<String, E> byName = new HashMap<>();
+        for (E value : values) {
+            byName.put(value.name(), value);
+        }
+        return Map.copyOf(byName);
     }
 
-    private RowAccessMatch toMatch(RowAccessPolicy v) {
-        return RowAccessMatch.builder()
-                .policyId(v.getRoot().getId())
-                .rowScope(v.getRowScope())
-                .priority(v.getPriority())
-                .build();
+    private record LoadedIndex(RowAccessPolicyIndex index, long loadedAtNanos) {
+
+        boolean isExpired() {
+            return System.nanoTime() - loadedAtNanos > INDEX_TTL.toNanos();
+        }
     }
 }
@@ -4,6 +4,8 @@ import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +18,7 @@ import com.example.admin.rowaccesspolicy.dto.RowAccessPolicyRootRequest;
 import com.example.admin.rowaccesspolicy.exception.RowAccessPolicyRootNotFoundException;
 import com.example.admin.rowaccesspolicy.repository.RowAccessPolicyRepository;
 import com.example.admin.rowaccesspolicy.repository.RowAccessPolicyRootRepository;
+import com.example.common.policy.PolicyChangedEvent;
 import com.example.common.version.ChangeAction;
 
 /**
@@ -23,10 +26,11 @@ import com.example.common.version.ChangeAction;
  */
 @Service
 @Transactional
-public class RowAccessPolicyVersioningService {
+public class RowAccessPolicyVersioningService implements ApplicationEventPublisherAware {
 
     private final RowAccessPolicyRootRepository rootRepository;
     private final RowAccessPolicyRepository versionRepository;
+    private ApplicationEventPublisher eventPublisher;
 
     public RowAccessPolicyVersioningService(RowAccessPolicyRootRepository rootRepository,
                                             RowAccessPolicyRepository versionRepository) {
@@ -34,6 +38,11 @@ public class RowAccessPolicyVersioningService {
         this.versionRepository = versionRepository;
     }
 
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.eventPublisher = applicationEventPublisher;
+    }
+
     // ==========================================================================
     // 버전 이력 조회
     // ==========================================================================
@@ -127,6 +136,7 @@ public class RowAccessPolicyVersioningService {
 
         rollbackVersion = versionRepository.save(rollbackVersion);
         root.activateNewVersion(rollbackVersion, now);
+        publishChange(root);
 
         return RowAccessPolicyHistoryResponse.from(rollbackVersion);
     }
@@ -233,6 +243,7 @@ public class RowAccessPolicyVersioningService {
         // 초안 게시
         draft.publish(now);
         root.activateNewVersion(draft, now);
+        publishChange(root);
 
         return RowAccessPolicyHistoryResponse.from(draft);
     }
@@ -284,6 +295,7 @@ public class RowAccessPolicyVersioningService {
 
         version = versionRepository.save(version);
         root.activateNewVersion(version, now);
+        publishChange(root);
 
         return version;
     }
@@ -325,6 +337,7 @@ public class RowAccessPolicyVersioningService {
 
         newVersion = versionRepository.save(newVersion);
         root.activateNewVersion(newVersion, now);
+        publishChange(root);
 
         return newVersion;
     }
@@ -364,6 +377,7 @@ public class RowAccessPolicyVersioningService {
 
         deleteVersion = versionRepository.save(deleteVersion);
         root.activateNewVersion(deleteVersion, now);
+        publishChange(root);
 
         return deleteVersion;
     }
@@ -403,6 +417,7 @@ public class RowAccessPolicyVersioningService {
 
         restoreVersion = versionRepository.save(restoreVersion);
         root.activateNewVersion(restoreVersion, now);
+        publishChange(root);
 
         return restoreVersion;
     }
@@ -415,4 +430,11 @@ public class RowAccessPolicyVersioningService {
         return rootRepository.findById(id)
                 .orElseThrow(() -> new RowAccessPolicyRootNotFoundException("행 접근 정책을 찾을 수 없습니다."));
     }
+
+    /** 활성 버전이 바뀌었음을 알린다. 평가 인덱스는 커밋 후 다시 만들어지고 다른 노드로도 전파된다. */
+    private void publishChange(RowAccessPolicyRoot root) {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new PolicyChangedEvent(RowAccessPolicyService.POLICY_CODE, String.valueOf(root.getId())));
+        }
+    }
 }
@@ -3,6 +3,8 @@ package com.example.admin.maskingpolicy.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.example.common.security.ActionCode;
@@ -13,7 +15,9 @@ import com.example.admin.permission.context.AuthCurrentUserProvider;
 import com.example.common.policy.MaskingMatch;
 import com.example.common.policy.MaskingPolicyProvider;
 import com.example.testing.bdd.Scenario;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
@@ -21,6 +25,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @DisplayName("MaskingEvaluator 테스트")
 class MaskingEvaluatorTest {
@@ -444,4 +450,93 @@ class MaskingEvaluatorTest {
       assertThat(result).isEqualTo("***");
     }
   }
+
+  @Nested
+  @DisplayName("요청 범위 평가 재사용")
+  class RequestMemo {
+
+    @AfterEach
+    void resetRequest() {
+      RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Given 요청 컨텍스트 When 같은 DataKind를 여러 번 마스킹 Then 정책 평가는 DataKind당 한 번이다")
+    void givenRequest_whenSameKindRepeated_thenEvaluatedOnce() {
+      RequestContextHolder.setRequestAttributes(new MapRequestAttributes());
+      AuthContextHolder.set(AuthContext.of(
+          "user", "ORG", "AUDIT", FeatureCode.ORGANIZATION, ActionCode.READ, List.of()));
+      MaskingMatch match = MaskingMatch.builder()
+          .policyId(UUID.randomUUID())
+          .maskingEnabled(true)
+          .priority(100)
+          .build();
+      when(maskingPolicyProvider.evaluate(any())).thenReturn(Optional.of(match));
+
+      for (int i = 0; i < 50; i++) {
+        evaluator.mask("EMAIL", "user" + i + "@example.com");
+        evaluator.mask("PHONE", "010-0000-000" + (i % 10));
+      }
+
+      verify(maskingPolicyProvider, times(2)).evaluate(any());
+    }
+
+    @Test
+    @DisplayName("Given 요청 컨텍스트 없음 When 반복 마스킹 Then 매번 평가한다")
+    void givenNoRequest_whenRepeated_thenEvaluatedEachTime() {
+      AuthContextHolder.set(AuthContext.of(
+          "user", "ORG", "AUDIT", FeatureCode.ORGANIZATION, ActionCode.READ, List.of()));
+      when(maskingPolicyProvider.evaluate(any())).thenReturn(Optional.empty());
+
+      evaluator.mask("EMAIL", "a@example.com");
+      evaluator.mask("EMAIL", "b@example.com");
+
+      verify(maskingPolicyProvider, times(2)).evaluate(any());
+    }
+  }
+
+  /** 서블릿 API 없이 요청 범위 속성만 흉내 내는 RequestAttributes. */
+  private static final class MapRequestAttributes implements RequestAttributes {
+
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    @Override
+    public Object getAttribute(String name, int scope) {
+      return attributes.get(name);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value, int scope) {
+      attributes.put(name, value);
+    }
+
+    @Override
+    public void removeAttribute(String name, int scope) {
+      attributes.remove(name);
+    }
+
+    @Override
+    public String[] getAttributeNames(int scope) {
+      return attributes.keySet().toArray(String[]::new);
+    }
+
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback, int scope) {
+    }
+
+    @Override
+    public Object resolveReference(String key) {
+      return null;
+    }
+
+    @Override
+    public String getSessionId() {
+      return "test";
+    }
+
+    @Override
+    public Object getSessionMutex() {
+      return this;
+    }
+  }
 }
@@ -308,4 +308,62 @@ class MaskingPolicyServiceTest {
             assertThat(service.evaluate("ORGANIZATION", null, null, null, DataKind.CARD_NO, now)).isEmpty();
         }
     }
+
+    @Nested
+    @DisplayName("정책 인덱스는")
+    class Index {
+
+        @Test
+        @DisplayName("한 번 만든 인덱스로 반복 조회하며 DB를 다시 읽지 않는다")
+        void reusesCompiledIndex() {
+            Instant now = Instant.now();
+            MaskingPolicy policy = createVersion(createRoot(), FeatureCode.ORGANIZATION, null, null, null,
+                    Set.of(DataKind.SSN), true, false, 1, null, null);
+            given(versionRepository.findAllCurrentActiveVersions()).willReturn(List.of(policy));
+
+            for (int i = 0; i < 100; i++) {
+                service.evaluate("ORGANIZATION", "READ", null, null, DataKind.SSN, now);
+            }
+
+            Mockito.verify(versionRepository, Mockito.times(1)).findAllCurrentActiveVersions();
+            assertThat(service.index().size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("마스킹 정책 변경 이벤트를 받으면 새 세대로 다시 만들고, 다른 정책 이벤트는 무시한다")
+        void reloadsOnMaskingPolicyChange() {
+            Instant now = Instant.now();
+            MaskingPolicy policy = createVersion(createRoot(), FeatureCode.ORGANIZATION, null, null, null,
+                    Set.of(), true, false, 1, null, null);
+            given(versionRepository.findAllCurrentActiveVersions()).willReturn(List.of(), List.of(policy));
+            assertThat(service.evaluate("ORGANIZATION", null, null, null, (DataKind) null, now)).isEmpty();
+            long before = service.index().generation();
+
+            service.onPolicyChanged(new com.example.common.policy.PolicyChangedEvent("security.policy", ""));
+            assertThat(service.index().generation()).isEqualTo(before);
+
+            service.onPolicyChanged(new com.example.common.policy.PolicyChangedEvent(MaskingPolicyService.POLICY_CODE, "id"));
+
+            assertThat(service.index().generation()).isGreaterThan(before);
+            assertThat(service.evaluate("ORGANIZATION", null, null, null, (DataKind) null, now)).isPresent();
+        }
+
+        @Test
+        @DisplayName("action을 지정한 정책은 같은 action 조회에만, 미지정 정책은 모든 action 조회에 적용된다")
+        void actionBuckets() {
+            Instant now = Instant.now();
+            MaskingPolicy readOnly = createVersion(createRoot(), FeatureCode.ORGANIZATION, ActionCode.READ, null, null,
+                    Set.of(), false, false, 1, null, null);
+            MaskingPolicy wildcard = createVersion(createRoot(), FeatureCode.ORGANIZATION, null, null, null,
+                    Set.of(), true, false, 2, null, null);
+            given(versionRepository.findAllCurrentActiveVersions()).willReturn(List.of(readOnly, wildcard));
+
+            assertThat(service.evaluate("ORGANIZATION", "read", null, null, (DataKind) null, now))
+                    .map(MaskingMatch::getPriority).contains(1);
+            assertThat(service.evaluate("ORGANIZATION", "UPDATE", null, null, (DataKind) null, now))
+                    .map(MaskingMatch::getPriority).contains(2);
+            assertThat(service.evaluate("ORGANIZATION", null, null, null, (DataKind) null, now))
+                    .map(MaskingMatch::getPriority).contains(2);
+        }
+    }
 }
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.example.admin.maskingpolicy.domain.MaskingPolicyRoot;
 import com.example.admin.maskingpolicy.domain.MaskingPolicy;
@@ -29,6 +30,7 @@ import com.example.admin.maskingpolicy.repository.MaskingPolicyRepository;
 import com.example.admin.permission.context.AuthContext;
 import com.example.common.security.FeatureCode;
 import com.example.common.masking.DataKind;
+import com.example.common.policy.PolicyChangedEvent;
 import com.example.common.security.RowScope;
 import com.example.common.version.ChangeAction;
 import com.example.common.version.VersionStatus;
@@ -408,6 +410,22 @@ class MaskingPolicyVersioningServiceTest {
             assertThat(result.getChangeAction()).isEqualTo(ChangeAction.CREATE);
             assertThat(root.getCurrentVersion()).isEqualTo(result);
         }
+
+        @Test
+        @DisplayName("Given: 이벤트 발행자 / When: 새 버전 활성화 / Then: 마스킹 정책 변경 이벤트 발행")
+        void publishesPolicyChangedEvent() {
+            ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+            service.setApplicationEventPublisher(publisher);
+            MaskingPolicyRoot root = createTestRoot();
+            MaskingPolicyRootRequest request = new MaskingPolicyRootRequest(
+                    "정책", "설명", FeatureCode.DRAFT, null,
+                    null, null, Set.of("SSN"), true, false, 100, true, null, null);
+            given(versionRepository.save(any())).willAnswer(inv -> inv.getArgument(0));
+
+            service.createInitialVersion(root, request, testContext(), OffsetDateTime.now());
+
+            verify(publisher).publishEvent(new PolicyChangedEvent(MaskingPolicyService.POLICY_CODE, String.valueOf(root.getId())));
+        }
     }
 
     @Nested
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.example.admin.permission.annotation.RequirePermission;
@@ -227,6 +228,48 @@ class RequirePermissionAspectTest {
         }
     }
 
+    @Nested
+    @DisplayName("어노테이션 메타데이터 캐시")
+    class AnnotationCache {
+
+        @Test
+        @DisplayName("Given 같은 메서드 반복 호출 When enforce Then 매번 같은 feature/action으로 평가한다")
+        void givenRepeatedCalls_reusesResolvedAnnotation() throws Throwable {
+            Method method = AnnotatedClass.class.getMethod("annotatedMethod");
+            given(joinPoint.getSignature()).willReturn(methodSignature);
+            given(methodSignature.getMethod()).willReturn(method);
+            given(joinPoint.getTarget()).willReturn(new AnnotatedClass());
+            given(joinPoint.proceed()).willReturn("success");
+            PermissionDecision decision = new PermissionDecision(
+                    createUserInfo(), createAssignment(), createMockGroup("GROUP", "그룹"));
+            given(permissionEvaluator.evaluate(FeatureCode.DRAFT, ActionCode.READ)).willReturn(decision);
+
+            aspect.enforce(joinPoint);
+            aspect.enforce(joinPoint);
+
+            verify(permissionEvaluator, times(2)).evaluate(FeatureCode.DRAFT, ActionCode.READ);
+        }
+
+        @Test
+        @DisplayName("Given 같은 메서드라도 대상 클래스가 다르면 When enforce Then 클래스별로 따로 해석한다")
+        void givenDifferentTargetClass_resolvesSeparately() throws Throwable {
+            Method method = NoAnnotationClass.class.getMethod("noAnnotationMethod");
+            given(joinPoint.getSignature()).willReturn(methodSignature);
+            given(methodSignature.getMethod()).willReturn(method);
+            given(joinPoint.getTarget()).willReturn(new NoAnnotationClass(), new ClassAnnotatedSubclass());
+            given(joinPoint.proceed()).willReturn("result");
+            PermissionDecision decision = new PermissionDecision(
+                    createUserInfo(), createAssignmentForOrg(), createMockGroup("GROUP", "그룹"));
+            given(permissionEvaluator.evaluate(FeatureCode.ORGANIZATION, ActionCode.READ)).willReturn(decision);
+
+            aspect.enforce(joinPoint);
+            verify(permissionEvaluator, never()).evaluate(any(), any());
+
+            aspect.enforce(joinPoint);
+            verify(permissionEvaluator).evaluate(FeatureCode.ORGANIZATION, ActionCode.READ);
+        }
+    }
+
     private PermissionGroup createMockGroup(String code, String name) {
         PermissionGroup group = mock(PermissionGroup.class);
         given(group.getCode()).willReturn(code);
@@ -273,4 +316,8 @@ class RequirePermissionAspectTest {
             return "class annotated";
         }
     }
+
+    @RequirePermission(feature = FeatureCode.ORGANIZATION, action = ActionCode.READ)
+    static class ClassAnnotatedSubclass extends NoAnnotationClass {
+    }
 }
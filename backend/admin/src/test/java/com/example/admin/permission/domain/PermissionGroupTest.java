@@ -54,6 +54,28 @@ class PermissionGroupTest {
           .isEmpty();
     }
 
+    @Test
+    @DisplayName("Given 미리 컴파일한 할당 When 조회하면 Then 같은 action만 찾고 null 조회는 empty 반환")
+    void givenCompiledAssignments_whenLookup_thenMatchesExactAction() {
+      PermissionGroupRoot root = PermissionGroupRoot.createWithCode("AUDIT", now);
+      PermissionAssignment read = new PermissionAssignment(FeatureCode.ORGANIZATION, ActionCode.READ);
+      PermissionAssignment duplicate = new PermissionAssignment(FeatureCode.ORGANIZATION, ActionCode.READ);
+      PermissionAssignment export = new PermissionAssignment(FeatureCode.AUDIT_LOG, ActionCode.EXPORT);
+
+      PermissionGroup group = PermissionGroup.create(
+          root, 1, "Auditor", "감사 그룹", true,
+          List.of(read, duplicate, export), List.of(),
+          ChangeAction.CREATE, "초기 생성", "SYSTEM", "System", now);
+      group.compileAssignments();
+
+      assertThat(group.assignmentFor(FeatureCode.ORGANIZATION, ActionCode.READ).orElseThrow()).isSameAs(read);
+      assertThat(group.assignmentFor(FeatureCode.AUDIT_LOG, ActionCode.EXPORT)).contains(export);
+      assertThat(group.assignmentFor(FeatureCode.AUDIT_LOG, ActionCode.READ)).isEmpty();
+      assertThat(group.assignmentFor(FeatureCode.DRAFT, ActionCode.READ)).isEmpty();
+      assertThat(group.assignmentFor(null, ActionCode.READ)).isEmpty();
+      assertThat(group.assignmentFor(FeatureCode.ORGANIZATION, null)).isEmpty();
+    }
+
     @Test
     @DisplayName("Given 생성 시 Then PUBLISHED 상태로 생성된다")
     void createSetsPublishedStatus() {
@@ -210,6 +232,25 @@ class PermissionGroupTest {
       assertThat(draft.getChangeReason()).isEqualTo("내용 수정");
     }
 
+    @Test
+    @DisplayName("Given 조회된 초안 When updateDraft 호출 Then 새 할당으로 다시 조회된다")
+    void updateDraftRebuildsAssignmentTable() {
+      PermissionGroupRoot root = PermissionGroupRoot.createWithCode("GROUP", now);
+      PermissionAssignment original = new PermissionAssignment(FeatureCode.ORGANIZATION, ActionCode.READ);
+      PermissionGroup draft = PermissionGroup.createDraft(
+          root, 1, "Original", "원본", true,
+          List.of(original), List.of(),
+          "초안", "admin", "관리자", now);
+      assertThat(draft.assignmentFor(FeatureCode.ORGANIZATION, ActionCode.READ)).contains(original);
+
+      PermissionAssignment replaced = new PermissionAssignment(FeatureCode.DRAFT, ActionCode.DRAFT_CREATE);
+      draft.updateDraft("Updated", "수정됨", true,
+          List.of(replaced), List.of(), "내용 수정", now.plusMinutes(5));
+
+      assertThat(draft.assignmentFor(FeatureCode.ORGANIZATION, ActionCode.READ)).isEmpty();
+      assertThat(draft.assignmentFor(FeatureCode.DRAFT, ActionCode.DRAFT_CREATE)).contains(replaced);
+    }
+
     @Test
     @DisplayName("Given PUBLISHED 상태 When updateDraft 호출 Then IllegalStateException 발생")
     void updateDraftFromPublishedThrows() {
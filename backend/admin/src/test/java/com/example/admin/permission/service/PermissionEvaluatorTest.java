@@ -2,8 +2,13 @@ package com.example.admin.permission.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.example.admin.permission.TestUserInfo;
 import com.example.admin.permission.context.PermissionDecision;
@@ -25,6 +30,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("PermissionEvaluator 테스트")
@@ -36,6 +43,7 @@ class PermissionEvaluatorTest {
   @AfterEach
   void tearDown() {
     SecurityContextHolder.clearContext();
+    RequestContextHolder.resetRequestAttributes();
   }
 
   @Test
@@ -122,4 +130,57 @@ class PermissionEvaluatorTest {
         .isInstanceOf(PermissionDeniedException.class)
         .hasMessageContaining("권한이 없습니다");
   }
+
+  @Test
+  @DisplayName("Given 같은 요청에서 두 번 평가할 때 When evaluate 호출 Then 사용자 계정은 한 번만 조회한다")
+  void givenSameRequest_whenEvaluatingTwice_thenResolvesUserOnce() {
+    PermissionEvaluator evaluator =
+        new PermissionEvaluator(userAccountProvider, permissionGroupService);
+    UserAccountInfo userInfo = new TestUserInfo("auditor", "ORG1", "AUDIT", Set.of("ROLE_AUDITOR"));
+    PermissionGroup group = mock(PermissionGroup.class);
+    PermissionAssignment assignment =
+        new PermissionAssignment(FeatureCode.ORGANIZATION, ActionCode.READ);
+    RequestAttributes attributes = mock(RequestAttributes.class);
+    given(attributes.getAttribute(anyString(), eq(RequestAttributes.SCOPE_REQUEST)))
+        .willReturn(null, userInfo);
+    RequestContextHolder.setRequestAttributes(attributes);
+
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken("auditor", "token", java.util.List.of()));
+    given(userAccountProvider.getByUsernameOrThrow("auditor")).willReturn(userInfo);
+    given(permissionGroupService.getByCodeOrThrow("AUDIT")).willReturn(group);
+    given(group.assignmentFor(FeatureCode.ORGANIZATION, ActionCode.READ))
+        .willReturn(Optional.of(assignment));
+
+    evaluator.evaluate(FeatureCode.ORGANIZATION, ActionCode.READ);
+    PermissionDecision second = evaluator.evaluate(FeatureCode.ORGANIZATION, ActionCode.READ);
+
+    assertThat(second.toContext().username()).isEqualTo("auditor");
+    verify(userAccountProvider, times(1)).getByUsernameOrThrow("auditor");
+    verify(attributes).setAttribute(anyString(), eq(userInfo), eq(RequestAttributes.SCOPE_REQUEST));
+  }
+
+  @Test
+  @DisplayName("Given principal이 이미 사용자 계정일 때 When evaluate 호출 Then 다시 조회하지 않는다")
+  void givenAccountPrincipal_whenEvaluating_thenSkipsLookup() {
+    PermissionEvaluator evaluator =
+        new PermissionEvaluator(userAccountProvider, permissionGroupService);
+    UserAccountInfo userInfo = new TestUserInfo("auditor", "ORG1", "AUDIT", Set.of("ROLE_AUDITOR"));
+    PermissionGroup group = mock(PermissionGroup.class);
+    PermissionAssignment assignment =
+        new PermissionAssignment(FeatureCode.ORGANIZATION, ActionCode.READ);
+
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(userInfo, "token", java.util.List.of()));
+    given(permissionGroupService.getByCodeOrThrow("AUDIT")).willReturn(group);
+    given(group.assignmentFor(FeatureCode.ORGANIZATION, ActionCode.READ))
+        .willReturn(Optional.of(assignment));
+
+    PermissionDecision decision = evaluator.evaluate(FeatureCode.ORGANIZATION, ActionCode.READ);
+
+    assertThat(decision.toContext().username()).isEqualTo("auditor");
+    verify(userAccountProvider, never()).getByUsernameOrThrow(anyString());
+  }
 }
@@ -18,6 +18,7 @@ import com.example.common.security.FeatureCode;
 import com.example.admin.rowaccesspolicy.domain.RowAccessPolicy;
 import com.example.admin.rowaccesspolicy.domain.RowAccessPolicyRoot;
 import com.example.admin.rowaccesspolicy.repository.RowAccessPolicyRepository;
+import com.example.common.policy.PolicyChangedEvent;
 import com.example.common.policy.RowAccessMatch;
 import com.example.common.security.RowScope;
 import com.example.common.version.ChangeAction;
@@ -248,4 +249,70 @@ class RowAccessPolicyServiceTest {
             assertThat(match).isPresent();
         }
     }
+
+    @Nested
+    @DisplayName("컴파일된 인덱스는")
+    class Index {
+
+        @Test
+        @DisplayName("한 번 만든 인덱스로 반복 조회하며 DB를 다시 읽지 않는다")
+        void reusesCompiledIndex() {
+            Instant now = Instant.now();
+            RowAccessPolicy policy = createPolicy(
+                    createRoot(), FeatureCode.ORGANIZATION, null, "PG", "ORG_A",
+                    RowScope.ORG, 1, true, null, null
+            );
+            given(repository.findAllCurrentActiveVersions()).willReturn(List.of(policy));
+
+            for (int i = 0; i < 100; i++) {
+                assertThat(service.evaluate("ORGANIZATION", "READ", "pg", List.of("org_a"), now)).isPresent();
+            }
+
+            Mockito.verify(repository, Mockito.times(1)).findAllCurrentActiveVersions();
+            assertThat(service.index().size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("행 접근 정책 변경 이벤트를 받으면 새 세대로 다시 만들고, 다른 정책 이벤트는 무시한다")
+        void reloadsOnRowAccessPolicyChange() {
+            Instant now = Instant.now();
+            RowAccessPolicy policy = createPolicy(
+                    createRoot(), FeatureCode.ORGANIZATION, null, null, null,
+                    RowScope.ALL, 1, true, null, null
+            );
+            given(repository.findAllCurrentActiveVersions()).willReturn(List.of(), List.of(policy));
+            assertThat(service.evaluate("ORGANIZATION", null, null, null, now)).isEmpty();
+            long before = service.index().generation();
+
+            service.onPolicyChanged(new PolicyChangedEvent("masking.policy", ""));
+            assertThat(service.index().generation()).isEqualTo(before);
+
+            service.onPolicyChanged(new PolicyChangedEvent(RowAccessPolicyService.POLICY_CODE, "id"));
+
+            assertThat(service.index().generation()).isGreaterThan(before);
+            assertThat(service.evaluate("ORGANIZATION", null, null, null, now)).isPresent();
+        }
+
+        @Test
+        @DisplayName("action을 지정한 정책은 같은 action 조회에만, 미지정 정책은 모든 action 조회에 적용된다")
+        void actionBuckets() {
+            Instant now = Instant.now();
+            RowAccessPolicy readOnly = createPolicy(
+                    createRoot(), FeatureCode.ORGANIZATION, ActionCode.READ, null, null,
+                    RowScope.OWN, 1, true, null, null
+            );
+            RowAccessPolicy wildcard = createPolicy(
+                    createRoot(), FeatureCode.ORGANIZATION, null, null, null,
+                    RowScope.ALL, 2, true, null, null
+            );
+            given(repository.findAllCurrentActiveVersions()).willReturn(List.of(readOnly, wildcard));
+
+            assertThat(service.evaluate("ORGANIZATION", "read", null, null, now))
+                    .map(RowAccessMatch::getRowScope).contains(RowScope.OWN);
+            assertThat(service.evaluate("ORGANIZATION", "UPDATE", null, null, now))
+                    .map(RowAccessMatch::getRowScope).contains(RowScope.ALL);
+            assertThat(service.evaluate("ORGANIZATION", null, null, null, now))
+                    .map(RowAccessMatch::getRowScope).contains(RowScope.ALL);
+        }
+    }
 }
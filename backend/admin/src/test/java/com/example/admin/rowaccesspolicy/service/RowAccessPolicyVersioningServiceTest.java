@@ -16,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.example.admin.permission.context.AuthContext;
 import com.example.common.security.FeatureCode;
@@ -27,6 +28,7 @@ import com.example.admin.rowaccesspolicy.dto.RowAccessPolicyRootRequest;
 import com.example.admin.rowaccesspolicy.exception.RowAccessPolicyRootNotFoundException;
 import com.example.admin.rowaccesspolicy.repository.RowAccessPolicyRepository;
 import com.example.admin.rowaccesspolicy.repository.RowAccessPolicyRootRepository;
+import com.example.common.policy.PolicyChangedEvent;
 import com.example.common.security.RowScope;
 import com.example.common.version.ChangeAction;
 import com.example.common.version.VersionStatus;
@@ -406,6 +408,22 @@ class RowAccessPolicyVersioningServiceTest {
             assertThat(result.getChangeAction()).isEqualTo(ChangeAction.CREATE);
             assertThat(root.getCurrentVersion()).isEqualTo(result);
         }
+
+        @Test
+        @DisplayName("Given: 이벤트 발행자 / When: createInitialVersion 호출 / Then: 정책 변경 이벤트 발행")
+        void publishesPolicyChangedEvent() {
+            ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+            service.setApplicationEventPublisher(publisher);
+            RowAccessPolicyRoot root = createTestRoot();
+            RowAccessPolicyRootRequest request = new RowAccessPolicyRootRequest(
+                    "정책", "설명", FeatureCode.DRAFT, null,
+                    null, null, RowScope.OWN, 100, true, null, null);
+            given(versionRepository.save(any())).willAnswer(inv -> inv.getArgument(0));
+
+            service.createInitialVersion(root, request, testContext(), OffsetDateTime.now());
+
+            verify(publisher).publishEvent(new PolicyChangedEvent(RowAccessPolicyService.POLICY_CODE, String.valueOf(root.getId())));
+        }
     }
 
     @Nested
@@ -0,0 +1,65 @@
+package com.example.audit.infra.masking;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 감사 로그 마스킹: 규칙별 replaceAll 순차 적용(기존) vs {@link MaskingRedactionEngine}.
+ * 페이로드는 감사 reasonText/summary/extra에 실제로 들어오는 형태의 한국어 문장을 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaskingRedactionBenchmark {
+
+    @Param({"clean", "reason", "summary", "extra"})
+    public String payload;
+
+    private String input;
+    private List<MaskingRule> rules;
+    private MaskingRedactionEngine engine;
+
+    @Setup
+    public void setUp() {
+        rules = new MaskingProperties().getRules();
+        engine = new MaskingRedactionEngine(rules);
+        input = switch (payload) {
+            case "clean" -> "고객 요청에 따른 대출 심사 내역 조회 (민원 처리 목적, 담당 부서 승인 완료)";
+            case "reason" -> "이름 홍길동 고객 본인 요청으로 주민번호 900101-1234567 확인 후 계좌 110-123-456789 거래내역 조회";
+            case "summary" -> "변경 전: 주소 서울시 강남구 테헤란로 123 101동, 연락처 hong@example.com / "
+                    + "변경 후: 주소 부산시 해운대구 센텀로 45, 카드 1234-5678-9012-3456 등록";
+            case "extra" -> "{\"customerName\":\"김영희\",\"memo\":\"상담 결과 정상 처리\",\"channel\":\"BRANCH\","
+                    + "\"branch\":\"역삼지점\",\"items\":[\"예금\",\"적금\",\"펀드\"],\"approved\":true}";
+            default -> throw new IllegalArgumentException(payload);
+        };
+    }
+
+    @Benchmark
+    public String ruleLoop() {
+        String out = input;
+        for (MaskingRule rule : rules) {
+            out = rule.apply(out);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public String engine() {
+        return engine.apply(input);
+    }
+}
@@ -1,11 +1,12 @@
 package com.example.audit.infra;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.lang.Nullable;
@@ -16,9 +17,11 @@ import com.example.audit.AuditEvent;
 import com.example.audit.AuditMode;
 import com.example.audit.AuditPolicySnapshot;
 import com.example.audit.AuditPort;
+import com.example.audit.infra.chain.AuditHashChainSequencer;
 import com.example.audit.infra.masking.MaskingProperties;
 import com.example.audit.infra.persistence.AuditLogEntity;
 import com.example.audit.infra.persistence.AuditLogRepository;
+import com.example.audit.infra.pipeline.AuditWritePipeline;
 import com.example.audit.infra.policy.AuditPolicyResolver;
 import com.example.common.masking.Maskable;
 import com.example.common.masking.MaskingService;
@@ -34,7 +37,6 @@ public class AuditRecordService implements AuditPort {
 
     private static final Logger log = LoggerFactory.getLogger(AuditRecordService.class);
 
-    private final AuditLogRepository repository;
     private final AuditPolicyResolver policyResolver;
     private final ObjectMapper objectMapper;
     private final KafkaTemplate<String, String> kafkaTemplate;
@@ -42,39 +44,57 @@ public class AuditRecordService implements AuditPort {
     private final KafkaTemplate<String, String> dlqTemplate;
     private final String dlqTopic;
     private final com.example.audit.infra.siem.SiemForwarder siemForwarder;
-    private final boolean hmacEnabled;
-    private final String hmacSecret;
-    private final String hmacKeyId;
     private final MaskingProperties maskingProperties;
     private final MaskingService maskingService;
+    private final AuditHashChainSequencer chainSequencer;
+    private final AuditWritePipeline writePipeline;
 
+    @Autowired
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI로 주입되는 빈 참조는 불변으로 취급")
-    public AuditRecordService(AuditLogRepository repository,
-                              AuditPolicyResolver policyResolver,
+    public AuditRecordService(AuditPolicyResolver policyResolver,
                               ObjectMapper objectMapper,
                               @Nullable KafkaTemplate<String, String> kafkaTemplate,
                               @Value("${audit.kafka.topic:audit.events.v1}") String topic,
                               @Nullable @Value("${audit.kafka.dlq-topic:}") String dlqTopic,
                               @Nullable KafkaTemplate<String, String> dlqTemplate,
-                              @Value("${audit.hash-chain.hmac-enabled:false}") boolean hmacEnabled,
-                              @Value("${audit.hash-chain.secret:}") String hmacSecret,
-                              @Value("${audit.hash-chain.key-id:default}") String hmacKeyId,
                               MaskingProperties maskingProperties,
                               @Nullable MaskingService maskingService,
-                              @Nullable com.example.audit.infra.siem.SiemForwarder siemForwarder) {
-        this.repository = repository;
+                              @Nullable com.example.audit.infra.siem.SiemForwarder siemForwarder,
+                              AuditHashChainSequencer chainSequencer,
+                              @Nullable AuditWritePipeline writePipeline) {
         this.policyResolver = policyResolver;
         this.objectMapper = objectMapper.copy().registerModule(new JavaTimeModule());
         this.kafkaTemplate = kafkaTemplate;
         this.topic = topic;
         this.dlqTopic = dlqTopic;
         this.dlqTemplate = dlqTemplate != null ? dlqTemplate : kafkaTemplate;
-        this.hmacEnabled = hmacEnabled;
-        this.hmacSecret = hmacSecret;
-        this.hmacKeyId = hmacKeyId;
         this.maskingProperties = maskingProperties;
         this.maskingService = maskingService;
         this.siemForwarder = siemForwarder;
+        this.chainSequencer = chainSequencer;
+        this.writePipeline = writePipeline;
+    }
+
+    /**
+     * 해시 체인 설정을 직접 받아 전용 시퀀서를 구성하는 생성자 (수동 구성/테스트용).
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI로 주입되는 빈 참조는 불변으로 취급")
+    public AuditRecordService(AuditLogRepository repository,
+                              AuditPolicyResolver policyResolver,
+                              ObjectMapper objectMapper,
+                              @Nullable KafkaTemplate<String, String> kafkaTemplate,
+                              String topic,
+                              @Nullable String dlqTopic,
+                              @Nullable KafkaTemplate<String, String> dlqTemplate,
+                              boolean hmacEnabled,
+                              String hmacSecret,
+                              String hmacKeyId,
+                              MaskingProperties maskingProperties,
+                              @Nullable MaskingService maskingService,
+                              @Nullable com.example.audit.infra.siem.SiemForwarder siemForwarder) {
+        this(policyResolver, objectMapper, kafkaTemplate, topic, dlqTopic, dlqTemplate,
+                maskingProperties, maskingService, siemForwarder,
+                new AuditHashChainSequencer(repository, hmacEnabled, hmacSecret, hmacKeyId), null);
     }
 
     @Override
@@ -101,8 +121,12 @@ public class AuditRecordService implements AuditPort {
 
     private void persist(AuditEvent event, AuditMode mode, AuditPolicySnapshot policy, @Nullable MaskingTarget maskingTarget) {
         AuditLogEntity entity = toEntity(event, policy.isMaskingEnabled(), maskingTarget);
+        // STRICT는 업무 트랜잭션과 함께 커밋되어야 하므로 동기 저장을 유지한다.
+        if (mode != AuditMode.STRICT && writePipeline != null && writePipeline.offer(entity)) {
+            return;
+        }
         try {
-            repository.save(entity);
+            chainSequencer.append(entity);
         } catch (RuntimeException ex) {
             if (mode == AuditMode.STRICT) {
                 throw ex;
@@ -159,13 +183,11 @@ public class AuditRecordService implements AuditPort {
             log.warn("Failed to serialize audit extra payload: {}", ex.getMessage());
         }
 
-        String prevHash = repository.findTopByOrderByEventTimeDesc()
-                .map(AuditLogEntity::getHashChain)
-                .orElse("");
-        String hashChain = computeHash(prevHash, event);
+        // DB 타임스탬프 정밀도(µs)에 맞춰 저장값과 체인 계산값이 일치하도록 절삭
+        Instant eventTime = event.getEventTime() != null ? event.getEventTime().truncatedTo(ChronoUnit.MICROS) : null;
 
-        return new AuditLogEntity(event.getEventId(),
-                event.getEventTime(),
+        AuditLogEntity entity = new AuditLogEntity(event.getEventId(),
+                eventTime,
                 event.getEventType(),
                 event.getModuleName(),
                 event.getAction(),
@@ -188,37 +210,9 @@ public class AuditRecordService implements AuditPort {
                 applyMask(event.getBeforeSummary(), maskingEnabled, maskingTarget, "beforeSummary"),
                 applyMask(event.getAfterSummary(), maskingEnabled, maskingTarget, "afterSummary"),
                 extraJson,
-                hashChain);
-    }
-
-    private String computeHash(String prevHash, AuditEvent event) {
-        try {
-            String payload = prevHash + "|" + event.getEventId() + "|" + event.getEventTime()
-                    + "|" + event.getEventType() + "|" + event.getAction()
-                    + "|" + (event.getActor() != null ? event.getActor().getId() : "")
-                    + "|" + (event.getSubject() != null ? event.getSubject().getKey() : "");
-            byte[] hash;
-            if (hmacEnabled && hmacSecret != null && !hmacSecret.isBlank()) {
-                var mac = javax.crypto.Mac.getInstance("HmacSHA256");
-                mac.init(new javax.crypto.spec.SecretKeySpec(hmacSecret.getBytes(java.nio.charset.StandardCharsets.UTF_8), "HmacSHA256"));
-                hash = mac.doFinal(payload.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                payload += "|keyId=" + hmacKeyId;
-            } else {
-                MessageDigest digest = MessageDigest.getInstance("SHA-256");
-                hash = digest.digest(payload.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-            }
-            StringBuilder sb = new StringBuilder();
-            for (byte b : hash) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
-        } catch (NoSuchAlgorithmException e) {
-            log.warn("SHA-256 not available, skipping hash chain");
-            return prevHash;
-        } catch (Exception e) {
-            log.warn("Hash chain calculation failed: {}", e.getMessage());
-            return prevHash;
-        }
+                null);
+        // 체인 순번/해시는 적재 트랜잭션 안에서 붙인다 (동기: AuditHashChainSequencer#append, 비동기: AuditLogBatchWriter).
+        return entity;
     }
 
     private String sanitize(String text) {
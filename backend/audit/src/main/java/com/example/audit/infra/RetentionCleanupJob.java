@@ -11,14 +11,14 @@ import org.springframework.scheduling.support.CronTrigger;
 import org.springframework.stereotype.Component;
 
 import com.example.audit.config.AuditRetentionProperties;
-import com.example.audit.infra.persistence.AuditLogRepository;
+import com.example.audit.infra.maintenance.AuditRetentionPurger;
 import com.example.common.policy.PolicySettingsProvider;
 import com.example.common.policy.PolicyToggleSettings;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
  * 보존기간이 지난 감사 로그를 주기적으로 정리하는 잡.
- * 파티션 사용 시 파티션 DROP 배치로 대체 가능.
+ * 만료 파티션 DROP 및 청크 삭제는 {@link AuditRetentionPurger}가 수행한다.
  */
 @Component
 public class RetentionCleanupJob implements SchedulingConfigurer {
@@ -27,13 +27,13 @@ public class RetentionCleanupJob implements SchedulingConfigurer {
     private static final String DEFAULT_CRON = "0 30 3 * * *";
     private static final boolean DEFAULT_ENABLED = true;
 
-    private final AuditLogRepository repository;
+    private final AuditRetentionPurger purger;
     private final AuditRetentionProperties properties;
     private final PolicySettingsProvider policySettingsProvider;
 
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI로 주입되는 빈 참조")
-    public RetentionCleanupJob(AuditLogRepository repository, AuditRetentionProperties properties, PolicySettingsProvider policySettingsProvider) {
-        this.repository = repository;
+    public RetentionCleanupJob(AuditRetentionPurger purger, AuditRetentionProperties properties, PolicySettingsProvider policySettingsProvider) {
+        this.purger = purger;
         this.properties = properties;
         this.policySettingsProvider = policySettingsProvider;
     }
@@ -46,7 +46,7 @@ public class RetentionCleanupJob implements SchedulingConfigurer {
         }
         int days = properties.days();
         Instant threshold = Instant.now().minus(days, ChronoUnit.DAYS);
-        long deleted = repository.deleteByEventTimeBefore(threshold);
+        long deleted = purger.purgeBefore(threshold);
         if (deleted > 0) {
             log.info("audit retention purge deleted={} before={}days", deleted, days);
         }
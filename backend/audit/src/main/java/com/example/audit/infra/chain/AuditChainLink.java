@@ -0,0 +1,11 @@
+package com.example.audit.infra.chain;
+
+/**
+ * 해시 체인의 한 고리.
+ *
+ * @param sequence     체인 상 단조 증가 순번 (0은 체인 시작 전 앵커)
+ * @param previousHash 선행 고리의 해시 (앵커는 null)
+ * @param hash         이 고리의 해시
+ */
+public record AuditChainLink(long sequence, String previousHash, String hash) {
+}
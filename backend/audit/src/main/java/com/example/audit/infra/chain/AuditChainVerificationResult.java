@@ -0,0 +1,32 @@
+package com.example.audit.infra.chain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 해시 체인 검증 결과. 끊어진 경우 첫 번째로 깨진 고리의 순번/이벤트 ID와 사유를 담는다.
+ */
+public record AuditChainVerificationResult(Instant from,
+                                           Instant to,
+                                           long checkedCount,
+                                           boolean intact,
+                                           Long brokenSequence,
+                                           UUID brokenEventId,
+                                           Failure failure) {
+
+    public enum Failure {
+        /** 순번이 연속되지 않음 (행 누락/삭제) */
+        MISSING_LINK,
+        /** 재계산한 해시가 저장된 해시와 다름 (변조) */
+        HASH_MISMATCH
+    }
+
+    public static AuditChainVerificationResult intact(Instant from, Instant to, long checkedCount) {
+        return new AuditChainVerificationResult(from, to, checkedCount, true, null, null, null);
+    }
+
+    public static AuditChainVerificationResult broken(Instant from, Instant to, long checkedCount,
+                                                      long sequence, UUID eventId, Failure failure) {
+        return new AuditChainVerificationResult(from, to, checkedCount, false, sequence, eventId, failure);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.audit.infra.chain;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 커밋된 미연결 audit_log 행을 주기적으로 해시 체인에 이어 붙인다.
+ * <p>
+ * 배치마다 {@link AuditHashChainSequencer#linkPending}의 짧은 트랜잭션 하나로 끝나며, 가득 찬 배치를 처리했으면
+ * 미연결 행이 남지 않을 때까지 이어서 돈다. 연결에 실패하면 그 배치는 롤백돼 미연결로 남고, 오류 로그와
+ * {@code audit_chain_link_failures_total}을 남긴 뒤 다음 주기에 다시 시도한다.
+ */
+@Component
+public class AuditHashChainLinker {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditHashChainLinker.class);
+
+    private final AuditHashChainSequencer sequencer;
+    private final int batchSize;
+    private final Counter linked;
+    private final Counter failures;
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI로 주입되는 빈 참조")
+    public AuditHashChainLinker(AuditHashChainSequencer sequencer,
+                                @Value("${audit.hash-chain.link-batch-size:500}") int batchSize,
+                                @Nullable MeterRegistry meterRegistry) {
+        this.sequencer = sequencer;
+        this.batchSize = batchSize <= 0 ? 500 : batchSize;
+        MeterRegistry registry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+        this.linked = Counter.builder("audit_chain_linked_total").register(registry);
+        this.failures = Counter.builder("audit_chain_link_failures_total").register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${audit.hash-chain.link-interval-ms:1000}")
+    public void linkOnSchedule() {
+        linkAll();
+    }
+
+    /**
+     * 미연결 행이 남지 않을 때까지(또는 실패할 때까지) 배치 단위로 연결한다.
+     *
+     * @return 연결한 행 수
+     */
+    public int linkAll() {
+        int total = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            int count;
+            try {
+                count = sequencer.linkPending(batchSize);
+            } catch (RuntimeException ex) {
+                failures.increment();
+                log.error("Audit hash chain linking failed; unlinked rows stay pending", ex);
+                break;
+            }
+            linked.increment(count);
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
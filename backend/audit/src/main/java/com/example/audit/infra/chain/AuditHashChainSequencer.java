@@ -0,0 +1,164 @@
+package com.example.audit.infra.chain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.audit.infra.persistence.AuditChainHeadEntity;
+import com.example.audit.infra.persistence.AuditChainHeadRepository;
+import com.example.audit.infra.persistence.AuditLogEntity;
+import com.example.audit.infra.persistence.AuditLogRepository;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * 감사 로그 해시 체인의 순번과 링크를 발급한다.
+ * <p>
+ * 적재는 체인을 건드리지 않고 순번/해시 없이 행만 INSERT하므로, 감사 대상 업무 트랜잭션이 공유 헤드를 잠그지 않는다.
+ * 커밋된 미연결 행은 {@link AuditHashChainLinker}가 짧은 별도 트랜잭션에서 {@link #linkPending}으로 이어 붙인다.
+ * 헤드는 DB의 {@link AuditChainHeadEntity} 한 행(마이그레이션으로 생성)에 두고 연결 트랜잭션 동안만 잠그므로,
+ * 여러 노드가 하나의 체인을 공유해도 순번이 겹치지 않고 롤백된 적재가 빈 순번을 남기지 않는다.
+ */
+@Component
+public class AuditHashChainSequencer {
+
+    static final String CHAIN_KEY = "audit_log";
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final AuditLogRepository repository;
+    private final AuditChainHeadRepository headRepository;
+    private final boolean hmacEnabled;
+    private final String hmacSecret;
+    private final String hmacKeyId;
+    private final ThreadLocal<MessageDigest> sha256 = ThreadLocal.withInitial(AuditHashChainSequencer::newSha256);
+    private final ThreadLocal<Mac> hmac;
+
+    @Autowired
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI로 주입되는 빈 참조")
+    public AuditHashChainSequencer(AuditLogRepository repository,
+                                   @Nullable AuditChainHeadRepository headRepository,
+                                   @Value("${audit.hash-chain.hmac-enabled:false}") boolean hmacEnabled,
+                                   @Value("${audit.hash-chain.secret:}") String hmacSecret,
+                                   @Value("${audit.hash-chain.key-id:default}") String hmacKeyId) {
+        this.repository = repository;
+        this.headRepository = headRepository;
+        this.hmacEnabled = hmacEnabled && hmacSecret != null && !hmacSecret.isBlank();
+        this.hmacSecret = hmacSecret;
+        this.hmacKeyId = hmacKeyId;
+        this.hmac = ThreadLocal.withInitial(this::newHmac);
+    }
+
+    /**
+     * 헤드 행 없이 적재와 해시 계산만 하는 생성자 (수동 구성/테스트용). {@link #linkPending}은 사용할 수 없다.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI로 주입되는 빈 참조")
+    public AuditHashChainSequencer(AuditLogRepository repository, boolean hmacEnabled, String hmacSecret, String hmacKeyId) {
+        this(repository, null, hmacEnabled, hmacSecret, hmacKeyId);
+    }
+
+    /**
+     * 행을 미연결 상태로 저장한다. 호출 트랜잭션이 있으면 합류하므로 STRICT 감사는 업무 트랜잭션과 함께 커밋된다.
+     * 순번과 해시는 커밋 뒤 {@link #linkPending}이 붙인다.
+     */
+    @Transactional
+    public AuditLogEntity append(AuditLogEntity entity) {
+        return repository.save(entity);
+    }
+
+    /**
+     * 헤드를 잠그고 커밋된 미연결 행을 최대 {@code limit}건 순서대로 이어 붙인 뒤 헤드를 마지막 행으로 전진시킨다.
+     * 항상 새 트랜잭션에서 돌며 잠금은 이 배치를 연결하는 동안만 유지된다. 해시 계산이 실패하면 배치 전체가 롤백된다.
+     *
+     * @return 연결한 행 수
+     * @throws IllegalStateException 헤드 저장소가 없거나 헤드 행이 아직 만들어지지 않았을 때
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int linkPending(int limit) {
+        if (headRepository == null) {
+            throw new IllegalStateException("Audit hash chain head repository is not configured");
+        }
+        AuditChainHeadEntity head = headRepository.findByChainKey(CHAIN_KEY)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Audit hash chain head row '" + CHAIN_KEY + "' is missing; apply the audit_chain_head migration"));
+        List<AuditLogEntity> rows = repository.findUnlinked(PageRequest.of(0, Math.max(1, limit)));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        AuditChainLink last = chain(rows, head.getLastSequence(), head.getLastHash());
+        head.advance(last.sequence(), last.hash());
+        repository.saveAll(rows);
+        return rows.size();
+    }
+
+    private AuditChainLink chain(List<AuditLogEntity> rows, long lastSequence, String lastHash) {
+        long sequence = lastSequence;
+        String previous = nullToEmpty(lastHash);
+        String hash = previous;
+        for (AuditLogEntity row : rows) {
+            sequence++;
+            previous = hash;
+            hash = link(previous, sequence, row);
+            row.withHashChain(hash).withChainSequence(sequence);
+        }
+        return new AuditChainLink(sequence, previous, hash);
+    }
+
+    /**
+     * 선행 해시와 순번으로 행의 링크 해시를 계산한다. 검증 도구도 같은 계산을 사용한다.
+     */
+    public String link(String previousHash, long sequence, AuditLogEntity entity) {
+        String prev = previousHash == null ? "" : previousHash;
+        String payload = prev + "|" + sequence + "|" + entity.getEventId() + "|" + entity.getEventTime()
+                + "|" + entity.getEventType() + "|" + entity.getAction()
+                + "|" + nullToEmpty(entity.getActorId())
+                + "|" + nullToEmpty(entity.getSubjectKey());
+        try {
+            byte[] hash;
+            if (hmacEnabled) {
+                String keyed = payload + "|keyId=" + hmacKeyId;
+                hash = hmac.get().doFinal(keyed.getBytes(StandardCharsets.UTF_8));
+            } else {
+                hash = sha256.get().digest(payload.getBytes(StandardCharsets.UTF_8));
+            }
+            return HEX.formatHex(hash);
+        } catch (RuntimeException e) {
+            // 선행 해시를 그대로 돌려주면 체인에 조용히 구멍이 생기므로 연결을 실패시킨다.
+            throw new IllegalStateException("Hash chain calculation failed for event " + entity.getEventId(), e);
+        }
+    }
+
+    private Mac newHmac() {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(hmacSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.audit.infra.maintenance;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import com.example.audit.infra.rollup.AuditDailyRollupService;
+import com.example.common.schedule.ScheduledJobPort;
+import com.example.common.schedule.TriggerDescriptor;
+import com.example.common.schedule.TriggerType;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * 매일 새벽 전날을 포함한 최근 며칠치 감사 로그를 일별 롤업으로 다시 집계한다.
+ * 지연 적재(비동기 fallback, 재전송)된 로그가 반영되도록 lookback 일수만큼 재계산한다.
+ */
+@Component
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI 주입 빈 참조")
+public class AuditDailyRollupJob implements ScheduledJobPort, org.springframework.scheduling.annotation.SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditDailyRollupJob.class);
+
+    private final AuditDailyRollupService rollupService;
+    private final Clock clock;
+    private final boolean enabled;
+    private final String cron;
+    private final int lookbackDays;
+    @Value("${central.scheduler.enabled:false}")
+    private boolean centralSchedulerEnabled;
+
+    public AuditDailyRollupJob(AuditDailyRollupService rollupService,
+                               Clock clock,
+                               @Value("${audit.rollup.enabled:true}") boolean enabled,
+                               @Value("${audit.rollup.cron:0 15 0 * * *}") String cron,
+                               @Value("${audit.rollup.lookback-days:3}") int lookbackDays) {
+        this.rollupService = rollupService;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.cron = cron;
+        this.lookbackDays = lookbackDays <= 0 ? 1 : lookbackDays;
+    }
+
+    /** 오늘(UTC) 직전 lookbackDays 일을 재집계한다. */
+    public void rollup() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+        for (LocalDate day = today.minusDays(lookbackDays); day.isBefore(today); day = day.plusDays(1)) {
+            try {
+                rollupService.rollupDay(day);
+            } catch (RuntimeException e) {
+                log.warn("[audit-rollup] {} rollup failed: {}", day, e.getMessage());
+            }
+        }
+    }
+
+    // ScheduledJobPort
+    @Override public String jobId() { return "audit-daily-rollup"; }
+    @Override public void runOnce(Instant now) { rollup(); }
+    @Override public TriggerDescriptor trigger() {
+        return new TriggerDescriptor(enabled, TriggerType.CRON, cron, 0, 0, null);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (centralSchedulerEnabled) {
+            log.info("[audit-rollup] central scheduler enabled, skipping local registration");
+            return;
+        }
+        taskRegistrar.addTriggerTask(this::rollup, triggerContext ->
+                new org.springframework.scheduling.support.CronTrigger(trigger().expression()).nextExecution(triggerContext));
+    }
+}
@@ -10,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import com.example.audit.config.AuditRetentionProperties;
-import com.example.audit.infra.persistence.AuditLogRepository;
 import com.example.common.policy.PolicySettingsProvider;
 import com.example.common.policy.PolicyToggleSettings;
 import com.example.common.schedule.BatchJobCode;
@@ -21,6 +20,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
  * 보존 기간을 초과한 감사 로그를 주기적으로 정리하는 잡.
+ * 실제 삭제는 파티션 단위/청크 단위로 처리하는 {@link AuditRetentionPurger}에 위임한다.
  * 정책 연동 시 retentionDays 값을 외부 설정으로부터 주입받도록 확장할 수 있다.
  */
 @Component
@@ -32,7 +32,7 @@ public class AuditLogRetentionJob implements ScheduledJobPort, org.springframewo
     private static final String DEFAULT_CRON = "0 0 3 * * *";
     private static final boolean DEFAULT_ENABLED = true;
 
-    private final AuditLogRepository repository;
+    private final AuditRetentionPurger purger;
     private final Clock clock;
     private final PolicySettingsProvider policySettingsProvider;
     private final AuditRetentionProperties retentionProperties;
@@ -54,10 +54,7 @@ public class AuditLogRetentionJob implements ScheduledJobPort, org.springframewo
             days = retentionDays;
         }
         Instant threshold = clock.instant().minus(Duration.ofDays(days));
-        long deleted = repository.deleteByEventTimeBefore(threshold);
-        if (deleted > 0) {
-            log.info("Audit retention purge deleted {} rows older than {}", deleted, threshold);
-        }
+        purger.purgeBefore(threshold);
     }
 
     public void setRetentionDays(long retentionDays) {
@@ -2,7 +2,6 @@ package com.example.audit.infra.maintenance;
 
 import java.time.Clock;
 import java.time.LocalDate;
-import java.time.ZoneOffset;
 import java.time.Instant;
 import java.util.List;
 
@@ -11,9 +10,10 @@ import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import com.example.audit.infra.persistence.AuditLogRepository;
 import com.example.audit.infra.persistence.AuditMonthlySummaryEntity;
 import com.example.audit.infra.persistence.AuditMonthlySummaryRepository;
+import com.example.audit.infra.rollup.AuditDailyRollupService;
+import com.example.audit.infra.rollup.AuditRollupTotals;
 import com.example.common.policy.PolicySettingsProvider;
 import com.example.common.policy.PolicyToggleSettings;
 import com.example.common.schedule.BatchJobCode;
@@ -23,8 +23,8 @@ import com.example.common.schedule.TriggerType;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
- * 월간 접속/감사 로그 점검 리포트를 생성하기 위한 스켈레톤.
- * 현재는 건수만 수집해 로그로 남기며, 향후 SIEM/Grafana 연계 시 데이터를 내보내도록 확장한다.
+ * 월간 접속/감사 로그 점검 리포트.
+ * audit_log를 직접 세지 않고 일별 롤업({@link AuditDailyRollupService})을 합산해 건수/실패/언마스킹/DRM 지표를 저장한다.
  */
 @Component
 @RequiredArgsConstructor
@@ -32,7 +32,10 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI 주입 빈 참조")
 public class AuditMonthlyReportJob implements ScheduledJobPort, org.springframework.scheduling.annotation.SchedulingConfigurer {
 
-    private final AuditLogRepository repository;
+    private static final List<String> UNMASK_TYPES = List.of("UNMASK");
+    private static final List<String> DRM_DOWNLOAD_TYPES = List.of("DRM_DOWNLOAD", "DRM_EXPORT", "DOWNLOAD");
+
+    private final AuditDailyRollupService rollupService;
     private final AuditMonthlySummaryRepository summaryRepository;
     private final Clock clock;
     private final PolicySettingsProvider policySettingsProvider;
@@ -50,23 +53,22 @@ public class AuditMonthlyReportJob implements ScheduledJobPort, org.springframew
         LocalDate now = LocalDate.now(clock);
         LocalDate start = now.minusMonths(1).withDayOfMonth(1);
         LocalDate end = now.withDayOfMonth(1);
-        Instant from = start.atStartOfDay().toInstant(ZoneOffset.UTC);
-        Instant to = end.atStartOfDay().toInstant(ZoneOffset.UTC);
 
-        long count = repository.countByEventTimeBetween(from, to);
-        long failureCount = repository.countByEventTimeBetweenAndSuccess(from, to, false);
-        long unmaskCount = repository.countByEventTimeBetweenAndEventTypeIn(from, to, List.of("UNMASK"));
-        long drmDownloadCount = repository.countByEventTimeBetweenAndEventTypeIn(from, to, List.of("DRM_DOWNLOAD", "DRM_EXPORT", "DOWNLOAD"));
+        AuditRollupTotals totals = rollupService.totals(start, end);
+        long count = totals.total();
+        long failureCount = totals.failures();
+        long unmaskCount = totals.count(UNMASK_TYPES);
+        long drmDownloadCount = totals.count(DRM_DOWNLOAD_TYPES);
 
         log.info("Audit monthly report {} ~ {} count={}", start, end.minusDays(1), count);
         log.info("Audit monthly metrics: failures={}, unmaskRequests={}, drm/download={}", failureCount, unmaskCount, drmDownloadCount);
 
         String yearMonth = start.toString().substring(0, 7); // yyyy-MM
-        summaryRepository.save(AuditMonthlySummaryEntity.builder()
-                .yearMonth(yearMonth)
-                .totalCount(count)
-                .createdAt(Instant.now(clock))
-                .build());
+        Instant generatedAt = Instant.now(clock);
+        AuditMonthlySummaryEntity summary = summaryRepository.findByYearMonth(yearMonth)
+                .orElseGet(() -> AuditMonthlySummaryEntity.builder().yearMonth(yearMonth).createdAt(generatedAt).build());
+        summary.refresh(count, failureCount, unmaskCount, drmDownloadCount, generatedAt);
+        summaryRepository.save(summary);
     }
 
     // ScheduledJobPort
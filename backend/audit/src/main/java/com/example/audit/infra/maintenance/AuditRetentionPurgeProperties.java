@@ -0,0 +1,37 @@
+package com.example.audit.infra.maintenance;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "audit.retention.purge")
+@Data
+public class AuditRetentionPurgeProperties {
+
+    /**
+     * 만료 파티션 처리 방식. DROP=분리 후 삭제, DETACH=분리만(외부 아카이브용), NONE=파티션 처리 안 함.
+     */
+    private PartitionAction partitionAction = PartitionAction.DROP;
+    /**
+     * 청크당 삭제 건수. 청크마다 커밋한다.
+     */
+    private int chunkSize = 1_000;
+    /**
+     * 청크 사이 대기 ms (복제 지연/락 경합 완화).
+     */
+    private long pauseMs = 50;
+    /**
+     * 1회 실행당 최대 청크 수. 초과분은 다음 실행에서 커서부터 이어서 처리한다.
+     */
+    private int maxChunksPerRun = 10_000;
+    /**
+     * 1회 실행당 최대 소요 시간 ms.
+     */
+    private long maxRunMs = 30 * 60 * 1000L;
+
+    public enum PartitionAction {
+        DROP, DETACH, NONE
+    }
+}
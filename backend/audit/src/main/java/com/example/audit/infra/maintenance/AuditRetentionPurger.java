@@ -0,0 +1,246 @@
+package com.example.audit.infra.maintenance;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.audit.infra.maintenance.AuditRetentionPurgeProperties.PartitionAction;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 보존기간이 지난 audit_log 를 정리하는 엔진.
+ * <ol>
+ *     <li>PostgreSQL 이고 {@code audit_log_yyyy_MM} 월 파티션 전체가 만료됐으면 파티션을 분리(DETACH)/삭제(DROP)한다.</li>
+ *     <li>나머지는 event_time 키셋으로 chunkSize 건씩 조회·삭제하고 청크마다 커밋한다.
+ *     영속성 컨텍스트를 거치지 않으므로 건수와 무관하게 메모리와 락 보유 시간이 청크 단위로 제한된다.</li>
+ * </ol>
+ * 실행 예산(청크 수/시간)을 넘기거나 실패하면 마지막으로 커밋된 event_time 을 커서로 남기고, 다음 실행이 그 지점부터 이어간다.
+ */
+@Component
+public class AuditRetentionPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditRetentionPurger.class);
+
+    static final String SELECT_CHUNK_SQL = """
+            SELECT id, event_time FROM audit_log
+            WHERE event_time >= ? AND event_time < ?
+            ORDER BY event_time
+            LIMIT ?
+            """;
+    static final String DELETE_SQL = "DELETE FROM audit_log WHERE id = ?";
+    static final String PARTITIONS_SQL = """
+            SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = 'audit_log'
+            """;
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_log_(\\d{4})_(\\d{2})");
+    /** 파티션 경계가 세션 타임존으로 해석됐을 가능성을 고려한 여유. */
+    private static final Duration PARTITION_BOUND_MARGIN = Duration.ofDays(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditRetentionPurgeProperties properties;
+    private final ReentrantLock runLock = new ReentrantLock();
+    private final AtomicLong cursorEpochSecond = new AtomicLong();
+
+    private final Counter deletedRows;
+    private final Counter chunks;
+    private final Counter partitionsRemoved;
+    private final Timer chunkLatency;
+
+    private volatile Instant cursor;
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI로 주입되는 빈 참조")
+    public AuditRetentionPurger(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                AuditRetentionPurgeProperties properties,
+                                @Nullable MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        MeterRegistry registry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+        this.deletedRows = registry.counter("audit_retention_deleted_total");
+        this.chunks = registry.counter("audit_retention_chunks_total");
+        this.partitionsRemoved = registry.counter("audit_retention_partitions_removed_total");
+        this.chunkLatency = Timer.builder("audit_retention_chunk_ms")
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("audit_retention_cursor_epoch_seconds", cursorEpochSecond, AtomicLong::get).register(registry);
+    }
+
+    /**
+     * threshold 이전 감사 로그를 정리한다. 다른 실행이 진행 중이면 건너뛴다.
+     *
+     * @return 청크 삭제로 지운 행 수(파티션 단위 삭제분 제외)
+     */
+    public long purgeBefore(Instant threshold) {
+        if (!runLock.tryLock()) {
+            log.info("Audit retention purge already running, skipping");
+            return 0;
+        }
+        try {
+            removeExpiredPartitions(threshold);
+            return deleteInChunks(threshold);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /** 이전 실행이 예산 초과/실패로 멈춘 지점. 없으면 null. */
+    @Nullable
+    public Instant cursor() {
+        return cursor;
+    }
+
+    int removeExpiredPartitions(Instant threshold) {
+        PartitionAction action = properties.getPartitionAction();
+        if (action == PartitionAction.NONE || !isPostgres()) {
+            return 0;
+        }
+        int removed = 0;
+        for (String partition : jdbcTemplate.queryForList(PARTITIONS_SQL, String.class)) {
+            Matcher m = PARTITION_NAME.matcher(partition);
+            if (!m.matches()) {
+                continue;
+            }
+            Instant upperBound = LocalDate.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)), 1)
+                    .plusMonths(1)
+                    .atStartOfDay(ZoneOffset.UTC)
+                    .toInstant();
+            if (upperBound.plus(PARTITION_BOUND_MARGIN).isAfter(threshold)) {
+                continue;
+            }
+            try {
+                // 이름은 PARTITION_NAME 정규식으로 검증된 값만 사용한다.
+                jdbcTemplate.execute("ALTER TABLE audit_log DETACH PARTITION " + partition);
+                if (action == PartitionAction.DROP) {
+                    jdbcTemplate.execute("DROP TABLE " + partition);
+                }
+                removed++;
+                partitionsRemoved.increment();
+                log.info("Audit retention {} partition {} (upper bound {})", action, partition, upperBound);
+            } catch (DataAccessException ex) {
+                log.warn("Audit retention partition {} {} failed, falling back to chunked delete: {}",
+                        partition, action, ex.getMessage());
+            }
+        }
+        return removed;
+    }
+
+    long deleteInChunks(Instant threshold) {
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(1, properties.getMaxRunMs()));
+        Instant from = cursor != null && cursor.isBefore(threshold) ? cursor : Instant.EPOCH;
+        long total = 0;
+        for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+            ChunkResult result;
+            long started = System.nanoTime();
+            try {
+                Instant lower = from;
+                result = transactionTemplate.execute(status -> deleteChunk(lower, threshold, chunkSize));
+            } catch (DataAccessException ex) {
+                log.warn("Audit retention chunk failed at cursor {}, resuming next run: {}", from, ex.getMessage());
+                return total;
+            } finally {
+                chunkLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+            if (result == null || result.deleted() == 0) {
+                markCursor(null);
+                break;
+            }
+            total += result.deleted();
+            deletedRows.increment(result.deleted());
+            chunks.increment();
+            from = result.lastEventTime();
+            markCursor(from);
+            if (result.deleted() < chunkSize) {
+                markCursor(null);
+                break;
+            }
+            if (System.nanoTime() > deadline || !pause()) {
+                log.info("Audit retention purge budget reached after {} rows, resuming from {} next run", total, from);
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Audit retention purge deleted {} rows older than {}", total, threshold);
+        }
+        return total;
+    }
+
+    private ChunkResult deleteChunk(Instant from, Instant threshold, int chunkSize) {
+        List<Object> ids = new ArrayList<>(chunkSize);
+        Instant[] last = new Instant[1];
+        jdbcTemplate.query(SELECT_CHUNK_SQL, ps -> {
+            ps.setObject(1, from.atOffset(ZoneOffset.UTC));
+            ps.setObject(2, threshold.atOffset(ZoneOffset.UTC));
+            ps.setInt(3, chunkSize);
+        }, rs -> {
+            ids.add(rs.getObject("id"));
+            last[0] = rs.getObject("event_time", OffsetDateTime.class).toInstant();
+        });
+        if (ids.isEmpty()) {
+            return new ChunkResult(0, from);
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, ids, ids.size(), (ps, id) -> ps.setObject(1, id));
+        return new ChunkResult(ids.size(), last[0]);
+    }
+
+    private boolean isPostgres() {
+        try {
+            Boolean postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) (Connection conn) ->
+                    conn.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgresql"));
+            return Boolean.TRUE.equals(postgres);
+        } catch (DataAccessException ex) {
+            return false;
+        }
+    }
+
+    private boolean pause() {
+        if (properties.getPauseMs() <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.getPauseMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void markCursor(@Nullable Instant value) {
+        cursor = value;
+        cursorEpochSecond.set(value != null ? value.getEpochSecond() : 0);
+    }
+
+    private record ChunkResult(int deleted, Instant lastEventTime) {
+    }
+}
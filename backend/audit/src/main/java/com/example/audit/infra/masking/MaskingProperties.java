@@ -16,6 +16,11 @@ public class MaskingProperties {
      */
     private List<MaskingRule> rules = new ArrayList<>();
 
+    /**
+     * 규칙 목록으로 컴파일한 엔진. 규칙이 바뀌면 다음 호출에서 다시 만든다.
+     */
+    private volatile MaskingRedactionEngine engine;
+
     public MaskingProperties() {
         // 기본 규칙 세팅
         rules.add(new MaskingRule("\\d{6}-\\d{7}", "[REDACTED-RRN]")); // 주민등록번호
@@ -35,14 +40,19 @@ public class MaskingProperties {
     public void setRules(List<MaskingRule> rules) {
         if (rules != null && !rules.isEmpty()) {
             this.rules = new ArrayList<>(rules);
+            this.engine = null;
         }
     }
 
+    /**
+     * 모든 규칙을 순서대로 적용한다. 결과는 규칙별 {@code replaceAll}을 차례로 적용한 것과 같다.
+     */
     public String applyAll(String input) {
-        String out = input;
-        for (MaskingRule rule : rules) {
-            out = rule.apply(out);
+        MaskingRedactionEngine current = engine;
+        if (current == null) {
+            current = new MaskingRedactionEngine(rules);
+            engine = current;
         }
-        return out;
+        return current.apply(input);
     }
 }
@@ -0,0 +1,331 @@
+package com.example.audit.infra.masking;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link MaskingRule} 목록을 미리 컴파일해 두고, 입력을 한 번 훑어 얻은 문자 특징(숫자/한글/ASCII 리터럴)으로
+ * 적용될 수 없는 규칙을 건너뛰는 redaction 엔진.
+ * <p>
+ * 규칙마다 "매칭이 성립하려면 반드시 포함돼야 하는 문자"를 패턴에서 보수적으로 추출한다. 추출할 수 없는 패턴
+ * (최상위 |, 인라인 플래그, \Q..\E, 알 수 없는 escape 등)은 전제 조건 없이 항상 검사한다.
+ * 적용 순서와 결과는 규칙을 차례로 {@code replaceAll} 하던 방식과 동일하며, 매칭이 없는 규칙은 새 문자열을 만들지 않고
+ * 치환 결과는 스레드별로 재사용하는 버퍼에 기록한다.
+ */
+public final class MaskingRedactionEngine {
+
+    private static final int DIGIT = 1;
+    private static final int HANGUL = 1 << 1;
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final CompiledRule[] rules;
+    private final ThreadLocal<StringBuilder> buffer = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    public MaskingRedactionEngine(List<MaskingRule> rules) {
+        this.rules = rules.stream()
+                .filter(rule -> rule.getPattern() != null)
+                .map(CompiledRule::of)
+                .toArray(CompiledRule[]::new);
+    }
+
+    public String apply(String input) {
+        if (input == null || input.isEmpty() || rules.length == 0) {
+            return input;
+        }
+        Features features = Features.scan(input);
+        String current = input;
+        for (CompiledRule rule : rules) {
+            if (!rule.requirement.satisfiedBy(features, current)) {
+                continue;
+            }
+            Matcher matcher = rule.pattern.matcher(current);
+            if (!matcher.find()) {
+                continue;
+            }
+            current = rewrite(matcher, rule.replacement);
+            // 치환 문자열이 새로 들여온 문자도 이후 규칙의 전제 조건이 될 수 있으므로 특징에 합친다(과대 근사는 안전).
+            features.include(rule.replacementFeatures);
+        }
+        return current;
+    }
+
+    /** 패키지 테스트용: i번째 규칙에서 추출한 전제 조건 설명. */
+    String describeRequirement(int index) {
+        return rules[index].requirement.toString();
+    }
+
+    private String rewrite(Matcher matcher, String replacement) {
+        StringBuilder sb = buffer.get();
+        sb.setLength(0);
+        do {
+            matcher.appendReplacement(sb, replacement);
+        } while (matcher.find());
+        matcher.appendTail(sb);
+        String out = sb.toString();
+        if (sb.capacity() > MAX_RETAINED_BUFFER) {
+            buffer.remove();
+        }
+        return out;
+    }
+
+    private record CompiledRule(Pattern pattern, String replacement, Requirement requirement,
+                                Features replacementFeatures) {
+        static CompiledRule of(MaskingRule rule) {
+            String replacement = rule.getReplacement() == null ? "" : rule.getReplacement();
+            return new CompiledRule(Pattern.compile(rule.getPattern()), replacement,
+                    Requirement.analyze(rule.getPattern()), Features.scan(replacement));
+        }
+    }
+
+    /** 입력에 포함된 문자 특징. ASCII는 128비트 마스크로, 숫자/한글은 플래그로 표현한다. */
+    static final class Features {
+        private long low;
+        private long high;
+        private int classes;
+
+        static Features scan(CharSequence text) {
+            Features f = new Features();
+            for (int i = 0, n = text.length(); i < n; i++) {
+                f.add(text.charAt(i));
+            }
+            return f;
+        }
+
+        private void add(char c) {
+            if (c < 64) {
+                low |= 1L << c;
+                if (c >= '0' && c <= '9') {
+                    classes |= DIGIT;
+                }
+            } else if (c < 128) {
+                high |= 1L << (c - 64);
+            } else if (c >= '가' && c <= '힣') {
+                classes |= HANGUL;
+            }
+        }
+
+        void include(Features other) {
+            low |= other.low;
+            high |= other.high;
+            classes |= other.classes;
+        }
+    }
+
+    /** 규칙이 매칭되기 위한 필요 조건. 모든 비트/리터럴이 입력에 있어야 규칙을 검사한다. */
+    static final class Requirement {
+        private static final Requirement NONE = new Requirement();
+
+        private long low;
+        private long high;
+        private int classes;
+        private final StringBuilder nonAscii = new StringBuilder();
+
+        boolean satisfiedBy(Features f, String text) {
+            if ((f.low & low) != low || (f.high & high) != high || (f.classes & classes) != classes) {
+                return false;
+            }
+            for (int i = 0; i < nonAscii.length(); i++) {
+                if (text.indexOf(nonAscii.charAt(i)) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void literal(char c) {
+            if (c < 64) {
+                low |= 1L << c;
+            } else if (c < 128) {
+                high |= 1L << (c - 64);
+            } else if (nonAscii.indexOf(String.valueOf(c)) < 0) {
+                nonAscii.append(c);
+            }
+        }
+
+        /**
+         * 최상위 시퀀스에서 생략될 수 없는 원자만 본다. 그룹은 통째로 건너뛰고(조건에 기여하지 않음),
+         * 해석이 애매한 문법을 만나면 조건 없음으로 포기한다.
+         */
+        static Requirement analyze(String regex) {
+            Requirement req = new Requirement();
+            int i = 0;
+            int n = regex.length();
+            while (i < n) {
+                char c = regex.charAt(i);
+                int atomClasses = 0;
+                int atomLiteral = -1;
+                int next;
+                switch (c) {
+                    case '|':
+                        return NONE;
+                    case '(':
+                        if (i + 1 < n && regex.charAt(i + 1) == '?' && i + 2 < n
+                                && Character.isLetter(regex.charAt(i + 2))) {
+                            return NONE; // 인라인 플래그 (?i) 등
+                        }
+                        next = skipGroup(regex, i);
+                        if (next < 0) {
+                            return NONE;
+                        }
+                        break;
+                    case '[':
+                        next = skipClass(regex, i);
+                        if (next < 0) {
+                            return NONE;
+                        }
+                        String body = regex.substring(i + 1, next - 1);
+                        if ("가-힣".equals(body)) {
+                            atomClasses = HANGUL;
+                        } else if ("0-9".equals(body) || "\\d".equals(body)) {
+                            atomClasses = DIGIT;
+                        }
+                        break;
+                    case '\\':
+                        if (i + 1 >= n) {
+                            return NONE;
+                        }
+                        char e = regex.charAt(i + 1);
+                        if (e == 'd') {
+                            atomClasses = DIGIT;
+                        } else if (Character.isLetterOrDigit(e)) {
+                            if ("DwWsSbB".indexOf(e) < 0) {
+                                return NONE; // \Q, \p{..}, \x.., 역참조 등
+                            }
+                        } else {
+                            atomLiteral = e;
+                        }
+                        next = i + 2;
+                        break;
+                    case '.':
+                    case '^':
+                    case '$':
+                        next = i + 1;
+                        break;
+                    case '*':
+                    case '+':
+                    case '?':
+                    case '{':
+                    case ')':
+                    case ']':
+                        return NONE; // 선행 원자 없는 한정자 등 예상 밖 형태
+                    default:
+                        atomLiteral = c;
+                        next = i + 1;
+                }
+                int afterQuantifier = skipQuantifier(regex, next);
+                if (afterQuantifier < 0) {
+                    return NONE;
+                }
+                boolean optional = afterQuantifier > next && isOptional(regex, next);
+                if (!optional) {
+                    req.classes |= atomClasses;
+                    if (atomLiteral >= 0) {
+                        req.literal((char) atomLiteral);
+                    }
+                }
+                i = afterQuantifier;
+            }
+            return req;
+        }
+
+        private static int skipGroup(String regex, int start) {
+            int depth = 0;
+            for (int i = start; i < regex.length(); i++) {
+                char c = regex.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == '[') {
+                    int end = skipClass(regex, i);
+                    if (end < 0) {
+                        return -1;
+                    }
+                    i = end - 1;
+                } else if (c == '(') {
+                    depth++;
+                } else if (c == ')' && --depth == 0) {
+                    return i + 1;
+                }
+            }
+            return -1;
+        }
+
+        private static int skipClass(String regex, int start) {
+            int i = start + 1;
+            if (i < regex.length() && regex.charAt(i) == '^') {
+                i++;
+            }
+            if (i < regex.length() && regex.charAt(i) == ']') {
+                i++;
+            }
+            for (; i < regex.length(); i++) {
+                char c = regex.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == '[') {
+                    return -1; // 중첩/교집합 클래스는 분석하지 않는다
+                } else if (c == ']') {
+                    return i + 1;
+                }
+            }
+            return -1;
+        }
+
+        /** 한정자가 있으면 그 뒤 위치, 없으면 from 그대로. 형식이 깨졌으면 -1. */
+        private static int skipQuantifier(String regex, int from) {
+            if (from >= regex.length()) {
+                return from;
+            }
+            char c = regex.charAt(from);
+            int i;
+            if (c == '*' || c == '+' || c == '?') {
+                i = from + 1;
+            } else if (c == '{') {
+                int close = regex.indexOf('}', from);
+                if (close < 0) {
+                    return -1;
+                }
+                i = close + 1;
+            } else {
+                return from;
+            }
+            if (i < regex.length() && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+                i++;
+            }
+            return i;
+        }
+
+        private static boolean isOptional(String regex, int quantifierAt) {
+            char c = regex.charAt(quantifierAt);
+            if (c == '*' || c == '?') {
+                return true;
+            }
+            if (c == '{') {
+                int end = quantifierAt + 1;
+                while (end < regex.length() && Character.isDigit(regex.charAt(end))) {
+                    end++;
+                }
+                return end == quantifierAt + 1 || Integer.parseInt(regex.substring(quantifierAt + 1, end)) == 0;
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            if ((classes & DIGIT) != 0) {
+                sb.append("\\d");
+            }
+            if ((classes & HANGUL) != 0) {
+                sb.append("[가-힣]");
+            }
+            for (int c = 0; c < 128; c++) {
+                long bit = c < 64 ? low & (1L << c) : high & (1L << (c - 64));
+                if (bit != 0) {
+                    sb.append((char) c);
+                }
+            }
+            return sb.append(nonAscii).toString();
+        }
+    }
+}
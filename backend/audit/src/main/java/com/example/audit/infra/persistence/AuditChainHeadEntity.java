@@ -0,0 +1,41 @@
+package com.example.audit.infra.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import com.example.common.jpa.PrimaryKeyEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 감사 로그 해시 체인의 공유 헤드. 체인마다 한 행이며 마이그레이션이 만든다(실행 중에 INSERT하지 않는다).
+ * 연결 트랜잭션이 이 행을 잠그고 커밋된 미연결 행에 순번/해시를 붙인 뒤 같은 트랜잭션에서 전진시키므로,
+ * 여러 노드가 같은 체인에 이어 붙여도 순번이 겹치지 않는다.
+ */
+@Entity
+@Table(name = "audit_chain_head")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuditChainHeadEntity extends PrimaryKeyEntity {
+
+    @Column(name = "chain_key", nullable = false, unique = true, length = 32)
+    private String chainKey;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSequence;
+
+    @Column(name = "last_hash", length = 128)
+    private String lastHash;
+
+    public AuditChainHeadEntity(String chainKey, long lastSequence, String lastHash) {
+        this.chainKey = chainKey;
+        this.lastSequence = lastSequence;
+        this.lastHash = lastHash;
+    }
+
+    public void advance(long sequence, String hash) {
+        this.lastSequence = sequence;
+        this.lastHash = hash;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.audit.infra.persistence;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface AuditChainHeadRepository extends JpaRepository<AuditChainHeadEntity, UUID> {
+
+    /** 체인 헤드를 {@code SELECT … FOR UPDATE}로 잠가 읽는다. 잠금은 연결 트랜잭션이 끝날 때 풀린다. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<AuditChainHeadEntity> findByChainKey(String chainKey);
+}
@@ -0,0 +1,44 @@
+package com.example.audit.infra.persistence;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import com.example.common.jpa.PrimaryKeyEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 감사 로그 롤업. (일자, 이벤트 유형, 성공 여부)별 건수를 보관해
+ * 월간 리포트/대시보드가 audit_log 원본 대신 일 단위 행만 읽도록 한다.
+ */
+@Entity
+@Table(name = "audit_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_audit_daily_rollup",
+                columnNames = {"rollup_day", "event_type", "success"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditDailyRollupEntity extends PrimaryKeyEntity {
+
+    @Column(name = "rollup_day", nullable = false)
+    private LocalDate rollupDay;
+
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+
+    @Column(name = "success", nullable = false)
+    private boolean success;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
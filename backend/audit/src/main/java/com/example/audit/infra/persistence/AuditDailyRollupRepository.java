@@ -0,0 +1,28 @@
+package com.example.audit.infra.persistence;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AuditDailyRollupRepository extends JpaRepository<AuditDailyRollupEntity, UUID> {
+
+    @Modifying
+    @Query("delete from AuditDailyRollupEntity r where r.rollupDay = :day")
+    int deleteByRollupDay(@Param("day") LocalDate day);
+
+    /** 롤업 행이 하나라도 있는 일자. 이벤트가 없던 날은 빈 마커 행으로 표시된다. */
+    @Query("select distinct r.rollupDay from AuditDailyRollupEntity r where r.rollupDay >= :from and r.rollupDay < :to")
+    List<LocalDate> findRolledUpDays(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select new com.example.audit.infra.persistence.AuditEventCount(r.eventType, r.success, sum(r.eventCount)) "
+            + "from AuditDailyRollupEntity r where r.rollupDay >= :from and r.rollupDay < :to "
+            + "group by r.eventType, r.success")
+    List<AuditEventCount> sumByEventTypeAndSuccess(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,7 @@
+package com.example.audit.infra.persistence;
+
+/**
+ * (eventType, success) 그룹별 건수 프로젝션. 원본 로그 GROUP BY와 일별 롤업 합산이 같은 형태를 반환한다.
+ */
+public record AuditEventCount(String eventType, boolean success, long count) {
+}
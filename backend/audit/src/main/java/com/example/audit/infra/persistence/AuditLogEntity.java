@@ -6,11 +6,13 @@ import lombok.Getter;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Getter
 @Entity
-@Table(name = "audit_log")
+@Table(name = "audit_log",
+        indexes = @Index(name = "idx_audit_log_chain_seq", columnList = "chain_seq"))
 public class AuditLogEntity extends PrimaryKeyEntity {
 
     @Column(nullable = false)
@@ -88,6 +90,10 @@ public class AuditLogEntity extends PrimaryKeyEntity {
     @Column(length = 128)
     private String hashChain;
 
+    /** 해시 체인 상의 단조 증가 순번. 체인 도입 이전 행과 아직 연결되지 않은 행은 null. */
+    @Column(name = "chain_seq")
+    private Long chainSequence;
+
     protected AuditLogEntity() {
     }
 
@@ -147,4 +153,9 @@ public class AuditLogEntity extends PrimaryKeyEntity {
         this.hashChain = hashChain;
         return this;
     }
+
+    public AuditLogEntity withChainSequence(long chainSequence) {
+        this.chainSequence = chainSequence;
+        return this;
+    }
 }
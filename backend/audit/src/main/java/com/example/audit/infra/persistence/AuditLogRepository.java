@@ -3,19 +3,46 @@ package com.example.audit.infra.persistence;
 import java.util.UUID;
 import java.util.Optional;
 import java.time.Instant;
+import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLogEntity, UUID> {
     Optional<AuditLogEntity> findTopByOrderByEventTimeDesc();
 
-    long deleteByEventTimeBefore(Instant threshold);
+    /**
+     * 아직 체인에 연결되지 않은 커밋된 행을 연결 순서(event_time, id)대로 읽는다.
+     * 체인 도입 이전 행은 hash_chain이 채워져 있으므로 대상이 아니다.
+     */
+    @Query("select a from AuditLogEntity a where a.chainSequence is null and a.hashChain is null "
+            + "order by a.eventTime, a.id")
+    List<AuditLogEntity> findUnlinked(Pageable pageable);
+
+    Optional<AuditLogEntity> findTopByChainSequenceLessThanOrderByChainSequenceDesc(long chainSequence);
+
+    Slice<AuditLogEntity> findByChainSequenceGreaterThanOrderByChainSequenceAsc(long chainSequence, Pageable pageable);
+
+    @Query("select min(a.chainSequence) from AuditLogEntity a where a.eventTime >= :from and a.eventTime < :to")
+    Long findMinChainSequenceBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("select max(a.chainSequence) from AuditLogEntity a where a.eventTime >= :from and a.eventTime < :to")
+    Long findMaxChainSequenceBetween(@Param("from") Instant from, @Param("to") Instant to);
 
     long countByEventTimeBetween(Instant startInclusive, Instant endExclusive);
 
     long countByEventTimeBetweenAndSuccess(Instant startInclusive, Instant endExclusive, boolean success);
 
     long countByEventTimeBetweenAndEventTypeIn(Instant startInclusive, Instant endExclusive, Iterable<String> eventTypes);
+
+    /** 구간 [from, to)를 한 번만 스캔해 (eventType, success)별 건수를 집계한다. 일별 롤업 입력. */
+    @Query("select new com.example.audit.infra.persistence.AuditEventCount(a.eventType, a.success, count(a)) "
+            + "from AuditLogEntity a where a.eventTime >= :from and a.eventTime < :to "
+            + "group by a.eventType, a.success")
+    List<AuditEventCount> countByEventTypeAndSuccess(@Param("from") Instant from, @Param("to") Instant to);
 }
@@ -29,6 +29,24 @@ public class AuditMonthlySummaryEntity extends PrimaryKeyEntity {
     @Column(name = "total_count", nullable = false)
     private long totalCount;
 
+    @Column(name = "failure_count")
+    private Long failureCount;
+
+    @Column(name = "unmask_count")
+    private Long unmaskCount;
+
+    @Column(name = "drm_download_count")
+    private Long drmDownloadCount;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
+
+    /** 같은 달을 재집계한 경우 기존 행을 갱신한다. */
+    public void refresh(long totalCount, long failureCount, long unmaskCount, long drmDownloadCount, Instant now) {
+        this.totalCount = totalCount;
+        this.failureCount = failureCount;
+        this.unmaskCount = unmaskCount;
+        this.drmDownloadCount = drmDownloadCount;
+        this.createdAt = now;
+    }
 }
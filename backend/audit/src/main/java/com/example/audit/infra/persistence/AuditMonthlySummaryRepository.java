@@ -1,8 +1,12 @@
 package com.example.audit.infra.persistence;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AuditMonthlySummaryRepository extends JpaRepository<AuditMonthlySummaryEntity, String> {
+
+    Optional<AuditMonthlySummaryEntity> findByYearMonth(String yearMonth);
 }
@@ -0,0 +1,123 @@
+package com.example.audit.infra.pipeline;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.audit.infra.persistence.AuditLogEntity;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * audit_log 행을 JDBC 배치 INSERT로 한 트랜잭션에 묶어 커밋한다(group commit).
+ * JPA 영속성 컨텍스트를 거치지 않으므로 건수가 많아도 1차 캐시/flush 비용이 없다.
+ * 해시 체인 컬럼은 비워 두고, 커밋 뒤 {@code AuditHashChainLinker}가 연결한다.
+ */
+@Component
+public class AuditLogBatchWriter {
+
+    static final String INSERT_SQL = """
+            INSERT INTO audit_log (id, event_id, event_time, event_type, module_name, action,
+                actor_id, actor_type, actor_role, actor_dept, subject_type, subject_key,
+                channel, client_ip, user_agent, device_id, success, result_code, reason_code,
+                reason_text, legal_basis_code, risk_level, before_summary, after_summary,
+                extra_json)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI로 주입되는 빈 참조")
+    public AuditLogBatchWriter(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 주어진 행을 하나의 트랜잭션으로 적재한다. 실패 시 배치 전체가 롤백되고 예외가 전파된다.
+     */
+    public void write(List<AuditLogEntity> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> insert(rows));
+    }
+
+    /**
+     * spill 재적재용. 같은 트랜잭션에서 이미 적재된 id를 걸러 내고 나머지만 INSERT하므로,
+     * 일부 청크만 커밋된 뒤 실패한 파일을 다시 넣어도 PK 충돌이 나지 않는다.
+     *
+     * @return 새로 적재한 건수
+     */
+    public int replay(List<AuditLogEntity> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Integer inserted = transactionTemplate.execute(status -> {
+            Set<UUID> existing = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT id FROM audit_log WHERE id IN (" + String.join(",", Collections.nCopies(rows.size(), "?")) + ")",
+                    UUID.class, rows.stream().map(AuditLogEntity::getId).toArray()));
+            List<AuditLogEntity> missing = rows.stream().filter(row -> !existing.contains(row.getId())).toList();
+            insert(missing);
+            return missing.size();
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    private void insert(List<AuditLogEntity> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                bind(ps, rows.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    private static void bind(PreparedStatement ps, AuditLogEntity row) throws SQLException {
+        ps.setObject(1, row.getId());
+        ps.setObject(2, row.getEventId());
+        ps.setObject(3, row.getEventTime() != null ? row.getEventTime().atOffset(ZoneOffset.UTC) : null);
+        ps.setString(4, row.getEventType());
+        ps.setString(5, row.getModuleName());
+        ps.setString(6, row.getAction());
+        ps.setString(7, row.getActorId());
+        ps.setString(8, row.getActorType());
+        ps.setString(9, row.getActorRole());
+        ps.setString(10, row.getActorDept());
+        ps.setString(11, row.getSubjectType());
+        ps.setString(12, row.getSubjectKey());
+        ps.setString(13, row.getChannel());
+        ps.setString(14, row.getClientIp());
+        ps.setString(15, row.getUserAgent());
+        ps.setString(16, row.getDeviceId());
+        ps.setBoolean(17, row.isSuccess());
+        ps.setString(18, row.getResultCode());
+        ps.setString(19, row.getReasonCode());
+        ps.setString(20, row.getReasonText());
+        ps.setString(21, row.getLegalBasisCode());
+        ps.setString(22, row.getRiskLevel());
+        ps.setString(23, row.getBeforeSummary());
+        ps.setString(24, row.getAfterSummary());
+        ps.setString(25, row.getExtraJson());
+    }
+}
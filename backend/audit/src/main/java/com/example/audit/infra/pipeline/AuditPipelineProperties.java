@@ -0,0 +1,44 @@
+package com.example.audit.infra.pipeline;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "audit.pipeline")
+@Data
+public class AuditPipelineProperties {
+    /**
+     * 비동기 배치 적재 활성화 여부. 비활성 시 모든 모드가 동기 save를 사용한다.
+     */
+    private boolean enabled = false;
+    /**
+     * 메모리 큐 최대 건수. 초과분은 즉시 디스크로 spill 한다.
+     */
+    private int queueCapacity = 10_000;
+    /**
+     * 한 번에 커밋할 최대 건수.
+     */
+    private int batchSize = 500;
+    /**
+     * 배치가 차지 않아도 커밋하는 최대 대기 시간 ms.
+     */
+    private long flushIntervalMs = 200;
+    /**
+     * DB 적재 실패/큐 포화 시 이벤트를 보관할 디렉터리.
+     */
+    private String spillDirectory = System.getProperty("java.io.tmpdir") + "/audit-spill";
+    /**
+     * spill 파일 재적재 최소 간격 ms.
+     */
+    private long replayIntervalMs = 30_000;
+    /**
+     * DB가 정상인데도 이 횟수만큼 재적재에 실패한 spill 파일은 격리 디렉터리로 옮긴다.
+     */
+    private int replayMaxAttempts = 5;
+    /**
+     * 종료 시 잔여 큐를 비우기 위해 기다리는 최대 시간 ms. 초과분은 spill 한다.
+     */
+    private long shutdownTimeoutMs = 10_000;
+}
@@ -0,0 +1,95 @@
+package com.example.audit.infra.pipeline;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import com.example.audit.infra.persistence.AuditLogEntity;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * DB 적재가 불가능할 때 감사 행을 JSON Lines 파일로 보관하는 디스크 버퍼.
+ * 파일은 임시 이름으로 기록한 뒤 원자적으로 이동하므로 재기동 후에도 반쯤 쓰인 파일을 읽지 않는다.
+ * 엔티티는 필드 단위로 직렬화해 원본 그대로 재적재된다. 반복해서 적재되지 않는 파일은 {@code quarantine} 하위 디렉터리로 옮겨
+ * 뒤 파일의 재적재를 막지 않으며, 원인을 해결한 뒤 다시 상위 디렉터리로 옮기면 재적재된다.
+ */
+public class AuditSpillStore {
+
+    static final String SUFFIX = ".jsonl";
+    static final String QUARANTINE = "quarantine";
+    private static final String PREFIX = "audit-";
+
+    private final Path directory;
+    private final ObjectMapper mapper;
+
+    public AuditSpillStore(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.mapper = objectMapper.copy()
+                .registerModule(new JavaTimeModule())
+                .setVisibility(PropertyAccessor.GETTER, Visibility.NONE)
+                .setVisibility(PropertyAccessor.IS_GETTER, Visibility.NONE)
+                .setVisibility(PropertyAccessor.SETTER, Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, Visibility.ANY)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /** 행 목록을 새 spill 파일 하나로 기록한다. */
+    public Path append(List<AuditLogEntity> rows) throws IOException {
+        Files.createDirectories(directory);
+        String name = PREFIX + System.currentTimeMillis() + "-" + UUID.randomUUID();
+        Path tmp = directory.resolve(name + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (AuditLogEntity row : rows) {
+                writer.write(mapper.writeValueAsString(row));
+                writer.newLine();
+            }
+        }
+        return Files.move(tmp, directory.resolve(name + SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** 재적재 대기 중인 spill 파일 목록(오래된 순). */
+    public List<Path> pending() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    public List<AuditLogEntity> read(Path file) throws IOException {
+        List<AuditLogEntity> rows = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                rows.add(mapper.readValue(line, AuditLogEntity.class));
+            }
+        }
+        return rows;
+    }
+
+    public void delete(Path file) throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /** 파일을 격리 디렉터리로 옮긴다. 격리된 파일은 {@link #pending()}에 나오지 않는다. */
+    public Path quarantine(Path file) throws IOException {
+        Path target = directory.resolve(QUARANTINE);
+        Files.createDirectories(target);
+        return Files.move(file, target.resolve(file.getFileName()), StandardCopyOption.ATOMIC_MOVE);
+    }
+}
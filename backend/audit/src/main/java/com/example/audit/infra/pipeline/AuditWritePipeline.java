@@ -0,0 +1,312 @@
+package com.example.audit.infra.pipeline;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.example.audit.infra.persistence.AuditLogEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * STRICT가 아닌 감사 행을 메모리 큐에 받아 단일 드레이너 스레드가 N건 또는 M ms 단위로 묶어 적재한다.
+ * <ul>
+ *     <li>큐가 가득 차면 호출 스레드를 막지 않고 즉시 디스크로 spill 한다(backpressure).</li>
+ *     <li>배치 적재가 실패하면 해당 배치를 spill 하고, {@code replayIntervalMs}마다 spill 파일을 다시 적재한다.
+ *     이미 적재된 행은 건너뛰며, DB가 정상인데도 반복해서 실패하는 파일은 격리한다.</li>
+ *     <li>종료 시 잔여 큐를 비우고, 제한 시간을 넘긴 잔여분은 spill 한다.</li>
+ * </ul>
+ */
+@Component
+public class AuditWritePipeline implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditWritePipeline.class);
+
+    private final AuditLogBatchWriter writer;
+    private final AuditSpillStore spillStore;
+    private final AuditPipelineProperties properties;
+    private final BlockingQueue<AuditLogEntity> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    private final Counter enqueued;
+    private final Counter written;
+    private final Counter spilled;
+    private final Counter replayed;
+    private final Counter dropped;
+    private final Counter quarantined;
+    private final DistributionSummary batchSizes;
+    private final Timer flushLatency;
+
+    private volatile boolean running;
+    private volatile long lastReplayAt;
+    private volatile boolean lastFlushSucceeded;
+    private final Map<String, Integer> replayFailures = new HashMap<>();
+    private Thread drainer;
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI로 주입되는 빈 참조")
+    public AuditWritePipeline(AuditLogBatchWriter writer,
+                              AuditPipelineProperties properties,
+                              ObjectMapper objectMapper,
+                              @Nullable MeterRegistry meterRegistry) {
+        this(writer, new AuditSpillStore(Path.of(properties.getSpillDirectory()), objectMapper), properties, meterRegistry);
+    }
+
+    AuditWritePipeline(AuditLogBatchWriter writer,
+                       AuditSpillStore spillStore,
+                       AuditPipelineProperties properties,
+                       @Nullable MeterRegistry meterRegistry) {
+        this.writer = writer;
+        this.spillStore = spillStore;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, properties.getFlushIntervalMs()));
+        MeterRegistry registry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+        Gauge.builder("audit_pipeline_queue_depth", queue, BlockingQueue::size).register(registry);
+        this.enqueued = registry.counter("audit_pipeline_enqueued_total");
+        this.written = registry.counter("audit_pipeline_written_total");
+        this.spilled = registry.counter("audit_pipeline_spilled_total");
+        this.replayed = registry.counter("audit_pipeline_replayed_total");
+        this.dropped = registry.counter("audit_pipeline_dropped_total");
+        this.quarantined = registry.counter("audit_pipeline_quarantined_files_total");
+        this.batchSizes = DistributionSummary.builder("audit_pipeline_batch_size").register(registry);
+        this.flushLatency = Timer.builder("audit_pipeline_flush_ms")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * 감사 행을 비동기 적재 대상으로 넘긴다.
+     *
+     * @return 큐 또는 spill 파일로 수용되면 true, 파이프라인이 꺼져 있거나 spill까지 실패하면 false
+     */
+    public boolean offer(AuditLogEntity row) {
+        if (!running) {
+            return false;
+        }
+        return enqueue(row);
+    }
+
+    /**
+     * 수용 여부를 확인한 뒤의 적재 단계. 확인과 큐 투입 사이에 {@link #stop()}이 잔여 큐를 이미 비웠을 수 있으므로,
+     * 투입 뒤 다시 확인해 종료됐으면 행을 큐에서 거둬 spill 한다. 거두지 못했으면 드레이너나 stop()이 이미 가져간 것이다.
+     */
+    boolean enqueue(AuditLogEntity row) {
+        if (!queue.offer(row)) {
+            return spill(List.of(row));
+        }
+        enqueued.increment();
+        if (!running && queue.remove(row)) {
+            return spill(List.of(row));
+        }
+        return true;
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /** 드레이너 스레드 본체. 패키지 테스트에서 한 사이클씩 구동할 수 있도록 분리했다. */
+    void drainLoop() {
+        List<AuditLogEntity> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                if (collect(batch)) {
+                    flush(batch);
+                }
+                // 큐가 계속 차 있어도 spill 파일이 쌓이지 않도록 재적재는 수집 결과와 무관하게 자체 주기로 돈다.
+                if (running) {
+                    replayIfDue();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /** 첫 건을 flushInterval 동안 기다린 뒤, 배치가 차거나 마감 시각이 될 때까지 모은다. */
+    boolean collect(List<AuditLogEntity> batch) throws InterruptedException {
+        AuditLogEntity first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            AuditLogEntity next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    void flush(List<AuditLogEntity> batch) {
+        long started = System.nanoTime();
+        try {
+            writer.write(batch);
+            lastFlushSucceeded = true;
+            written.increment(batch.size());
+            batchSizes.record(batch.size());
+        } catch (RuntimeException ex) {
+            lastFlushSucceeded = false;
+            log.warn("Audit batch write failed, spilling {} rows: {}", batch.size(), ex.getMessage());
+            spill(batch);
+        } finally {
+            flushLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * spill 파일을 오래된 순으로 재적재한다. 이미 적재된 행은 건너뛰므로 일부 청크만 커밋된 파일도 안전하게 다시 시도한다.
+     * 앞선 파일이 실패해도 DB가 정상이면(직전 배치 적재 또는 이번 주기 재적재 성공) 다음 파일로 넘어가고,
+     * 그렇게 {@code replayMaxAttempts}번 실패한 파일과 읽을 수 없는 파일은 격리한다. DB 장애로 보이면 다음 주기로 미룬다.
+     */
+    void replayIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastReplayAt < properties.getReplayIntervalMs()) {
+            return;
+        }
+        lastReplayAt = now;
+        List<Path> files;
+        try {
+            files = spillStore.pending();
+        } catch (IOException ex) {
+            log.warn("Audit spill replay deferred: {}", ex.getMessage());
+            return;
+        }
+        boolean progressed = false;
+        for (Path file : files) {
+            try {
+                List<AuditLogEntity> rows = spillStore.read(file);
+                int inserted = 0;
+                for (int from = 0; from < rows.size(); from += batchSize) {
+                    inserted += writer.replay(rows.subList(from, Math.min(rows.size(), from + batchSize)));
+                }
+                spillStore.delete(file);
+                replayFailures.remove(file.getFileName().toString());
+                replayed.increment(inserted);
+                progressed = true;
+            } catch (JsonProcessingException ex) {
+                quarantine(file, ex);
+            } catch (IOException | RuntimeException ex) {
+                if (!progressed && !lastFlushSucceeded) {
+                    log.warn("Audit spill replay deferred: {}", ex.getMessage());
+                    return;
+                }
+                recordReplayFailure(file, ex);
+            }
+            if (running && !queue.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    private void recordReplayFailure(Path file, Exception ex) {
+        int attempts = replayFailures.merge(file.getFileName().toString(), 1, Integer::sum);
+        if (attempts >= Math.max(1, properties.getReplayMaxAttempts())) {
+            quarantine(file, ex);
+            return;
+        }
+        log.warn("Audit spill replay failed ({}/{}) for {}: {}", attempts, properties.getReplayMaxAttempts(),
+                file.getFileName(), ex.getMessage());
+    }
+
+    private void quarantine(Path file, Exception cause) {
+        replayFailures.remove(file.getFileName().toString());
+        try {
+            Path moved = spillStore.quarantine(file);
+            quarantined.increment();
+            log.error("Audit spill file quarantined after replay failures: {} ({})", moved, cause.getMessage());
+        } catch (IOException ex) {
+            log.error("Audit spill file could not be quarantined: {} ({})", file, ex.getMessage());
+        }
+    }
+
+    private boolean spill(List<AuditLogEntity> rows) {
+        try {
+            spillStore.append(rows);
+            spilled.increment(rows.size());
+            return true;
+        } catch (IOException ex) {
+            dropped.increment(rows.size());
+            log.error("Audit spill failed, {} rows not persisted: {}", rows.size(), ex.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !properties.isEnabled()) {
+            return;
+        }
+        open();
+        drainer = new Thread(this::drainLoop, "audit-pipeline-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+        log.info("Audit write pipeline started (batchSize={}, flushIntervalMs={}, queueCapacity={})",
+                batchSize, properties.getFlushIntervalMs(), properties.getQueueCapacity());
+    }
+
+    /** 드레이너 없이 수용만 시작한다. 패키지 테스트에서 collect/flush를 직접 구동할 때 사용한다. */
+    void open() {
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (drainer != null) {
+            try {
+                drainer.join(properties.getShutdownTimeoutMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            drainer = null;
+        }
+        List<AuditLogEntity> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spill(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
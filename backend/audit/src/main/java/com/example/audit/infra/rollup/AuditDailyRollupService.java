@@ -0,0 +1,122 @@
+package com.example.audit.infra.rollup;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.audit.infra.persistence.AuditDailyRollupEntity;
+import com.example.audit.infra.persistence.AuditDailyRollupRepository;
+import com.example.audit.infra.persistence.AuditEventCount;
+import com.example.audit.infra.persistence.AuditLogRepository;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * audit_log를 일 단위 GROUP BY 한 번으로 집계해 audit_daily_rollup에 저장하고, 기간 합계를 롤업에서 읽는다.
+ * <p>
+ * 하루치 재집계는 삭제 후 삽입을 한 트랜잭션에서 수행하므로 몇 번 다시 돌려도 결과가 같다(지연 적재분 보정용).
+ * 이벤트가 없던 날도 {@link #EMPTY_DAY_MARKER} 행을 남겨 다음 조회 때 원본을 다시 스캔하지 않는다.
+ * 오늘(UTC) 이후 일자는 아직 확정되지 않았으므로 롤업하지 않는다.
+ */
+@Component
+@Slf4j
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI 주입 빈 참조")
+public class AuditDailyRollupService {
+
+    static final String EMPTY_DAY_MARKER = "-";
+
+    private final AuditLogRepository logRepository;
+    private final AuditDailyRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    public AuditDailyRollupService(AuditLogRepository logRepository,
+                                   AuditDailyRollupRepository rollupRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   Clock clock) {
+        this.logRepository = logRepository;
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    /** 하루치를 원본에서 다시 집계해 롤업 행을 교체한다. 저장한 그룹 수를 반환한다. */
+    public int rollupDay(LocalDate day) {
+        Instant from = day.atStartOfDay().toInstant(ZoneOffset.UTC);
+        Instant to = day.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        Integer groups = transactionTemplate.execute(status -> {
+            List<AuditEventCount> counts = logRepository.countByEventTypeAndSuccess(from, to);
+            Instant now = Instant.now(clock);
+            List<AuditDailyRollupEntity> rows = new ArrayList<>(Math.max(1, counts.size()));
+            for (AuditEventCount c : counts) {
+                rows.add(row(day, c.eventType(), c.success(), c.count(), now));
+            }
+            if (rows.isEmpty()) {
+                rows.add(row(day, EMPTY_DAY_MARKER, true, 0L, now));
+            }
+            rollupRepository.deleteByRollupDay(day);
+            rollupRepository.saveAll(rows);
+            return counts.size();
+        });
+        log.debug("[audit-rollup] {} rolled up ({} groups)", day, groups);
+        return groups == null ? 0 : groups;
+    }
+
+    /** [start, endExclusive) 중 롤업이 없는 확정 일자만 집계한다. 새로 집계한 일수를 반환한다. */
+    public int ensureRange(LocalDate start, LocalDate endExclusive) {
+        LocalDate limit = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+        LocalDate end = endExclusive.isAfter(limit) ? limit : endExclusive;
+        if (!start.isBefore(end)) {
+            return 0;
+        }
+        Set<LocalDate> done = new HashSet<>(rollupRepository.findRolledUpDays(start, end));
+        int rolled = 0;
+        for (LocalDate day = start; day.isBefore(end); day = day.plusDays(1)) {
+            if (!done.contains(day)) {
+                rollupDay(day);
+                rolled++;
+            }
+        }
+        return rolled;
+    }
+
+    /** 기간 합계. 빠진 일자를 먼저 채운 뒤 롤업 행만 합산하므로 비용은 일수×그룹 수에 비례한다. */
+    public AuditRollupTotals totals(LocalDate start, LocalDate endExclusive) {
+        ensureRange(start, endExclusive);
+        long total = 0;
+        long failures = 0;
+        Map<String, Long> byType = new HashMap<>();
+        for (AuditEventCount c : rollupRepository.sumByEventTypeAndSuccess(start, endExclusive)) {
+            if (c.count() == 0) {
+                continue;
+            }
+            total += c.count();
+            if (!c.success()) {
+                failures += c.count();
+            }
+            byType.merge(c.eventType(), c.count(), Long::sum);
+        }
+        return new AuditRollupTotals(total, failures, byType);
+    }
+
+    private static AuditDailyRollupEntity row(LocalDate day, String eventType, boolean success, long count, Instant now) {
+        return AuditDailyRollupEntity.builder()
+                .rollupDay(day)
+                .eventType(eventType)
+                .success(success)
+                .eventCount(count)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.audit.infra.rollup;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 기간 합계. 이벤트 유형별 건수는 성공/실패를 합친 값이다.
+ */
+public record AuditRollupTotals(long total, long failures, Map<String, Long> byEventType) {
+
+    public AuditRollupTotals {
+        byEventType = Map.copyOf(byEventType);
+    }
+
+    public long count(Collection<String> eventTypes) {
+        long sum = 0;
+        for (String type : eventTypes) {
+            sum += byEventType.getOrDefault(type, 0L);
+        }
+        return sum;
+    }
+}
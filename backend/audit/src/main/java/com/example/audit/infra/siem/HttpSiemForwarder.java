@@ -2,8 +2,8 @@ package com.example.audit.infra.siem;
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.HexFormat;
+import java.util.List;
 
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
@@ -17,7 +17,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 import com.example.audit.AuditEvent;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -32,11 +31,12 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 @ConditionalOnProperty(prefix = "audit.siem", name = "enabled", havingValue = "true")
 @Slf4j
 @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI 주입 빈 참조")
-public class HttpSiemForwarder implements SiemForwarder {
+public class HttpSiemForwarder implements SiemForwarder, SiemTransport {
 
     private final SiemProperties props;
     private final ObjectMapper objectMapper;
     private RestTemplate restTemplate;
+    private SiemPayloadEncoder encoder;
 
     private RestTemplate template() {
         if (restTemplate == null) {
@@ -79,53 +79,64 @@ public class HttpSiemForwarder implements SiemForwarder {
         this.restTemplate = restTemplate;
     }
 
+    @Override
+    public String name() {
+        return "http";
+    }
+
+    /**
+     * 단건 직접 전송(1회 시도). 재시도는 {@link SiemDeliveryService}가 별도 스케줄러에서 수행한다.
+     */
     @Override
     public void forward(AuditEvent event) {
-        int attempts = Math.max(1, props.getRetry());
-        for (int i = 1; i <= attempts; i++) {
-            try {
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.APPLICATION_JSON);
-                if (props.getApiKey() != null && !props.getApiKey().isBlank()) {
-                    headers.set("Authorization", "Bearer " + props.getApiKey());
-                }
-                Map<String, Object> payload = filter(event);
-                String body = objectMapper.writeValueAsString(payload);
-                if (props.getHmacSecret() != null && !props.getHmacSecret().isBlank()) {
-                    headers.set("X-SIEM-SIGNATURE", hmac(body, props.getHmacSecret()));
-                }
-                template().postForEntity(props.getEndpoint(), new HttpEntity<>(body, headers), Void.class);
-                return;
-            } catch (Exception e) {
-                log.warn("SIEM forward failed attempt {}/{}: {}", i, attempts, e.getMessage());
-                try {
-                    Thread.sleep(Math.min(120_000, (long) Math.pow(2, i) * 500L));
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    return;
-                }
-            }
+        try {
+            send(List.of(encoder().encode(event)));
+        } catch (Exception e) {
+            log.warn("SIEM forward failed: {}", e.getMessage());
         }
     }
 
-    private Map<String, Object> filter(AuditEvent event) {
-        Map<String, Object> map = objectMapper.convertValue(event, new TypeReference<Map<String, Object>>() {});
-        if (props.getWhitelist() == null || props.getWhitelist().isEmpty()) {
-            return map;
+    /**
+     * 페이로드를 전송한다. 기본은 이벤트마다 단일 JSON 객체 본문으로 한 요청씩 보내고,
+     * {@code audit.siem.http-batch-enabled=true}이면 묶음 전체를 JSON 배열 한 요청으로 보낸다.
+     * 중간에 실패하면 예외를 던져 묶음 전체를 재시도에 맡기므로 앞서 전달된 이벤트가 중복될 수 있다.
+     */
+    @Override
+    public void send(List<String> payloads) throws Exception {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        if (props.isHttpBatchEnabled()) {
+            post("[" + String.join(",", payloads) + "]");
+            return;
+        }
+        for (String payload : payloads) {
+            post(payload);
         }
-        return map.entrySet().stream()
-                .filter(e -> props.getWhitelist().contains(e.getKey()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private void post(String body) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (props.getApiKey() != null && !props.getApiKey().isBlank()) {
+            headers.set("Authorization", "Bearer " + props.getApiKey());
+        }
+        if (props.getHmacSecret() != null && !props.getHmacSecret().isBlank()) {
+            headers.set("X-SIEM-SIGNATURE", hmac(body, props.getHmacSecret()));
+        }
+        template().postForEntity(props.getEndpoint(), new HttpEntity<>(body, headers), Void.class);
+    }
+
+    private SiemPayloadEncoder encoder() {
+        if (encoder == null) {
+            encoder = new SiemPayloadEncoder(objectMapper, props.getWhitelist());
+        }
+        return encoder;
     }
 
     private String hmac(String body, String secret) throws Exception {
         Mac mac = Mac.getInstance("HmacSHA256");
         mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
-        byte[] digest = mac.doFinal(body.getBytes(StandardCharsets.UTF_8));
-        StringBuilder sb = new StringBuilder();
-        for (byte b : digest) {
-            sb.append(String.format("%02x", b));
-        }
-        return sb.toString();
+        return HexFormat.of().formatHex(mac.doFinal(body.getBytes(StandardCharsets.UTF_8)));
     }
 }
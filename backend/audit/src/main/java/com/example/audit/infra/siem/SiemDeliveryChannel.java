@@ -0,0 +1,250 @@
+package com.example.audit.infra.siem;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 전송 하나에 대한 비동기 전달 채널.
+ * <ul>
+ *     <li>호출 스레드는 큐에 넣기만 하고, 전용 스케줄러 스레드가 batchSize 건 또는 flushInterval 주기로 묶어 전송한다.</li>
+ *     <li>실패한 배치는 같은 스케줄러에 지수 backoff로 재예약되며, 재시도 중에는 순서 보장을 위해 다음 배치를 보내지 않는다.</li>
+ *     <li>재시도를 소진하거나 큐가 가득 찬 경우 디스크 버퍼로 넘기고, 버퍼는 주기적으로 재전송한다.</li>
+ * </ul>
+ * 전송/재시도/재전송은 모두 단일 스케줄러 스레드에서만 실행되므로 배치 상태에 별도 동기화가 없다.
+ */
+class SiemDeliveryChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(SiemDeliveryChannel.class);
+
+    private final SiemTransport transport;
+    private final SiemRetryBuffer buffer;
+    private final SiemProperties properties;
+    private final BlockingQueue<String> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter buffered;
+    private final Counter replayed;
+    private final Counter dropped;
+    private final DistributionSummary batchSizes;
+    private final Timer deliveryLatency;
+
+    private ScheduledThreadPoolExecutor scheduler;
+    private volatile boolean running;
+    private volatile List<String> retrying;
+
+    SiemDeliveryChannel(SiemTransport transport, SiemProperties properties, MeterRegistry registry) {
+        this(transport, new SiemRetryBuffer(Path.of(properties.getBufferDirectory(), transport.name()),
+                properties.getBufferMaxFiles()), properties, registry);
+    }
+
+    SiemDeliveryChannel(SiemTransport transport, SiemRetryBuffer buffer, SiemProperties properties,
+                        MeterRegistry registry) {
+        this.transport = transport;
+        this.buffer = buffer;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.maxAttempts = Math.max(1, properties.getRetry());
+        String name = transport.name();
+        Gauge.builder("audit_siem_queue_depth", queue, BlockingQueue::size)
+                .tag("transport", name)
+                .register(registry);
+        this.delivered = registry.counter("audit_siem_delivered_total", "transport", name);
+        this.failed = registry.counter("audit_siem_failed_total", "transport", name);
+        this.buffered = registry.counter("audit_siem_buffered_total", "transport", name);
+        this.replayed = registry.counter("audit_siem_replayed_total", "transport", name);
+        this.dropped = registry.counter("audit_siem_dropped_total", "transport", name);
+        this.batchSizes = DistributionSummary.builder("audit_siem_batch_size")
+                .tag("transport", name)
+                .register(registry);
+        this.deliveryLatency = Timer.builder("audit_siem_delivery_ms")
+                .tag("transport", name)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    String name() {
+        return transport.name();
+    }
+
+    /** 페이로드를 전달 대상으로 넘긴다. 호출 스레드에서는 네트워크 I/O를 하지 않는다. */
+    void offer(String payload) {
+        if (!running || !queue.offer(payload)) {
+            toBuffer(List.of(payload));
+            return;
+        }
+        if (queue.size() >= batchSize) {
+            requestDrain();
+        }
+    }
+
+    int queueDepth() {
+        return queue.size();
+    }
+
+    synchronized void start() {
+        if (running) {
+            return;
+        }
+        scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "audit-siem-" + transport.name());
+            t.setDaemon(true);
+            return t;
+        });
+        // 종료 시 backoff 대기 중인 재시도를 기다리지 않고 stop()에서 버퍼로 옮긴다.
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        running = true;
+        long flush = Math.max(1, properties.getFlushIntervalMs());
+        scheduler.scheduleWithFixedDelay(this::drain, flush, flush, TimeUnit.MILLISECONDS);
+        long replay = Math.max(1, properties.getBufferReplayIntervalMs());
+        scheduler.scheduleWithFixedDelay(this::replay, replay, replay, TimeUnit.MILLISECONDS);
+    }
+
+    /** 스케줄러를 멈추고 미전송 배치와 큐 잔여분을 디스크 버퍼로 옮긴다. */
+    synchronized void stop(long timeoutMs) {
+        if (!running) {
+            return;
+        }
+        running = false;
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        List<String> remaining = new ArrayList<>();
+        if (retrying != null) {
+            remaining.addAll(retrying);
+            retrying = null;
+        }
+        queue.drainTo(remaining);
+        toBuffer(remaining);
+    }
+
+    /** 재시도 대기 중이 아니면 큐를 배치 단위로 비운다. 스케줄러 스레드에서만 호출된다. */
+    void drain() {
+        drainScheduled.set(false);
+        while (retrying == null && !queue.isEmpty()) {
+            List<String> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+            if (!batch.isEmpty()) {
+                attempt(batch, 1);
+            }
+        }
+    }
+
+    private void attempt(List<String> batch, int attempt) {
+        if (deliver(batch)) {
+            retrying = null;
+            return;
+        }
+        if (attempt >= maxAttempts || !running) {
+            retrying = null;
+            toBuffer(batch);
+            return;
+        }
+        retrying = batch;
+        try {
+            scheduler.schedule(() -> {
+                attempt(batch, attempt + 1);
+                drain();
+            }, backoff(attempt), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            // 종료 중: stop()이 retrying 배치를 버퍼로 옮긴다.
+        }
+    }
+
+    private boolean deliver(List<String> batch) {
+        long started = System.nanoTime();
+        try {
+            transport.send(batch);
+            delivered.increment(batch.size());
+            batchSizes.record(batch.size());
+            return true;
+        } catch (Exception ex) {
+            failed.increment(batch.size());
+            log.warn("SIEM {} delivery failed ({} events): {}", transport.name(), batch.size(), ex.getMessage());
+            return false;
+        } finally {
+            deliveryLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    long backoff(int attempt) {
+        long base = Math.max(1, properties.getRetryBackoffMs());
+        long delay = base << Math.min(attempt - 1, 20);
+        return Math.min(delay, Math.max(base, properties.getMaxRetryBackoffMs()));
+    }
+
+    /** 디스크 버퍼를 오래된 순으로 재전송한다. 실패하면 다음 주기로 미룬다. */
+    void replay() {
+        if (retrying != null) {
+            return;
+        }
+        try {
+            for (Path file : buffer.pending()) {
+                List<String> payloads = buffer.read(file);
+                for (int from = 0; from < payloads.size(); from += batchSize) {
+                    if (!deliver(payloads.subList(from, Math.min(payloads.size(), from + batchSize)))) {
+                        return;
+                    }
+                }
+                buffer.delete(file);
+                replayed.increment(payloads.size());
+            }
+        } catch (IOException ex) {
+            log.warn("SIEM {} buffer replay deferred: {}", transport.name(), ex.getMessage());
+        }
+    }
+
+    private void requestDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                drainScheduled.set(false);
+            }
+        }
+    }
+
+    private void toBuffer(List<String> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        try {
+            if (buffer.store(payloads)) {
+                buffered.increment(payloads.size());
+                return;
+            }
+            log.error("SIEM {} retry buffer full, dropping {} events", transport.name(), payloads.size());
+        } catch (IOException ex) {
+            log.error("SIEM {} retry buffer write failed, dropping {} events: {}",
+                    transport.name(), payloads.size(), ex.getMessage());
+        }
+        dropped.increment(payloads.size());
+    }
+}
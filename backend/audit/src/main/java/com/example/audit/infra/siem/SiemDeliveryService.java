@@ -0,0 +1,97 @@
+package com.example.audit.infra.siem;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Primary;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.example.audit.AuditEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 감사 이벤트를 한 번만 직렬화해 활성화된 모든 {@link SiemTransport}의 전달 채널로 분배하는 SIEM 진입점.
+ * 호출 스레드는 큐잉만 하며, 배치 전송·재시도·디스크 버퍼링은 전송별 {@link SiemDeliveryChannel}이 맡는다.
+ * 활성화된 전송이 없으면 스레드를 만들지 않는 no-op 이다.
+ */
+@Primary
+@Component
+public class SiemDeliveryService implements SiemForwarder, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(SiemDeliveryService.class);
+    private static final long STOP_TIMEOUT_MS = 5_000;
+
+    private final SiemPayloadEncoder encoder;
+    private final List<SiemDeliveryChannel> channels;
+    private volatile boolean running;
+
+    @Autowired
+    public SiemDeliveryService(SiemProperties properties,
+                               ObjectMapper objectMapper,
+                               ObjectProvider<SiemTransport> transports,
+                               @Nullable MeterRegistry meterRegistry) {
+        this(properties, objectMapper, transports.orderedStream().toList(), meterRegistry);
+    }
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI로 주입되는 빈 참조")
+    SiemDeliveryService(SiemProperties properties,
+                        ObjectMapper objectMapper,
+                        List<SiemTransport> transports,
+                        @Nullable MeterRegistry meterRegistry) {
+        MeterRegistry registry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+        this.encoder = new SiemPayloadEncoder(objectMapper, properties.getWhitelist());
+        this.channels = transports.stream()
+                .map(transport -> new SiemDeliveryChannel(transport, properties, registry))
+                .toList();
+    }
+
+    @Override
+    public void forward(AuditEvent event) {
+        if (channels.isEmpty()) {
+            return;
+        }
+        String payload;
+        try {
+            payload = encoder.encode(event);
+        } catch (Exception e) {
+            log.warn("SIEM payload encoding failed: {}", e.getMessage());
+            return;
+        }
+        for (SiemDeliveryChannel channel : channels) {
+            channel.offer(payload);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || channels.isEmpty()) {
+            return;
+        }
+        channels.forEach(SiemDeliveryChannel::start);
+        running = true;
+        log.info("SIEM delivery started for transports {}",
+                channels.stream().map(SiemDeliveryChannel::name).toList());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        channels.forEach(channel -> channel.stop(STOP_TIMEOUT_MS));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.audit.infra.siem;
+
+import java.util.List;
+
+import com.example.audit.AuditEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 감사 이벤트를 SIEM 페이로드(JSON)로 한 번만 직렬화한다. 화이트리스트가 있으면 최상위 필드만 남긴다.
+ * 재시도 시에는 직렬화된 문자열을 그대로 재사용한다.
+ */
+final class SiemPayloadEncoder {
+
+    private final ObjectMapper mapper;
+    private final List<String> whitelist;
+
+    SiemPayloadEncoder(ObjectMapper mapper, List<String> whitelist) {
+        this.mapper = mapper;
+        this.whitelist = whitelist == null ? List.of() : List.copyOf(whitelist);
+    }
+
+    String encode(AuditEvent event) throws JsonProcessingException {
+        if (whitelist.isEmpty()) {
+            return mapper.writeValueAsString(event);
+        }
+        ObjectNode node = mapper.valueToTree(event);
+        node.retain(whitelist);
+        return mapper.writeValueAsString(node);
+    }
+}
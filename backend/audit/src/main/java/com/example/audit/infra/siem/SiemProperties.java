@@ -28,7 +28,7 @@ public class SiemProperties {
      */
     private String apiKey;
     /**
-     * 연결/전송 타임아웃 ms.
+     * 연결/전송 타임아웃 ms. HTTP와 syslog(연결 및 소켓 읽기) 모두에 적용된다.
      */
     private int timeoutMs = 3000;
 
@@ -43,10 +43,56 @@ public class SiemProperties {
     private List<String> whitelist = new ArrayList<>();
 
     /**
-     * 실패 재시도 횟수.
+     * 배치당 최대 전송 시도 횟수. 모두 실패하면 배치를 디스크 버퍼로 보낸다.
      */
     private int retry = 1;
 
+    /**
+     * 한 번에 전송할 최대 이벤트 수.
+     */
+    private int batchSize = 50;
+
+    /**
+     * 전송별 인메모리 큐 용량. 가득 차면 디스크 버퍼로 넘긴다.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * HTTP 전송에서 배치를 JSON 배열 한 요청으로 보낼지 여부. 기본(false)은 수신 측 호환을 위해
+     * 이벤트마다 단일 JSON 객체 본문으로 보낸다.
+     */
+    private boolean httpBatchEnabled = false;
+
+    /**
+     * 배치가 차지 않아도 전송하는 주기 ms.
+     */
+    private long flushIntervalMs = 1_000;
+
+    /**
+     * 재시도 초기 대기 ms(지수 증가).
+     */
+    private long retryBackoffMs = 500;
+
+    /**
+     * 재시도 최대 대기 ms.
+     */
+    private long maxRetryBackoffMs = 120_000;
+
+    /**
+     * 재시도 소진 배치를 보관할 디렉터리.
+     */
+    private String bufferDirectory = System.getProperty("java.io.tmpdir") + "/siem-buffer";
+
+    /**
+     * 전송별 버퍼 파일 최대 개수. 초과 시 새 배치는 폐기하고 카운트한다.
+     */
+    private int bufferMaxFiles = 1_000;
+
+    /**
+     * 버퍼 재전송 주기 ms.
+     */
+    private long bufferReplayIntervalMs = 60_000;
+
     /**
      * 모드: otlp | syslog
      */
@@ -66,6 +112,11 @@ public class SiemProperties {
     private String syslogHost;
     private int syslogPort = 6514; // TLS 기본 포트
 
+    /**
+     * 유지할 syslog TLS 연결 수.
+     */
+    private int syslogPoolSize = 2;
+
     public List<String> getWhitelist() {
         return Collections.unmodifiableList(whitelist);
     }
@@ -0,0 +1,79 @@
+package com.example.audit.infra.siem;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 재시도를 소진한 SIEM 배치를 전송별 디렉터리에 한 줄 한 페이로드로 보관하는 유한 디스크 버퍼.
+ * 파일 수가 상한에 도달하면 새 배치를 받지 않고 false를 반환해 호출자가 폐기를 계측하게 한다.
+ */
+class SiemRetryBuffer {
+
+    static final String SUFFIX = ".jsonl";
+    private static final String PREFIX = "siem-";
+
+    private final Path directory;
+    private final int maxFiles;
+
+    SiemRetryBuffer(Path directory, int maxFiles) {
+        this.directory = directory;
+        this.maxFiles = Math.max(1, maxFiles);
+    }
+
+    /** 배치를 새 버퍼 파일로 기록한다. 상한 초과 시 기록하지 않고 false. */
+    boolean store(List<String> payloads) throws IOException {
+        if (payloads.isEmpty()) {
+            return true;
+        }
+        if (pending().size() >= maxFiles) {
+            return false;
+        }
+        Files.createDirectories(directory);
+        String name = PREFIX + System.currentTimeMillis() + "-" + UUID.randomUUID();
+        Path tmp = directory.resolve(name + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (String payload : payloads) {
+                writer.write(payload);
+                writer.newLine();
+            }
+        }
+        Files.move(tmp, directory.resolve(name + SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    /** 재전송 대기 중인 파일 목록(오래된 순). */
+    List<Path> pending() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    List<String> read(Path file) throws IOException {
+        List<String> payloads = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                payloads.add(line);
+            }
+        }
+        return payloads;
+    }
+
+    void delete(Path file) throws IOException {
+        Files.deleteIfExists(file);
+    }
+}
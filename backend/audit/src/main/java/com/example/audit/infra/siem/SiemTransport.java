@@ -0,0 +1,16 @@
+package com.example.audit.infra.siem;
+
+import java.util.List;
+
+/**
+ * SIEM으로 이미 직렬화된 페이로드 묶음을 한 번 전송하는 전송 계층.
+ * 재시도/버퍼링은 {@link SiemDeliveryService}가 담당하므로 구현체는 실패 시 예외만 던진다.
+ */
+public interface SiemTransport {
+
+    /** 채널/디스크 버퍼를 구분하는 이름. */
+    String name();
+
+    /** 한 번의 전송 시도. 실패하면 예외를 던진다. */
+    void send(List<String> payloads) throws Exception;
+}
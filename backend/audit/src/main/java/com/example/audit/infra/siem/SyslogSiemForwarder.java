@@ -8,39 +8,141 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import javax.net.ssl.SSLSocketFactory;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+/**
+ * syslog over TLS 전송. 연결은 풀에서 재사용하고(이벤트마다 핸드셰이크하지 않음),
+ * 메시지는 RFC 5425 octet-counting 프레이밍({@code MSG-LEN SP SYSLOG-MSG})으로 기록한다.
+ * 연결과 소켓 읽기에는 {@code timeout-ms}를 적용하고, 쓰기 실패한 연결은 폐기하고 예외를 던져 재시도에 맡긴다.
+ */
 @Component
 @RequiredArgsConstructor
 @ConditionalOnProperty(prefix = "audit.siem", name = "mode", havingValue = "syslog")
 @Slf4j
 @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI 주입 빈 참조")
-public class SyslogSiemForwarder implements SiemForwarder {
+public class SyslogSiemForwarder implements SiemForwarder, SiemTransport, AutoCloseable {
+
+    private static final String APP_NAME = "audit";
 
     private final SiemProperties props;
     private final ObjectMapper mapper;
+    private final BlockingQueue<Socket> pool = new LinkedBlockingQueue<>();
+    /** syslog 헤더의 HOSTNAME. 전송마다 이름 조회를 하지 않도록 생성 시 한 번만 구한다. */
+    private final String hostname = resolveHostname();
     private SSLSocketFactory socketFactory = (SSLSocketFactory) SSLSocketFactory.getDefault();
+    private SiemPayloadEncoder encoder;
+
+    @Override
+    public String name() {
+        return "syslog";
+    }
 
     @Override
     public void forward(AuditEvent event) {
         if (props.getSyslogHost() == null) return;
         try {
-            try (Socket socket = socketFactory.createSocket(props.getSyslogHost(), props.getSyslogPort());
-                 OutputStream out = socket.getOutputStream()) {
-                String body = mapper.writeValueAsString(event);
-                String line = "<134>1 " + java.time.Instant.now() + " audit " + " - - - " + body + "\n";
-                out.write(line.getBytes(StandardCharsets.UTF_8));
-                out.flush();
-            }
+            send(List.of(encoder().encode(event)));
         } catch (Exception e) {
             log.warn("SIEM syslog forward failed: {}", e.getMessage());
         }
     }
 
+    @Override
+    public void send(List<String> payloads) throws IOException {
+        if (props.getSyslogHost() == null || payloads.isEmpty()) {
+            return;
+        }
+        Socket socket = borrow();
+        try {
+            OutputStream out = socket.getOutputStream();
+            String header = "<134>1 " + java.time.Instant.now() + " " + hostname + " " + APP_NAME + " - - - ";
+            for (String payload : payloads) {
+                byte[] message = (header + payload).getBytes(StandardCharsets.UTF_8);
+                out.write((message.length + " ").getBytes(StandardCharsets.US_ASCII));
+                out.write(message);
+            }
+            out.flush();
+        } catch (IOException e) {
+            discard(socket);
+            throw e;
+        }
+        release(socket);
+    }
+
+    /** 풀의 연결을 모두 닫는다. 컨텍스트 종료 시 호출된다. */
+    @Override
+    public void close() {
+        Socket socket;
+        while ((socket = pool.poll()) != null) {
+            discard(socket);
+        }
+    }
+
+    private Socket borrow() throws IOException {
+        Socket socket = pool.poll();
+        while (socket != null && (socket.isClosed() || socket.isOutputShutdown())) {
+            discard(socket);
+            socket = pool.poll();
+        }
+        if (socket != null) {
+            return socket;
+        }
+        // 미연결 소켓을 만든 뒤 타임아웃을 걸어 연결해야 응답 없는 수집기에 전송 스레드가 묶이지 않는다.
+        int timeout = Math.max(0, props.getTimeoutMs());
+        Socket created = socketFactory.createSocket();
+        try {
+            created.setSoTimeout(timeout);
+            created.setKeepAlive(true);
+            created.connect(new InetSocketAddress(props.getSyslogHost(), props.getSyslogPort()), timeout);
+        } catch (IOException e) {
+            discard(created);
+            throw e;
+        }
+        return created;
+    }
+
+    private void release(Socket socket) {
+        if (pool.size() >= Math.max(1, props.getSyslogPoolSize())) {
+            discard(socket);
+            return;
+        }
+        pool.offer(socket);
+    }
+
+    private void discard(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            log.debug("SIEM syslog socket close failed: {}", e.getMessage());
+        }
+    }
+
+    private SiemPayloadEncoder encoder() {
+        if (encoder == null) {
+            encoder = new SiemPayloadEncoder(mapper, props.getWhitelist());
+        }
+        return encoder;
+    }
+
+    private static String resolveHostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "-";
+        }
+    }
+
     // test용 주입
     void setSocketFactory(SSLSocketFactory socketFactory) {
         this.socketFactory = socketFactory;
@@ -40,7 +40,8 @@ class AuditRecordServiceHashTest {
     ObjectMapper mapper = new ObjectMapper();
 
     @Test
-    void hmacEnabledComputesHash() {
+    @DisplayName("HMAC 설정과 무관하게 적재 시점에는 체인을 붙이지 않고 저장만 한다(연결은 비동기)")
+    void hmacEnabledSavesUnlinkedRow() {
         given(resolver.resolve(any(), any())).willReturn(Optional.of(AuditPolicySnapshot.builder().enabled(true).build()));
         given(repository.findTopByOrderByEventTimeDesc()).willReturn(Optional.empty());
 
@@ -54,7 +55,8 @@ class AuditRecordServiceHashTest {
 
         ArgumentCaptor<AuditLogEntity> captor = ArgumentCaptor.forClass(AuditLogEntity.class);
         verify(repository).save(captor.capture());
-        assertThat(captor.getValue().getHashChain()).isNotBlank();
+        assertThat(captor.getValue().getHashChain()).isNull();
+        assertThat(captor.getValue().getChainSequence()).isNull();
     }
 
     @Test
@@ -0,0 +1,67 @@
+package com.example.audit.infra;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.example.audit.AuditEvent;
+import com.example.audit.AuditMode;
+import com.example.audit.AuditPolicySnapshot;
+import com.example.audit.infra.chain.AuditHashChainSequencer;
+import com.example.audit.infra.masking.MaskingProperties;
+import com.example.audit.infra.persistence.AuditLogRepository;
+import com.example.audit.infra.pipeline.AuditWritePipeline;
+import com.example.audit.infra.policy.AuditPolicyResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("AuditRecordService 비동기 파이프라인 분기")
+class AuditRecordServicePipelineTest {
+
+    AuditLogRepository repository = Mockito.mock(AuditLogRepository.class);
+    AuditPolicyResolver resolver = Mockito.mock(AuditPolicyResolver.class);
+    AuditWritePipeline pipeline = Mockito.mock(AuditWritePipeline.class);
+
+    AuditRecordService service() {
+        given(resolver.resolve(any(), any())).willReturn(Optional.of(AuditPolicySnapshot.builder().enabled(true).build()));
+        return new AuditRecordService(resolver, new ObjectMapper(), null, "topic", "", null,
+                new MaskingProperties(), null, null,
+                new AuditHashChainSequencer(repository, false, "", "kid"), pipeline);
+    }
+
+    @Test
+    @DisplayName("ASYNC_FALLBACK은 파이프라인이 수용하면 동기 save를 하지 않는다")
+    void asyncFallbackGoesThroughPipeline() {
+        given(pipeline.offer(any())).willReturn(true);
+
+        service().record(AuditEvent.builder().eventType("HTTP").action("GET /").build(), AuditMode.ASYNC_FALLBACK);
+
+        verify(pipeline).offer(any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("파이프라인이 거절하면 동기 save로 폴백한다")
+    void fallsBackToSaveWhenRejected() {
+        given(pipeline.offer(any())).willReturn(false);
+
+        service().record(AuditEvent.builder().eventType("HTTP").action("GET /").build(), AuditMode.ASYNC_FALLBACK);
+
+        verify(repository).save(any());
+    }
+
+    @Test
+    @DisplayName("STRICT는 파이프라인을 거치지 않고 동기 저장한다")
+    void strictStaysSynchronous() {
+        service().record(AuditEvent.builder().eventType("HTTP").action("GET /").build(), AuditMode.STRICT);
+
+        verify(pipeline, never()).offer(any());
+        verify(repository).save(any());
+    }
+}
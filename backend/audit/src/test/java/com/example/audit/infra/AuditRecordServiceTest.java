@@ -223,7 +223,7 @@ class AuditRecordServiceTest {
     }
 
     @Test
-    void record_setsHashChainUsingPreviousHash() {
+    void record_savesRowWithoutReadingPreviousHash() {
         given(policyResolver.resolve(any(), any()))
                 .willReturn(Optional.of(AuditPolicySnapshot.builder().enabled(true).build()));
         AuditLogEntity prev = new AuditLogEntity(java.util.UUID.randomUUID(), java.time.Instant.now(), "TYPE", "mod", "act",
@@ -235,7 +235,8 @@ class AuditRecordServiceTest {
 
         service.record(sampleEvent(), AuditMode.ASYNC_FALLBACK);
 
-        verify(repository).save(Mockito.argThat(entity -> entity.getHashChain() != null && !entity.getHashChain().isEmpty()));
+        verify(repository).save(Mockito.argThat(entity -> entity.getHashChain() == null && entity.getChainSequence() == null));
+        verify(repository, Mockito.never()).findTopByOrderByEventTimeDesc();
     }
 
     @Test
@@ -9,21 +9,21 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.example.audit.config.AuditRetentionProperties;
-import com.example.audit.infra.persistence.AuditLogRepository;
+import com.example.audit.infra.maintenance.AuditRetentionPurger;
 
 @DisplayName("RetentionCleanupJob 분기 커버")
 class RetentionCleanupJobTest {
 
     @Test
     void purgeLogsCallsRepository() {
-        AuditLogRepository repo = Mockito.mock(AuditLogRepository.class);
-        when(repo.deleteByEventTimeBefore(any())).thenReturn(0L); // deleted == 0 브랜치
+        AuditRetentionPurger purger = Mockito.mock(AuditRetentionPurger.class);
+        when(purger.purgeBefore(any())).thenReturn(0L); // deleted == 0 브랜치
         AuditRetentionProperties props = new AuditRetentionProperties(30);
-        RetentionCleanupJob job = new RetentionCleanupJob(repo, props, () -> null);
+        RetentionCleanupJob job = new RetentionCleanupJob(purger, props, () -> null);
         job.purgeExpired();
 
-        when(repo.deleteByEventTimeBefore(any())).thenReturn(5L); // deleted > 0 브랜치
+        when(purger.purgeBefore(any())).thenReturn(5L); // deleted > 0 브랜치
         job.purgeExpired();
-        verify(repo, Mockito.times(2)).deleteByEventTimeBefore(any());
+        verify(purger, Mockito.times(2)).purgeBefore(any());
     }
 }
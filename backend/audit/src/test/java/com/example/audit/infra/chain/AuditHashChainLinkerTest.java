@@ -0,0 +1,42 @@
+package com.example.audit.infra.chain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("AuditHashChainLinker 주기 연결")
+class AuditHashChainLinkerTest {
+
+    AuditHashChainSequencer sequencer = Mockito.mock(AuditHashChainSequencer.class);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("가득 찬 배치를 처리하면 미연결 행이 남지 않을 때까지 이어서 연결한다")
+    void keepsLinkingWhileBatchesAreFull() {
+        given(sequencer.linkPending(2)).willReturn(2, 2, 1);
+        AuditHashChainLinker linker = new AuditHashChainLinker(sequencer, 2, registry);
+
+        assertThat(linker.linkAll()).isEqualTo(5);
+
+        verify(sequencer, times(3)).linkPending(2);
+        assertThat(registry.get("audit_chain_linked_total").counter().count()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("연결이 실패하면 멈추고 실패를 센다")
+    void countsFailures() {
+        given(sequencer.linkPending(2)).willReturn(2).willThrow(new IllegalStateException("hash failed"));
+        AuditHashChainLinker linker = new AuditHashChainLinker(sequencer, 2, registry);
+
+        assertThat(linker.linkAll()).isEqualTo(2);
+
+        assertThat(registry.get("audit_chain_link_failures_total").counter().count()).isEqualTo(1.0);
+    }
+}
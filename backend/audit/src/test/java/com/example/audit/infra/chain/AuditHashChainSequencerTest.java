@@ -0,0 +1,116 @@
+package com.example.audit.infra.chain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.example.audit.infra.persistence.AuditChainHeadEntity;
+import com.example.audit.infra.persistence.AuditChainHeadRepository;
+import com.example.audit.infra.persistence.AuditLogEntity;
+import com.example.audit.infra.persistence.AuditLogRepository;
+
+@DisplayName("AuditHashChainSequencer 비동기 연결/순번 발급")
+class AuditHashChainSequencerTest {
+
+    AuditLogRepository repository = Mockito.mock(AuditLogRepository.class);
+    AuditChainHeadRepository headRepository = Mockito.mock(AuditChainHeadRepository.class);
+
+    @Test
+    @DisplayName("잠근 헤드 행에 이어 미연결 행에 순번을 붙이고 헤드를 마지막 행으로 전진시킨다")
+    void linksPendingRowsFromLockedHead() {
+        AuditChainHeadEntity head = new AuditChainHeadEntity(AuditHashChainSequencer.CHAIN_KEY, 41L, "prevhash");
+        given(headRepository.findByChainKey(AuditHashChainSequencer.CHAIN_KEY)).willReturn(Optional.of(head));
+        AuditLogEntity first = entity(null);
+        AuditLogEntity second = entity(null);
+        given(repository.findUnlinked(any())).willReturn(List.of(first, second));
+        AuditHashChainSequencer sequencer = new AuditHashChainSequencer(repository, headRepository, false, "", "kid");
+
+        assertThat(sequencer.linkPending(10)).isEqualTo(2);
+
+        assertThat(first.getChainSequence()).isEqualTo(42L);
+        assertThat(first.getHashChain()).isEqualTo(sequencer.link("prevhash", 42L, first));
+        assertThat(second.getChainSequence()).isEqualTo(43L);
+        assertThat(second.getHashChain()).isEqualTo(sequencer.link(first.getHashChain(), 43L, second));
+        assertThat(head.getLastSequence()).isEqualTo(43L);
+        assertThat(head.getLastHash()).isEqualTo(second.getHashChain());
+        verify(repository).saveAll(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("미연결 행이 없으면 헤드를 그대로 둔다")
+    void leavesHeadWhenNothingPending() {
+        AuditChainHeadEntity head = new AuditChainHeadEntity(AuditHashChainSequencer.CHAIN_KEY, 5L, "h");
+        given(headRepository.findByChainKey(AuditHashChainSequencer.CHAIN_KEY)).willReturn(Optional.of(head));
+        given(repository.findUnlinked(any())).willReturn(List.of());
+        AuditHashChainSequencer sequencer = new AuditHashChainSequencer(repository, headRepository, false, "", "kid");
+
+        assertThat(sequencer.linkPending(10)).isZero();
+
+        assertThat(head.getLastSequence()).isEqualTo(5L);
+        assertThat(head.getLastHash()).isEqualTo("h");
+    }
+
+    @Test
+    @DisplayName("헤드 행이 없으면 실행 중에 만들지 않고 실패한다")
+    void failsWhenHeadRowIsMissing() {
+        given(headRepository.findByChainKey(AuditHashChainSequencer.CHAIN_KEY)).willReturn(Optional.empty());
+        AuditHashChainSequencer sequencer = new AuditHashChainSequencer(repository, headRepository, false, "", "kid");
+
+        assertThatThrownBy(() -> sequencer.linkPending(10))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("migration");
+        verify(headRepository, never()).save(any());
+        verify(repository, never()).findUnlinked(any());
+    }
+
+    @Test
+    @DisplayName("헤드 저장소 없이 구성하면 연결할 수 없다")
+    void failsWithoutHeadRepository() {
+        AuditHashChainSequencer sequencer = new AuditHashChainSequencer(repository, false, "", "kid");
+
+        assertThatThrownBy(() -> sequencer.linkPending(10)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("append는 체인 없이 바로 저장하고 헤드를 잠그지 않는다")
+    void appendSavesWithoutLockingHead() {
+        AuditHashChainSequencer sequencer = new AuditHashChainSequencer(repository, headRepository, false, "", "kid");
+
+        sequencer.append(entity(null));
+
+        verify(repository).save(Mockito.argThat(saved -> saved.getChainSequence() == null && saved.getHashChain() == null));
+        verifyNoInteractions(headRepository);
+    }
+
+    @Test
+    @DisplayName("HMAC 사용 시 SHA-256과 다른 해시를 만들고 동일 입력에는 결정적이다")
+    void hmacIsDeterministicAndDiffersFromDigest() {
+        AuditHashChainSequencer plain = new AuditHashChainSequencer(repository, false, "", "kid");
+        AuditHashChainSequencer keyed = new AuditHashChainSequencer(repository, true, "secret", "kid");
+        AuditLogEntity row = entity(null);
+
+        assertThat(keyed.link("p", 1, row)).isEqualTo(keyed.link("p", 1, row));
+        assertThat(keyed.link("p", 1, row)).isNotEqualTo(plain.link("p", 1, row));
+        assertThat(plain.link("p", 1, row)).isNotEqualTo(plain.link("p", 2, row));
+    }
+
+    static AuditLogEntity entity(String hash) {
+        return new AuditLogEntity(UUID.randomUUID(), Instant.parse("2025-01-01T00:00:00Z"), "TYPE", "mod", "act",
+                "actor", "HUMAN", "role", "dept", "SUBJECT", "key",
+                "WEB", "127.0.0.1", "JUnit", "dev",
+                true, "OK", null, null, null, "LOW", null, null, null, hash);
+    }
+}
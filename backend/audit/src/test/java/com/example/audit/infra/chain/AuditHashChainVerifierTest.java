@@ -0,0 +1,116 @@
+package com.example.audit.infra.chain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import com.example.audit.infra.chain.AuditChainVerificationResult.Failure;
+import com.example.audit.infra.persistence.AuditLogEntity;
+import com.example.audit.infra.persistence.AuditLogRepository;
+
+@DisplayName("AuditHashChainVerifier 구간 재검증")
+class AuditHashChainVerifierTest {
+
+    static final Instant FROM = Instant.parse("2025-01-01T00:00:00Z");
+    static final Instant TO = Instant.parse("2025-02-01T00:00:00Z");
+
+    AuditLogRepository repository = Mockito.mock(AuditLogRepository.class);
+    AuditHashChainSequencer sequencer = new AuditHashChainSequencer(repository, false, "", "kid");
+
+    @Test
+    @DisplayName("구간에 체인 행이 없으면 온전한 것으로 본다")
+    void emptyRangeIsIntact() {
+        AuditChainVerificationResult result = verifier(2).verify(FROM, TO);
+
+        assertThat(result.intact()).isTrue();
+        assertThat(result.checkedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("시퀀서가 만든 체인은 페이지를 넘어가도 온전하다")
+    void walksPagesOfIntactChain() {
+        List<AuditLogEntity> rows = chain(5);
+        stubRange(rows);
+
+        AuditChainVerificationResult result = verifier(2).verify(FROM, TO);
+
+        assertThat(result.intact()).isTrue();
+        assertThat(result.checkedCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("저장된 해시가 변조되면 첫 번째 깨진 고리를 보고한다")
+    void reportsHashMismatch() {
+        List<AuditLogEntity> rows = chain(5);
+        rows.get(2).withHashChain("tampered");
+        stubRange(rows);
+
+        AuditChainVerificationResult result = verifier(2).verify(FROM, TO);
+
+        assertThat(result.intact()).isFalse();
+        assertThat(result.brokenSequence()).isEqualTo(3L);
+        assertThat(result.brokenEventId()).isEqualTo(rows.get(2).getEventId());
+        assertThat(result.failure()).isEqualTo(Failure.HASH_MISMATCH);
+    }
+
+    @Test
+    @DisplayName("순번이 비면 누락 고리로 보고한다")
+    void reportsMissingLink() {
+        List<AuditLogEntity> rows = chain(5);
+        rows.remove(3);
+        stubRange(rows);
+
+        AuditChainVerificationResult result = verifier(10).verify(FROM, TO);
+
+        assertThat(result.intact()).isFalse();
+        assertThat(result.brokenSequence()).isEqualTo(4L);
+        assertThat(result.failure()).isEqualTo(Failure.MISSING_LINK);
+    }
+
+    private AuditHashChainVerifier verifier(int pageSize) {
+        return new AuditHashChainVerifier(repository, sequencer, pageSize);
+    }
+
+    private List<AuditLogEntity> chain(int size) {
+        List<AuditLogEntity> rows = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            rows.add(AuditHashChainSequencerTest.entity(null));
+        }
+        String previous = "";
+        long sequence = 0;
+        for (AuditLogEntity row : rows) {
+            sequence++;
+            previous = sequencer.link(previous, sequence, row);
+            row.withHashChain(previous).withChainSequence(sequence);
+        }
+        return rows;
+    }
+
+    private void stubRange(List<AuditLogEntity> rows) {
+        given(repository.findMinChainSequenceBetween(FROM, TO)).willReturn(rows.get(0).getChainSequence());
+        given(repository.findMaxChainSequenceBetween(FROM, TO)).willReturn(rows.get(rows.size() - 1).getChainSequence());
+        given(repository.findTopByChainSequenceLessThanOrderByChainSequenceDesc(anyLong())).willReturn(Optional.empty());
+        given(repository.findByChainSequenceGreaterThanOrderByChainSequenceAsc(anyLong(), any(Pageable.class)))
+                .willAnswer(inv -> {
+                    long after = inv.getArgument(0);
+                    Pageable pageable = inv.getArgument(1);
+                    List<AuditLogEntity> page = rows.stream()
+                            .filter(r -> r.getChainSequence() > after)
+                            .limit(pageable.getPageSize())
+                            .toList();
+                    return new SliceImpl<>(page, pageable, page.size() == pageable.getPageSize());
+                });
+    }
+}
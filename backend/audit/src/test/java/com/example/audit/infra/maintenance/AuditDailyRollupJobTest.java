@@ -0,0 +1,72 @@
+package com.example.audit.infra.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.audit.infra.rollup.AuditDailyRollupService;
+import com.example.common.schedule.TriggerType;
+
+class AuditDailyRollupJobTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-02-03T00:15:00Z"), ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("lookback 일수만큼 어제까지 재집계하고 실패한 날이 있어도 계속한다")
+    void rollupRecomputesLookbackDays() {
+        AuditDailyRollupService service = mock(AuditDailyRollupService.class);
+        doThrow(new IllegalStateException("db")).when(service).rollupDay(LocalDate.of(2025, 1, 31));
+        AuditDailyRollupJob job = new AuditDailyRollupJob(service, clock, true, "0 15 0 * * *", 3);
+
+        job.runOnce(clock.instant());
+
+        verify(service).rollupDay(LocalDate.of(2025, 1, 31));
+        verify(service).rollupDay(LocalDate.of(2025, 2, 1));
+        verify(service).rollupDay(LocalDate.of(2025, 2, 2));
+        verify(service, never()).rollupDay(LocalDate.of(2025, 2, 3));
+    }
+
+    @Test
+    @DisplayName("비활성화되면 집계하지 않는다")
+    void disabledSkips() {
+        AuditDailyRollupService service = mock(AuditDailyRollupService.class);
+        AuditDailyRollupJob job = new AuditDailyRollupJob(service, clock, false, "0 15 0 * * *", 0);
+
+        job.rollup();
+
+        verify(service, never()).rollupDay(any());
+        assertThat(job.trigger().enabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("트리거와 로컬 스케줄 등록")
+    void triggerAndRegistration() {
+        AuditDailyRollupJob job = new AuditDailyRollupJob(mock(AuditDailyRollupService.class), clock, true, "0 15 0 * * *", 3);
+
+        assertThat(job.jobId()).isEqualTo("audit-daily-rollup");
+        assertThat(job.trigger().type()).isEqualTo(TriggerType.CRON);
+        assertThat(job.trigger().expression()).isEqualTo("0 15 0 * * *");
+
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+        job.configureTasks(registrar);
+        assertThat(registrar.getTriggerTaskList()).hasSize(1);
+
+        ReflectionTestUtils.setField(job, "centralSchedulerEnabled", true);
+        ScheduledTaskRegistrar central = new ScheduledTaskRegistrar();
+        job.configureTasks(central);
+        assertThat(central.getTriggerTaskList()).isEmpty();
+    }
+}
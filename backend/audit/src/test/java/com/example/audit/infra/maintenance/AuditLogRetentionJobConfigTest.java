@@ -13,7 +13,6 @@ import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.scheduling.support.SimpleTriggerContext;
 
 import com.example.audit.config.AuditRetentionProperties;
-import com.example.audit.infra.persistence.AuditLogRepository;
 import com.example.common.policy.PolicySettingsProvider;
 import com.example.common.policy.PolicyToggleSettings;
 
@@ -22,7 +21,7 @@ class AuditLogRetentionJobConfigTest {
     @Test
     @DisplayName("configureTasks는 Policy cron을 사용해 트리거를 등록한다")
     void configureTasksRegistersTrigger() {
-        AuditLogRepository repo = Mockito.mock(AuditLogRepository.class);
+        AuditRetentionPurger purger = Mockito.mock(AuditRetentionPurger.class);
         Clock clock = Clock.fixed(Instant.parse("2025-11-24T03:00:00Z"), ZoneOffset.UTC);
         PolicyToggleSettings toggles = new PolicyToggleSettings(true, true, true, java.util.List.of(), 0L, java.util.List.of(), true, 30,
                 true, true, true, 3, true, "MEDIUM", true, java.util.List.of(), java.util.List.of(),
@@ -32,7 +31,7 @@ class AuditLogRetentionJobConfigTest {
                 false, "0 30 2 2 * *",
                 true, "0 30 3 * * *");
         PolicySettingsProvider provider = () -> toggles;
-        AuditLogRetentionJob job = new AuditLogRetentionJob(repo, clock, provider, new AuditRetentionProperties(30));
+        AuditLogRetentionJob job = new AuditLogRetentionJob(purger, clock, provider, new AuditRetentionProperties(30));
 
         ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
         job.configureTasks(registrar);
@@ -47,7 +46,7 @@ class AuditLogRetentionJobConfigTest {
     @DisplayName("cron이 비어있으면 기본값을 사용해 스케줄한다")
     void usesDefaultCronWhenBlank() {
         AuditLogRetentionJob job = new AuditLogRetentionJob(
-                Mockito.mock(com.example.audit.infra.persistence.AuditLogRepository.class),
+                Mockito.mock(AuditRetentionPurger.class),
                 Clock.fixed(Instant.parse("2025-11-24T00:00:00Z"), ZoneOffset.UTC),
                 () -> new PolicyToggleSettings(true, true, true, java.util.List.of(), 0L, java.util.List.of(), true, 30,
                         true, true, true, 30, true, "MEDIUM", true, java.util.List.of(), java.util.List.of(),
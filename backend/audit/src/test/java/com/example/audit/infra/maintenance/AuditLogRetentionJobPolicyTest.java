@@ -13,7 +13,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import com.example.audit.config.AuditRetentionProperties;
-import com.example.audit.infra.persistence.AuditLogRepository;
 import com.example.common.policy.PolicySettingsProvider;
 import com.example.common.policy.PolicyToggleSettings;
 
@@ -22,7 +21,7 @@ class AuditLogRetentionJobPolicyTest {
     @Test
     @DisplayName("정책으로 비활성화되면 삭제를 수행하지 않는다")
     void skipWhenPolicyDisabled() {
-        AuditLogRepository repo = Mockito.mock(AuditLogRepository.class);
+        AuditRetentionPurger purger = Mockito.mock(AuditRetentionPurger.class);
         Clock clock = Clock.fixed(Instant.parse("2025-11-24T00:00:00Z"), ZoneOffset.UTC);
         PolicyToggleSettings disabled = new PolicyToggleSettings(true, true, true, java.util.List.of(), 0L, java.util.List.of(), true, 30,
                 true, true, true, 30, true, "MEDIUM", true, java.util.List.of(), java.util.List.of(),
@@ -33,16 +32,16 @@ class AuditLogRetentionJobPolicyTest {
                 true, "0 30 3 * * *");
         PolicySettingsProvider provider = () -> disabled;
 
-        AuditLogRetentionJob job = new AuditLogRetentionJob(repo, clock, provider, new AuditRetentionProperties(30));
+        AuditLogRetentionJob job = new AuditLogRetentionJob(purger, clock, provider, new AuditRetentionProperties(30));
         job.purgeExpired();
 
-        verify(repo, never()).deleteByEventTimeBefore(Mockito.any());
+        verify(purger, never()).purgeBefore(Mockito.any());
     }
 
     @Test
     @DisplayName("정책의 보존일수가 적용된다")
     void usesPolicyRetentionDays() {
-        AuditLogRepository repo = Mockito.mock(AuditLogRepository.class);
+        AuditRetentionPurger purger = Mockito.mock(AuditRetentionPurger.class);
         Clock clock = Clock.fixed(Instant.parse("2025-11-24T03:00:00Z"), ZoneOffset.UTC);
         PolicyToggleSettings enabled = new PolicyToggleSettings(true, true, true, java.util.List.of(), 0L, java.util.List.of(), true, 30,
                 true, true, true, 5, true, "MEDIUM", true, java.util.List.of(), java.util.List.of(),
@@ -52,12 +51,12 @@ class AuditLogRetentionJobPolicyTest {
                 false, "0 30 2 2 * *",
                 true, "0 30 3 * * *");
 
-        AuditLogRetentionJob job = new AuditLogRetentionJob(repo, clock, () -> enabled, new AuditRetentionProperties(30));
+        AuditLogRetentionJob job = new AuditLogRetentionJob(purger, clock, () -> enabled, new AuditRetentionProperties(30));
 
         job.purgeExpired();
 
         ArgumentCaptor<Instant> captor = ArgumentCaptor.forClass(Instant.class);
-        verify(repo).deleteByEventTimeBefore(captor.capture());
+        verify(purger).purgeBefore(captor.capture());
         Instant threshold = captor.getValue();
         // 5일 이전으로 계산되었는지 확인
         Instant expected = clock.instant().minus(java.time.Duration.ofDays(5));
@@ -67,19 +66,19 @@ class AuditLogRetentionJobPolicyTest {
     @Test
     @DisplayName("정책이 없을 때는 기본 설정으로 동작한다")
     void fallsBackWhenPolicyMissing() {
-        AuditLogRepository repo = Mockito.mock(AuditLogRepository.class);
+        AuditRetentionPurger purger = Mockito.mock(AuditRetentionPurger.class);
         Clock clock = Clock.fixed(Instant.parse("2025-11-24T03:00:00Z"), ZoneOffset.UTC);
-        AuditLogRetentionJob job = new AuditLogRetentionJob(repo, clock, () -> null, new AuditRetentionProperties(2));
+        AuditLogRetentionJob job = new AuditLogRetentionJob(purger, clock, () -> null, new AuditRetentionProperties(2));
 
         job.purgeExpired();
 
-        verify(repo).deleteByEventTimeBefore(Mockito.any());
+        verify(purger).purgeBefore(Mockito.any());
     }
 
     @Test
     @DisplayName("정책의 retentionDays가 0이면 기본값 사용")
     void usesDefaultWhenPolicyDaysZero() {
-        AuditLogRepository repo = Mockito.mock(AuditLogRepository.class);
+        AuditRetentionPurger purger = Mockito.mock(AuditRetentionPurger.class);
         Clock clock = Clock.fixed(Instant.parse("2025-11-24T03:00:00Z"), ZoneOffset.UTC);
         // auditRetentionDays = 0
         PolicyToggleSettings zeroRetention = new PolicyToggleSettings(true, true, true, java.util.List.of(), 0L, java.util.List.of(), true, 30,
@@ -90,13 +89,13 @@ class AuditLogRetentionJobPolicyTest {
                 false, "0 30 2 2 * *",
                 true, "0 30 3 * * *");
 
-        AuditLogRetentionJob job = new AuditLogRetentionJob(repo, clock, () -> zeroRetention, new AuditRetentionProperties(30));
+        AuditLogRetentionJob job = new AuditLogRetentionJob(purger, clock, () -> zeroRetention, new AuditRetentionProperties(30));
         job.setRetentionDays(100); // 기본값 설정
 
         job.purgeExpired();
 
         ArgumentCaptor<Instant> captor = ArgumentCaptor.forClass(Instant.class);
-        verify(repo).deleteByEventTimeBefore(captor.capture());
+        verify(purger).purgeBefore(captor.capture());
         // days=0이면 retentionDays(100)으로 대체
         Instant expected = clock.instant().minus(java.time.Duration.ofDays(100));
         org.assertj.core.api.Assertions.assertThat(captor.getValue()).isEqualTo(expected);
@@ -105,9 +104,9 @@ class AuditLogRetentionJobPolicyTest {
     @Test
     @DisplayName("다른 정책 코드 이벤트는 로그만 남기지 않는다")
     void onPolicyChangedIgnoresOtherCode() {
-        AuditLogRepository repo = Mockito.mock(AuditLogRepository.class);
+        AuditRetentionPurger purger = Mockito.mock(AuditRetentionPurger.class);
         Clock clock = Clock.fixed(Instant.parse("2025-11-24T03:00:00Z"), ZoneOffset.UTC);
-        AuditLogRetentionJob job = new AuditLogRetentionJob(repo, clock, () -> null, new AuditRetentionProperties(30));
+        AuditLogRetentionJob job = new AuditLogRetentionJob(purger, clock, () -> null, new AuditRetentionProperties(30));
 
         // 다른 코드의 이벤트는 무시 (예외 없이 수행되어야 함)
         job.onPolicyChanged(new com.example.common.policy.PolicyChangedEvent("other.code", ""));
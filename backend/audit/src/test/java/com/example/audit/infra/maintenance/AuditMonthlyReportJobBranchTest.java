@@ -11,8 +11,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
-import com.example.audit.infra.persistence.AuditLogRepository;
 import com.example.audit.infra.persistence.AuditMonthlySummaryRepository;
+import com.example.audit.infra.rollup.AuditDailyRollupService;
 import com.example.common.policy.PolicySettingsProvider;
 import com.example.common.policy.PolicyToggleSettings;
 
@@ -21,7 +21,7 @@ class AuditMonthlyReportJobBranchTest {
     @Test
     @DisplayName("집계 중 예외가 발생해도 잡이 중단되지 않는다")
     void aggregateHandlesException() {
-        AuditLogRepository logRepo = org.mockito.Mockito.mock(AuditLogRepository.class);
+        AuditDailyRollupService rollup = org.mockito.Mockito.mock(AuditDailyRollupService.class);
         AuditMonthlySummaryRepository repo = org.mockito.Mockito.mock(AuditMonthlySummaryRepository.class);
         Clock clock = Clock.fixed(LocalDate.of(2025, 11, 23).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
         PolicyToggleSettings disabled = new PolicyToggleSettings(true, true, true, List.of(), 20971520L, List.of(), true,
@@ -32,7 +32,7 @@ class AuditMonthlyReportJobBranchTest {
                 true, "0 30 3 * * *");
         PolicySettingsProvider provider = () -> disabled;
 
-        AuditMonthlyReportJob job = new AuditMonthlyReportJob(logRepo, repo, clock, provider);
+        AuditMonthlyReportJob job = new AuditMonthlyReportJob(rollup, repo, clock, provider);
         job.report(); // 비활성화 분기 커버
 
         verify(repo, org.mockito.Mockito.never()).save(org.mockito.Mockito.any());
@@ -12,8 +12,8 @@ import org.mockito.Mockito;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.scheduling.support.SimpleTriggerContext;
 
-import com.example.audit.infra.persistence.AuditLogRepository;
 import com.example.audit.infra.persistence.AuditMonthlySummaryRepository;
+import com.example.audit.infra.rollup.AuditDailyRollupService;
 import com.example.common.policy.PolicySettingsProvider;
 import com.example.common.policy.PolicyToggleSettings;
 
@@ -22,7 +22,7 @@ class AuditMonthlyReportJobConfigTest {
     @Test
     @DisplayName("configureTasks는 정책 cron으로 트리거를 등록한다")
     void configureTasksRegistersCronTrigger() {
-        AuditLogRepository logRepo = Mockito.mock(AuditLogRepository.class);
+        AuditDailyRollupService rollup = Mockito.mock(AuditDailyRollupService.class);
         AuditMonthlySummaryRepository summaryRepo = Mockito.mock(AuditMonthlySummaryRepository.class);
         Clock clock = Clock.fixed(LocalDate.of(2025, 11, 1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
         PolicyToggleSettings toggles = new PolicyToggleSettings(true, true, true, java.util.List.of(), 0L, java.util.List.of(), true, 0,
@@ -34,7 +34,7 @@ class AuditMonthlyReportJobConfigTest {
                 true, "0 30 3 * * *");
         PolicySettingsProvider provider = () -> toggles;
 
-        AuditMonthlyReportJob job = new AuditMonthlyReportJob(logRepo, summaryRepo, clock, provider);
+        AuditMonthlyReportJob job = new AuditMonthlyReportJob(rollup, summaryRepo, clock, provider);
         ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
         job.configureTasks(registrar);
 
@@ -5,6 +5,8 @@ import static org.mockito.Mockito.verify;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 
@@ -12,32 +14,57 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-import com.example.audit.infra.persistence.AuditLogRepository;
 import com.example.audit.infra.persistence.AuditMonthlySummaryEntity;
 import com.example.audit.infra.persistence.AuditMonthlySummaryRepository;
+import com.example.audit.infra.rollup.AuditDailyRollupService;
+import com.example.audit.infra.rollup.AuditRollupTotals;
 
 class AuditMonthlyReportJobTest {
 
     @Test
-    @DisplayName("지난달 건수 집계를 호출한다")
+    @DisplayName("지난달 일별 롤업 합계로 요약을 저장한다")
     void reportInvokesCount() {
-        AuditLogRepository repo = Mockito.mock(AuditLogRepository.class);
+        AuditDailyRollupService rollup = Mockito.mock(AuditDailyRollupService.class);
         AuditMonthlySummaryRepository summaryRepo = Mockito.mock(AuditMonthlySummaryRepository.class);
         Clock clock = Clock.fixed(LocalDate.of(2025, 2, 1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
         var policy = Mockito.mock(com.example.common.policy.PolicySettingsProvider.class);
         Mockito.when(policy.currentSettings()).thenReturn(defaultSettings());
-        AuditMonthlyReportJob job = new AuditMonthlyReportJob(repo, summaryRepo, clock, policy);
+        Mockito.when(rollup.totals(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1)))
+                .thenReturn(new AuditRollupTotals(10L, 2L, Map.of("UNMASK", 3L, "DOWNLOAD", 1L, "DRM_EXPORT", 2L, "LOGIN", 4L)));
+        Mockito.when(summaryRepo.findByYearMonth("2025-01")).thenReturn(Optional.empty());
+        AuditMonthlyReportJob job = new AuditMonthlyReportJob(rollup, summaryRepo, clock, policy);
 
         job.report();
 
-        Instant from = LocalDate.of(2025, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC);
-        Instant to = LocalDate.of(2025, 2, 1).atStartOfDay().toInstant(ZoneOffset.UTC);
-        verify(repo).countByEventTimeBetween(from, to);
-        verify(repo).countByEventTimeBetweenAndSuccess(from, to, false);
-        verify(repo).countByEventTimeBetweenAndEventTypeIn(from, to, List.of("UNMASK"));
+        verify(rollup).totals(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1));
         verify(summaryRepo).save(Mockito.argThat(e ->
-                e.getYearMonth().equals("2025-01") &&
-                        e.getTotalCount() == 0L));
+                e.getYearMonth().equals("2025-01")
+                        && e.getTotalCount() == 10L
+                        && e.getFailureCount() == 2L
+                        && e.getUnmaskCount() == 3L
+                        && e.getDrmDownloadCount() == 3L));
+    }
+
+    @Test
+    @DisplayName("같은 달을 다시 집계하면 기존 요약 행을 갱신한다")
+    void reportUpdatesExistingSummary() {
+        AuditDailyRollupService rollup = Mockito.mock(AuditDailyRollupService.class);
+        AuditMonthlySummaryRepository summaryRepo = Mockito.mock(AuditMonthlySummaryRepository.class);
+        Clock clock = Clock.fixed(LocalDate.of(2025, 2, 1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        var policy = Mockito.mock(com.example.common.policy.PolicySettingsProvider.class);
+        Mockito.when(policy.currentSettings()).thenReturn(defaultSettings());
+        Mockito.when(rollup.totals(Mockito.any(), Mockito.any())).thenReturn(new AuditRollupTotals(5L, 0L, Map.of()));
+        AuditMonthlySummaryEntity existing = AuditMonthlySummaryEntity.builder()
+                .yearMonth("2025-01").totalCount(1L).createdAt(Instant.EPOCH).build();
+        Mockito.when(summaryRepo.findByYearMonth("2025-01")).thenReturn(Optional.of(existing));
+        AuditMonthlyReportJob job = new AuditMonthlyReportJob(rollup, summaryRepo, clock, policy);
+
+        job.report();
+
+        verify(summaryRepo).save(existing);
+        org.assertj.core.api.Assertions.assertThat(existing.getTotalCount()).isEqualTo(5L);
+        org.assertj.core.api.Assertions.assertThat(existing.getUnmaskCount()).isZero();
+        org.assertj.core.api.Assertions.assertThat(existing.getCreatedAt()).isEqualTo(clock.instant());
     }
 
     @Test
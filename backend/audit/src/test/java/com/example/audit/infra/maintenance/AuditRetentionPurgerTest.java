@@ -0,0 +1,155 @@
+package com.example.audit.infra.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("AuditRetentionPurger 청크 삭제")
+class AuditRetentionPurgerTest {
+
+    private static final Instant THRESHOLD = Instant.parse("2025-01-01T00:00:00Z");
+
+    JdbcTemplate jdbcTemplate;
+    AuditRetentionPurgeProperties properties;
+    SimpleMeterRegistry registry;
+    AuditRetentionPurger purger;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:audit-retention-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE audit_log (
+                    id UUID PRIMARY KEY, event_time TIMESTAMP WITH TIME ZONE NOT NULL)
+                """);
+        properties = new AuditRetentionPurgeProperties();
+        properties.setChunkSize(3);
+        properties.setPauseMs(0);
+        registry = new SimpleMeterRegistry();
+        purger = new AuditRetentionPurger(jdbcTemplate, new DataSourceTransactionManager(dataSource), properties, registry);
+    }
+
+    private void insert(Instant eventTime, int count) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO audit_log (id, event_time) VALUES (?, ?)",
+                    UUID.randomUUID(), eventTime.atOffset(ZoneOffset.UTC));
+        }
+    }
+
+    private long remaining() {
+        return jdbcTemplate.queryForObject("select count(*) from audit_log", Long.class);
+    }
+
+    @Test
+    @DisplayName("만료 행만 청크 단위로 모두 삭제하고 커서를 비운다")
+    void deletesExpiredRowsInChunks() {
+        insert(THRESHOLD.minus(400, ChronoUnit.DAYS), 4);
+        insert(THRESHOLD.minus(1, ChronoUnit.SECONDS), 4);
+        insert(THRESHOLD, 2);
+
+        long deleted = purger.purgeBefore(THRESHOLD);
+
+        assertThat(deleted).isEqualTo(8);
+        assertThat(remaining()).isEqualTo(2);
+        assertThat(purger.cursor()).isNull();
+        assertThat(registry.counter("audit_retention_deleted_total").count()).isEqualTo(8.0);
+        assertThat(registry.counter("audit_retention_chunks_total").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("실행 예산을 넘기면 커서를 남기고 다음 실행에서 이어서 삭제한다")
+    void resumesFromCursorAfterBudget() {
+        Instant old = THRESHOLD.minus(30, ChronoUnit.DAYS);
+        insert(old, 3);
+        insert(old.plus(1, ChronoUnit.DAYS), 3);
+        properties.setMaxChunksPerRun(1);
+
+        assertThat(purger.purgeBefore(THRESHOLD)).isEqualTo(3);
+        assertThat(purger.cursor()).isEqualTo(old);
+        assertThat(remaining()).isEqualTo(3);
+
+        properties.setMaxChunksPerRun(10);
+        assertThat(purger.purgeBefore(THRESHOLD)).isEqualTo(3);
+        assertThat(purger.cursor()).isNull();
+        assertThat(remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 시각의 행이 청크 크기보다 많아도 모두 삭제한다")
+    void handlesTiesLargerThanChunk() {
+        insert(THRESHOLD.minus(10, ChronoUnit.DAYS), 7);
+
+        assertThat(purger.purgeBefore(THRESHOLD)).isEqualTo(7);
+        assertThat(remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("PostgreSQL이 아니면 파티션 단계는 건너뛴다")
+    void skipsPartitionPhaseOnNonPostgres() {
+        assertThat(purger.removeExpiredPartitions(THRESHOLD)).isZero();
+
+        properties.setPartitionAction(AuditRetentionPurgeProperties.PartitionAction.NONE);
+        assertThat(purger.removeExpiredPartitions(THRESHOLD)).isZero();
+    }
+
+    @Test
+    @DisplayName("테이블이 없으면 청크 실패로 처리하고 예외를 던지지 않는다")
+    void chunkFailureIsSwallowed() {
+        jdbcTemplate.execute("DROP TABLE audit_log");
+
+        assertThat(purger.purgeBefore(THRESHOLD)).isZero();
+    }
+
+    @Test
+    @DisplayName("PostgreSQL에서는 경계가 만료된 월 파티션만 분리 후 삭제한다")
+    void dropsFullyExpiredPartitionsOnPostgres() {
+        JdbcTemplate pg = org.mockito.Mockito.mock(JdbcTemplate.class);
+        org.mockito.Mockito.when(pg.execute(org.mockito.ArgumentMatchers.<org.springframework.jdbc.core.ConnectionCallback<Boolean>>any()))
+                .thenReturn(true);
+        org.mockito.Mockito.when(pg.queryForList(AuditRetentionPurger.PARTITIONS_SQL, String.class))
+                .thenReturn(java.util.List.of("audit_log_2024_11", "audit_log_2024_12", "audit_log_2025_01", "audit_log_default"));
+        AuditRetentionPurger pgPurger = new AuditRetentionPurger(pg,
+                org.mockito.Mockito.mock(org.springframework.transaction.PlatformTransactionManager.class), properties, registry);
+
+        // 2024_12 의 상한(2025-01-01)+여유 1일은 threshold(2025-01-01)를 넘으므로 남긴다.
+        assertThat(pgPurger.removeExpiredPartitions(THRESHOLD)).isEqualTo(1);
+
+        org.mockito.Mockito.verify(pg).execute("ALTER TABLE audit_log DETACH PARTITION audit_log_2024_11");
+        org.mockito.Mockito.verify(pg).execute("DROP TABLE audit_log_2024_11");
+        org.mockito.Mockito.verify(pg, org.mockito.Mockito.never()).execute("DROP TABLE audit_log_2024_12");
+        assertThat(registry.counter("audit_retention_partitions_removed_total").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DETACH 모드는 파티션을 분리만 하고 실패한 파티션은 건너뛴다")
+    void detachOnlyAndSkipsFailures() {
+        JdbcTemplate pg = org.mockito.Mockito.mock(JdbcTemplate.class);
+        org.mockito.Mockito.when(pg.execute(org.mockito.ArgumentMatchers.<org.springframework.jdbc.core.ConnectionCallback<Boolean>>any()))
+                .thenReturn(true);
+        org.mockito.Mockito.when(pg.queryForList(AuditRetentionPurger.PARTITIONS_SQL, String.class))
+                .thenReturn(java.util.List.of("audit_log_2023_01", "audit_log_2023_02"));
+        org.mockito.Mockito.doThrow(new org.springframework.dao.DataAccessResourceFailureException("locked"))
+                .when(pg).execute("ALTER TABLE audit_log DETACH PARTITION audit_log_2023_01");
+        properties.setPartitionAction(AuditRetentionPurgeProperties.PartitionAction.DETACH);
+        AuditRetentionPurger pgPurger = new AuditRetentionPurger(pg,
+                org.mockito.Mockito.mock(org.springframework.transaction.PlatformTransactionManager.class), properties, null);
+
+        assertThat(pgPurger.removeExpiredPartitions(THRESHOLD)).isEqualTo(1);
+
+        org.mockito.Mockito.verify(pg).execute("ALTER TABLE audit_log DETACH PARTITION audit_log_2023_02");
+        org.mockito.Mockito.verify(pg, org.mockito.Mockito.never()).execute("DROP TABLE audit_log_2023_02");
+    }
+}
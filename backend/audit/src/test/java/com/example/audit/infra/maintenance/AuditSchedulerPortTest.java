@@ -27,11 +27,11 @@ class AuditSchedulerPortTest {
         var provider = mock(PolicySettingsProvider.class);
         org.mockito.Mockito.when(provider.batchJobSchedule(com.example.common.schedule.BatchJobCode.AUDIT_LOG_RETENTION))
                 .thenReturn(schedule("0 0 1 * * *"));
-        var repo = mock(com.example.audit.infra.persistence.AuditLogRepository.class);
+        var purger = mock(AuditRetentionPurger.class);
         var props = mock(com.example.audit.config.AuditRetentionProperties.class);
         org.mockito.Mockito.when(props.days()).thenReturn(30);
 
-        AuditLogRetentionJob job = new AuditLogRetentionJob(repo, Clock.systemUTC(), provider, props);
+        AuditLogRetentionJob job = new AuditLogRetentionJob(purger, Clock.systemUTC(), provider, props);
 
         assertThat(job.trigger().expression()).isEqualTo("0 0 1 * * *");
         job.runOnce(Instant.now()); // should not throw
@@ -55,10 +55,10 @@ class AuditSchedulerPortTest {
         var provider = mock(PolicySettingsProvider.class);
         org.mockito.Mockito.when(provider.batchJobSchedule(com.example.common.schedule.BatchJobCode.AUDIT_MONTHLY_REPORT))
                 .thenReturn(schedule("0 0 4 1 * *"));
-        var repo = mock(com.example.audit.infra.persistence.AuditLogRepository.class);
+        var rollup = mock(com.example.audit.infra.rollup.AuditDailyRollupService.class);
         var summaryRepo = mock(com.example.audit.infra.persistence.AuditMonthlySummaryRepository.class);
 
-        AuditMonthlyReportJob job = new AuditMonthlyReportJob(repo, summaryRepo, Clock.fixed(Instant.now(), ZoneOffset.UTC), provider);
+        AuditMonthlyReportJob job = new AuditMonthlyReportJob(rollup, summaryRepo, Clock.fixed(Instant.now(), ZoneOffset.UTC), provider);
         ReflectionTestUtils.setField(job, "centralSchedulerEnabled", true);
 
         RecordingRegistrar registrar = new RecordingRegistrar();
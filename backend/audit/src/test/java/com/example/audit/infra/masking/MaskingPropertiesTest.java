@@ -23,5 +23,15 @@ class MaskingPropertiesTest {
         assertThat(props.getRules()).containsExactly(custom);
         assertThat(props.applyAll("ABC DEF")).contains("XXX");
     }
-}
 
+    @Test
+    @DisplayName("규칙을 교체하면 다음 적용부터 새 규칙으로 다시 컴파일한다")
+    void recompilesAfterSetRules() {
+        MaskingProperties props = new MaskingProperties();
+        assertThat(props.applyAll("ABC 990101-1234567")).isEqualTo("ABC [REDACTED-RRN]");
+
+        props.setRules(List.of(new MaskingRule("ABC", "XXX")));
+
+        assertThat(props.applyAll("ABC 990101-1234567")).isEqualTo("XXX 990101-1234567");
+    }
+}
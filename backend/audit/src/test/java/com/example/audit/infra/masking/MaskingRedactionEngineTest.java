@@ -0,0 +1,100 @@
+package com.example.audit.infra.masking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MaskingRedactionEngineTest {
+
+    private static final List<String> PAYLOADS = List.of(
+            "고객 요청에 따른 대출 심사 내역 조회",
+            "이름 홍길동 고객 주민번호 900101-1234567 확인",
+            "계좌 110-123-456789 거래내역, 카드 1234-5678-9012-3456",
+            "주소 서울시 강남구 테헤란로 123 101동 변경",
+            "연락처 hong@example.com 및 SSN 123-45-6789",
+            "장문 숫자 1234567890123456789 포함",
+            "{\"name\":\"김영희\",\"memo\":\"정상 처리\"}",
+            "");
+
+    private static String ruleLoop(List<MaskingRule> rules, String input) {
+        String out = input;
+        for (MaskingRule rule : rules) {
+            out = rule.apply(out);
+        }
+        return out;
+    }
+
+    @Test
+    @DisplayName("기본 규칙에서 규칙별 순차 replaceAll과 같은 결과를 낸다")
+    void matchesSequentialRuleLoop() {
+        List<MaskingRule> rules = new MaskingProperties().getRules();
+        MaskingRedactionEngine engine = new MaskingRedactionEngine(rules);
+
+        for (String payload : PAYLOADS) {
+            assertThat(engine.apply(payload)).as(payload).isEqualTo(ruleLoop(rules, payload));
+        }
+        assertThat(engine.apply(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("매칭이 없으면 입력 문자열을 그대로 반환한다")
+    void returnsSameInstanceWhenClean() {
+        MaskingRedactionEngine engine = new MaskingRedactionEngine(new MaskingProperties().getRules());
+        String clean = "고객 요청에 따른 대출 심사 내역 조회";
+
+        assertThat(engine.apply(clean)).isSameAs(clean);
+    }
+
+    @Test
+    @DisplayName("기본 규칙의 필수 문자 조건을 추출한다")
+    void extractsRequirements() {
+        MaskingRedactionEngine engine = new MaskingRedactionEngine(new MaskingProperties().getRules());
+
+        assertThat(engine.describeRequirement(0)).isEqualTo("\\d-");
+        assertThat(engine.describeRequirement(1)).isEqualTo("\\d");
+        assertThat(engine.describeRequirement(4)).isEqualTo("\\d[가-힣]");
+        assertThat(engine.describeRequirement(5)).isEqualTo("[가-힣]이름");
+        assertThat(engine.describeRequirement(6)).isEqualTo(".@");
+    }
+
+    @Test
+    @DisplayName("분석할 수 없는 패턴은 조건 없이 항상 검사한다")
+    void unanalyzablePatternsAlwaysRun() {
+        List<MaskingRule> rules = List.of(
+                new MaskingRule("(?i)secret", "***"),
+                new MaskingRule("foo|bar", "X"),
+                new MaskingRule("\\p{L}+!", "W"),
+                new MaskingRule("a?b*c{0,2}", "Y"));
+        MaskingRedactionEngine engine = new MaskingRedactionEngine(rules);
+
+        for (int i = 0; i < rules.size(); i++) {
+            assertThat(engine.describeRequirement(i)).isEmpty();
+        }
+        for (String input : List.of("SECRET foo", "bar 값!", "abcc", "nothing")) {
+            assertThat(engine.apply(input)).as(input).isEqualTo(ruleLoop(rules, input));
+        }
+    }
+
+    @Test
+    @DisplayName("앞 규칙의 치환 문자열이 뒤 규칙을 성립시키면 순차 적용과 동일하게 반영한다")
+    void replacementFeedsLaterRules() {
+        List<MaskingRule> rules = List.of(
+                new MaskingRule("token", "[X-1]"),
+                new MaskingRule("X-\\d", "Z"));
+        MaskingRedactionEngine engine = new MaskingRedactionEngine(rules);
+
+        assertThat(engine.apply("my token")).isEqualTo("my [Z]").isEqualTo(ruleLoop(rules, "my token"));
+    }
+
+    @Test
+    @DisplayName("치환 문자열의 그룹 참조를 지원한다")
+    void supportsGroupReferences() {
+        MaskingRedactionEngine engine = new MaskingRedactionEngine(
+                List.of(new MaskingRule("(\\d{3})-(\\d{4})", "$1-****")));
+
+        assertThat(engine.apply("010-1234 / 011-5678")).isEqualTo("010-**** / 011-****");
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.audit.infra.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import com.example.audit.infra.persistence.AuditLogEntity;
+
+@DisplayName("AuditLogBatchWriter JDBC 배치 적재")
+class AuditLogBatchWriterTest {
+
+    JdbcTemplate jdbcTemplate;
+    AuditLogBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:audit-batch-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE audit_log (
+                    id UUID PRIMARY KEY, event_id UUID NOT NULL, event_time TIMESTAMP WITH TIME ZONE NOT NULL,
+                    event_type VARCHAR(64) NOT NULL, module_name VARCHAR(32), action VARCHAR(64),
+                    actor_id VARCHAR(64), actor_type VARCHAR(16), actor_role VARCHAR(64), actor_dept VARCHAR(64),
+                    subject_type VARCHAR(32), subject_key VARCHAR(128), channel VARCHAR(32), client_ip VARCHAR(64),
+                    user_agent VARCHAR(256), device_id VARCHAR(128), success BOOLEAN NOT NULL, result_code VARCHAR(32),
+                    reason_code VARCHAR(32), reason_text VARCHAR(512), legal_basis_code VARCHAR(32), risk_level VARCHAR(8),
+                    before_summary VARCHAR(1024), after_summary VARCHAR(1024), extra_json TEXT, hash_chain VARCHAR(128),
+                    chain_seq BIGINT)
+                """);
+        writer = new AuditLogBatchWriter(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("배치 행의 모든 컬럼을 INSERT 하고 체인 컬럼은 비동기 연결을 위해 비워 둔다")
+    void writesAllColumnsLeavingChainUnlinked() {
+        AuditLogEntity first = AuditWritePipelineTest.row();
+        AuditLogEntity second = AuditWritePipelineTest.row();
+
+        writer.write(List.of(first, second));
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from audit_log", Long.class)).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from audit_log where chain_seq is null and hash_chain is null", Long.class))
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("한 건이라도 실패하면 배치 전체가 롤백된다")
+    void rollsBackWholeBatch() {
+        AuditLogEntity row = AuditWritePipelineTest.row();
+
+        assertThatThrownBy(() -> writer.write(List.of(AuditWritePipelineTest.row(), row, row)))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from audit_log", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("재적재는 이미 적재된 id를 건너뛰고 나머지만 INSERT 한다")
+    void replaySkipsAlreadyWrittenRows() {
+        AuditLogEntity committed = AuditWritePipelineTest.row();
+        AuditLogEntity pending = AuditWritePipelineTest.row();
+        writer.write(List.of(committed));
+
+        int inserted = writer.replay(List.of(committed, pending));
+
+        assertThat(inserted).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from audit_log", Long.class)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("빈 배치는 아무것도 하지 않는다")
+    void emptyBatchIsNoop() {
+        writer.write(List.of());
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from audit_log", Long.class)).isZero();
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.audit.infra.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.example.audit.infra.persistence.AuditLogEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("AuditWritePipeline 배치/spill/재적재")
+@SuppressWarnings("unchecked")
+class AuditWritePipelineTest {
+
+    @TempDir
+    Path spillDir;
+
+    AuditLogBatchWriter writer = Mockito.mock(AuditLogBatchWriter.class);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("비활성 상태에서는 offer가 false를 반환해 동기 저장으로 폴백한다")
+    void offerRejectedWhenNotRunning() {
+        AuditWritePipeline pipeline = pipeline(properties(false, 10, 5));
+
+        assertThat(pipeline.offer(row())).isFalse();
+        assertThat(pipeline.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("큐에 쌓인 행은 batchSize 단위로 모아 한 번에 적재한다")
+    void collectsUpToBatchSize() throws Exception {
+        AuditWritePipeline pipeline = pipeline(properties(true, 10, 3));
+        pipeline.open();
+        for (int i = 0; i < 5; i++) {
+            assertThat(pipeline.offer(row())).isTrue();
+        }
+
+        List<AuditLogEntity> batch = new ArrayList<>();
+        assertThat(pipeline.collect(batch)).isTrue();
+        pipeline.flush(batch);
+
+        ArgumentCaptor<List<AuditLogEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer).write(captor.capture());
+        assertThat(captor.getValue()).hasSize(3);
+        assertThat(pipeline.queueDepth()).isEqualTo(2);
+        assertThat(registry.get("audit_pipeline_written_total").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드를 막지 않고 디스크로 spill 한다")
+    void spillsWhenQueueFull() throws Exception {
+        AuditWritePipeline pipeline = pipeline(properties(true, 1, 10));
+        pipeline.open();
+
+        assertThat(pipeline.offer(row())).isTrue();
+        assertThat(pipeline.offer(row())).isTrue();
+
+        assertThat(pipeline.queueDepth()).isEqualTo(1);
+        assertThat(new AuditSpillStore(spillDir, new ObjectMapper()).pending()).hasSize(1);
+        assertThat(registry.get("audit_pipeline_spilled_total").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("배치 적재 실패분은 spill 되고 이후 원본 그대로 재적재된다")
+    void failedBatchIsSpilledAndReplayed() throws Exception {
+        AuditWritePipeline pipeline = pipeline(properties(true, 10, 10));
+        AuditLogEntity row = row().withHashChain("h").withChainSequence(7L);
+        doThrow(new IllegalStateException("db down")).when(writer).write(anyList());
+
+        pipeline.flush(List.of(row));
+
+        AuditSpillStore store = new AuditSpillStore(spillDir, new ObjectMapper());
+        assertThat(store.pending()).hasSize(1);
+
+        Mockito.reset(writer);
+        pipeline.replayIfDue();
+
+        ArgumentCaptor<List<AuditLogEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer).replay(captor.capture());
+        assertThat(store.pending()).isEmpty();
+        assertThat(captor.getValue()).singleElement().satisfies(replayed -> {
+            assertThat(replayed.getId()).isEqualTo(row.getId());
+            assertThat(replayed.getEventId()).isEqualTo(row.getEventId());
+            assertThat(replayed.getEventTime()).isEqualTo(row.getEventTime());
+            assertThat(replayed.getHashChain()).isEqualTo("h");
+            assertThat(replayed.getChainSequence()).isEqualTo(7L);
+        });
+    }
+
+    @Test
+    @DisplayName("종료 시 드레이너가 잔여 큐를 모두 적재한다")
+    void stopDrainsQueue() {
+        AuditWritePipeline pipeline = pipeline(properties(true, 100, 50));
+        pipeline.start();
+        for (int i = 0; i < 20; i++) {
+            pipeline.offer(row());
+        }
+
+        pipeline.stop();
+
+        assertThat(pipeline.queueDepth()).isZero();
+        assertThat(registry.get("audit_pipeline_written_total").counter().count()).isEqualTo(20.0);
+        verify(writer, Mockito.atLeastOnce()).write(anyList());
+    }
+
+    @Test
+    @DisplayName("수용 확인 뒤 종료가 끼어들면 큐에 남기지 않고 spill 한다")
+    void enqueueAfterStopSpillsRow() throws Exception {
+        AuditWritePipeline pipeline = pipeline(properties(true, 10, 10));
+        pipeline.open();
+        pipeline.stop();
+
+        assertThat(pipeline.enqueue(row())).isTrue();
+
+        assertThat(pipeline.queueDepth()).isZero();
+        assertThat(new AuditSpillStore(spillDir, new ObjectMapper()).pending()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("드레이너 없이 open만 한 상태에서도 stop은 잔여 큐를 spill 한다")
+    void stopWithoutDrainerSpillsQueue() throws Exception {
+        AuditWritePipeline pipeline = pipeline(properties(true, 10, 10));
+        pipeline.open();
+        pipeline.offer(row());
+
+        pipeline.stop();
+
+        assertThat(pipeline.isRunning()).isFalse();
+        assertThat(pipeline.queueDepth()).isZero();
+        assertThat(new AuditSpillStore(spillDir, new ObjectMapper()).pending()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("큐가 계속 차 있어도 재적재 주기마다 spill 파일을 다시 적재한다")
+    void replaysWhileQueueStaysBusy() throws Exception {
+        AuditSpillStore store = new AuditSpillStore(spillDir, new ObjectMapper());
+        store.append(List.of(row()));
+        AuditWritePipeline pipeline = pipeline(properties(true, 1_000, 5));
+        pipeline.start();
+        AtomicBoolean feeding = new AtomicBoolean(true);
+        Thread feeder = new Thread(() -> {
+            while (feeding.get()) {
+                pipeline.offer(row());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        });
+        feeder.start();
+        try {
+            verify(writer, Mockito.timeout(5_000)).replay(anyList());
+        } finally {
+            feeding.set(false);
+            feeder.join();
+            pipeline.stop();
+        }
+
+        assertThat(store.pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재적재 주기가 지나지 않았으면 spill 파일을 건드리지 않는다")
+    void replayRespectsInterval() throws Exception {
+        AuditPipelineProperties props = properties(true, 10, 10);
+        props.setReplayIntervalMs(60_000);
+        AuditWritePipeline pipeline = pipeline(props);
+        new AuditSpillStore(spillDir, new ObjectMapper()).append(List.of(row()));
+
+        pipeline.replayIfDue();
+        Mockito.reset(writer);
+        pipeline.replayIfDue();
+
+        verify(writer, never()).write(anyList());
+    }
+
+    @Test
+    @DisplayName("DB가 정상인데 반복해서 실패하는 spill 파일은 격리하고 뒤 파일은 계속 재적재한다")
+    void quarantinesPoisonFileWithoutBlockingOthers() throws Exception {
+        AuditPipelineProperties props = properties(true, 10, 10);
+        props.setReplayMaxAttempts(2);
+        AuditWritePipeline pipeline = pipeline(props);
+        AuditSpillStore store = new AuditSpillStore(spillDir, new ObjectMapper());
+        AuditLogEntity poison = row();
+        store.append(List.of(poison));
+        store.append(List.of(row()));
+        Mockito.when(writer.replay(Mockito.argThat(rows -> rows.stream().anyMatch(r -> r.getId().equals(poison.getId())))))
+                .thenThrow(new IllegalStateException("value too long"));
+        pipeline.flush(List.of(row()));
+
+        pipeline.replayIfDue();
+        assertThat(store.pending()).hasSize(1);
+        pipeline.replayIfDue();
+
+        assertThat(store.pending()).isEmpty();
+        assertThat(spillDir.resolve(AuditSpillStore.QUARANTINE)).isDirectoryContaining("glob:**/*" + AuditSpillStore.SUFFIX);
+        assertThat(registry.get("audit_pipeline_quarantined_files_total").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DB 장애로 보이면 실패 횟수를 세지 않고 다음 주기로 미룬다")
+    void defersReplayWhileDatabaseIsDown() throws Exception {
+        AuditPipelineProperties props = properties(true, 10, 10);
+        props.setReplayMaxAttempts(1);
+        AuditWritePipeline pipeline = pipeline(props);
+        AuditSpillStore store = new AuditSpillStore(spillDir, new ObjectMapper());
+        store.append(List.of(row()));
+        doThrow(new IllegalStateException("db down")).when(writer).write(anyList());
+        doThrow(new IllegalStateException("db down")).when(writer).replay(anyList());
+        pipeline.flush(List.of(row()));
+
+        pipeline.replayIfDue();
+        pipeline.replayIfDue();
+
+        assertThat(store.pending()).hasSize(2);
+        assertThat(registry.get("audit_pipeline_quarantined_files_total").counter().count()).isZero();
+    }
+
+    private AuditWritePipeline pipeline(AuditPipelineProperties props) {
+        return new AuditWritePipeline(writer, new AuditSpillStore(spillDir, new ObjectMapper()), props, registry);
+    }
+
+    private static AuditPipelineProperties properties(boolean enabled, int capacity, int batchSize) {
+        AuditPipelineProperties props = new AuditPipelineProperties();
+        props.setEnabled(enabled);
+        props.setQueueCapacity(capacity);
+        props.setBatchSize(batchSize);
+        props.setFlushIntervalMs(20);
+        props.setReplayIntervalMs(0);
+        props.setShutdownTimeoutMs(5_000);
+        return props;
+    }
+
+    static AuditLogEntity row() {
+        return new AuditLogEntity(UUID.randomUUID(), Instant.parse("2025-01-01T00:00:00.123456Z"), "HTTP", "server", "GET /api",
+                "user", "HUMAN", "role", "dept", "ORG", "ORG1",
+                "WEB", "127.0.0.1", "JUnit", null,
+                true, "200", null, null, null, "LOW", null, null, "{\"k\":\"v\"}", null);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.audit.infra.rollup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.audit.infra.persistence.AuditDailyRollupEntity;
+import com.example.audit.infra.persistence.AuditDailyRollupRepository;
+import com.example.audit.infra.persistence.AuditEventCount;
+import com.example.audit.infra.persistence.AuditLogRepository;
+
+class AuditDailyRollupServiceTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-02-03T10:00:00Z"), ZoneOffset.UTC);
+    private AuditLogRepository logRepository;
+    private AuditDailyRollupRepository rollupRepository;
+    private AuditDailyRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        logRepository = mock(AuditLogRepository.class);
+        rollupRepository = mock(AuditDailyRollupRepository.class);
+        service = new AuditDailyRollupService(logRepository, rollupRepository, mock(PlatformTransactionManager.class), clock);
+    }
+
+    @Test
+    @DisplayName("하루치 GROUP BY 결과로 기존 롤업을 교체한다")
+    @SuppressWarnings("unchecked")
+    void rollupDayReplacesRows() {
+        LocalDate day = LocalDate.of(2025, 2, 1);
+        Instant from = Instant.parse("2025-02-01T00:00:00Z");
+        Instant to = Instant.parse("2025-02-02T00:00:00Z");
+        when(logRepository.countByEventTypeAndSuccess(from, to)).thenReturn(List.of(
+                new AuditEventCount("LOGIN", true, 7),
+                new AuditEventCount("LOGIN", false, 2)));
+
+        int groups = service.rollupDay(day);
+
+        assertThat(groups).isEqualTo(2);
+        ArgumentCaptor<List<AuditDailyRollupEntity>> captor = ArgumentCaptor.forClass(List.class);
+        var order = inOrder(rollupRepository);
+        order.verify(rollupRepository).deleteByRollupDay(day);
+        order.verify(rollupRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(AuditDailyRollupEntity::getEventType, AuditDailyRollupEntity::isSuccess,
+                        AuditDailyRollupEntity::getEventCount, AuditDailyRollupEntity::getRollupDay)
+                .containsExactly(
+                        org.assertj.core.groups.Tuple.tuple("LOGIN", true, 7L, day),
+                        org.assertj.core.groups.Tuple.tuple("LOGIN", false, 2L, day));
+        assertThat(captor.getValue().get(0).getUpdatedAt()).isEqualTo(clock.instant());
+    }
+
+    @Test
+    @DisplayName("이벤트가 없는 날은 빈 마커 행을 남긴다")
+    @SuppressWarnings("unchecked")
+    void rollupDayLeavesMarkerForEmptyDay() {
+        when(logRepository.countByEventTypeAndSuccess(any(), any())).thenReturn(List.of());
+
+        int groups = service.rollupDay(LocalDate.of(2025, 2, 1));
+
+        assertThat(groups).isZero();
+        ArgumentCaptor<List<AuditDailyRollupEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(rollupRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(row -> {
+            assertThat(row.getEventType()).isEqualTo(AuditDailyRollupService.EMPTY_DAY_MARKER);
+            assertThat(row.getEventCount()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("롤업이 없는 확정 일자만 집계하고 오늘 이후는 건너뛴다")
+    void ensureRangeRollsOnlyMissingPastDays() {
+        when(logRepository.countByEventTypeAndSuccess(any(), any())).thenReturn(List.of());
+        when(rollupRepository.findRolledUpDays(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 3)))
+                .thenReturn(List.of(LocalDate.of(2025, 2, 1)));
+
+        int rolled = service.ensureRange(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 3, 1));
+
+        assertThat(rolled).isEqualTo(2);
+        verify(rollupRepository).deleteByRollupDay(LocalDate.of(2025, 1, 31));
+        verify(rollupRepository).deleteByRollupDay(LocalDate.of(2025, 2, 2));
+        verify(rollupRepository, never()).deleteByRollupDay(LocalDate.of(2025, 2, 1));
+        verify(rollupRepository, never()).deleteByRollupDay(LocalDate.of(2025, 2, 3));
+    }
+
+    @Test
+    @DisplayName("미래 구간은 아무것도 집계하지 않는다")
+    void ensureRangeIgnoresFuture() {
+        int rolled = service.ensureRange(LocalDate.of(2025, 2, 3), LocalDate.of(2025, 2, 10));
+
+        assertThat(rolled).isZero();
+        verify(rollupRepository, never()).findRolledUpDays(any(), any());
+        verify(rollupRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("기간 합계는 롤업 행을 합산하고 빈 마커는 무시한다")
+    void totalsSumsRollups() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        LocalDate end = LocalDate.of(2025, 2, 1);
+        when(rollupRepository.findRolledUpDays(start, end))
+                .thenReturn(start.datesUntil(end).toList());
+        when(rollupRepository.sumByEventTypeAndSuccess(start, end)).thenReturn(List.of(
+                new AuditEventCount("LOGIN", true, 10),
+                new AuditEventCount("LOGIN", false, 3),
+                new AuditEventCount("UNMASK", true, 2),
+                new AuditEventCount(AuditDailyRollupService.EMPTY_DAY_MARKER, true, 0)));
+
+        AuditRollupTotals totals = service.totals(start, end);
+
+        assertThat(totals.total()).isEqualTo(15);
+        assertThat(totals.failures()).isEqualTo(3);
+        assertThat(totals.byEventType()).containsOnlyKeys("LOGIN", "UNMASK");
+        assertThat(totals.count(List.of("LOGIN"))).isEqualTo(13);
+        assertThat(totals.count(List.of("UNMASK", "DOWNLOAD"))).isEqualTo(2);
+        verify(logRepository, times(0)).countByEventTypeAndSuccess(any(), any());
+    }
+}
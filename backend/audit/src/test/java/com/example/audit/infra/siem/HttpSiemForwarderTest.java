@@ -14,7 +14,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 
 import com.example.audit.AuditEvent;
@@ -26,7 +25,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 class HttpSiemForwarderTest {
 
     @Test
-    @DisplayName("SIEM endpoint로 HTTP POST를 전송한다")
+    @DisplayName("SIEM endpoint로 HTTP POST를 1회 전송한다(재시도는 전달 채널 담당)")
     void forwardsToSiem() {
         SiemProperties props = new SiemProperties();
         props.setEnabled(true);
@@ -40,8 +39,7 @@ class HttpSiemForwarderTest {
         forwarder.setRestTemplate(restTemplate);
         var entityCaptor = org.mockito.ArgumentCaptor.forClass(HttpEntity.class);
         Mockito.when(restTemplate.postForEntity(Mockito.anyString(), any(HttpEntity.class), eq(Void.class)))
-                .thenThrow(new RuntimeException("net"))
-                .thenReturn(ResponseEntity.ok().build());
+                .thenThrow(new RuntimeException("net"));
 
         AuditEvent event = AuditEvent.builder()
                 .eventId(UUID.randomUUID())
@@ -54,7 +52,7 @@ class HttpSiemForwarderTest {
 
         forwarder.forward(event);
 
-        verify(restTemplate, Mockito.times(2)).postForEntity(Mockito.anyString(), entityCaptor.capture(), eq(Void.class));
+        verify(restTemplate, Mockito.times(1)).postForEntity(Mockito.anyString(), entityCaptor.capture(), eq(Void.class));
         HttpHeaders headers = entityCaptor.getValue().getHeaders();
         assertThat(headers.getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer token");
         assertThat(headers.getFirst("X-SIEM-SIGNATURE")).isNotBlank();
@@ -180,4 +178,42 @@ class HttpSiemForwarderTest {
         HttpHeaders headers = entityCaptor.getValue().getHeaders();
         assertThat(headers.getFirst("X-SIEM-SIGNATURE")).isNull();
     }
+
+    @Test
+    @DisplayName("기본 설정에서는 페이로드마다 단일 JSON 객체 본문으로 전송한다")
+    void sendsEachPayloadAsObjectByDefault() throws Exception {
+        SiemProperties props = new SiemProperties();
+        props.setEnabled(true);
+        props.setEndpoint("http://localhost/siem");
+
+        HttpSiemForwarder forwarder = new HttpSiemForwarder(props, new ObjectMapper().findAndRegisterModules());
+        RestTemplate rest = Mockito.mock(RestTemplate.class);
+        forwarder.setRestTemplate(rest);
+        var entityCaptor = org.mockito.ArgumentCaptor.forClass(HttpEntity.class);
+
+        forwarder.send(java.util.List.of("{\"a\":1}", "{\"b\":2}"));
+
+        verify(rest, Mockito.times(2)).postForEntity(Mockito.anyString(), entityCaptor.capture(), eq(Void.class));
+        assertThat(entityCaptor.getAllValues()).extracting(HttpEntity::getBody)
+                .containsExactly("{\"a\":1}", "{\"b\":2}");
+    }
+
+    @Test
+    @DisplayName("http-batch-enabled이면 여러 페이로드를 JSON 배열 한 요청으로 묶어 전송한다")
+    void sendsBatchAsJsonArrayWhenEnabled() throws Exception {
+        SiemProperties props = new SiemProperties();
+        props.setEnabled(true);
+        props.setEndpoint("http://localhost/siem");
+        props.setHttpBatchEnabled(true);
+
+        HttpSiemForwarder forwarder = new HttpSiemForwarder(props, new ObjectMapper().findAndRegisterModules());
+        RestTemplate rest = Mockito.mock(RestTemplate.class);
+        forwarder.setRestTemplate(rest);
+        var entityCaptor = org.mockito.ArgumentCaptor.forClass(HttpEntity.class);
+
+        forwarder.send(java.util.List.of("{\"a\":1}", "{\"b\":2}"));
+
+        verify(rest).postForEntity(Mockito.anyString(), entityCaptor.capture(), eq(Void.class));
+        assertThat(entityCaptor.getValue().getBody()).isEqualTo("[{\"a\":1},{\"b\":2}]");
+    }
 }
@@ -0,0 +1,134 @@
+package com.example.audit.infra.siem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SiemDeliveryChannelTest {
+
+    @TempDir
+    Path dir;
+
+    private SiemProperties props(int batchSize, int retry) {
+        SiemProperties props = new SiemProperties();
+        props.setBatchSize(batchSize);
+        props.setRetry(retry);
+        props.setRetryBackoffMs(10);
+        props.setMaxRetryBackoffMs(40);
+        props.setFlushIntervalMs(60_000);
+        props.setBufferReplayIntervalMs(60_000);
+        return props;
+    }
+
+    private SiemTransport transport() {
+        SiemTransport transport = mock(SiemTransport.class);
+        when(transport.name()).thenReturn("test");
+        return transport;
+    }
+
+    @Test
+    @DisplayName("batchSize가 차면 호출 스레드가 아닌 채널 스레드에서 한 번에 전송한다")
+    void sendsFullBatchOnChannelThread() throws Exception {
+        SiemTransport transport = transport();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SiemDeliveryChannel channel = new SiemDeliveryChannel(transport, new SiemRetryBuffer(dir, 10),
+                props(3, 1), registry);
+        channel.start();
+        try {
+            channel.offer("a");
+            channel.offer("b");
+            verify(transport, never()).send(anyList());
+            channel.offer("c");
+
+            verify(transport, timeout(2_000)).send(List.of("a", "b", "c"));
+        } finally {
+            channel.stop(1_000);
+        }
+        assertThat(registry.counter("audit_siem_delivered_total", "transport", "test").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("실패한 배치는 스케줄러에서 backoff 후 재시도한다")
+    void retriesOnScheduler() throws Exception {
+        SiemTransport transport = transport();
+        doThrow(new RuntimeException("down")).doNothing().when(transport).send(anyList());
+        SiemDeliveryChannel channel = new SiemDeliveryChannel(transport, new SiemRetryBuffer(dir, 10),
+                props(1, 3), new SimpleMeterRegistry());
+        channel.start();
+        try {
+            channel.offer("a");
+
+            verify(transport, timeout(2_000).times(2)).send(List.of("a"));
+        } finally {
+            channel.stop(1_000);
+        }
+        assertThat(new SiemRetryBuffer(dir, 10).pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재시도를 소진하면 디스크 버퍼에 보관하고 재전송 시 비운다")
+    void buffersAfterExhaustedRetriesAndReplays() throws Exception {
+        SiemTransport transport = transport();
+        doThrow(new RuntimeException("down")).when(transport).send(anyList());
+        SiemRetryBuffer buffer = new SiemRetryBuffer(dir, 10);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SiemDeliveryChannel channel = new SiemDeliveryChannel(transport, buffer, props(2, 1), registry);
+        channel.start();
+        try {
+            channel.offer("a");
+            channel.offer("b");
+            verify(transport, timeout(2_000)).send(List.of("a", "b"));
+        } finally {
+            channel.stop(1_000);
+        }
+        assertThat(buffer.pending()).hasSize(1);
+        assertThat(buffer.read(buffer.pending().get(0))).containsExactly("a", "b");
+        assertThat(registry.counter("audit_siem_buffered_total", "transport", "test").count()).isEqualTo(2.0);
+
+        doThrow(new RuntimeException("still down")).doNothing().when(transport).send(anyList());
+        channel.replay();
+        assertThat(buffer.pending()).hasSize(1);
+        channel.replay();
+        assertThat(buffer.pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 폐기하고 dropped로 계측한다")
+    void dropsWhenBufferFull() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SiemRetryBuffer buffer = new SiemRetryBuffer(dir, 1);
+        SiemDeliveryChannel channel = new SiemDeliveryChannel(transport(), buffer, props(10, 1), registry);
+
+        // 기동 전 offer는 큐를 거치지 않고 버퍼로 간다
+        channel.offer("a");
+        channel.offer("b");
+
+        assertThat(buffer.pending()).hasSize(1);
+        assertThat(registry.counter("audit_siem_dropped_total", "transport", "test").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("backoff는 지수적으로 늘고 상한을 넘지 않는다")
+    void backoffIsCapped() {
+        SiemDeliveryChannel channel = new SiemDeliveryChannel(transport(), new SiemRetryBuffer(dir, 1),
+                props(1, 5), new SimpleMeterRegistry());
+
+        assertThat(channel.backoff(1)).isEqualTo(10);
+        assertThat(channel.backoff(2)).isEqualTo(20);
+        assertThat(channel.backoff(5)).isEqualTo(40);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.audit.infra.siem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.audit.AuditEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class SiemDeliveryServiceTest {
+
+    @TempDir
+    java.nio.file.Path dir;
+
+    @Test
+    @DisplayName("전송이 없으면 스레드 없이 no-op 이다")
+    void noTransportsIsNoop() {
+        SiemDeliveryService service = new SiemDeliveryService(new SiemProperties(),
+                new ObjectMapper().findAndRegisterModules(), List.of(), null);
+
+        service.start();
+        service.forward(AuditEvent.builder().eventType("TEST").build());
+
+        assertThat(service.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이벤트를 한 번 직렬화해 모든 전송 채널로 분배한다")
+    void fansOutEncodedPayload() throws Exception {
+        SiemProperties props = new SiemProperties();
+        props.setBatchSize(1);
+        props.setBufferDirectory(dir.toString());
+        props.setWhitelist(List.of("eventType"));
+        SiemTransport http = mock(SiemTransport.class);
+        when(http.name()).thenReturn("http");
+        SiemTransport syslog = mock(SiemTransport.class);
+        when(syslog.name()).thenReturn("syslog");
+        SiemDeliveryService service = new SiemDeliveryService(props, new ObjectMapper().findAndRegisterModules(),
+                List.of(http, syslog), null);
+
+        service.start();
+        try {
+            service.forward(AuditEvent.builder().eventType("TEST").action("X").build());
+
+            verify(http, timeout(2_000)).send(List.of("{\"eventType\":\"TEST\"}"));
+            verify(syslog, timeout(2_000)).send(List.of("{\"eventType\":\"TEST\"}"));
+        } finally {
+            service.stop();
+        }
+    }
+}
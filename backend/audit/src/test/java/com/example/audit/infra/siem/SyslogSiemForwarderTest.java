@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.SocketAddress;
 
 import javax.net.ssl.SSLSocketFactory;
 
@@ -46,9 +48,11 @@ class SyslogSiemForwarderTest {
         props.setSyslogHost("localhost");
         props.setSyslogPort(6514);
 
+        Socket refused = Mockito.mock(Socket.class);
+        Mockito.doThrow(new java.io.IOException("Connection refused"))
+                .when(refused).connect(Mockito.any(), Mockito.anyInt());
         SSLSocketFactory factory = Mockito.mock(SSLSocketFactory.class);
-        Mockito.when(factory.createSocket("localhost", 6514))
-                .thenThrow(new java.io.IOException("Connection refused"));
+        Mockito.when(factory.createSocket()).thenReturn(refused);
 
         SyslogSiemForwarder forwarder = new SyslogSiemForwarder(props, new ObjectMapper().findAndRegisterModules());
         forwarder.setSocketFactory(factory);
@@ -56,7 +60,8 @@ class SyslogSiemForwarderTest {
         // 예외가 발생해도 throw 없이 정상 리턴
         forwarder.forward(AuditEvent.builder().eventType("TEST").build());
 
-        verify(factory).createSocket("localhost", 6514);
+        verify(factory).createSocket();
+        verify(refused).close();
     }
 
     @Test
@@ -73,16 +78,93 @@ class SyslogSiemForwarderTest {
         Socket mockSocket = Mockito.mock(Socket.class);
         Mockito.when(mockSocket.getOutputStream()).thenReturn(baos);
         SSLSocketFactory factory = Mockito.mock(SSLSocketFactory.class);
-        Mockito.when(factory.createSocket("localhost", 6514)).thenReturn(mockSocket);
+        Mockito.when(factory.createSocket()).thenReturn(mockSocket);
 
         SyslogSiemForwarder forwarder = new SyslogSiemForwarder(props, new ObjectMapper().findAndRegisterModules());
         forwarder.setSocketFactory(factory);
 
         forwarder.forward(AuditEvent.builder().eventType("TEST").build());
 
-        verify(factory).createSocket("localhost", 6514);
+        verify(factory).createSocket();
         String sent = baos.toString();
         assertThat(sent).contains("TEST");
         assertThat(sent).contains("<134>");
     }
+
+    @Test
+    @DisplayName("RFC 5425 octet-counting으로 프레이밍하고 연결을 재사용한다")
+    void framesWithOctetCountingAndReusesConnection() throws Exception {
+        SiemProperties props = new SiemProperties();
+        props.setMode("syslog");
+        props.setSyslogHost("localhost");
+        props.setSyslogPort(6514);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Socket mockSocket = Mockito.mock(Socket.class);
+        Mockito.when(mockSocket.getOutputStream()).thenReturn(baos);
+        SSLSocketFactory factory = Mockito.mock(SSLSocketFactory.class);
+        Mockito.when(factory.createSocket()).thenReturn(mockSocket);
+
+        SyslogSiemForwarder forwarder = new SyslogSiemForwarder(props, new ObjectMapper().findAndRegisterModules());
+        forwarder.setSocketFactory(factory);
+
+        forwarder.send(java.util.List.of("{\"a\":1}", "{\"b\":2}"));
+        forwarder.send(java.util.List.of("{\"c\":3}"));
+
+        Mockito.verify(factory, Mockito.times(1)).createSocket();
+        String sent = baos.toString(java.nio.charset.StandardCharsets.UTF_8);
+        int space = sent.indexOf(' ');
+        int length = Integer.parseInt(sent.substring(0, space));
+        String first = sent.substring(space + 1, space + 1 + length);
+        assertThat(first).startsWith("<134>1 ").endsWith("{\"a\":1}");
+        assertThat(sent).contains("{\"b\":2}").endsWith("{\"c\":3}");
+    }
+
+    @Test
+    @DisplayName("timeout-ms로 연결 타임아웃과 소켓 읽기 타임아웃을 건다")
+    void appliesTimeoutToConnectAndReads() throws Exception {
+        SiemProperties props = new SiemProperties();
+        props.setMode("syslog");
+        props.setSyslogHost("localhost");
+        props.setSyslogPort(6514);
+        props.setTimeoutMs(1500);
+
+        Socket socket = Mockito.mock(Socket.class);
+        Mockito.when(socket.getOutputStream()).thenReturn(new ByteArrayOutputStream());
+        SSLSocketFactory factory = Mockito.mock(SSLSocketFactory.class);
+        Mockito.when(factory.createSocket()).thenReturn(socket);
+
+        SyslogSiemForwarder forwarder = new SyslogSiemForwarder(props, new ObjectMapper().findAndRegisterModules());
+        forwarder.setSocketFactory(factory);
+
+        forwarder.send(java.util.List.of("{}"));
+
+        ArgumentCaptor<SocketAddress> address = ArgumentCaptor.forClass(SocketAddress.class);
+        verify(socket).setSoTimeout(1500);
+        verify(socket).connect(address.capture(), Mockito.eq(1500));
+        InetSocketAddress target = (InetSocketAddress) address.getValue();
+        assertThat(target.getHostString()).isEqualTo("localhost");
+        assertThat(target.getPort()).isEqualTo(6514);
+    }
+
+    @Test
+    @DisplayName("쓰기 실패한 연결은 폐기하고 예외를 던진다")
+    void discardsBrokenConnection() throws Exception {
+        SiemProperties props = new SiemProperties();
+        props.setMode("syslog");
+        props.setSyslogHost("localhost");
+        props.setSyslogPort(6514);
+
+        Socket broken = Mockito.mock(Socket.class);
+        Mockito.when(broken.getOutputStream()).thenThrow(new java.io.IOException("reset"));
+        SSLSocketFactory factory = Mockito.mock(SSLSocketFactory.class);
+        Mockito.when(factory.createSocket()).thenReturn(broken);
+
+        SyslogSiemForwarder forwarder = new SyslogSiemForwarder(props, new ObjectMapper().findAndRegisterModules());
+        forwarder.setSocketFactory(factory);
+
+        org.assertj.core.api.Assertions.assertThatThrownBy(() -> forwarder.send(java.util.List.of("{}")))
+                .isInstanceOf(java.io.IOException.class);
+        verify(broken).close();
+    }
 }
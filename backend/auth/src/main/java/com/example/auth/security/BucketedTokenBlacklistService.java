@@ -0,0 +1,271 @@
+package com.example.auth.security;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.Assert;
+
+/**
+ * {@link TokenBlacklistStore}에 만료 버킷 단위로 JTI를 보관하고, 버킷마다 로컬 Bloom 필터를 앞에 두는 블랙리스트.
+ *
+ * <p>대부분의 유효 토큰은 로컬 필터가 "확실히 없음"으로 답하므로 저장소(Redis 등)까지 가지 않는다.
+ * 필터가 "있을 수도 있음"으로 답할 때만 해당 버킷 하나를 저장소에서 확인한다. 저장소 조회가 실패하면
+ * 안전하게 블랙리스트된 것으로 본다.
+ *
+ * <p>추가는 저장소에 먼저 기록한 뒤 필터에 넣는다. 저장소 기록이 실패하면 예외를 호출자에게 그대로 올리고,
+ * 이 노드에서는 미기록 목록으로 즉시 차단하면서 정리 주기마다 저장소에 다시 기록한다.
+ *
+ * <p>다른 노드의 블랙리스트 추가는 {@link #acceptRemote(long, String)}로 필터에 반영하며, 놓친 알림은
+ * {@link #resync()}가 저장소를 다시 읽어 메운다. 마지막 재동기화가 {@code max-sync-age-ms}보다 오래됐거나 아직
+ * 한 번도 성공하지 않았다면 필터가 "없음"으로 답해도 저장소를 확인한다. 이때 저장소도 실패하면 다른 노드의 추가
+ * 역시 기록될 수 없으므로 필터의 답을 따른다. 만료 정리는 지난 버킷의 필터와 저장소 버킷을 통째로 버린다.
+ */
+@SuppressFBWarnings(
+    value = "EI_EXPOSE_REP2",
+    justification = "Store and clock are shared collaborators, not internal state")
+public class BucketedTokenBlacklistService implements TokenBlacklistService {
+
+  private static final Logger log = LoggerFactory.getLogger(BucketedTokenBlacklistService.class);
+
+  private final TokenBlacklistStore store;
+  private final long bucketSeconds;
+  private final int filterCapacity;
+  private final double falsePositiveRate;
+  private final Duration maxSyncAge;
+  private final Clock clock;
+  private final ConcurrentNavigableMap<Long, RevocationFilter> filters = new ConcurrentSkipListMap<>();
+  private final ConcurrentNavigableMap<Long, Set<String>> unsynced = new ConcurrentSkipListMap<>();
+  private volatile Instant lastSyncAt;
+
+  public BucketedTokenBlacklistService(TokenBlacklistStore store, JwtProperties.Blacklist properties) {
+    this(store, properties, Clock.systemUTC());
+  }
+
+  BucketedTokenBlacklistService(TokenBlacklistStore store, JwtProperties.Blacklist properties, Clock clock) {
+    Assert.isTrue(properties.getBucketSeconds() > 0, "security.jwt.blacklist.bucket-seconds must be positive");
+    Assert.isTrue(properties.getFalsePositiveRate() > 0 && properties.getFalsePositiveRate() < 1,
+        "security.jwt.blacklist.false-positive-rate must be between 0 and 1");
+    this.store = store;
+    this.bucketSeconds = properties.getBucketSeconds();
+    this.filterCapacity = properties.getFilterCapacity();
+    this.falsePositiveRate = properties.getFalsePositiveRate();
+    this.maxSyncAge = Duration.ofMillis(properties.getMaxSyncAgeMs());
+    this.clock = clock;
+  }
+
+  @Override
+  public void blacklist(String jti, Instant expiresAt) {
+    if (jti == null || expiresAt == null) {
+      return;
+    }
+    long bucket = bucketOf(expiresAt);
+    if (bucket < currentBucket()) {
+      return;
+    }
+    try {
+      store.add(bucket, jti, bucketExpiresAt(bucket));
+    } catch (RuntimeException ex) {
+      unsynced.computeIfAbsent(bucket, key -> ConcurrentHashMap.newKeySet()).add(jti);
+      log.error("Failed to store blacklisted jti={}, blocking locally until it is written", jti, ex);
+      throw ex;
+    }
+    filter(bucket).put(jti);
+    log.debug("Token blacklisted: jti={}, expiresAt={}, bucket={}", jti, expiresAt, bucket);
+  }
+
+  @Override
+  public boolean isBlacklisted(String jti, Instant expiresAt) {
+    if (jti == null) {
+      return false;
+    }
+    if (expiresAt == null) {
+      return isBlacklisted(jti);
+    }
+    if (!clock.instant().isBefore(expiresAt)) {
+      return false;
+    }
+    return maybeBlacklisted(bucketOf(expiresAt), jti);
+  }
+
+  /** 만료 시각을 모를 때는 살아 있는 모든 버킷의 필터를 확인한다. */
+  @Override
+  public boolean isBlacklisted(String jti) {
+    if (jti == null) {
+      return false;
+    }
+    for (Set<String> pending : unsynced.tailMap(currentBucket()).values()) {
+      if (pending.contains(jti)) {
+        return true;
+      }
+    }
+    long current = currentBucket();
+    for (Long bucket : filters.tailMap(current).keySet()) {
+      if (maybeBlacklisted(bucket, jti)) {
+        return true;
+      }
+    }
+    if (!syncStale()) {
+      return false;
+    }
+    try {
+      for (Long bucket : store.buckets()) {
+        if (bucket >= current && !filters.containsKey(bucket) && store.contains(bucket, jti)) {
+          return true;
+        }
+      }
+    } catch (RuntimeException ex) {
+      log.warn("Token blacklist fallback lookup failed for jti={}, using local filters only", jti, ex);
+    }
+    return false;
+  }
+
+  /** 다른 노드가 추가한 JTI를 로컬 필터에만 반영한다. */
+  public void acceptRemote(long bucket, String jti) {
+    if (jti == null || bucket < currentBucket()) {
+      return;
+    }
+    filter(bucket).put(jti);
+  }
+
+  /**
+   * 저장소의 살아 있는 버킷을 다시 읽어 필터에 합친다. 필터는 비트를 지우지 않으므로 재구성 중 추가된 항목도 잃지 않는다.
+   */
+  @Scheduled(fixedDelayString = "${security.jwt.blacklist.resync-interval-ms:30000}",
+      initialDelayString = "${security.jwt.blacklist.resync-initial-delay-ms:0}")
+  public void resync() {
+    flushUnsynced();
+    Instant startedAt = clock.instant();
+    long current = currentBucket();
+    int merged = 0;
+    try {
+      for (Long bucket : store.buckets()) {
+        if (bucket < current) {
+          continue;
+        }
+        RevocationFilter filter = filter(bucket);
+        int[] count = {0};
+        store.forEachMember(bucket, jti -> {
+          filter.put(jti);
+          count[0]++;
+        });
+        merged += count[0];
+      }
+    } catch (RuntimeException ex) {
+      log.warn("Failed to resync token blacklist filters from store", ex);
+      return;
+    }
+    lastSyncAt = startedAt;
+    log.debug("Resynced token blacklist filters: {} entries", merged);
+  }
+
+  @Override
+  @Scheduled(fixedRateString = "${security.jwt.blacklist.cleanup-interval-ms:60000}")
+  public void cleanupExpired() {
+    long current = currentBucket();
+    Map<Long, RevocationFilter> expired = filters.headMap(current);
+    int dropped = expired.size();
+    expired.clear();
+    unsynced.headMap(current).clear();
+    flushUnsynced();
+    try {
+      store.dropBefore(current);
+    } catch (RuntimeException ex) {
+      log.warn("Failed to drop expired token blacklist buckets from store", ex);
+    }
+    if (dropped > 0) {
+      log.info("Dropped {} expired token blacklist buckets, remaining: {}", dropped, filters.size());
+    }
+  }
+
+  /** 로컬 필터가 유지 중인 버킷 수 (모니터링용). */
+  public int bucketCount() {
+    return filters.size();
+  }
+
+  /** 로컬 필터 전체 비트 수 (모니터링용). */
+  public long filterBits() {
+    long bits = 0;
+    for (RevocationFilter filter : filters.values()) {
+      bits += filter.bitSize();
+    }
+    return bits;
+  }
+
+  /**
+   * 저장소 기록에 실패했던 JTI를 다시 기록한다. 저장소가 아직 실패하면 다음 주기로 미룬다.
+   * 비워진 버킷 항목은 만료 정리 때 함께 버린다.
+   */
+  private void flushUnsynced() {
+    for (Map.Entry<Long, Set<String>> entry : unsynced.entrySet()) {
+      long bucket = entry.getKey();
+      Set<String> members = entry.getValue();
+      for (String jti : members) {
+        try {
+          store.add(bucket, jti, bucketExpiresAt(bucket));
+        } catch (RuntimeException ex) {
+          log.warn("Token blacklist store still unavailable, retrying unsynced entries later", ex);
+          return;
+        }
+        filter(bucket).put(jti);
+        members.remove(jti);
+      }
+    }
+  }
+
+  private boolean maybeBlacklisted(long bucket, String jti) {
+    Set<String> pending = unsynced.get(bucket);
+    if (pending != null && pending.contains(jti)) {
+      return true;
+    }
+    RevocationFilter filter = filters.get(bucket);
+    if (filter == null || !filter.mightContain(jti)) {
+      return syncStale() && storeContainsOrFalse(bucket, jti);
+    }
+    try {
+      return store.contains(bucket, jti);
+    } catch (RuntimeException ex) {
+      log.warn("Token blacklist lookup failed, treating jti={} as blacklisted", jti, ex);
+      return true;
+    }
+  }
+
+  /** 놓친 알림을 메울 재동기화가 아직 없었거나 너무 오래됐는지. */
+  private boolean syncStale() {
+    Instant synced = lastSyncAt;
+    return synced == null || clock.instant().isAfter(synced.plus(maxSyncAge));
+  }
+
+  private boolean storeContainsOrFalse(long bucket, String jti) {
+    try {
+      return store.contains(bucket, jti);
+    } catch (RuntimeException ex) {
+      log.warn("Token blacklist fallback lookup failed for jti={}, using local filter only", jti, ex);
+      return false;
+    }
+  }
+
+  private RevocationFilter filter(long bucket) {
+    return filters.computeIfAbsent(bucket, key -> new RevocationFilter(filterCapacity, falsePositiveRate));
+  }
+
+  private long currentBucket() {
+    return bucketOf(clock.instant());
+  }
+
+  private long bucketOf(Instant instant) {
+    return Math.floorDiv(instant.getEpochSecond(), bucketSeconds);
+  }
+
+  private Instant bucketExpiresAt(long bucket) {
+    return Instant.ofEpochSecond((bucket + 1) * bucketSeconds);
+  }
+}
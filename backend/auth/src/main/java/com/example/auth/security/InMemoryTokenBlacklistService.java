@@ -5,6 +5,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -12,12 +13,15 @@ import org.springframework.stereotype.Service;
  * In-memory implementation of {@link TokenBlacklistService}.
  *
  * <p>This implementation stores blacklisted JTIs in a {@link ConcurrentHashMap}.
- * Suitable for single-instance deployments. For distributed deployments,
- * consider using a Redis-based implementation.
+ * Suitable for single-instance deployments. For distributed deployments, set
+ * {@code security.jwt.blacklist.store=redis} to use {@link BucketedTokenBlacklistService}
+ * backed by a shared store instead.
  *
  * <p>Expired entries are automatically cleaned up every 10 minutes.
  */
 @Service
+@ConditionalOnProperty(prefix = "security.jwt.blacklist", name = "store", havingValue = "memory",
+    matchIfMissing = true)
 public class InMemoryTokenBlacklistService implements TokenBlacklistService {
 
   private static final Logger log = LoggerFactory.getLogger(InMemoryTokenBlacklistService.class);
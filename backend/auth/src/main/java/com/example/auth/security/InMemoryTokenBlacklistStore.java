@@ -0,0 +1,50 @@
+package com.example.auth.security;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * 노드 로컬 {@link TokenBlacklistStore}. 테스트와 단일 노드 구성에서 공유 저장소 대신 쓴다.
+ */
+public class InMemoryTokenBlacklistStore implements TokenBlacklistStore {
+
+  private final ConcurrentNavigableMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+
+  @Override
+  public void add(long bucket, String jti, Instant bucketExpiresAt) {
+    buckets.computeIfAbsent(bucket, key -> ConcurrentHashMap.newKeySet()).add(jti);
+  }
+
+  @Override
+  public boolean contains(long bucket, String jti) {
+    Set<String> members = buckets.get(bucket);
+    return members != null && members.contains(jti);
+  }
+
+  @Override
+  public Set<Long> buckets() {
+    return Set.copyOf(buckets.keySet());
+  }
+
+  @Override
+  public void forEachMember(long bucket, Consumer<String> consumer) {
+    Set<String> members = buckets.get(bucket);
+    if (members != null) {
+      members.forEach(consumer);
+    }
+  }
+
+  @Override
+  public void dropBefore(long bucket) {
+    buckets.headMap(bucket).clear();
+  }
+
+  /** 보관 중인 JTI 수 (모니터링용). */
+  public int size() {
+    return buckets.values().stream().mapToInt(Set::size).sum();
+  }
+}
@@ -1,5 +1,6 @@
 package com.example.auth.security;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "security.jwt")
@@ -12,6 +13,9 @@ public class JwtProperties {
   private long defaultRefreshTokenSeconds = 24 * 3600; // 1일 (일반 로그인)
   private String issuer = "clear-reg";
   private String audience = "clear-reg-api";
+  /** 서명 검증을 마친 토큰을 보관할 최대 개수. 0이면 캐시하지 않는다. */
+  private long verifiedTokenCacheSize = 10_000;
+  private final Blacklist blacklist = new Blacklist();
 
   public String getSecret() {
     return secret;
@@ -68,4 +72,102 @@ public class JwtProperties {
   public void setDefaultRefreshTokenSeconds(long defaultRefreshTokenSeconds) {
     this.defaultRefreshTokenSeconds = defaultRefreshTokenSeconds;
   }
+
+  public long getVerifiedTokenCacheSize() {
+    return verifiedTokenCacheSize;
+  }
+
+  public void setVerifiedTokenCacheSize(long verifiedTokenCacheSize) {
+    this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+  }
+
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP",
+      justification = "Nested configuration properties are bound in place")
+  public Blacklist getBlacklist() {
+    return blacklist;
+  }
+
+  /** 토큰 블랙리스트 저장소 설정 ({@code security.jwt.blacklist.*}). */
+  public static class Blacklist {
+
+    /** {@code memory}(노드 로컬) 또는 {@code redis}(노드 간 공유). */
+    private String store = "memory";
+    /** 만료 시각 기준 버킷 폭(초). 버킷 단위로 만료·삭제된다. */
+    private long bucketSeconds = 3600;
+    /** 버킷별 Bloom 필터의 초기 용량. 넘치면 두 배 크기의 필터를 덧붙인다. */
+    private int filterCapacity = 10_000;
+    /** 필터 하나의 목표 오탐률. */
+    private double falsePositiveRate = 0.001;
+    /** 저장소를 다시 읽어 놓친 알림을 메우는 주기(ms). */
+    private long resyncIntervalMs = 30_000;
+    /** 마지막 재동기화가 이보다 오래되면 필터가 "없음"이라 답해도 저장소를 확인한다(ms). */
+    private long maxSyncAgeMs = 90_000;
+    private String keyPrefix = "auth:jwt-blacklist";
+    private String channel = "auth:jwt-blacklist:events";
+
+    public String getStore() {
+      return store;
+    }
+
+    public void setStore(String store) {
+      this.store = store;
+    }
+
+    public long getBucketSeconds() {
+      return bucketSeconds;
+    }
+
+    public void setBucketSeconds(long bucketSeconds) {
+      this.bucketSeconds = bucketSeconds;
+    }
+
+    public int getFilterCapacity() {
+      return filterCapacity;
+    }
+
+    public void setFilterCapacity(int filterCapacity) {
+      this.filterCapacity = filterCapacity;
+    }
+
+    public long getResyncIntervalMs() {
+      return resyncIntervalMs;
+    }
+
+    public void setResyncIntervalMs(long resyncIntervalMs) {
+      this.resyncIntervalMs = resyncIntervalMs;
+    }
+
+    public long getMaxSyncAgeMs() {
+      return maxSyncAgeMs;
+    }
+
+    public void setMaxSyncAgeMs(long maxSyncAgeMs) {
+      this.maxSyncAgeMs = maxSyncAgeMs;
+    }
+
+    public double getFalsePositiveRate() {
+      return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+      this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public String getKeyPrefix() {
+      return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+      this.keyPrefix = keyPrefix;
+    }
+
+    public String getChannel() {
+      return channel;
+    }
+
+    public void setChannel(String channel) {
+      this.channel = channel;
+    }
+  }
 }
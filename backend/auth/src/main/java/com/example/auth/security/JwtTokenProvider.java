@@ -1,18 +1,28 @@
 package com.example.auth.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.SignatureException;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import javax.crypto.spec.SecretKeySpec;
 import org.slf4j.Logger;
@@ -32,6 +42,10 @@ public class JwtTokenProvider {
   private final JwtProperties properties;
   private final Key key;
   private final TokenBlacklistService tokenBlacklistService;
+  /** 서명 키와 issuer/audience 검증이 고정된 파서. 스레드 안전하므로 재사용한다. */
+  private final JwtParser parser;
+  /** 토큰 SHA-256 해시 → 검증 결과. 토큰 만료 시각에 맞춰 비운다. 비활성화 시 null. */
+  private final Cache<String, VerifiedToken> verifiedTokens;
 
   public JwtTokenProvider(JwtProperties properties, TokenBlacklistService tokenBlacklistService) {
     Assert.hasText(properties.getSecret(), "security.jwt.secret must be configured");
@@ -44,6 +58,19 @@ public class JwtTokenProvider {
     this.properties = properties;
     this.key = new SecretKeySpec(keyBytes, SignatureAlgorithm.HS256.getJcaName());
     this.tokenBlacklistService = tokenBlacklistService;
+    this.parser =
+        Jwts.parserBuilder()
+            .setSigningKey(key)
+            .requireIssuer(properties.getIssuer())
+            .requireAudience(properties.getAudience())
+            .build();
+    this.verifiedTokens =
+        properties.getVerifiedTokenCacheSize() > 0
+            ? Caffeine.newBuilder()
+                .maximumSize(properties.getVerifiedTokenCacheSize())
+                .expireAfter(new UntilTokenExpiry())
+                .build()
+            : null;
   }
 
   public JwtToken generateAccessToken(String username, Collection<String> roles) {
@@ -78,26 +105,60 @@ public class JwtTokenProvider {
   }
 
   public boolean isValid(String token) {
-    try {
-      Claims claims = parseClaims(token);
-      String jti = claims.getId();
-      if (jti != null && tokenBlacklistService.isBlacklisted(jti)) {
-        log.debug("Token is blacklisted: jti={}", jti);
-        return false;
+    return verify(token).isPresent();
+  }
+
+  /**
+   * 토큰을 한 번 파싱·검증해 사용자명/역할/JTI를 돌려준다. 서명이 틀리거나 만료, 블랙리스트된 토큰이면 empty.
+   *
+   * <p>검증된 토큰은 해시 기준으로 만료 시각까지 캐시하므로 같은 토큰의 재검증은 해시 조회로 끝난다.
+   * 블랙리스트는 캐시 적중 시에도 매번 확인한다.
+   */
+  public Optional<VerifiedToken> verify(String token) {
+    if (token == null || token.isBlank()) {
+      return Optional.empty();
+    }
+    String cacheKey = verifiedTokens != null ? hash(token) : null;
+    VerifiedToken verified = cacheKey != null ? verifiedTokens.getIfPresent(cacheKey) : null;
+    if (verified == null) {
+      verified = parseVerified(token);
+      if (verified == null) {
+        return Optional.empty();
+      }
+      if (cacheKey != null && verified.expiresAt() != null) {
+        verifiedTokens.put(cacheKey, verified);
       }
-      return true;
+    } else if (verified.isExpired(Instant.now())) {
+      verifiedTokens.invalidate(cacheKey);
+      return Optional.empty();
+    }
+    if (verified.jti() != null && tokenBlacklistService.isBlacklisted(verified.jti(), verified.expiresAt())) {
+      log.debug("Token is blacklisted: jti={}", verified.jti());
+      return Optional.empty();
+    }
+    return Optional.of(verified);
+  }
+
+  /** 검증 캐시에 있는 토큰 수 (모니터링용). */
+  public long verifiedTokenCount() {
+    return verifiedTokens != null ? verifiedTokens.estimatedSize() : 0;
+  }
+
+  private VerifiedToken parseVerified(String token) {
+    try {
+      return VerifiedToken.of(parseClaims(token));
     } catch (ExpiredJwtException e) {
       log.debug("Token expired: {}", e.getMessage());
-      return false;
+      return null;
     } catch (MalformedJwtException e) {
       log.warn("Malformed token detected: {}", e.getMessage());
-      return false;
+      return null;
     } catch (SignatureException e) {
       log.warn("Invalid signature detected: {}", e.getMessage());
-      return false;
+      return null;
     } catch (Exception e) {
       log.error("Unexpected token validation error", e);
-      return false;
+      return null;
     }
   }
 
@@ -122,29 +183,83 @@ public class JwtTokenProvider {
       String jti = claims.getId();
       if (jti != null) {
         Instant expiresAt = claims.getExpiration().toInstant();
+        if (verifiedTokens != null) {
+          verifiedTokens.invalidate(hash(token));
+        }
+        // 저장소 기록 실패는 무효화 실패이므로 삼키지 않고 호출자에게 올린다.
         tokenBlacklistService.blacklist(jti, expiresAt);
         log.debug("Token invalidated: jti={}", jti);
       }
     } catch (ExpiredJwtException e) {
       // 이미 만료된 토큰은 무효화할 필요 없음
       log.debug("Token already expired, no need to blacklist");
-    } catch (Exception e) {
+    } catch (JwtException | IllegalArgumentException e) {
       log.warn("Failed to invalidate token: {}", e.getMessage());
     }
   }
 
   private Claims parseClaims(String token) {
-    return Jwts.parserBuilder()
-        .setSigningKey(key)
-        .requireIssuer(properties.getIssuer())
-        .requireAudience(properties.getAudience())
-        .build()
-        .parseClaimsJws(token)
-        .getBody();
+    return parser.parseClaimsJws(token).getBody();
+  }
+
+  private static String hash(String token) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
   }
 
   @SuppressFBWarnings(
       value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"},
       justification = "Token record is immutable except Instant which is immutable")
   public record JwtToken(String value, Instant expiresAt, String jti) {}
+
+  /** 서명 검증을 마친 토큰의 내용. */
+  @SuppressFBWarnings(
+      value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"},
+      justification = "Roles list is copied on creation; Instant is immutable")
+  public record VerifiedToken(String username, List<String> roles, String jti, Instant expiresAt) {
+
+    public VerifiedToken {
+      roles = roles != null ? List.copyOf(roles) : List.of();
+    }
+
+    @SuppressWarnings("unchecked")
+    static VerifiedToken of(Claims claims) {
+      Date expiration = claims.getExpiration();
+      return new VerifiedToken(
+          claims.getSubject(),
+          claims.get("roles", List.class),
+          claims.getId(),
+          expiration != null ? expiration.toInstant() : null);
+    }
+
+    boolean isExpired(Instant now) {
+      return expiresAt != null && !now.isBefore(expiresAt);
+    }
+  }
+
+  /** 캐시 항목을 토큰의 만료 시각까지만 유지한다. */
+  private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      return Math.max(0L, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
 }
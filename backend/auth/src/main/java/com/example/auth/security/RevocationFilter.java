@@ -0,0 +1,115 @@
+package com.example.auth.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블랙리스트 버킷 하나에 대한 Bloom 필터. {@code mightContain}이 false면 해당 버킷에 JTI가 확실히 없다.
+ *
+ * <p>초기 용량을 넘기면 두 배 용량, 절반 오탐률의 세그먼트를 덧붙이므로(scalable Bloom filter)
+ * 대량 로그아웃이 몰려도 오탐률이 목표치 근처에 머문다. 쓰기는 직렬화하고 읽기는 잠금 없이 수행한다.
+ */
+final class RevocationFilter {
+
+  private static final double LN2 = Math.log(2);
+
+  private volatile Segment[] segments;
+
+  RevocationFilter(int capacity, double falsePositiveRate) {
+    this.segments = new Segment[] {new Segment(Math.max(16, capacity), falsePositiveRate)};
+  }
+
+  synchronized void put(String value) {
+    Segment[] current = segments;
+    Segment last = current[current.length - 1];
+    if (last.count >= last.capacity) {
+      Segment[] grown = Arrays.copyOf(current, current.length + 1);
+      last = new Segment(last.capacity * 2, last.falsePositiveRate / 2);
+      grown[current.length] = last;
+      segments = grown;
+    }
+    long hash = hash(value);
+    if (!last.mightContain(hash)) {
+      last.put(hash);
+    }
+  }
+
+  boolean mightContain(String value) {
+    long hash = hash(value);
+    for (Segment segment : segments) {
+      if (segment.mightContain(hash)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** 필터가 차지하는 비트 수 (모니터링용). */
+  long bitSize() {
+    long bits = 0;
+    for (Segment segment : segments) {
+      bits += segment.bits;
+    }
+    return bits;
+  }
+
+  /** FNV-1a 64비트 해시에 MurmurHash3 finalizer를 적용한다. */
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  private static final class Segment {
+
+    private final int capacity;
+    private final double falsePositiveRate;
+    private final long bits;
+    private final int hashes;
+    private final AtomicLongArray words;
+    /** 필터 잠금 안에서만 읽고 쓴다. */
+    private int count;
+
+    private Segment(int capacity, double falsePositiveRate) {
+      this.capacity = capacity;
+      this.falsePositiveRate = falsePositiveRate;
+      long size = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2));
+      this.bits = Math.max(64, (size + 63) / 64 * 64);
+      this.hashes = Math.max(1, (int) Math.round((double) bits / capacity * LN2));
+      this.words = new AtomicLongArray((int) (bits / 64));
+    }
+
+    /** Kirsch–Mitzenmacher 이중 해싱으로 k개의 비트 위치를 만든다. */
+    private void put(long hash) {
+      int h1 = (int) hash;
+      int h2 = (int) (hash >>> 32);
+      for (int i = 1; i <= hashes; i++) {
+        long index = Math.floorMod(h1 + (long) i * h2, bits);
+        long mask = 1L << index;
+        words.getAndAccumulate((int) (index >>> 6), mask, (word, bit) -> word | bit);
+      }
+      count++;
+    }
+
+    private boolean mightContain(long hash) {
+      int h1 = (int) hash;
+      int h2 = (int) (hash >>> 32);
+      for (int i = 1; i <= hashes; i++) {
+        long index = Math.floorMod(h1 + (long) i * h2, bits);
+        if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
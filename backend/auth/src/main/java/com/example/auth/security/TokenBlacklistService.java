@@ -27,6 +27,20 @@ public interface TokenBlacklistService {
    */
   boolean isBlacklisted(String jti);
 
+  /**
+   * Checks if a token's JTI is in the blacklist, given the token's expiration time.
+   *
+   * <p>Implementations that shard entries by expiry can use {@code expiresAt} to look at a
+   * single shard. The default delegates to {@link #isBlacklisted(String)}.
+   *
+   * @param jti the JWT ID to check
+   * @param expiresAt the expiration time of the token, may be null
+   * @return true if the token is blacklisted, false otherwise
+   */
+  default boolean isBlacklisted(String jti, Instant expiresAt) {
+    return isBlacklisted(jti);
+  }
+
   /**
    * Removes expired entries from the blacklist.
    * This is typically called periodically by a scheduled task.
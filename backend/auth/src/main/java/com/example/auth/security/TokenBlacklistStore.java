@@ -0,0 +1,34 @@
+package com.example.auth.security;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 블랙리스트된 JTI를 만료 버킷 단위로 보관하는 저장소.
+ *
+ * <p>버킷은 토큰 만료 시각을 {@code security.jwt.blacklist.bucket-seconds} 폭으로 나눈 번호이며,
+ * 버킷에 속한 모든 토큰이 만료되면 버킷을 통째로 버린다. 항목별 만료 스캔은 하지 않는다.
+ *
+ * @see BucketedTokenBlacklistService
+ */
+public interface TokenBlacklistStore {
+
+  /**
+   * 버킷에 JTI를 추가한다. 공유 저장소는 다른 노드에도 추가 사실을 알린다.
+   *
+   * @param bucketExpiresAt 버킷의 모든 토큰이 만료되는 시각
+   */
+  void add(long bucket, String jti, Instant bucketExpiresAt);
+
+  boolean contains(long bucket, String jti);
+
+  /** 아직 버려지지 않은 버킷 번호. */
+  Set<Long> buckets();
+
+  /** 버킷의 모든 JTI를 순회한다. 필터 재구성용. */
+  void forEachMember(long bucket, Consumer<String> consumer);
+
+  /** {@code bucket}보다 앞선 버킷을 모두 버린다. */
+  void dropBefore(long bucket);
+}
@@ -0,0 +1,276 @@
+package com.example.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BucketedTokenBlacklistService 테스트")
+class BucketedTokenBlacklistServiceTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:30:00Z");
+
+  private MutableClock clock;
+  private InMemoryTokenBlacklistStore store;
+  private JwtProperties.Blacklist properties;
+  private BucketedTokenBlacklistService service;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(NOW);
+    store = spy(new InMemoryTokenBlacklistStore());
+    properties = new JwtProperties.Blacklist();
+    properties.setBucketSeconds(3600);
+    properties.setFilterCapacity(100);
+    service = new BucketedTokenBlacklistService(store, properties, clock);
+  }
+
+  @Nested
+  @DisplayName("블랙리스트 추가/확인 테스트")
+  class BlacklistTests {
+
+    @Test
+    @DisplayName("Given 블랙리스트된 JTI When isBlacklisted Then 만료 시각 유무와 관계없이 true")
+    void blacklistedJtiIsFound() {
+      Instant expiresAt = NOW.plusSeconds(900);
+
+      service.blacklist("jti-1", expiresAt);
+
+      assertThat(service.isBlacklisted("jti-1", expiresAt)).isTrue();
+      assertThat(service.isBlacklisted("jti-1")).isTrue();
+      assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given 블랙리스트되지 않은 JTI When isBlacklisted Then 필터에서 걸러져 저장소를 조회하지 않는다")
+    void unknownJtiSkipsStore() {
+      service.resync();
+      service.blacklist("jti-1", NOW.plusSeconds(900));
+
+      assertThat(service.isBlacklisted("jti-2", NOW.plusSeconds(900))).isFalse();
+      assertThat(service.isBlacklisted("jti-3", NOW.plusSeconds(7200))).isFalse();
+
+      verify(store, never()).contains(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("Given 이미 만료된 토큰 When blacklist/isBlacklisted Then 저장하지 않고 false")
+    void expiredTokenIgnored() {
+      service.blacklist("old", NOW.minusSeconds(7200));
+
+      assertThat(service.isBlacklisted("old", NOW.minusSeconds(7200))).isFalse();
+      assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Given null 값 When blacklist/isBlacklisted Then 무시된다")
+    void nullValuesIgnored() {
+      service.blacklist(null, NOW.plusSeconds(60));
+      service.blacklist("jti", null);
+
+      assertThat(service.isBlacklisted(null)).isFalse();
+      assertThat(service.isBlacklisted(null, NOW)).isFalse();
+      assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Given 저장소 조회 실패 When 필터가 일치 Then 블랙리스트된 것으로 본다")
+    void storeFailureFailsClosed() {
+      service.blacklist("jti-1", NOW.plusSeconds(900));
+      doThrow(new IllegalStateException("redis down")).when(store).contains(anyLong(), anyString());
+
+      assertThat(service.isBlacklisted("jti-1", NOW.plusSeconds(900))).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("저장소 기록 실패 테스트")
+  class StoreWriteFailureTests {
+
+    @Test
+    @DisplayName("Given 저장소 기록 실패 When blacklist Then 예외를 올리고 이 노드에서는 차단한다")
+    void storeWriteFailurePropagatesAndBlocksLocally() {
+      Instant expiresAt = NOW.plusSeconds(900);
+      doThrow(new IllegalStateException("redis down"))
+          .when(store).add(anyLong(), anyString(), any(Instant.class));
+
+      assertThatThrownBy(() -> service.blacklist("jti-1", expiresAt))
+          .isInstanceOf(IllegalStateException.class);
+
+      assertThat(service.isBlacklisted("jti-1", expiresAt)).isTrue();
+      assertThat(service.isBlacklisted("jti-1")).isTrue();
+      assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Given 기록 실패한 JTI When 저장소가 회복된 뒤 정리 주기 Then 저장소에 다시 기록한다")
+    void unsyncedEntriesAreRewrittenOnCleanup() {
+      Instant expiresAt = NOW.plusSeconds(900);
+      doThrow(new IllegalStateException("redis down"))
+          .doCallRealMethod()
+          .when(store).add(anyLong(), anyString(), any(Instant.class));
+      assertThatThrownBy(() -> service.blacklist("jti-1", expiresAt))
+          .isInstanceOf(IllegalStateException.class);
+
+      service.cleanupExpired();
+
+      assertThat(store.size()).isEqualTo(1);
+      assertThat(service.isBlacklisted("jti-1")).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("노드 간 동기화 테스트")
+  class SyncTests {
+
+    @Test
+    @DisplayName("Given 다른 노드가 추가한 JTI When acceptRemote Then 필터에 반영되어 저장소를 조회한다")
+    void acceptRemoteFeedsFilter() {
+      service.resync();
+      long bucket = NOW.plusSeconds(900).getEpochSecond() / 3600;
+      store.add(bucket, "remote", Instant.ofEpochSecond((bucket + 1) * 3600));
+
+      assertThat(service.isBlacklisted("remote", NOW.plusSeconds(900))).isFalse();
+
+      service.acceptRemote(bucket, "remote");
+
+      assertThat(service.isBlacklisted("remote", NOW.plusSeconds(900))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given 알림을 놓친 항목 When resync Then 저장소에서 다시 읽어 필터에 합친다")
+    void resyncLoadsMissedEntries() {
+      long bucket = NOW.plusSeconds(900).getEpochSecond() / 3600;
+      store.add(bucket, "missed", Instant.ofEpochSecond((bucket + 1) * 3600));
+
+      service.resync();
+
+      assertThat(service.isBlacklisted("missed")).isTrue();
+      assertThat(service.bucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given 재동기화 전 When 필터에 없는 JTI Then 저장소를 확인해 다른 노드의 추가를 찾는다")
+    void checksStoreBeforeFirstResync() {
+      long bucket = NOW.plusSeconds(900).getEpochSecond() / 3600;
+      store.add(bucket, "remote", Instant.ofEpochSecond((bucket + 1) * 3600));
+
+      assertThat(service.isBlacklisted("remote", NOW.plusSeconds(900))).isTrue();
+      assertThat(service.isBlacklisted("remote")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given 마지막 재동기화가 max-sync-age-ms보다 오래됨 When 필터에 없는 JTI Then 저장소를 확인한다")
+    void checksStoreWhenSyncIsStale() {
+      service.resync();
+      long bucket = NOW.plusSeconds(3 * 3600).getEpochSecond() / 3600;
+      store.add(bucket, "missed", Instant.ofEpochSecond((bucket + 1) * 3600));
+
+      clock.set(NOW.plusMillis(properties.getMaxSyncAgeMs()));
+      assertThat(service.isBlacklisted("missed", NOW.plusSeconds(3 * 3600))).isFalse();
+
+      clock.set(NOW.plusMillis(properties.getMaxSyncAgeMs() + 1));
+      assertThat(service.isBlacklisted("missed", NOW.plusSeconds(3 * 3600))).isTrue();
+      assertThat(service.isBlacklisted("missed")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given 오래된 동기화와 저장소 조회 실패 When 필터에 없는 JTI Then 필터의 답을 따른다")
+    void staleFallbackStoreFailureUsesFilter() {
+      doThrow(new IllegalStateException("redis down")).when(store).contains(anyLong(), anyString());
+      doThrow(new IllegalStateException("redis down")).when(store).buckets();
+
+      assertThat(service.isBlacklisted("jti-1", NOW.plusSeconds(900))).isFalse();
+      assertThat(service.isBlacklisted("jti-1")).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("정리 테스트")
+  class CleanupTests {
+
+    @Test
+    @DisplayName("Given 지난 버킷 When cleanupExpired Then 필터와 저장소 버킷을 통째로 버린다")
+    void cleanupDropsWholeBuckets() {
+      service.blacklist("short", NOW.plusSeconds(60));
+      service.blacklist("long", NOW.plusSeconds(3 * 3600));
+      clock.set(NOW.plusSeconds(2 * 3600));
+
+      service.cleanupExpired();
+
+      assertThat(service.bucketCount()).isEqualTo(1);
+      assertThat(store.size()).isEqualTo(1);
+      assertThat(service.isBlacklisted("long")).isTrue();
+      assertThat(service.isBlacklisted("short")).isFalse();
+    }
+  }
+
+  @Test
+  @DisplayName("Given 대량 블랙리스트 When 초기 용량 초과 Then 필터가 늘어나도 모두 찾는다")
+  void filterGrowsBeyondCapacity() {
+    Instant expiresAt = NOW.plusSeconds(900);
+    for (int i = 0; i < 1_000; i++) {
+      service.blacklist("bulk-" + i, expiresAt);
+    }
+
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(service.isBlacklisted("bulk-" + i, expiresAt)).isTrue();
+    }
+    assertThat(service.filterBits()).isGreaterThan(0);
+  }
+
+  @Test
+  @DisplayName("Given 토큰 When blacklist Then 만료 버킷 번호와 버킷 종료 시각으로 저장한다")
+  void storesByExpiryBucket() {
+    TokenBlacklistStore mockStore = mock(TokenBlacklistStore.class);
+    BucketedTokenBlacklistService bucketed = new BucketedTokenBlacklistService(mockStore, properties, clock);
+
+    bucketed.blacklist("jti", Instant.parse("2026-01-01T10:45:00Z"));
+
+    long bucket = Instant.parse("2026-01-01T10:00:00Z").getEpochSecond() / 3600;
+    verify(mockStore).add(bucket, "jti", Instant.parse("2026-01-01T11:00:00Z"));
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void set(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
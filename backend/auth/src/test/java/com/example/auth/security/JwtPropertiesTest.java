@@ -20,6 +20,7 @@ class JwtPropertiesTest {
     properties.setDefaultRefreshTokenSeconds(43200);
     properties.setIssuer("test-issuer");
     properties.setAudience("test-audience");
+    properties.setVerifiedTokenCacheSize(500);
 
     assertThat(properties.getSecret()).isEqualTo("test-secret");
     assertThat(properties.getAccessTokenSeconds()).isEqualTo(1800);
@@ -28,6 +29,7 @@ class JwtPropertiesTest {
     assertThat(properties.getDefaultRefreshTokenSeconds()).isEqualTo(43200);
     assertThat(properties.getIssuer()).isEqualTo("test-issuer");
     assertThat(properties.getAudience()).isEqualTo("test-audience");
+    assertThat(properties.getVerifiedTokenCacheSize()).isEqualTo(500);
   }
 
   @Test
@@ -41,5 +43,6 @@ class JwtPropertiesTest {
     assertThat(properties.getDefaultRefreshTokenSeconds()).isEqualTo(24 * 3600);
     assertThat(properties.getIssuer()).isEqualTo("clear-reg");
     assertThat(properties.getAudience()).isEqualTo("clear-reg-api");
+    assertThat(properties.getVerifiedTokenCacheSize()).isEqualTo(10_000);
   }
 }
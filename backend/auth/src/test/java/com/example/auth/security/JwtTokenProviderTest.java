@@ -11,6 +11,7 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.List;
 import javax.crypto.spec.SecretKeySpec;
@@ -133,7 +134,7 @@ class JwtTokenProviderTest {
     @Test
     @DisplayName("Given 블랙리스트된 토큰 When isValid Then false 반환")
     void blacklistedTokenReturnsFalse() {
-      when(blacklistService.isBlacklisted(any())).thenReturn(true);
+      when(blacklistService.isBlacklisted(any(), any())).thenReturn(true);
       JwtTokenProvider provider = new JwtTokenProvider(properties, blacklistService);
       JwtTokenProvider.JwtToken token =
           provider.generateAccessToken("tester", List.of("ROLE_USER"));
@@ -263,5 +264,90 @@ class JwtTokenProviderTest {
       // 예외가 발생하지 않아야 함
       provider.invalidate("invalid.token");
     }
+
+    @Test
+    @DisplayName("Given 블랙리스트 저장 실패 When invalidate Then 예외를 삼키지 않는다")
+    void invalidatePropagatesBlacklistFailure() {
+      JwtTokenProvider provider = new JwtTokenProvider(properties, blacklistService);
+      JwtTokenProvider.JwtToken token =
+          provider.generateAccessToken("tester", List.of("ROLE_USER"));
+      org.mockito.Mockito.doThrow(new IllegalStateException("redis down"))
+          .when(blacklistService).blacklist(any(String.class), any(Instant.class));
+
+      assertThatThrownBy(() -> provider.invalidate(token.value()))
+          .isInstanceOf(IllegalStateException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("검증 캐시 테스트")
+  class VerifiedTokenCacheTests {
+
+    @Test
+    @DisplayName("Given 유효한 토큰 When verify Then 사용자명/역할/JTI/만료를 한 번에 반환하고 캐시한다")
+    void verifyReturnsClaimsAndCaches() {
+      JwtTokenProvider provider = new JwtTokenProvider(properties, blacklistService);
+      JwtTokenProvider.JwtToken token =
+          provider.generateAccessToken("tester", List.of("ROLE_USER", "ROLE_ADMIN"));
+
+      JwtTokenProvider.VerifiedToken verified = provider.verify(token.value()).orElseThrow();
+      JwtTokenProvider.VerifiedToken again = provider.verify(token.value()).orElseThrow();
+
+      assertThat(verified.username()).isEqualTo("tester");
+      assertThat(verified.roles()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+      assertThat(verified.jti()).isEqualTo(token.jti());
+      assertThat(verified.expiresAt()).isEqualTo(token.expiresAt().truncatedTo(ChronoUnit.SECONDS));
+      assertThat(again).isSameAs(verified);
+      assertThat(provider.verifiedTokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given 캐시된 토큰 When 이후 블랙리스트되면 Then verify는 empty 반환")
+    void cachedTokenStillChecksBlacklist() {
+      when(blacklistService.isBlacklisted(any(), any())).thenReturn(false, true);
+      JwtTokenProvider provider = new JwtTokenProvider(properties, blacklistService);
+      JwtTokenProvider.JwtToken token =
+          provider.generateAccessToken("tester", List.of("ROLE_USER"));
+
+      assertThat(provider.verify(token.value())).isPresent();
+      assertThat(provider.verify(token.value())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given 캐시된 토큰 When invalidate Then 캐시에서도 제거된다")
+    void invalidateEvictsCachedToken() {
+      JwtTokenProvider provider = new JwtTokenProvider(properties, blacklistService);
+      JwtTokenProvider.JwtToken token =
+          provider.generateAccessToken("tester", List.of("ROLE_USER"));
+      provider.verify(token.value());
+
+      provider.invalidate(token.value());
+
+      assertThat(provider.verifiedTokenCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Given 캐시 크기 0 When verify Then 캐시 없이 매번 검증한다")
+    void disabledCacheStillVerifies() {
+      properties.setVerifiedTokenCacheSize(0);
+      JwtTokenProvider provider = new JwtTokenProvider(properties, blacklistService);
+      JwtTokenProvider.JwtToken token =
+          provider.generateAccessToken("tester", List.of("ROLE_USER"));
+
+      assertThat(provider.verify(token.value())).isPresent();
+      assertThat(provider.verify("invalid.token")).isEmpty();
+      assertThat(provider.verify(null)).isEmpty();
+      assertThat(provider.verifiedTokenCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Given 잘못된 토큰 When verify Then 캐시에 넣지 않는다")
+    void invalidTokenIsNotCached() {
+      JwtTokenProvider provider = new JwtTokenProvider(properties, blacklistService);
+
+      assertThat(provider.verify("invalid.token")).isEmpty();
+      assertThat(provider.verify(" ")).isEmpty();
+      assertThat(provider.verifiedTokenCount()).isZero();
+    }
   }
 }
@@ -0,0 +1,41 @@
+package com.example.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RevocationFilter 테스트")
+class RevocationFilterTest {
+
+  @Test
+  @DisplayName("Given 추가된 값 When mightContain Then 항상 true (false negative 없음)")
+  void noFalseNegatives() {
+    RevocationFilter filter = new RevocationFilter(64, 0.01);
+    for (int i = 0; i < 5_000; i++) {
+      filter.put("jti-" + i);
+    }
+
+    for (int i = 0; i < 5_000; i++) {
+      assertThat(filter.mightContain("jti-" + i)).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("Given 용량만큼 채운 필터 When 없는 값 조회 Then 오탐률이 목표치 근처에 머문다")
+  void falsePositiveRateStaysNearTarget() {
+    RevocationFilter filter = new RevocationFilter(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put("revoked-" + i);
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (filter.mightContain("valid-" + i)) {
+        falsePositives++;
+      }
+    }
+
+    assertThat(falsePositives).isLessThan(2_000);
+  }
+}
@@ -0,0 +1,63 @@
+package com.example.batch.cache;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.common.cache.CacheInvalidationEvent;
+import com.example.common.cache.CacheInvalidationType;
+import com.example.dw.application.readmodel.OrganizationChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 조직 동기화 커밋 후 바뀐 조직 코드를 캐시 무효화 채널로 알린다.
+ * <p>
+ * 코드 목록은 {@code scopeId}에 쉼표로 이어 보내며, 서버는 해당 노드만 Read Model에 다시 쓴다.
+ * 코드가 {@link #MAX_CODES_PER_EVENT}개를 넘으면 {@code scopeId} 없이 보내 전체 재구성을 요청한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cache.invalidation", name = "enabled", havingValue = "true")
+public class OrganizationChangeBroadcaster {
+
+    static final int MAX_CODES_PER_EVENT = 1000;
+
+    private static final Logger log = LoggerFactory.getLogger(OrganizationChangeBroadcaster.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationProperties properties;
+
+    public OrganizationChangeBroadcaster(StringRedisTemplate redisTemplate,
+                                         ObjectMapper objectMapper,
+                                         CacheInvalidationProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizationChanged(OrganizationChangedEvent event) {
+        Set<String> codes = new LinkedHashSet<>(event.organizationCodes());
+        if (codes.isEmpty()) {
+            return;
+        }
+        String scopeId = codes.size() > MAX_CODES_PER_EVENT ? null : String.join(",", codes);
+        CacheInvalidationEvent invalidation = new CacheInvalidationEvent(
+                CacheInvalidationType.ORGANIZATION, null, scopeId, System.currentTimeMillis(), Instant.now());
+        try {
+            redisTemplate.convertAndSend(properties.getChannel(), objectMapper.writeValueAsString(invalidation));
+            log.debug("Broadcast organization change: batch={}, codes={}", event.sourceBatchId(), codes.size());
+        }
+        catch (JsonProcessingException e) {
+            log.error("Failed to serialize organization change event {}", invalidation, e);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.example.dw.dto.DataFeedType;
+
 @Configuration
 public class BatchAsyncConfig {
 
@@ -12,8 +14,9 @@ public class BatchAsyncConfig {
     public TaskExecutor dwIngestionJobExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setThreadNamePrefix("dw-ingestion-queue-");
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(4);
+        // 큐 처리 스레드와 피드 유형별 drain 작업(DwFeedScheduler)이 함께 쓰므로 유형 수만큼은 동시에 돌 수 있게 한다.
+        executor.setCorePoolSize(DataFeedType.values().length + 1);
+        executor.setMaxPoolSize(DataFeedType.values().length * 2);
         executor.initialize();
         return executor;
     }
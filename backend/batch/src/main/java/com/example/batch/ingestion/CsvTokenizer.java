@@ -0,0 +1,207 @@
+package com.example.batch.ingestion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * RFC 4180 형식(따옴표로 감싼 필드, "" escape, 따옴표 안 줄바꿈)을 이해하는 스트리밍 CSV 토크나이저.
+ * <p>
+ * 고정 크기 문자 버퍼를 채워 가며 레코드 경계를 찾고, 필드 값은 버퍼 구간에서 곧바로 문자열로 만든다.
+ * 줄 단위 문자열을 만든 뒤 {@code split} 하는 방식과 달리 중간 배열/문자열이 없고, 레코드 하나가 버퍼보다
+ * 길 때만 버퍼를 키운다. 스레드 안전하지 않다.
+ */
+final class CsvTokenizer implements Closeable {
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private char[] buf;
+    private int pos;
+    private int limit;
+    private boolean eof;
+    private boolean skipLf;
+    private int line;
+    private int recordLine;
+    private String raw;
+    private final List<String> fields = new ArrayList<>();
+
+    CsvTokenizer(Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    CsvTokenizer(Reader reader, int bufferSize) {
+        this.reader = reader;
+        this.buf = new char[Math.max(16, bufferSize)];
+    }
+
+    /**
+     * 다음 레코드로 이동한다. 더 읽을 레코드가 없으면 false.
+     */
+    boolean next() throws IOException {
+        fields.clear();
+        raw = null;
+        if (!available()) {
+            return false;
+        }
+        if (skipLf) {
+            skipLf = false;
+            if (buf[pos] == '\n') {
+                pos++;
+                if (!available()) {
+                    return false;
+                }
+            }
+        }
+        recordLine = ++line;
+        int i = pos;
+        int fieldStart = pos;
+        int escapes = 0;
+        boolean inQuotes = false;
+        boolean quotePending = false;
+        while (true) {
+            if (i >= limit) {
+                int shift = refill();
+                i -= shift;
+                fieldStart -= shift;
+                if (i >= limit) { // 마지막 줄에 줄바꿈이 없는 경우
+                    addField(fieldStart, i, escapes);
+                    raw = new String(buf, pos, i - pos);
+                    pos = i;
+                    return true;
+                }
+                continue;
+            }
+            char c = buf[i];
+            if (inQuotes) {
+                if (quotePending) {
+                    quotePending = false;
+                    if (c == '"') {
+                        escapes++;
+                        i++;
+                        continue;
+                    }
+                    inQuotes = false; // 닫는 따옴표였음. 현재 문자는 따옴표 밖에서 다시 처리한다.
+                    continue;
+                }
+                if (c == '"') {
+                    quotePending = true;
+                } else if (c == '\n') {
+                    line++;
+                }
+                i++;
+                continue;
+            }
+            if (c == '"' && i == fieldStart) {
+                inQuotes = true;
+                i++;
+            } else if (c == ',') {
+                addField(fieldStart, i, escapes);
+                escapes = 0;
+                fieldStart = ++i;
+            } else if (c == '\n' || c == '\r') {
+                addField(fieldStart, i, escapes);
+                raw = new String(buf, pos, i - pos);
+                pos = i + 1;
+                skipLf = c == '\r';
+                return true;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /** 현재 레코드의 필드 값. 따옴표는 벗겨지고 escape는 풀린 상태다. */
+    List<String> fields() {
+        return Collections.unmodifiableList(fields);
+    }
+
+    /** 현재 레코드의 원문(줄바꿈 제외). */
+    String raw() {
+        return raw;
+    }
+
+    /** 현재 레코드가 시작한 물리적 줄 번호(1부터). */
+    int lineNumber() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean available() throws IOException {
+        if (pos < limit) {
+            return true;
+        }
+        refill();
+        return pos < limit;
+    }
+
+    /**
+     * 현재 레코드 시작(pos)부터 남은 문자를 버퍼 앞으로 당기고 뒤를 채운다. 당긴 거리를 반환한다.
+     * 입력이 끝났으면 아무것도 하지 않고 0을 반환한다.
+     */
+    private int refill() throws IOException {
+        if (eof) {
+            return 0;
+        }
+        int shift = pos;
+        int remaining = limit - pos;
+        if (shift > 0) {
+            System.arraycopy(buf, pos, buf, 0, remaining);
+        } else if (remaining == buf.length) {
+            char[] grown = new char[buf.length * 2];
+            System.arraycopy(buf, 0, grown, 0, remaining);
+            buf = grown;
+        }
+        pos = 0;
+        limit = remaining;
+        int read;
+        do {
+            read = reader.read(buf, limit, buf.length - limit);
+        } while (read == 0);
+        if (read < 0) {
+            eof = true;
+        } else {
+            limit += read;
+        }
+        return shift;
+    }
+
+    private void addField(int start, int end, int escapes) {
+        if (end > start && buf[start] == '"') {
+            fields.add(unquote(start, end, escapes));
+        } else {
+            fields.add(new String(buf, start, end - start));
+        }
+    }
+
+    private String unquote(int start, int end, int escapes) {
+        int close = end - 1;
+        if (escapes == 0 && close > start && buf[close] == '"') {
+            return new String(buf, start + 1, close - start - 1);
+        }
+        // escape가 있거나 닫는 따옴표 뒤에 문자가 붙은 경우(관대한 처리)
+        StringBuilder sb = new StringBuilder(end - start);
+        boolean inQuotes = true;
+        for (int i = start + 1; i < end; i++) {
+            char c = buf[i];
+            if (inQuotes && c == '"') {
+                if (i + 1 < end && buf[i + 1] == '"') {
+                    sb.append('"');
+                    i++;
+                } else {
+                    inQuotes = false;
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
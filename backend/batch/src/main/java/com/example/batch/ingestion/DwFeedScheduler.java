@@ -0,0 +1,148 @@
+package com.example.batch.ingestion;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.example.admin.permission.context.AuthContextPropagator;
+import com.example.batch.security.DwBatchAuthContext;
+import com.example.dw.domain.HrImportBatchEntity;
+import com.example.dw.dto.DataFeedType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 피드 유형별로 처리 작업을 나눠 {@code dwIngestionJobExecutor}에서 동시에 돌린다.
+ * <p>
+ * 유형마다 이 노드에서 동시에 하나의 drain 작업만 돌며, drain은 대기 피드가 없을 때까지 {@link DwIngestionService#ingestNext}
+ * 를 반복한다. 노드 간 배타성과 유형별 순서는 커넥터의 점유(파일 rename, {@code FOR UPDATE SKIP LOCKED})가 보장한다.
+ * 유형별 처리 건수·레코드 수·소요 시간을 메트릭으로 남긴다.
+ */
+@Component
+@Slf4j
+public class DwFeedScheduler {
+
+    private final DwIngestionService ingestionService;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final Map<DataFeedType, AtomicReference<CompletableFuture<Void>>> running = new EnumMap<>(DataFeedType.class);
+    private final Map<DataFeedType, Counter> records = new EnumMap<>(DataFeedType.class);
+    private final Map<DataFeedType, Timer> latency = new EnumMap<>(DataFeedType.class);
+
+    public DwFeedScheduler(DwIngestionService ingestionService,
+                           @Qualifier("dwIngestionJobExecutor") Executor executor,
+                           @Nullable MeterRegistry meterRegistry) {
+        this.ingestionService = ingestionService;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+        for (DataFeedType feedType : DataFeedType.values()) {
+            String tag = feedType.name();
+            running.put(feedType, new AtomicReference<>());
+            records.put(feedType, Counter.builder("dw_feed_records_total")
+                    .tag("feed_type", tag)
+                    .register(this.meterRegistry));
+            latency.put(feedType, Timer.builder("dw_feed_processing_ms")
+                    .tag("feed_type", tag)
+                    .register(this.meterRegistry));
+        }
+    }
+
+    /**
+     * 모든 유형의 drain을 시작하고(이미 돌고 있으면 그 작업을 기다린다) 전부 끝나면 완료되는 future를 돌려준다.
+     * 어느 유형의 drain이 예외로 멈추거나 executor가 거절하면 예외로 완료되므로, 호출자는 완료 후에 작업을 확정(ack)하면 된다.
+     */
+    public CompletableFuture<Void> drainAll() {
+        List<CompletableFuture<Void>> drains = new ArrayList<>();
+        for (DataFeedType feedType : DataFeedType.values()) {
+            drains.add(startOrJoin(feedType));
+        }
+        return CompletableFuture.allOf(drains.toArray(CompletableFuture[]::new));
+    }
+
+    boolean isRunning(DataFeedType feedType) {
+        CompletableFuture<Void> current = running.get(feedType).get();
+        return current != null && !current.isDone();
+    }
+
+    private CompletableFuture<Void> startOrJoin(DataFeedType feedType) {
+        while (true) {
+            CompletableFuture<Void> started = tryStart(feedType);
+            if (started != null) {
+                return started;
+            }
+            CompletableFuture<Void> current = running.get(feedType).get();
+            if (current != null && !current.isDone()) {
+                return current;
+            }
+        }
+    }
+
+    /** 유형의 drain을 새로 시작했으면 그 future를, 이미 돌고 있으면 null을 돌려준다. */
+    private CompletableFuture<Void> tryStart(DataFeedType feedType) {
+        AtomicReference<CompletableFuture<Void>> slot = running.get(feedType);
+        CompletableFuture<Void> current = slot.get();
+        if (current != null && !current.isDone()) {
+            return null;
+        }
+        CompletableFuture<Void> drain = new CompletableFuture<>();
+        if (!slot.compareAndSet(current, drain)) {
+            return null;
+        }
+        try {
+            executor.execute(() -> drain(feedType, drain));
+        } catch (RejectedExecutionException ex) {
+            drain.completeExceptionally(ex);
+            log.warn("DW feed drain for {} rejected by executor", feedType, ex);
+        }
+        return drain;
+    }
+
+    private void drain(DataFeedType feedType, CompletableFuture<Void> completion) {
+        try {
+            AuthContextPropagator.runWithContext(DwBatchAuthContext.systemContext(), () -> drainLoop(feedType));
+            completion.complete(null);
+        } catch (RuntimeException ex) {
+            log.error("DW feed drain for {} stopped", feedType, ex);
+            completion.completeExceptionally(ex);
+        } finally {
+            if (!completion.isDone()) {
+                completion.completeExceptionally(new IllegalStateException("DW feed drain for " + feedType + " aborted"));
+            }
+        }
+    }
+
+    private void drainLoop(DataFeedType feedType) {
+        while (!Thread.currentThread().isInterrupted()) {
+            long started = System.nanoTime();
+            Optional<HrImportBatchEntity> batch = ingestionService.ingestNext(feedType);
+            if (batch.isEmpty()) {
+                return;
+            }
+            record(feedType, batch.get(), System.nanoTime() - started);
+        }
+    }
+
+    private void record(DataFeedType feedType, HrImportBatchEntity batch, long elapsedNanos) {
+        latency.get(feedType).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        records.get(feedType).increment(batch.getTotalRecords());
+        meterRegistry.counter("dw_feed_batches_total",
+                "feed_type", feedType.name(),
+                "status", String.valueOf(batch.getStatus())).increment();
+    }
+}
@@ -2,12 +2,18 @@ package com.example.batch.ingestion;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -26,6 +32,12 @@ public class DwFileStorageService {
     private static final Pattern EMPLOYEE_PATTERN = Pattern.compile("employee_(\\d{8})_(\\d{3})\\.csv", Pattern.CASE_INSENSITIVE);
     private static final Pattern ORGANIZATION_PATTERN = Pattern.compile("organization_(\\d{8})_(\\d{3})\\.csv", Pattern.CASE_INSENSITIVE);
     private static final Pattern HOLIDAY_PATTERN = Pattern.compile("holiday_([a-zA-Z]{2,3})_(\\d{8})_(\\d{3})\\.csv", Pattern.CASE_INSENSITIVE);
+    /**
+     * 점유한 파일을 옮겨 두는 수신 디렉터리 하위 폴더. 같은 파일시스템 안의 rename이므로 원자적이다.
+     * 점유마다 토큰 이름의 하위 폴더({@code .claimed/<token>/<file>})를 써서, 임대가 만료돼 다른 노드가 다시 점유한 파일을
+     * 이전 점유자가 옮기거나 갱신하지 못하게 한다.
+     */
+    static final String CLAIM_DIR_NAME = ".claimed";
     private static final Pattern COMMON_CODE_PATTERN = Pattern.compile("code_([a-zA-Z0-9_-]+)_(\\d{8})_(\\d{3})\\.csv", Pattern.CASE_INSENSITIVE);
 
     private final DwIngestionProperties properties;
@@ -53,18 +65,152 @@ public class DwFileStorageService {
         }
     }
 
+    /**
+     * 유형별 대기 파일 중 가장 앞선 파일(영업일·순번 순)을 {@value #CLAIM_DIR_NAME} 폴더로 rename 해 점유한다.
+     * <p>
+     * 같은 유형의 점유 파일이 남아 있으면 앞선 파일이 끝날 때까지 기다리고, rename에 실패하면(다른 노드가 먼저 가져감)
+     * 다음 파일로 넘어가지 않고 비어 있는 결과를 돌려준다. 수신 목록을 점유 폴더보다 먼저 읽으므로 어느 순서로 경합해도
+     * 뒤 순번 파일이 앞 순번보다 먼저 처리되지 않는다. 임대 시간이 지난 점유 파일은 수신 폴더로 되돌린다.
+     *
+     * @return 점유 토큰 폴더 안의 경로를 가진 descriptor
+     */
+    public Optional<HrFileDescriptor> claimNext(DataFeedType feedType) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        ensureDirectories();
+        Path claimDir = claimDir();
+        ensureDirectory(claimDir);
+        releaseExpiredClaims(claimDir);
+        Optional<HrFileDescriptor> head = earliest(properties.getIncomingDir(), feedType);
+        if (head.isEmpty() || earliest(claimDir, feedType).isPresent()) {
+            return Optional.empty();
+        }
+        HrFileDescriptor descriptor = head.get();
+        Path tokenDir = claimDir.resolve(UUID.randomUUID().toString());
+        Path target = tokenDir.resolve(descriptor.fileName());
+        try {
+            Files.createDirectory(tokenDir);
+            Files.move(descriptor.path(), target, StandardCopyOption.ATOMIC_MOVE);
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+        } catch (NoSuchFileException | FileAlreadyExistsException ex) {
+            log.debug("HR file {} was claimed by another worker", descriptor.fileName());
+            deleteQuietly(tokenDir);
+            return Optional.empty();
+        } catch (IOException ex) {
+            log.warn("Failed to claim HR file {}", descriptor.path(), ex);
+            deleteQuietly(tokenDir);
+            return Optional.empty();
+        }
+        return Optional.of(new HrFileDescriptor(descriptor.fileName(), descriptor.businessDate(),
+                descriptor.sequenceNumber(), target, descriptor.feedType(), descriptor.attributes()));
+    }
+
+    /**
+     * 점유 파일의 수정 시각을 현재로 갱신해 임대를 연장한다.
+     *
+     * @return 점유 파일이 아직 있으면 true, 임대 만료로 수신 폴더에 되돌려졌으면 false
+     */
+    public boolean renewClaim(HrFileDescriptor descriptor) {
+        try {
+            Files.setLastModifiedTime(descriptor.path(), FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException ex) {
+            log.warn("Claim on HR file {} was lost before processing finished", descriptor.fileName());
+            return false;
+        } catch (IOException ex) {
+            log.warn("Failed to renew claim on HR file {}", descriptor.path(), ex);
+            return true;
+        }
+    }
+
     public String readPayload(HrFileDescriptor descriptor) throws IOException {
         return Files.readString(descriptor.path(), StandardCharsets.UTF_8);
     }
 
+    /**
+     * 처리한 파일을 보관/오류 폴더로 옮긴다. 점유 파일은 자기 점유 토큰 경로에 아직 있을 때만 옮기며,
+     * 임대가 만료돼 되돌려졌거나 다른 노드가 다시 점유했으면 건드리지 않는다.
+     */
     public void markProcessed(HrFileDescriptor descriptor, boolean success) {
         Path targetDir = success ? properties.getArchiveDir() : properties.getErrorDir();
         ensureDirectory(targetDir);
         Path target = targetDir.resolve(descriptor.path().getFileName());
         try {
             Files.move(descriptor.path(), target);
+        } catch (NoSuchFileException ex) {
+            log.warn("Claim on HR file {} was lost before processing finished; leaving it to the new owner",
+                    descriptor.fileName());
         } catch (IOException ex) {
             log.warn("Failed to move HR file {} to {}", descriptor.path(), target, ex);
+        } finally {
+            releaseTokenDir(descriptor.path());
+        }
+    }
+
+    private Path claimDir() {
+        return properties.getIncomingDir().resolve(CLAIM_DIR_NAME);
+    }
+
+    private Optional<HrFileDescriptor> earliest(Path directory, DataFeedType feedType) {
+        // 점유 폴더는 토큰 하위 폴더까지 본다. 수신 폴더에서는 점유 폴더 자체가 디렉터리이므로 걸러진다.
+        int depth = directory.equals(claimDir()) ? 2 : 1;
+        try (Stream<Path> files = Files.walk(directory, depth)) {
+            return files.filter(Files::isRegularFile)
+                    .map(this::toDescriptor)
+                    .flatMap(Optional::stream)
+                    .filter(descriptor -> descriptor.feedType() == feedType)
+                    .min(Comparator.comparing(HrFileDescriptor::businessDate)
+                            .thenComparing(HrFileDescriptor::sequenceNumber));
+        } catch (IOException ex) {
+            log.error("Failed to list HR files in {}", directory, ex);
+            return Optional.empty();
+        }
+    }
+
+    private void releaseExpiredClaims(Path claimDir) {
+        Instant cutoff = Instant.now().minus(properties.getClaimLease());
+        try (Stream<Path> files = Files.walk(claimDir, 2)) {
+            files.filter(Files::isRegularFile)
+                    .filter(path -> lastModified(path).isBefore(cutoff))
+                    .toList()
+                    .forEach(this::releaseClaim);
+        } catch (IOException ex) {
+            log.warn("Failed to scan claimed HR files in {}", claimDir, ex);
+        }
+    }
+
+    private void releaseClaim(Path claimed) {
+        try {
+            Files.move(claimed, properties.getIncomingDir().resolve(claimed.getFileName()), StandardCopyOption.ATOMIC_MOVE);
+            log.warn("Released expired claim on HR file {}", claimed.getFileName());
+        } catch (IOException ex) {
+            log.debug("Expired claim {} already released", claimed, ex);
+        }
+        releaseTokenDir(claimed);
+    }
+
+    /** 점유 토큰 폴더 안의 파일이었으면 빈 토큰 폴더를 지운다. */
+    private void releaseTokenDir(Path claimedFile) {
+        Path tokenDir = claimedFile.getParent();
+        if (tokenDir != null && claimDir().equals(tokenDir.getParent())) {
+            deleteQuietly(tokenDir);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.debug("Failed to delete {}", path, ex);
+        }
+    }
+
+    private static Instant lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant();
+        } catch (IOException ex) {
+            return Instant.MAX;
         }
     }
 
@@ -1,22 +1,33 @@
 package com.example.batch.ingestion;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
+import java.time.Duration;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import lombok.extern.slf4j.Slf4j;
 
+import com.example.dw.config.DwIngestionProperties;
 import com.example.dw.domain.HrImportBatchEntity;
 import com.example.dw.domain.repository.HrBatchRepository;
 import com.example.dw.dto.DataFeedType;
@@ -25,50 +36,109 @@ import com.example.batch.ingestion.feed.DataFeedConnector;
 import com.example.batch.ingestion.template.DwFeedIngestionTemplate;
 import com.example.batch.ingestion.template.DwIngestionResult;
 
+/**
+ * 피드 하나를 배치로 등록하고 유형별 템플릿으로 처리한다.
+ * <p>
+ * 배치 등록은 먼저 커밋해 두고, 메모리 본문 피드는 한 트랜잭션에서, 파일 스트리밍 피드는 템플릿이 청크마다
+ * 커밋하도록 처리한다. 스트리밍 도중 실패하면 이미 커밋된 청크는 남고 배치는 FAILED로 기록된다
+ * (동기화는 동일 상태를 건너뛰므로 같은 파일을 다시 넣어도 안전하다).
+ * <p>
+ * 처리하는 동안에는 점유 임대의 1/3 주기로 커넥터 점유를 갱신해, 임대보다 오래 걸리는 피드를 다른 노드가
+ * 다시 가져가지 않게 한다.
+ */
 @Service
 @Slf4j
-public class DwIngestionService {
+public class DwIngestionService implements DisposableBean {
     private static final HexFormat HEX = HexFormat.of();
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+    private static final Duration MIN_RENEW_INTERVAL = Duration.ofSeconds(1);
 
     private final List<DataFeedConnector> feedConnectors;
     private final Map<DataFeedType, DwFeedIngestionTemplate> templateRegistry;
     private final HrBatchRepository batchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration renewInterval;
+    private final ScheduledExecutorService claimHeartbeat;
 
-    @Transactional
-    public Optional<HrImportBatchEntity> ingestNextFile() {
+    /**
+     * 지정한 유형의 피드 하나를 커넥터에서 점유해 처리한다. 커넥터가 유형별로 점유하므로 서로 다른 유형은
+     * 여러 스레드·노드에서 동시에 호출해도 되고, 같은 유형은 영업일·순번 순서가 유지된다.
+     */
+    public Optional<HrImportBatchEntity> ingestNext(DataFeedType feedType) {
         for (DataFeedConnector connector : feedConnectors) {
-            Optional<DataFeed> feedOpt = connector.nextFeed();
+            Optional<DataFeed> feedOpt = connector.nextFeed(feedType);
             if (feedOpt.isEmpty()) {
                 continue;
             }
-            DataFeed feed = feedOpt.get();
-            HrImportBatchEntity batch = createBatch(feed);
-            try {
-                DwFeedIngestionTemplate template = templateRegistry.get(feed.feedType());
-                if (template == null) {
-                    connector.onFailure(feed, new IllegalStateException("지원되지 않는 피드 타입"));
-                    batch.markFailed("Unsupported feed type " + feed.feedType());
-                    batchRepository.save(batch);
-                    continue;
-                }
-                DwIngestionResult result = template.ingest(batch, feed.payload());
-                batch.markValidated(result.totalRecords(), result.failedRecords());
-                batch.markCompleted(result.insertedRecords(), result.updatedRecords(), result.failedRecords());
-                batchRepository.save(batch);
-                connector.onSuccess(feed);
-                log.info("DW batch {} processed from {}", batch.getId(), feed.source());
-                return Optional.of(batch);
-            } catch (Exception ex) {
-                connector.onFailure(feed, ex);
-                log.error("Failed to process DW batch from {}", feed.source(), ex);
-                batch.markFailed(ex.getMessage());
-                batchRepository.save(batch);
-                return Optional.of(batch);
+            Optional<HrImportBatchEntity> batch = process(connector, feedOpt.get());
+            if (batch.isPresent()) {
+                return batch;
             }
         }
         return Optional.empty();
     }
 
+    /**
+     * 피드를 배치로 등록해 처리한다. 지원하지 않는 유형이거나 등록(본문 해시 포함)에 실패하면
+     * 커넥터에 실패를 알리고 비어 있는 결과를 돌려준다.
+     */
+    private Optional<HrImportBatchEntity> process(DataFeedConnector connector, DataFeed feed) {
+        long intervalMillis = renewInterval.toMillis();
+        ScheduledFuture<?> renewal = claimHeartbeat.scheduleAtFixedRate(() -> renewClaim(connector, feed),
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        try {
+            return processClaimed(connector, feed);
+        } finally {
+            renewal.cancel(false);
+        }
+    }
+
+    private void renewClaim(DataFeedConnector connector, DataFeed feed) {
+        try {
+            if (!connector.renewClaim(feed)) {
+                log.warn("Lost {} claim on DW feed {} while processing", connector.name(), feed.id());
+            }
+        } catch (RuntimeException ex) {
+            // 예외가 나가면 주기 작업이 취소되므로 삼키고 다음 주기에 다시 시도한다.
+            log.warn("Failed to renew {} claim on DW feed {}", connector.name(), feed.id(), ex);
+        }
+    }
+
+    private Optional<HrImportBatchEntity> processClaimed(DataFeedConnector connector, DataFeed feed) {
+        HrImportBatchEntity batch;
+        try {
+            batch = transactionTemplate.execute(status -> createBatch(feed));
+        } catch (RuntimeException ex) {
+            connector.onFailure(feed, ex);
+            log.error("Failed to register DW batch from {}", feed.source(), ex);
+            return Optional.empty();
+        }
+        try {
+            DwFeedIngestionTemplate template = templateRegistry.get(feed.feedType());
+            if (template == null) {
+                connector.onFailure(feed, new IllegalStateException("지원되지 않는 피드 타입"));
+                batch.markFailed("Unsupported feed type " + feed.feedType());
+                batchRepository.save(batch);
+                return Optional.empty();
+            }
+            DwIngestionResult result = feed.streamed()
+                    ? template.ingestStream(batch, feed)
+                    : transactionTemplate.execute(status -> template.ingest(batch, feed.payload()));
+            batch.markValidated(result.totalRecords(), result.failedRecords());
+            batch.markCompleted(result.insertedRecords(), result.updatedRecords(), result.failedRecords());
+            batchRepository.save(batch);
+            connector.onSuccess(feed);
+            log.info("DW batch {} processed from {}", batch.getId(), feed.source());
+            return Optional.of(batch);
+        } catch (Exception ex) {
+            connector.onFailure(feed, ex);
+            log.error("Failed to process DW batch from {}", feed.source(), ex);
+            batch.markFailed(ex.getMessage());
+            batchRepository.save(batch);
+            return Optional.of(batch);
+        }
+    }
+
     private HrImportBatchEntity createBatch(DataFeed feed) {
         HrImportBatchEntity batch = HrImportBatchEntity.receive(
                 feed.id(),
@@ -76,20 +146,41 @@ public class DwIngestionService {
                 feed.source(),
                 feed.businessDate(),
                 feed.sequenceNumber(),
-                hash(feed.payload()),
+                hash(feed),
                 feed.source()
         );
         return batchRepository.save(batch);
     }
 
-    private static String hash(String payload) {
-        if (payload == null) {
+    private static String hash(DataFeed feed) {
+        if (feed.streamed()) {
+            return hashFile(feed);
+        }
+        if (feed.payload() == null) {
             return null;
         }
+        return HEX.formatHex(sha256().digest(feed.payload().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /** 파일 본문을 고정 크기 버퍼로 읽으며 해시한다. */
+    private static String hashFile(DataFeed feed) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(DIGEST_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(feed.payloadFile(), StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to hash " + feed.payloadFile(), ex);
+        }
+        return HEX.formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashed = digest.digest(payload.getBytes(StandardCharsets.UTF_8));
-            return HEX.formatHex(hashed);
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException ex) {
             throw new IllegalStateException("SHA-256 not supported", ex);
         }
@@ -97,10 +188,23 @@ public class DwIngestionService {
 
     public DwIngestionService(List<DataFeedConnector> feedConnectors,
                               List<DwFeedIngestionTemplate> ingestionTemplates,
-                              HrBatchRepository batchRepository) {
+                              HrBatchRepository batchRepository,
+                              PlatformTransactionManager transactionManager,
+                              DwIngestionProperties properties) {
         this.feedConnectors = feedConnectors;
         this.batchRepository = batchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        Duration renewInterval = properties.getClaimLease().dividedBy(3);
+        this.renewInterval = renewInterval.compareTo(MIN_RENEW_INTERVAL) < 0 ? MIN_RENEW_INTERVAL : renewInterval;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("dw-claim-heartbeat-");
+        threadFactory.setDaemon(true);
+        this.claimHeartbeat = Executors.newSingleThreadScheduledExecutor(threadFactory);
         this.templateRegistry = ingestionTemplates.stream()
                 .collect(Collectors.toUnmodifiableMap(DwFeedIngestionTemplate::supportedType, template -> template));
     }
+
+    @Override
+    public void destroy() {
+        claimHeartbeat.shutdownNow();
+    }
 }
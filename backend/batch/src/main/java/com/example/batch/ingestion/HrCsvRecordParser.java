@@ -1,10 +1,13 @@
 package com.example.batch.ingestion;
 
-import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -21,39 +24,56 @@ public class HrCsvRecordParser {
         if (!StringUtils.hasText(payload)) {
             return records;
         }
-        try (BufferedReader reader = new BufferedReader(new StringReader(payload))) {
-            String header = reader.readLine();
-            if (header == null) {
-                return records;
+        parse(new StringReader(payload), Integer.MAX_VALUE, records::addAll);
+        return records;
+    }
+
+    /**
+     * 입력을 스트리밍으로 읽어 최대 {@code chunkSize}건씩 {@code consumer}에 넘긴다.
+     * 헤더와 빈 줄, 열이 모자란 줄은 건너뛰며, 따옴표로 감싼 필드의 쉼표/줄바꿈을 값으로 취급한다.
+     *
+     * @return 파싱된 레코드 수
+     */
+    public int parse(Reader reader, int chunkSize, Consumer<List<HrEmployeeRecord>> consumer) {
+        int size = Math.max(1, chunkSize);
+        int total = 0;
+        List<HrEmployeeRecord> chunk = new ArrayList<>(Math.min(size, 1024));
+        try (CsvTokenizer tokenizer = new CsvTokenizer(reader)) {
+            if (!tokenizer.next()) {
+                return 0;
             }
-            String line;
-            int lineNumber = 1;
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
-                if (!StringUtils.hasText(line)) {
+            while (tokenizer.next()) {
+                if (!StringUtils.hasText(tokenizer.raw())) {
                     continue;
                 }
-                String[] columns = line.split(",", -1);
-                if (columns.length < EXPECTED_COLUMNS) {
+                List<String> columns = tokenizer.fields();
+                if (columns.size() < EXPECTED_COLUMNS) {
                     continue;
                 }
-                HrEmployeeRecord record = new HrEmployeeRecord(
-                        trim(columns[0]),
-                        trim(columns[1]),
-                        trim(columns[2]),
-                        trim(columns[3]),
-                        trim(columns[4]),
-                        trim(columns[5]),
-                        parseDate(columns[6]),
-                        parseDate(columns[7]),
-                        line,
-                        lineNumber);
-                records.add(record);
+                chunk.add(new HrEmployeeRecord(
+                        trim(columns.get(0)),
+                        trim(columns.get(1)),
+                        trim(columns.get(2)),
+                        trim(columns.get(3)),
+                        trim(columns.get(4)),
+                        trim(columns.get(5)),
+                        parseDate(columns.get(6)),
+                        parseDate(columns.get(7)),
+                        tokenizer.raw(),
+                        tokenizer.lineNumber()));
+                total++;
+                if (chunk.size() >= size) {
+                    consumer.accept(chunk);
+                    chunk = new ArrayList<>(Math.min(size, 1024));
+                }
+            }
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
             }
-        } catch (Exception ex) {
+        } catch (IOException | DateTimeException ex) {
             throw new IllegalStateException("Failed to parse HR payload", ex);
         }
-        return records;
+        return total;
     }
 
     private static String trim(String value) {
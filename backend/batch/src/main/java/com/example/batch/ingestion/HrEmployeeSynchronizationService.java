@@ -3,7 +3,11 @@ package com.example.batch.ingestion;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,20 +21,32 @@ import com.example.dw.dto.HrEmployeeRecord;
 import com.example.dw.dto.HrSyncResult;
 import com.example.dw.infrastructure.persistence.HrEmployeeRepository;
 
+/**
+ * 직원 SCD2 동기화. 청크의 사번들에 대한 활성 버전을 IN 조회로 한 번에 읽어 메모리에서 종료/신규 버전을 계산하고,
+ * 변경분을 {@code saveAll} 한 번으로 반영한다(Hibernate JDBC 배치). 디렉터리 캐시는 청크당 한 번만 비운다.
+ */
 @Service
 @RequiredArgsConstructor
 public class HrEmployeeSynchronizationService {
 
+    static final int KEY_BATCH_SIZE = 1000;
+
     private final HrEmployeeRepository employeeRepository;
     private final DwEmployeeDirectoryService employeeDirectoryService;
 
     @Transactional
     public HrSyncResult synchronize(HrImportBatchEntity batch, List<HrEmployeeRecord> records) {
+        if (records.isEmpty()) {
+            return new HrSyncResult(0, 0);
+        }
+        Map<String, HrEmployeeEntity> activeById = loadActive(records);
+        Set<HrEmployeeEntity> changes = new LinkedHashSet<>();
+        OffsetDateTime syncedAt = OffsetDateTime.now(ZoneOffset.UTC);
         int inserted = 0;
         int updated = 0;
 
         for (HrEmployeeRecord record : records) {
-            HrEmployeeEntity active = employeeRepository.findActive(record.employeeId()).orElse(null);
+            HrEmployeeEntity active = activeById.get(record.employeeId());
             LocalDate newStart = record.startDate();
             LocalDate newEnd = record.endDate();
 
@@ -46,7 +62,7 @@ public class HrEmployeeSynchronizationService {
                     closingDate = active.getEffectiveStart();
                 }
                 active.closeAt(closingDate);
-                employeeRepository.save(active);
+                changes.add(active);
                 updated++;
             } else {
                 inserted++;
@@ -63,11 +79,30 @@ public class HrEmployeeSynchronizationService {
                     newStart,
                     newEnd,
                     batch.getId(),
-                    OffsetDateTime.now(ZoneOffset.UTC)
+                    syncedAt
             );
-            employeeRepository.save(snapshot);
-            employeeDirectoryService.evict(record.employeeId());
+            changes.add(snapshot);
+            // 같은 청크에 같은 사번이 다시 나오면 방금 만든 버전을 기준으로 이어서 판단한다.
+            activeById.put(record.employeeId(), snapshot);
+        }
+        if (!changes.isEmpty()) {
+            employeeRepository.saveAll(changes);
+            employeeDirectoryService.evictAll();
         }
         return new HrSyncResult(inserted, updated);
     }
+
+    private Map<String, HrEmployeeEntity> loadActive(List<HrEmployeeRecord> records) {
+        List<String> ids = records.stream().map(HrEmployeeRecord::employeeId).distinct().toList();
+        Map<String, HrEmployeeEntity> activeById = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += KEY_BATCH_SIZE) {
+            List<String> slice = ids.subList(from, Math.min(from + KEY_BATCH_SIZE, ids.size()));
+            for (HrEmployeeEntity entity : employeeRepository.findByEmployeeIdInAndEffectiveEndIsNull(slice)) {
+                // 활성 버전이 여럿이면 단건 조회(findActive)와 같이 가장 높은 버전을 택한다.
+                activeById.merge(entity.getEmployeeId(), entity,
+                        (left, right) -> left.getVersion() >= right.getVersion() ? left : right);
+            }
+        }
+        return activeById;
+    }
 }
@@ -3,14 +3,21 @@ package com.example.batch.ingestion;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
+import com.example.dw.application.readmodel.OrganizationChangedEvent;
 import com.example.dw.domain.HrImportBatchEntity;
 import com.example.dw.domain.HrOrganizationEntity;
 import com.example.dw.dto.HrOrganizationRecord;
@@ -18,22 +25,34 @@ import com.example.dw.dto.HrSyncResult;
 import com.example.dw.infrastructure.persistence.HrOrganizationRepository;
 import com.example.common.cache.CacheNames;
 
+/**
+ * 조직 SCD2 동기화. 활성 버전을 조직 코드 IN 조회로 한 번에 읽고, 종료/신규 버전을 모아 {@code saveAll}로 반영한다.
+ * 새 버전이 생긴 조직 코드는 {@link OrganizationChangedEvent}로 알려 Read Model이 해당 노드만 갱신하게 한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class HrOrganizationSynchronizationService {
 
+    static final int KEY_BATCH_SIZE = 1000;
+
     private final HrOrganizationRepository organizationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @CacheEvict(cacheNames = {CacheNames.ORGANIZATION_ROW_SCOPE, CacheNames.DW_ORG_TREE}, allEntries = true)
     public HrSyncResult synchronize(HrImportBatchEntity batch, List<HrOrganizationRecord> records) {
+        if (records.isEmpty()) {
+            return new HrSyncResult(0, 0);
+        }
+        Map<String, HrOrganizationEntity> activeByCode = loadActive(records);
+        Set<HrOrganizationEntity> changes = new LinkedHashSet<>();
+        List<String> changedCodes = new ArrayList<>();
+        OffsetDateTime syncedAt = OffsetDateTime.now(ZoneOffset.UTC);
         int inserted = 0;
         int updated = 0;
 
         for (HrOrganizationRecord record : records) {
-            HrOrganizationEntity active = organizationRepository
-                    .findFirstByOrganizationCodeAndEffectiveEndIsNullOrderByVersionDesc(record.organizationCode())
-                    .orElse(null);
+            HrOrganizationEntity active = activeByCode.get(record.organizationCode());
             LocalDate newStart = record.startDate();
             LocalDate newEnd = record.endDate();
 
@@ -49,7 +68,7 @@ public class HrOrganizationSynchronizationService {
                     closingDate = active.getEffectiveStart();
                 }
                 active.closeAt(closingDate);
-                organizationRepository.save(active);
+                changes.add(active);
                 updated++;
             } else {
                 inserted++;
@@ -66,10 +85,29 @@ public class HrOrganizationSynchronizationService {
                     newStart,
                     newEnd,
                     batch.getId(),
-                    OffsetDateTime.now(ZoneOffset.UTC)
+                    syncedAt
             );
-            organizationRepository.save(snapshot);
+            changes.add(snapshot);
+            changedCodes.add(record.organizationCode());
+            activeByCode.put(record.organizationCode(), snapshot);
+        }
+        if (!changes.isEmpty()) {
+            organizationRepository.saveAll(changes);
+            eventPublisher.publishEvent(new OrganizationChangedEvent(batch.getId(), changedCodes));
         }
         return new HrSyncResult(inserted, updated);
     }
+
+    private Map<String, HrOrganizationEntity> loadActive(List<HrOrganizationRecord> records) {
+        List<String> codes = records.stream().map(HrOrganizationRecord::organizationCode).distinct().toList();
+        Map<String, HrOrganizationEntity> activeByCode = new HashMap<>(codes.size() * 2);
+        for (int from = 0; from < codes.size(); from += KEY_BATCH_SIZE) {
+            List<String> slice = codes.subList(from, Math.min(from + KEY_BATCH_SIZE, codes.size()));
+            for (HrOrganizationEntity entity : organizationRepository.findByOrganizationCodeInAndEffectiveEndIsNull(slice)) {
+                activeByCode.merge(entity.getOrganizationCode(), entity,
+                        (left, right) -> left.getVersion() >= right.getVersion() ? left : right);
+            }
+        }
+        return activeByCode;
+    }
 }
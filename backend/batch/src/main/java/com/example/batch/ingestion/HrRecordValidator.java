@@ -16,9 +16,15 @@ import com.example.dw.dto.HrValidationResult;
 public class HrRecordValidator {
 
     public HrValidationResult validate(List<HrEmployeeRecord> records) {
+        return validate(records, new HashSet<>());
+    }
+
+    /**
+     * 청크 단위 검증. {@code uniqueKeys}를 청크 사이에 공유해 파일 전체 기준으로 중복을 판정한다.
+     */
+    public HrValidationResult validate(List<HrEmployeeRecord> records, Set<String> uniqueKeys) {
         List<HrEmployeeRecord> valid = new ArrayList<>();
         List<HrValidationError> errors = new ArrayList<>();
-        Set<String> uniqueKeys = new HashSet<>();
 
         for (HrEmployeeRecord record : records) {
             List<String> recordErrors = new ArrayList<>();
@@ -5,65 +5,92 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HexFormat;
 import java.util.List;
+import java.util.UUID;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.github.f4b6a3.ulid.UlidCreator;
+
 import lombok.RequiredArgsConstructor;
 
-import com.example.dw.domain.HrEmployeeStagingEntity;
 import com.example.dw.domain.HrImportBatchEntity;
-import com.example.dw.domain.HrImportErrorEntity;
 import com.example.dw.dto.HrEmployeeRecord;
 import com.example.dw.dto.HrValidationError;
-import com.example.dw.infrastructure.persistence.HrEmployeeStagingRepository;
-import com.example.dw.infrastructure.persistence.HrImportErrorRepository;
 
+/**
+ * 직원 피드 스테이징/오류 행 적재. 청크 단위로 호출되며 JPA 영속성 컨텍스트를 거치지 않고 JDBC batch insert로 기록한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class HrStagingService {
 
+    static final int JDBC_BATCH_SIZE = 500;
+
     private static final HexFormat HEX = HexFormat.of();
 
-    private final HrEmployeeStagingRepository stagingRepository;
-    private final HrImportErrorRepository errorRepository;
+    private static final String INSERT_STAGING = "INSERT INTO dw_employee_staging "
+            + "(id, batch_id, employee_id, full_name, email, organization_code, employment_type, employment_status, "
+            + "start_date, end_date, payload_hash, raw_payload) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ERROR = "INSERT INTO dw_import_errors "
+            + "(id, batch_id, line_number, record_type, reference_code, error_code, error_message, raw_payload) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional
     public void persistRecords(HrImportBatchEntity batch, List<HrEmployeeRecord> records) {
-        for (HrEmployeeRecord record : records) {
-            HrEmployeeStagingEntity staging = HrEmployeeStagingEntity.fromRecord(
-                    batch,
-                    record,
-                    hash(record.rawPayload())
-            );
-            stagingRepository.save(staging);
+        if (records.isEmpty()) {
+            return;
         }
+        UUID batchId = batch.getId();
+        MessageDigest digest = sha256();
+        jdbcTemplate.batchUpdate(INSERT_STAGING, records, JDBC_BATCH_SIZE, (ps, record) -> {
+            ps.setObject(1, UlidCreator.getMonotonicUlid().toUuid());
+            ps.setObject(2, batchId);
+            ps.setString(3, record.employeeId());
+            ps.setString(4, record.fullName());
+            ps.setString(5, record.email());
+            ps.setString(6, record.organizationCode());
+            ps.setString(7, record.employmentType());
+            ps.setString(8, record.employmentStatus());
+            ps.setObject(9, record.startDate());
+            ps.setObject(10, record.endDate());
+            ps.setString(11, hash(digest, record.rawPayload()));
+            ps.setString(12, record.rawPayload());
+        });
     }
 
     @Transactional
     public void persistErrors(HrImportBatchEntity batch, List<HrValidationError> errors) {
-        for (HrValidationError error : errors) {
-            HrImportErrorEntity entity = HrImportErrorEntity.of(
-                    batch,
-                    error.lineNumber(),
-                    "EMPLOYEE",
-                    error.employeeId(),
-                    error.errorCode(),
-                    error.errorMessage(),
-                    error.rawPayload()
-            );
-            errorRepository.save(entity);
+        if (errors.isEmpty()) {
+            return;
         }
+        UUID batchId = batch.getId();
+        jdbcTemplate.batchUpdate(INSERT_ERROR, errors, JDBC_BATCH_SIZE, (ps, error) -> {
+            ps.setObject(1, UlidCreator.getMonotonicUlid().toUuid());
+            ps.setObject(2, batchId);
+            ps.setInt(3, error.lineNumber());
+            ps.setString(4, "EMPLOYEE");
+            ps.setString(5, error.employeeId());
+            ps.setString(6, error.errorCode());
+            ps.setString(7, error.errorMessage());
+            ps.setString(8, error.rawPayload());
+        });
     }
 
-    private static String hash(String payload) {
+    private static String hash(MessageDigest digest, String payload) {
         if (payload == null) {
             return null;
         }
+        return HEX.formatHex(digest.digest(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashed = digest.digest(payload.getBytes(StandardCharsets.UTF_8));
-            return HEX.formatHex(hashed);
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException ex) {
             throw new IllegalStateException("SHA-256 not available", ex);
         }
@@ -1,19 +1,63 @@
 package com.example.batch.ingestion.feed;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.util.Map;
 
 import com.example.dw.dto.DataFeedType;
 
+/**
+ * 수집 대상 피드. 본문은 메모리 문자열({@code payload})이거나, 대용량 파일이면 경로({@code payloadFile})로만 전달된다.
+ */
 public record DataFeed(String id,
                      DataFeedType feedType,
                      LocalDate businessDate,
                      int sequenceNumber,
                      String payload,
                      String source,
-                     Map<String, String> attributes) {
+                     Map<String, String> attributes,
+                     Path payloadFile) {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    public DataFeed(String id,
+                    DataFeedType feedType,
+                    LocalDate businessDate,
+                    int sequenceNumber,
+                    String payload,
+                    String source,
+                    Map<String, String> attributes) {
+        this(id, feedType, businessDate, sequenceNumber, payload, source, attributes, null);
+    }
 
     public String attribute(String key) {
         return attributes == null ? null : attributes.get(key);
     }
+
+    /** 본문을 파일에서 스트리밍으로 읽어야 하는 피드인지 여부. */
+    public boolean streamed() {
+        return payloadFile != null;
+    }
+
+    /** 본문 Reader. 파일 피드는 FileChannel에서 고정 크기 버퍼 단위로 디코딩한다. */
+    public Reader openPayload() throws IOException {
+        if (payloadFile == null) {
+            return new StringReader(payload == null ? "" : payload);
+        }
+        FileChannel channel = FileChannel.open(payloadFile, StandardOpenOption.READ);
+        return Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder(), READ_BUFFER_SIZE);
+    }
+
+    /** 본문 전체 문자열. 스트리밍을 지원하지 않는 템플릿에서만 사용한다. */
+    public String readPayload() throws IOException {
+        return payloadFile == null ? payload : Files.readString(payloadFile, StandardCharsets.UTF_8);
+    }
 }
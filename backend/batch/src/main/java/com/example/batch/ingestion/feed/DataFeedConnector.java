@@ -2,10 +2,30 @@ package com.example.batch.ingestion.feed;
 
 import java.util.Optional;
 
+import com.example.dw.dto.DataFeedType;
+
 public interface DataFeedConnector {
 
     Optional<DataFeed> nextFeed();
 
+    /**
+     * 지정한 유형의 다음 피드를 점유한다. 같은 유형은 앞선 피드가 끝나기 전까지 다른 스레드/노드에 내주지 않아야 한다.
+     * 유형별 점유를 지원하지 않는 커넥터는 비어 있는 결과를 돌려준다.
+     */
+    default Optional<DataFeed> nextFeed(DataFeedType feedType) {
+        return Optional.empty();
+    }
+
+    /**
+     * 처리 중인 피드의 점유 임대를 연장한다. 처리 시간이 임대보다 길어도 다른 노드가 다시 점유하지 않도록
+     * 처리하는 동안 주기적으로 호출된다.
+     *
+     * @return 점유를 아직 가지고 있으면 true, 이미 잃었으면 false
+     */
+    default boolean renewClaim(DataFeed feed) {
+        return true;
+    }
+
     default void onSuccess(DataFeed feed) {
         // no-op
     }
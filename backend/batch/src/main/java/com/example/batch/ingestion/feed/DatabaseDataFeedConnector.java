@@ -1,17 +1,18 @@
 package com.example.batch.ingestion.feed;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.slf4j.Logger;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.dw.config.DwIngestionProperties;
 import com.example.dw.domain.HrExternalFeedEntity;
-import com.example.dw.domain.HrExternalFeedStatus;
+import com.example.dw.dto.DataFeedType;
 import com.example.dw.infrastructure.persistence.HrExternalFeedRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,40 +23,76 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class DatabaseDataFeedConnector implements DataFeedConnector {
 
+    static final String CLAIM_TOKEN_ATTRIBUTE = "claimToken";
+
     private final HrExternalFeedRepository externalFeedRepository;
     private final DwIngestionProperties properties;
 
     @Override
     @Transactional
     public Optional<DataFeed> nextFeed() {
+        for (DataFeedType feedType : DataFeedType.values()) {
+            Optional<DataFeed> feed = nextFeed(feedType);
+            if (feed.isPresent()) {
+                return feed;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * {@code SELECT ... FOR UPDATE SKIP LOCKED}로 유형별 대기열의 맨 앞 피드를 점유한다.
+     * 커밋 시 PROCESSING으로 바뀌므로 다른 노드/스레드는 이 유형을 완료될 때까지 가져가지 않는다.
+     */
+    @Override
+    @Transactional
+    public Optional<DataFeed> nextFeed(DataFeedType feedType) {
         if (!properties.getDatabase().isEnabled()) {
             return Optional.empty();
         }
-        return externalFeedRepository.findFirstByStatusOrderByCreatedAtAsc(HrExternalFeedStatus.PENDING)
+        OffsetDateTime now = now();
+        int released = externalFeedRepository.releaseExpiredClaims(now.minus(properties.getClaimLease()), now);
+        if (released > 0) {
+            log.warn("Released {} expired external HR feed claims", released);
+        }
+        return externalFeedRepository.claimNextPending(feedType.name())
                 .map(this::toFeed);
     }
 
     private DataFeed toFeed(HrExternalFeedEntity entity) {
-        entity.markProcessing();
+        String claimToken = UUID.randomUUID().toString();
+        entity.markProcessing(claimToken);
         return new DataFeed(entity.getId().toString(),
                 entity.getFeedType(),
                 entity.getBusinessDate(),
                 entity.getSequenceNumber(),
                 entity.getPayload(),
                 entity.getSourceSystem(),
-                Map.of("externalFeedId", entity.getId().toString()));
+                Map.of("externalFeedId", entity.getId().toString(), CLAIM_TOKEN_ATTRIBUTE, claimToken));
     }
 
+    @Override
+    @Transactional
+    public boolean renewClaim(DataFeed feed) {
+        if (!properties.getDatabase().isEnabled()) {
+            return true;
+        }
+        return externalFeedRepository.renewClaim(UUID.fromString(feed.id()), feed.attribute(CLAIM_TOKEN_ATTRIBUTE), now()) > 0;
+    }
+
+    /**
+     * 점유 토큰이 일치할 때만 완료로 기록한다. 임대가 만료돼 다른 노드가 다시 점유했다면 그 노드의 결과를 덮어쓰지 않는다.
+     */
     @Override
     @Transactional
     public void onSuccess(DataFeed feed) {
         if (!properties.getDatabase().isEnabled()) {
             return;
         }
-        externalFeedRepository.findById(UUID.fromString(feed.id()))
-                .ifPresent(entity -> {
-                    entity.markCompleted();
-                });
+        int updated = externalFeedRepository.completeClaim(UUID.fromString(feed.id()), feed.attribute(CLAIM_TOKEN_ATTRIBUTE), now());
+        if (updated == 0) {
+            log.warn("External HR feed {} completed after its claim was lost; leaving its state to the current owner", feed.id());
+        }
     }
 
     @Override
@@ -64,11 +101,16 @@ public class DatabaseDataFeedConnector implements DataFeedConnector {
         if (!properties.getDatabase().isEnabled()) {
             return;
         }
-        externalFeedRepository.findById(UUID.fromString(feed.id()))
-                .ifPresent(entity -> {
-                    log.error("External HR feed {} failed", entity.getId(), exception);
-                    entity.markFailed(exception.getMessage());
-                });
+        log.error("External HR feed {} failed", feed.id(), exception);
+        int updated = externalFeedRepository.failClaim(UUID.fromString(feed.id()), feed.attribute(CLAIM_TOKEN_ATTRIBUTE),
+                exception.getMessage(), now());
+        if (updated == 0) {
+            log.warn("External HR feed {} failed after its claim was lost; leaving its state to the current owner", feed.id());
+        }
+    }
+
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now(ZoneOffset.UTC);
     }
 
     @Override
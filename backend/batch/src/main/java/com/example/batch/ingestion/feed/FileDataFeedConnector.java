@@ -1,48 +1,76 @@
 package com.example.batch.ingestion.feed;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import com.example.dw.dto.DataFeedType;
 import com.example.dw.dto.HrFileDescriptor;
 import com.example.batch.ingestion.DwFileStorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 수신 디렉터리의 파일 피드. 파일은 rename으로 점유하고, 점유 경로를 피드 속성에 실어 보내므로
+ * 완료/실패 처리에 노드 로컬 상태가 필요 없다. 점유 경로에는 점유 토큰 폴더가 들어 있어, 임대가 만료돼 다른 노드가
+ * 다시 점유한 파일은 이전 점유자의 갱신·완료 처리가 건드리지 못한다.
+ */
 @Component
 @Order(0)
 @RequiredArgsConstructor
 @Slf4j
 public class FileDataFeedConnector implements DataFeedConnector {
 
-    private final ConcurrentHashMap<String, HrFileDescriptor> descriptors = new ConcurrentHashMap<>();
+    static final String FILE_NAME_ATTRIBUTE = "fileName";
+    static final String CLAIMED_PATH_ATTRIBUTE = "claimedPath";
+
+    private static final Set<DataFeedType> STREAMED_TYPES = EnumSet.of(DataFeedType.EMPLOYEE);
+
     private final DwFileStorageService fileStorageService;
 
     @Override
     public Optional<DataFeed> nextFeed() {
-        return fileStorageService.nextPendingFile()
+        for (DataFeedType feedType : DataFeedType.values()) {
+            Optional<DataFeed> feed = nextFeed(feedType);
+            if (feed.isPresent()) {
+                return feed;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<DataFeed> nextFeed(DataFeedType feedType) {
+        return fileStorageService.claimNext(feedType)
                 .flatMap(this::toFeed);
     }
 
     private Optional<DataFeed> toFeed(HrFileDescriptor descriptor) {
         try {
-            String payload = fileStorageService.readPayload(descriptor);
+            // 대용량 직원 피드는 본문을 읽지 않고 경로만 넘겨 템플릿이 청크 단위로 스트리밍한다.
+            boolean streamed = STREAMED_TYPES.contains(descriptor.feedType());
+            String payload = streamed ? null : fileStorageService.readPayload(descriptor);
             String feedId = UUID.randomUUID().toString();
-            java.util.Map<String, String> attributes = new java.util.HashMap<>(descriptor.attributes());
-            attributes.put("fileName", descriptor.fileName());
+            Map<String, String> attributes = new HashMap<>(descriptor.attributes());
+            attributes.put(FILE_NAME_ATTRIBUTE, descriptor.fileName());
+            attributes.put(CLAIMED_PATH_ATTRIBUTE, descriptor.path().toString());
             DataFeed feed = new DataFeed(feedId,
                     descriptor.feedType(),
                     descriptor.businessDate(),
                     descriptor.sequenceNumber(),
                     payload,
                     "FILE",
-                    java.util.Collections.unmodifiableMap(attributes));
-            descriptors.put(feedId, descriptor);
+                    Collections.unmodifiableMap(attributes),
+                    streamed ? descriptor.path() : null);
             return Optional.of(feed);
         } catch (IOException ex) {
             log.error("Failed to read HR file {}", descriptor.path(), ex);
@@ -51,20 +79,31 @@ public class FileDataFeedConnector implements DataFeedConnector {
         }
     }
 
+    @Override
+    public boolean renewClaim(DataFeed feed) {
+        return claimedDescriptor(feed).map(fileStorageService::renewClaim).orElse(true);
+    }
+
     @Override
     public void onSuccess(DataFeed feed) {
-        HrFileDescriptor descriptor = descriptors.remove(feed.id());
-        if (descriptor != null) {
-            fileStorageService.markProcessed(descriptor, true);
-        }
+        claimedDescriptor(feed).ifPresent(descriptor -> fileStorageService.markProcessed(descriptor, true));
     }
 
     @Override
     public void onFailure(DataFeed feed, Exception exception) {
-        HrFileDescriptor descriptor = descriptors.remove(feed.id());
-        if (descriptor != null) {
-            fileStorageService.markProcessed(descriptor, false);
+        claimedDescriptor(feed).ifPresent(descriptor -> fileStorageService.markProcessed(descriptor, false));
+    }
+
+    private static Optional<HrFileDescriptor> claimedDescriptor(DataFeed feed) {
+        String claimedPath = feed.attribute(CLAIMED_PATH_ATTRIBUTE);
+        if (claimedPath == null) {
+            return Optional.empty();
         }
+        Map<String, String> attributes = new HashMap<>(feed.attributes());
+        attributes.remove(FILE_NAME_ATTRIBUTE);
+        attributes.remove(CLAIMED_PATH_ATTRIBUTE);
+        return Optional.of(new HrFileDescriptor(feed.attribute(FILE_NAME_ATTRIBUTE), feed.businessDate(),
+                feed.sequenceNumber(), Path.of(claimedPath), feed.feedType(), Map.copyOf(attributes)));
     }
 
     @Override
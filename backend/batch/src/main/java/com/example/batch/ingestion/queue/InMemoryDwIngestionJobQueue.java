@@ -1,6 +1,7 @@
 package com.example.batch.ingestion.queue;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
@@ -9,20 +10,18 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.example.batch.ingestion.DwIngestionService;
-import com.example.batch.security.DwBatchAuthContext;
+import com.example.batch.ingestion.DwFeedScheduler;
 import com.example.dw.application.job.DwIngestionJob;
 import com.example.dw.application.job.DwIngestionJobQueue;
 import com.example.dw.application.job.DwIngestionJobType;
 import com.example.dw.application.job.DwIngestionOutboxService;
-import com.example.admin.permission.context.AuthContextPropagator;
 
 @Component
 public class InMemoryDwIngestionJobQueue implements DwIngestionJobQueue {
 
     private static final Logger log = LoggerFactory.getLogger(InMemoryDwIngestionJobQueue.class);
 
-    private final DwIngestionService ingestionService;
+    private final DwFeedScheduler feedScheduler;
     private final DwIngestionOutboxService outboxService;
     private final Executor dwIngestionJobExecutor;
     private final int maxAttempts;
@@ -30,14 +29,14 @@ public class InMemoryDwIngestionJobQueue implements DwIngestionJobQueue {
     private final double backoffMultiplier;
     private final Duration maxBackoff;
 
-    public InMemoryDwIngestionJobQueue(DwIngestionService ingestionService,
+    public InMemoryDwIngestionJobQueue(DwFeedScheduler feedScheduler,
                                        DwIngestionOutboxService outboxService,
                                        @Qualifier("dwIngestionJobExecutor") Executor dwIngestionJobExecutor,
                                        @Value("${dw.ingestion.queue.max-attempts:5}") int maxAttempts,
                                        @Value("${dw.ingestion.queue.backoff.initial-ms:1000}") long initialBackoffMs,
                                        @Value("${dw.ingestion.queue.backoff.multiplier:2.0}") double backoffMultiplier,
                                        @Value("${dw.ingestion.queue.backoff.max-ms:60000}") long maxBackoffMs) {
-        this.ingestionService = ingestionService;
+        this.feedScheduler = feedScheduler;
         this.outboxService = outboxService;
         this.dwIngestionJobExecutor = dwIngestionJobExecutor;
         this.maxAttempts = Math.max(1, maxAttempts);
@@ -54,7 +53,10 @@ public class InMemoryDwIngestionJobQueue implements DwIngestionJobQueue {
     private void handle(DwIngestionJob job, int attempt) {
         try {
             if (job.type() == DwIngestionJobType.FETCH_NEXT) {
-                AuthContextPropagator.runWithContext(DwBatchAuthContext.systemContext(), ingestionService::ingestNextFile);
+                // 피드 유형별 drain 작업을 executor에 나눠 넘기고(유형 간 병렬, 유형 내 순차), 모두 끝난 뒤에 확정한다.
+                // drain이 실패하면 ack하지 않고 재시도/백오프 경로로 보낸다.
+                feedScheduler.drainAll().whenComplete((ignored, failure) -> complete(job, attempt, failure));
+                return;
             }
             acknowledge(job);
         }
@@ -63,6 +65,20 @@ public class InMemoryDwIngestionJobQueue implements DwIngestionJobQueue {
         }
     }
 
+    private void complete(DwIngestionJob job, int attempt, Throwable failure) {
+        if (failure != null) {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+            handleFailure(job, attempt, cause instanceof Exception exception ? exception : new IllegalStateException(cause));
+            return;
+        }
+        try {
+            acknowledge(job);
+        }
+        catch (Exception exception) {
+            handleFailure(job, attempt, exception);
+        }
+    }
+
     private void acknowledge(DwIngestionJob job) {
         if (job.hasOutboxReference()) {
             outboxService.markCompleted(job.outboxId());
@@ -1,5 +1,8 @@
 package com.example.batch.ingestion.template;
 
+import java.io.IOException;
+
+import com.example.batch.ingestion.feed.DataFeed;
 import com.example.dw.domain.HrImportBatchEntity;
 import com.example.dw.dto.DataFeedType;
 
@@ -8,4 +11,12 @@ public interface DwFeedIngestionTemplate {
     DataFeedType supportedType();
 
     DwIngestionResult ingest(HrImportBatchEntity batch, String payload);
+
+    /**
+     * 파일 기반 피드를 처리한다. 기본 구현은 본문 전체를 읽어 {@link #ingest(HrImportBatchEntity, String)}에 위임하며,
+     * 대용량 피드 템플릿은 청크 단위 스트리밍으로 재정의한다.
+     */
+    default DwIngestionResult ingestStream(HrImportBatchEntity batch, DataFeed feed) throws IOException {
+        return ingest(batch, feed.readPayload());
+    }
 }
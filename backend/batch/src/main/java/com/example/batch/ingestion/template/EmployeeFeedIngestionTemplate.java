@@ -1,6 +1,10 @@
 package com.example.batch.ingestion.template;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.stereotype.Component;
 
@@ -10,6 +14,8 @@ import com.example.batch.ingestion.HrEmployeeSynchronizationService;
 import com.example.batch.ingestion.HrRecordValidator;
 import com.example.batch.ingestion.HrStagingService;
 import com.example.batch.ingestion.HrCsvRecordParser;
+import com.example.batch.ingestion.feed.DataFeed;
+import com.example.dw.config.DwIngestionProperties;
 import com.example.dw.domain.HrImportBatchEntity;
 import com.example.dw.dto.DataFeedType;
 import com.example.dw.dto.HrEmployeeRecord;
@@ -24,6 +30,7 @@ public class EmployeeFeedIngestionTemplate implements DwFeedIngestionTemplate {
     private final HrRecordValidator validator;
     private final HrStagingService stagingService;
     private final HrEmployeeSynchronizationService synchronizationService;
+    private final DwIngestionProperties properties;
 
     @Override
     public DataFeedType supportedType() {
@@ -40,4 +47,33 @@ public class EmployeeFeedIngestionTemplate implements DwFeedIngestionTemplate {
         return new DwIngestionResult(parsed.size(), syncResult.insertedRecords(), syncResult.updatedRecords(),
                 validation.errors().size());
     }
+
+    /**
+     * 파일을 청크 단위로 읽어 검증·스테이징·동기화를 반복한다. 청크마다 각 서비스의 트랜잭션이 커밋되므로
+     * 메모리 사용량은 파일 크기와 무관하게 청크 크기에 비례한다(중복 판정 키만 파일 전체에 걸쳐 유지).
+     */
+    @Override
+    public DwIngestionResult ingestStream(HrImportBatchEntity batch, DataFeed feed) throws IOException {
+        Set<String> uniqueKeys = new HashSet<>();
+        ChunkTotals totals = new ChunkTotals();
+        int parsed;
+        try (Reader reader = feed.openPayload()) {
+            parsed = parser.parse(reader, properties.getChunkSize(), chunk -> {
+                HrValidationResult validation = validator.validate(chunk, uniqueKeys);
+                stagingService.persistRecords(batch, validation.validRecords());
+                stagingService.persistErrors(batch, validation.errors());
+                HrSyncResult syncResult = synchronizationService.synchronize(batch, validation.validRecords());
+                totals.inserted += syncResult.insertedRecords();
+                totals.updated += syncResult.updatedRecords();
+                totals.failed += validation.errors().size();
+            });
+        }
+        return new DwIngestionResult(parsed, totals.inserted, totals.updated, totals.failed);
+    }
+
+    private static final class ChunkTotals {
+        private int inserted;
+        private int updated;
+        private int failed;
+    }
 }
@@ -51,6 +51,7 @@ import com.example.admin.permission.repository.PermissionGroupRepository;
 import com.example.admin.permission.repository.PermissionGroupRootRepository;
 import com.example.audit.infra.persistence.AuditLogRepository;
 import com.example.audit.infra.AuditRecordService;
+import com.example.audit.infra.persistence.AuditDailyRollupRepository;
 import com.example.audit.infra.persistence.AuditMonthlySummaryRepository;
 import com.example.audit.infra.masking.UnmaskAuditRepository;
 import com.example.file.StoredFileVersionRepository;
@@ -210,6 +211,9 @@ class AuditMetricsExposureTest {
     @MockBean
     AuditMonthlySummaryRepository auditMonthlySummaryRepository;
 
+    @MockBean
+    AuditDailyRollupRepository auditDailyRollupRepository;
+
     @MockBean
     UnmaskAuditRepository unmaskAuditRepository;
 
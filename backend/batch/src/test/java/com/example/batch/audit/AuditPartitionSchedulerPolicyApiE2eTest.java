@@ -66,6 +66,7 @@ import com.example.admin.permission.repository.PermissionGroupRepository;
 import com.example.admin.permission.repository.PermissionGroupRootRepository;
 import com.example.audit.infra.persistence.AuditLogRepository;
 import com.example.audit.infra.AuditRecordService;
+import com.example.audit.infra.persistence.AuditDailyRollupRepository;
 import com.example.audit.infra.persistence.AuditMonthlySummaryRepository;
 import com.example.audit.infra.masking.UnmaskAuditRepository;
 import com.example.file.StoredFileVersionRepository;
@@ -250,6 +251,9 @@ class AuditPartitionSchedulerPolicyApiE2eTest {
     @MockBean
     AuditMonthlySummaryRepository auditMonthlySummaryRepository;
 
+    @MockBean
+    AuditDailyRollupRepository auditDailyRollupRepository;
+
     @MockBean
     UnmaskAuditRepository unmaskAuditRepository;
 
@@ -0,0 +1,79 @@
+package com.example.batch.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.example.common.cache.CacheInvalidationEvent;
+import com.example.common.cache.CacheInvalidationType;
+import com.example.dw.application.readmodel.OrganizationChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@ExtendWith(MockitoExtension.class)
+class OrganizationChangeBroadcasterTest {
+
+    @Mock
+    StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private OrganizationChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        CacheInvalidationProperties properties = new CacheInvalidationProperties();
+        properties.setEnabled(true);
+        broadcaster = new OrganizationChangeBroadcaster(redisTemplate, objectMapper, properties);
+    }
+
+    @Test
+    @DisplayName("바뀐 조직 코드를 중복 없이 scopeId에 담아 보낸다")
+    void givenChangedCodes_whenBroadcast_thenScopeIdCarriesCodes() throws Exception {
+        broadcaster.onOrganizationChanged(new OrganizationChangedEvent(UUID.randomUUID(), List.of("A", "B", "A")));
+
+        CacheInvalidationEvent sent = sent();
+        assertThat(sent.type()).isEqualTo(CacheInvalidationType.ORGANIZATION);
+        assertThat(sent.scopeId()).isEqualTo("A,B");
+        assertThat(sent.version()).isPositive();
+    }
+
+    @Test
+    @DisplayName("코드가 너무 많으면 scopeId 없이 보내 전체 재구성을 요청한다")
+    void givenTooManyCodes_whenBroadcast_thenScopeIdNull() throws Exception {
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i <= OrganizationChangeBroadcaster.MAX_CODES_PER_EVENT; i++) {
+            codes.add("ORG-" + i);
+        }
+
+        broadcaster.onOrganizationChanged(new OrganizationChangedEvent(UUID.randomUUID(), codes));
+
+        assertThat(sent().scopeId()).isNull();
+    }
+
+    @Test
+    void givenNoCodes_whenBroadcast_thenNothingSent() {
+        broadcaster.onOrganizationChanged(new OrganizationChangedEvent(UUID.randomUUID(), List.of()));
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private CacheInvalidationEvent sent() throws Exception {
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("cache-invalidation"), payload.capture());
+        return objectMapper.readValue(payload.getValue(), CacheInvalidationEvent.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.batch.ingestion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CsvTokenizerTest {
+
+    @Test
+    @DisplayName("따옴표 필드의 쉼표·escape·줄바꿈을 값으로 취급한다")
+    void quotedFields() throws IOException {
+        String csv = "a,\"b,c\",\"say \"\"hi\"\"\",\"multi\nline\",\"\"\nnext,row\n";
+        try (CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(csv))) {
+            assertThat(tokenizer.next()).isTrue();
+            assertThat(tokenizer.fields()).containsExactly("a", "b,c", "say \"hi\"", "multi\nline", "");
+            assertThat(tokenizer.raw()).isEqualTo("a,\"b,c\",\"say \"\"hi\"\"\",\"multi\nline\",\"\"");
+            assertThat(tokenizer.lineNumber()).isEqualTo(1);
+
+            assertThat(tokenizer.next()).isTrue();
+            assertThat(tokenizer.fields()).containsExactly("next", "row");
+            assertThat(tokenizer.lineNumber()).isEqualTo(3);
+            assertThat(tokenizer.next()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("CRLF, 단독 CR, 마지막 줄바꿈 누락, 빈 줄을 처리한다")
+    void lineEndings() throws IOException {
+        List<String> raws = new ArrayList<>();
+        List<Integer> lines = new ArrayList<>();
+        try (CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("h1,h2\r\nx,y\r\rz,\n,last"))) {
+            while (tokenizer.next()) {
+                raws.add(tokenizer.raw());
+                lines.add(tokenizer.lineNumber());
+            }
+        }
+        assertThat(raws).containsExactly("h1,h2", "x,y", "", "z,", ",last");
+        assertThat(lines).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @DisplayName("레코드가 버퍼 경계를 넘거나 버퍼보다 길어도 온전히 읽는다")
+    void recordsSpanningBufferRefills() throws IOException {
+        String longField = "x".repeat(100);
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            csv.append(i).append(",\"").append(longField).append(" \"\"").append(i).append("\"\"\"\n");
+        }
+        int count = 0;
+        try (CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(csv.toString()), 16)) {
+            while (tokenizer.next()) {
+                assertThat(tokenizer.fields()).containsExactly(String.valueOf(count), longField + " \"" + count + "\"");
+                count++;
+            }
+        }
+        assertThat(count).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("닫는 따옴표 뒤 문자나 닫히지 않은 따옴표도 관대하게 읽는다")
+    void lenientQuotes() throws IOException {
+        try (CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("\"ab\"cd,e\"f\n\"open,end"))) {
+            assertThat(tokenizer.next()).isTrue();
+            assertThat(tokenizer.fields()).containsExactly("abcd", "e\"f");
+            assertThat(tokenizer.next()).isTrue();
+            assertThat(tokenizer.fields()).containsExactly("open,end");
+            assertThat(tokenizer.next()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("빈 입력은 레코드가 없다")
+    void emptyInput() throws IOException {
+        try (CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(""))) {
+            assertThat(tokenizer.next()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.batch.ingestion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.dw.domain.HrImportBatchEntity;
+import com.example.dw.dto.DataFeedType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DwFeedSchedulerTest {
+
+    private final DwIngestionService ingestionService = mock(DwIngestionService.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("유형마다 drain 작업을 하나씩 넘기고, 대기 피드가 없을 때까지 처리하며 메트릭을 남긴다")
+    void drainAll_drainsEachTypeAndRecordsMetrics() {
+        HrImportBatchEntity first = completed(DataFeedType.EMPLOYEE, 10);
+        HrImportBatchEntity second = completed(DataFeedType.EMPLOYEE, 5);
+        given(ingestionService.ingestNext(any())).willReturn(Optional.empty());
+        given(ingestionService.ingestNext(DataFeedType.EMPLOYEE))
+                .willReturn(Optional.of(first), Optional.of(second), Optional.empty());
+        DwFeedScheduler scheduler = new DwFeedScheduler(ingestionService, Runnable::run, registry);
+
+        assertThat(scheduler.drainAll()).isCompleted();
+
+        verify(ingestionService, times(3)).ingestNext(DataFeedType.EMPLOYEE);
+        verify(ingestionService).ingestNext(DataFeedType.ORGANIZATION);
+        assertThat(registry.get("dw_feed_records_total").tag("feed_type", "EMPLOYEE").counter().count())
+                .isEqualTo(15.0);
+        assertThat(registry.get("dw_feed_processing_ms").tag("feed_type", "EMPLOYEE").timer().count())
+                .isEqualTo(2);
+        assertThat(registry.get("dw_feed_batches_total").tags("feed_type", "EMPLOYEE", "status", "COMPLETED")
+                .counter().count()).isEqualTo(2.0);
+        assertThat(scheduler.isRunning(DataFeedType.EMPLOYEE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 drain 중인 유형은 다시 넘기지 않고 그 작업을 기다린다")
+    void drainAll_joinsTypesAlreadyRunning() {
+        List<Runnable> queued = new ArrayList<>();
+        Executor deferred = queued::add;
+        given(ingestionService.ingestNext(any())).willReturn(Optional.empty());
+        DwFeedScheduler scheduler = new DwFeedScheduler(ingestionService, deferred, registry);
+
+        CompletableFuture<Void> first = scheduler.drainAll();
+        CompletableFuture<Void> second = scheduler.drainAll();
+
+        assertThat(queued).hasSize(DataFeedType.values().length);
+        assertThat(scheduler.isRunning(DataFeedType.HOLIDAY)).isTrue();
+        queued.forEach(Runnable::run);
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(scheduler.isRunning(DataFeedType.HOLIDAY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("executor가 거절하면 예외로 완료하고 해당 유형을 다시 넘길 수 있게 둔다")
+    void drainAll_rejectedDoesNotLeaveTypeRunning() {
+        Executor rejecting = command -> {
+            throw new RejectedExecutionException("full");
+        };
+        DwFeedScheduler scheduler = new DwFeedScheduler(ingestionService, rejecting, null);
+
+        assertThat(scheduler.drainAll()).isCompletedExceptionally();
+        assertThat(scheduler.isRunning(DataFeedType.EMPLOYEE)).isFalse();
+        verify(ingestionService, never()).ingestNext(any());
+    }
+
+    @Test
+    @DisplayName("drain 도중 예외가 나도 유형 표시를 해제한다")
+    void drainFailure_releasesFlag() {
+        given(ingestionService.ingestNext(any())).willThrow(new IllegalStateException("db down"));
+        DwFeedScheduler scheduler = new DwFeedScheduler(ingestionService, Runnable::run, registry);
+
+        scheduler.drainAll();
+
+        for (DataFeedType type : DataFeedType.values()) {
+            assertThat(scheduler.isRunning(type)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("drainAll은 모든 유형의 drain이 끝나야 완료되고, 이미 돌고 있는 drain도 기다린다")
+    void drainAll_completesWhenEveryTypeFinishes() {
+        List<Runnable> queued = new ArrayList<>();
+        Executor deferred = queued::add;
+        given(ingestionService.ingestNext(any())).willReturn(Optional.empty());
+        DwFeedScheduler scheduler = new DwFeedScheduler(ingestionService, deferred, registry);
+
+        CompletableFuture<Void> all = scheduler.drainAll();
+
+        assertThat(queued).hasSize(DataFeedType.values().length);
+        assertThat(all).isNotDone();
+        queued.forEach(Runnable::run);
+        assertThat(all).isCompleted();
+    }
+
+    @Test
+    @DisplayName("drain이 예외로 멈추면 drainAll도 예외로 완료된다")
+    void drainAll_failsWhenDrainFails() {
+        given(ingestionService.ingestNext(any())).willThrow(new IllegalStateException("db down"));
+        DwFeedScheduler scheduler = new DwFeedScheduler(ingestionService, Runnable::run, registry);
+
+        assertThat(scheduler.drainAll()).isCompletedExceptionally();
+    }
+
+    private static HrImportBatchEntity completed(DataFeedType type, int records) {
+        HrImportBatchEntity batch = HrImportBatchEntity.receive("feed.csv", type, "FILE", LocalDate.now(), 1,
+                "chk", "/tmp");
+        batch.markValidated(records, 0);
+        batch.markCompleted(records, 0, 0);
+        return batch;
+    }
+}
@@ -5,6 +5,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Optional;
 
@@ -13,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import com.example.dw.config.DwIngestionProperties;
+import com.example.dw.dto.DataFeedType;
+import com.example.dw.dto.HrFileDescriptor;
 
 class DwFileStorageServiceTest {
 
@@ -85,4 +90,114 @@ class DwFileStorageServiceTest {
         assertThat(descriptor.get().feedType()).isEqualTo(com.example.dw.dto.DataFeedType.COMMON_CODE);
         assertThat(descriptor.get().attributes().get("codeType")).isEqualTo("STATUS");
     }
+
+    @Test
+    void givenPendingFiles_whenClaimNext_thenMoveEarliestOfTypeIntoClaimDir() throws IOException {
+        Path incoming = properties.getIncomingDir();
+        Files.createDirectories(incoming);
+        Files.writeString(incoming.resolve("employee_20240101_002.csv"), "second");
+        Files.writeString(incoming.resolve("employee_20240101_001.csv"), "first");
+        Files.writeString(incoming.resolve("organization_20231231_001.csv"), "org");
+
+        HrFileDescriptor claimed = storageService.claimNext(DataFeedType.EMPLOYEE).orElseThrow();
+
+        Path claimDir = incoming.resolve(DwFileStorageService.CLAIM_DIR_NAME);
+        assertThat(claimed.fileName()).isEqualTo("employee_20240101_001.csv");
+        assertThat(claimed.path().getFileName()).hasToString("employee_20240101_001.csv");
+        assertThat(claimed.path().getParent().getParent()).isEqualTo(claimDir);
+        assertThat(storageService.readPayload(claimed)).isEqualTo("first");
+        assertThat(incoming.resolve("employee_20240101_001.csv")).doesNotExist();
+        assertThat(incoming.resolve("organization_20231231_001.csv")).exists();
+    }
+
+    @Test
+    void givenSameTypeAlreadyClaimed_whenClaimNext_thenWaitButOtherTypesProceed() throws IOException {
+        Path incoming = properties.getIncomingDir();
+        Files.createDirectories(incoming);
+        Files.writeString(incoming.resolve("employee_20240101_001.csv"), "first");
+        Files.writeString(incoming.resolve("employee_20240101_002.csv"), "second");
+        Files.writeString(incoming.resolve("organization_20240101_001.csv"), "org");
+
+        HrFileDescriptor first = storageService.claimNext(DataFeedType.EMPLOYEE).orElseThrow();
+
+        assertThat(storageService.claimNext(DataFeedType.EMPLOYEE)).isEmpty();
+        assertThat(storageService.claimNext(DataFeedType.ORGANIZATION)).isPresent();
+
+        storageService.markProcessed(first, true);
+        assertThat(properties.getArchiveDir().resolve("employee_20240101_001.csv")).exists();
+        assertThat(storageService.claimNext(DataFeedType.EMPLOYEE).orElseThrow().sequenceNumber()).isEqualTo(2);
+    }
+
+    @Test
+    void givenExpiredClaim_whenClaimNext_thenReleaseAndClaimAgain() throws IOException {
+        properties.setClaimLease(Duration.ofMinutes(5));
+        Path incoming = properties.getIncomingDir();
+        Files.createDirectories(incoming);
+        Files.writeString(incoming.resolve("employee_20240101_001.csv"), "first");
+        HrFileDescriptor stale = storageService.claimNext(DataFeedType.EMPLOYEE).orElseThrow();
+        Files.setLastModifiedTime(stale.path(), FileTime.from(Instant.now().minus(Duration.ofMinutes(10))));
+
+        HrFileDescriptor reclaimed = storageService.claimNext(DataFeedType.EMPLOYEE).orElseThrow();
+
+        assertThat(reclaimed.path()).isNotEqualTo(stale.path());
+        assertThat(reclaimed.path()).exists();
+        assertThat(stale.path().getParent()).doesNotExist();
+    }
+
+    @Test
+    void givenReclaimedByAnotherWorker_whenStaleOwnerMarksProcessed_thenLeaveNewClaimAlone() throws IOException {
+        properties.setClaimLease(Duration.ofMinutes(5));
+        Path incoming = properties.getIncomingDir();
+        Files.createDirectories(incoming);
+        Files.writeString(incoming.resolve("employee_20240101_001.csv"), "first");
+        HrFileDescriptor stale = storageService.claimNext(DataFeedType.EMPLOYEE).orElseThrow();
+        Files.setLastModifiedTime(stale.path(), FileTime.from(Instant.now().minus(Duration.ofMinutes(10))));
+        HrFileDescriptor reclaimed = storageService.claimNext(DataFeedType.EMPLOYEE).orElseThrow();
+
+        storageService.markProcessed(stale, true);
+
+        assertThat(storageService.renewClaim(stale)).isFalse();
+        assertThat(reclaimed.path()).exists();
+        assertThat(properties.getArchiveDir().resolve("employee_20240101_001.csv")).doesNotExist();
+
+        storageService.markProcessed(reclaimed, true);
+
+        assertThat(properties.getArchiveDir().resolve("employee_20240101_001.csv")).exists();
+        assertThat(reclaimed.path().getParent()).doesNotExist();
+    }
+
+    @Test
+    void givenRenewedClaim_whenClaimNext_thenKeepClaimUntilLeaseFromRenewal() throws IOException {
+        properties.setClaimLease(Duration.ofMinutes(5));
+        Path incoming = properties.getIncomingDir();
+        Files.createDirectories(incoming);
+        Files.writeString(incoming.resolve("employee_20240101_001.csv"), "first");
+        HrFileDescriptor claimed = storageService.claimNext(DataFeedType.EMPLOYEE).orElseThrow();
+        Files.setLastModifiedTime(claimed.path(), FileTime.from(Instant.now().minus(Duration.ofMinutes(10))));
+
+        assertThat(storageService.renewClaim(claimed)).isTrue();
+
+        assertThat(storageService.claimNext(DataFeedType.EMPLOYEE)).isEmpty();
+        assertThat(claimed.path()).exists();
+        Files.delete(claimed.path());
+        assertThat(storageService.renewClaim(claimed)).isFalse();
+    }
+
+    @Test
+    void givenNoFileOfType_whenClaimNext_thenEmpty() throws IOException {
+        Files.createDirectories(properties.getIncomingDir());
+        Files.writeString(properties.getIncomingDir().resolve("organization_20240101_001.csv"), "org");
+
+        assertThat(storageService.claimNext(DataFeedType.EMPLOYEE)).isEmpty();
+    }
+
+    @Test
+    void givenDisabled_whenClaimNext_thenEmpty() throws IOException {
+        properties.setEnabled(false);
+        Files.createDirectories(properties.getIncomingDir());
+        Files.writeString(properties.getIncomingDir().resolve("employee_20240101_001.csv"), "first");
+
+        assertThat(storageService.claimNext(DataFeedType.EMPLOYEE)).isEmpty();
+        assertThat(properties.getIncomingDir().resolve("employee_20240101_001.csv")).exists();
+    }
 }
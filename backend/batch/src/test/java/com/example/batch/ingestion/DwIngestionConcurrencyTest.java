@@ -28,6 +28,7 @@ import com.example.batch.ingestion.feed.DataFeed;
 import com.example.batch.ingestion.feed.DataFeedConnector;
 import com.example.batch.ingestion.template.DwFeedIngestionTemplate;
 import com.example.batch.ingestion.template.DwIngestionResult;
+import com.example.dw.config.DwIngestionProperties;
 import com.example.dw.domain.repository.HrBatchRepository;
 import com.example.dw.domain.HrBatchStatus;
 import com.example.dw.domain.HrImportBatchEntity;
@@ -84,7 +85,7 @@ class DwIngestionConcurrencyTest {
 
         ExecutorService executor = Executors.newFixedThreadPool(2);
         Callable<Void> task = () -> {
-            ingestionService.ingestNextFile();
+            ingestionService.ingestNext(DataFeedType.EMPLOYEE);
             return null;
         };
 
@@ -125,8 +126,9 @@ class DwIngestionConcurrencyTest {
         @Bean
         DwIngestionService dwIngestionService(List<DataFeedConnector> connectors,
                                               List<DwFeedIngestionTemplate> templates,
-                                              HrBatchRepository repository) {
-            return new DwIngestionService(connectors, templates, repository);
+                                              HrBatchRepository repository,
+                                              PlatformTransactionManager transactionManager) {
+            return new DwIngestionService(connectors, templates, repository, transactionManager, new DwIngestionProperties());
         }
 
         @Bean
@@ -155,6 +157,11 @@ class DwIngestionConcurrencyTest {
             return java.util.Optional.ofNullable(queue.poll());
         }
 
+        @Override
+        public java.util.Optional<DataFeed> nextFeed(DataFeedType feedType) {
+            return nextFeed().filter(feed -> feed.feedType() == feedType);
+        }
+
         @Override
         public String name() {
             return "test";
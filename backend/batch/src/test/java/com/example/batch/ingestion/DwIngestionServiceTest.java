@@ -3,23 +3,35 @@ package com.example.batch.ingestion;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.example.batch.ingestion.feed.DataFeed;
 import com.example.batch.ingestion.feed.DataFeedConnector;
 import com.example.batch.ingestion.template.DwFeedIngestionTemplate;
 import com.example.batch.ingestion.template.DwIngestionResult;
+import com.example.dw.config.DwIngestionProperties;
 import com.example.dw.domain.HrBatchStatus;
 import com.example.dw.domain.HrImportBatchEntity;
 import com.example.dw.domain.repository.HrBatchRepository;
@@ -39,6 +51,8 @@ class DwIngestionServiceTest {
     private DwFeedIngestionTemplate employeeTemplate;
     @Mock
     private DwFeedIngestionTemplate organizationTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     private DwIngestionService service;
 
@@ -46,20 +60,27 @@ class DwIngestionServiceTest {
     void setUp() {
         given(employeeTemplate.supportedType()).willReturn(DataFeedType.EMPLOYEE);
         given(organizationTemplate.supportedType()).willReturn(DataFeedType.ORGANIZATION);
-        given(batchRepository.save(any(HrImportBatchEntity.class))).willAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(batchRepository.save(any(HrImportBatchEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        DwIngestionProperties properties = new DwIngestionProperties();
+        properties.setClaimLease(Duration.ofSeconds(3));
         service = new DwIngestionService(List.of(primaryConnector, secondaryConnector),
-                List.of(employeeTemplate, organizationTemplate), batchRepository);
+                List.of(employeeTemplate, organizationTemplate), batchRepository, transactionManager, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
     }
 
     @Test
     void givenEmployeeFeed_whenProcessed_thenUseTemplate() {
         DataFeed feed = new DataFeed("employees.csv", DataFeedType.EMPLOYEE, LocalDate.now(), 1,
                 "payload", "sftp", Map.of());
-        given(primaryConnector.nextFeed()).willReturn(Optional.empty());
-        given(secondaryConnector.nextFeed()).willReturn(Optional.of(feed));
+        given(primaryConnector.nextFeed(DataFeedType.EMPLOYEE)).willReturn(Optional.empty());
+        given(secondaryConnector.nextFeed(DataFeedType.EMPLOYEE)).willReturn(Optional.of(feed));
         given(employeeTemplate.ingest(any(), any())).willReturn(new DwIngestionResult(1, 1, 0, 0));
 
-        Scenario.given("직원 피드", service::ingestNextFile)
+        Scenario.given("직원 피드", () -> service.ingestNext(DataFeedType.EMPLOYEE))
                 .then("배치 완료", maybeBatch -> {
                     assertThat(maybeBatch).isPresent();
                     assertThat(maybeBatch.get().getStatus()).isEqualTo(HrBatchStatus.COMPLETED);
@@ -72,11 +93,11 @@ class DwIngestionServiceTest {
     void givenTemplateThrows_whenProcessing_thenMarkFailed() {
         DataFeed feed = new DataFeed("org.csv", DataFeedType.ORGANIZATION, LocalDate.now(), 1,
                 "payload", "sftp", Map.of());
-        given(primaryConnector.nextFeed()).willReturn(Optional.of(feed));
+        given(primaryConnector.nextFeed(DataFeedType.ORGANIZATION)).willReturn(Optional.of(feed));
         RuntimeException error = new RuntimeException("boom");
         given(organizationTemplate.ingest(any(), any())).willThrow(error);
 
-        Scenario.given("조직 피드 실패", service::ingestNextFile)
+        Scenario.given("조직 피드 실패", () -> service.ingestNext(DataFeedType.ORGANIZATION))
                 .then("배치 실패", maybeBatch -> {
                     assertThat(maybeBatch).isPresent();
                     assertThat(maybeBatch.get().getStatus()).isEqualTo(HrBatchStatus.FAILED);
@@ -88,10 +109,10 @@ class DwIngestionServiceTest {
     void givenUnsupportedFeedType_whenTemplateMissing_thenMarkFailedAndContinue() {
         DataFeed unsupported = new DataFeed("holiday.csv", DataFeedType.HOLIDAY, LocalDate.now(), 3,
                 "csv", "sftp", Map.of());
-        given(primaryConnector.nextFeed()).willReturn(Optional.of(unsupported));
-        given(secondaryConnector.nextFeed()).willReturn(Optional.empty());
+        given(primaryConnector.nextFeed(DataFeedType.HOLIDAY)).willReturn(Optional.of(unsupported));
+        given(secondaryConnector.nextFeed(DataFeedType.HOLIDAY)).willReturn(Optional.empty());
 
-        Scenario.given("지원되지 않는 피드 타입", service::ingestNextFile)
+        Scenario.given("지원되지 않는 피드 타입", () -> service.ingestNext(DataFeedType.HOLIDAY))
                 .then("배치 실패 후 다음 커넥터로 진행", maybeBatch -> {
                     assertThat(maybeBatch).isEmpty();
                     verify(primaryConnector).onFailure(any(DataFeed.class), any(IllegalStateException.class));
@@ -102,4 +123,83 @@ class DwIngestionServiceTest {
                     assertThat(saved.getFeedType()).isEqualTo(DataFeedType.HOLIDAY);
                 });
     }
+
+    @Test
+    void givenFileBackedFeed_whenProcessed_thenStreamThroughTemplateAndHashFile(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("employee_20250101_001.csv"), "header\nE-1,Kim\n");
+        DataFeed feed = new DataFeed("employee_20250101_001.csv", DataFeedType.EMPLOYEE, LocalDate.now(), 1,
+                null, "FILE", Map.of(), file);
+        given(primaryConnector.nextFeed(DataFeedType.EMPLOYEE)).willReturn(Optional.of(feed));
+        given(employeeTemplate.ingestStream(any(), any())).willReturn(new DwIngestionResult(1, 1, 0, 0));
+
+        Optional<HrImportBatchEntity> batch = service.ingestNext(DataFeedType.EMPLOYEE);
+
+        assertThat(batch).isPresent();
+        assertThat(batch.get().getStatus()).isEqualTo(HrBatchStatus.COMPLETED);
+        String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(Files.readString(file).getBytes(StandardCharsets.UTF_8)));
+        assertThat(batch.get().getChecksum()).isEqualTo(expected);
+        verify(employeeTemplate).ingestStream(batch.get(), feed);
+        verify(employeeTemplate, org.mockito.Mockito.never()).ingest(any(), any());
+    }
+
+    @Test
+    void givenUnreadableFeedFile_whenHashing_thenReportFailureToConnector(@TempDir Path dir) {
+        DataFeed feed = new DataFeed("employee_20250101_002.csv", DataFeedType.EMPLOYEE, LocalDate.now(), 2,
+                null, "FILE", Map.of(), dir.resolve("missing.csv"));
+        given(primaryConnector.nextFeed(DataFeedType.EMPLOYEE)).willReturn(Optional.of(feed));
+        given(secondaryConnector.nextFeed(DataFeedType.EMPLOYEE)).willReturn(Optional.empty());
+
+        assertThat(service.ingestNext(DataFeedType.EMPLOYEE)).isEmpty();
+
+        verify(primaryConnector).onFailure(org.mockito.ArgumentMatchers.eq(feed), any(java.io.UncheckedIOException.class));
+        verify(employeeTemplate, org.mockito.Mockito.never()).ingestStream(any(), any());
+    }
+
+    @Test
+    void givenFeedType_whenIngestNext_thenClaimThatTypeFromConnectors() {
+        DataFeed feed = new DataFeed("org.csv", DataFeedType.ORGANIZATION, LocalDate.now(), 2,
+                "payload", "db", Map.of());
+        given(primaryConnector.nextFeed(DataFeedType.ORGANIZATION)).willReturn(Optional.empty());
+        given(secondaryConnector.nextFeed(DataFeedType.ORGANIZATION)).willReturn(Optional.of(feed));
+        given(organizationTemplate.ingest(any(), any())).willReturn(new DwIngestionResult(3, 2, 1, 0));
+
+        Optional<HrImportBatchEntity> batch = service.ingestNext(DataFeedType.ORGANIZATION);
+
+        assertThat(batch).isPresent();
+        assertThat(batch.get().getStatus()).isEqualTo(HrBatchStatus.COMPLETED);
+        assertThat(batch.get().getTotalRecords()).isEqualTo(3);
+        verify(secondaryConnector).onSuccess(feed);
+        verify(primaryConnector, org.mockito.Mockito.never()).nextFeed();
+    }
+
+    @Test
+    void givenUnsupportedClaimedFeed_whenIngestNext_thenFailItAndTryNextConnector() {
+        DataFeed unsupported = new DataFeed("holiday.csv", DataFeedType.HOLIDAY, LocalDate.now(), 1,
+                "csv", "sftp", Map.of());
+        given(primaryConnector.nextFeed(DataFeedType.HOLIDAY)).willReturn(Optional.of(unsupported));
+        given(secondaryConnector.nextFeed(DataFeedType.HOLIDAY)).willReturn(Optional.empty());
+
+        assertThat(service.ingestNext(DataFeedType.HOLIDAY)).isEmpty();
+
+        verify(primaryConnector).onFailure(any(DataFeed.class), any(IllegalStateException.class));
+        verify(secondaryConnector).nextFeed(DataFeedType.HOLIDAY);
+    }
+
+    @Test
+    void givenSlowFeed_whenProcessing_thenRenewClaimUntilDone() {
+        DataFeed feed = new DataFeed("employees.csv", DataFeedType.EMPLOYEE, LocalDate.now(), 1,
+                "payload", "db", Map.of());
+        given(primaryConnector.nextFeed(DataFeedType.EMPLOYEE)).willReturn(Optional.of(feed));
+        given(primaryConnector.renewClaim(feed)).willReturn(true);
+        given(employeeTemplate.ingest(any(), any())).willAnswer(invocation -> {
+            // 임대 3초 → 1초 주기로 갱신되므로 처리 중에 한 번은 갱신돼야 한다.
+            verify(primaryConnector, timeout(3_000)).renewClaim(feed);
+            return new DwIngestionResult(1, 1, 0, 0);
+        });
+
+        assertThat(service.ingestNext(DataFeedType.EMPLOYEE)).isPresent();
+
+        verify(primaryConnector).onSuccess(feed);
+    }
 }
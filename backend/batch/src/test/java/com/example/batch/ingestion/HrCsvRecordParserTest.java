@@ -3,11 +3,15 @@ package com.example.batch.ingestion;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.StringReader;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.example.dw.dto.HrEmployeeRecord;
+
 class HrCsvRecordParserTest {
 
     private final HrCsvRecordParser parser = new HrCsvRecordParser();
@@ -40,4 +44,42 @@ class HrCsvRecordParserTest {
         assertThatThrownBy(() -> parser.parse(payload))
                 .isInstanceOf(IllegalStateException.class);
     }
+
+    @Test
+    void givenQuotedFields_whenParse_thenUnquoteAndKeepRawLine() {
+        String payload = "employeeId,fullName,email,org,type,status,start,end\r\n" +
+                "E-1,\"Kim, Minsu\",kim@example.com,ORG,FULL,ACTIVE,2023-01-01,2023-12-31\r\n";
+
+        List<HrEmployeeRecord> records = parser.parse(payload);
+
+        assertThat(records).singleElement().satisfies(record -> {
+            assertThat(record.fullName()).isEqualTo("Kim, Minsu");
+            assertThat(record.endDate()).isEqualTo(LocalDate.of(2023, 12, 31));
+            assertThat(record.rawPayload()).isEqualTo("E-1,\"Kim, Minsu\",kim@example.com,ORG,FULL,ACTIVE,2023-01-01,2023-12-31");
+            assertThat(record.lineNumber()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void givenReader_whenParseInChunks_thenDeliverBoundedChunks() {
+        StringBuilder payload = new StringBuilder("header\n");
+        for (int i = 1; i <= 5; i++) {
+            payload.append("E-").append(i).append(",Kim,k@example.com,ORG,FULL,ACTIVE,2023-01-01,\n\n");
+        }
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        int total = parser.parse(new StringReader(payload.toString()), 2, chunk -> chunkSizes.add(chunk.size()));
+
+        assertThat(total).isEqualTo(5);
+        assertThat(chunkSizes).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void givenHeaderOnlyReader_whenParse_thenNoChunks() {
+        List<List<HrEmployeeRecord>> chunks = new ArrayList<>();
+
+        assertThat(parser.parse(new StringReader(""), 10, chunks::add)).isZero();
+        assertThat(parser.parse(new StringReader("header"), 10, chunks::add)).isZero();
+        assertThat(chunks).isEmpty();
+    }
 }
@@ -1,17 +1,25 @@
 package com.example.batch.ingestion;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -30,6 +38,8 @@ class HrEmployeeSynchronizationServiceTest {
     private HrEmployeeRepository repository;
     @Mock
     private DwEmployeeDirectoryService directoryService;
+    @Captor
+    private ArgumentCaptor<Iterable<HrEmployeeEntity>> savedCaptor;
 
     private HrEmployeeSynchronizationService service;
 
@@ -40,9 +50,8 @@ class HrEmployeeSynchronizationServiceTest {
 
     @Test
     void givenNewRecord_whenSynchronize_thenInsertSnapshot() {
-        HrEmployeeRecord record = new HrEmployeeRecord("E-1", "Kim", "kim@example.com", "ORG",
-                "FULL", "ACTIVE", LocalDate.now(), null, "payload", 2);
-        given(repository.findActive("E-1")).willReturn(Optional.empty());
+        HrEmployeeRecord record = record("E-1", "Kim", LocalDate.now());
+        given(repository.findByEmployeeIdInAndEffectiveEndIsNull(List.of("E-1"))).willReturn(List.of());
 
         HrImportBatchEntity batch = HrImportBatchEntity.receive(
                 "emp.csv", DataFeedType.EMPLOYEE, "SRC", LocalDate.now(), 1, "chk", "/tmp"
@@ -50,33 +59,117 @@ class HrEmployeeSynchronizationServiceTest {
         HrSyncResult result = service.synchronize(batch, List.of(record));
 
         assertThat(result.insertedRecords()).isEqualTo(1);
-        verify(repository).save(any(HrEmployeeEntity.class));
-        verify(directoryService).evict("E-1");
+        verify(repository).saveAll(savedCaptor.capture());
+        assertThat(saved()).singleElement().satisfies(entity -> {
+            assertThat(entity.getEmployeeId()).isEqualTo("E-1");
+            assertThat(entity.getVersion()).isEqualTo(1);
+            assertThat(entity.getSourceBatchId()).isEqualTo(batch.getId());
+        });
+        verify(directoryService).evictAll();
     }
 
     @Test
     void givenExistingRecord_whenStateChanges_thenUpdateAndInsert() {
-        HrEmployeeEntity active = HrEmployeeEntity.snapshot(
-                "E-1",
-                1,
-                "Old",
-                "old@example.com",
-                "ORG",
-                "FULL",
-                "ACTIVE",
-                LocalDate.now().minusDays(10),
-                null,
-                java.util.UUID.randomUUID(),
-                java.time.OffsetDateTime.now()
-        );
-        HrEmployeeRecord record = new HrEmployeeRecord("E-1", "Kim", "kim@example.com", "ORG",
-                "FULL", "ACTIVE", LocalDate.now(), null, "payload", 2);
-        given(repository.findActive("E-1")).willReturn(Optional.of(active));
+        HrEmployeeEntity active = active("E-1", 1, "Old", LocalDate.now().minusDays(10));
+        HrEmployeeRecord record = record("E-1", "Kim", LocalDate.now());
+        given(repository.findByEmployeeIdInAndEffectiveEndIsNull(List.of("E-1"))).willReturn(List.of(active));
 
         HrSyncResult result = service.synchronize(new HrImportBatchEntity(), List.of(record));
 
         assertThat(result.updatedRecords()).isEqualTo(1);
-        verify(repository).save(active);
-        verify(directoryService).evict("E-1");
+        assertThat(active.getEffectiveEnd()).isEqualTo(LocalDate.now().minusDays(1));
+        verify(repository).saveAll(savedCaptor.capture());
+        assertThat(saved()).hasSize(2).first().isSameAs(active);
+        assertThat(saved().get(1).getVersion()).isEqualTo(2);
+        verify(directoryService).evictAll();
+    }
+
+    @Test
+    @DisplayName("업무 상태가 같으면 아무것도 저장하지 않고 캐시도 비우지 않는다")
+    void givenSameState_whenSynchronize_thenSkip() {
+        LocalDate start = LocalDate.now().minusDays(10);
+        HrEmployeeEntity active = active("E-1", 3, "Kim", start);
+        given(repository.findByEmployeeIdInAndEffectiveEndIsNull(List.of("E-1"))).willReturn(List.of(active));
+
+        HrSyncResult result = service.synchronize(new HrImportBatchEntity(), List.of(record("E-1", "Kim", start)));
+
+        assertThat(result.insertedRecords()).isZero();
+        assertThat(result.updatedRecords()).isZero();
+        verify(repository, never()).saveAll(anyCollection());
+        verifyNoInteractions(directoryService);
+    }
+
+    @Test
+    @DisplayName("같은 청크에 같은 사번이 반복되면 앞 레코드가 만든 버전을 닫고 다음 버전을 잇는다")
+    void givenDuplicateKeysInChunk_whenSynchronize_thenChainVersions() {
+        LocalDate today = LocalDate.now();
+        List<HrEmployeeRecord> records = List.of(
+                record("E-1", "Kim", today.minusDays(1)),
+                record("E-1", "Kim Lee", today));
+        given(repository.findByEmployeeIdInAndEffectiveEndIsNull(List.of("E-1"))).willReturn(List.of());
+
+        HrSyncResult result = service.synchronize(new HrImportBatchEntity(), records);
+
+        assertThat(result.insertedRecords()).isEqualTo(1);
+        assertThat(result.updatedRecords()).isEqualTo(1);
+        verify(repository).saveAll(savedCaptor.capture());
+        List<HrEmployeeEntity> saved = saved();
+        assertThat(saved).extracting(HrEmployeeEntity::getVersion).containsExactly(1, 2);
+        assertThat(saved.get(0).getEffectiveEnd()).isEqualTo(today.minusDays(1));
+        assertThat(saved.get(1).getEffectiveEnd()).isNull();
+    }
+
+    @Test
+    @DisplayName("활성 버전이 여럿이면 가장 높은 버전을 기준으로 판단한다")
+    void givenMultipleActiveVersions_whenSynchronize_thenUseHighestVersion() {
+        LocalDate start = LocalDate.now().minusDays(10);
+        HrEmployeeEntity older = active("E-1", 1, "Kim", start);
+        HrEmployeeEntity newer = active("E-1", 2, "Kim", start);
+        given(repository.findByEmployeeIdInAndEffectiveEndIsNull(List.of("E-1"))).willReturn(List.of(newer, older));
+
+        HrSyncResult result = service.synchronize(new HrImportBatchEntity(), List.of(record("E-1", "Kim", start)));
+
+        assertThat(result.updatedRecords()).isZero();
+        verify(repository, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("키가 많으면 IN 조회를 나눠서 실행한다")
+    void givenManyKeys_whenSynchronize_thenLoadActiveInSlices() {
+        List<HrEmployeeRecord> records = new ArrayList<>();
+        for (int i = 0; i < HrEmployeeSynchronizationService.KEY_BATCH_SIZE + 1; i++) {
+            records.add(record("E-" + i, "Name", LocalDate.now()));
+        }
+        given(repository.findByEmployeeIdInAndEffectiveEndIsNull(anyCollection())).willReturn(List.of());
+
+        HrSyncResult result = service.synchronize(new HrImportBatchEntity(), records);
+
+        assertThat(result.insertedRecords()).isEqualTo(records.size());
+        verify(repository, times(2)).findByEmployeeIdInAndEffectiveEndIsNull(anyCollection());
+        verify(directoryService).evictAll();
+    }
+
+    @Test
+    void givenEmptyRecords_whenSynchronize_thenNoQuery() {
+        HrSyncResult result = service.synchronize(new HrImportBatchEntity(), List.of());
+
+        assertThat(result.insertedRecords()).isZero();
+        verifyNoInteractions(repository, directoryService);
+    }
+
+    private List<HrEmployeeEntity> saved() {
+        List<HrEmployeeEntity> entities = new ArrayList<>();
+        savedCaptor.getValue().forEach(entities::add);
+        return entities;
+    }
+
+    private static HrEmployeeRecord record(String employeeId, String name, LocalDate start) {
+        return new HrEmployeeRecord(employeeId, name, "kim@example.com", "ORG",
+                "FULL", "ACTIVE", start, null, "payload", 2);
+    }
+
+    private static HrEmployeeEntity active(String employeeId, int version, String name, LocalDate start) {
+        return HrEmployeeEntity.snapshot(employeeId, version, name, "kim@example.com", "ORG", "FULL", "ACTIVE",
+                start, null, UUID.randomUUID(), OffsetDateTime.now());
     }
 }
@@ -2,19 +2,30 @@ package com.example.batch.ingestion;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.example.dw.application.readmodel.OrganizationChangedEvent;
 import com.example.dw.domain.HrImportBatchEntity;
 import com.example.dw.domain.HrOrganizationEntity;
 import com.example.dw.dto.DataFeedType;
@@ -27,20 +38,22 @@ class HrOrganizationSynchronizationServiceTest {
 
     @Mock
     private HrOrganizationRepository repository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Captor
+    private ArgumentCaptor<Iterable<HrOrganizationEntity>> savedCaptor;
 
     private HrOrganizationSynchronizationService service;
 
     @BeforeEach
     void setUp() {
-        service = new HrOrganizationSynchronizationService(repository);
+        service = new HrOrganizationSynchronizationService(repository, eventPublisher);
     }
 
     @Test
     void givenNoActiveRecord_whenSynchronize_thenInsert() {
-        HrOrganizationRecord record = new HrOrganizationRecord("ORG", "Org", null, "ACTIVE",
-                null, null, LocalDate.now(), null, "payload", 1);
-        given(repository.findFirstByOrganizationCodeAndEffectiveEndIsNullOrderByVersionDesc("ORG"))
-                .willReturn(Optional.empty());
+        HrOrganizationRecord record = record("ORG", "ACTIVE", LocalDate.now());
+        given(repository.findByOrganizationCodeInAndEffectiveEndIsNull(List.of("ORG"))).willReturn(List.of());
 
         HrImportBatchEntity batch = HrImportBatchEntity.receive(
                 "org.csv", DataFeedType.ORGANIZATION, "SRC", LocalDate.now(), 1, "chk", "/tmp"
@@ -48,32 +61,110 @@ class HrOrganizationSynchronizationServiceTest {
         HrSyncResult result = service.synchronize(batch, List.of(record));
 
         assertThat(result.insertedRecords()).isEqualTo(1);
-        verify(repository).save(any(HrOrganizationEntity.class));
+        verify(repository).saveAll(savedCaptor.capture());
+        assertThat(saved()).singleElement()
+                .extracting(HrOrganizationEntity::getOrganizationCode, HrOrganizationEntity::getVersion)
+                .containsExactly("ORG", 1);
     }
 
     @Test
     void givenActiveRecord_whenStateDiffers_thenUpdateAndInsert() {
-        HrOrganizationEntity active = HrOrganizationEntity.snapshot(
-                "ORG",
-                1,
-                "Org",
-                null,
-                "ACTIVE",
-                null,
-                null,
-                LocalDate.now().minusDays(5),
-                null,
-                java.util.UUID.randomUUID(),
-                java.time.OffsetDateTime.now()
-        );
-        HrOrganizationRecord record = new HrOrganizationRecord("ORG", "Org", null, "INACTIVE",
-                null, null, LocalDate.now(), null, "payload", 2);
-        given(repository.findFirstByOrganizationCodeAndEffectiveEndIsNullOrderByVersionDesc("ORG"))
-                .willReturn(Optional.of(active));
+        HrOrganizationEntity active = active("ORG", 1, "ACTIVE", LocalDate.now().minusDays(5));
+        HrOrganizationRecord record = record("ORG", "INACTIVE", LocalDate.now());
+        given(repository.findByOrganizationCodeInAndEffectiveEndIsNull(List.of("ORG"))).willReturn(List.of(active));
 
         HrSyncResult result = service.synchronize(new HrImportBatchEntity(), List.of(record));
 
         assertThat(result.updatedRecords()).isEqualTo(1);
-        verify(repository).save(active);
+        assertThat(active.getEffectiveEnd()).isEqualTo(LocalDate.now().minusDays(1));
+        verify(repository).saveAll(savedCaptor.capture());
+        assertThat(saved()).extracting(HrOrganizationEntity::getVersion).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("업무 상태가 같으면 저장하지 않는다")
+    void givenSameState_whenSynchronize_thenSkip() {
+        LocalDate start = LocalDate.now().minusDays(5);
+        HrOrganizationEntity active = active("ORG", 2, "ACTIVE", start);
+        given(repository.findByOrganizationCodeInAndEffectiveEndIsNull(List.of("ORG"))).willReturn(List.of(active));
+
+        HrSyncResult result = service.synchronize(new HrImportBatchEntity(), List.of(record("ORG", "ACTIVE", start)));
+
+        assertThat(result.insertedRecords()).isZero();
+        assertThat(result.updatedRecords()).isZero();
+        verify(repository, never()).saveAll(anyCollection());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("새 버전이 생긴 조직 코드를 이벤트로 알린다")
+    void givenChanges_whenSynchronize_thenPublishChangedCodes() {
+        LocalDate start = LocalDate.now().minusDays(5);
+        HrOrganizationEntity same = active("SAME", 1, "ACTIVE", start);
+        given(repository.findByOrganizationCodeInAndEffectiveEndIsNull(anyCollection())).willReturn(List.of(same));
+
+        service.synchronize(new HrImportBatchEntity(), List.of(
+                record("SAME", "ACTIVE", start),
+                record("NEW", "ACTIVE", LocalDate.now())));
+
+        ArgumentCaptor<OrganizationChangedEvent> event = ArgumentCaptor.forClass(OrganizationChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().organizationCodes()).containsExactly("NEW");
+    }
+
+    @Test
+    @DisplayName("같은 청크에 같은 조직 코드가 반복되면 버전을 이어 붙인다")
+    void givenDuplicateCodesInChunk_whenSynchronize_thenChainVersions() {
+        LocalDate start = LocalDate.now().minusDays(5);
+        HrOrganizationEntity older = active("ORG", 1, "ACTIVE", start.minusDays(5));
+        HrOrganizationEntity newer = active("ORG", 2, "ACTIVE", start);
+        given(repository.findByOrganizationCodeInAndEffectiveEndIsNull(List.of("ORG"))).willReturn(List.of(older, newer));
+
+        HrSyncResult result = service.synchronize(new HrImportBatchEntity(), List.of(
+                record("ORG", "INACTIVE", LocalDate.now().minusDays(1)),
+                record("ORG", "ACTIVE", LocalDate.now())));
+
+        assertThat(result.updatedRecords()).isEqualTo(2);
+        assertThat(older.getEffectiveEnd()).isNull();
+        verify(repository).saveAll(savedCaptor.capture());
+        assertThat(saved()).extracting(HrOrganizationEntity::getVersion).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("키가 많으면 IN 조회를 나눠서 실행한다")
+    void givenManyCodes_whenSynchronize_thenLoadActiveInSlices() {
+        List<HrOrganizationRecord> records = new ArrayList<>();
+        for (int i = 0; i < HrOrganizationSynchronizationService.KEY_BATCH_SIZE + 1; i++) {
+            records.add(record("ORG-" + i, "ACTIVE", LocalDate.now()));
+        }
+        given(repository.findByOrganizationCodeInAndEffectiveEndIsNull(anyCollection())).willReturn(List.of());
+
+        HrSyncResult result = service.synchronize(new HrImportBatchEntity(), records);
+
+        assertThat(result.insertedRecords()).isEqualTo(records.size());
+        verify(repository, times(2)).findByOrganizationCodeInAndEffectiveEndIsNull(anyCollection());
+    }
+
+    @Test
+    void givenEmptyRecords_whenSynchronize_thenNoQuery() {
+        HrSyncResult result = service.synchronize(new HrImportBatchEntity(), List.of());
+
+        assertThat(result.insertedRecords()).isZero();
+        verifyNoInteractions(repository);
+    }
+
+    private List<HrOrganizationEntity> saved() {
+        List<HrOrganizationEntity> entities = new ArrayList<>();
+        savedCaptor.getValue().forEach(entities::add);
+        return entities;
+    }
+
+    private static HrOrganizationRecord record(String code, String status, LocalDate start) {
+        return new HrOrganizationRecord(code, "Org", null, status, null, null, start, null, "payload", 1);
+    }
+
+    private static HrOrganizationEntity active(String code, int version, String status, LocalDate start) {
+        return HrOrganizationEntity.snapshot(code, version, "Org", null, status, null, null,
+                start, null, UUID.randomUUID(), OffsetDateTime.now());
     }
 }
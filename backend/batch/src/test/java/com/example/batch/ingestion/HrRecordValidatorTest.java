@@ -3,7 +3,9 @@ package com.example.batch.ingestion;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,4 +40,19 @@ class HrRecordValidatorTest {
         assertThat(result.errors().getFirst().errorMessage()).contains("Employee ID is required");
         assertThat(result.errors().get(1).errorMessage()).contains("Duplicate employee record");
     }
+
+    @Test
+    void givenSharedKeys_whenValidateChunks_thenDetectDuplicateAcrossChunks() {
+        HrEmployeeRecord record = new HrEmployeeRecord("E-1", "Kim", "kim@example.com", "ORG",
+                "FULL", "ACTIVE", LocalDate.now(), null, "payload", 2);
+        Set<String> keys = new HashSet<>();
+
+        var first = validator.validate(List.of(record), keys);
+        var second = validator.validate(List.of(record), keys);
+
+        assertThat(first.validRecords()).containsExactly(record);
+        assertThat(second.validRecords()).isEmpty();
+        assertThat(second.errors()).singleElement()
+                .satisfies(error -> assertThat(error.errorMessage()).contains("Duplicate employee record"));
+    }
 }
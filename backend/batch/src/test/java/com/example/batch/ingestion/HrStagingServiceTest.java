@@ -1,59 +1,101 @@
 package com.example.batch.ingestion;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.sql.PreparedStatement;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 
 import com.example.dw.domain.HrImportBatchEntity;
 import com.example.dw.dto.DataFeedType;
 import com.example.dw.dto.HrEmployeeRecord;
 import com.example.dw.dto.HrValidationError;
-import com.example.dw.infrastructure.persistence.HrEmployeeStagingRepository;
-import com.example.dw.infrastructure.persistence.HrImportErrorRepository;
 
 @ExtendWith(MockitoExtension.class)
 class HrStagingServiceTest {
 
     @Mock
-    private HrEmployeeStagingRepository stagingRepository;
-    @Mock
-    private HrImportErrorRepository errorRepository;
+    private JdbcTemplate jdbcTemplate;
 
     private HrStagingService service;
+    private HrImportBatchEntity batch;
 
     @BeforeEach
     void setUp() {
-        service = new HrStagingService(stagingRepository, errorRepository);
+        service = new HrStagingService(jdbcTemplate);
+        batch = HrImportBatchEntity.receive(
+                "emp.csv", DataFeedType.EMPLOYEE, "SRC", LocalDate.now(), 1, "chk", "/tmp"
+        );
     }
 
     @Test
-    void givenRecords_whenPersistRecords_thenSaveEntities() {
+    @SuppressWarnings("unchecked")
+    void givenRecords_whenPersistRecords_thenBatchInsertStagingRows() throws Exception {
         HrEmployeeRecord record = new HrEmployeeRecord("E-1", "Kim", "kim@example.com", "ORG",
-                "FULL", "ACTIVE", LocalDate.now(), null, "payload", 2);
+                "FULL", "ACTIVE", LocalDate.of(2025, 1, 1), null, "payload", 2);
 
-        HrImportBatchEntity batch = HrImportBatchEntity.receive(
-                "emp.csv", DataFeedType.EMPLOYEE, "SRC", LocalDate.now(), 1, "chk", "/tmp"
-        );
         service.persistRecords(batch, List.of(record));
 
-        verify(stagingRepository).save(any());
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<HrEmployeeRecord>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(Mockito.startsWith("INSERT INTO dw_employee_staging"),
+                eq((Collection<HrEmployeeRecord>) List.of(record)), eq(HrStagingService.JDBC_BATCH_SIZE), setter.capture());
+        PreparedStatement ps = Mockito.mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, record);
+        verify(ps).setObject(eq(1), any(UUID.class));
+        verify(ps).setObject(2, batch.getId());
+        verify(ps).setString(3, "E-1");
+        verify(ps).setObject(9, LocalDate.of(2025, 1, 1));
+        verify(ps).setObject(10, null);
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        verify(ps).setString(eq(11), hash.capture());
+        assertThat(hash.getValue()).hasSize(64);
+        verify(ps).setString(12, "payload");
     }
 
     @Test
-    void givenErrors_whenPersistErrors_thenSaveImportErrors() {
+    @SuppressWarnings("unchecked")
+    void givenErrors_whenPersistErrors_thenBatchInsertImportErrors() throws Exception {
         HrValidationError error = new HrValidationError(1, "E-1", "ERR", "message", "raw");
-        HrImportBatchEntity batch = HrImportBatchEntity.receive(
-                "emp.csv", DataFeedType.EMPLOYEE, "SRC", LocalDate.now(), 1, "chk", "/tmp"
-        );
+
         service.persistErrors(batch, List.of(error));
-        verify(errorRepository).save(any());
+
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<HrValidationError>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(Mockito.startsWith("INSERT INTO dw_import_errors"),
+                eq((Collection<HrValidationError>) List.of(error)), eq(HrStagingService.JDBC_BATCH_SIZE), setter.capture());
+        PreparedStatement ps = Mockito.mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, error);
+        verify(ps).setInt(3, 1);
+        verify(ps).setString(4, "EMPLOYEE");
+        verify(ps).setString(5, "E-1");
+        verify(ps).setString(7, "message");
+        verify(ps).setString(8, "raw");
+    }
+
+    @Test
+    void givenEmptyChunk_whenPersist_thenSkipJdbc() {
+        service.persistRecords(batch, List.of());
+        service.persistErrors(batch, List.of());
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
     }
 }
@@ -32,6 +32,13 @@ class DataFeedConnectorTest {
         assertThat(connector.nextFeed()).isEmpty();
     }
 
+    @Test
+    @DisplayName("유형별 점유를 구현하지 않은 커넥터는 비어 있는 결과를 돌려준다")
+    void typedNextFeedDefaultsToEmpty() {
+        DataFeedConnector connector = new SimpleConnector();
+        assertThat(connector.nextFeed(DataFeedType.EMPLOYEE)).isEmpty();
+    }
+
     @Test
     @DisplayName("readNext가 예외를 던지면 onFailure가 호출된다")
     void nextFeedFailureTriggersOnFailure() {
@@ -2,11 +2,15 @@ package com.example.batch.ingestion.feed;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.example.dw.dto.DataFeedType;
 
@@ -28,4 +32,29 @@ class DataFeedTest {
 
         assertThat(feed.attribute("country")).isEqualTo("KR");
     }
+
+    @DisplayName("메모리 본문 피드는 문자열에서 읽는다")
+    @Test
+    void inMemoryPayload_readsString() throws Exception {
+        DataFeed feed = new DataFeed("id", DataFeedType.EMPLOYEE, LocalDate.now(), 1, "a,b", "SYSTEM", Map.of());
+
+        assertThat(feed.streamed()).isFalse();
+        assertThat(feed.readPayload()).isEqualTo("a,b");
+        try (Reader reader = feed.openPayload()) {
+            assertThat(new java.io.BufferedReader(reader).readLine()).isEqualTo("a,b");
+        }
+    }
+
+    @DisplayName("파일 피드는 경로에서 스트리밍으로 읽는다")
+    @Test
+    void filePayload_readsFromPath(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("employee.csv"), "헤더\n홍길동");
+        DataFeed feed = new DataFeed("id", DataFeedType.EMPLOYEE, LocalDate.now(), 1, null, "FILE", Map.of(), file);
+
+        assertThat(feed.streamed()).isTrue();
+        assertThat(feed.readPayload()).isEqualTo("헤더\n홍길동");
+        try (Reader reader = feed.openPayload()) {
+            assertThat(new java.io.BufferedReader(reader).readLine()).isEqualTo("헤더");
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.example.batch.ingestion.feed;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.never;
@@ -46,8 +47,7 @@ class DatabaseDataFeedConnectorTest {
         HrExternalFeedEntity entity = HrExternalFeedEntity.receive(
                 DataFeedType.EMPLOYEE, "payload", LocalDate.now(), 4, "db"
         );
-        given(repository.findFirstByStatusOrderByCreatedAtAsc(HrExternalFeedStatus.PENDING))
-                .willReturn(Optional.of(entity));
+        given(repository.claimNextPending("EMPLOYEE")).willReturn(Optional.of(entity));
 
         Optional<DataFeed> feed = connector.nextFeed();
 
@@ -56,43 +56,83 @@ class DatabaseDataFeedConnectorTest {
         assertThat(entity.getStatus()).isEqualTo(HrExternalFeedStatus.PROCESSING);
     }
 
+    @Test
+    @DisplayName("유형을 지정하면 만료된 점유를 풀고 그 유형의 대기열 맨 앞만 점유한다")
+    void givenFeedType_whenFetching_thenReleaseExpiredAndClaimThatType() {
+        properties.setClaimLease(java.time.Duration.ofMinutes(30));
+        HrExternalFeedEntity entity = HrExternalFeedEntity.receive(
+                DataFeedType.ORGANIZATION, "payload", LocalDate.now(), 2, "db"
+        );
+        given(repository.releaseExpiredClaims(any(), any())).willReturn(1);
+        given(repository.claimNextPending("ORGANIZATION")).willReturn(Optional.of(entity));
+
+        Optional<DataFeed> feed = connector.nextFeed(DataFeedType.ORGANIZATION);
+
+        assertThat(feed.orElseThrow().sequenceNumber()).isEqualTo(2);
+        assertThat(entity.getStatus()).isEqualTo(HrExternalFeedStatus.PROCESSING);
+        ArgumentCaptor<java.time.OffsetDateTime> cutoff = ArgumentCaptor.forClass(java.time.OffsetDateTime.class);
+        ArgumentCaptor<java.time.OffsetDateTime> now = ArgumentCaptor.forClass(java.time.OffsetDateTime.class);
+        verify(repository).releaseExpiredClaims(cutoff.capture(), now.capture());
+        assertThat(java.time.Duration.between(cutoff.getValue(), now.getValue())).isEqualTo(java.time.Duration.ofMinutes(30));
+        verify(repository, never()).claimNextPending("EMPLOYEE");
+    }
+
+    @Test
+    void givenNoPendingFeed_whenFetching_thenTryEveryType() {
+        assertThat(connector.nextFeed()).isEmpty();
+
+        for (DataFeedType type : DataFeedType.values()) {
+            verify(repository).claimNextPending(type.name());
+        }
+    }
+
     @Test
     void givenDisabledDatabase_whenFetching_thenSkipRepository() {
         properties.getDatabase().setEnabled(false);
         DatabaseDataFeedConnector disabledConnector = new DatabaseDataFeedConnector(repository, properties);
 
         assertThat(disabledConnector.nextFeed()).isEmpty();
+        verify(repository, never()).claimNextPending(any());
     }
 
     @Test
-    void givenFeedSuccess_whenOnSuccess_thenMarkCompleted() {
-        HrExternalFeedEntity entity = HrExternalFeedEntity.receive(
-                DataFeedType.EMPLOYEE, "payload", LocalDate.now(), 1, "db"
-        );
-        UUID id = entity.getId();
-        DataFeed feed = new DataFeed(id.toString(), DataFeedType.EMPLOYEE, LocalDate.now(), 1, "payload", "db", java.util.Map.of());
-        given(repository.findById(id)).willReturn(Optional.of(entity));
+    void givenFeedSuccess_whenOnSuccess_thenCompleteOwnClaim() {
+        UUID id = UUID.randomUUID();
+        DataFeed feed = new DataFeed(id.toString(), DataFeedType.EMPLOYEE, LocalDate.now(), 1, "payload", "db",
+                Map.of(DatabaseDataFeedConnector.CLAIM_TOKEN_ATTRIBUTE, "token-1"));
+        given(repository.completeClaim(eq(id), eq("token-1"), any())).willReturn(1);
 
         connector.onSuccess(feed);
 
-        assertThat(entity.getStatus()).isEqualTo(HrExternalFeedStatus.COMPLETED);
-        verify(repository).findById(id);
+        verify(repository).completeClaim(eq(id), eq("token-1"), any());
     }
 
     @Test
-    void givenFeedFailure_whenOnFailure_thenMarkFailed() {
+    void givenFeedFailure_whenOnFailure_thenFailOwnClaim() {
+        UUID id = UUID.randomUUID();
+        DataFeed feed = new DataFeed(id.toString(), DataFeedType.EMPLOYEE, LocalDate.now(), 1, "payload", "db",
+                Map.of(DatabaseDataFeedConnector.CLAIM_TOKEN_ATTRIBUTE, "token-1"));
+        given(repository.failClaim(eq(id), eq("token-1"), eq("boom"), any())).willReturn(1);
+
+        connector.onFailure(feed, new RuntimeException("boom"));
+
+        verify(repository).failClaim(eq(id), eq("token-1"), eq("boom"), any());
+    }
+
+    @Test
+    @DisplayName("점유 토큰이 피드에 실리고 임대 연장은 그 토큰으로만 성공한다")
+    void givenClaimedFeed_whenRenewing_thenUseClaimToken() {
         HrExternalFeedEntity entity = HrExternalFeedEntity.receive(
                 DataFeedType.EMPLOYEE, "payload", LocalDate.now(), 1, "db"
         );
-        UUID id = entity.getId();
-        DataFeed feed = new DataFeed(id.toString(), DataFeedType.EMPLOYEE, LocalDate.now(), 1, "payload", "db", java.util.Map.of());
-        given(repository.findById(id)).willReturn(Optional.of(entity));
-
-        RuntimeException error = new RuntimeException("boom");
-        connector.onFailure(feed, error);
-
-        assertThat(entity.getStatus()).isEqualTo(HrExternalFeedStatus.FAILED);
-        assertThat(entity.getErrorMessage()).isEqualTo("boom");
+        given(repository.claimNextPending("EMPLOYEE")).willReturn(Optional.of(entity));
+        DataFeed feed = connector.nextFeed(DataFeedType.EMPLOYEE).orElseThrow();
+        String token = feed.attribute(DatabaseDataFeedConnector.CLAIM_TOKEN_ATTRIBUTE);
+        given(repository.renewClaim(eq(entity.getId()), eq(token), any())).willReturn(1, 0);
+
+        assertThat(token).isEqualTo(entity.getClaimToken());
+        assertThat(connector.renewClaim(feed)).isTrue();
+        assertThat(connector.renewClaim(feed)).isFalse();
     }
 
     @Test
@@ -105,6 +145,6 @@ class DatabaseDataFeedConnectorTest {
 
         disabledConnector.onFailure(feed, new RuntimeException("err"));
 
-        verify(repository, never()).findById(any());
+        verify(repository, never()).failClaim(any(), any(), any(), any());
     }
 }
@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.util.Optional;
 
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -26,9 +27,9 @@ class FileDataFeedConnectorTest {
 
     @Test
     void givenPendingFile_whenNextFeed_thenRegistersDescriptor() throws IOException {
-        HrFileDescriptor descriptor = new HrFileDescriptor("employees.csv", LocalDate.now(), 1,
-                java.nio.file.Path.of("/tmp/employees.csv"), DataFeedType.EMPLOYEE);
-        given(storageService.nextPendingFile()).willReturn(Optional.of(descriptor));
+        HrFileDescriptor descriptor = new HrFileDescriptor("organization.csv", LocalDate.now(), 1,
+                java.nio.file.Path.of("/tmp/organization.csv"), DataFeedType.ORGANIZATION);
+        given(storageService.claimNext(DataFeedType.ORGANIZATION)).willReturn(Optional.of(descriptor));
         given(storageService.readPayload(descriptor)).willReturn("payload");
         FileDataFeedConnector connector = new FileDataFeedConnector(storageService);
 
@@ -41,9 +42,9 @@ class FileDataFeedConnectorTest {
 
     @Test
     void givenReadFailure_whenNextFeed_thenMarkFailedOnce() throws IOException {
-        HrFileDescriptor descriptor = new HrFileDescriptor("employees.csv", LocalDate.now(), 1,
-                java.nio.file.Path.of("/tmp/employees.csv"), DataFeedType.EMPLOYEE);
-        given(storageService.nextPendingFile()).willReturn(Optional.of(descriptor));
+        HrFileDescriptor descriptor = new HrFileDescriptor("organization.csv", LocalDate.now(), 1,
+                java.nio.file.Path.of("/tmp/organization.csv"), DataFeedType.ORGANIZATION);
+        given(storageService.claimNext(DataFeedType.ORGANIZATION)).willReturn(Optional.of(descriptor));
         given(storageService.readPayload(descriptor)).willThrow(new IOException("broken"));
         FileDataFeedConnector connector = new FileDataFeedConnector(storageService);
 
@@ -53,9 +54,9 @@ class FileDataFeedConnectorTest {
 
     @Test
     void givenFailureAfterFeed_whenOnFailure_thenMarkProcessed() throws IOException {
-        HrFileDescriptor descriptor = new HrFileDescriptor("employees.csv", LocalDate.now(), 1,
-                java.nio.file.Path.of("/tmp/employees.csv"), DataFeedType.EMPLOYEE);
-        given(storageService.nextPendingFile()).willReturn(Optional.of(descriptor));
+        HrFileDescriptor descriptor = new HrFileDescriptor("organization.csv", LocalDate.now(), 1,
+                java.nio.file.Path.of("/tmp/organization.csv"), DataFeedType.ORGANIZATION);
+        given(storageService.claimNext(DataFeedType.ORGANIZATION)).willReturn(Optional.of(descriptor));
         given(storageService.readPayload(descriptor)).willReturn("payload");
         FileDataFeedConnector connector = new FileDataFeedConnector(storageService);
 
@@ -64,6 +65,25 @@ class FileDataFeedConnectorTest {
         verify(storageService).markProcessed(descriptor, false);
     }
 
+    @Test
+    void givenEmployeeFile_whenNextFeed_thenPassPathWithoutReadingPayload() throws IOException {
+        java.nio.file.Path path = java.nio.file.Path.of("/tmp/employee_20250101_001.csv");
+        HrFileDescriptor descriptor = new HrFileDescriptor("employee_20250101_001.csv", LocalDate.now(), 1,
+                path, DataFeedType.EMPLOYEE);
+        given(storageService.claimNext(DataFeedType.EMPLOYEE)).willReturn(Optional.of(descriptor));
+        FileDataFeedConnector connector = new FileDataFeedConnector(storageService);
+
+        DataFeed feed = connector.nextFeed().orElseThrow();
+
+        assertThat(feed.streamed()).isTrue();
+        assertThat(feed.payloadFile()).isEqualTo(path);
+        assertThat(feed.payload()).isNull();
+        assertThat(feed.attribute("fileName")).isEqualTo("employee_20250101_001.csv");
+        org.mockito.Mockito.verify(storageService, org.mockito.Mockito.never()).readPayload(descriptor);
+        connector.onSuccess(feed);
+        verify(storageService).markProcessed(descriptor, true);
+    }
+
     @Test
     void onSuccessWithUnknownFeedDoesNotCallStorage() {
         FileDataFeedConnector connector = new FileDataFeedConnector(storageService);
@@ -76,9 +96,34 @@ class FileDataFeedConnectorTest {
 
     @Test
     void givenNoPendingFile_whenNextFeed_thenEmptyAndNoMark() {
-        given(storageService.nextPendingFile()).willReturn(Optional.empty());
         FileDataFeedConnector connector = new FileDataFeedConnector(storageService);
 
         assertThat(connector.nextFeed()).isEmpty();
+        for (DataFeedType type : DataFeedType.values()) {
+            verify(storageService).claimNext(type);
+        }
+        org.mockito.Mockito.verify(storageService, org.mockito.Mockito.never()).markProcessed(org.mockito.Mockito.any(), org.mockito.Mockito.anyBoolean());
+    }
+
+    @Test
+    @DisplayName("유형을 지정하면 그 유형만 점유하고, 완료 시 점유 경로를 속성에서 복원해 이동한다")
+    void givenFeedType_whenNextFeed_thenClaimOnlyThatTypeAndCompleteFromAttributes() throws IOException {
+        java.nio.file.Path claimed = java.nio.file.Path.of("/tmp/.claimed/holiday_kr_20250101_001.csv");
+        HrFileDescriptor descriptor = new HrFileDescriptor("holiday_kr_20250101_001.csv", LocalDate.of(2025, 1, 1), 1,
+                claimed, DataFeedType.HOLIDAY, java.util.Map.of("countryCode", "KR"));
+        given(storageService.claimNext(DataFeedType.HOLIDAY)).willReturn(Optional.of(descriptor));
+        given(storageService.readPayload(descriptor)).willReturn("payload");
+        FileDataFeedConnector connector = new FileDataFeedConnector(storageService);
+
+        DataFeed feed = connector.nextFeed(DataFeedType.HOLIDAY).orElseThrow();
+        connector.onSuccess(feed);
+
+        assertThat(feed.attribute(FileDataFeedConnector.CLAIMED_PATH_ATTRIBUTE)).isEqualTo(claimed.toString());
+        assertThat(feed.attribute("countryCode")).isEqualTo("KR");
+        ArgumentCaptor<HrFileDescriptor> captor = ArgumentCaptor.forClass(HrFileDescriptor.class);
+        verify(storageService).markProcessed(captor.capture(), org.mockito.ArgumentMatchers.eq(true));
+        assertThat(captor.getValue().path()).isEqualTo(claimed);
+        assertThat(captor.getValue().fileName()).isEqualTo("holiday_kr_20250101_001.csv");
+        org.mockito.Mockito.verify(storageService, org.mockito.Mockito.never()).claimNext(DataFeedType.EMPLOYEE);
     }
 }
@@ -7,13 +7,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-import com.example.batch.ingestion.DwIngestionService;
+import com.example.batch.ingestion.DwFeedScheduler;
 import com.example.dw.application.job.DwIngestionJob;
 import com.example.dw.application.job.DwIngestionJobQueue;
 import com.example.dw.application.job.DwIngestionJobType;
@@ -21,7 +22,7 @@ import com.example.dw.application.job.DwIngestionOutboxService;
 
 class InMemoryDwIngestionJobQueueTest {
 
-    DwIngestionService ingestionService = Mockito.mock(DwIngestionService.class);
+    DwFeedScheduler feedScheduler = Mockito.mock(DwFeedScheduler.class);
     DwIngestionOutboxService outboxService = Mockito.mock(DwIngestionOutboxService.class);
     Executor direct = Runnable::run; // 동기로 실행해 테스트 단순화
 
@@ -29,23 +30,42 @@ class InMemoryDwIngestionJobQueueTest {
     @DisplayName("FETCH_NEXT 성공 시 outbox 없는 경우에도 완료 시도 없이 통과한다")
     void fetchNext_noOutbox_completesWithoutMarking() {
         DwIngestionJob job = DwIngestionJob.fetchNext();
-        DwIngestionJobQueue queue = new InMemoryDwIngestionJobQueue(ingestionService, outboxService,
+        DwIngestionJobQueue queue = new InMemoryDwIngestionJobQueue(feedScheduler, outboxService,
                 direct, 2, 100, 2.0, 1000);
 
+        Mockito.when(feedScheduler.drainAll()).thenReturn(CompletableFuture.completedFuture(null));
+
         queue.enqueue(job);
 
-        verify(ingestionService).ingestNextFile();
+        verify(feedScheduler).drainAll();
         verify(outboxService, never()).markCompleted(Mockito.any());
     }
 
+    @Test
+    @DisplayName("outbox 작업은 drain이 모두 끝난 뒤에만 완료로 확정한다")
+    void fetchNext_acknowledgesOnlyAfterDrainCompletes() {
+        UUID outboxId = UUID.randomUUID();
+        DwIngestionJob job = DwIngestionJob.fromOutbox(outboxId, DwIngestionJobType.FETCH_NEXT);
+        DwIngestionJobQueue queue = new InMemoryDwIngestionJobQueue(feedScheduler, outboxService,
+                direct, 2, 100, 2.0, 1000);
+        CompletableFuture<Void> drain = new CompletableFuture<>();
+        Mockito.when(feedScheduler.drainAll()).thenReturn(drain);
+
+        queue.enqueue(job);
+        verify(outboxService, never()).markCompleted(Mockito.any());
+
+        drain.complete(null);
+        verify(outboxService).markCompleted(outboxId);
+    }
+
     @Test
     @DisplayName("최대 재시도 초과 시 dead-letter로 이동한다")
     void failure_deadLetterWhenMaxAttemptsExceeded() {
         UUID outboxId = UUID.randomUUID();
         DwIngestionJob job = DwIngestionJob.fromOutbox(outboxId, DwIngestionJobType.FETCH_NEXT);
-        DwIngestionJobQueue queue = new InMemoryDwIngestionJobQueue(ingestionService, outboxService,
+        DwIngestionJobQueue queue = new InMemoryDwIngestionJobQueue(feedScheduler, outboxService,
                 direct, 1, 10, 2.0, 100);
-        Mockito.doThrow(new RuntimeException("fail")).when(ingestionService).ingestNextFile();
+        Mockito.when(feedScheduler.drainAll()).thenReturn(CompletableFuture.failedFuture(new RuntimeException("fail")));
 
         queue.enqueue(job);
 
@@ -57,9 +77,9 @@ class InMemoryDwIngestionJobQueueTest {
     @DisplayName("outbox 없는 FETCH_NEXT 실패 시 outbox 마킹 없이 종료된다")
     void failureWithoutOutbox_noMarks() {
         DwIngestionJob job = DwIngestionJob.fetchNext();
-        DwIngestionJobQueue queue = new InMemoryDwIngestionJobQueue(ingestionService, outboxService,
+        DwIngestionJobQueue queue = new InMemoryDwIngestionJobQueue(feedScheduler, outboxService,
                 direct, 1, 10, 2.0, 100);
-        Mockito.doThrow(new RuntimeException("fail")).when(ingestionService).ingestNextFile();
+        Mockito.when(feedScheduler.drainAll()).thenReturn(CompletableFuture.failedFuture(new RuntimeException("fail")));
 
         queue.enqueue(job);
 
@@ -72,9 +92,9 @@ class InMemoryDwIngestionJobQueueTest {
     void failureWithOutbox_schedulesRetry() {
         UUID outboxId = UUID.randomUUID();
         DwIngestionJob job = DwIngestionJob.fromOutbox(outboxId, DwIngestionJobType.FETCH_NEXT);
-        DwIngestionJobQueue queue = new InMemoryDwIngestionJobQueue(ingestionService, outboxService,
+        DwIngestionJobQueue queue = new InMemoryDwIngestionJobQueue(feedScheduler, outboxService,
                 direct, 3, 10, 2.0, 1000);
-        Mockito.doThrow(new RuntimeException("fail")).when(ingestionService).ingestNextFile();
+        Mockito.when(feedScheduler.drainAll()).thenReturn(CompletableFuture.failedFuture(new RuntimeException("fail")));
 
         queue.enqueue(job);
 
@@ -89,12 +109,12 @@ class InMemoryDwIngestionJobQueueTest {
         java.util.concurrent.atomic.AtomicInteger counter = new java.util.concurrent.atomic.AtomicInteger();
         Mockito.doAnswer(invocation -> {
             if (counter.getAndIncrement() == 0) {
-                throw new RuntimeException("first");
+                return CompletableFuture.failedFuture(new RuntimeException("first"));
             }
-            return null;
-        }).when(ingestionService).ingestNextFile();
+            return CompletableFuture.completedFuture(null);
+        }).when(feedScheduler).drainAll();
 
-        DwIngestionJobQueue queue = new InMemoryDwIngestionJobQueue(ingestionService, outboxService,
+        DwIngestionJobQueue queue = new InMemoryDwIngestionJobQueue(feedScheduler, outboxService,
                 direct, 2, 50, 1.5, 50);
 
         queue.enqueue(job);
@@ -4,17 +4,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import com.example.batch.ingestion.HrEmployeeSynchronizationService;
 import com.example.batch.ingestion.HrRecordValidator;
 import com.example.batch.ingestion.HrStagingService;
 import com.example.batch.ingestion.HrCsvRecordParser;
+import com.example.batch.ingestion.feed.DataFeed;
+import com.example.dw.config.DwIngestionProperties;
 import com.example.dw.domain.HrImportBatchEntity;
 import com.example.dw.dto.DataFeedType;
 import com.example.dw.dto.HrEmployeeRecord;
@@ -29,7 +35,10 @@ class EmployeeFeedIngestionTemplateTest {
     HrStagingService stagingService = Mockito.mock(HrStagingService.class);
     HrEmployeeSynchronizationService syncService = Mockito.mock(HrEmployeeSynchronizationService.class);
 
-    EmployeeFeedIngestionTemplate template = new EmployeeFeedIngestionTemplate(parser, validator, stagingService, syncService);
+    DwIngestionProperties properties = new DwIngestionProperties();
+
+    EmployeeFeedIngestionTemplate template = new EmployeeFeedIngestionTemplate(parser, validator, stagingService, syncService,
+            properties);
 
     @Test
     @DisplayName("직원 피드를 파싱·검증·동기화하고 결과를 반환한다")
@@ -54,4 +63,36 @@ class EmployeeFeedIngestionTemplateTest {
         assertThat(result.totalRecords()).isEqualTo(1);
         assertThat(result.failedRecords()).isZero();
     }
+
+    @Test
+    @DisplayName("파일 피드는 청크 단위로 검증·적재·동기화하고 중복은 청크를 넘어 판정한다")
+    void ingestStreamProcessesChunks(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("employee_20250101_001.csv"), String.join("\n",
+                "employeeId,fullName,email,org,type,status,start,end",
+                "E-1,Kim,kim@example.com,ORG,FULL,ACTIVE,2025-01-01,",
+                "E-2,\"Lee, Jr.\",lee@example.com,ORG,FULL,ACTIVE,2025-01-01,",
+                "E-3,Park,park@example.com,ORG,FULL,ACTIVE,2025-01-01,",
+                "E-1,Kim,kim@example.com,ORG,FULL,ACTIVE,2025-01-01,",
+                ""));
+        properties.setChunkSize(2);
+        EmployeeFeedIngestionTemplate streaming = new EmployeeFeedIngestionTemplate(new HrCsvRecordParser(),
+                new HrRecordValidator(), stagingService, syncService, properties);
+        HrImportBatchEntity batch = HrImportBatchEntity.receive(
+                "emp.csv", DataFeedType.EMPLOYEE, "SRC", LocalDate.now(), 1, "chk", "/tmp"
+        );
+        when(syncService.synchronize(Mockito.eq(batch), Mockito.anyList()))
+                .thenAnswer(inv -> new HrSyncResult(((List<?>) inv.getArgument(1)).size(), 0));
+        DataFeed feed = new DataFeed("f", DataFeedType.EMPLOYEE, LocalDate.now(), 1, null, "FILE", Map.of(), file);
+
+        DwIngestionResult result = streaming.ingestStream(batch, feed);
+
+        assertThat(result.totalRecords()).isEqualTo(4);
+        assertThat(result.insertedRecords()).isEqualTo(3);
+        assertThat(result.failedRecords()).isEqualTo(1);
+        Mockito.verify(stagingService, Mockito.times(2)).persistRecords(Mockito.eq(batch), Mockito.anyList());
+        Mockito.verify(syncService).synchronize(Mockito.eq(batch), Mockito.argThat(list ->
+                list.size() == 2 && list.get(1).fullName().equals("Lee, Jr.")));
+        Mockito.verify(stagingService).persistErrors(Mockito.eq(batch), Mockito.argThat(errors ->
+                errors.size() == 1 && errors.get(0).lineNumber() == 5));
+    }
 }
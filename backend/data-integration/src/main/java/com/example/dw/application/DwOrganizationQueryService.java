@@ -55,7 +55,7 @@ public class DwOrganizationQueryService {
         if (rowScope == RowScope.CUSTOM) {
             return customScopeStrategy.apply(pageable, organizationCode);
         }
-        OrganizationTreeSnapshot snapshot = loadSnapshot();
+        OrganizationTreeSnapshot snapshot = rowScope == RowScope.ALL ? loadSnapshot() : loadSubtree(organizationCode);
         List<DwOrganizationNode> candidates = switch (rowScope) {
             case OWN -> snapshot.node(organizationCode)
                     .map(List::of)
@@ -92,6 +92,17 @@ public class DwOrganizationQueryService {
         return organizationTreeService.snapshot();
     }
 
+    /** 부서 하나만 필요한 스코프는 Read Model에서 하위 트리만 읽는다. */
+    private OrganizationTreeSnapshot loadSubtree(String organizationCode) {
+        if (readModelPort != null && readModelPort.isEnabled()) {
+            return readModelPort.loadSubtree(organizationCode)
+                    .map(OrganizationTreeReadModel::nodes)
+                    .map(DwOrganizationTreeService.OrganizationTreeSnapshot::fromNodes)
+                    .orElseGet(organizationTreeService::snapshot);
+        }
+        return organizationTreeService.snapshot();
+    }
+
     private void audit(RowScope rowScope, String orgCode, long total, long returned, Pageable pageable) {
         try {
             AuditEvent event = AuditEvent.builder()
@@ -2,6 +2,7 @@ package com.example.dw.application;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -34,6 +35,21 @@ public class DwOrganizationTreeService {
         return OrganizationTreeSnapshot.from(entities);
     }
 
+    /**
+     * 지정한 조직 코드의 현재 활성 버전(종료일 없음, 최신 version)을 코드별로 돌려준다. 활성 버전이 없는 코드는 빠진다.
+     */
+    public Map<String, DwOrganizationNode> activeNodes(Collection<String> organizationCodes) {
+        if (organizationCodes.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, DwOrganizationNode> nodes = new HashMap<>();
+        for (HrOrganizationEntity entity : organizationRepository.findByOrganizationCodeInAndEffectiveEndIsNull(organizationCodes)) {
+            nodes.merge(entity.getOrganizationCode(), DwOrganizationNode.fromEntity(entity),
+                    (left, right) -> left.version() >= right.version() ? left : right);
+        }
+        return nodes;
+    }
+
     @CacheEvict(cacheNames = CacheNames.DW_ORG_TREE, key = "'" + TREE_KEY + "'")
     public void evict() {
         // cache eviction only
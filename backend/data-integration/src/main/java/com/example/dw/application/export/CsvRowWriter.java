@@ -0,0 +1,84 @@
+package com.example.dw.application.export;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 규칙으로 CSV 레코드를 {@link Writer}에 바로 쓰는 writer.
+ * <p>
+ * 쉼표·따옴표·줄바꿈이 들어간 값은 따옴표로 감싸고 내부 따옴표는 {@code ""}로 escape하며, 레코드 구분자는 CRLF다.
+ * 값을 한 줄 문자열로 이어 붙이지 않고 문자 단위로 흘려 보내므로 행 수와 무관하게 메모리 사용량이 일정하다.
+ * 스레드 안전하지 않다.
+ */
+public final class CsvRowWriter implements Flushable {
+
+    private static final String RECORD_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    public CsvRowWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /** 값 목록을 레코드 하나로 쓴다. {@code null}은 빈 필드로 쓴다. */
+    public void writeRecord(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(values.get(i));
+        }
+        writer.write(RECORD_SEPARATOR);
+    }
+
+    /** {@code columns} 순서대로 row 값을 꺼내 레코드 하나로 쓴다. 없는 열은 빈 필드다. */
+    public void writeRecord(List<String> columns, Map<String, ?> row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(row.get(columns.get(i)));
+        }
+        writer.write(RECORD_SEPARATOR);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (!needsQuoting(text)) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') {
+                writer.write(text, start, i - start + 1);
+                writer.write('"');
+                start = i + 1;
+            }
+        }
+        writer.write(text, start, text.length() - start);
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
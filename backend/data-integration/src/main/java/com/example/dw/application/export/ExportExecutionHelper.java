@@ -1,9 +1,16 @@
 package com.example.dw.application.export;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.stereotype.Component;
 
@@ -23,6 +30,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ExportExecutionHelper {
 
+    private static final int STREAM_BUFFER_SIZE = 16 * 1024;
+
     private final ExportService exportService;
     private final ObjectMapper objectMapper;
 
@@ -33,6 +42,49 @@ public class ExportExecutionHelper {
         return exportService.export(command, () -> buildCsv(rows, target, maskingEnabled));
     }
 
+    /**
+     * 행을 읽는 대로 마스킹해 {@code out}에 CSV로 바로 쓴다. 전체 행을 메모리에 모으지 않으며,
+     * 버퍼(16KB)가 찰 때마다 바이트가 나가므로 첫 응답이 행 수와 무관하게 곧바로 시작된다.
+     * 감사 건수는 실제로 쓴 행 수로 완료 시점에 남긴다. {@code out}은 닫지 않는다.
+     *
+     * @param headers CSV 열 순서. 행에 없는 열은 빈 값으로 쓴다.
+     * @param gzip true면 gzip으로 압축해 쓴다
+     * @return 쓴 행 수(헤더 제외)
+     */
+    public long streamCsv(ExportCommand command,
+                          List<String> headers,
+                          ExportRowSource rows,
+                          MaskingTarget target,
+                          boolean maskingEnabled,
+                          OutputStream out,
+                          boolean gzip) {
+        return exportService.exportStreaming(command, counter -> {
+            GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, STREAM_BUFFER_SIZE) : null;
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(compressed != null ? compressed : out, StandardCharsets.UTF_8),
+                    STREAM_BUFFER_SIZE);
+            CsvRowWriter csv = new CsvRowWriter(writer);
+            csv.writeRecord(headers);
+            try {
+                rows.forEachRow(row -> {
+                    try {
+                        csv.writeRecord(headers, ExportMaskingHelper.maskRow(row, target, maskingEnabled));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                    counter.incrementAndGet();
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            csv.flush();
+            if (compressed != null) {
+                compressed.finish();
+            }
+            out.flush();
+        });
+    }
+
     public byte[] exportJson(ExportCommand command,
                              List<Map<String, Object>> rows,
                              MaskingTarget target,
@@ -48,17 +100,16 @@ public class ExportExecutionHelper {
         }
         var headers = rows.getFirst().keySet().stream().toList();
         ByteArrayOutputStream out = new ByteArrayOutputStream();
-        String headerLine = String.join(",", headers);
-        out.write(headerLine.getBytes(StandardCharsets.UTF_8), 0, headerLine.length());
-        out.write('\n');
-        for (Map<String, Object> row : rows) {
-            Map<String, Object> masked = ExportMaskingHelper.maskRow(row, target, maskingEnabled);
-            String line = headers.stream()
-                    .map(h -> String.valueOf(masked.getOrDefault(h, "")))
-                    .reduce((a, b) -> a + "," + b)
-                    .orElse("");
-            out.write(line.getBytes(StandardCharsets.UTF_8), 0, line.length());
-            out.write('\n');
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        CsvRowWriter csv = new CsvRowWriter(writer);
+        try {
+            csv.writeRecord(headers);
+            for (Map<String, Object> row : rows) {
+                csv.writeRecord(headers, ExportMaskingHelper.maskRow(row, target, maskingEnabled));
+            }
+            csv.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
         }
         return out.toByteArray();
     }
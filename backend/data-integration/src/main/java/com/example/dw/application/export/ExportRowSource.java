@@ -0,0 +1,52 @@
+package com.example.dw.application.export;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 스트리밍 export에 넘길 행 공급자. 행을 한꺼번에 모으지 않고 읽는 대로 {@code sink}에 넘긴다.
+ */
+@FunctionalInterface
+public interface ExportRowSource {
+
+    /** 행을 순서대로 {@code sink}에 넘긴다. export 한 번에 한 번만 호출된다. */
+    void forEachRow(Consumer<Map<String, Object>> sink);
+
+    /**
+     * 키 순서로 정렬된 페이지를 마지막 키 다음부터 이어 읽는(keyset) 행 공급자를 만든다.
+     * OFFSET 페이징과 달리 뒤쪽 페이지도 인덱스 범위 스캔 한 번으로 읽으며, 한 번에 한 페이지만 메모리에 둔다.
+     *
+     * @param pageLoader (직전 페이지 마지막 키, 페이지 크기) → 키 오름차순 페이지. 첫 페이지는 키가 {@code null}이다.
+     * @param keyOf 엔티티의 정렬 키
+     * @param mapper 엔티티 → export 행
+     * @param pageSize 한 번에 읽을 최대 건수
+     * @param limit 전체 최대 건수. 0 이하이면 아무 행도 내보내지 않는다.
+     */
+    static <E, K> ExportRowSource keyset(BiFunction<K, Integer, List<E>> pageLoader,
+                                         Function<E, K> keyOf,
+                                         Function<E, Map<String, Object>> mapper,
+                                         int pageSize,
+                                         long limit) {
+        int size = Math.max(1, pageSize);
+        return sink -> {
+            long remaining = limit;
+            K after = null;
+            while (remaining > 0) {
+                int request = (int) Math.min(size, remaining);
+                List<E> page = pageLoader.apply(after, request);
+                int count = Math.min(page.size(), request);
+                for (int i = 0; i < count; i++) {
+                    sink.accept(mapper.apply(page.get(i)));
+                }
+                remaining -= count;
+                if (count < request) {
+                    return;
+                }
+                after = keyOf.apply(page.get(count - 1));
+            }
+        };
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.dw.application.export;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import org.springframework.stereotype.Service;
 
+import com.example.audit.AuditMode;
 import com.example.dw.application.dto.ExportCommand;
 
 import lombok.RequiredArgsConstructor;
@@ -26,38 +30,76 @@ public class ExportService {
      * @return exporter가 반환한 결과
      */
     public <T> T export(ExportCommand command, Supplier<T> exporter) {
-        var mode = command.auditMode() == null ? com.example.audit.AuditMode.ASYNC_FALLBACK : command.auditMode();
         try {
             T result = exporter.get();
-            auditService.auditExport(command.exportType(),
-                    command.recordCount(),
-                    command.reasonCode(),
-                    command.reasonText(),
-                    command.legalBasisCode(),
-                    "OK",
-                    true,
-                    mode,
-                    mergeMeta(command));
+            auditSuccess(command, command.recordCount());
             return result;
         } catch (Exception ex) {
-            auditService.auditExport(command.exportType(),
-                    command.recordCount(),
-                    command.reasonCode(),
-                    command.reasonText(),
-                    command.legalBasisCode(),
-                    ex.getClass().getSimpleName(),
-                    false,
-                    mode,
-                    mergeMeta(command));
-            failureNotifier.notify(new ExportFailureEvent(
-                    command.exportType(),
-                    command.fileName(),
-                    command.recordCount(),
-                    ex.getClass().getSimpleName()));
+            auditFailure(command, command.recordCount(), ex);
             throw ex;
         }
     }
 
+    /**
+     * 출력 스트림에 바로 쓰는 export를 감싼다. 건수는 미리 알 수 없으므로 exporter가 올린 카운터 값으로
+     * 완료(또는 실패) 시점에 감사를 남긴다. {@code command.recordCount()}는 쓰지 않는다.
+     *
+     * @return 실제로 쓴 행 수
+     */
+    public long exportStreaming(ExportCommand command, StreamingExporter exporter) {
+        AtomicLong written = new AtomicLong();
+        try {
+            exporter.export(written);
+        } catch (IOException ex) {
+            auditFailure(command, written.get(), ex);
+            throw new UncheckedIOException(ex);
+        } catch (RuntimeException ex) {
+            auditFailure(command, written.get(), ex);
+            throw ex;
+        }
+        auditSuccess(command, written.get());
+        return written.get();
+    }
+
+    /** 스트리밍 export 본문. 행을 하나 쓸 때마다 {@code rowCounter}를 올린다. */
+    @FunctionalInterface
+    public interface StreamingExporter {
+        void export(AtomicLong rowCounter) throws IOException;
+    }
+
+    private void auditSuccess(ExportCommand command, long recordCount) {
+        auditService.auditExport(command.exportType(),
+                recordCount,
+                command.reasonCode(),
+                command.reasonText(),
+                command.legalBasisCode(),
+                "OK",
+                true,
+                mode(command),
+                mergeMeta(command));
+    }
+
+    private void auditFailure(ExportCommand command, long recordCount, Exception ex) {
+        auditService.auditExport(command.exportType(),
+                recordCount,
+                command.reasonCode(),
+                command.reasonText(),
+                command.legalBasisCode(),
+                ex.getClass().getSimpleName(),
+                false,
+                mode(command),
+                mergeMeta(command));
+        failureNotifier.notify(new ExportFailureEvent(
+                command.exportType(),
+                command.fileName(),
+                recordCount,
+                ex.getClass().getSimpleName()));
+    }
+
+    private static AuditMode mode(ExportCommand command) {
+        return command.auditMode() == null ? AuditMode.ASYNC_FALLBACK : command.auditMode();
+    }
+
     private Map<String, Object> mergeMeta(ExportCommand command) {
         Map<String, Object> meta = command.meta() != null ? command.meta() : Map.of();
         if (!meta.containsKey("fileName") && command.fileName() != null) {
@@ -0,0 +1,14 @@
+package com.example.dw.application.readmodel;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 조직 동기화로 활성 버전이 바뀐(신규·변경) 조직 코드 목록. 트랜잭션 커밋 후 Read Model 증분 반영에 쓴다.
+ */
+public record OrganizationChangedEvent(UUID sourceBatchId, List<String> organizationCodes) {
+
+    public OrganizationChangedEvent {
+        organizationCodes = organizationCodes == null ? List.of() : List.copyOf(organizationCodes);
+    }
+}
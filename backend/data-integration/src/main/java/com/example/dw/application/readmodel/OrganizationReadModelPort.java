@@ -1,7 +1,10 @@
 package com.example.dw.application.readmodel;
 
+import java.util.Collection;
 import java.util.Optional;
 
+import com.example.dw.application.DwOrganizationTreeService.OrganizationTreeSnapshot;
+
 /**
  * 외부 저장소(예: Redis)에 저장된 조직 Read Model 접근을 위한 Port.
  */
@@ -26,6 +29,24 @@ public interface OrganizationReadModelPort {
      */
     OrganizationTreeReadModel rebuild();
 
+    /**
+     * {@code organizationCode}와 그 하위 조직만 조회한다. 조직이 없으면 empty.
+     * <p>
+     * 기본 구현은 전체 모델을 읽어 잘라 낸다. 노드 단위로 저장하는 구현은 하위 트리만 읽도록 재정의한다.
+     */
+    default Optional<OrganizationTreeReadModel> loadSubtree(String organizationCode) {
+        return load().map(model -> new OrganizationTreeReadModel(model.version(), model.generatedAt(),
+                        OrganizationTreeSnapshot.fromNodes(model.nodes()).descendantsIncluding(organizationCode)))
+                .filter(model -> !model.nodes().isEmpty());
+    }
+
+    /**
+     * 지정한 조직 코드만 소스에서 다시 읽어 반영한다. 기본 구현은 전체 재생성이다.
+     */
+    default void applyChanges(Collection<String> organizationCodes) {
+        rebuild();
+    }
+
     /**
      * 저장소에서 Read Model 을 삭제한다.
      */
@@ -1,9 +1,19 @@
 package com.example.dw.application.readmodel;
 
+import com.example.common.user.spi.UserAccountInfo;
+
 /**
  * 사용자별 Permission Menu Read Model 생성 소스.
  */
 public interface PermissionMenuReadModelSource {
 
     PermissionMenuReadModel snapshot(String principalId);
+
+    /**
+     * 같은 메뉴를 받는 사용자 묶음의 키. 키가 같은 사용자는 {@link #snapshot(String)} 결과의 항목이 같아야 한다.
+     * 일괄 사전 계산은 키마다 한 번만 snapshot을 만든다. 기본 구현은 사용자마다 다른 키를 쓴다.
+     */
+    default String permissionSetKey(UserAccountInfo account) {
+        return account.getUsername();
+    }
 }
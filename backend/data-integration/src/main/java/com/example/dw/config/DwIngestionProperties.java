@@ -12,6 +12,7 @@ import org.springframework.validation.annotation.Validated;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 @Validated
 @ConfigurationProperties(prefix = "dw.ingestion")
@@ -42,6 +43,14 @@ public class DwIngestionProperties {
 
     private boolean autoArchive = true;
 
+    /** 파일 피드를 스트리밍 처리할 때 한 번에 검증·적재·동기화하는 레코드 수. */
+    @Positive
+    private int chunkSize = 1000;
+
+    /** 노드가 점유(claim)한 피드를 완료하지 못했을 때 다른 노드가 다시 가져갈 수 있게 되기까지의 시간. */
+    @NotNull
+    private Duration claimLease = Duration.ofHours(1);
+
     @NotNull
     private DatabaseProperties database = new DatabaseProperties();
 
@@ -121,6 +130,22 @@ public class DwIngestionProperties {
         this.autoArchive = autoArchive;
     }
 
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public Duration getClaimLease() {
+        return claimLease;
+    }
+
+    public void setClaimLease(Duration claimLease) {
+        this.claimLease = claimLease;
+    }
+
     public DatabaseProperties getDatabase() {
         return database;
     }
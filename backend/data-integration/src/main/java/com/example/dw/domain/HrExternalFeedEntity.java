@@ -72,6 +72,10 @@ public class HrExternalFeedEntity extends PrimaryKeyEntity {
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt = OffsetDateTime.now(ZoneOffset.UTC);
 
+    /** 현재 점유의 토큰. 임대가 만료돼 다른 노드가 다시 점유하면 바뀌므로, 완료/실패 기록 전에 자기 점유인지 확인하는 데 쓴다. */
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
     public DataFeedType getFeedType() {
         return feedType;
     }
@@ -104,8 +108,13 @@ public class HrExternalFeedEntity extends PrimaryKeyEntity {
         return updatedAt;
     }
 
-    public void markProcessing() {
+    public String getClaimToken() {
+        return claimToken;
+    }
+
+    public void markProcessing(String claimToken) {
         this.status = HrExternalFeedStatus.PROCESSING;
+        this.claimToken = claimToken;
         touch();
     }
 
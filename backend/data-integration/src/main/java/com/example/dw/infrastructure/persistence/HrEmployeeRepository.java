@@ -1,8 +1,12 @@
 package com.example.dw.infrastructure.persistence;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.example.dw.domain.HrEmployeeEntity;
@@ -14,4 +18,20 @@ public interface HrEmployeeRepository extends JpaRepository<HrEmployeeEntity, UU
     default Optional<HrEmployeeEntity> findActive(String employeeId) {
         return findFirstByEmployeeIdAndEffectiveEndIsNullOrderByVersionDesc(employeeId);
     }
+
+    /** 여러 사번의 활성(종료일 없는) 버전을 한 번에 조회한다. 동기화 청크 단위 병합용. */
+    List<HrEmployeeEntity> findByEmployeeIdInAndEffectiveEndIsNull(Collection<String> employeeIds);
+
+    List<HrEmployeeEntity> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<HrEmployeeEntity> findByIdGreaterThanOrderByIdAsc(UUID id, Pageable pageable);
+
+    /**
+     * id 오름차순으로 {@code after} 다음 행부터 최대 {@code size}건을 읽는다(keyset 페이징, 스트리밍 export용).
+     * {@code after}가 null이면 처음부터 읽는다.
+     */
+    default List<HrEmployeeEntity> findPageAfter(UUID after, int size) {
+        Pageable page = PageRequest.ofSize(size);
+        return after == null ? findAllByOrderByIdAsc(page) : findByIdGreaterThanOrderByIdAsc(after, page);
+    }
 }
@@ -1,9 +1,13 @@
 package com.example.dw.infrastructure.persistence;
 
+import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.dw.domain.HrExternalFeedEntity;
 import com.example.dw.domain.HrExternalFeedStatus;
@@ -11,4 +15,68 @@ import com.example.dw.domain.HrExternalFeedStatus;
 public interface HrExternalFeedRepository extends JpaRepository<HrExternalFeedEntity, UUID> {
 
     Optional<HrExternalFeedEntity> findFirstByStatusOrderByCreatedAtAsc(HrExternalFeedStatus status);
+
+    /**
+     * 피드 유형의 대기열 맨 앞(영업일·순번 순) 행을 행 잠금으로 점유한다.
+     * 맨 앞 행을 다른 노드가 잠그고 있거나 같은 유형이 처리 중이면 비어 있으므로, 유형별 처리 순서가 유지된다.
+     * 호출자의 트랜잭션 안에서 상태를 PROCESSING으로 바꾼 뒤 커밋해야 점유가 확정된다.
+     * <p>
+     * 하위 질의는 문장 시작 시점의 스냅샷으로 한 번만 계산되고, 행을 잠근 뒤에는 바깥 조건만 새 행 버전으로 다시 확인된다.
+     * 그 사이 다른 노드가 같은 행을 점유해 커밋했으면 걸러지도록 바깥에서도 상태를 확인한다.
+     */
+    @Query(value = """
+            SELECT f.* FROM dw_source_feeds f
+             WHERE f.id = (SELECT p.id FROM dw_source_feeds p
+                            WHERE p.feed_type = :feedType AND p.status = 'PENDING'
+                            ORDER BY p.business_date, p.sequence_number, p.created_at
+                            LIMIT 1)
+               AND f.status = 'PENDING'
+               AND NOT EXISTS (SELECT 1 FROM dw_source_feeds r
+                                WHERE r.feed_type = :feedType AND r.status = 'PROCESSING')
+             FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<HrExternalFeedEntity> claimNextPending(@Param("feedType") String feedType);
+
+    /** 임대 시간이 지난 PROCESSING 피드를 다시 대기 상태로 돌린다(점유한 노드가 중단돼 점유를 갱신하지 못한 경우). */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE HrExternalFeedEntity f
+               SET f.status = com.example.dw.domain.HrExternalFeedStatus.PENDING, f.updatedAt = :now
+             WHERE f.status = com.example.dw.domain.HrExternalFeedStatus.PROCESSING
+               AND f.updatedAt < :cutoff
+            """)
+    int releaseExpiredClaims(@Param("cutoff") OffsetDateTime cutoff, @Param("now") OffsetDateTime now);
+
+    /** 처리 중인 점유의 임대를 연장한다. 토큰이 바뀌었거나(만료 후 다른 노드가 다시 점유) 이미 끝났으면 0을 돌려준다. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE HrExternalFeedEntity f
+               SET f.updatedAt = :now
+             WHERE f.id = :id AND f.claimToken = :claimToken
+               AND f.status = com.example.dw.domain.HrExternalFeedStatus.PROCESSING
+            """)
+    int renewClaim(@Param("id") UUID id, @Param("claimToken") String claimToken, @Param("now") OffsetDateTime now);
+
+    /** 자기 점유일 때만 완료로 기록한다. 점유를 잃었으면 0을 돌려준다. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE HrExternalFeedEntity f
+               SET f.status = com.example.dw.domain.HrExternalFeedStatus.COMPLETED, f.errorMessage = null, f.updatedAt = :now
+             WHERE f.id = :id AND f.claimToken = :claimToken
+               AND f.status = com.example.dw.domain.HrExternalFeedStatus.PROCESSING
+            """)
+    int completeClaim(@Param("id") UUID id, @Param("claimToken") String claimToken, @Param("now") OffsetDateTime now);
+
+    /** 자기 점유일 때만 실패로 기록한다. 점유를 잃었으면 0을 돌려준다. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE HrExternalFeedEntity f
+               SET f.status = com.example.dw.domain.HrExternalFeedStatus.FAILED, f.errorMessage = :errorMessage, f.updatedAt = :now
+             WHERE f.id = :id AND f.claimToken = :claimToken
+               AND f.status = com.example.dw.domain.HrExternalFeedStatus.PROCESSING
+            """)
+    int failClaim(@Param("id") UUID id,
+                  @Param("claimToken") String claimToken,
+                  @Param("errorMessage") String errorMessage,
+                  @Param("now") OffsetDateTime now);
 }
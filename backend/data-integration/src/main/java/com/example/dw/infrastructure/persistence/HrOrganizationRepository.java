@@ -1,9 +1,12 @@
 package com.example.dw.infrastructure.persistence;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -13,6 +16,9 @@ public interface HrOrganizationRepository extends JpaRepository<HrOrganizationEn
 
     Optional<HrOrganizationEntity> findFirstByOrganizationCodeAndEffectiveEndIsNullOrderByVersionDesc(String organizationCode);
 
+    /** 여러 조직 코드의 활성(종료일 없는) 버전을 한 번에 조회한다. 동기화 청크 단위 병합용. */
+    List<HrOrganizationEntity> findByOrganizationCodeInAndEffectiveEndIsNull(Collection<String> organizationCodes);
+
     Page<HrOrganizationEntity> findByOrganizationCode(String organizationCode, Pageable pageable);
 
     Page<HrOrganizationEntity> findByOrganizationCodeOrParentOrganizationCode(String organizationCode,
@@ -24,4 +30,14 @@ public interface HrOrganizationRepository extends JpaRepository<HrOrganizationEn
 
     /** 특정 직원이 업무 매니저인 활성 조직을 조회한다 (JIT Provisioning용). */
     Optional<HrOrganizationEntity> findFirstByManagerEmployeeIdAndEffectiveEndIsNullOrderByVersionDesc(String employeeId);
+
+    List<HrOrganizationEntity> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<HrOrganizationEntity> findByIdGreaterThanOrderByIdAsc(UUID id, Pageable pageable);
+
+    /** {@link HrEmployeeRepository#findPageAfter}와 같은 id keyset 페이징. */
+    default List<HrOrganizationEntity> findPageAfter(UUID after, int size) {
+        Pageable page = PageRequest.ofSize(size);
+        return after == null ? findAllByOrderByIdAsc(page) : findByIdGreaterThanOrderByIdAsc(after, page);
+    }
 }
@@ -3,6 +3,7 @@ package com.example.dw.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.time.LocalDate;
@@ -136,6 +137,23 @@ class DwOrganizationQueryServiceTest {
                 });
     }
 
+    @Test
+    @DisplayName("ORG 스코프는 read model에서 해당 조직의 하위 트리만 읽는다")
+    void givenReadModelEnabled_whenOrgScope_thenLoadsSubtreeOnly() {
+        PageRequest pageable = PageRequest.of(0, 5);
+        List<DwOrganizationNode> subtree = List.of(
+                DwOrganizationNode.fromEntity(sample("SUB", "ROOT")),
+                DwOrganizationNode.fromEntity(sample("LEAF", "SUB")));
+        given(organizationReadModelPort.isEnabled()).willReturn(true);
+        given(organizationReadModelPort.loadSubtree("SUB"))
+                .willReturn(Optional.of(new OrganizationTreeReadModel("7", OffsetDateTime.now(), subtree)));
+
+        Page<DwOrganizationNode> page = service.getOrganizations(pageable, RowScope.ORG, "SUB");
+
+        assertThat(page.getContent()).extracting(DwOrganizationNode::organizationCode).containsExactly("SUB", "LEAF");
+        verify(organizationReadModelPort, never()).load();
+    }
+
     @Test
     void givenCustomScope_whenQuery_thenDelegateToStrategy() {
         PageRequest pageable = PageRequest.of(0, 5);
@@ -8,6 +8,7 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -71,6 +72,20 @@ class DwOrganizationTreeServiceTest {
         assertThat(snapshot.node("UNKNOWN")).isEmpty();
     }
 
+    @Test
+    void givenCodes_whenActiveNodes_thenLatestActiveVersionPerCode() {
+        HrOrganizationEntity older = organization("ORG-A", "ROOT");
+        HrOrganizationEntity newer = HrOrganizationEntity.snapshot("ORG-A", 2, "Renamed", "ROOT", "ACTIVE", null, null,
+                LocalDate.of(2021, 1, 1), null, UUID.randomUUID(), OffsetDateTime.now(ZoneOffset.UTC));
+        given(organizationRepository.findByOrganizationCodeInAndEffectiveEndIsNull(List.of("ORG-A", "GONE")))
+                .willReturn(List.of(older, newer));
+
+        Map<String, DwOrganizationNode> nodes = service.activeNodes(List.of("ORG-A", "GONE"));
+
+        assertThat(nodes).containsOnlyKeys("ORG-A");
+        assertThat(nodes.get("ORG-A").name()).isEqualTo("Renamed");
+    }
+
     @Test
     void whenEvict_thenNoRepoInteraction() {
         service.evict();
@@ -0,0 +1,39 @@
+package com.example.dw.application.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CsvRowWriterTest {
+
+    @Test
+    @DisplayName("쉼표·따옴표·줄바꿈이 있는 값만 따옴표로 감싸고 내부 따옴표는 두 번 쓴다")
+    void escapesPerRfc4180() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvRowWriter csv = new CsvRowWriter(out);
+
+        csv.writeRecord(Arrays.asList("plain", "a,b", "say \"hi\"", "line1\nline2", null, "홍길동"));
+
+        assertThat(out.toString())
+                .isEqualTo("plain,\"a,b\",\"say \"\"hi\"\"\",\"line1\nline2\",,홍길동\r\n");
+    }
+
+    @Test
+    @DisplayName("열 순서대로 row 값을 꺼내고 없는 열은 빈 필드로 쓴다")
+    void writesRowByColumns() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvRowWriter csv = new CsvRowWriter(out);
+
+        csv.writeRecord(List.of("id", "name", "email"), Map.of("name", "Kim", "id", 1));
+        csv.flush();
+
+        assertThat(out.toString()).isEqualTo("1,Kim,\r\n");
+    }
+}
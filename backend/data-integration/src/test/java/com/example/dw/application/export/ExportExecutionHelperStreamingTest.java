@@ -0,0 +1,94 @@
+package com.example.dw.application.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.example.audit.AuditEvent;
+import com.example.audit.AuditMode;
+import com.example.audit.AuditPort;
+import com.example.common.masking.DataKind;
+import com.example.common.masking.MaskingTarget;
+import com.example.dw.application.dto.ExportCommand;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ExportExecutionHelperStreamingTest {
+
+    AuditPort auditPort = Mockito.mock(AuditPort.class);
+    ExportFailureNotifier notifier = Mockito.mock(ExportFailureNotifier.class);
+    ExportService exportService = new ExportService(new ExportAuditService(auditPort), notifier);
+    ExportExecutionHelper helper = new ExportExecutionHelper(exportService, new ObjectMapper());
+
+    ExportCommand cmd = new ExportCommand("csv", "stream.csv", 0, Map.of(), "RSN", null, null, null);
+    MaskingTarget target = MaskingTarget.builder()
+            .dataKind(DataKind.ACCOUNT_NO)
+            .forceUnmaskFields(Set.of("name"))
+            .build();
+
+    @Test
+    @DisplayName("행을 마스킹해 출력 스트림에 CSV로 쓰고 실제 행 수로 감사를 남긴다")
+    void streamCsvWritesMaskedRowsAndAuditsCount() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportRowSource rows = sink -> {
+            sink.accept(Map.of("account", "1234-5678-9012", "name", "김, 철수"));
+            sink.accept(Map.of("name", "이영희"));
+        };
+
+        long written = helper.streamCsv(cmd, List.of("account", "name"), rows, target, true, out, false);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(written).isEqualTo(2);
+        assertThat(csv).startsWith("account,name\r\n");
+        assertThat(csv).contains("\"김, 철수\"").endsWith(",이영희\r\n");
+        assertThat(csv).doesNotContain("1234-5678-9012");
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditPort).record(captor.capture(), Mockito.eq(AuditMode.ASYNC_FALLBACK));
+        assertThat(captor.getValue().getExtra().get("recordCount")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("gzip=true면 압축 스트림으로 쓰고 끝에서 gzip trailer까지 마무리한다")
+    void streamCsvGzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportRowSource rows = sink -> sink.accept(Map.of("name", "홍길동"));
+
+        helper.streamCsv(cmd, List.of("name"), rows, target, true, out, true);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("name\r\n홍길동\r\n");
+        }
+    }
+
+    @Test
+    @DisplayName("출력 스트림 쓰기가 실패하면 실패 감사를 남기고 UncheckedIOException을 던진다")
+    void streamCsvWriteFailure() {
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("broken pipe");
+            }
+        };
+        ExportRowSource rows = sink -> sink.accept(Map.of("name", "x".repeat(32 * 1024)));
+
+        assertThatThrownBy(() -> helper.streamCsv(cmd, List.of("name"), rows, target, true, broken, false))
+                .isInstanceOf(UncheckedIOException.class);
+
+        verify(notifier).notify(Mockito.any());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.dw.application.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExportRowSourceTest {
+
+    private final List<Integer> table = IntStream.rangeClosed(1, 7).boxed().toList();
+    private final List<String> queries = new ArrayList<>();
+
+    @Test
+    @DisplayName("keyset 공급자는 마지막 키 다음부터 페이지를 이어 읽고 짧은 페이지에서 멈춘다")
+    void keysetReadsPagesAfterLastKey() {
+        List<Object> rows = new ArrayList<>();
+
+        source(3, 100).forEachRow(row -> rows.add(row.get("id")));
+
+        assertThat(rows).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        assertThat(queries).containsExactly("null:3", "3:3", "6:3");
+    }
+
+    @Test
+    @DisplayName("limit에 도달하면 마지막 페이지를 limit만큼만 요청하고 멈춘다")
+    void keysetStopsAtLimit() {
+        List<Object> rows = new ArrayList<>();
+
+        source(3, 4).forEachRow(row -> rows.add(row.get("id")));
+
+        assertThat(rows).containsExactly(1, 2, 3, 4);
+        assertThat(queries).containsExactly("null:3", "3:1");
+    }
+
+    @Test
+    @DisplayName("limit가 0 이하이면 조회하지 않는다")
+    void keysetNonPositiveLimitReadsNothing() {
+        List<Object> rows = new ArrayList<>();
+
+        source(3, 0).forEachRow(row -> rows.add(row.get("id")));
+
+        assertThat(rows).isEmpty();
+        assertThat(queries).isEmpty();
+    }
+
+    private ExportRowSource source(int pageSize, long limit) {
+        return ExportRowSource.<Integer, Integer>keyset(
+                (after, size) -> {
+                    queries.add(after + ":" + size);
+                    return table.stream().filter(id -> after == null || id > after).limit(size).toList();
+                },
+                id -> id,
+                id -> Map.<String, Object>of("id", id),
+                pageSize,
+                limit);
+    }
+}
@@ -5,6 +5,8 @@ import com.example.dw.application.dto.ExportCommand;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
@@ -95,4 +97,52 @@ class ExportServiceTest {
         assertThat(captor.getValue().getExtra()).containsKey("key");
         assertThat(captor.getValue().getExtra()).doesNotContainKey("fileName");
     }
+
+    @Test
+    @DisplayName("스트리밍 export는 완료 시점에 실제로 쓴 행 수로 감사를 남긴다")
+    void exportStreamingAuditsWrittenCount() {
+        ExportCommand cmd = new ExportCommand("csv", "stream.csv", 0, Map.of(), "RSN01", null, null, null);
+
+        long written = exportService.exportStreaming(cmd, counter -> counter.addAndGet(3));
+
+        assertThat(written).isEqualTo(3);
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditPort).record(captor.capture(), Mockito.eq(AuditMode.ASYNC_FALLBACK));
+        assertThat(captor.getValue().isSuccess()).isTrue();
+        assertThat(captor.getValue().getExtra().get("recordCount")).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("스트리밍 export 도중 I/O 실패는 그때까지 쓴 건수로 실패 감사를 남기고 UncheckedIOException으로 던진다")
+    void exportStreamingIoFailureAuditsPartialCount() {
+        ExportCommand cmd = new ExportCommand("csv", "broken.csv", 0, Map.of(), null, null, null, null);
+
+        org.assertj.core.api.Assertions.assertThatThrownBy(() -> exportService.exportStreaming(cmd, counter -> {
+                    counter.incrementAndGet();
+                    throw new IOException("client aborted");
+                }))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasRootCauseMessage("client aborted");
+
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditPort).record(captor.capture(), Mockito.eq(AuditMode.ASYNC_FALLBACK));
+        assertThat(captor.getValue().isSuccess()).isFalse();
+        assertThat(captor.getValue().getResultCode()).isEqualTo("IOException");
+        ArgumentCaptor<ExportFailureEvent> failureCaptor = ArgumentCaptor.forClass(ExportFailureEvent.class);
+        verify(notifier).notify(failureCaptor.capture());
+        assertThat(failureCaptor.getValue().getRecordCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스트리밍 export 도중 런타임 예외는 그대로 다시 던진다")
+    void exportStreamingRuntimeFailureRethrows() {
+        ExportCommand cmd = new ExportCommand("csv", "broken.csv", 0, Map.of(), null, null, null, null);
+
+        org.assertj.core.api.Assertions.assertThatThrownBy(() -> exportService.exportStreaming(cmd, counter -> {
+                    throw new IllegalStateException("db down");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(notifier).notify(Mockito.any());
+    }
 }
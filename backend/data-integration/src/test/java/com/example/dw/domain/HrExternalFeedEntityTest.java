@@ -25,8 +25,9 @@ class HrExternalFeedEntityTest {
         );
 
         OffsetDateTime before = entity.getUpdatedAt();
-        entity.markProcessing();
+        entity.markProcessing("token-1");
         assertThat(entity.getStatus()).isEqualTo(HrExternalFeedStatus.PROCESSING);
+        assertThat(entity.getClaimToken()).isEqualTo("token-1");
         assertThat(entity.getUpdatedAt()).isAfter(before);
 
         entity.markFailed("err");
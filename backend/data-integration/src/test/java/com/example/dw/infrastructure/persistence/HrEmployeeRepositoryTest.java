@@ -1,17 +1,22 @@
 package com.example.dw.infrastructure.persistence;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
 
 import com.example.dw.domain.HrEmployeeEntity;
 
@@ -42,4 +47,54 @@ class HrEmployeeRepositoryTest {
         assertThat(active.get().getVersion()).isEqualTo(2);
         assertThat(active.get().getFullName()).isEqualTo("New");
     }
+
+    @Test
+    @DisplayName("여러 사번의 활성 레코드를 한 번에 조회하고 종료된 버전은 제외한다")
+    void findActiveByEmployeeIdsExcludesClosedVersions() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        HrEmployeeEntity closed = HrEmployeeEntity.snapshot(
+                "E1", 1, "Old", null, null, null, null,
+                LocalDate.parse("2024-01-01"), null, java.util.UUID.randomUUID(), now);
+        closed.closeAt(LocalDate.parse("2024-01-31"));
+        repository.save(closed);
+        repository.save(HrEmployeeEntity.snapshot(
+                "E1", 2, "New", null, null, null, null,
+                LocalDate.parse("2024-02-01"), null, java.util.UUID.randomUUID(), now));
+        repository.save(HrEmployeeEntity.snapshot(
+                "E2", 1, "Other", null, null, null, null,
+                LocalDate.parse("2024-01-01"), null, java.util.UUID.randomUUID(), now));
+        repository.save(HrEmployeeEntity.snapshot(
+                "E3", 1, "Excluded", null, null, null, null,
+                LocalDate.parse("2024-01-01"), null, java.util.UUID.randomUUID(), now));
+
+        List<HrEmployeeEntity> active = repository.findByEmployeeIdInAndEffectiveEndIsNull(List.of("E1", "E2"));
+
+        assertThat(active).extracting(HrEmployeeEntity::getEmployeeId, HrEmployeeEntity::getVersion)
+                .containsExactlyInAnyOrder(
+                        tuple("E1", 2),
+                        tuple("E2", 1));
+    }
+
+    @Test
+    @DisplayName("keyset 페이지는 직전 페이지 마지막 id 다음부터 id 순으로 이어 읽는다")
+    void findPageAfterContinuesFromLastId() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        for (int i = 1; i <= 5; i++) {
+            repository.save(HrEmployeeEntity.snapshot(
+                    "E" + i, 1, "Name" + i, null, null, null, null,
+                    LocalDate.parse("2024-01-01"), null, UUID.randomUUID(), now));
+        }
+
+        List<HrEmployeeEntity> first = repository.findPageAfter(null, 2);
+        List<HrEmployeeEntity> second = repository.findPageAfter(first.getLast().getId(), 2);
+        List<HrEmployeeEntity> last = repository.findPageAfter(second.getLast().getId(), 2);
+
+        List<UUID> ids = repository.findAllByOrderByIdAsc(Pageable.unpaged())
+                .stream().map(HrEmployeeEntity::getId).toList();
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(2);
+        assertThat(last).hasSize(1);
+        assertThat(Stream.of(first, second, last).flatMap(List::stream).map(HrEmployeeEntity::getId))
+                .containsExactlyElementsOf(ids);
+    }
 }
@@ -0,0 +1,47 @@
+package com.example.dw.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.example.dw.domain.HrExternalFeedEntity;
+import com.example.dw.dto.DataFeedType;
+
+@DataJpaTest
+@Import(DwIntegrationJpaTestConfig.class)
+class HrExternalFeedRepositoryTest {
+
+    @Autowired
+    HrExternalFeedRepository repository;
+
+    @Test
+    @DisplayName("유형별 대기열에서 영업일·순번이 가장 앞선 PENDING 피드를 점유한다")
+    void claimNextPendingReturnsHeadOfQueue() {
+        LocalDate today = LocalDate.parse("2024-03-01");
+        repository.saveAndFlush(HrExternalFeedEntity.receive(DataFeedType.EMPLOYEE, "p2", today, 2, "db"));
+        HrExternalFeedEntity head = repository.saveAndFlush(
+                HrExternalFeedEntity.receive(DataFeedType.EMPLOYEE, "p1", today, 1, "db"));
+        repository.saveAndFlush(HrExternalFeedEntity.receive(DataFeedType.ORGANIZATION, "o1", today.minusDays(1), 1, "db"));
+
+        assertThat(repository.claimNextPending("EMPLOYEE"))
+                .hasValueSatisfying(feed -> assertThat(feed.getId()).isEqualTo(head.getId()));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 맨 앞 피드의 점유를 커밋했으면 다음 피드로 넘어가지 않고 비어 있다")
+    void claimNextPendingSkipsCommittedClaim() {
+        LocalDate today = LocalDate.parse("2024-03-01");
+        HrExternalFeedEntity head = HrExternalFeedEntity.receive(DataFeedType.EMPLOYEE, "p1", today, 1, "db");
+        head.markProcessing("other-node-token");
+        repository.saveAndFlush(head);
+        repository.saveAndFlush(HrExternalFeedEntity.receive(DataFeedType.EMPLOYEE, "p2", today, 2, "db"));
+
+        assertThat(repository.claimNextPending("EMPLOYEE")).isEmpty();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.file;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.file.storage.ContentAddressedFileStorageClient;
+import com.example.file.storage.FileStorageProperties;
+
+/**
+ * 삭제되지 않은 파일의 {@link StoredFileVersion}이 더 이상 참조하지 않는 내용 주소 블롭을 지운다.
+ * <p>
+ * 참조 수는 버전 행의 {@code storage_path}로 센다. 마지막 저장 뒤 {@code file.storage.gc-grace-period}가 지나지 않은
+ * 블롭은 아직 커밋되지 않은 업로드가 가리킬 수 있으므로 남겨 둔다.
+ * 배치 조회 뒤 다른 노드에서 커밋된 참조를 놓치지 않도록, 지우기 직전 블롭을 옮겨 둔 상태에서 참조를 한 번 더 조회한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "file.storage", name = "mode", havingValue = "content-addressed")
+public class ContentAddressedBlobSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentAddressedBlobSweeper.class);
+
+    /** 한 번의 정리 결과. */
+    public record SweepResult(int scanned, int referenced, int deleted, int purgedTempFiles) {
+    }
+
+    private final ContentAddressedFileStorageClient storageClient;
+    private final StoredFileVersionRepository versionRepository;
+    private final FileStorageProperties properties;
+    private final Clock clock;
+
+    public ContentAddressedBlobSweeper(ContentAddressedFileStorageClient storageClient,
+                                       StoredFileVersionRepository versionRepository,
+                                       FileStorageProperties properties,
+                                       Clock clock) {
+        this.storageClient = storageClient;
+        this.versionRepository = versionRepository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${file.storage.gc-interval-ms:3600000}",
+            initialDelayString = "${file.storage.gc-interval-ms:3600000}")
+    public void sweepOnSchedule() {
+        try {
+            SweepResult result = sweep();
+            if (result.deleted() > 0 || result.purgedTempFiles() > 0) {
+                log.info("Swept content-addressed storage: {}", result);
+            }
+        }
+        catch (IOException | RuntimeException ex) {
+            log.warn("Content-addressed storage sweep failed", ex);
+        }
+    }
+
+    public SweepResult sweep() throws IOException {
+        Instant cutoff = clock.instant().minus(properties.getGcGracePeriod());
+        List<String> blobs = storageClient.listBlobs();
+        int batchSize = Math.max(1, properties.getGcBatchSize());
+        int referenced = 0;
+        int deleted = 0;
+        for (int from = 0; from < blobs.size(); from += batchSize) {
+            List<String> batch = blobs.subList(from, Math.min(from + batchSize, blobs.size()));
+            Set<String> live = new HashSet<>(versionRepository.findReferencedStoragePaths(batch));
+            referenced += live.size();
+            for (String blob : batch) {
+                if (!live.contains(blob) && storageClient.deleteIfIdleSince(blob, cutoff, this::isReferenced)) {
+                    deleted++;
+                }
+            }
+        }
+        int purged = storageClient.purgeStaleTempFiles(cutoff);
+        return new SweepResult(blobs.size(), referenced, deleted, purged);
+    }
+
+    private boolean isReferenced(String storagePath) {
+        return !versionRepository.findReferencedStoragePaths(List.of(storagePath)).isEmpty();
+    }
+}
@@ -2,14 +2,26 @@ package com.example.file;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.lang.Nullable;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.example.common.policy.PolicySettingsProvider;
 import com.example.common.schedule.BatchJobCode;
@@ -17,40 +29,76 @@ import com.example.common.schedule.BatchJobDefaults;
 import com.example.common.schedule.BatchJobSchedule;
 import com.example.common.schedule.ScheduledJobPort;
 import com.example.common.schedule.TriggerDescriptor;
+import com.example.file.FileScanWorkQueue.Backlog;
+import com.example.file.FileScanWorkQueue.ScanWorkItem;
 import com.example.file.config.FileSecurityProperties;
 import com.example.file.port.FileScanner;
 import com.example.file.storage.FileStorageClient;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PENDING/FAILED 파일을 다시 스캔한다.
+ * <p>
+ * {@link FileScanWorkQueue}로 대상을 점유({@code FOR UPDATE SKIP LOCKED} + 점유 기한)해 노드끼리 나눠 갖고,
+ * {@code file.security.rescan-concurrency} 크기의 풀에서 병렬로 스캔하며 결과는 건마다 따로 커밋한다.
+ * 점유 건수는 대기 건수에 맞추되 {@code rescan-max-batch}를 넘지 않으며, 대기열이 남아 있으면 재시도 주기 안에서
+ * 다음 묶음을 이어서 처리한다. 묶음 전체가 점유 기한 안에 끝나도록 점유 건수는 풀 크기 × 기한 안에 돌 수 있는 차례 수로도
+ * 제한한다.
+ * <p>
+ * 타임아웃으로 취소돼도 인터럽트를 무시하는 스캐너는 풀 스레드를 계속 붙잡는다. 그런 스레드는 {@code file_rescan_busy_workers}로
+ * 드러내고, 남은 스레드 수만큼만 점유하며 모두 붙잡혀 있으면 점유하지 않는다.
+ */
 @Component
-public class FileScanRescheduler implements ScheduledJobPort {
+public class FileScanRescheduler implements ScheduledJobPort, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(FileScanRescheduler.class);
 
-    private final StoredFileRepository storedFileRepository;
-    private final StoredFileVersionRepository versionRepository;
+    private final FileScanWorkQueue workQueue;
     private final FileScanner fileScanner;
     private final FileStorageClient storageClient;
     private final FileSecurityProperties securityProperties;
     private final PolicySettingsProvider policySettingsProvider;
     private final boolean centralSchedulerEnabled;
+    private final MeterRegistry meterRegistry;
+    private final int concurrency;
+    private final ExecutorService scanExecutor;
+    private final AtomicLong backlogSize = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+    /** 스캔 중인 풀 스레드 수. 묶음이 끝난 뒤에도 남아 있으면 취소를 무시하고 붙잡힌 스레드다. */
+    private final AtomicInteger busyWorkers = new AtomicInteger();
 
-    public FileScanRescheduler(StoredFileRepository storedFileRepository,
-                               StoredFileVersionRepository versionRepository,
+    public FileScanRescheduler(FileScanWorkQueue workQueue,
                                FileScanner fileScanner,
                                FileStorageClient storageClient,
                                FileSecurityProperties securityProperties,
                                ObjectProvider<PolicySettingsProvider> policySettingsProvider,
-                               @Value("${central.scheduler.enabled:false}") boolean centralSchedulerEnabled) {
-        this.storedFileRepository = storedFileRepository;
-        this.versionRepository = versionRepository;
+                               @Value("${central.scheduler.enabled:false}") boolean centralSchedulerEnabled,
+                               @Nullable MeterRegistry meterRegistry) {
+        this.workQueue = workQueue;
         this.fileScanner = fileScanner;
         this.storageClient = storageClient;
         this.securityProperties = securityProperties;
         this.policySettingsProvider = policySettingsProvider.getIfAvailable();
         this.centralSchedulerEnabled = centralSchedulerEnabled;
+        this.meterRegistry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+        this.concurrency = Math.max(1, securityProperties.getRescanConcurrency());
+        this.scanExecutor = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("file-rescan-"));
+        if (securityProperties.getScanTimeoutMs() > 0
+                && securityProperties.getRescanLeaseMs() <= securityProperties.getScanTimeoutMs()) {
+            log.warn("file.security.rescan-lease-ms ({}) is not longer than scan-timeout-ms ({}); slow rescans may be claimed twice",
+                    securityProperties.getRescanLeaseMs(), securityProperties.getScanTimeoutMs());
+        }
+        Gauge.builder("file_rescan_backlog", backlogSize, AtomicLong::get).register(this.meterRegistry);
+        Gauge.builder("file_rescan_oldest_age_seconds", oldestAgeSeconds, AtomicLong::get).register(this.meterRegistry);
+        Gauge.builder("file_rescan_busy_workers", busyWorkers, AtomicInteger::get).register(this.meterRegistry);
     }
 
 
     @Scheduled(fixedDelayString = "${file.security.rescan-interval-ms:60000}")
-    @Transactional
     public void rescanPending() {
         if (centralSchedulerEnabled) {
             return; // 중앙 스케줄러가 실행
@@ -74,25 +122,145 @@ public class FileScanRescheduler implements ScheduledJobPort {
         if (!securityProperties.isRescanEnabled()) {
             return;
         }
-        List<StoredFile> targets = storedFileRepository.findTop20ByScanStatusInOrderByCreatedAtAsc(
-                List.of(ScanStatus.PENDING, ScanStatus.FAILED));
-        OffsetDateTime nowTs = OffsetDateTime.now();
-        for (StoredFile file : targets) {
-            versionRepository.findFirstByFileIdOrderByVersionNumberDesc(file.getId()).ifPresent(version -> {
-                try {
-                    var resource = storageClient.load(version.getStoragePath());
-                    try (InputStream is = resource.getInputStream()) {
-                        ScanStatus status = fileScanner.scan(file.getOriginalName(), is);
-                        String reason = (status == ScanStatus.BLOCKED || status == ScanStatus.FAILED)
-                                ? "Rescan result: " + status : null;
-                        file.markScanResult(status, nowTs, reason);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(intervalMs());
+        Duration lease = Duration.ofMillis(securityProperties.getRescanLeaseMs());
+        while (!Thread.currentThread().isInterrupted()) {
+            Backlog backlog = workQueue.backlog();
+            publish(backlog);
+            if (backlog.size() == 0) {
+                return;
+            }
+            int workers = idleWorkers();
+            if (workers == 0) {
+                log.warn("All {} file rescan workers are still busy with scans that ignored cancellation; skipping claim",
+                        concurrency);
+                return;
+            }
+            int batchSize = batchSize(backlog.size(), workers);
+            List<ScanWorkItem> items = workQueue.claim(batchSize, OffsetDateTime.now(), lease);
+            if (items.isEmpty()) {
+                return;
+            }
+            scanAll(items, workers);
+            if (items.size() < batchSize || System.nanoTime() > deadline) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scanExecutor.shutdownNow();
+    }
+
+    /**
+     * 대기 건수만큼 점유하되 {@code rescan-max-batch}와 {@link #leaseCapacity(int)}를 넘지 않는다.
+     */
+    int batchSize(long backlog) {
+        return batchSize(backlog, concurrency);
+    }
+
+    private int batchSize(long backlog, int workers) {
+        int maxBatch = Math.max(1, Math.min(securityProperties.getRescanMaxBatch(), leaseCapacity(workers)));
+        return (int) Math.min(backlog, maxBatch);
+    }
+
+    /** 지금 스캔을 맡을 수 있는 풀 스레드 수. */
+    int idleWorkers() {
+        return Math.max(0, concurrency - busyWorkers.get());
+    }
+
+    /**
+     * 점유 기한 안에 끝낼 수 있는 건수. 모든 스캔이 {@code scan-timeout-ms}까지 걸려도 기한 전에 결과를 기록하도록
+     * 스캔 한 번만큼 여유를 두고 풀 크기 × 차례 수로 정한다. 타임아웃이 없으면 제한하지 않는다.
+     */
+    int leaseCapacity(int workers) {
+        long timeout = securityProperties.getScanTimeoutMs();
+        if (timeout <= 0) {
+            return Integer.MAX_VALUE;
+        }
+        long waves = Math.max(1, (securityProperties.getRescanLeaseMs() - timeout) / timeout);
+        return (int) Math.min(Integer.MAX_VALUE, waves * workers);
+    }
+
+    private void scanAll(List<ScanWorkItem> items, int workers) {
+        List<Callable<Void>> tasks = items.stream()
+                .map(item -> (Callable<Void>) () -> {
+                    busyWorkers.incrementAndGet();
+                    try {
+                        scanOne(item);
                     }
-                } catch (IOException e) {
-                    file.markScanResult(ScanStatus.FAILED, nowTs, "Rescan IO error: " + e.getMessage());
-                }
-            });
+                    finally {
+                        busyWorkers.decrementAndGet();
+                    }
+                    return null;
+                })
+                .toList();
+        long timeout = securityProperties.getScanTimeoutMs();
+        try {
+            List<Future<Void>> futures;
+            if (timeout > 0) {
+                // 풀 크기만큼씩 차례로 돈다고 보고 묶음 전체의 대기 시간을 정한다. 넘긴 작업은 취소되고 점유 기한 뒤 다시 시도된다.
+                long waves = (items.size() + workers - 1) / workers;
+                futures = scanExecutor.invokeAll(tasks, timeout * waves, TimeUnit.MILLISECONDS);
+            }
+            else {
+                futures = scanExecutor.invokeAll(tasks);
+            }
+            long cancelled = futures.stream().filter(Future::isCancelled).count();
+            if (cancelled > 0) {
+                meterRegistry.counter("file_rescan_timeouts_total").increment(cancelled);
+                log.warn("Cancelled {} file rescans that exceeded the batch timeout ({} workers still busy)",
+                        cancelled, busyWorkers.get());
+            }
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void scanOne(ScanWorkItem item) {
+        long started = System.nanoTime();
+        ScanStatus status;
+        String reason;
+        try {
+            var resource = storageClient.load(item.storagePath());
+            try (InputStream is = resource.getInputStream()) {
+                status = fileScanner.scan(item.originalName(), is);
+            }
+            reason = (status == ScanStatus.BLOCKED || status == ScanStatus.FAILED)
+                    ? "Rescan result: " + status : null;
+        } catch (IOException e) {
+            status = ScanStatus.FAILED;
+            reason = "Rescan IO error: " + e.getMessage();
+        } catch (RuntimeException e) {
+            status = ScanStatus.FAILED;
+            reason = "Rescan error: " + e.getMessage();
+        }
+        Timer.builder("file_rescan_scan_ms")
+                .tag("result", status.name())
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        try {
+            if (workQueue.record(item.fileId(), status, reason, OffsetDateTime.now())) {
+                meterRegistry.counter("file_rescan_results_total", "result", status.name()).increment();
+            }
+        } catch (RuntimeException ex) {
+            // 점유 기한이 지나면 다시 스캔된다.
+            log.warn("Failed to record rescan result for file {}", item.fileId(), ex);
         }
-        storedFileRepository.saveAll(targets);
+    }
+
+    private void publish(Backlog backlog) {
+        backlogSize.set(backlog.size());
+        oldestAgeSeconds.set(backlog.oldestCreatedAt() == null ? 0
+                : Math.max(0, Duration.between(backlog.oldestCreatedAt(), OffsetDateTime.now()).toSeconds()));
+    }
+
+    private long intervalMs() {
+        return securityProperties.getRescanIntervalMs() > 0
+                ? securityProperties.getRescanIntervalMs()
+                : BatchJobDefaults.defaults().get(BatchJobCode.FILE_SECURITY_RESCAN).fixedDelayMillis();
     }
 
     private BatchJobSchedule resolveSchedule() {
@@ -101,11 +269,8 @@ public class FileScanRescheduler implements ScheduledJobPort {
         if (policy != null) {
             return policy;
         }
-        long interval = securityProperties.getRescanIntervalMs() > 0
-                ? securityProperties.getRescanIntervalMs()
-                : BatchJobDefaults.defaults().get(BatchJobCode.FILE_SECURITY_RESCAN).fixedDelayMillis();
         boolean enabled = securityProperties.isRescanEnabled();
         return new BatchJobSchedule(enabled, com.example.common.schedule.TriggerType.FIXED_DELAY, null,
-                interval, 0, null);
+                intervalMs(), 0, null);
     }
 }
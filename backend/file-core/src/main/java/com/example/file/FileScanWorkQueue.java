@@ -0,0 +1,85 @@
+package com.example.file;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.common.file.FileStatus;
+
+/**
+ * 재스캔 작업의 점유와 결과 기록. 메서드마다 짧은 트랜잭션 하나로 끝나므로 스캔하는 동안에는 트랜잭션을 잡지 않는다.
+ */
+@Component
+public class FileScanWorkQueue {
+
+    static final List<ScanStatus> RESCAN_STATUSES = List.of(ScanStatus.PENDING, ScanStatus.FAILED);
+
+    /** 점유한 작업. 스캔 스레드가 엔티티 없이 쓸 수 있도록 필요한 값만 담는다. */
+    public record ScanWorkItem(UUID fileId, String originalName, String storagePath) {
+    }
+
+    /** 재스캔 대기열 상태. {@code oldestCreatedAt}은 비어 있으면 null. */
+    public record Backlog(long size, OffsetDateTime oldestCreatedAt) {
+    }
+
+    private final StoredFileRepository storedFileRepository;
+    private final StoredFileVersionRepository versionRepository;
+
+    public FileScanWorkQueue(StoredFileRepository storedFileRepository,
+                             StoredFileVersionRepository versionRepository) {
+        this.storedFileRepository = storedFileRepository;
+        this.versionRepository = versionRepository;
+    }
+
+    /**
+     * 다른 노드가 잠그지 않은 대상을 최대 {@code limit}건 점유하고 {@code lease} 동안 다시 나눠 주지 않는다.
+     * 버전이 없는 파일은 점유만 하고 돌려주지 않으므로 점유 기한이 지날 때까지 다시 시도하지 않는다.
+     */
+    @Transactional
+    public List<ScanWorkItem> claim(int limit, OffsetDateTime now, Duration lease) {
+        List<StoredFile> files = storedFileRepository.claimScanCandidates(now, limit);
+        OffsetDateTime leaseUntil = now.plus(lease);
+        List<ScanWorkItem> items = new ArrayList<>(files.size());
+        for (StoredFile file : files) {
+            file.leaseScan(leaseUntil);
+            versionRepository.findFirstByFileIdOrderByVersionNumberDesc(file.getId())
+                    .ifPresent(version -> items.add(
+                            new ScanWorkItem(file.getId(), file.getOriginalName(), version.getStoragePath())));
+        }
+        storedFileRepository.saveAll(files);
+        return items;
+    }
+
+    /**
+     * 스캔 결과를 기록한다. 스캔이 끝났으면 점유를 풀고, 다시 FAILED/PENDING이면 점유 기한이 지난 뒤에 재시도되도록 둔다.
+     * 그 사이 삭제됐거나 다른 경로로 스캔이 끝난 파일은 건드리지 않는다.
+     *
+     * @return 기록했으면 true
+     */
+    @Transactional
+    public boolean record(UUID fileId, ScanStatus status, String reason, OffsetDateTime scannedAt) {
+        return storedFileRepository.findById(fileId)
+                .filter(file -> !file.isDeleted() && RESCAN_STATUSES.contains(file.getScanStatus()))
+                .map(file -> {
+                    file.markScanResult(status, scannedAt, reason);
+                    if (!RESCAN_STATUSES.contains(status)) {
+                        file.releaseScanLease();
+                    }
+                    storedFileRepository.save(file);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    @Transactional(readOnly = true)
+    public Backlog backlog() {
+        return new Backlog(
+                storedFileRepository.countByScanStatusInAndStatusNot(RESCAN_STATUSES, FileStatus.DELETED),
+                storedFileRepository.findOldestCreatedAtForScan(RESCAN_STATUSES));
+    }
+}
@@ -1,36 +1,42 @@
 package com.example.file;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Clock;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import org.apache.tika.Tika;
 import org.apache.tika.mime.MimeTypeException;
 import org.apache.tika.mime.MimeTypes;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.common.file.FileDownload;
 import com.example.common.file.dto.FileMetadataDto;
-import com.example.common.file.FileStatus;
 import com.example.common.policy.PolicySettingsProvider;
 import com.example.common.policy.PolicyToggleSettings;
 import com.example.file.audit.FileAuditEvent;
@@ -38,15 +44,29 @@ import com.example.file.audit.FileAuditPublisher;
 import com.example.file.config.FileSecurityProperties;
 import com.example.file.port.FileScanner;
 import com.example.file.storage.FileStorageClient;
+import com.example.file.dto.FileSummaryPage;
+import com.example.file.dto.FileSummaryQuery;
 import com.example.file.dto.FileUploadCommand;
-
+import com.example.file.upload.StreamBranch;
+import com.example.file.upload.TeeInputStream;
+
+/**
+ * 첨부 파일 업로드/다운로드/삭제.
+ * <p>
+ * 업로드 본문은 한 번만 읽는다. MIME 판별은 앞부분 버퍼(64KB)에서 mark/reset으로 하고,
+ * 이후 본문은 SHA-256 다이제스트를 거쳐 스토리지에 저장되면서 {@link TeeInputStream}으로 압축 검사와 바이러스 스캔
+ * 분기에 동시에 복사된다. 분기 소비자는 공유 가상 스레드 실행기에서 돌며, 중첩 압축도 메모리에 모으지 않고 스트리밍으로
+ * 검사한다. 저장 뒤 검사에서 거부되면 저장한 객체를 지운다.
+ */
 @Service
-public class FileService {
+public class FileService implements DisposableBean {
 
     private static final Set<String> ARCHIVE_EXTENSIONS = Set.of("zip", "jar");
     private static final int MAX_ARCHIVE_DEPTH = 3;
     private static final int MAX_ARCHIVE_ENTRIES = 500;
     private static final long DEFAULT_ARCHIVE_ENTRY_LIMIT = 20 * 1024 * 1024; // 20MB
+    private static final int SNIFF_BUFFER_BYTES = 64 * 1024;
+    private static final int BRANCH_CAPACITY_CHUNKS = 128;
 
     private final StoredFileRepository storedFileRepository;
     private final StoredFileVersionRepository versionRepository;
@@ -59,6 +79,8 @@ public class FileService {
     private final Clock clock;
     private final Tika tika = new Tika();
     private final MimeTypes mimeTypes = MimeTypes.getDefaultMimeTypes();
+    private final ExecutorService stageExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("file-upload-stage-", 0).factory());
 
     public FileService(StoredFileRepository storedFileRepository,
                        StoredFileVersionRepository versionRepository,
@@ -83,7 +105,8 @@ public class FileService {
     @Transactional
     public StoredFile upload(FileUploadCommand command) {
         PolicyToggleSettings settings = policySettingsProvider.currentSettings();
-        enforcePolicy(command, settings);
+        String extension = extensionOf(command.originalName());
+        enforcePolicy(command, settings, extension);
         ensureNoDuplicateActiveFile(command.originalName());
         OffsetDateTime now = now();
         StoredFile file = StoredFile.create(
@@ -95,16 +118,17 @@ public class FileService {
                 now
         );
 
-        java.util.concurrent.atomic.AtomicLong storedSize = new java.util.concurrent.atomic.AtomicLong(command.size());
-        StoredFileVersion version = createVersion(file, command, command.ownerUsername(), now, storedSize);
+        ReceivedContent received = receive(command, settings, extension, now);
+        StoredFileVersion version = received.version();
         file.addVersion(version);
-        file.updateHashes(storedSize.get(), version.getChecksum(), version.getChecksum());
-        ScanStatus scanStatus = runScan(command.originalName(), command.inputStreamSupplier());
+        file.updateHashes(received.size(), version.getChecksum(), version.getChecksum());
+        ScanStatus scanStatus = received.scanStatus();
         String blockedReason = (scanStatus == ScanStatus.BLOCKED || scanStatus == ScanStatus.FAILED)
                 ? "Scan result: " + scanStatus
                 : null;
         file.markScanResult(scanStatus, now, blockedReason);
         if (scanStatus == ScanStatus.BLOCKED || scanStatus == ScanStatus.FAILED) {
+            deleteQuietly(version.getStoragePath());
             throw new FilePolicyViolationException("업로드가 차단되었습니다. 상태: " + scanStatus);
         }
         StoredFile persisted = storedFileRepository.save(file);
@@ -113,12 +137,12 @@ public class FileService {
         return persisted;
     }
 
+    /**
+     * 삭제되지 않은 파일 중 정규화 이름이 같은 파일이 있는지 인덱스로 확인한다.
+     * 동시 업로드 경합은 {@code uk_stored_files_active_name_key} 유니크 제약이 막는다.
+     */
     private void ensureNoDuplicateActiveFile(String originalName) {
-        List<FileSummaryView> summaries = storedFileRepository.findAllByOrderByCreatedAtDesc();
-        boolean duplicated = summaries.stream()
-                .anyMatch(view -> originalName.equalsIgnoreCase(view.getOriginalName())
-                        && view.getStatus() != FileStatus.DELETED);
-        if (duplicated) {
+        if (storedFileRepository.existsByActiveNameKey(StoredFile.nameKey(originalName))) {
             throw new FilePolicyViolationException("동일한 파일명이 이미 존재하므로 덮어쓸 수 없습니다.");
         }
     }
@@ -128,6 +152,36 @@ public class FileService {
         return storedFileRepository.findAllByOrderByCreatedAtDesc();
     }
 
+    /**
+     * 최신순 keyset 페이지. 한 건을 더 읽어 다음 페이지 존재 여부를 판단한다.
+     */
+    @Transactional(readOnly = true)
+    public FileSummaryPage<FileSummaryView> listSummaries(FileSummaryQuery query) {
+        FileSummaryCursor cursor = FileSummaryCursor.decode(query.cursor());
+        String namePrefix = namePrefixPattern(query.name());
+        Pageable pageable = PageRequest.ofSize(query.size() + 1);
+        List<FileSummaryView> rows = cursor == null
+                ? storedFileRepository.findSummaries(query.owner(), query.status(), namePrefix, pageable)
+                : storedFileRepository.findSummariesAfter(query.owner(), query.status(), namePrefix,
+                        cursor.createdAt(), cursor.id(), pageable);
+        if (rows.size() <= query.size()) {
+            return new FileSummaryPage<>(rows, null);
+        }
+        List<FileSummaryView> items = List.copyOf(rows.subList(0, query.size()));
+        return new FileSummaryPage<>(items, FileSummaryCursor.of(items.get(items.size() - 1)).encode());
+    }
+
+    private String namePrefixPattern(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        String escaped = StoredFile.nameKey(name.strip())
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return escaped + "%";
+    }
+
     @Transactional(readOnly = true)
     public StoredFile getMetadata(UUID id) {
         return storedFileRepository.findById(id)
@@ -141,6 +195,34 @@ public class FileService {
 
     @Transactional
     public FileDownload download(UUID id, String actor, List<String> alsoAllowedUsers) {
+        StoredFile file = downloadableFile(id, actor, alsoAllowedUsers);
+        StoredFileVersion version = latestVersion(file);
+        FileDownload download = new FileDownload(metadataOf(file), loadResource(version));
+        recordDownload(file, version, actor);
+        return download;
+    }
+
+    /**
+     * 권한과 스캔 상태를 확인하고 최신 버전 본문을 연다. 열람 기록은 남기지 않으므로, 조건부·구간 요청을 가려
+     * 실제로 본문을 내려줄 때만 {@link #recordDownload(UUID, String)}를 호출한다.
+     */
+    @Transactional(readOnly = true)
+    public FileDownload openDownload(UUID id, String actor, List<String> alsoAllowedUsers) {
+        StoredFile file = downloadableFile(id, actor, alsoAllowedUsers);
+        return new FileDownload(metadataOf(file), loadResource(latestVersion(file)));
+    }
+
+    /**
+     * 내려준 다운로드 한 건을 기록한다(최근 열람 시각, 접근 로그, 감사).
+     */
+    @Transactional
+    public void recordDownload(UUID id, String actor) {
+        StoredFile file = storedFileRepository.findById(id)
+                .orElseThrow(() -> new StoredFileNotFoundException(id));
+        recordDownload(file, latestVersion(file), actor);
+    }
+
+    private StoredFile downloadableFile(UUID id, String actor, List<String> alsoAllowedUsers) {
         StoredFile file = storedFileRepository.findById(id)
                 .orElseThrow(() -> new StoredFileNotFoundException(id));
         if (file.isDeleted()) {
@@ -157,22 +239,31 @@ public class FileService {
         if (file.getScanStatus() != ScanStatus.CLEAN) {
             throw new FilePolicyViolationException("파일 스캔이 완료되지 않았습니다.");
         }
-        StoredFileVersion version = versionRepository.findFirstByFileIdOrderByVersionNumberDesc(file.getId())
-                .orElseThrow(() -> new StoredFileNotFoundException(id));
+        return file;
+    }
+
+    private StoredFileVersion latestVersion(StoredFile file) {
+        return versionRepository.findFirstByFileIdOrderByVersionNumberDesc(file.getId())
+                .orElseThrow(() -> new StoredFileNotFoundException(file.getId()));
+    }
+
+    private Resource loadResource(StoredFileVersion version) {
         try {
-            var resource = storageClient.load(version.getStoragePath());
-            OffsetDateTime now = now();
-            file.markAccessed(now);
-            storedFileRepository.save(file);
-            logAccess(file, "DOWNLOAD", actor, "v" + version.getVersionNumber(), now);
-            audit("DOWNLOAD", file.getId(), actor, now);
-            return new FileDownload(metadataOf(file), resource);
+            return storageClient.load(version.getStoragePath());
         }
         catch (IOException ex) {
             throw new FileStorageException("파일을 읽을 수 없습니다.", ex);
         }
     }
 
+    private void recordDownload(StoredFile file, StoredFileVersion version, String actor) {
+        OffsetDateTime now = now();
+        file.markAccessed(now);
+        storedFileRepository.save(file);
+        logAccess(file, "DOWNLOAD", actor, "v" + version.getVersionNumber(), now);
+        audit("DOWNLOAD", file.getId(), actor, now);
+    }
+
     @Transactional
     public StoredFile delete(UUID id, String actor) {
         StoredFile file = storedFileRepository.findById(id)
@@ -194,35 +285,194 @@ public class FileService {
         return saved;
     }
 
-    private StoredFileVersion createVersion(StoredFile file,
-                                            FileUploadCommand command,
-                                            String actor,
-                                            OffsetDateTime now,
-                                            java.util.concurrent.atomic.AtomicLong storedSizeHolder) {
+    /**
+     * 본문을 한 번 읽으면서 MIME 판별, 저장/체크섬, 압축 검사, 스캔을 모두 수행한다.
+     */
+    private ReceivedContent receive(FileUploadCommand command,
+                                    PolicyToggleSettings settings,
+                                    String extension,
+                                    OffsetDateTime now) {
+        MessageDigest digest = sha256();
+        List<StreamBranch> branches = new ArrayList<>();
+        StreamBranch archiveBranch = null;
+        StreamBranch scanBranch = null;
+        Future<Void> archiveCheck = null;
+        Future<ScanStatus> scan = null;
+        FileStorageClient.StoredObject storedObject = null;
+        try (InputStream source = new BufferedInputStream(command.inputStreamSupplier().get(), SNIFF_BUFFER_BYTES)) {
+            if (settings.strictMimeValidation()) {
+                validateMime(source, command.originalName(), extension);
+            }
+            if (isArchiveFile(extension, command.contentType())) {
+                long entryLimit = settings.maxFileSizeBytes() > 0 ? settings.maxFileSizeBytes() : DEFAULT_ARCHIVE_ENTRY_LIMIT;
+                archiveBranch = newBranch();
+                archiveCheck = submitArchiveInspection(archiveBranch, settings.allowedFileExtensions(), entryLimit);
+                branches.add(archiveBranch);
+            }
+            if (securityProperties.isScanEnabled()) {
+                scanBranch = newBranch();
+                scan = submitScan(command.originalName(), scanBranch);
+                branches.add(scanBranch);
+            }
+            TeeInputStream tee = new TeeInputStream(new DigestInputStream(source, digest), branches);
+            try {
+                storedObject = storageClient.store(tee, command.size(), command.originalName());
+                tee.finish();
+            }
+            catch (IOException | RuntimeException ex) {
+                tee.abort();
+                throw ex;
+            }
+        }
+        catch (IOException ex) {
+            cancel(archiveCheck, scan);
+            deleteQuietly(storedObject);
+            throw new FileStorageException("파일을 저장하지 못했습니다.", ex);
+        }
+        catch (RuntimeException ex) {
+            cancel(archiveCheck, scan);
+            deleteQuietly(storedObject);
+            throw ex;
+        }
+
+        try {
+            awaitArchiveInspection(archiveCheck, archiveBranch);
+        }
+        catch (FilePolicyViolationException ex) {
+            cancel(null, scan);
+            deleteQuietly(storedObject);
+            throw ex;
+        }
+        String checksum = HexFormat.of().formatHex(digest.digest());
+        StoredFileVersion version = StoredFileVersion.createVersion(
+                1,
+                storedObject.storagePath(),
+                checksum,
+                command.ownerUsername(),
+                now
+        );
+        return new ReceivedContent(version, storedObject.size(), awaitScan(scan, scanBranch));
+    }
+
+    private record ReceivedContent(StoredFileVersion version, long size, ScanStatus scanStatus) {
+    }
+
+    private StreamBranch newBranch() {
+        return new StreamBranch(BRANCH_CAPACITY_CHUNKS, stageTimeoutMs());
+    }
+
+    /** 분기 정체·압축 검사 대기 한도. {@code scan-timeout-ms}가 0 이하(타임아웃 끔)이면 한도 없이 기다린다. */
+    private long stageTimeoutMs() {
+        return Math.max(0, securityProperties.getScanTimeoutMs());
+    }
+
+    private Future<Void> submitArchiveInspection(StreamBranch branch,
+                                                 List<String> allowedExtensions,
+                                                 long maxEntryBytes) {
+        return stageExecutor.submit(() -> {
+            try (InputStream stream = branch.input()) {
+                inspectArchive(stream, allowedExtensions, maxEntryBytes, 0, new AtomicInteger());
+            }
+            return null;
+        });
+    }
+
+    private Future<ScanStatus> submitScan(String filename, StreamBranch branch) {
+        return stageExecutor.submit(() -> {
+            try (InputStream stream = branch.input()) {
+                return fileScanner.scan(filename, stream);
+            }
+        });
+    }
+
+    private void awaitArchiveInspection(Future<Void> archiveCheck, StreamBranch branch) {
+        if (archiveCheck == null) {
+            return;
+        }
+        long timeout = stageTimeoutMs();
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            try (InputStream inputStream = command.inputStreamSupplier().get();
-                 DigestInputStream digestStream = new DigestInputStream(inputStream, digest)) {
-                FileStorageClient.StoredObject storedObject = storageClient.store(digestStream,
-                        command.size(),
-                        command.originalName());
-                storedSizeHolder.set(storedObject.size());
-                String checksum = HexFormat.of().formatHex(digest.digest());
-                StoredFileVersion version = StoredFileVersion.createVersion(
-                        1,
-                        storedObject.storagePath(),
-                        checksum,
-                        actor,
-                        now
-                );
-                return version;
+            if (timeout > 0) {
+                archiveCheck.get(timeout, TimeUnit.MILLISECONDS);
+            }
+            else {
+                archiveCheck.get();
+            }
+        }
+        catch (ExecutionException ex) {
+            if (ex.getCause() instanceof FilePolicyViolationException violation) {
+                throw violation;
             }
+            throw new FilePolicyViolationException("압축 파일을 검사하는 중 오류가 발생했습니다.", ex.getCause());
+        }
+        catch (TimeoutException ex) {
+            archiveCheck.cancel(true);
+            throw new FilePolicyViolationException("압축 파일을 검사하는 중 오류가 발생했습니다.", ex);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new FilePolicyViolationException("압축 파일을 검사하는 중 오류가 발생했습니다.", ex);
+        }
+        if (branch.isOverrun()) {
+            throw new FilePolicyViolationException("압축 파일을 검사하는 중 오류가 발생했습니다.");
+        }
+    }
+
+    private ScanStatus awaitScan(Future<ScanStatus> scan, StreamBranch branch) {
+        if (scan == null) {
+            return ScanStatus.PENDING;
+        }
+        long timeout = securityProperties.getScanTimeoutMs();
+        try {
+            ScanStatus status = timeout > 0 ? scan.get(timeout, TimeUnit.MILLISECONDS) : scan.get();
+            return branch.isOverrun() ? ScanStatus.FAILED : status;
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return ScanStatus.FAILED;
         }
-        catch (NoSuchAlgorithmException | IOException ex) {
+        catch (TimeoutException | ExecutionException ex) {
+            scan.cancel(true);
+            return ScanStatus.FAILED;
+        }
+    }
+
+    private void cancel(Future<?> archiveCheck, Future<?> scan) {
+        if (archiveCheck != null) {
+            archiveCheck.cancel(true);
+        }
+        if (scan != null) {
+            scan.cancel(true);
+        }
+    }
+
+    private void deleteQuietly(FileStorageClient.StoredObject storedObject) {
+        if (storedObject != null) {
+            deleteQuietly(storedObject.storagePath());
+        }
+    }
+
+    private void deleteQuietly(String storagePath) {
+        try {
+            storageClient.delete(storagePath);
+        }
+        catch (IOException ignored) {
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException ex) {
             throw new FileStorageException("파일을 저장하지 못했습니다.", ex);
         }
     }
 
+    @Override
+    public void destroy() {
+        stageExecutor.shutdownNow();
+    }
+
     private void logAccess(StoredFile file, String action, String actor, String detail, OffsetDateTime now) {
         FileAccessLog log = FileAccessLog.recordAccess(file, action, actor, detail, now);
         accessLogRepository.save(log);
@@ -232,27 +482,20 @@ public class FileService {
         fileAuditPublisher.publish(new FileAuditEvent(action, fileId, actor, occurredAt));
     }
 
-    private void enforcePolicy(FileUploadCommand command, PolicyToggleSettings settings) {
+    private void enforcePolicy(FileUploadCommand command, PolicyToggleSettings settings, String extension) {
         long maxSize = securityProperties.getMaxSizeBytes() > 0 ? securityProperties.getMaxSizeBytes() : settings.maxFileSizeBytes();
         if (maxSize > 0 && command.size() > maxSize) {
             throw new FilePolicyViolationException("허용된 최대 파일 크기를 초과했습니다.");
         }
-        List<String> allowedExtensions = settings.allowedFileExtensions();
-        String extension = extensionOf(command.originalName());
-        enforceExtensionRule(allowedExtensions, extension);
-        boolean archive = isArchiveFile(extension, command.contentType());
-        if (settings.strictMimeValidation()) {
-            validateMime(command, extension);
-        }
-        if (archive) {
-            long entryLimit = settings.maxFileSizeBytes() > 0 ? settings.maxFileSizeBytes() : DEFAULT_ARCHIVE_ENTRY_LIMIT;
-            validateArchiveContents(command, allowedExtensions, entryLimit);
-        }
+        enforceExtensionRule(settings.allowedFileExtensions(), extension);
     }
 
-    private void validateMime(FileUploadCommand command, String declaredExtension) {
-        try (InputStream stream = command.inputStreamSupplier().get()) {
-            String detectedType = tika.detect(stream, command.originalName());
+    /**
+     * 앞부분만 읽어 MIME을 판별한다. Tika는 mark/reset을 쓰므로 스트림 위치는 처음으로 돌아간다.
+     */
+    private void validateMime(InputStream stream, String originalName, String declaredExtension) {
+        try {
+            String detectedType = tika.detect(stream, originalName);
             if (!isMimeCompatible(detectedType, declaredExtension)) {
                 throw new FilePolicyViolationException("파일 내용과 확장자가 일치하지 않습니다.");
             }
@@ -278,17 +521,6 @@ public class FileService {
         return OffsetDateTime.now(clock);
     }
 
-    private void validateArchiveContents(FileUploadCommand command,
-                                         List<String> allowedExtensions,
-                                         long maxEntryBytes) {
-        try (InputStream stream = new BufferedInputStream(command.inputStreamSupplier().get())) {
-            inspectArchive(stream, allowedExtensions, maxEntryBytes, 0, new AtomicInteger());
-        }
-        catch (IOException ex) {
-            throw new FilePolicyViolationException("압축 파일을 검사하는 중 오류가 발생했습니다.", ex);
-        }
-    }
-
     private void enforceExtensionRule(List<String> allowedExtensions, String extension) {
         if (allowedExtensions.isEmpty()) {
             return;
@@ -300,26 +532,6 @@ public class FileService {
         }
     }
 
-    private ScanStatus runScan(String filename, java.util.function.Supplier<InputStream> supplier) {
-        if (!securityProperties.isScanEnabled()) {
-            return ScanStatus.PENDING;
-        }
-        try (InputStream stream = supplier.get()) {
-            long timeout = securityProperties.getScanTimeoutMs();
-            if (timeout <= 0) {
-                return fileScanner.scan(filename, stream);
-            }
-            try (var executor = Executors.newSingleThreadExecutor()) {
-                Future<ScanStatus> future = executor.submit(() -> fileScanner.scan(filename, stream));
-                return future.get(timeout, TimeUnit.MILLISECONDS);
-            }
-        } catch (TimeoutException ex) {
-            return ScanStatus.FAILED;
-        } catch (Exception e) {
-            return ScanStatus.FAILED;
-        }
-    }
-
     private boolean isArchiveFile(String extension, String contentType) {
         if (isArchiveExtension(extension)) {
             return true;
@@ -354,35 +566,66 @@ public class FileService {
                 }
                 String entryExtension = extensionOf(entry.getName());
                 enforceExtensionRule(allowedExtensions, entryExtension);
+                InputStream entryStream = new BoundedEntryStream(zipInputStream, maxEntryBytes);
                 if (isArchiveExtension(entryExtension)) {
-                    byte[] nestedBytes = readEntryBytes(zipInputStream, maxEntryBytes, true);
-                    inspectArchive(new ByteArrayInputStream(nestedBytes), allowedExtensions, maxEntryBytes,
-                            depth + 1, inspectedEntries);
-                } else {
-                    readEntryBytes(zipInputStream, maxEntryBytes, false);
+                    inspectArchive(entryStream, allowedExtensions, maxEntryBytes, depth + 1, inspectedEntries);
                 }
+                entryStream.transferTo(OutputStream.nullOutputStream());
                 zipInputStream.closeEntry();
             }
         }
     }
 
-    private byte[] readEntryBytes(ZipInputStream zipInputStream,
-                                  long maxBytes,
-                                  boolean retainContent) throws IOException {
-        ByteArrayOutputStream buffer = retainContent ? new ByteArrayOutputStream() : null;
-        byte[] chunk = new byte[8192];
-        long total = 0;
-        int read;
-        while ((read = zipInputStream.read(chunk)) != -1) {
+    /**
+     * 압축 항목 하나를 크기 제한과 함께 읽는다. 중첩 압축 검사가 닫아도 바깥 ZipInputStream은 닫지 않는다.
+     */
+    private static final class BoundedEntryStream extends FilterInputStream {
+
+        private final long maxBytes;
+        private long total;
+
+        private BoundedEntryStream(InputStream entry, long maxBytes) {
+            super(entry);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = in.read();
+            if (value >= 0) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = in.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(n);
+            if (skipped > 0) {
+                count(skipped);
+            }
+            return skipped;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void count(long read) {
             total += read;
             if (total > maxBytes) {
                 throw new FilePolicyViolationException("압축 항목 크기가 정책을 초과했습니다.");
             }
-            if (retainContent) {
-                buffer.write(chunk, 0, read);
-            }
         }
-        return retainContent ? buffer.toByteArray() : null;
     }
 
     private String extensionOf(String filename) {
@@ -0,0 +1,46 @@
+package com.example.file;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 파일 목록 keyset 커서. 마지막 행의 (createdAt, id)를 URL-safe Base64 문자열로 주고받는다.
+ */
+record FileSummaryCursor(OffsetDateTime createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    static FileSummaryCursor of(FileSummaryView view) {
+        return new FileSummaryCursor(view.getCreatedAt(), view.getId());
+    }
+
+    /**
+     * @return 커서가 비어 있으면 null
+     * @throws IllegalArgumentException 형식이 맞지 않을 때
+     */
+    static FileSummaryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 목록 커서입니다.");
+            }
+            return new FileSummaryCursor(OffsetDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        }
+        catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("잘못된 목록 커서입니다.", ex);
+        }
+    }
+
+    String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.file;
 
+import java.text.Normalizer;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 import com.example.common.file.FileStatus;
 import com.example.common.jpa.PrimaryKeyEntity;
@@ -18,18 +20,39 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Version;
 
 @Entity
-@Table(name = "stored_files")
+@Table(name = "stored_files",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stored_files_active_name_key", columnNames = "active_name_key"),
+        indexes = {
+                @Index(name = "idx_stored_files_created", columnList = "created_at, id"),
+                @Index(name = "idx_stored_files_owner_created", columnList = "owner_username, created_at, id"),
+                @Index(name = "idx_stored_files_name_key", columnList = "original_name_key"),
+                @Index(name = "idx_stored_files_scan_queue", columnList = "scan_status, created_at")
+        })
 @Getter
 public class StoredFile extends PrimaryKeyEntity {
 
     @Column(name = "original_name", nullable = false, length = 255)
     private String originalName;
 
+    /** 중복 검사·이름 검색용 정규화 이름({@link #nameKey(String)}). */
+    @Column(name = "original_name_key", length = 255)
+    private String originalNameKey;
+
+    /**
+     * 삭제되지 않은 파일만 {@link #originalNameKey}와 같은 값을 갖고 삭제되면 null이 된다.
+     * null은 유니크 제약에서 제외되므로 "삭제되지 않은 파일 중 이름 유일"을 부분 인덱스 없이 DB가 보장한다.
+     */
+    @Column(name = "active_name_key", length = 255)
+    @Getter(AccessLevel.NONE)
+    private String activeNameKey;
+
     @Column(name = "content_type", length = 150)
     private String contentType;
 
@@ -55,6 +78,10 @@ public class StoredFile extends PrimaryKeyEntity {
     @Column(name = "blocked_reason", length = 500)
     private String blockedReason;
 
+    /** 재스캔 작업자가 점유한 기한. 지나면 다른 작업자가 다시 가져갈 수 있다. */
+    @Column(name = "scan_lease_until")
+    private OffsetDateTime scanLeaseUntil;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     private FileStatus status = FileStatus.ACTIVE;
@@ -100,6 +127,8 @@ public class StoredFile extends PrimaryKeyEntity {
         }
         StoredFile file = new StoredFile();
         file.originalName = originalName;
+        file.originalNameKey = nameKey(originalName);
+        file.activeNameKey = file.originalNameKey;
         file.contentType = contentType;
         file.ownerUsername = ownerUsername;
         file.retentionUntil = retentionUntil;
@@ -109,6 +138,25 @@ public class StoredFile extends PrimaryKeyEntity {
         return file;
     }
 
+    /**
+     * 파일명 비교 키. NFC로 정규화한 뒤 대소문자를 접는다.
+     */
+    public static String nameKey(String originalName) {
+        return Normalizer.normalize(originalName, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /** 정규화 이름 컬럼이 생기기 전에 저장된 행의 {@link #originalNameKey}를 채운다. */
+    void fillOriginalNameKey() {
+        this.originalNameKey = nameKey(originalName);
+    }
+
+    /** 삭제되지 않은 행의 {@link #activeNameKey}를 채운다. 같은 이름의 활성 파일이 있으면 flush 시 유니크 제약에 걸린다. */
+    void fillActiveNameKey() {
+        if (!isDeleted()) {
+            this.activeNameKey = originalNameKey;
+        }
+    }
+
     void addVersion(StoredFileVersion version) {
         versions.add(version);
         version.setFile(this);
@@ -134,12 +182,21 @@ public class StoredFile extends PrimaryKeyEntity {
         this.blockedReason = blockedReason;
     }
 
+    public void leaseScan(OffsetDateTime until) {
+        this.scanLeaseUntil = until;
+    }
+
+    public void releaseScanLease() {
+        this.scanLeaseUntil = null;
+    }
+
     public void changeRetentionUntil(OffsetDateTime retentionUntil) {
         this.retentionUntil = retentionUntil;
     }
 
     public void markDeleted(String actor, OffsetDateTime now) {
         this.status = FileStatus.DELETED;
+        this.activeNameKey = null;
         markUpdated(actor, now);
     }
 
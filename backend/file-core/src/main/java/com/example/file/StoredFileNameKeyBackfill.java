@@ -0,0 +1,99 @@
+package com.example.file;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 정규화 이름 컬럼({@code original_name_key}, {@code active_name_key})이 추가되기 전에 저장된 행을 기동 시 채운다.
+ * <p>
+ * 키는 {@link StoredFile#nameKey(String)}로 Java에서 계산한다. {@code active_name_key}는 행마다 따로 커밋하므로,
+ * 같은 이름의 활성 파일이 이미 있는 행만 비워 둔 채 나머지를 채우고 충돌한 행의 id를 로그로 남긴다.
+ * 채울 행이 없으면 인덱스 조회 두 번으로 끝난다.
+ */
+@Component
+public class StoredFileNameKeyBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(StoredFileNameKeyBackfill.class);
+
+    static final int BATCH_SIZE = 500;
+    private static final UUID FIRST = new UUID(0L, 0L);
+
+    private final StoredFileRepository storedFileRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public StoredFileNameKeyBackfill(StoredFileRepository storedFileRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.storedFileRepository = storedFileRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int named = backfillOriginalNameKeys();
+        List<UUID> conflicts = new ArrayList<>();
+        int active = backfillActiveNameKeys(conflicts);
+        if (named > 0 || active > 0) {
+            log.info("Backfilled stored file name keys: originalNameKey={}, activeNameKey={}", named, active);
+        }
+        if (!conflicts.isEmpty()) {
+            log.warn("{} active stored files share a name with another active file; activeNameKey left empty for {}. "
+                    + "Resolve the duplicates and restart to enforce uniqueness.", conflicts.size(), conflicts);
+        }
+    }
+
+    private int backfillOriginalNameKeys() {
+        int filled = 0;
+        UUID after = FIRST;
+        List<UUID> ids;
+        while (!(ids = storedFileRepository.findIdsWithoutOriginalNameKey(after, PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+            List<UUID> batch = ids;
+            Integer count = transactionTemplate.execute(status -> {
+                List<StoredFile> files = storedFileRepository.findAllById(batch);
+                files.forEach(StoredFile::fillOriginalNameKey);
+                storedFileRepository.saveAll(files);
+                return files.size();
+            });
+            filled += count != null ? count : 0;
+            after = ids.get(ids.size() - 1);
+        }
+        return filled;
+    }
+
+    private int backfillActiveNameKeys(List<UUID> conflicts) {
+        int filled = 0;
+        UUID after = FIRST;
+        List<UUID> ids;
+        while (!(ids = storedFileRepository.findIdsWithoutActiveNameKey(after, PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+            for (UUID id : ids) {
+                try {
+                    Boolean updated = transactionTemplate.execute(status -> storedFileRepository.findById(id)
+                            .map(file -> {
+                                file.fillActiveNameKey();
+                                storedFileRepository.saveAndFlush(file);
+                                return true;
+                            })
+                            .orElse(false));
+                    if (Boolean.TRUE.equals(updated)) {
+                        filled++;
+                    }
+                }
+                catch (DataIntegrityViolationException ex) {
+                    conflicts.add(id);
+                }
+            }
+            after = ids.get(ids.size() - 1);
+        }
+        return filled;
+    }
+}
@@ -1,13 +1,100 @@
 package com.example.file;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.common.file.FileStatus;
 
 public interface StoredFileRepository extends JpaRepository<StoredFile, UUID> {
 
     List<FileSummaryView> findAllByOrderByCreatedAtDesc();
 
-    List<StoredFile> findTop20ByScanStatusInOrderByCreatedAtAsc(List<ScanStatus> statuses);
+    /**
+     * 재스캔 대상(PENDING/FAILED, 삭제되지 않음, 점유 기한 지남)을 오래된 순으로 행 잠금해 가져온다.
+     * 다른 노드가 잠근 행은 건너뛰므로, 호출자의 트랜잭션 안에서 점유 기한을 기록하고 커밋해야 점유가 확정된다.
+     */
+    @Query(value = """
+            SELECT f.* FROM stored_files f
+             WHERE f.scan_status IN ('PENDING', 'FAILED')
+               AND f.status <> 'DELETED'
+               AND (f.scan_lease_until IS NULL OR f.scan_lease_until < :now)
+             ORDER BY f.created_at
+             LIMIT :limit
+             FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<StoredFile> claimScanCandidates(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    long countByScanStatusInAndStatusNot(Collection<ScanStatus> scanStatuses, FileStatus status);
+
+    @Query("""
+            select min(f.createdAt) from StoredFile f
+            where f.scanStatus in :scanStatuses and f.status <> com.example.common.file.FileStatus.DELETED
+            """)
+    OffsetDateTime findOldestCreatedAtForScan(@Param("scanStatuses") Collection<ScanStatus> scanStatuses);
+
+    /** 삭제되지 않은 파일 중 같은 정규화 이름이 있는지. {@code uk_stored_files_active_name_key} 인덱스만 본다. */
+    boolean existsByActiveNameKey(String activeNameKey);
+
+    /**
+     * 최신순 첫 페이지. 필터 인자는 null이면 적용하지 않는다. {@code namePrefix}는 이스케이프된 LIKE 패턴이다.
+     */
+    @Query("""
+            select f.id as id, f.originalName as originalName, f.contentType as contentType, f.size as size,
+                   f.ownerUsername as ownerUsername, f.status as status, f.createdAt as createdAt, f.updatedAt as updatedAt
+            from StoredFile f
+            where (:owner is null or f.ownerUsername = :owner)
+              and (:status is null or f.status = :status)
+              and (:namePrefix is null or f.originalNameKey like :namePrefix escape '\\')
+            order by f.createdAt desc, f.id desc
+            """)
+    List<FileSummaryView> findSummaries(@Param("owner") String owner,
+                                        @Param("status") FileStatus status,
+                                        @Param("namePrefix") String namePrefix,
+                                        Pageable pageable);
+
+    /**
+     * (createdAt, id) 커서 다음 페이지(keyset 페이징).
+     */
+    @Query("""
+            select f.id as id, f.originalName as originalName, f.contentType as contentType, f.size as size,
+                   f.ownerUsername as ownerUsername, f.status as status, f.createdAt as createdAt, f.updatedAt as updatedAt
+            from StoredFile f
+            where (:owner is null or f.ownerUsername = :owner)
+              and (:status is null or f.status = :status)
+              and (:namePrefix is null or f.originalNameKey like :namePrefix escape '\\')
+              and (f.createdAt < :createdAt or (f.createdAt = :createdAt and f.id < :id))
+            order by f.createdAt desc, f.id desc
+            """)
+    List<FileSummaryView> findSummariesAfter(@Param("owner") String owner,
+                                             @Param("status") FileStatus status,
+                                             @Param("namePrefix") String namePrefix,
+                                             @Param("createdAt") OffsetDateTime createdAt,
+                                             @Param("id") UUID id,
+                                             Pageable pageable);
+
+    /**
+     * 정규화 이름이 없는 행의 id를 {@code after} 다음부터 id 순으로 가져온다(기동 시 채우기용).
+     * 키는 {@link StoredFile#nameKey(String)}와 같아야 하므로 DB 함수로 계산하지 않고 Java에서 채운다.
+     */
+    @Query("select f.id from StoredFile f where f.originalNameKey is null and f.id > :after order by f.id")
+    List<UUID> findIdsWithoutOriginalNameKey(@Param("after") UUID after, Pageable pageable);
+
+    /** 활성 이름 키가 비어 있는 삭제되지 않은 행의 id를 {@code after} 다음부터 id 순으로 가져온다. */
+    @Query("""
+            select f.id from StoredFile f
+            where f.activeNameKey is null and f.originalNameKey is not null
+              and f.status <> com.example.common.file.FileStatus.DELETED
+              and f.id > :after
+            order by f.id
+            """)
+    List<UUID> findIdsWithoutActiveNameKey(@Param("after") UUID after, Pageable pageable);
 }
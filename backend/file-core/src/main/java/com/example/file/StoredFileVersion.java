@@ -7,12 +7,14 @@ import com.example.common.jpa.PrimaryKeyEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "stored_file_versions")
+@Table(name = "stored_file_versions",
+        indexes = @Index(name = "idx_stored_file_versions_storage_path", columnList = "storage_path"))
 public class StoredFileVersion extends PrimaryKeyEntity {
 
     protected StoredFileVersion() {
@@ -1,11 +1,25 @@
 package com.example.file;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StoredFileVersionRepository extends JpaRepository<StoredFileVersion, UUID> {
 
     Optional<StoredFileVersion> findFirstByFileIdOrderByVersionNumberDesc(UUID fileId);
+
+    /**
+     * 주어진 저장 경로 중 삭제되지 않은 파일의 버전이 참조하는 경로.
+     */
+    @Query("""
+            select distinct v.storagePath from StoredFileVersion v
+            where v.storagePath in :paths
+              and v.file.status <> com.example.common.file.FileStatus.DELETED
+            """)
+    List<String> findReferencedStoragePaths(@Param("paths") Collection<String> paths);
 }
@@ -20,7 +20,7 @@ public class FileSecurityProperties {
     private long maxSizeBytes = 0;
 
     /**
-     * 스캔 타임아웃(ms). 기본 10초.
+     * 스캔 타임아웃(ms). 기본 10초. 업로드 중 스캔·압축 검사 분기의 정체 한도로도 쓰이며, 0 이하이면 어느 쪽도 제한하지 않는다.
      */
     private long scanTimeoutMs = 10_000;
 
@@ -39,4 +39,19 @@ public class FileSecurityProperties {
     */
     private long rescanIntervalMs = 60_000;
 
+    /**
+     * 동시에 돌리는 재스캔 수. 스캐너가 동시에 처리할 수 있는 요청 수에 맞춘다. 기본 4.
+     */
+    private int rescanConcurrency = 4;
+
+    /**
+     * 한 번에 점유하는 최대 재스캔 건수. 대기 건수가 적으면 그만큼만 점유한다. 기본 200.
+     */
+    private int rescanMaxBatch = 200;
+
+    /**
+     * 재스캔 점유 기한(ms). 이 안에 결과를 기록하지 못했거나 결과가 다시 FAILED이면 기한이 지난 뒤 재시도한다. 기본 5분.
+     */
+    private long rescanLeaseMs = 300_000;
+
 }
@@ -0,0 +1,14 @@
+package com.example.file.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset 페이지. {@code nextCursor}가 null이면 마지막 페이지다.
+ */
+public record FileSummaryPage<T>(List<T> items, String nextCursor) {
+
+    public <R> FileSummaryPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new FileSummaryPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.file.dto;
+
+import com.example.common.file.FileStatus;
+
+/**
+ * 파일 목록 조회 조건. 필터는 null이면 적용하지 않고, {@code name}은 파일명 접두어(대소문자 무시)다.
+ * {@code cursor}는 이전 페이지의 {@code nextCursor}이며 null이면 첫 페이지다.
+ */
+public record FileSummaryQuery(String owner,
+                               FileStatus status,
+                               String name,
+                               String cursor,
+                               int size) {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    public FileSummaryQuery {
+        if (size <= 0) {
+            size = DEFAULT_SIZE;
+        }
+        size = Math.min(size, MAX_SIZE);
+    }
+
+    public static FileSummaryQuery firstPage() {
+        return new FileSummaryQuery(null, null, null, null, DEFAULT_SIZE);
+    }
+}
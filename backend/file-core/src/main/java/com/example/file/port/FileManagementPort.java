@@ -5,6 +5,8 @@ import java.util.UUID;
 
 import com.example.common.file.FileDownload;
 import com.example.common.file.dto.FileMetadataDto;
+import com.example.file.dto.FileSummaryPage;
+import com.example.file.dto.FileSummaryQuery;
 import com.example.file.dto.FileUploadCommand;
 
 public interface FileManagementPort {
@@ -13,6 +15,9 @@ public interface FileManagementPort {
 
     List<FileMetadataDto> list();
 
+    /** 조건에 맞는 파일을 최신순 keyset 페이지로 조회한다. */
+    FileSummaryPage<FileMetadataDto> list(FileSummaryQuery query);
+
     FileMetadataDto getMetadata(UUID id);
 
     default FileDownload download(UUID id, String actor) {
@@ -21,5 +26,14 @@ public interface FileManagementPort {
 
     FileDownload download(UUID id, String actor, List<String> alsoAllowedUsers);
 
+    /**
+     * 권한과 스캔 상태를 확인하고 본문을 연다. {@link #download}와 달리 열람 기록을 남기지 않으므로,
+     * 호출자가 응답 상태(200/206/304 등)를 정한 뒤 실제로 본문을 내려줄 때 {@link #recordDownload}를 호출한다.
+     */
+    FileDownload openDownload(UUID id, String actor, List<String> alsoAllowedUsers);
+
+    /** 내려준 다운로드 한 건을 기록한다(최근 열람 시각, 접근 로그, 감사). */
+    void recordDownload(UUID id, String actor);
+
     FileMetadataDto delete(UUID id, String actor);
 }
@@ -10,6 +10,8 @@ import com.example.common.file.dto.FileMetadataDto;
 import com.example.common.file.FileStatus;
 import com.example.file.FileService;
 import com.example.file.FileSummaryView;
+import com.example.file.dto.FileSummaryPage;
+import com.example.file.dto.FileSummaryQuery;
 import com.example.file.dto.FileUploadCommand;
 import com.example.file.StoredFile;
 import com.example.file.audit.FileAuditEvent;
@@ -40,6 +42,11 @@ public class FileManagementPortAdapter implements FileManagementPort {
                 .toList();
     }
 
+    @Override
+    public FileSummaryPage<FileMetadataDto> list(FileSummaryQuery query) {
+        return fileService.listSummaries(query).map(this::fromSummary);
+    }
+
     @Override
     public FileMetadataDto getMetadata(UUID id) {
         return toMetadata(fileService.getMetadata(id));
@@ -52,6 +59,16 @@ public class FileManagementPortAdapter implements FileManagementPort {
         return download;
     }
 
+    @Override
+    public FileDownload openDownload(UUID id, String actor, List<String> alsoAllowedUsers) {
+        return fileService.openDownload(id, actor, alsoAllowedUsers);
+    }
+
+    @Override
+    public void recordDownload(UUID id, String actor) {
+        fileService.recordDownload(id, actor);
+    }
+
     @Override
     public FileMetadataDto delete(UUID id, String actor) {
         FileMetadataDto metadata = toMetadata(fileService.delete(id, actor));
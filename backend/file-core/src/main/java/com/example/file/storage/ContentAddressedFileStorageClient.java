@@ -0,0 +1,289 @@
+package com.example.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 본문의 SHA-256으로 주소를 정하는 저장소. {@code file.storage.mode=content-addressed}일 때 쓴다.
+ *
+ * <p>블롭은 {@code sha256/ab/cd/<hash>}에 한 번만 저장된다. 업로드는 같은 파일시스템의 임시 파일에 쓰면서 해시를 계산한 뒤
+ * 원자적으로 이름을 바꾸고, 같은 내용이 이미 있으면 임시 파일을 버린다. 블롭은 여러 {@code StoredFileVersion}이
+ * 공유하므로 {@link #delete}는 블롭을 지우지 않으며, 참조가 없어진 블롭은 {@code ContentAddressedBlobSweeper}가 정리한다.
+ * 여러 노드가 같은 디렉터리를 공유해도 안전하도록 GC는 블롭을 임시 디렉터리로 옮긴 뒤 mtime과 참조를 다시 확인하고 지운다.
+ * 이 모드 이전에 저장된 날짜 경로 파일은 그대로 읽고 지운다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "file.storage", name = "mode", havingValue = "content-addressed")
+public class ContentAddressedFileStorageClient implements FileStorageClient {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentAddressedFileStorageClient.class);
+
+    static final String BLOB_DIR = "sha256";
+    private static final String TEMP_DIR = ".tmp";
+    private static final String GC_PREFIX = "gc-";
+    private static final Pattern BLOB_NAME = Pattern.compile("[0-9a-f]{64}");
+    private static final int LOCK_STRIPES = 64;
+
+    private final FileStorageProperties properties;
+    /**
+     * 같은 JVM 안에서 같은 해시의 중복 저장(mtime 갱신)과 GC 삭제를 줄 세우는 해시 앞자리 잠금.
+     * 다른 노드와의 경합은 잠금이 아니라 {@link #deleteIfIdleSince}의 이름 바꾸기와 재확인으로 막는다.
+     */
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public ContentAddressedFileStorageClient(FileStorageProperties properties) {
+        this.properties = properties;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public StoredObject store(InputStream inputStream, long size, String suggestedName) throws IOException {
+        Path tempDir = blobRoot().resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long written;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                written = inputStream.transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String storagePath = blobPath(hash);
+            Path target = root().resolve(storagePath);
+            Files.createDirectories(target.getParent());
+            synchronized (lockFor(hash)) {
+                if (!touch(target)) {
+                    moveIntoPlace(temp, target);
+                }
+            }
+            return new StoredObject(storagePath, written);
+        }
+        finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Resource load(String storagePath) throws IOException {
+        Path path = root().resolve(storagePath);
+        if (!Files.exists(path)) {
+            throw new IOException("파일을 찾을 수 없습니다: " + storagePath);
+        }
+        return new FileSystemResource(path);
+    }
+
+    /**
+     * 내용 주소 블롭은 다른 버전이 참조할 수 있으므로 지우지 않는다. 모드 전환 이전의 날짜 경로 파일만 바로 지운다.
+     */
+    @Override
+    public void delete(String storagePath) throws IOException {
+        if (isBlobPath(storagePath)) {
+            return;
+        }
+        Path path = root().resolve(storagePath);
+        if (Files.exists(path)) {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * 저장된 블롭의 저장 경로 목록. 임시 디렉터리는 제외한다.
+     */
+    public List<String> listBlobs() throws IOException {
+        Path blobRoot = blobRoot();
+        if (!Files.isDirectory(blobRoot)) {
+            return List.of();
+        }
+        Path root = root();
+        try (Stream<Path> files = Files.walk(blobRoot)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(path -> BLOB_NAME.matcher(path.getFileName().toString()).matches())
+                    .map(path -> root.relativize(path).toString().replace('\\', '/'))
+                    .toList();
+        }
+    }
+
+    /**
+     * 마지막 저장(또는 중복 저장) 시각이 {@code cutoff}보다 이르고 {@code referenced}가 거짓이면 블롭을 지운다.
+     * <p>
+     * 블롭을 먼저 임시 디렉터리로 옮기고 나서 mtime과 참조를 다시 본다. 다른 노드가 옮기기 전에 같은 내용을 저장했다면
+     * mtime이 새로워 제자리로 되돌리고, 옮긴 뒤에 저장했다면 그 노드가 블롭을 찾지 못해 자기 임시 파일을 제자리에 둔다.
+     * 옮긴 파일 이름에는 옮긴 시각이 붙어 다른 노드의 {@link #purgeStaleTempFiles}가 확인 도중에 지우지 않으며,
+     * 옮긴 채 중단되면 유예 기간 뒤에 정리된다.
+     *
+     * @param referenced 옮긴 뒤 저장 경로가 여전히 참조되는지 다시 확인하는 조건(커밋된 버전 행 기준)
+     * @return 지웠으면 true
+     */
+    public boolean deleteIfIdleSince(String storagePath, Instant cutoff, Predicate<String> referenced)
+            throws IOException {
+        if (!isBlobPath(storagePath)) {
+            return false;
+        }
+        Path path = root().resolve(storagePath);
+        String hash = path.getFileName().toString();
+        synchronized (lockFor(hash)) {
+            if (isRecent(path, cutoff)) {
+                return false;
+            }
+            Path tempDir = blobRoot().resolve(TEMP_DIR);
+            Files.createDirectories(tempDir);
+            Path quarantined = tempDir.resolve(GC_PREFIX + hash + "-" + Instant.now().toEpochMilli());
+            try {
+                Files.move(path, quarantined, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (NoSuchFileException | FileAlreadyExistsException ex) {
+                // 다른 노드가 먼저 지웠거나 지우는 중이다.
+                return false;
+            }
+            if (isRecent(quarantined, cutoff) || referenced.test(storagePath)) {
+                restore(quarantined, path);
+                return false;
+            }
+            Files.deleteIfExists(quarantined);
+            return true;
+        }
+    }
+
+    /**
+     * 중단된 업로드나 GC가 남긴 임시 파일 중 {@code cutoff}보다 오래된 것을 지운다. GC가 옮긴 파일은 mtime이 아니라
+     * 옮긴 시각으로 판단한다.
+     *
+     * @return 지운 파일 수
+     */
+    public int purgeStaleTempFiles(Instant cutoff) throws IOException {
+        Path tempDir = blobRoot().resolve(TEMP_DIR);
+        if (!Files.isDirectory(tempDir)) {
+            return 0;
+        }
+        int purged = 0;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            for (Path temp : (Iterable<Path>) files::iterator) {
+                if (tempFileTime(temp).isBefore(cutoff) && Files.deleteIfExists(temp)) {
+                    purged++;
+                }
+            }
+        }
+        return purged;
+    }
+
+    static String blobPath(String hash) {
+        return BLOB_DIR + "/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+    }
+
+    private static boolean isBlobPath(String storagePath) {
+        return storagePath != null && storagePath.startsWith(BLOB_DIR + "/")
+                && BLOB_NAME.matcher(storagePath.substring(storagePath.lastIndexOf('/') + 1)).matches();
+    }
+
+    /**
+     * 이미 있는 블롭의 GC 유예 기간을 다시 시작한다.
+     *
+     * @return 블롭이 없어(또는 GC가 옮겨 가) 갱신하지 못했으면 false
+     */
+    private static boolean touch(Path target) throws IOException {
+        if (!Files.exists(target)) {
+            return false;
+        }
+        try {
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            return true;
+        }
+        catch (NoSuchFileException ex) {
+            return false;
+        }
+    }
+
+    private static Instant tempFileTime(Path temp) throws IOException {
+        String name = temp.getFileName().toString();
+        if (name.startsWith(GC_PREFIX)) {
+            try {
+                return Instant.ofEpochMilli(Long.parseLong(name.substring(name.lastIndexOf('-') + 1)));
+            }
+            catch (NumberFormatException ignored) {
+                // 알 수 없는 이름은 mtime으로 판단한다.
+            }
+        }
+        return Files.getLastModifiedTime(temp).toInstant();
+    }
+
+    private static boolean isRecent(Path path, Instant cutoff) throws IOException {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isAfter(cutoff);
+        }
+        catch (NoSuchFileException ex) {
+            return true;
+        }
+    }
+
+    private static void restore(Path quarantined, Path target) throws IOException {
+        try {
+            Files.move(quarantined, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (FileAlreadyExistsException ex) {
+            // 옮긴 사이에 다른 노드가 같은 내용을 다시 저장했다.
+            Files.deleteIfExists(quarantined);
+        }
+    }
+
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException ex) {
+            log.debug("Atomic move not supported for {}, falling back to plain move", target);
+            try {
+                Files.move(temp, target);
+            }
+            catch (FileAlreadyExistsException ignored) {
+                // 다른 노드가 같은 내용을 먼저 저장했다.
+            }
+        }
+    }
+
+    private Object lockFor(String hash) {
+        return locks[Integer.parseInt(hash.substring(0, 2), 16) % LOCK_STRIPES];
+    }
+
+    private Path root() {
+        return Path.of(properties.getRootPath());
+    }
+
+    private Path blobRoot() {
+        return root().resolve(BLOB_DIR);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 algorithm missing", ex);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.file.storage;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import lombok.Getter;
@@ -16,4 +18,20 @@ public class FileStorageProperties {
      */
     private String rootPath = "build/storage/files";
 
+    /**
+     * 저장 방식. {@code local}은 업로드마다 날짜 경로에 새 파일을 쓰고,
+     * {@code content-addressed}는 SHA-256 경로에 같은 내용을 한 번만 저장한다.
+     */
+    private String mode = "local";
+
+    /**
+     * 참조가 없어진 내용 주소 블롭과 임시 파일을 지우기 전 유예 기간. 업로드 트랜잭션이 끝나기 전에 지우지 않도록 넉넉히 둔다.
+     */
+    private Duration gcGracePeriod = Duration.ofHours(1);
+
+    /**
+     * GC 한 번에 참조 여부를 조회하는 블롭 수.
+     */
+    private int gcBatchSize = 500;
+
 }
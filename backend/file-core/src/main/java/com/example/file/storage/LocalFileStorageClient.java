@@ -8,11 +8,13 @@ import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(prefix = "file.storage", name = "mode", havingValue = "local", matchIfMissing = true)
 public class LocalFileStorageClient implements FileStorageClient {
 
     private final FileStorageProperties properties;
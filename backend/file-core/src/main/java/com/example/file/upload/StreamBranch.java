@@ -0,0 +1,152 @@
+package com.example.file.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 본문을 다른 스레드의 소비자(스캐너, 압축 검사 등)에게 흘려보내는 크기 제한 파이프.
+ * <p>
+ * 생산자는 {@link TeeInputStream}이고 소비자는 {@link #input()}을 읽는다. 소비자가 스트림을 닫으면(일찍 끝난 경우 포함)
+ * 분기는 떨어져 나가고 이후 데이터는 버린다. 소비자가 {@code stallTimeoutMs} 동안 읽지 않아 버퍼가 비지 않으면
+ * 생산자를 막지 않도록 분기를 떼어 내고 {@link #isOverrun()}을 표시한다. {@code stallTimeoutMs}가 0 이하이면
+ * 떼어 내지 않고 소비자가 읽을 때까지 기다린다.
+ */
+public final class StreamBranch {
+
+    private static final byte[] END = new byte[0];
+    private static final long POLL_MS = 50;
+
+    private final BlockingQueue<byte[]> chunks;
+    private final long stallTimeoutMs;
+    private final BranchInputStream input = new BranchInputStream();
+    private volatile boolean detached;
+    private volatile boolean overrun;
+
+    public StreamBranch(int capacityChunks, long stallTimeoutMs) {
+        this.chunks = new ArrayBlockingQueue<>(capacityChunks);
+        this.stallTimeoutMs = stallTimeoutMs;
+    }
+
+    public InputStream input() {
+        return input;
+    }
+
+    /** 소비자가 버퍼를 비우지 못해 데이터 일부를 받지 못했는지. */
+    public boolean isOverrun() {
+        return overrun;
+    }
+
+    void write(byte[] buffer, int offset, int length) throws InterruptedIOException {
+        if (!detached && length > 0) {
+            put(Arrays.copyOfRange(buffer, offset, offset + length));
+        }
+    }
+
+    void complete() throws InterruptedIOException {
+        if (!detached) {
+            put(END);
+        }
+    }
+
+    /** 생산 쪽이 실패했을 때 소비자가 끝까지 기다리지 않도록 분기를 끊는다. */
+    void abort() {
+        overrun = true;
+        detach();
+    }
+
+    private void put(byte[] chunk) throws InterruptedIOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(stallTimeoutMs);
+        try {
+            while (!detached) {
+                if (chunks.offer(chunk, POLL_MS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+                if (stallTimeoutMs > 0 && System.nanoTime() - deadline > 0) {
+                    abort();
+                    return;
+                }
+            }
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            abort();
+            throw new InterruptedIOException("Interrupted while feeding upload stream branch");
+        }
+    }
+
+    private void detach() {
+        detached = true;
+        chunks.clear();
+        // 기다리는 소비자를 깨운다. 자리가 없으면 소비자는 다음 poll에서 detached를 본다.
+        chunks.offer(END);
+    }
+
+    private final class BranchInputStream extends InputStream {
+
+        private byte[] current = new byte[0];
+        private int position;
+        private boolean ended;
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return current[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return ended ? 0 : current.length - position;
+        }
+
+        @Override
+        public void close() {
+            ended = true;
+            if (!detached) {
+                detach();
+            }
+        }
+
+        private boolean fill() throws IOException {
+            while (!ended && position >= current.length) {
+                byte[] next;
+                try {
+                    next = chunks.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                }
+                catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while reading upload stream branch");
+                }
+                if (next == END) {
+                    ended = true;
+                } else if (next != null) {
+                    current = next;
+                    position = 0;
+                } else if (detached) {
+                    ended = true;
+                }
+            }
+            return !ended;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.file.upload;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 읽은 바이트를 그대로 돌려주면서 각 {@link StreamBranch}에도 복사한다.
+ * <p>
+ * 본 소비자(스토리지)가 끝까지 읽지 않더라도 {@link #finish()}가 남은 본문을 읽어 아래 스트림(다이제스트 등)과
+ * 분기에 넘기고 끝을 알린다.
+ * mark/reset은 지원하지 않으며 skip도 분기에 복사되도록 읽어서 버린다.
+ */
+public final class TeeInputStream extends FilterInputStream {
+
+    private static final int DRAIN_BUFFER_BYTES = 8192;
+
+    private final List<StreamBranch> branches;
+
+    public TeeInputStream(InputStream source, List<StreamBranch> branches) {
+        super(source);
+        this.branches = List.copyOf(branches);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = in.read();
+        if (value >= 0) {
+            copy(new byte[] {(byte) value}, 0, 1);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int count = in.read(buffer, offset, length);
+        if (count > 0) {
+            copy(buffer, offset, count);
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] discard = new byte[(int) Math.min(Math.max(n, 0), DRAIN_BUFFER_BYTES)];
+        long skipped = 0;
+        while (skipped < n) {
+            int count = read(discard, 0, (int) Math.min(discard.length, n - skipped));
+            if (count < 0) {
+                break;
+            }
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * 남은 본문을 읽어 분기에 넘긴 뒤 분기마다 끝을 알린다.
+     *
+     * @return finish에서 추가로 읽은 바이트 수
+     */
+    public long finish() throws IOException {
+        byte[] buffer = new byte[DRAIN_BUFFER_BYTES];
+        long drained = 0;
+        int count;
+        while ((count = read(buffer, 0, buffer.length)) >= 0) {
+            drained += count;
+        }
+        for (StreamBranch branch : branches) {
+            branch.complete();
+        }
+        return drained;
+    }
+
+    /** 본 소비자가 실패했을 때 분기 소비자들이 기다리지 않도록 모두 끊는다. */
+    public void abort() {
+        branches.forEach(StreamBranch::abort);
+    }
+
+    private void copy(byte[] buffer, int offset, int length) throws IOException {
+        for (StreamBranch branch : branches) {
+            branch.write(buffer, offset, length);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import com.example.file.storage.ContentAddressedFileStorageClient;
+import com.example.file.storage.FileStorageClient;
+import com.example.file.storage.FileStorageProperties;
+
+class ContentAddressedBlobSweeperTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final StoredFileVersionRepository versionRepository = Mockito.mock(StoredFileVersionRepository.class);
+    private ContentAddressedFileStorageClient storageClient;
+    private FileStorageProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FileStorageProperties();
+        properties.setRootPath(tempDir.toString());
+        properties.setGcGracePeriod(Duration.ofHours(1));
+        properties.setGcBatchSize(1);
+        storageClient = new ContentAddressedFileStorageClient(properties);
+    }
+
+    @Test
+    @DisplayName("유예 기간이 지난 미참조 블롭만 지우고 참조 중인 블롭은 남긴다")
+    void deletesOnlyUnreferencedIdleBlobs() throws Exception {
+        FileStorageClient.StoredObject kept = store("kept");
+        FileStorageClient.StoredObject orphan = store("orphan");
+        given(versionRepository.findReferencedStoragePaths(anyCollection()))
+                .willAnswer(invocation -> invocation.<java.util.Collection<String>>getArgument(0).stream()
+                        .filter(kept.storagePath()::equals)
+                        .toList());
+
+        ContentAddressedBlobSweeper.SweepResult result = sweeperAt(Instant.now().plus(Duration.ofHours(2))).sweep();
+
+        assertThat(result.scanned()).isEqualTo(2);
+        assertThat(result.referenced()).isEqualTo(1);
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(Files.exists(tempDir.resolve(kept.storagePath()))).isTrue();
+        assertThat(Files.exists(tempDir.resolve(orphan.storagePath()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("방금 저장된 블롭은 참조가 없어도 유예 기간 동안 남긴다")
+    void keepsRecentlyStoredBlobs() throws Exception {
+        FileStorageClient.StoredObject fresh = store("fresh");
+        given(versionRepository.findReferencedStoragePaths(anyCollection())).willReturn(List.of());
+
+        ContentAddressedBlobSweeper.SweepResult result = sweeperAt(Instant.now()).sweep();
+
+        assertThat(result.deleted()).isZero();
+        assertThat(Files.exists(tempDir.resolve(fresh.storagePath()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("배치 조회 뒤 다른 노드에서 참조가 커밋되면 지우기 직전 재조회에서 걸러 남긴다")
+    void rechecksReferenceBeforeDelete() throws Exception {
+        FileStorageClient.StoredObject late = store("late");
+        given(versionRepository.findReferencedStoragePaths(anyCollection()))
+                .willReturn(List.of())
+                .willReturn(List.of(late.storagePath()));
+
+        ContentAddressedBlobSweeper.SweepResult result = sweeperAt(Instant.now().plus(Duration.ofHours(2))).sweep();
+
+        assertThat(result.deleted()).isZero();
+        assertThat(Files.exists(tempDir.resolve(late.storagePath()))).isTrue();
+    }
+
+    private ContentAddressedBlobSweeper sweeperAt(Instant now) {
+        return new ContentAddressedBlobSweeper(storageClient, versionRepository, properties,
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private FileStorageClient.StoredObject store(String content) throws Exception {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        return storageClient.store(new ByteArrayInputStream(bytes), bytes.length, content + ".txt");
+    }
+}
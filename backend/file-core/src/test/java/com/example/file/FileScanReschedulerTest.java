@@ -2,33 +2,48 @@ package com.example.file;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mock;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.example.file.FileScanWorkQueue.Backlog;
+import com.example.file.FileScanWorkQueue.ScanWorkItem;
 import com.example.file.config.FileSecurityProperties;
 import com.example.common.policy.PolicySettingsProvider;
 import org.springframework.beans.factory.ObjectProvider;
 import com.example.file.storage.FileStorageClient;
 import com.example.file.port.FileScanner;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class FileScanReschedulerTest {
 
     @Mock
-    StoredFileRepository storedFileRepository;
-
-    @Mock
-    StoredFileVersionRepository versionRepository;
+    FileScanWorkQueue workQueue;
 
     @Mock
     FileStorageClient storageClient;
@@ -36,74 +51,206 @@ class FileScanReschedulerTest {
     @Mock
     FileScanner fileScanner;
 
-    @Mock
-    StoredFileVersion version;
-
     @Mock
     org.springframework.core.io.Resource resource;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FileScanRescheduler rescheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (rescheduler != null) {
+            rescheduler.destroy();
+        }
+    }
+
     @Test
-    @DisplayName("재스캔이 비활성화되면 어떤 저장소도 호출하지 않는다")
+    @DisplayName("재스캔이 비활성화되면 대기열을 조회하지 않는다")
     void skipWhenRescanDisabled() {
         FileSecurityProperties properties = new FileSecurityProperties();
         properties.setRescanEnabled(false);
-        FileScanRescheduler rescheduler = new FileScanRescheduler(
-                storedFileRepository, versionRepository, fileScanner, storageClient, properties, nullProvider(), false);
+        rescheduler = newRescheduler(properties, nullProvider(), false);
 
         rescheduler.rescanPending();
 
-        verify(storedFileRepository, never()).findTop20ByScanStatusInOrderByCreatedAtAsc(List.of(ScanStatus.PENDING, ScanStatus.FAILED));
+        verify(workQueue, never()).backlog();
         assertThat(properties.isRescanEnabled()).isFalse();
     }
 
     @Test
-    @DisplayName("재스캔이 활성화되면 PENDING 파일을 스캔하고 상태를 갱신한다")
-    void rescanHappyPathUpdatesStatus() throws Exception {
+    @DisplayName("재스캔이 활성화되면 점유한 파일을 스캔하고 결과를 건마다 기록한다")
+    void rescanHappyPathRecordsResult() throws Exception {
         FileSecurityProperties properties = new FileSecurityProperties();
         properties.setRescanEnabled(true);
-        FileScanRescheduler rescheduler = new FileScanRescheduler(
-                storedFileRepository, versionRepository, fileScanner, storageClient, properties, nullProvider(), false);
-
-        StoredFile file = StoredFile.create("doc.txt", null, "owner", null, "owner", java.time.OffsetDateTime.now());
-        file.markScanResult(ScanStatus.PENDING, java.time.OffsetDateTime.now(), "old");
-        when(storedFileRepository.findTop20ByScanStatusInOrderByCreatedAtAsc(List.of(ScanStatus.PENDING, ScanStatus.FAILED)))
-                .thenReturn(List.of(file));
-        when(versionRepository.findFirstByFileIdOrderByVersionNumberDesc(any()))
-                .thenReturn(java.util.Optional.of(version));
-        when(storageClient.load(any())).thenReturn(resource);
-        when(resource.getInputStream()).thenReturn(new java.io.ByteArrayInputStream("data".getBytes()));
+        rescheduler = newRescheduler(properties, nullProvider(), false);
+        ScanWorkItem item = new ScanWorkItem(UUID.randomUUID(), "doc.txt", "path/doc.txt");
+        when(workQueue.backlog()).thenReturn(new Backlog(1, OffsetDateTime.now().minusMinutes(5)));
+        when(workQueue.claim(eq(1), any(), any())).thenReturn(List.of(item));
+        when(storageClient.load("path/doc.txt")).thenReturn(resource);
+        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream("data".getBytes()));
         when(fileScanner.scan(any(), any())).thenReturn(ScanStatus.CLEAN);
+        when(workQueue.record(eq(item.fileId()), eq(ScanStatus.CLEAN), isNull(), any())).thenReturn(true);
 
         rescheduler.rescanPending();
 
-        assertThat(file.getScanStatus()).isEqualTo(ScanStatus.CLEAN);
-        assertThat(file.getBlockedReason()).isNull();
-        verify(storedFileRepository).saveAll(List.of(file));
+        verify(workQueue).record(eq(item.fileId()), eq(ScanStatus.CLEAN), isNull(), any());
+        assertThat(meterRegistry.get("file_rescan_results_total").tag("result", "CLEAN").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("file_rescan_scan_ms").tag("result", "CLEAN").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("file_rescan_backlog").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("file_rescan_oldest_age_seconds").gauge().value()).isGreaterThanOrEqualTo(300);
     }
 
     @Test
-    @DisplayName("재스캔 결과가 BLOCKED이면 blockedReason을 설정한다")
-    void rescanBlockedSetsReason() throws Exception {
+    @DisplayName("재스캔 결과가 BLOCKED이면 사유와 함께 기록한다")
+    void rescanBlockedRecordsReason() throws Exception {
         FileSecurityProperties properties = new FileSecurityProperties();
         properties.setRescanEnabled(true);
-        FileScanRescheduler rescheduler = new FileScanRescheduler(
-                storedFileRepository, versionRepository, fileScanner, storageClient, properties, nullProvider(), false);
+        rescheduler = newRescheduler(properties, nullProvider(), false);
+        ScanWorkItem item = new ScanWorkItem(UUID.randomUUID(), "doc.txt", "path/doc.txt");
+        when(workQueue.backlog()).thenReturn(new Backlog(1, OffsetDateTime.now()));
+        when(workQueue.claim(anyInt(), any(), any())).thenReturn(List.of(item));
+        when(storageClient.load(any())).thenReturn(resource);
+        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream("data".getBytes()));
+        when(fileScanner.scan(any(), any())).thenReturn(ScanStatus.BLOCKED);
+
+        rescheduler.rescanPending();
+
+        verify(workQueue).record(eq(item.fileId()), eq(ScanStatus.BLOCKED), startsWith("Rescan result"), any());
+    }
+
+    @Test
+    @DisplayName("저장소를 읽지 못하면 FAILED로 기록한다")
+    void rescanIoErrorRecordsFailed() throws Exception {
+        FileSecurityProperties properties = new FileSecurityProperties();
+        rescheduler = newRescheduler(properties, nullProvider(), false);
+        ScanWorkItem item = new ScanWorkItem(UUID.randomUUID(), "doc.txt", "missing");
+        when(workQueue.backlog()).thenReturn(new Backlog(1, OffsetDateTime.now()));
+        when(workQueue.claim(anyInt(), any(), any())).thenReturn(List.of(item));
+        when(storageClient.load("missing")).thenThrow(new IOException("gone"));
 
-        StoredFile file = StoredFile.create("doc.txt", null, "owner", null, "owner", java.time.OffsetDateTime.now());
-        file.markScanResult(ScanStatus.PENDING, java.time.OffsetDateTime.now(), null);
+        rescheduler.rescanPending();
+
+        verify(workQueue).record(eq(item.fileId()), eq(ScanStatus.FAILED), startsWith("Rescan IO error"), any());
+    }
 
-        when(storedFileRepository.findTop20ByScanStatusInOrderByCreatedAtAsc(List.of(ScanStatus.PENDING, ScanStatus.FAILED)))
-                .thenReturn(List.of(file));
-        when(versionRepository.findFirstByFileIdOrderByVersionNumberDesc(any()))
-                .thenReturn(java.util.Optional.of(version));
+    @Test
+    @DisplayName("점유한 묶음은 rescan-concurrency 크기의 풀에서 병렬로 스캔한다")
+    void scansBatchInParallel() throws Exception {
+        FileSecurityProperties properties = new FileSecurityProperties();
+        properties.setRescanConcurrency(3);
+        rescheduler = newRescheduler(properties, nullProvider(), false);
+        List<ScanWorkItem> items = List.of(
+                new ScanWorkItem(UUID.randomUUID(), "a.txt", "a"),
+                new ScanWorkItem(UUID.randomUUID(), "b.txt", "b"),
+                new ScanWorkItem(UUID.randomUUID(), "c.txt", "c"));
+        when(workQueue.backlog()).thenReturn(new Backlog(3, OffsetDateTime.now()));
+        when(workQueue.claim(eq(3), any(), any())).thenReturn(items);
         when(storageClient.load(any())).thenReturn(resource);
-        when(resource.getInputStream()).thenReturn(new java.io.ByteArrayInputStream("data".getBytes()));
-        when(fileScanner.scan(any(), any())).thenReturn(ScanStatus.BLOCKED);
+        when(resource.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream("data".getBytes()));
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        when(fileScanner.scan(any(), any())).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            allStarted.countDown();
+            return allStarted.await(2, TimeUnit.SECONDS) ? ScanStatus.CLEAN : ScanStatus.FAILED;
+        });
+
+        rescheduler.rescanPending();
+
+        assertThat(threads).hasSize(3);
+        items.forEach(item -> verify(workQueue).record(eq(item.fileId()), eq(ScanStatus.CLEAN), isNull(), any()));
+    }
+
+    @Test
+    @DisplayName("묶음 크기는 대기 건수를 따르되 rescan-max-batch를 넘지 않는다")
+    void batchSizeFollowsBacklog() {
+        FileSecurityProperties properties = new FileSecurityProperties();
+        properties.setRescanMaxBatch(50);
+        rescheduler = newRescheduler(properties, nullProvider(), false);
+
+        assertThat(rescheduler.batchSize(7)).isEqualTo(7);
+        assertThat(rescheduler.batchSize(5_000)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("묶음 크기는 모든 스캔이 타임아웃까지 걸려도 점유 기한 안에 끝나는 건수로 제한한다")
+    void batchSizeFitsWithinLease() {
+        FileSecurityProperties properties = new FileSecurityProperties();
+        properties.setRescanMaxBatch(200);
+        properties.setRescanConcurrency(4);
+        properties.setScanTimeoutMs(10_000);
+        properties.setRescanLeaseMs(300_000);
+        rescheduler = newRescheduler(properties, nullProvider(), false);
+
+        // (300s - 10s) / 10s = 29차례 × 4 = 116건, 최악 290초
+        assertThat(rescheduler.batchSize(5_000)).isEqualTo(116);
+
+        properties.setRescanLeaseMs(5_000);
+        assertThat(rescheduler.batchSize(5_000)).isEqualTo(4);
+
+        properties.setScanTimeoutMs(0);
+        assertThat(rescheduler.batchSize(5_000)).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("취소를 무시하고 풀 스레드를 붙잡은 스캔이 있으면 그만큼 점유하지 않는다")
+    void stopsClaimingWhileWorkersAreStuck() throws Exception {
+        FileSecurityProperties properties = new FileSecurityProperties();
+        properties.setRescanConcurrency(1);
+        properties.setScanTimeoutMs(50);
+        properties.setRescanLeaseMs(60_000);
+        rescheduler = newRescheduler(properties, nullProvider(), false);
+        ScanWorkItem item = new ScanWorkItem(UUID.randomUUID(), "a.txt", "a");
+        when(workQueue.backlog()).thenReturn(new Backlog(1, OffsetDateTime.now()));
+        when(workQueue.claim(eq(1), any(), any())).thenReturn(List.of(item));
+        when(storageClient.load(any())).thenReturn(resource);
+        when(resource.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream("data".getBytes()));
+        CountDownLatch release = new CountDownLatch(1);
+        when(fileScanner.scan(any(), any())).thenAnswer(invocation -> {
+            while (true) {
+                try {
+                    release.await();
+                    return ScanStatus.CLEAN;
+                } catch (InterruptedException ignored) {
+                    // 취소 인터럽트를 무시하는 스캐너
+                }
+            }
+        });
+
+        rescheduler.rescanPending();
+
+        verify(workQueue, times(1)).claim(anyInt(), any(), any());
+        assertThat(rescheduler.idleWorkers()).isZero();
+        assertThat(meterRegistry.get("file_rescan_busy_workers").gauge().value()).isEqualTo(1.0);
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (rescheduler.idleWorkers() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(rescheduler.idleWorkers()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가득 찬 묶음을 처리하면 대기열이 빌 때까지 다음 묶음을 이어서 점유한다")
+    void keepsDrainingWhileBatchesAreFull() throws Exception {
+        FileSecurityProperties properties = new FileSecurityProperties();
+        properties.setRescanMaxBatch(1);
+        rescheduler = newRescheduler(properties, nullProvider(), false);
+        ScanWorkItem first = new ScanWorkItem(UUID.randomUUID(), "a.txt", "a");
+        ScanWorkItem second = new ScanWorkItem(UUID.randomUUID(), "b.txt", "b");
+        when(workQueue.backlog()).thenReturn(
+                new Backlog(2, OffsetDateTime.now()), new Backlog(1, OffsetDateTime.now()), new Backlog(0, null));
+        when(workQueue.claim(eq(1), any(), any())).thenReturn(List.of(first), List.of(second));
+        when(storageClient.load(any())).thenReturn(resource);
+        when(resource.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream("data".getBytes()));
+        when(fileScanner.scan(any(), any())).thenReturn(ScanStatus.CLEAN);
 
         rescheduler.rescanPending();
 
-        assertThat(file.getScanStatus()).isEqualTo(ScanStatus.BLOCKED);
-        assertThat(file.getBlockedReason()).contains("Rescan result");
+        verify(workQueue).record(eq(first.fileId()), eq(ScanStatus.CLEAN), isNull(), any());
+        verify(workQueue).record(eq(second.fileId()), eq(ScanStatus.CLEAN), isNull(), any());
+        assertThat(meterRegistry.get("file_rescan_backlog").gauge().value()).isZero();
     }
 
     @Test
@@ -111,20 +258,18 @@ class FileScanReschedulerTest {
     void skipWhenCentralSchedulerEnabled() {
         FileSecurityProperties properties = new FileSecurityProperties();
         properties.setRescanEnabled(true);
-        FileScanRescheduler rescheduler = new FileScanRescheduler(
-                storedFileRepository, versionRepository, fileScanner, storageClient, properties, nullProvider(), true);
+        rescheduler = newRescheduler(properties, nullProvider(), true);
 
         rescheduler.rescanPending();
 
-        verify(storedFileRepository, never()).findTop20ByScanStatusInOrderByCreatedAtAsc(any());
+        verify(workQueue, never()).claim(anyInt(), any(), any());
     }
 
     @Test
     @DisplayName("trigger 디스크립터를 생성한다")
     void triggerNotNull() {
         FileSecurityProperties properties = new FileSecurityProperties();
-        FileScanRescheduler rescheduler = new FileScanRescheduler(
-                storedFileRepository, versionRepository, fileScanner, storageClient, properties, nullProvider(), false);
+        rescheduler = newRescheduler(properties, nullProvider(), false);
 
         assertThat(rescheduler.trigger()).isNotNull();
     }
@@ -145,12 +290,18 @@ class FileScanReschedulerTest {
         when(policy.batchJobSchedule(com.example.common.schedule.BatchJobCode.FILE_SECURITY_RESCAN))
                 .thenReturn(new com.example.common.schedule.BatchJobSchedule(true, com.example.common.schedule.TriggerType.FIXED_DELAY, null, 1234, 0, null));
 
-        FileScanRescheduler rescheduler = new FileScanRescheduler(
-                storedFileRepository, versionRepository, fileScanner, storageClient, properties, provider, false);
+        rescheduler = newRescheduler(properties, provider, false);
 
         assertThat(rescheduler.trigger().toString()).contains("1234");
     }
 
+    private FileScanRescheduler newRescheduler(FileSecurityProperties properties,
+                                               ObjectProvider<PolicySettingsProvider> provider,
+                                               boolean centralSchedulerEnabled) {
+        return new FileScanRescheduler(workQueue, fileScanner, storageClient, properties, provider,
+                centralSchedulerEnabled, meterRegistry);
+    }
+
     private ObjectProvider<PolicySettingsProvider> nullProvider() {
         return new ObjectProvider<>() {
             @Override public PolicySettingsProvider getObject(Object... args) { return null; }
@@ -0,0 +1,113 @@
+package com.example.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.common.file.FileStatus;
+import com.example.file.FileScanWorkQueue.ScanWorkItem;
+
+@ExtendWith(MockitoExtension.class)
+class FileScanWorkQueueTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    StoredFileRepository storedFileRepository;
+
+    @Mock
+    StoredFileVersionRepository versionRepository;
+
+    @InjectMocks
+    FileScanWorkQueue workQueue;
+
+    @Test
+    @DisplayName("점유한 파일에 점유 기한을 기록하고 최신 버전 경로를 돌려준다")
+    void claimLeasesFilesAndResolvesStoragePath() {
+        StoredFile file = pendingFile();
+        StoredFileVersion version = StoredFileVersion.createVersion(1, "path/doc.txt", "hash", "owner", NOW);
+        given(storedFileRepository.claimScanCandidates(NOW, 10)).willReturn(List.of(file));
+        given(versionRepository.findFirstByFileIdOrderByVersionNumberDesc(file.getId())).willReturn(Optional.of(version));
+
+        List<ScanWorkItem> items = workQueue.claim(10, NOW, Duration.ofMinutes(5));
+
+        assertThat(items).containsExactly(new ScanWorkItem(file.getId(), "doc.txt", "path/doc.txt"));
+        assertThat(file.getScanLeaseUntil()).isEqualTo(NOW.plusMinutes(5));
+        verify(storedFileRepository).saveAll(List.of(file));
+    }
+
+    @Test
+    @DisplayName("스캔이 끝나면 결과를 기록하고 점유를 푼다")
+    void recordReleasesLeaseWhenScanCompletes() {
+        StoredFile file = pendingFile();
+        file.leaseScan(NOW.plusMinutes(5));
+        UUID id = UUID.randomUUID();
+        given(storedFileRepository.findById(id)).willReturn(Optional.of(file));
+
+        boolean recorded = workQueue.record(id, ScanStatus.CLEAN, null, NOW);
+
+        assertThat(recorded).isTrue();
+        assertThat(file.getScanStatus()).isEqualTo(ScanStatus.CLEAN);
+        assertThat(file.getScanLeaseUntil()).isNull();
+        verify(storedFileRepository).save(file);
+    }
+
+    @Test
+    @DisplayName("결과가 다시 FAILED이면 점유 기한까지 재시도하지 않도록 점유를 유지한다")
+    void recordKeepsLeaseWhenScanFailsAgain() {
+        StoredFile file = pendingFile();
+        file.leaseScan(NOW.plusMinutes(5));
+        UUID id = UUID.randomUUID();
+        given(storedFileRepository.findById(id)).willReturn(Optional.of(file));
+
+        workQueue.record(id, ScanStatus.FAILED, "Rescan result: FAILED", NOW);
+
+        assertThat(file.getScanStatus()).isEqualTo(ScanStatus.FAILED);
+        assertThat(file.getScanLeaseUntil()).isEqualTo(NOW.plusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("그 사이 삭제된 파일에는 결과를 기록하지 않는다")
+    void recordSkipsDeletedFile() {
+        StoredFile file = pendingFile();
+        file.markDeleted("owner", NOW);
+        UUID id = UUID.randomUUID();
+        given(storedFileRepository.findById(id)).willReturn(Optional.of(file));
+
+        boolean recorded = workQueue.record(id, ScanStatus.CLEAN, null, NOW);
+
+        assertThat(recorded).isFalse();
+        assertThat(file.getScanStatus()).isEqualTo(ScanStatus.PENDING);
+        verify(storedFileRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("대기열 상태는 삭제되지 않은 PENDING/FAILED 건수와 가장 오래된 생성 시각이다")
+    void backlogCountsRescanTargets() {
+        given(storedFileRepository.countByScanStatusInAndStatusNot(FileScanWorkQueue.RESCAN_STATUSES, FileStatus.DELETED))
+                .willReturn(42L);
+        given(storedFileRepository.findOldestCreatedAtForScan(FileScanWorkQueue.RESCAN_STATUSES)).willReturn(NOW);
+
+        assertThat(workQueue.backlog()).isEqualTo(new FileScanWorkQueue.Backlog(42, NOW));
+    }
+
+    private StoredFile pendingFile() {
+        return StoredFile.create("doc.txt", "text/plain", "owner", null, "owner", NOW);
+    }
+}
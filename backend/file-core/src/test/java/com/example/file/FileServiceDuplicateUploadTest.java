@@ -15,7 +15,6 @@ import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import com.example.common.file.FileStatus;
 import com.example.common.policy.PolicySettingsProvider;
 import com.example.common.policy.PolicyToggleSettings;
 import com.example.file.audit.FileAuditPublisher;
@@ -46,13 +45,10 @@ class FileServiceDuplicateUploadTest {
     @Test
     @DisplayName("동일 이름의 활성 파일이 존재하면 업로드를 거부한다")
     void rejectDuplicateActiveFile() {
-        FileSummaryView summary = mock(FileSummaryView.class);
-        given(summary.getOriginalName()).willReturn("dup.txt");
-        given(summary.getStatus()).willReturn(FileStatus.ACTIVE);
-        given(storedFileRepository.findAllByOrderByCreatedAtDesc()).willReturn(List.of(summary));
+        given(storedFileRepository.existsByActiveNameKey("dup.txt")).willReturn(true);
 
         FileUploadCommand command = new FileUploadCommand(
-                "dup.txt",
+                "DUP.txt",
                 "text/plain",
                 4,
                 () -> new ByteArrayInputStream("data".getBytes()),
@@ -1,6 +1,10 @@
 package com.example.file;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -10,14 +14,20 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.data.domain.Pageable;
+
+import com.example.common.file.FileStatus;
 import com.example.common.policy.PolicySettingsProvider;
 import com.example.common.policy.PolicyToggleSettings;
 import com.example.file.audit.FileAuditPublisher;
 import com.example.file.config.FileSecurityProperties;
+import com.example.file.dto.FileSummaryPage;
+import com.example.file.dto.FileSummaryQuery;
 import com.example.file.port.FileScanner;
 import com.example.file.storage.FileStorageClient;
 
@@ -51,4 +61,58 @@ class FileServiceListSummariesTest {
         assertThat(result).containsExactly(view);
         verify(storedFileRepository).findAllByOrderByCreatedAtDesc();
     }
+
+    @Test
+    @DisplayName("한 건을 더 읽어 다음 페이지가 있으면 마지막 항목의 커서를 돌려주고, 커서로 다음 페이지를 조회한다")
+    void listSummariesPagesWithKeysetCursor() {
+        OffsetDateTime createdAt = OffsetDateTime.of(2024, 2, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        FileSummaryView first = summary(UUID.randomUUID(), createdAt);
+        FileSummaryView second = summary(UUID.randomUUID(), createdAt);
+        FileSummaryView third = summary(UUID.randomUUID(), createdAt.minusMinutes(1));
+        given(storedFileRepository.findSummaries(eq("user"), eq(FileStatus.ACTIVE), isNull(), any(Pageable.class)))
+                .willReturn(List.of(first, second, third));
+
+        FileSummaryPage<FileSummaryView> page = service().listSummaries(
+                new FileSummaryQuery("user", FileStatus.ACTIVE, null, null, 2));
+
+        assertThat(page.items()).containsExactly(first, second);
+        assertThat(page.nextCursor()).isNotNull();
+
+        given(storedFileRepository.findSummariesAfter(eq("user"), eq(FileStatus.ACTIVE), isNull(),
+                eq(createdAt), eq(second.getId()), any(Pageable.class)))
+                .willReturn(List.of(third));
+
+        FileSummaryPage<FileSummaryView> next = service().listSummaries(
+                new FileSummaryQuery("user", FileStatus.ACTIVE, null, page.nextCursor(), 2));
+
+        assertThat(next.items()).containsExactly(third);
+        assertThat(next.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("이름 필터는 정규화한 접두어 LIKE 패턴으로 바꾸고 와일드카드 문자는 이스케이프한다")
+    void listSummariesEscapesNamePrefix() {
+        given(storedFileRepository.findSummaries(isNull(), isNull(), eq("re\\_port\\%%"), any(Pageable.class)))
+                .willReturn(List.of());
+
+        FileSummaryPage<FileSummaryView> page = service().listSummaries(
+                new FileSummaryQuery(null, null, " Re_Port% ", null, 0));
+
+        assertThat(page.items()).isEmpty();
+        verify(storedFileRepository).findSummaries(isNull(), isNull(), eq("re\\_port\\%%"), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException으로 거부한다")
+    void listSummariesRejectsMalformedCursor() {
+        assertThatThrownBy(() -> service().listSummaries(new FileSummaryQuery(null, null, null, "not-a-cursor", 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private FileSummaryView summary(UUID id, OffsetDateTime createdAt) {
+        FileSummaryView view = mock(FileSummaryView.class);
+        given(view.getId()).willReturn(id);
+        given(view.getCreatedAt()).willReturn(createdAt);
+        return view;
+    }
 }
@@ -0,0 +1,142 @@
+package com.example.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.common.policy.PolicySettingsProvider;
+import com.example.common.policy.PolicyToggleSettings;
+import com.example.file.audit.FileAuditPublisher;
+import com.example.file.config.FileSecurityProperties;
+import com.example.file.dto.FileUploadCommand;
+import com.example.file.port.FileScanner;
+import com.example.file.storage.FileStorageClient;
+
+class FileServiceSinglePassUploadTest {
+
+    private final StoredFileRepository storedFileRepository = mock(StoredFileRepository.class);
+    private final StoredFileVersionRepository versionRepository = mock(StoredFileVersionRepository.class);
+    private final FileAccessLogRepository accessLogRepository = mock(FileAccessLogRepository.class);
+    private final FileStorageClient storageClient = mock(FileStorageClient.class);
+    private final PolicySettingsProvider policySettingsProvider = mock(PolicySettingsProvider.class);
+    private final FileAuditPublisher auditPublisher = mock(FileAuditPublisher.class);
+    private final Clock fixedClock = Clock.fixed(Instant.parse("2024-02-01T00:00:00Z"), ZoneOffset.UTC);
+    private final AtomicReference<byte[]> scanned = new AtomicReference<>();
+    private final FileScanner fileScanner = (filename, inputStream) -> {
+        try {
+            scanned.set(inputStream.readAllBytes());
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return ScanStatus.CLEAN;
+    };
+    private FileService service;
+
+    @BeforeEach
+    void setUp() {
+        given(policySettingsProvider.currentSettings()).willReturn(
+                new PolicyToggleSettings(false, false, false, List.of(), 1_000_000, List.of("zip", "txt"), true, 30));
+        given(storedFileRepository.save(any(StoredFile.class))).willAnswer(invocation -> invocation.getArgument(0));
+        service = new FileService(storedFileRepository, versionRepository, accessLogRepository, storageClient,
+                policySettingsProvider, fileScanner, auditPublisher, new FileSecurityProperties(), fixedClock);
+    }
+
+    @Test
+    @DisplayName("본문은 한 번만 열고, 저장·체크섬·MIME·압축 검사·스캔이 같은 바이트를 본다")
+    void readsBodyOnceForAllStages() throws Exception {
+        byte[] archive = zip(Map.of("doc.txt", "content".getBytes()));
+        AtomicInteger opened = new AtomicInteger();
+        ByteArrayOutputStream stored = new ByteArrayOutputStream();
+        given(storageClient.store(any(), anyLong(), anyString())).willAnswer(invocation -> {
+            InputStream body = invocation.getArgument(0);
+            body.transferTo(stored);
+            return new FileStorageClient.StoredObject("path/bundle.zip", stored.size());
+        });
+
+        StoredFile file = service.upload(command(archive, opened));
+
+        assertThat(opened).hasValue(1);
+        assertThat(stored.toByteArray()).isEqualTo(archive);
+        assertThat(scanned.get()).isEqualTo(archive);
+        assertThat(file.getChecksum()).isEqualTo(sha256(archive));
+        assertThat(file.getScanStatus()).isEqualTo(ScanStatus.CLEAN);
+    }
+
+    @Test
+    @DisplayName("스토리지가 본문을 끝까지 읽지 않아도 체크섬과 스캔은 전체 본문 기준이다")
+    void drainsRemainderWhenStorageStopsEarly() throws Exception {
+        byte[] archive = zip(Map.of("doc.txt", "content".repeat(1000).getBytes()));
+        given(storageClient.store(any(), anyLong(), anyString()))
+                .willReturn(new FileStorageClient.StoredObject("path/bundle.zip", archive.length));
+
+        StoredFile file = service.upload(command(archive, new AtomicInteger()));
+
+        assertThat(scanned.get()).isEqualTo(archive);
+        assertThat(file.getChecksum()).isEqualTo(sha256(archive));
+    }
+
+    @Test
+    @DisplayName("중첩 압축 안의 금지 항목은 스트리밍 검사로 거부하고 저장한 객체를 지운다")
+    void rejectsNestedArchiveAndDeletesStoredObject() throws Exception {
+        byte[] archive = zip(Map.of("nested.zip", zip(Map.of("evil.exe", "bad".getBytes()))));
+        given(storageClient.store(any(), anyLong(), anyString())).willAnswer(invocation -> {
+            InputStream body = invocation.getArgument(0);
+            body.readAllBytes();
+            return new FileStorageClient.StoredObject("path/bundle.zip", archive.length);
+        });
+
+        assertThatThrownBy(() -> service.upload(command(archive, new AtomicInteger())))
+                .isInstanceOf(FilePolicyViolationException.class)
+                .hasMessageContaining("확장자");
+        verify(storageClient).delete("path/bundle.zip");
+    }
+
+    private FileUploadCommand command(byte[] body, AtomicInteger opened) {
+        return new FileUploadCommand("bundle.zip", "application/zip", body.length, () -> {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(body);
+        }, null, "user");
+    }
+
+    private static String sha256(byte[] body) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+    }
+
+    private static byte[] zip(Map<String, byte[]> entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
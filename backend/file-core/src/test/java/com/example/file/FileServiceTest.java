@@ -33,6 +33,8 @@ import com.example.common.policy.PolicyToggleSettings;
 import com.example.file.port.FileScanner;
 import com.example.file.storage.FileStorageClient;
 import com.example.file.config.FileSecurityProperties;
+import com.example.file.dto.FileSummaryPage;
+import com.example.file.dto.FileSummaryQuery;
 import com.example.file.dto.FileUploadCommand;
 
 @org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
@@ -148,6 +150,47 @@ class FileServiceTest {
                 .isInstanceOf(FilePolicyViolationException.class);
     }
 
+    @Test
+    @DisplayName("Given 대소문자만 다른 활성 파일 When 업로드하면 Then 중복으로 거부하고, 삭제 후에는 허용한다")
+    void givenCaseInsensitiveDuplicate_whenUpload_thenRejectedUntilDeleted() {
+        byte[] data = "dup".getBytes();
+        StoredFile original = fileService.upload(new FileUploadCommand(
+                "Report.txt", "text/plain", data.length, () -> new ByteArrayInputStream(data), null, "tester"));
+
+        assertThatThrownBy(() -> fileService.upload(new FileUploadCommand(
+                "REPORT.TXT", "text/plain", data.length, () -> new ByteArrayInputStream(data), null, "tester")))
+                .isInstanceOf(FilePolicyViolationException.class)
+                .hasMessageContaining("덮어쓸 수 없습니다");
+
+        fileService.delete(original.getId(), "tester");
+        StoredFile reuploaded = fileService.upload(new FileUploadCommand(
+                "report.txt", "text/plain", data.length, () -> new ByteArrayInputStream(data), null, "tester"));
+        assertThat(reuploaded.getId()).isNotEqualTo(original.getId());
+    }
+
+    @Test
+    @DisplayName("Given 여러 파일 When 커서로 목록을 넘기면 Then 중복·누락 없이 이름 필터가 적용된 페이지를 돌려준다")
+    void givenFiles_whenPagingWithCursor_thenKeysetPagesCoverAll() {
+        byte[] data = "page".getBytes();
+        for (String name : List.of("page-a.txt", "page-b.txt", "page-c.txt", "other.txt")) {
+            fileService.upload(new FileUploadCommand(
+                    name, "text/plain", data.length, () -> new ByteArrayInputStream(data), null, "tester"));
+        }
+
+        FileSummaryPage<FileSummaryView> first = fileService.listSummaries(
+                new FileSummaryQuery("tester", null, "PAGE-", null, 2));
+        FileSummaryPage<FileSummaryView> second = fileService.listSummaries(
+                new FileSummaryQuery("tester", null, "PAGE-", first.nextCursor(), 2));
+
+        assertThat(first.items()).hasSize(2);
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(second.items()).hasSize(1);
+        assertThat(second.nextCursor()).isNull();
+        assertThat(java.util.stream.Stream.concat(first.items().stream(), second.items().stream())
+                .map(FileSummaryView::getOriginalName))
+                .containsExactlyInAnyOrder("page-a.txt", "page-b.txt", "page-c.txt");
+    }
+
     static class TestConfig {
 
         static final OffsetDateTime NOW = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
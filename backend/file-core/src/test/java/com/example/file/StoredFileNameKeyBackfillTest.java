@@ -0,0 +1,71 @@
+package com.example.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Import(StoredFileNameKeyBackfill.class)
+@ContextConfiguration(classes = FileServiceTest.TestApplication.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("StoredFileNameKeyBackfill 테스트")
+class StoredFileNameKeyBackfillTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private StoredFileNameKeyBackfill backfill;
+
+    @AfterEach
+    void tearDown() {
+        storedFileRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Given 정규화 키가 없는 기존 행 When 기동 시 채우면 Then Java 정규화 키로 채우고 충돌 행만 비워 둔다")
+    void givenLegacyRows_whenBackfilled_thenUseJavaNameKeyAndSkipConflicts() {
+        StoredFile decomposed = legacy("a.txt", "Cafe\u0301.txt");
+        StoredFile composed = legacy("b.txt", "CAF\u00C9.TXT");
+        StoredFile other = legacy("c.txt", "Other.TXT");
+
+        backfill.backfill();
+
+        assertThat(originalNameKey(decomposed)).isEqualTo("caf\u00e9.txt");
+        assertThat(originalNameKey(composed)).isEqualTo("caf\u00e9.txt");
+        assertThat(originalNameKey(other)).isEqualTo("other.txt");
+        assertThat(activeNameKey(other)).isEqualTo("other.txt");
+        assertThat(new String[] {activeNameKey(decomposed), activeNameKey(composed)})
+                .containsExactlyInAnyOrder("caf\u00e9.txt", null);
+    }
+
+    private StoredFile legacy(String placeholderName, String originalName) {
+        StoredFile file = storedFileRepository.save(StoredFile.create(placeholderName, "text/plain", "tester", null, "tester", NOW));
+        jdbcTemplate.update("update stored_files set original_name = ?, original_name_key = null, active_name_key = null where id = ?",
+                originalName, file.getId());
+        return file;
+    }
+
+    private String originalNameKey(StoredFile file) {
+        return jdbcTemplate.queryForObject("select original_name_key from stored_files where id = ?", String.class, file.getId());
+    }
+
+    private String activeNameKey(StoredFile file) {
+        return jdbcTemplate.queryForObject("select active_name_key from stored_files where id = ?", String.class, file.getId());
+    }
+}
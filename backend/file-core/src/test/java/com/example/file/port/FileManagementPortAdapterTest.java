@@ -18,6 +18,8 @@ import com.example.common.file.dto.FileMetadataDto;
 import com.example.common.file.FileStatus;
 import com.example.file.FileService;
 import com.example.file.FileSummaryView;
+import com.example.file.dto.FileSummaryPage;
+import com.example.file.dto.FileSummaryQuery;
 import com.example.file.dto.FileUploadCommand;
 import com.example.file.StoredFile;
 import com.example.file.audit.FileAuditEvent;
@@ -55,6 +57,20 @@ class FileManagementPortAdapterTest {
         then(fileService).should().download(id, "tester", List.of());
     }
 
+    @Test
+    @DisplayName("본문 열기와 다운로드 기록을 나눠 위임하고, 열기만으로는 감사를 남기지 않는다")
+    void openAndRecordDownloadDelegate() {
+        FileDownload download = new FileDownload(sampleMetadata(), null);
+        UUID id = UUID.randomUUID();
+        given(fileService.openDownload(id, "tester", List.of("tester"))).willReturn(download);
+
+        assertThat(adapter.openDownload(id, "tester", List.of("tester"))).isEqualTo(download);
+        then(auditPublisher).shouldHaveNoInteractions();
+
+        adapter.recordDownload(id, "tester");
+        then(fileService).should().recordDownload(id, "tester");
+    }
+
     @Test
     @DisplayName("목록 조회를 위임한다")
     void listDelegates() {
@@ -95,6 +111,28 @@ class FileManagementPortAdapterTest {
         assertThat(list.get(0).status()).isEqualTo(FileStatus.ACTIVE);
     }
 
+    @Test
+    @DisplayName("페이지 조회는 조건을 위임하고 커서를 유지한 채 메타데이터로 변환한다")
+    void pagedListDelegatesAndKeepsCursor() {
+        FileSummaryView view = new FileSummaryView() {
+            @Override public UUID getId() { return UUID.randomUUID(); }
+            @Override public String getOriginalName() { return "test.txt"; }
+            @Override public String getContentType() { return "text/plain"; }
+            @Override public long getSize() { return 10; }
+            @Override public String getOwnerUsername() { return "tester"; }
+            @Override public FileStatus getStatus() { return FileStatus.ACTIVE; }
+            @Override public OffsetDateTime getCreatedAt() { return OffsetDateTime.now(); }
+            @Override public OffsetDateTime getUpdatedAt() { return null; }
+        };
+        FileSummaryQuery query = new FileSummaryQuery("tester", null, "te", null, 10);
+        given(fileService.listSummaries(query)).willReturn(new FileSummaryPage<>(List.of(view), "cursor"));
+
+        FileSummaryPage<FileMetadataDto> page = adapter.list(query);
+
+        assertThat(page.items()).extracting(FileMetadataDto::originalName).containsExactly("test.txt");
+        assertThat(page.nextCursor()).isEqualTo("cursor");
+    }
+
     @Test
     @DisplayName("삭제 호출을 위임하고 감사 로그를 남긴다")
     void deleteDelegatesAndPublishes() {
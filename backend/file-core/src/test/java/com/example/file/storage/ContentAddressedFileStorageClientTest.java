@@ -0,0 +1,164 @@
+package com.example.file.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ContentAddressedFileStorageClient 테스트")
+class ContentAddressedFileStorageClientTest {
+
+    private static final String HELLO_SHA256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    Path tempDir;
+
+    private ContentAddressedFileStorageClient client;
+
+    @BeforeEach
+    void setUp() {
+        FileStorageProperties properties = new FileStorageProperties();
+        properties.setRootPath(tempDir.toString());
+        client = new ContentAddressedFileStorageClient(properties);
+    }
+
+    @Test
+    @DisplayName("본문의 SHA-256으로 샤딩된 경로에 저장하고 임시 파일을 남기지 않는다")
+    void storesByContentHash() throws Exception {
+        FileStorageClient.StoredObject stored = store("hello", "a.txt");
+
+        assertThat(stored.storagePath()).isEqualTo("sha256/2c/f2/" + HELLO_SHA256);
+        assertThat(stored.size()).isEqualTo(5);
+        assertThat(Files.readString(tempDir.resolve(stored.storagePath()))).isEqualTo("hello");
+        try (var temps = Files.list(tempDir.resolve("sha256/.tmp"))) {
+            assertThat(temps).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 내용은 이름이 달라도 같은 블롭을 가리킨다")
+    void deduplicatesIdenticalContent() throws Exception {
+        FileStorageClient.StoredObject first = store("hello", "a.txt");
+        FileStorageClient.StoredObject second = store("hello", "b.pdf");
+
+        assertThat(second.storagePath()).isEqualTo(first.storagePath());
+        assertThat(client.listBlobs()).containsExactly(first.storagePath());
+    }
+
+    @Test
+    @DisplayName("delete는 공유될 수 있는 블롭을 지우지 않고, 이전 방식 경로 파일은 지운다")
+    void deleteKeepsBlobsButRemovesLegacyFiles() throws Exception {
+        FileStorageClient.StoredObject stored = store("hello", "a.txt");
+        Path legacy = tempDir.resolve("2024/01/01/legacy.txt");
+        Files.createDirectories(legacy.getParent());
+        Files.writeString(legacy, "old");
+
+        client.delete(stored.storagePath());
+        client.delete("2024/01/01/legacy.txt");
+
+        assertThat(Files.exists(tempDir.resolve(stored.storagePath()))).isTrue();
+        assertThat(Files.exists(legacy)).isFalse();
+        assertThat(client.load("sha256/2c/f2/" + HELLO_SHA256).contentLength()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("유예 기간 안에 다시 저장된 블롭은 GC가 지우지 않는다")
+    void deleteIfIdleRespectsRecentStore() throws Exception {
+        FileStorageClient.StoredObject stored = store("hello", "a.txt");
+        Path blob = tempDir.resolve(stored.storagePath());
+        Instant cutoff = Instant.now().minus(1, ChronoUnit.HOURS);
+        Files.setLastModifiedTime(blob, FileTime.from(cutoff.minus(1, ChronoUnit.MINUTES)));
+
+        store("hello", "again.txt");
+
+        assertThat(client.deleteIfIdleSince(stored.storagePath(), cutoff, path -> false)).isFalse();
+        Files.setLastModifiedTime(blob, FileTime.from(cutoff.minus(1, ChronoUnit.MINUTES)));
+        assertThat(client.deleteIfIdleSince(stored.storagePath(), cutoff, path -> false)).isTrue();
+        assertThat(Files.exists(blob)).isFalse();
+    }
+
+    @Test
+    @DisplayName("옮긴 뒤 다시 확인해 참조가 생겼으면 블롭을 되돌린다")
+    void deleteIfIdleRestoresWhenReferencedOnRecheck() throws Exception {
+        FileStorageClient.StoredObject stored = store("hello", "a.txt");
+        Path blob = tempDir.resolve(stored.storagePath());
+        Instant cutoff = Instant.now().minus(1, ChronoUnit.HOURS);
+        Files.setLastModifiedTime(blob, FileTime.from(cutoff.minus(1, ChronoUnit.MINUTES)));
+
+        assertThat(client.deleteIfIdleSince(stored.storagePath(), cutoff, path -> true)).isFalse();
+
+        assertThat(Files.readString(blob)).isEqualTo("hello");
+        try (var leftovers = Files.list(tempDir.resolve("sha256/.tmp"))) {
+            assertThat(leftovers).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("GC가 블롭을 옮긴 사이 같은 내용이 저장되면 새로 저장된 블롭이 남는다")
+    void storeDuringDeleteKeepsBlob() throws Exception {
+        FileStorageClient.StoredObject stored = store("hello", "a.txt");
+        Path blob = tempDir.resolve(stored.storagePath());
+        Instant cutoff = Instant.now().minus(1, ChronoUnit.HOURS);
+        Files.setLastModifiedTime(blob, FileTime.from(cutoff.minus(1, ChronoUnit.MINUTES)));
+
+        boolean deleted = client.deleteIfIdleSince(stored.storagePath(), cutoff, path -> {
+            try {
+                assertThat(Files.exists(blob)).isFalse();
+                store("hello", "other-node.txt");
+            }
+            catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+            return false;
+        });
+
+        assertThat(deleted).isTrue();
+        assertThat(Files.readString(blob)).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("GC가 옮겨 둔 파일은 mtime이 오래됐어도 옮긴 시각 기준으로 정리한다")
+    void purgeUsesQuarantineTimeForGcFiles() throws Exception {
+        Path tempRoot = tempDir.resolve("sha256/.tmp");
+        Files.createDirectories(tempRoot);
+        Instant cutoff = Instant.now().minus(1, ChronoUnit.HOURS);
+        Path inFlight = Files.writeString(tempRoot.resolve("gc-" + HELLO_SHA256 + "-" + Instant.now().toEpochMilli()), "x");
+        Path abandoned = Files.writeString(
+                tempRoot.resolve("gc-" + HELLO_SHA256 + "-" + cutoff.minus(1, ChronoUnit.MINUTES).toEpochMilli()), "y");
+        Files.setLastModifiedTime(inFlight, FileTime.from(cutoff.minus(1, ChronoUnit.DAYS)));
+
+        assertThat(client.purgeStaleTempFiles(cutoff)).isEqualTo(1);
+        assertThat(Files.exists(inFlight)).isTrue();
+        assertThat(Files.exists(abandoned)).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래된 임시 파일만 정리한다")
+    void purgesStaleTempFiles() throws Exception {
+        Path tempRoot = tempDir.resolve("sha256/.tmp");
+        Files.createDirectories(tempRoot);
+        Path stale = Files.writeString(tempRoot.resolve("upload-1.part"), "x");
+        Path fresh = Files.writeString(tempRoot.resolve("upload-2.part"), "y");
+        Instant cutoff = Instant.now().minus(1, ChronoUnit.HOURS);
+        Files.setLastModifiedTime(stale, FileTime.from(cutoff.minus(1, ChronoUnit.MINUTES)));
+
+        assertThat(client.purgeStaleTempFiles(cutoff)).isEqualTo(1);
+        assertThat(Files.exists(stale)).isFalse();
+        assertThat(Files.exists(fresh)).isTrue();
+    }
+
+    private FileStorageClient.StoredObject store(String content, String name) throws Exception {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        return client.store(new ByteArrayInputStream(bytes), bytes.length, name);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.file.upload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TeeInputStreamTest {
+
+    private static byte[] payload(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("본 소비자가 읽은 바이트와 finish로 읽은 나머지가 모든 분기에 그대로 전달된다")
+    void copiesBodyToEveryBranch() throws Exception {
+        byte[] body = payload(100_000);
+        StreamBranch first = new StreamBranch(4, 1_000);
+        StreamBranch second = new StreamBranch(4, 1_000);
+        CompletableFuture<byte[]> firstRead = CompletableFuture.supplyAsync(() -> readAll(first.input()));
+        CompletableFuture<byte[]> secondRead = CompletableFuture.supplyAsync(() -> readAll(second.input()));
+
+        TeeInputStream tee = new TeeInputStream(new ByteArrayInputStream(body), List.of(first, second));
+        byte[] head = tee.readNBytes(10_000);
+        long drained = tee.finish();
+
+        assertThat(head.length + drained).isEqualTo(body.length);
+        assertThat(firstRead.get(1, TimeUnit.SECONDS)).isEqualTo(body);
+        assertThat(secondRead.get(1, TimeUnit.SECONDS)).isEqualTo(body);
+        assertThat(first.isOverrun()).isFalse();
+    }
+
+    @Test
+    @DisplayName("소비자가 일찍 닫은 분기는 생산자를 막지 않고 overrun도 아니다")
+    void closedBranchIsSkipped() throws Exception {
+        StreamBranch branch = new StreamBranch(1, 1_000);
+        branch.input().close();
+
+        TeeInputStream tee = new TeeInputStream(new ByteArrayInputStream(payload(50_000)), List.of(branch));
+        tee.finish();
+
+        assertThat(branch.isOverrun()).isFalse();
+    }
+
+    @Test
+    @DisplayName("읽지 않는 소비자는 제한 시간 뒤 떼어 내고 overrun으로 표시한다")
+    void stalledBranchIsDetached() throws Exception {
+        StreamBranch branch = new StreamBranch(1, 100);
+
+        TeeInputStream tee = new TeeInputStream(new ByteArrayInputStream(payload(50_000)), List.of(branch));
+        tee.finish();
+
+        assertThat(branch.isOverrun()).isTrue();
+    }
+
+    @Test
+    @DisplayName("제한 시간이 0이면 느린 소비자도 떼어 내지 않고 끝까지 전달한다")
+    void zeroStallTimeoutWaitsForSlowConsumer() throws Exception {
+        byte[] body = payload(50_000);
+        StreamBranch branch = new StreamBranch(1, 0);
+        CompletableFuture<byte[]> slowRead = CompletableFuture.supplyAsync(() -> {
+            try {
+                Thread.sleep(300);
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return readAll(branch.input());
+        });
+
+        TeeInputStream tee = new TeeInputStream(new ByteArrayInputStream(body), List.of(branch));
+        tee.finish();
+
+        assertThat(branch.isOverrun()).isFalse();
+        assertThat(slowRead.get(5, TimeUnit.SECONDS)).isEqualTo(body);
+    }
+
+    private static byte[] readAll(InputStream input) {
+        try (input) {
+            return input.readAllBytes();
+        }
+        catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.common.masking;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.common.identifier.AccountId;
+import com.example.common.identifier.CardId;
+import com.example.common.identifier.CustomerId;
+import com.example.common.identifier.EmailAddress;
+import com.example.common.identifier.PersonName;
+import com.example.common.identifier.PhoneNumber;
+import com.example.common.identifier.ResidentRegistrationId;
+
+/**
+ * 마스킹 규칙 적용: 문자열 switch + 매 호출 MessageDigest/String.format(기존) vs {@link MaskKernel}.
+ * 입력은 식별자 값 객체가 검증·정규화한 원문({@code raw()})을 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaskKernelBenchmark {
+
+    @Param({"phone", "email", "rrn", "card", "account", "customer", "name"})
+    public String identifier;
+
+    @Param({"PARTIAL", "HASH", "TOKENIZE"})
+    public String rule;
+
+    private String input;
+    private MaskRule maskRule;
+
+    @Setup
+    public void setUp() {
+        input = switch (identifier) {
+            case "phone" -> PhoneNumber.of("010-1234-5678").raw();
+            case "email" -> EmailAddress.of("hong.gildong@example.com").raw();
+            case "rrn" -> ResidentRegistrationId.of("900101-1234567").raw();
+            case "card" -> CardId.of("1234-5678-9012-3456").raw();
+            case "account" -> AccountId.of("110-123-456789").raw();
+            case "customer" -> CustomerId.of("CUST-2024-000123").raw();
+            case "name" -> PersonName.of("홍길동").raw();
+            default -> throw new IllegalArgumentException(identifier);
+        };
+        maskRule = MaskRule.valueOf(rule);
+    }
+
+    @Benchmark
+    public String legacy() {
+        return LegacyProcessor.apply(rule, input);
+    }
+
+    @Benchmark
+    public String kernel() {
+        return MaskKernel.apply(maskRule, input);
+    }
+
+    /** {@link MaskKernel} 도입 전 {@code MaskRuleProcessor} 구현. */
+    private static final class LegacyProcessor {
+
+        static String apply(String rule, String value) {
+            return switch (rule.toUpperCase(Locale.ROOT)) {
+                case "NONE" -> value;
+                case "FULL" -> "[MASKED]";
+                case "PARTIAL" -> partial(value);
+                case "HASH" -> hash(value);
+                case "TOKENIZE" -> UUID.nameUUIDFromBytes(value.getBytes(StandardCharsets.UTF_8)).toString();
+                default -> value;
+            };
+        }
+
+        static String partial(String v) {
+            if (v.length() <= 4) return "*".repeat(v.length());
+            return v.substring(0, 2) + "*".repeat(v.length() - 4) + v.substring(v.length() - 2);
+        }
+
+        static String hash(String v) {
+            try {
+                byte[] bytes = MessageDigest.getInstance("SHA-256").digest(v.getBytes(StandardCharsets.UTF_8));
+                StringBuilder sb = new StringBuilder();
+                for (byte b : bytes) {
+                    sb.append(String.format("%02x", b));
+                }
+                return sb.toString();
+            } catch (NoSuchAlgorithmException e) {
+                return "[HASH-ERROR]";
+            }
+        }
+    }
+}
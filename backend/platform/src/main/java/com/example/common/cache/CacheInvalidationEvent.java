@@ -4,12 +4,31 @@ import java.time.Instant;
 
 /**
  * 캐시 무효화 이벤트 페이로드.
+ * <p>
+ * {@link CacheInvalidationType#CACHE_ENTRY}는 {@code cacheName}의 {@code cacheKey} 항목 하나를 무효화하며,
+ * {@code cacheKey}가 null이면 캐시 전체를 비운다. {@code version}은 항목을 쓴 노드가 붙인 버전이다.
  */
 public record CacheInvalidationEvent(
         CacheInvalidationType type,
         String tenantId,
         String scopeId,
         Long version,
-        Instant issuedAt
+        Instant issuedAt,
+        String cacheName,
+        String cacheKey
 ) {
+
+    public CacheInvalidationEvent(CacheInvalidationType type,
+                                  String tenantId,
+                                  String scopeId,
+                                  Long version,
+                                  Instant issuedAt) {
+        this(type, tenantId, scopeId, version, issuedAt, null, null);
+    }
+
+    /** 캐시 항목 단위 무효화 이벤트. */
+    public static CacheInvalidationEvent entry(String cacheName, String cacheKey, long version) {
+        return new CacheInvalidationEvent(CacheInvalidationType.CACHE_ENTRY, null, null, version, Instant.now(),
+                cacheName, cacheKey);
+    }
 }
@@ -7,5 +7,8 @@ public enum CacheInvalidationType {
     ROW_SCOPE,
     PERMISSION_MENU,
     ORGANIZATION,
-    MASKING
+    MASKING,
+    ROW_ACCESS_POLICY,
+    /** 2단계 캐시의 개별 항목(또는 캐시 하나) 무효화. */
+    CACHE_ENTRY
 }
@@ -0,0 +1,184 @@
+package com.example.common.masking;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * 마스킹 규칙별 함수 모음. 규칙은 enum으로 분기하고, {@link DataKind}별 기본 함수는 미리 만들어 둔다.
+ *
+ * <p>해시/토큰화는 스레드마다 {@link MessageDigest}를 재사용하고, 부분 마스킹은 결과 길이를 먼저 계산해
+ * char 배열 하나만 만든다. 부분 마스킹의 글자 단위는 코드 포인트에 결합 문자(결합 부호, 한글 중성/종성 자모,
+ * 이형 선택자)를 붙인 묶음이므로 서로게이트 쌍이나 풀어 쓴 한글이 중간에서 잘리지 않는다.
+ */
+public final class MaskKernel {
+
+    static final String FULL_MASK = "[MASKED]";
+
+    private static final char MASK_CHAR = '*';
+    private static final int VISIBLE_HEAD = 2;
+    private static final int VISIBLE_TAIL = 2;
+    private static final HexFormat HEX = HexFormat.of();
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> digest("SHA-256"));
+    private static final ThreadLocal<MessageDigest> MD5 = ThreadLocal.withInitial(() -> digest("MD5"));
+
+    private static final UnaryOperator<String> NONE = value -> value;
+    private static final UnaryOperator<String> PARTIAL = MaskKernel::partial;
+    private static final UnaryOperator<String> FULL = value -> value == null ? null : FULL_MASK;
+    private static final UnaryOperator<String> HASH = MaskKernel::hash;
+    private static final UnaryOperator<String> TOKENIZE = MaskKernel::tokenize;
+
+    private static final MaskRule[] RULES = MaskRule.values();
+    private static final UnaryOperator<String>[] BY_KIND = compileKinds();
+
+    private MaskKernel() {}
+
+    /**
+     * 규칙에 해당하는 마스킹 함수. null이면 원문을 그대로 돌려주는 함수.
+     */
+    public static UnaryOperator<String> function(MaskRule rule) {
+        if (rule == null) {
+            return NONE;
+        }
+        return switch (rule) {
+            case NONE -> NONE;
+            case PARTIAL -> PARTIAL;
+            case FULL -> FULL;
+            case HASH -> HASH;
+            case TOKENIZE -> TOKENIZE;
+        };
+    }
+
+    /**
+     * 데이터 종류의 기본 규칙 함수. null이면 {@link DataKind#DEFAULT}를 쓴다.
+     */
+    public static UnaryOperator<String> forKind(DataKind kind) {
+        return BY_KIND[(kind != null ? kind : DataKind.DEFAULT).ordinal()];
+    }
+
+    public static String apply(MaskRule rule, String value) {
+        if (value == null) {
+            return null;
+        }
+        return function(rule).apply(value);
+    }
+
+    /**
+     * 대소문자를 무시하고 규칙 이름을 찾는다. 문자열을 새로 만들지 않으며, 모르는 이름이면 null.
+     */
+    public static MaskRule ruleOf(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (MaskRule rule : RULES) {
+            if (rule.name().equalsIgnoreCase(name)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 앞뒤 두 글자만 남기고 나머지 글자를 글자당 {@code *} 하나로 바꾼다. 네 글자 이하이면 모두 가린다.
+     */
+    public static String partial(String value) {
+        if (value == null) {
+            return null;
+        }
+        int length = value.length();
+        int units = 0;
+        int headEnd = length;
+        int lastStart = -1;
+        int tailStart = -1;
+        int i = 0;
+        while (i < length) {
+            int codePoint = value.codePointAt(i);
+            if (units == 0 || !isContinuation(codePoint)) {
+                units++;
+                if (units == VISIBLE_HEAD + 1) {
+                    headEnd = i;
+                }
+                tailStart = lastStart;
+                lastStart = i;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (units <= VISIBLE_HEAD + VISIBLE_TAIL) {
+            char[] stars = new char[units];
+            Arrays.fill(stars, MASK_CHAR);
+            return new String(stars);
+        }
+        int hidden = units - VISIBLE_HEAD - VISIBLE_TAIL;
+        int tailLength = length - tailStart;
+        char[] out = new char[headEnd + hidden + tailLength];
+        value.getChars(0, headEnd, out, 0);
+        Arrays.fill(out, headEnd, headEnd + hidden, MASK_CHAR);
+        value.getChars(tailStart, length, out, headEnd + hidden);
+        return new String(out);
+    }
+
+    /** UTF-8 바이트의 SHA-256 소문자 16진 문자열. */
+    public static String hash(String value) {
+        if (value == null) {
+            return null;
+        }
+        return HEX.formatHex(SHA256.get().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /** {@link UUID#nameUUIDFromBytes(byte[])}와 같은 값을 스레드별 MD5로 만든다. */
+    public static String tokenize(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] md5 = MD5.get().digest(value.getBytes(StandardCharsets.UTF_8));
+        md5[6] &= 0x0f;
+        md5[6] |= 0x30;
+        md5[8] &= 0x3f;
+        md5[8] |= (byte) 0x80;
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < 8; i++) {
+            msb = (msb << 8) | (md5[i] & 0xff);
+        }
+        for (int i = 8; i < 16; i++) {
+            lsb = (lsb << 8) | (md5[i] & 0xff);
+        }
+        return new UUID(msb, lsb).toString();
+    }
+
+    /** 앞 글자에 붙어 한 글자를 이루는 코드 포인트인지. */
+    private static boolean isContinuation(int codePoint) {
+        if ((codePoint >= 0x1160 && codePoint <= 0x11FF) || (codePoint >= 0xD7B0 && codePoint <= 0xD7FF)) {
+            return true; // 한글 중성/종성 자모
+        }
+        if ((codePoint >= 0xFE00 && codePoint <= 0xFE0F) || codePoint == 0x200D) {
+            return true; // 이형 선택자, ZWJ
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK
+                || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UnaryOperator<String>[] compileKinds() {
+        DataKind[] kinds = DataKind.values();
+        UnaryOperator<String>[] functions = new UnaryOperator[kinds.length];
+        for (DataKind kind : kinds) {
+            functions[kind.ordinal()] = function(kind.getDefaultMaskRule());
+        }
+        return functions;
+    }
+
+    private static MessageDigest digest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(algorithm + " algorithm missing", e);
+        }
+    }
+}
@@ -35,8 +35,7 @@ public final class MaskingFunctions {
         }
 
         // 블랙리스트: DataKind 기반 마스킹 적용
-        DataKind kind = dataKind != null ? dataKind : DataKind.DEFAULT;
-        return value -> applyMaskRule(kind.getDefaultMaskRule(), value);
+        return MaskKernel.forKind(dataKind);
     }
 
     /**
@@ -58,17 +57,4 @@ public final class MaskingFunctions {
         return masker(match, kind);
     }
 
-    private static String applyMaskRule(MaskRule rule, String value) {
-        if (value == null || rule == null) {
-            return value;
-        }
-        return switch (rule) {
-            case NONE -> value;
-            case PARTIAL -> MaskRuleProcessor.apply("PARTIAL", value, null);
-            case FULL -> MaskRuleProcessor.apply("FULL", value, null);
-            case HASH -> MaskRuleProcessor.apply("HASH", value, null);
-            case TOKENIZE -> MaskRuleProcessor.apply("TOKENIZE", value, null);
-        };
-    }
-
 }
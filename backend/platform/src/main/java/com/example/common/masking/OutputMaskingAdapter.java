@@ -59,8 +59,9 @@ public class OutputMaskingAdapter {
         if (value == null) {
             return null;
         }
-        MaskRule rule = dataKind != null ? dataKind.getDefaultMaskRule() : MaskRule.FULL;
-        return MaskRuleProcessor.apply(rule.name(), value, null);
+        return dataKind != null
+                ? MaskKernel.forKind(dataKind).apply(value)
+                : MaskKernel.apply(MaskRule.FULL, value);
     }
 
     /**
@@ -28,4 +28,20 @@ class CacheInvalidationEventTest {
         assertThat(event.version()).isEqualTo(1L);
         assertThat(event.issuedAt()).isEqualTo(now);
     }
+
+    @Test
+    @DisplayName("항목 단위 이벤트는 캐시 이름과 키, 버전을 담고 기존 생성자는 둘을 비워 둔다")
+    void entryEventCarriesCacheNameAndKey() {
+        CacheInvalidationEvent entry = CacheInvalidationEvent.entry("userDetails", "alice", 7L);
+        CacheInvalidationEvent legacy = new CacheInvalidationEvent(CacheInvalidationType.ROW_SCOPE, "t", "s", 1L,
+                Instant.now());
+
+        assertThat(entry.type()).isEqualTo(CacheInvalidationType.CACHE_ENTRY);
+        assertThat(entry.cacheName()).isEqualTo("userDetails");
+        assertThat(entry.cacheKey()).isEqualTo("alice");
+        assertThat(entry.version()).isEqualTo(7L);
+        assertThat(entry.issuedAt()).isNotNull();
+        assertThat(legacy.cacheName()).isNull();
+        assertThat(legacy.cacheKey()).isNull();
+    }
 }
@@ -0,0 +1,83 @@
+package com.example.common.masking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MaskKernelTest {
+
+    private static String nfd(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFD);
+    }
+
+    @Test
+    @DisplayName("BMP 문자열의 부분 마스킹은 기존 결과와 같다")
+    void partialMatchesLegacyForBmp() {
+        assertThat(MaskKernel.partial("abcdef")).isEqualTo("ab**ef");
+        assertThat(MaskKernel.partial("01012345678")).isEqualTo("01*******78");
+        assertThat(MaskKernel.partial("abcd")).isEqualTo("****");
+        assertThat(MaskKernel.partial("")).isEmpty();
+        assertThat(MaskKernel.partial("남궁민수김")).isEqualTo("남궁*수김");
+    }
+
+    @Test
+    @DisplayName("서로게이트 쌍은 한 글자로 세고 중간에서 자르지 않는다")
+    void partialKeepsSurrogatePairs() {
+        assertThat(MaskKernel.partial("ab😀cd😀ef")).isEqualTo("ab****ef");
+        assertThat(MaskKernel.partial("😀😀😀😀😀")).isEqualTo("😀😀*😀😀");
+        assertThat(MaskKernel.partial("😀😀😀😀")).isEqualTo("****");
+    }
+
+    @Test
+    @DisplayName("풀어 쓴 한글과 결합 부호는 앞 글자와 한 글자로 센다")
+    void partialGroupsCombiningSequences() {
+        assertThat(MaskKernel.partial(nfd("홍길동"))).isEqualTo("***");
+        assertThat(MaskKernel.partial(nfd("남궁민수김"))).isEqualTo(nfd("남궁") + "*" + nfd("수김"));
+        assertThat(MaskKernel.partial("cafe\u0301s")).isEqualTo("ca*e\u0301s");
+    }
+
+    @Test
+    @DisplayName("해시와 토큰은 기존 SHA-256 16진수, UUID.nameUUIDFromBytes 값과 같다")
+    void hashAndTokenizeMatchLegacy() {
+        assertThat(MaskKernel.hash("abc"))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        for (String value : new String[] {"abc", "900101-1234567", "홍길동", "", "😀"}) {
+            assertThat(MaskKernel.tokenize(value))
+                    .isEqualTo(UUID.nameUUIDFromBytes(value.getBytes(StandardCharsets.UTF_8)).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 해시해도 결과가 섞이지 않는다")
+    void digestsAreThreadConfined() {
+        String expected = MaskKernel.hash("abc");
+        assertThat(IntStream.range(0, 2_000).parallel()
+                .mapToObj(i -> MaskKernel.hash("abc"))
+                .allMatch(expected::equals)).isTrue();
+    }
+
+    @Test
+    @DisplayName("DataKind 함수는 미리 만들어 두고, null이면 DEFAULT 함수를 쓴다")
+    void forKindReusesCompiledFunctions() {
+        assertThat(MaskKernel.forKind(DataKind.PHONE)).isSameAs(MaskKernel.function(MaskRule.PARTIAL));
+        assertThat(MaskKernel.forKind(null)).isSameAs(MaskKernel.forKind(DataKind.DEFAULT));
+        assertThat(MaskKernel.forKind(DataKind.SSN).apply("900101-1234567")).isEqualTo("[MASKED]");
+        assertThat(MaskKernel.forKind(DataKind.SSN).apply(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("규칙 이름은 대소문자를 무시하고, 모르는 규칙은 원문을 돌려준다")
+    void resolvesRuleNames() {
+        assertThat(MaskKernel.ruleOf("hash")).isEqualTo(MaskRule.HASH);
+        assertThat(MaskKernel.ruleOf("bogus")).isNull();
+        assertThat(MaskRuleProcessor.apply("partial", "abcdef", null)).isEqualTo("ab**ef");
+        assertThat(MaskRuleProcessor.apply("bogus", "value", null)).isEqualTo("value");
+        assertThat(MaskRuleProcessor.apply(MaskRule.FULL, "value")).isEqualTo("[MASKED]");
+    }
+}
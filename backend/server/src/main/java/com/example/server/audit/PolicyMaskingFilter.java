@@ -9,6 +9,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.util.StringUtils;
@@ -18,9 +19,11 @@ import com.example.admin.permission.context.AuthContextHolder;
 import com.example.common.masking.DataKind;
 import com.example.common.masking.MaskingTarget;
 import com.example.common.masking.SubjectType;
+import com.example.common.policy.MaskingMatch;
 import com.example.common.policy.MaskingPolicyProvider;
 import com.example.common.policy.MaskingQuery;
 import com.example.common.policy.RowAccessContextHolder;
+import com.example.common.policy.RowAccessMatch;
 import com.example.common.policy.RowAccessPolicyProvider;
 import com.example.common.policy.RowAccessQuery;
 import com.example.common.masking.MaskingContextHolder;
@@ -63,14 +66,20 @@ public class PolicyMaskingFilter extends OncePerRequestFilter {
                     orgGroups.add(ctx.organizationCode());
                 }
 
-                // RowAccessPolicy 평가
-                var rowAccessMatchOpt = rowAccessPolicyProvider.evaluate(new RowAccessQuery(
-                        ctx.feature() != null ? ctx.feature().name() : null,
-                        ctx.action() != null ? ctx.action().name() : null,
-                        ctx.permissionGroupCode(),
-                        orgGroups,
-                        Instant.now()
-                ));
+                // 두 정책 평가가 같은 입력과 시점을 공유한다.
+                String featureCode = ctx.feature() != null ? ctx.feature().name() : null;
+                String actionCode = ctx.action() != null ? ctx.action().name() : null;
+                Instant now = Instant.now();
+
+                // RowAccessPolicy 평가 (같은 요청에서 이미 평가했으면 재사용)
+                var rowAccessMatchOpt = reuse(request, ATTR_ROW_ACCESS_MATCH, RowAccessMatch.class)
+                        .or(() -> rowAccessPolicyProvider.evaluate(new RowAccessQuery(
+                                featureCode,
+                                actionCode,
+                                ctx.permissionGroupCode(),
+                                orgGroups,
+                                now
+                        )));
 
                 rowAccessMatchOpt.ifPresent(match -> {
                     request.setAttribute(ATTR_ROW_ACCESS_MATCH, match);
@@ -79,14 +88,15 @@ public class PolicyMaskingFilter extends OncePerRequestFilter {
                 });
 
                 // MaskingPolicy 평가
-                var maskingMatchOpt = maskingPolicyProvider.evaluate(new MaskingQuery(
-                        ctx.feature() != null ? ctx.feature().name() : null,
-                        ctx.action() != null ? ctx.action().name() : null,
-                        ctx.permissionGroupCode(),
-                        orgGroups,
-                        (DataKind) null, // dataKind - 아래에서 MaskingTarget에서 설정
-                        Instant.now()
-                ));
+                var maskingMatchOpt = reuse(request, ATTR_MASKING_MATCH, MaskingMatch.class)
+                        .or(() -> maskingPolicyProvider.evaluate(new MaskingQuery(
+                                featureCode,
+                                actionCode,
+                                ctx.permissionGroupCode(),
+                                orgGroups,
+                                (DataKind) null, // dataKind - 아래에서 MaskingTarget에서 설정
+                                now
+                        )));
 
                 maskingMatchOpt.ifPresent(match -> {
                     request.setAttribute(ATTR_MASKING_MATCH, match);
@@ -109,6 +119,11 @@ public class PolicyMaskingFilter extends OncePerRequestFilter {
         }
     }
 
+    private static <T> Optional<T> reuse(HttpServletRequest request, String attribute, Class<T> type) {
+        Object value = request.getAttribute(attribute);
+        return type.isInstance(value) ? Optional.of(type.cast(value)) : Optional.empty();
+    }
+
     private MaskingTarget buildMaskingTarget(MaskingTarget base) {
         SubjectType subject = base != null ? base.getSubjectType() : SubjectType.UNKNOWN;
         DataKind dataKind = base != null ? base.getDataKind() : DataKind.DEFAULT;
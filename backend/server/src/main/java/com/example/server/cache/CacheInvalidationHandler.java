@@ -1,5 +1,7 @@
 package com.example.server.cache;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 import org.slf4j.Logger;
@@ -9,6 +11,8 @@ import org.springframework.cache.CacheManager;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import com.example.admin.maskingpolicy.service.MaskingPolicyService;
+import com.example.admin.rowaccesspolicy.service.RowAccessPolicyService;
 import com.example.common.cache.CacheInvalidationEvent;
 import com.example.common.cache.CacheInvalidationType;
 import com.example.common.cache.CacheNames;
@@ -28,15 +32,23 @@ public class CacheInvalidationHandler {
     private final MenuReadModelPort menuReadModelPort;
     @Nullable
     private final PermissionMenuReadModelPort permissionMenuReadModelPort;
+    @Nullable
+    private final RowAccessPolicyService rowAccessPolicyService;
+    @Nullable
+    private final MaskingPolicyService maskingPolicyService;
 
     public CacheInvalidationHandler(CacheManager cacheManager,
                                     @Nullable OrganizationReadModelPort organizationReadModelPort,
                                     @Nullable MenuReadModelPort menuReadModelPort,
-                                    @Nullable PermissionMenuReadModelPort permissionMenuReadModelPort) {
+                                    @Nullable PermissionMenuReadModelPort permissionMenuReadModelPort,
+                                    @Nullable RowAccessPolicyService rowAccessPolicyService,
+                                    @Nullable MaskingPolicyService maskingPolicyService) {
         this.cacheManager = cacheManager;
         this.organizationReadModelPort = organizationReadModelPort;
         this.menuReadModelPort = menuReadModelPort;
         this.permissionMenuReadModelPort = permissionMenuReadModelPort;
+        this.rowAccessPolicyService = rowAccessPolicyService;
+        this.maskingPolicyService = maskingPolicyService;
     }
 
     public void handle(CacheInvalidationEvent event) {
@@ -44,18 +56,28 @@ public class CacheInvalidationHandler {
             return;
         }
         CacheInvalidationType type = event.type();
-        log.info("Received cache invalidation event: type={}, tenant={}, scope={}", type, event.tenantId(), event.scopeId());
+        if (type == CacheInvalidationType.CACHE_ENTRY) {
+            log.debug("Received cache entry invalidation: cache={}, key={}, version={}",
+                    event.cacheName(), event.cacheKey(), event.version());
+        } else {
+            log.info("Received cache invalidation event: type={}, tenant={}, scope={}", type, event.tenantId(), event.scopeId());
+        }
         switch (type) {
-            case ROW_SCOPE -> evict(CacheNames.ORGANIZATION_ROW_SCOPE);
+            case ROW_SCOPE -> evict(CacheNames.ORGANIZATION_ROW_SCOPE, event);
             case ORGANIZATION -> {
-                evict(CacheNames.DW_ORG_TREE);
+                evict(CacheNames.DW_ORG_TREE, event);
                 if (organizationReadModelPort != null && organizationReadModelPort.isEnabled()) {
-                    organizationReadModelPort.evict();
-                    organizationReadModelPort.rebuild();
+                    List<String> codes = organizationCodes(event.scopeId());
+                    if (codes.isEmpty()) {
+                        organizationReadModelPort.evict();
+                        organizationReadModelPort.rebuild();
+                    } else {
+                        organizationReadModelPort.applyChanges(codes);
+                    }
                 }
             }
             case PERMISSION_MENU -> {
-                evict(CacheNames.USER_DETAILS);
+                evict(CacheNames.USER_DETAILS, event);
                 if (menuReadModelPort != null && menuReadModelPort.isEnabled()) {
                     menuReadModelPort.evict();
                     menuReadModelPort.rebuild();
@@ -65,14 +87,45 @@ public class CacheInvalidationHandler {
                     permissionMenuReadModelPort.rebuild(event.scopeId());
                 }
             }
-            case MASKING -> evict(CacheNames.COMMON_CODE_AGGREGATES);
+            case MASKING -> {
+                evict(CacheNames.COMMON_CODE_AGGREGATES, event);
+                if (maskingPolicyService != null) {
+                    maskingPolicyService.reload();
+                }
+            }
+            case ROW_ACCESS_POLICY -> {
+                if (rowAccessPolicyService != null) {
+                    rowAccessPolicyService.reload();
+                }
+            }
+            case CACHE_ENTRY -> {
+                if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+                    twoLevelCacheManager.onRemoteInvalidation(event);
+                }
+            }
             default -> log.debug("Unhandled cache invalidation type {}", type);
         }
     }
 
-    private void evict(String cacheName) {
+    /** 배치가 {@code scopeId}에 쉼표로 이어 보낸 조직 코드. 없으면 전체 재구성 대상이다. */
+    private static List<String> organizationCodes(@Nullable String scopeId) {
+        if (scopeId == null || scopeId.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(scopeId.split(","))
+                .map(String::trim)
+                .filter(code -> !code.isEmpty())
+                .toList();
+    }
+
+    private void evict(String cacheName, CacheInvalidationEvent event) {
         Cache cache = cacheManager.getCache(cacheName);
-        if (Objects.nonNull(cache)) {
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            // 모든 노드가 같은 이벤트를 받으므로 항목 이벤트를 다시 보내지 않고, 공유 L2도 노드마다 비우지 않는다.
+            // 이벤트 시각 이전에 쓴 L2 항목은 읽을 때 미스로 처리된다.
+            long issuedAt = event.issuedAt() != null ? event.issuedAt().toEpochMilli() : System.currentTimeMillis();
+            twoLevelCache.clearLocal(issuedAt);
+        } else if (Objects.nonNull(cache)) {
             cache.clear();
         }
     }
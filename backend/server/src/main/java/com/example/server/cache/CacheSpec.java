@@ -0,0 +1,19 @@
+package com.example.server.cache;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 캐시 이름 하나의 2단계 캐시 정책.
+ *
+ * @param localTtl         L1(Caffeine) 항목 유지 시간
+ * @param localMaximumSize L1 최대 항목 수
+ * @param remoteTtl        L2(Redis) 항목 유지 시간
+ * @param refreshAfter     이 시간이 지난 항목은 조회 시 돌려준 뒤 백그라운드에서 다시 적재한다. null이면 사용하지 않는다.
+ */
+public record CacheSpec(Duration localTtl,
+                        long localMaximumSize,
+                        Duration remoteTtl,
+                        @Nullable Duration refreshAfter) {
+}
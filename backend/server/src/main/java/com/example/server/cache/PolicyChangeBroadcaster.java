@@ -0,0 +1,63 @@
+package com.example.server.cache;
+
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.admin.maskingpolicy.service.MaskingPolicyService;
+import com.example.admin.rowaccesspolicy.service.RowAccessPolicyService;
+import com.example.common.cache.CacheInvalidationEvent;
+import com.example.common.cache.CacheInvalidationPublisher;
+import com.example.common.cache.CacheInvalidationType;
+import com.example.common.policy.PolicyChangedEvent;
+
+/**
+ * 이 노드에서 커밋된 정책 버전 변경을 캐시 무효화 채널로 다른 노드에 알린다.
+ * <p>
+ * 수신 노드는 {@link CacheInvalidationHandler}에서 정책 인덱스를 다시 만든다.
+ * 무효화 채널이 꺼져 있으면(publisher 없음) 아무 일도 하지 않는다.
+ */
+@Component
+public class PolicyChangeBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(PolicyChangeBroadcaster.class);
+
+    @Nullable
+    private final CacheInvalidationPublisher publisher;
+
+    public PolicyChangeBroadcaster(@Nullable CacheInvalidationPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolicyChanged(PolicyChangedEvent event) {
+        if (publisher == null || event == null) {
+            return;
+        }
+        CacheInvalidationType type = typeOf(event.code());
+        if (type == null) {
+            return;
+        }
+        try {
+            publisher.publish(new CacheInvalidationEvent(type, null, event.payload(), null, Instant.now()));
+        }
+        catch (RuntimeException ex) {
+            // 다른 노드는 인덱스 TTL이 지나면 따라잡는다.
+            log.warn("Failed to broadcast policy change {}", event, ex);
+        }
+    }
+
+    private static CacheInvalidationType typeOf(String code) {
+        if (RowAccessPolicyService.POLICY_CODE.equals(code)) {
+            return CacheInvalidationType.ROW_ACCESS_POLICY;
+        }
+        if (MaskingPolicyService.POLICY_CODE.equals(code)) {
+            return CacheInvalidationType.MASKING;
+        }
+        return null;
+    }
+}
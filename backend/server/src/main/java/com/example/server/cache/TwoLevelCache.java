@@ -0,0 +1,331 @@
+package com.example.server.cache;
+
+import java.io.Serializable;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.lang.Nullable;
+
+import com.example.common.cache.CacheInvalidationEvent;
+import com.example.common.cache.CacheInvalidationPublisher;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * L1 Caffeine 앞에 두고 L2 Redis를 뒤에 두는 읽기 관통(read-through) 캐시.
+ * <p>
+ * 항목은 쓴 노드가 붙인 버전과 함께 {@link VersionedValue}로 두 단계에 저장된다. {@code put}/{@code evict}/{@code clear}는
+ * 캐시 무효화 채널로 항목 단위 이벤트를 보내고, 다른 노드는 {@link #invalidateLocal(String, long)}로 L1만 지운다.
+ * 자기 노드가 보낸 이벤트는 버전이 같으므로 방금 쓴 L1 항목을 지우지 않는다.
+ * <p>
+ * {@link #get(Object, Callable)} 경로는 같은 키의 동시 적재를 Caffeine이 한 번으로 합치며(stampede 방지),
+ * {@link CacheSpec#refreshAfter()}가 지난 항목은 기존 값을 돌려준 뒤 백그라운드에서 다시 적재한다. 다시 적재한 값은
+ * 적재를 시작할 때 본 항목이 두 단계에 그대로 있을 때만 덮어쓰므로, 적재 도중의 {@code put}/{@code evict}를 되돌리지 않는다.
+ * L1 채우기와 L1 무효화는 같은 키에 대해 Caffeine의 원자적 계산으로 직렬화되므로, L2를 읽는 도중 들어온 무효화가
+ * 방금 읽은 옛 값을 L1에 되살리지 못한다. 유형 단위 무효화는 {@link #clearLocal(long)}로 L1만 비우고, 그 시각 이전에
+ * 쓴 L2 항목은 읽을 때 미스로 본다. L2 조회·저장 실패는 캐시 미스로 취급한다.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoLevelCache.class);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, VersionedValue> local;
+    @Nullable
+    private final Cache remote;
+    @Nullable
+    private final CacheInvalidationPublisher publisher;
+    private final LongSupplier versions;
+    private final Executor refreshExecutor;
+    private final long refreshAfterMillis;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    /** 이 시각(epoch millis) 이전에 쓴 L2 항목은 유형 단위 무효화로 낡은 것으로 본다. */
+    private final AtomicLong remoteNotBefore = new AtomicLong();
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Timer loadTimer;
+
+    TwoLevelCache(String name,
+                  CacheSpec spec,
+                  @Nullable Cache remote,
+                  @Nullable CacheInvalidationPublisher publisher,
+                  LongSupplier versions,
+                  Executor refreshExecutor,
+                  MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.local = Caffeine.newBuilder()
+                .expireAfterWrite(spec.localTtl())
+                .maximumSize(spec.localMaximumSize())
+                .build();
+        this.remote = remote;
+        this.publisher = publisher;
+        this.versions = versions;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshAfterMillis = spec.refreshAfter() != null ? spec.refreshAfter().toMillis() : -1;
+        this.localHits = requests(meterRegistry, "local", "hit");
+        this.localMisses = requests(meterRegistry, "local", "miss");
+        this.remoteHits = requests(meterRegistry, "remote", "hit");
+        this.remoteMisses = requests(meterRegistry, "remote", "miss");
+        this.loadTimer = Timer.builder("cache_two_level_load_ms")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    @Nullable
+    protected Object lookup(Object key) {
+        String cacheKey = keyOf(key);
+        VersionedValue entry = local.getIfPresent(cacheKey);
+        if (entry != null) {
+            localHits.increment();
+            return entry.value();
+        }
+        localMisses.increment();
+        // 읽기와 L1 저장을 한 번의 계산으로 묶어, 그 사이의 evict/원격 무효화가 계산이 끝난 뒤 적용되게 한다.
+        entry = local.get(cacheKey, this::readRemote);
+        return entry != null ? entry.value() : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = keyOf(key);
+        VersionedValue entry = local.getIfPresent(cacheKey);
+        if (entry != null) {
+            localHits.increment();
+            refreshIfStale(cacheKey, key, entry, valueLoader);
+        } else {
+            localMisses.increment();
+            entry = local.get(cacheKey, k -> {
+                VersionedValue remoteEntry = readRemote(k);
+                return remoteEntry != null ? remoteEntry : load(k, key, valueLoader);
+            });
+        }
+        return (T) fromStoreValue(entry.value());
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        String cacheKey = keyOf(key);
+        VersionedValue entry = new VersionedValue(versions.getAsLong(), System.currentTimeMillis(), toStoreValue(value));
+        local.put(cacheKey, entry);
+        writeRemote(cacheKey, entry);
+        publish(cacheKey, entry.version());
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = keyOf(key);
+        // L2를 먼저 지워야 그 사이 L1을 채우는 조회가 옛 L2 값을 다시 읽지 않고, L1은 채우는 중인 조회가 끝난 뒤 지운다.
+        if (remote != null) {
+            try {
+                remote.evict(cacheKey);
+            } catch (RuntimeException ex) {
+                log.warn("Failed to evict {} from remote cache {}", cacheKey, name, ex);
+            }
+        }
+        local.asMap().compute(cacheKey, (k, entry) -> null);
+        publish(cacheKey, versions.getAsLong());
+    }
+
+    @Override
+    public void clear() {
+        clearWithoutBroadcast();
+        publish(null, versions.getAsLong());
+    }
+
+    private void clearWithoutBroadcast() {
+        if (remote != null) {
+            try {
+                remote.clear();
+            } catch (RuntimeException ex) {
+                log.warn("Failed to clear remote cache {}", name, ex);
+            }
+        }
+        local.invalidateAll();
+    }
+
+    /**
+     * 모든 노드가 함께 받는 유형 단위 무효화를 반영한다. 공유 L2는 노드마다 다시 비우지 않고 L1만 비우며,
+     * {@code notBeforeMillis} 이전에 쓴 L2 항목은 이후 읽을 때 미스로 보고 다시 적재해 덮어쓴다.
+     */
+    public void clearLocal(long notBeforeMillis) {
+        remoteNotBefore.accumulateAndGet(notBeforeMillis, Math::max);
+        local.invalidateAll();
+    }
+
+    /**
+     * 다른 노드가 보낸 항목 무효화를 L1에 반영한다. {@code cacheKey}가 null이면 L1 전체를 비운다.
+     * 현재 L1 항목의 버전이 이벤트 버전과 같으면(자기 노드가 쓴 항목) 유지한다. 같은 키를 채우는 중이면 채우기가 끝난 뒤
+     * 판단하도록 {@code compute}를 쓴다({@code getIfPresent}/{@code computeIfPresent}는 채우는 중인 키를 지나친다).
+     */
+    public void invalidateLocal(@Nullable String cacheKey, long version) {
+        if (cacheKey == null) {
+            local.invalidateAll();
+            return;
+        }
+        local.asMap().compute(cacheKey, (k, entry) -> entry != null && entry.version() == version ? entry : null);
+    }
+
+    long localSize() {
+        local.cleanUp();
+        return local.estimatedSize();
+    }
+
+    private void refreshIfStale(String cacheKey, Object key, VersionedValue entry, Callable<?> valueLoader) {
+        if (refreshAfterMillis < 0 || System.currentTimeMillis() - entry.writtenAt() < refreshAfterMillis) {
+            return;
+        }
+        if (!refreshing.add(cacheKey)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    VersionedValue refreshed = loadEntry(key, valueLoader);
+                    // 적재 중에 put/evict/원격 무효화가 있었으면 L1 항목이 바뀌었으므로 그 결과를 덮어쓰지 않는다.
+                    if (local.asMap().replace(cacheKey, entry, refreshed)) {
+                        replaceRemote(cacheKey, entry.version(), refreshed);
+                    }
+                } catch (RuntimeException ex) {
+                    log.warn("Refresh-ahead of {} in cache {} failed", cacheKey, name, ex);
+                } finally {
+                    refreshing.remove(cacheKey);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(cacheKey);
+        }
+    }
+
+    private VersionedValue load(String cacheKey, Object key, Callable<?> valueLoader) {
+        VersionedValue entry = loadEntry(key, valueLoader);
+        writeRemote(cacheKey, entry);
+        return entry;
+    }
+
+    private VersionedValue loadEntry(Object key, Callable<?> valueLoader) {
+        long started = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            loadTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        return new VersionedValue(versions.getAsLong(), System.currentTimeMillis(), toStoreValue(value));
+    }
+
+    @Nullable
+    private VersionedValue readRemote(String cacheKey) {
+        VersionedValue entry = fetchRemote(cacheKey);
+        if (entry != null) {
+            remoteHits.increment();
+        } else {
+            remoteMisses.increment();
+        }
+        return entry;
+    }
+
+    @Nullable
+    private VersionedValue fetchRemote(String cacheKey) {
+        if (remote == null) {
+            return null;
+        }
+        try {
+            ValueWrapper wrapper = remote.get(cacheKey);
+            if (wrapper != null && wrapper.get() instanceof VersionedValue entry
+                    && entry.writtenAt() >= remoteNotBefore.get()) {
+                return entry;
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to read {} from remote cache {}", cacheKey, name, ex);
+        }
+        return null;
+    }
+
+    /**
+     * L2 항목의 버전이 {@code expectedVersion}일 때만 새 항목으로 바꾼다. 그 사이 다른 노드가 쓰거나 지웠으면 건드리지 않는다.
+     * 확인과 쓰기 사이의 짧은 틈은 남지만, 새 항목은 새 버전을 가지므로 그 틈에 보낸 무효화 이벤트가 L1에서 지운다.
+     */
+    private void replaceRemote(String cacheKey, long expectedVersion, VersionedValue entry) {
+        VersionedValue current = fetchRemote(cacheKey);
+        if (current != null && current.version() == expectedVersion) {
+            writeRemote(cacheKey, entry);
+        }
+    }
+
+    private void writeRemote(String cacheKey, VersionedValue entry) {
+        if (remote == null) {
+            return;
+        }
+        try {
+            remote.put(cacheKey, entry);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to write {} to remote cache {}", cacheKey, name, ex);
+        }
+    }
+
+    private void publish(@Nullable String cacheKey, long version) {
+        if (publisher == null) {
+            return;
+        }
+        try {
+            publisher.publish(CacheInvalidationEvent.entry(name, cacheKey, version));
+        } catch (RuntimeException ex) {
+            log.warn("Failed to broadcast invalidation of {} in cache {}", cacheKey, name, ex);
+        }
+    }
+
+    private Counter requests(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache_two_level_requests_total")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * L1/L2와 무효화 이벤트에 쓰는 키. 문자열이 아닌 키는 타입 이름을 붙여 {@code 1L}과 {@code "1"}처럼
+     * 문자열 표현이 같은 서로 다른 키가 한 항목을 공유하지 않게 한다.
+     */
+    static String keyOf(Object key) {
+        return key instanceof String value ? value : key.getClass().getName() + ":" + key;
+    }
+
+    /**
+     * 두 단계에 저장되는 항목. {@code value}는 {@link #toStoreValue(Object)}를 거친 값이다.
+     *
+     * @param version   항목을 쓴 노드가 붙인 버전
+     * @param writtenAt 적재 시각(epoch millis). refresh-ahead 판단에 쓴다.
+     */
+    public record VersionedValue(long version, long writtenAt, Object value) implements Serializable {
+    }
+}
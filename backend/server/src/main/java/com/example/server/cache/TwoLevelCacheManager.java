@@ -0,0 +1,96 @@
+package com.example.server.cache;
+
+import java.security.SecureRandom;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+
+import com.example.common.cache.CacheInvalidationEvent;
+import com.example.common.cache.CacheInvalidationPublisher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 캐시 이름마다 {@link TwoLevelCache}를 만드는 {@link CacheManager}.
+ * <p>
+ * 캐시별 정책은 {@code specResolver}가 정하며, {@code remoteManager}가 없으면 L1만 사용한다.
+ * 항목 버전은 밀리초 시각과 노드 안 순번을 상위 비트에, 노드 식별자를 하위 {@value #NODE_BITS}비트에 둔다.
+ * 노드 안에서 단조 증가하고, 노드 식별자가 다르면 같은 밀리초에 만든 버전도 겹치지 않는다.
+ * 노드 식별자는 기동할 때 무작위로 정한다.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    /** 버전 시각의 기준(2024-01-01T00:00:00Z). 41비트 밀리초로 약 69년을 담는다. */
+    private static final long VERSION_EPOCH_MILLIS = 1_704_067_200_000L;
+
+    private final Function<String, CacheSpec> specResolver;
+    @Nullable
+    private final CacheManager remoteManager;
+    @Nullable
+    private final CacheInvalidationPublisher publisher;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final AtomicLong lastTick = new AtomicLong();
+    private final long nodeId;
+
+    public TwoLevelCacheManager(Collection<String> cacheNames,
+                                Function<String, CacheSpec> specResolver,
+                                @Nullable CacheManager remoteManager,
+                                @Nullable CacheInvalidationPublisher publisher,
+                                Executor refreshExecutor,
+                                MeterRegistry meterRegistry) {
+        this.specResolver = specResolver;
+        this.remoteManager = remoteManager;
+        this.publisher = publisher;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = new SecureRandom().nextInt(1 << NODE_BITS);
+        cacheNames.forEach(this::getCache);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::create);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * 다른 노드가 보낸 항목 무효화 이벤트를 L1에 반영한다. 이 노드에 없는 캐시는 무시한다.
+     */
+    public void onRemoteInvalidation(CacheInvalidationEvent event) {
+        if (event.cacheName() == null) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(event.cacheName());
+        if (cache != null) {
+            cache.invalidateLocal(event.cacheKey(), event.version() != null ? event.version() : 0L);
+        }
+    }
+
+    private TwoLevelCache create(String name) {
+        Cache remote = remoteManager != null ? remoteManager.getCache(name) : null;
+        return new TwoLevelCache(name, specResolver.apply(name), remote, publisher, this::nextVersion,
+                refreshExecutor, meterRegistry);
+    }
+
+    long nextVersion() {
+        long now = (System.currentTimeMillis() - VERSION_EPOCH_MILLIS) << SEQUENCE_BITS;
+        long tick = lastTick.updateAndGet(previous -> Math.max(previous + 1, now));
+        return (tick << NODE_BITS) | nodeId;
+    }
+}
@@ -1,17 +1,18 @@
 package com.example.server.config;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import java.util.List;
-
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
-import org.springframework.cache.support.CompositeCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -19,65 +20,66 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
+import com.example.common.cache.CacheInvalidationPublisher;
 import com.example.common.cache.CacheNames;
-
+import com.example.server.cache.CacheSpec;
+import com.example.server.cache.TwoLevelCacheManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * L1 Caffeine + L2 Redis 2단계 캐시 구성.
+ * <p>
+ * 캐시별 크기·TTL·refresh-ahead는 {@code cache.specs.<cacheName>.*}로 지정하고, 지정하지 않은 값은 전역 기본값을 쓴다.
+ * {@code cache.redis.enabled=false}이면 L1만 사용하며, 항목 단위 무효화는 캐시 무효화 채널이 있을 때 노드 간에 전파된다.
+ */
 @Configuration
 @EnableCaching
 @EnableConfigurationProperties(CacheTtlProperties.class)
 public class CacheConfig {
 
-    @Bean
-    public Caffeine<Object, Object> caffeine(CacheTtlProperties properties) {
-        return Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofSeconds(properties.getLocalTtlSeconds()))
-                .maximumSize(properties.getLocalMaximumSize());
-    }
-
-    @Bean
-    public CaffeineCacheManager caffeineCacheManager(Caffeine<Object, Object> caffeine) {
-        CaffeineCacheManager manager = new CaffeineCacheManager(CacheNames.USER_DETAILS,
-                CacheNames.GREETINGS,
-                CacheNames.ORGANIZATION_POLICIES,
-                CacheNames.USER_ACCOUNTS,
-                CacheNames.LATEST_DW_BATCH,
-                CacheNames.ORGANIZATION_ROW_SCOPE,
-                CacheNames.DW_EMPLOYEES,
-                CacheNames.DW_ORG_TREE,
-                CacheNames.DW_COMMON_CODES,
-                CacheNames.SYSTEM_COMMON_CODES,
-                CacheNames.COMMON_CODE_AGGREGATES);
-        manager.setCaffeine(caffeine);
-        return manager;
-    }
+    static final List<String> CACHE_NAMES = List.of(CacheNames.USER_DETAILS,
+            CacheNames.GREETINGS,
+            CacheNames.ORGANIZATION_POLICIES,
+            CacheNames.USER_ACCOUNTS,
+            CacheNames.LATEST_DW_BATCH,
+            CacheNames.ORGANIZATION_ROW_SCOPE,
+            CacheNames.DW_EMPLOYEES,
+            CacheNames.DW_ORG_TREE,
+            CacheNames.DW_COMMON_CODES,
+            CacheNames.SYSTEM_COMMON_CODES,
+            CacheNames.COMMON_CODE_AGGREGATES);
 
     @Bean
     @ConditionalOnProperty(prefix = "cache.redis", name = "enabled", havingValue = "true")
     public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
                                                CacheTtlProperties properties) {
-        RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofSeconds(properties.getRedisTtlSeconds()));
+        Map<String, RedisCacheConfiguration> perCache = new LinkedHashMap<>();
+        for (String name : properties.getSpecs().keySet()) {
+            perCache.put(name, defaults.entryTtl(properties.resolve(name).remoteTtl()));
+        }
         return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(configuration)
+                .cacheDefaults(defaults)
+                .withInitialCacheConfigurations(perCache)
                 .build();
     }
 
     @Bean
     @Primary
-    public CacheManager cacheManager(CaffeineCacheManager caffeineCacheManager,
-                                     ObjectProvider<RedisCacheManager> redisCacheManager) {
-        CacheManager[] managers = redisCacheManager.stream().toArray(CacheManager[]::new);
-        CompositeCacheManager compositeCacheManager;
-        if (managers.length > 0) {
-            CacheManager[] ordered = new CacheManager[managers.length + 1];
-            System.arraycopy(managers, 0, ordered, 0, managers.length);
-            ordered[managers.length] = caffeineCacheManager;
-            compositeCacheManager = new CompositeCacheManager(ordered);
-        } else {
-            compositeCacheManager = new CompositeCacheManager(caffeineCacheManager);
-        }
-        compositeCacheManager.setFallbackToNoOpCache(false);
-        return compositeCacheManager;
+    public TwoLevelCacheManager cacheManager(CacheTtlProperties properties,
+                                             ObjectProvider<RedisCacheManager> redisCacheManager,
+                                             ObjectProvider<CacheInvalidationPublisher> invalidationPublisher,
+                                             @Qualifier("applicationTaskExecutor") ObjectProvider<Executor> refreshExecutor,
+                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TwoLevelCacheManager(CACHE_NAMES,
+                properties::resolve,
+                redisCacheManager.getIfAvailable(),
+                invalidationPublisher.getIfAvailable(),
+                refreshExecutor.getIfAvailable(ForkJoinPool::commonPool),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
     }
 }
 
@@ -87,6 +89,8 @@ class CacheTtlProperties {
     private long localTtlSeconds = 300;
     private long redisTtlSeconds = 600;
     private long localMaximumSize = 10_000;
+    /** 캐시 이름별 정책. 비워 둔 값은 위 전역 기본값을 쓴다. */
+    private Map<String, Spec> specs = new LinkedHashMap<>();
 
     public long getLocalTtlSeconds() {
         return localTtlSeconds;
@@ -111,4 +115,61 @@ class CacheTtlProperties {
     public void setLocalMaximumSize(long localMaximumSize) {
         this.localMaximumSize = localMaximumSize;
     }
+
+    public Map<String, Spec> getSpecs() {
+        return specs;
+    }
+
+    public void setSpecs(Map<String, Spec> specs) {
+        this.specs = specs;
+    }
+
+    CacheSpec resolve(String cacheName) {
+        Spec spec = specs.getOrDefault(cacheName, new Spec());
+        return new CacheSpec(
+                spec.getLocalTtl() != null ? spec.getLocalTtl() : Duration.ofSeconds(localTtlSeconds),
+                spec.getLocalMaximumSize() != null ? spec.getLocalMaximumSize() : localMaximumSize,
+                spec.getRedisTtl() != null ? spec.getRedisTtl() : Duration.ofSeconds(redisTtlSeconds),
+                spec.getRefreshAfter());
+    }
+
+    static class Spec {
+
+        private Duration localTtl;
+        private Long localMaximumSize;
+        private Duration redisTtl;
+        private Duration refreshAfter;
+
+        public Duration getLocalTtl() {
+            return localTtl;
+        }
+
+        public void setLocalTtl(Duration localTtl) {
+            this.localTtl = localTtl;
+        }
+
+        public Long getLocalMaximumSize() {
+            return localMaximumSize;
+        }
+
+        public void setLocalMaximumSize(Long localMaximumSize) {
+            this.localMaximumSize = localMaximumSize;
+        }
+
+        public Duration getRedisTtl() {
+            return redisTtl;
+        }
+
+        public void setRedisTtl(Duration redisTtl) {
+            this.redisTtl = redisTtl;
+        }
+
+        public Duration getRefreshAfter() {
+            return refreshAfter;
+        }
+
+        public void setRefreshAfter(Duration refreshAfter) {
+            this.refreshAfter = refreshAfter;
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package com.example.server.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.example.auth.security.BucketedTokenBlacklistService;
+import com.example.auth.security.JwtProperties;
+import com.example.server.security.RedisTokenBlacklistStore;
+import com.example.server.security.RedisTokenBlacklistSubscriber;
+
+/**
+ * {@code security.jwt.blacklist.store=redis}일 때 노드 간 공유 토큰 블랙리스트를 구성한다.
+ * <p>
+ * 추가 알림 구독은 캐시 무효화와 같은 {@link RedisMessageListenerContainer}를 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "security.jwt.blacklist", name = "store", havingValue = "redis")
+public class TokenBlacklistConfig {
+
+    @Bean
+    public RedisTokenBlacklistStore redisTokenBlacklistStore(StringRedisTemplate redisTemplate,
+                                                             JwtProperties jwtProperties) {
+        return new RedisTokenBlacklistStore(redisTemplate, jwtProperties.getBlacklist());
+    }
+
+    @Bean
+    public BucketedTokenBlacklistService tokenBlacklistService(RedisTokenBlacklistStore store,
+                                                               JwtProperties jwtProperties) {
+        return new BucketedTokenBlacklistService(store, jwtProperties.getBlacklist());
+    }
+
+    @Bean
+    public RedisTokenBlacklistSubscriber redisTokenBlacklistSubscriber(BucketedTokenBlacklistService blacklistService,
+                                                                       JwtProperties jwtProperties,
+                                                                       RedisMessageListenerContainer container) {
+        RedisTokenBlacklistSubscriber subscriber = new RedisTokenBlacklistSubscriber(blacklistService);
+        container.addMessageListener(subscriber, new ChannelTopic(jwtProperties.getBlacklist().getChannel()));
+        return subscriber;
+    }
+}
@@ -1,8 +1,9 @@
 package com.example.server.export;
 
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -10,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import lombok.RequiredArgsConstructor;
@@ -18,64 +20,72 @@ import com.example.common.masking.MaskingContextHolder;
 import com.example.common.masking.MaskingTarget;
 import com.example.dw.application.dto.ExportCommand;
 import com.example.dw.application.export.ExportExecutionHelper;
+import com.example.dw.application.export.ExportRowSource;
+import com.example.dw.domain.HrEmployeeEntity;
 import com.example.dw.infrastructure.persistence.HrEmployeeRepository;
 
 /**
- * data-integration 모듈의 HR 데이터를 실제 ExportExecutionHelper/ExportAuditService로 연결한 예시 엔드포인트.
- * 실운영 시 페이징/필터/대량 스트리밍으로 확장 가능.
+ * data-integration 모듈의 HR 데이터를 ExportExecutionHelper/ExportAuditService로 연결한 스트리밍 CSV 엔드포인트.
+ * id keyset 페이지 단위로 읽어 응답 스트림에 바로 쓰므로 건수와 무관하게 메모리 사용량이 일정하다.
  */
 @RestController
 @Tag(name = "HR Export", description = "HR 직원 데이터 Export API")
 @RequiredArgsConstructor
 public class HrEmployeeExportController {
 
+    static final int PAGE_SIZE = 1000;
+    private static final List<String> HEADERS = List.of(
+            "employeeId", "fullName", "organizationCode", "employmentType", "employmentStatus", "email");
+
     private final HrEmployeeRepository hrEmployeeRepository;
     private final ExportExecutionHelper exportExecutionHelper;
 
     @GetMapping("/api/exports/hr-employees")
-    public ResponseEntity<byte[]> exportHrEmployees(@RequestParam(name = "limit", defaultValue = "100") int limit,
-                                                    @RequestParam(name = "reasonCode") String reasonCode,
-                                                    @RequestParam(name = "reasonText", required = false) String reasonText,
-                                                    @RequestParam(name = "legalBasisCode", required = false) String legalBasisCode,
-                                                    @RequestParam(name = "forceUnmask", required = false, defaultValue = "false") boolean forceUnmask) {
-        MaskingTarget target = MaskingContextHolder.get();
-        if (target == null) {
-            target = MaskingTarget.builder().defaultMask(true).build();
-        }
-        if (forceUnmask) {
-            target = target.toBuilder().forceUnmask(true).build();
-        }
-
-        var employees = hrEmployeeRepository.findAll().stream()
-                .limit(Math.max(limit, 0))
-                .map(e -> Map.<String, Object>of(
-                        "employeeId", e.getEmployeeId(),
-                        "fullName", e.getFullName(),
-                        "organizationCode", e.getOrganizationCode(),
-                        "employmentType", e.getEmploymentType(),
-                        "employmentStatus", e.getEmploymentStatus(),
-                        "email", e.getEmail()))
-                .collect(Collectors.toList());
+    public ResponseEntity<StreamingResponseBody> exportHrEmployees(@RequestParam(name = "limit", defaultValue = "100") long limit,
+                                                                   @RequestParam(name = "reasonCode") String reasonCode,
+                                                                   @RequestParam(name = "reasonText", required = false) String reasonText,
+                                                                   @RequestParam(name = "legalBasisCode", required = false) String legalBasisCode,
+                                                                   @RequestParam(name = "forceUnmask", required = false, defaultValue = "false") boolean forceUnmask,
+                                                                   @RequestParam(name = "gzip", required = false, defaultValue = "false") boolean gzip) {
+        // 본문은 다른 스레드에서 쓰이므로 마스킹 대상은 요청 스레드에서 미리 확정한다.
+        MaskingTarget contextTarget = MaskingContextHolder.get();
+        MaskingTarget resolved = contextTarget != null ? contextTarget : MaskingTarget.builder().defaultMask(true).build();
+        MaskingTarget target = forceUnmask ? resolved.toBuilder().forceUnmask(true).build() : resolved;
+        String fileName = gzip ? "hr_employees.csv.gz" : "hr_employees.csv";
 
         ExportCommand command = new ExportCommand(
                 "csv",
-                "hr_employees.csv",
-                employees.size(),
+                fileName,
+                0,
                 Map.of("source", "hr-employees"),
                 reasonCode,
                 reasonText,
                 legalBasisCode,
                 com.example.audit.AuditMode.ASYNC_FALLBACK);
+        ExportRowSource rows = ExportRowSource.keyset(
+                hrEmployeeRepository::findPageAfter,
+                HrEmployeeEntity::getId,
+                HrEmployeeExportController::toRow,
+                PAGE_SIZE,
+                limit);
 
-        byte[] body = exportExecutionHelper.exportCsv(
-                command,
-                employees,
-                target,
-                true);
+        StreamingResponseBody body = out -> exportExecutionHelper.streamCsv(
+                command, HEADERS, rows, target, true, out, gzip);
 
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"hr_employees.csv\"")
-                .contentType(MediaType.TEXT_PLAIN)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : new MediaType("text", "csv", StandardCharsets.UTF_8))
                 .body(body);
     }
+
+    private static Map<String, Object> toRow(HrEmployeeEntity e) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("employeeId", e.getEmployeeId());
+        row.put("fullName", e.getFullName());
+        row.put("organizationCode", e.getOrganizationCode());
+        row.put("employmentType", e.getEmploymentType());
+        row.put("employmentStatus", e.getEmploymentStatus());
+        row.put("email", e.getEmail());
+        return row;
+    }
 }
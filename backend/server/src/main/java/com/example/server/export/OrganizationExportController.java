@@ -1,5 +1,7 @@
 package com.example.server.export;
 
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -10,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import lombok.RequiredArgsConstructor;
@@ -17,20 +20,27 @@ import lombok.RequiredArgsConstructor;
 import com.example.common.masking.MaskingContextHolder;
 import com.example.common.masking.MaskingTarget;
 import com.example.dw.application.dto.ExportCommand;
+import com.example.dw.application.export.ExportExecutionHelper;
+import com.example.dw.application.export.ExportRowSource;
 import com.example.dw.application.export.writer.ExportWriterService;
+import com.example.dw.domain.HrOrganizationEntity;
 import com.example.dw.infrastructure.persistence.HrOrganizationRepository;
 
 /**
- * 조직 대량 Export (Excel/PDF) 예시 엔드포인트.
- * ExportCommand + ExportWriterService 경로로 Audit/마스킹을 일관 적용한다.
+ * 조직 대량 Export (Excel/PDF/CSV) 예시 엔드포인트.
+ * ExportCommand + ExportWriterService 경로로 Audit/마스킹을 일관 적용한다. CSV는 keyset 페이지 단위로 응답 스트림에 바로 쓴다.
  */
 @RestController
 @Tag(name = "Organization Export", description = "조직 Export API")
 @RequiredArgsConstructor
 public class OrganizationExportController {
 
+    private static final int PAGE_SIZE = 1000;
+    private static final List<String> CSV_HEADERS = List.of("orgCode", "orgName", "parentCode");
+
     private final HrOrganizationRepository organizationRepository;
     private final ExportWriterService exportWriterService;
+    private final ExportExecutionHelper exportExecutionHelper;
 
     @SuppressWarnings("unchecked")
     @GetMapping("/api/exports/orgs/excel")
@@ -94,6 +104,40 @@ public class OrganizationExportController {
                 .body(body);
     }
 
+    @GetMapping("/api/exports/orgs/csv")
+    public ResponseEntity<StreamingResponseBody> exportOrgsCsv(@RequestParam(name = "limit", defaultValue = "100") long limit,
+                                                               @RequestParam String reasonCode,
+                                                               @RequestParam(required = false) String reasonText,
+                                                               @RequestParam(required = false) String legalBasisCode,
+                                                               @RequestParam(defaultValue = "false") boolean forceUnmask,
+                                                               @RequestParam(defaultValue = "false") boolean gzip) {
+        MaskingTarget target = defaultTarget(forceUnmask);
+        String fileName = gzip ? "organizations.csv.gz" : "organizations.csv";
+
+        ExportCommand cmd = new ExportCommand("csv", fileName, 0,
+                Map.of("source", "org-export"), reasonCode, reasonText, legalBasisCode,
+                com.example.audit.AuditMode.ASYNC_FALLBACK);
+        ExportRowSource rows = ExportRowSource.keyset(
+                organizationRepository::findPageAfter,
+                HrOrganizationEntity::getId,
+                o -> {
+                    Map<String, Object> row = new HashMap<>();
+                    row.put("orgCode", o.getOrganizationCode());
+                    row.put("orgName", o.getName());
+                    row.put("parentCode", o.getParentOrganizationCode());
+                    return row;
+                },
+                PAGE_SIZE,
+                limit);
+
+        StreamingResponseBody body = out -> exportExecutionHelper.streamCsv(cmd, CSV_HEADERS, rows, target, true, out, gzip);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
     private MaskingTarget defaultTarget(boolean forceUnmask) {
         MaskingTarget target = MaskingContextHolder.get();
         if (target == null) {
@@ -0,0 +1,224 @@
+package com.example.server.file;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.example.common.file.FileDownload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 파일 다운로드 응답을 직접 쓴다.
+ * <p>
+ * 버전 체크섬(SHA-256)을 강한 ETag로 내려 {@code If-None-Match}에는 304로, {@code Range}에는 206(여러 구간이면
+ * {@code multipart/byteranges})으로 답한다. {@code If-Range}가 현재 ETag와 다르면 전체를 보낸다.
+ * 로컬 파일의 단일 구간은 컨테이너가 sendfile을 지원하면 위임하고, 아니면 {@link FileChannel#transferTo}로 보낸다.
+ * <p>
+ * 응답 상태는 본문을 쓰기 전에 메타데이터(ETag)와 요청 헤더만으로 정하며, 다운로드 기록은 호출자가 넘긴
+ * 콜백으로 그 시점에 한 번 남긴다.
+ */
+public final class FileDownloadResponder {
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CRLF = "\r\n";
+
+    private FileDownloadResponder() {}
+
+    public static void write(HttpServletRequest request,
+                             HttpServletResponse response,
+                             FileDownload download,
+                             MediaType contentType,
+                             String contentDisposition) throws IOException {
+        write(request, response, download, contentType, contentDisposition, () -> {
+        });
+    }
+
+    /**
+     * @param onDelivery 본문을 내려주기로 정해졌을 때 본문을 쓰기 전에 호출한다. 전체(200) 응답과 0번째 바이트를 포함한
+     *                   구간(206) 응답에서만 호출하므로, 304·416·HEAD와 같은 파일을 이어받는 뒤쪽 구간 요청은 기록되지 않는다.
+     */
+    public static void write(HttpServletRequest request,
+                             HttpServletResponse response,
+                             FileDownload download,
+                             MediaType contentType,
+                             String contentDisposition,
+                             Runnable onDelivery) throws IOException {
+        Resource resource = download.resource();
+        String checksum = download.metadata().checksum();
+        String etag = checksum != null ? "\"" + checksum + "\"" : null;
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+                return;
+            }
+        }
+
+        long length = resource.contentLength();
+        boolean head = HttpMethod.HEAD.matches(request.getMethod());
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !rangeApplies(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(contentType.toString());
+            response.setContentLengthLong(length);
+            if (!head) {
+                onDelivery.run();
+                transfer(request, response, resource, 0, length);
+            }
+            return;
+        }
+
+        List<ResourceRegion> regions;
+        try {
+            regions = HttpRange.toResourceRegions(HttpRange.parseRanges(rangeHeader), resource);
+        }
+        catch (IllegalArgumentException ex) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            return;
+        }
+        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+        if (!head && regions.stream().anyMatch(region -> region.getPosition() == 0)) {
+            onDelivery.run();
+        }
+        if (regions.size() == 1) {
+            ResourceRegion region = regions.get(0);
+            response.setContentType(contentType.toString());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(region, length));
+            response.setContentLengthLong(region.getCount());
+            if (!head) {
+                transfer(request, response, resource, region.getPosition(), region.getCount());
+            }
+            return;
+        }
+        writeMultipart(response, resource, regions, contentType, length, head);
+    }
+
+    /** {@code If-Range}가 없거나 현재 ETag와 강하게 일치할 때만 구간 요청을 따른다. 날짜 형식은 비교할 수 없으므로 무시한다. */
+    private static boolean rangeApplies(String ifRange, String etag) {
+        if (ifRange == null) {
+            return true;
+        }
+        return etag != null && etag.equals(ifRange.trim());
+    }
+
+    private static void writeMultipart(HttpServletResponse response,
+                                       Resource resource,
+                                       List<ResourceRegion> regions,
+                                       MediaType contentType,
+                                       long length,
+                                       boolean head) throws IOException {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        List<byte[]> partHeaders = new ArrayList<>(regions.size());
+        long total = 0;
+        for (ResourceRegion region : regions) {
+            byte[] header = (CRLF + "--" + boundary + CRLF
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + CRLF
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(region, length) + CRLF + CRLF)
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(header);
+            total += header.length + region.getCount();
+        }
+        byte[] trailer = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII);
+        total += trailer.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(total);
+        if (head) {
+            return;
+        }
+        OutputStream out = response.getOutputStream();
+        File file = resource.isFile() ? resource.getFile() : null;
+        try (FileChannel channel = file != null ? FileChannel.open(file.toPath(), StandardOpenOption.READ) : null) {
+            WritableByteChannel target = channel != null ? Channels.newChannel(out) : null;
+            for (int i = 0; i < regions.size(); i++) {
+                ResourceRegion region = regions.get(i);
+                out.write(partHeaders.get(i));
+                if (channel != null) {
+                    transferTo(channel, region.getPosition(), region.getCount(), target);
+                }
+                else {
+                    copyRange(resource, out, region.getPosition(), region.getCount());
+                }
+            }
+        }
+        out.write(trailer);
+        out.flush();
+    }
+
+    private static void transfer(HttpServletRequest request,
+                                 HttpServletResponse response,
+                                 Resource resource,
+                                 long position,
+                                 long count) throws IOException {
+        if (!resource.isFile()) {
+            copyRange(resource, response.getOutputStream(), position, count);
+            return;
+        }
+        File file = resource.getFile();
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 컨테이너가 서블릿 반환 뒤 커널 sendfile로 보낸다. 응답 본문에는 아무것도 쓰지 않아야 한다.
+            request.setAttribute(SENDFILE_FILENAME, file.getAbsolutePath());
+            request.setAttribute(SENDFILE_START, position);
+            request.setAttribute(SENDFILE_END, position + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            transferTo(channel, position, count, Channels.newChannel(response.getOutputStream()));
+        }
+    }
+
+    private static void transferTo(FileChannel channel, long position, long count, WritableByteChannel target)
+            throws IOException {
+        long sent = 0;
+        while (sent < count) {
+            long written = channel.transferTo(position + sent, count - sent, target);
+            if (written <= 0) {
+                throw new EOFException("파일이 예상보다 짧습니다: " + (position + sent));
+            }
+            sent += written;
+        }
+    }
+
+    private static void copyRange(Resource resource, OutputStream out, long position, long count) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            StreamUtils.copyRange(in, out, position, position + count - 1);
+        }
+    }
+
+    private static String contentRange(ResourceRegion region, long length) {
+        return "bytes " + region.getPosition() + "-" + (region.getPosition() + region.getCount() - 1) + "/" + length;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.server.readmodel;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.admin.user.domain.UserAccount;
+import com.example.admin.user.service.UserAccountService;
+import com.example.dw.application.readmodel.PermissionMenuReadModel;
+import com.example.dw.application.readmodel.PermissionMenuReadModelSource;
+
+/**
+ * 활성 사용자 전체의 메뉴 Read Model을 미리 계산한다.
+ * <p>
+ * 사용자를 {@link PermissionMenuReadModelSource#permissionSetKey} 기준으로 묶어 묶음마다 snapshot을 한 번만 만들고,
+ * 결과 모델의 내용 해시에 묶음의 사용자를 한꺼번에 연결한다. 따라서 비용은 사용자 수가 아니라 서로 다른 권한 묶음 수에 비례한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "readmodel.permission-menu", name = "enabled", havingValue = "true")
+public class PermissionMenuPrecomputeService {
+
+    private static final Logger log = LoggerFactory.getLogger(PermissionMenuPrecomputeService.class);
+
+    /** 사전 계산 결과. {@code models}는 서로 다른 모델(내용 해시) 수다. */
+    public record PrecomputeResult(int principals, int permissionSets, int models, int failedSets, long elapsedMs) {
+    }
+
+    private final UserAccountService userAccountService;
+    private final PermissionMenuReadModelSource source;
+    private final RedisPermissionMenuReadModelPort port;
+    private final PermissionMenuReadModelProperties properties;
+
+    public PermissionMenuPrecomputeService(UserAccountService userAccountService,
+                                           PermissionMenuReadModelSource source,
+                                           RedisPermissionMenuReadModelPort port,
+                                           PermissionMenuReadModelProperties properties) {
+        this.userAccountService = userAccountService;
+        this.source = source;
+        this.port = port;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void precomputeOnStartup() {
+        if (properties.isPrecomputeOnStartup()) {
+            precomputeAll();
+        }
+    }
+
+    /** {@code readmodel.permission-menu.precompute-cron}이 없으면 실행하지 않는다. */
+    @Scheduled(cron = "${readmodel.permission-menu.precompute-cron:-}")
+    public void precomputeOnSchedule() {
+        precomputeAll();
+    }
+
+    public PrecomputeResult precomputeAll() {
+        long started = System.nanoTime();
+        Map<String, List<String>> principalsBySet = groupActivePrincipals();
+        Set<String> versions = new HashSet<>();
+        int principals = 0;
+        int failedSets = 0;
+        for (Map.Entry<String, List<String>> entry : principalsBySet.entrySet()) {
+            List<String> members = entry.getValue();
+            principals += members.size();
+            try {
+                PermissionMenuReadModel model = port.store(source.snapshot(members.get(0)));
+                port.assign(members, model.version());
+                versions.add(model.version());
+            } catch (RuntimeException ex) {
+                failedSets++;
+                log.warn("Failed to precompute permission menu for set={} ({} principals)", entry.getKey(), members.size(), ex);
+            }
+        }
+        PrecomputeResult result = new PrecomputeResult(principals, principalsBySet.size(), versions.size(), failedSets,
+                (System.nanoTime() - started) / 1_000_000);
+        log.info("Precomputed permission menus: {}", result);
+        return result;
+    }
+
+    private Map<String, List<String>> groupActivePrincipals() {
+        Specification<UserAccount> active = (root, query, cb) -> cb.isTrue(root.get("active"));
+        Map<String, List<String>> principalsBySet = new LinkedHashMap<>();
+        PageRequest pageRequest = PageRequest.of(0, properties.getPrecomputePageSize(), Sort.by("username"));
+        Page<UserAccount> page;
+        do {
+            page = userAccountService.findAll(active, pageRequest);
+            for (UserAccount account : page.getContent()) {
+                principalsBySet.computeIfAbsent(source.permissionSetKey(account), key -> new ArrayList<>())
+                        .add(account.getUsername());
+            }
+            pageRequest = pageRequest.next();
+        } while (page.hasNext());
+        return principalsBySet;
+    }
+}
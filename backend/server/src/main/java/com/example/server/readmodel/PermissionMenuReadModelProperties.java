@@ -12,6 +12,12 @@ public class PermissionMenuReadModelProperties {
     private String tenantId = "default";
     private boolean refreshOnMiss = true;
     private Duration ttl = Duration.ofMinutes(10);
+    /** 노드 로컬에 보관할 모델(내용 해시) 수. */
+    private long modelCacheSize = 1_000;
+    /** 기동 직후 전체 사용자 메뉴를 미리 계산할지 여부. */
+    private boolean precomputeOnStartup = false;
+    /** 사전 계산 시 사용자 조회 페이지 크기. */
+    private int precomputePageSize = 500;
 
     public boolean isEnabled() {
         return enabled;
@@ -52,4 +58,28 @@ public class PermissionMenuReadModelProperties {
     public void setTtl(Duration ttl) {
         this.ttl = ttl;
     }
+
+    public long getModelCacheSize() {
+        return modelCacheSize;
+    }
+
+    public void setModelCacheSize(long modelCacheSize) {
+        this.modelCacheSize = modelCacheSize;
+    }
+
+    public boolean isPrecomputeOnStartup() {
+        return precomputeOnStartup;
+    }
+
+    public void setPrecomputeOnStartup(boolean precomputeOnStartup) {
+        this.precomputeOnStartup = precomputeOnStartup;
+    }
+
+    public int getPrecomputePageSize() {
+        return precomputePageSize;
+    }
+
+    public void setPrecomputePageSize(int precomputePageSize) {
+        this.precomputePageSize = precomputePageSize;
+    }
 }
@@ -51,10 +51,7 @@ public class PermissionMenuReadModelSourceImpl implements PermissionMenuReadMode
     @Override
     public PermissionMenuReadModel snapshot(String principalId) {
         UserAccountInfo account = userAccountProvider.getByUsernameOrThrow(principalId);
-        String groupCode = account.getPermissionGroupCode();
-        if (groupCode == null) {
-            groupCode = DEFAULT_PERMISSION_GROUP;
-        }
+        String groupCode = groupCodeOf(account);
         PermissionGroup group = permissionGroupService.getByCodeOrThrow(groupCode);
 
         List<MenuTreeNode> menuTree = permissionMenuService.getMenuTree(groupCode);
@@ -74,6 +71,19 @@ public class PermissionMenuReadModelSourceImpl implements PermissionMenuReadMode
                 items);
     }
 
+    /**
+     * 메뉴는 권한 그룹만으로 결정되므로 권한 그룹 코드가 곧 묶음 키다.
+     */
+    @Override
+    public String permissionSetKey(UserAccountInfo account) {
+        return "group:" + groupCodeOf(account);
+    }
+
+    private static String groupCodeOf(UserAccountInfo account) {
+        String groupCode = account.getPermissionGroupCode();
+        return groupCode != null ? groupCode : DEFAULT_PERMISSION_GROUP;
+    }
+
     /**
      * 메뉴를 사용자 권한으로 필터링하여 추가한다.
      */
@@ -7,35 +7,41 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import com.example.admin.permission.event.PermissionSetChangedEvent;
-import com.example.dw.application.readmodel.OrganizationReadModelPort;
 import com.example.dw.application.readmodel.MenuReadModelPort;
 import com.example.dw.application.readmodel.PermissionMenuReadModelPort;
+import com.example.server.readmodel.ReadModelRebuildScheduler.Model;
+import com.example.server.readmodel.ReadModelRebuildScheduler.Priority;
 
+/**
+ * 권한 변경 시 메뉴 계열 Read Model을 다시 만든다. 조직 Read Model은 권한과 무관하므로 건드리지 않는다.
+ * {@link ReadModelRebuildScheduler}가 있으면 요청만 넣어 연속된 변경을 한 번의 재생성으로 합친다.
+ */
 @Component
 public class PermissionSetChangedListener {
 
     private static final Logger log = LoggerFactory.getLogger(PermissionSetChangedListener.class);
 
-    private final OrganizationReadModelPort organizationReadModelPort;
     private final MenuReadModelPort menuReadModelPort;
     private final PermissionMenuReadModelPort permissionMenuReadModelPort;
+    private final ReadModelRebuildScheduler rebuildScheduler;
 
-    public PermissionSetChangedListener(@Nullable OrganizationReadModelPort organizationReadModelPort,
-                                        @Nullable MenuReadModelPort menuReadModelPort,
-                                        @Nullable PermissionMenuReadModelPort permissionMenuReadModelPort) {
-        this.organizationReadModelPort = organizationReadModelPort;
+    public PermissionSetChangedListener(@Nullable MenuReadModelPort menuReadModelPort,
+                                        @Nullable PermissionMenuReadModelPort permissionMenuReadModelPort,
+                                        @Nullable ReadModelRebuildScheduler rebuildScheduler) {
         this.menuReadModelPort = menuReadModelPort;
         this.permissionMenuReadModelPort = permissionMenuReadModelPort;
+        this.rebuildScheduler = rebuildScheduler;
     }
 
     @EventListener
     public void onPermissionChanged(PermissionSetChangedEvent event) {
-        if (organizationReadModelPort == null || !organizationReadModelPort.isEnabled()) {
-            log.debug("Organization read model disabled; skipping rebuild on permission change");
+        if (rebuildScheduler != null) {
+            rebuildScheduler.request(Model.MENU, null, Priority.NORMAL);
+            if (event.principalId() != null) {
+                rebuildScheduler.request(Model.PERMISSION_MENU, event.principalId(), Priority.NORMAL);
+            }
             return;
         }
-        organizationReadModelPort.rebuild();
-        log.info("Organization read model rebuilt due to permission change (principal={})", event.principalId());
 
         if (menuReadModelPort != null && menuReadModelPort.isEnabled()) {
             menuReadModelPort.rebuild();
@@ -0,0 +1,293 @@
+package com.example.server.readmodel;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Read model 재생성 요청을 (모델, principal) 단위로 모아 비동기로 실행한다.
+ * <p>
+ * 같은 키의 요청은 {@code readmodel.worker.debounce} 동안 하나로 합쳐지며, 창이 끝나면 우선순위 큐를 가진
+ * 고정 크기 스레드 풀에 들어간다. 키마다 요청 세대를 세어 두고, 실행 시점에 더 새 요청이 대기 중이거나
+ * 이미 더 최신 세대로 재생성됐으면 그 작업은 버린다. 큐 깊이는 서로 다른 키 수를 넘지 않는다.
+ * <p>
+ * 같은 키는 동시에 두 번 실행하지 않는다. 실행 중에 같은 키 작업이 나오면 미뤄 두었다가 실행이 끝난 뒤 다시 큐에
+ * 넣으므로, 먼저 시작한 재생성이 나중 결과를 덮어쓰지 않는다. 대기·실행 중인 작업이 없는 키의 상태는 지운다.
+ */
+public class ReadModelRebuildScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadModelRebuildScheduler.class);
+
+    public enum Model {
+        ORGANIZATION, MENU, PERMISSION_MENU
+    }
+
+    /** 선언 순서가 곧 실행 순서다. */
+    public enum Priority {
+        HIGH, NORMAL, LOW
+    }
+
+    public record RebuildStats(int queueDepth,
+                               int debouncing,
+                               int running,
+                               long completed,
+                               long coalesced,
+                               long dropped,
+                               long failed,
+                               Map<Model, Long> lastRebuildMs) {
+    }
+
+    private record Key(Model model, @Nullable String principalId) {
+    }
+
+    /** {@code requested} 외의 필드는 인스턴스 모니터로 보호한다. */
+    private static final class KeyState {
+        private final AtomicLong requested = new AtomicLong();
+        /** 재생성에 성공한 최신 세대. */
+        private long completed;
+        /** 성공·실패와 관계없이 실행을 마친 최신 세대. 상태 정리 판단에 쓴다. */
+        private long settled;
+        private int queued;
+        private boolean active;
+        /** 실행 중에 나온 같은 키 작업. 실행이 끝나면 다시 큐에 넣는다. */
+        @Nullable
+        private RebuildTask deferred;
+
+        private boolean idle() {
+            return !active && queued == 0 && deferred == null && requested.get() <= settled;
+        }
+    }
+
+    private final ReadModelWorker worker;
+    private final long debounceMillis;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService timer;
+    private final ThreadPoolExecutor executor;
+    private final Map<Key, KeyState> states = new ConcurrentHashMap<>();
+    private final Map<Key, Priority> debouncing = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger running = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Map<Model, AtomicLong> lastRebuildMs = new EnumMap<>(Model.class);
+
+    public ReadModelRebuildScheduler(ReadModelWorker worker,
+                                     ReadModelWorkerProperties properties,
+                                     MeterRegistry meterRegistry) {
+        Assert.isTrue(properties.getThreads() > 0, "readmodel.worker.threads must be positive");
+        this.worker = worker;
+        this.debounceMillis = properties.getDebounce().toMillis();
+        this.meterRegistry = meterRegistry;
+        CustomizableThreadFactory timerThreads = new CustomizableThreadFactory("readmodel-debounce-");
+        timerThreads.setDaemon(true);
+        this.timer = Executors.newSingleThreadScheduledExecutor(timerThreads);
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(), 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), new CustomizableThreadFactory("readmodel-rebuild-"));
+        for (Model model : Model.values()) {
+            lastRebuildMs.put(model, new AtomicLong(-1));
+        }
+        Gauge.builder("readmodel_rebuild_queue_depth", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재생성을 요청한다. 대기 중인 같은 키의 요청이 있으면 합치고, 우선순위는 더 높은 쪽을 따른다.
+     *
+     * @param principalId {@link Model#PERMISSION_MENU}일 때만 사용한다
+     */
+    public void request(Model model, @Nullable String principalId, Priority priority) {
+        Key key = new Key(model, model == Model.PERMISSION_MENU ? principalId : null);
+        if (key.model() == Model.PERMISSION_MENU && key.principalId() == null) {
+            return;
+        }
+        // 정리(computeIfPresent)와 같은 키 단위로 직렬화되도록 compute 안에서 세대를 올린다.
+        states.compute(key, (ignored, current) -> {
+            KeyState state = current != null ? current : new KeyState();
+            state.requested.incrementAndGet();
+            return state;
+        });
+        boolean[] fresh = {false};
+        debouncing.compute(key, (ignored, current) -> {
+            if (current == null) {
+                fresh[0] = true;
+                return priority;
+            }
+            return current.ordinal() <= priority.ordinal() ? current : priority;
+        });
+        if (fresh[0]) {
+            timer.schedule(() -> enqueue(key), debounceMillis, TimeUnit.MILLISECONDS);
+            meterRegistry.counter("readmodel_rebuild_requests_total", "model", model.name(), "result", "scheduled").increment();
+        } else {
+            coalesced.increment();
+            meterRegistry.counter("readmodel_rebuild_requests_total", "model", model.name(), "result", "coalesced").increment();
+        }
+    }
+
+    public RebuildStats stats() {
+        Map<Model, Long> latencies = new EnumMap<>(Model.class);
+        lastRebuildMs.forEach((model, value) -> latencies.put(model, value.get()));
+        return new RebuildStats(executor.getQueue().size(), debouncing.size(), running.get(),
+                completed.sum(), coalesced.sum(), dropped.sum(), failed.sum(), latencies);
+    }
+
+    public void shutdown() {
+        timer.shutdownNow();
+        executor.shutdown();
+    }
+
+    private void enqueue(Key key) {
+        Priority priority = debouncing.remove(key);
+        if (priority == null) {
+            return;
+        }
+        // 요청 직후 앞선 재생성이 그 요청까지 반영하고 상태를 지웠다면 새 상태(세대 0)로 들어가 실행 시점에 버려진다.
+        long[] generation = {0};
+        states.compute(key, (ignored, current) -> {
+            KeyState state = current != null ? current : new KeyState();
+            synchronized (state) {
+                generation[0] = state.requested.get();
+                state.queued++;
+            }
+            return state;
+        });
+        executor.execute(new RebuildTask(key, priority, generation[0], sequence.incrementAndGet()));
+    }
+
+    private void rebuild(RebuildTask task) {
+        KeyState state = states.get(task.key);
+        long covered;
+        synchronized (state) {
+            state.queued--;
+            if (task.generation <= state.completed
+                    || (task.generation < state.requested.get() && debouncing.containsKey(task.key))) {
+                covered = -1;
+            } else if (state.active) {
+                // 같은 키가 실행 중이면 겹쳐 돌지 않도록 미룬다. 둘 이상 미뤄지면 우선순위가 높은 쪽 하나만 남긴다.
+                if (state.deferred == null || task.compareTo(state.deferred) < 0) {
+                    state.deferred = task;
+                }
+                return;
+            } else {
+                state.active = true;
+                // 소스는 실행 시점에 읽으므로 그때까지 들어온 요청은 모두 이 재생성으로 반영된다.
+                covered = state.requested.get();
+            }
+        }
+        if (covered < 0) {
+            dropped.increment();
+            meterRegistry.counter("readmodel_rebuild_dropped_total", "model", task.key.model().name()).increment();
+            log.debug("Dropped stale read model rebuild {} (generation {})", task.key, task.generation);
+            release(task.key, state);
+            return;
+        }
+        running.incrementAndGet();
+        long started = System.nanoTime();
+        String result = "success";
+        try {
+            switch (task.key.model()) {
+                case ORGANIZATION -> worker.rebuildOrganization();
+                case MENU -> worker.rebuildMenu();
+                case PERMISSION_MENU -> worker.rebuildPermissionMenu(task.key.principalId());
+            }
+            completed.increment();
+        } catch (RuntimeException ex) {
+            result = "failure";
+            failed.increment();
+            log.warn("Read model rebuild failed for {}", task.key, ex);
+        } finally {
+            finish(task.key, state, covered, "success".equals(result));
+            long elapsed = System.nanoTime() - started;
+            running.decrementAndGet();
+            lastRebuildMs.get(task.key.model()).set(TimeUnit.NANOSECONDS.toMillis(elapsed));
+            Timer.builder("readmodel_rebuild_ms")
+                    .tag("model", task.key.model().name())
+                    .tag("result", result)
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void finish(Key key, KeyState state, long covered, boolean succeeded) {
+        RebuildTask next;
+        synchronized (state) {
+            state.active = false;
+            if (succeeded) {
+                state.completed = Math.max(state.completed, covered);
+            }
+            state.settled = Math.max(state.settled, covered);
+            next = state.deferred;
+            state.deferred = null;
+            if (next != null) {
+                state.queued++;
+            }
+        }
+        if (next != null) {
+            executor.execute(next);
+        } else {
+            release(key, state);
+        }
+    }
+
+    /** 대기·실행 중인 작업이 없으면 키 상태를 지운다. 같은 키의 {@link #request} 와는 맵 연산으로 직렬화된다. */
+    private void release(Key key, KeyState state) {
+        states.computeIfPresent(key, (ignored, current) -> {
+            if (current != state) {
+                return current;
+            }
+            synchronized (state) {
+                return state.idle() ? null : state;
+            }
+        });
+    }
+
+    /** 상태를 유지 중인 키 수 (테스트용). */
+    int trackedKeys() {
+        return states.size();
+    }
+
+    private final class RebuildTask implements Runnable, Comparable<RebuildTask> {
+
+        private final Key key;
+        private final Priority priority;
+        private final long generation;
+        private final long sequence;
+
+        private RebuildTask(Key key, Priority priority, long generation, long sequence) {
+            this.key = key;
+            this.priority = priority;
+            this.generation = generation;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            rebuild(this);
+        }
+
+        @Override
+        public int compareTo(RebuildTask other) {
+            int byPriority = Integer.compare(priority.ordinal(), other.priority.ordinal());
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
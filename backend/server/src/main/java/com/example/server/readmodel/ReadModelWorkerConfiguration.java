@@ -1,6 +1,7 @@
 package com.example.server.readmodel;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -8,7 +9,10 @@ import com.example.dw.application.readmodel.MenuReadModelPort;
 import com.example.dw.application.readmodel.PermissionMenuReadModelPort;
 import com.example.dw.application.readmodel.OrganizationReadModelPort;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
+@EnableConfigurationProperties(ReadModelWorkerProperties.class)
 @ConditionalOnProperty(prefix = "readmodel.worker", name = "enabled", havingValue = "true")
 public class ReadModelWorkerConfiguration {
 
@@ -18,4 +22,11 @@ public class ReadModelWorkerConfiguration {
                                            PermissionMenuReadModelPort permissionMenuReadModelPort) {
         return new ReadModelWorker(organizationReadModelPort, menuReadModelPort, permissionMenuReadModelPort);
     }
+
+    @Bean(destroyMethod = "shutdown")
+    public ReadModelRebuildScheduler readModelRebuildScheduler(ReadModelWorker readModelWorker,
+                                                               ReadModelWorkerProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        return new ReadModelRebuildScheduler(readModelWorker, properties, meterRegistry);
+    }
 }
@@ -2,14 +2,20 @@ package com.example.server.readmodel;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import com.example.server.readmodel.ReadModelRebuildScheduler.Model;
+import com.example.server.readmodel.ReadModelRebuildScheduler.Priority;
+import com.example.server.readmodel.ReadModelRebuildScheduler.RebuildStats;
+
 /**
  * Read model 강제 재생성용 기술용 엔드포인트 (운영시 보호 필요). readmodel.worker.enabled=true 일 때만 노출.
+ * 재생성은 {@link ReadModelRebuildScheduler}에 높은 우선순위로 넣고 바로 202를 돌려준다.
  */
 @RestController
 @RequestMapping("/internal/read-model")
@@ -17,27 +23,33 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @ConditionalOnProperty(prefix = "readmodel.worker", name = "enabled", havingValue = "true")
 public class ReadModelWorkerController {
 
-    private final ReadModelWorker worker;
+    private final ReadModelRebuildScheduler scheduler;
 
-    public ReadModelWorkerController(ReadModelWorker worker) {
-        this.worker = worker;
+    public ReadModelWorkerController(ReadModelRebuildScheduler scheduler) {
+        this.scheduler = scheduler;
     }
 
     @PostMapping("/organization/rebuild")
     public ResponseEntity<Void> rebuildOrganization() {
-        worker.rebuildOrganization();
+        scheduler.request(Model.ORGANIZATION, null, Priority.HIGH);
         return ResponseEntity.accepted().build();
     }
 
     @PostMapping("/menu/rebuild")
     public ResponseEntity<Void> rebuildMenu() {
-        worker.rebuildMenu();
+        scheduler.request(Model.MENU, null, Priority.HIGH);
         return ResponseEntity.accepted().build();
     }
 
     @PostMapping("/permission-menu/{principalId}/rebuild")
     public ResponseEntity<Void> rebuildPermissionMenu(@PathVariable String principalId) {
-        worker.rebuildPermissionMenu(principalId);
+        scheduler.request(Model.PERMISSION_MENU, principalId, Priority.HIGH);
         return ResponseEntity.accepted().build();
     }
+
+    /** 큐 깊이, 대기/실행 중 요청 수, 모델별 마지막 재생성 시간(ms). */
+    @GetMapping("/stats")
+    public ResponseEntity<RebuildStats> stats() {
+        return ResponseEntity.ok(scheduler.stats());
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.server.readmodel;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read model 재생성 워커 설정값.
+ */
+@ConfigurationProperties(prefix = "readmodel.worker")
+public class ReadModelWorkerProperties {
+
+    private boolean enabled = false;
+    /** 같은 (모델, principal) 요청을 하나로 합치는 대기 시간. */
+    private Duration debounce = Duration.ofMillis(500);
+    /** 재생성 스레드 수. */
+    private int threads = 2;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getDebounce() {
+        return debounce;
+    }
+
+    public void setDebounce(Duration debounce) {
+        this.debounce = debounce;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+}
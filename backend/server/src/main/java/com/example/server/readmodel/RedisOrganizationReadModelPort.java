@@ -1,28 +1,54 @@
 package com.example.server.readmodel;
 
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.HexFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import com.example.dw.application.DwOrganizationNode;
 import com.example.dw.application.DwOrganizationTreeService;
+import com.example.dw.application.DwOrganizationTreeService.OrganizationTreeSnapshot;
 import com.example.dw.application.readmodel.OrganizationReadModelPort;
 import com.example.dw.application.readmodel.OrganizationTreeReadModel;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+/**
+ * 조직 Read Model을 노드 단위 Redis 해시로 저장한다.
+ * <p>
+ * 키 구성({@code base = <keyPrefix>:<tenantId>}):
+ * <ul>
+ *     <li>{@code base:nodes} - 조직 코드 → 노드 JSON 해시</li>
+ *     <li>{@code base:children:<parent>} - 상위 조직별 하위 조직 코드 Set</li>
+ *     <li>{@code base:parents} - 하위 Set이 있는 상위 조직 코드 Set (삭제용 색인)</li>
+ *     <li>{@code base:generated} - 마지막 재구성 시각. 모델 존재 여부와 TTL 기준을 겸한다</li>
+ *     <li>{@code base:version} - 변경마다 1씩 올라가는 버전. TTL 없이 유지해 재구성 후에도 단조 증가한다</li>
+ * </ul>
+ * 조직 변경은 {@link #applyChanges(Collection)}로 바뀐 노드만 다시 쓰고, 하위 트리 조회는 Set을 따라 필요한 노드만 읽는다.
+ */
 @Component
 @ConditionalOnProperty(prefix = "readmodel.organization", name = "enabled", havingValue = "true")
 public class RedisOrganizationReadModelPort implements OrganizationReadModelPort {
@@ -51,16 +77,64 @@ public class RedisOrganizationReadModelPort implements OrganizationReadModelPort
 
     @Override
     public Optional<OrganizationTreeReadModel> load() {
-        String payload = redisTemplate.opsForValue().get(key());
-        if (payload == null) {
-            if (properties.isRefreshOnMiss()) {
-                return Optional.of(rebuild());
+        String generatedAt = redisTemplate.opsForValue().get(generatedKey());
+        if (generatedAt == null) {
+            return properties.isRefreshOnMiss() ? Optional.of(rebuild()) : Optional.empty();
+        }
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(nodesKey());
+        try {
+            List<DwOrganizationNode> nodes = new ArrayList<>(entries.size());
+            for (Object value : entries.values()) {
+                nodes.add(readNode((String) value));
             }
+            nodes.sort(Comparator.comparing(DwOrganizationNode::organizationCode));
+            return Optional.of(model(generatedAt, nodes));
+        } catch (JsonProcessingException ex) {
+            log.error("Failed to deserialize organization read model payload", ex);
             return Optional.empty();
         }
+    }
+
+    /**
+     * 하위 조직 Set을 단계별로 파이프라인 조회해 코드를 모은 뒤, 해당 노드만 {@code HMGET}으로 읽는다.
+     */
+    @Override
+    public Optional<OrganizationTreeReadModel> loadSubtree(String organizationCode) {
+        String generatedAt = redisTemplate.opsForValue().get(generatedKey());
+        if (generatedAt == null) {
+            if (!properties.isRefreshOnMiss()) {
+                return Optional.empty();
+            }
+            OrganizationTreeReadModel rebuilt = rebuild();
+            return subtree(rebuilt, rebuilt.nodes(), organizationCode);
+        }
+        Set<String> codes = new LinkedHashSet<>();
+        codes.add(organizationCode);
+        List<String> frontier = List.of(organizationCode);
+        while (!frontier.isEmpty()) {
+            List<Object> children = membersOf(frontier);
+            List<String> next = new ArrayList<>();
+            for (Object members : children) {
+                if (members instanceof Collection<?> values) {
+                    for (Object code : values) {
+                        // 잘못된 순환 참조가 있어도 같은 코드는 한 번만 따라간다.
+                        if (codes.add((String) code)) {
+                            next.add((String) code);
+                        }
+                    }
+                }
+            }
+            frontier = next;
+        }
+        List<Object> payloads = redisTemplate.opsForHash().multiGet(nodesKey(), new ArrayList<>(codes));
         try {
-            OrganizationTreeReadModel model = objectMapper.readValue(payload, OrganizationTreeReadModel.class);
-            return Optional.of(model);
+            List<DwOrganizationNode> nodes = new ArrayList<>(payloads.size());
+            for (Object payload : payloads) {
+                if (payload != null) {
+                    nodes.add(readNode((String) payload));
+                }
+            }
+            return subtree(model(generatedAt, List.of()), nodes, organizationCode);
         } catch (JsonProcessingException ex) {
             log.error("Failed to deserialize organization read model payload", ex);
             return Optional.empty();
@@ -70,48 +144,198 @@ public class RedisOrganizationReadModelPort implements OrganizationReadModelPort
     @Override
     public OrganizationTreeReadModel rebuild() {
         List<DwOrganizationNode> nodes = organizationTreeService.snapshot().flatten();
-        OrganizationTreeReadModel model = new OrganizationTreeReadModel(
-                computeVersion(nodes),
-                OffsetDateTime.now(ZoneOffset.UTC),
-                nodes
-        );
-        persist(model);
-        return model;
+        Map<String, String> fields = new LinkedHashMap<>();
+        Map<String, List<String>> children = new HashMap<>();
+        for (DwOrganizationNode node : nodes) {
+            String payload = writeNode(node);
+            if (payload == null) {
+                continue;
+            }
+            fields.put(node.organizationCode(), payload);
+            if (node.parentOrganizationCode() != null) {
+                children.computeIfAbsent(node.parentOrganizationCode(), key -> new ArrayList<>()).add(node.organizationCode());
+            }
+        }
+        Set<String> previousParents = redisTemplate.opsForSet().members(parentsKey());
+        OffsetDateTime generatedAt = OffsetDateTime.now(ZoneOffset.UTC);
+        Duration ttl = properties.getTtl();
+        transaction(operations -> {
+            List<String> stale = new ArrayList<>(List.of(nodesKey(), parentsKey()));
+            if (previousParents != null) {
+                previousParents.forEach(parent -> stale.add(childrenKey(parent)));
+            }
+            operations.delete(stale);
+            if (!fields.isEmpty()) {
+                operations.opsForHash().putAll(nodesKey(), fields);
+                operations.expire(nodesKey(), ttl);
+            }
+            children.forEach((parent, codes) -> {
+                operations.opsForSet().add(childrenKey(parent), codes.toArray(String[]::new));
+                operations.expire(childrenKey(parent), ttl);
+            });
+            if (!children.isEmpty()) {
+                operations.opsForSet().add(parentsKey(), children.keySet().toArray(String[]::new));
+                operations.expire(parentsKey(), ttl);
+            }
+            operations.opsForValue().set(generatedKey(), generatedAt.toString(), ttl);
+            operations.opsForValue().increment(versionKey());
+        });
+        return new OrganizationTreeReadModel(currentVersion(), generatedAt, nodes);
+    }
+
+    /**
+     * 바뀐 조직 코드만 소스의 활성 버전으로 다시 쓴다. 활성 버전이 없어진 코드는 지운다.
+     * 같은 변경을 여러 번 적용해도 결과는 같으며, 저장된 모델이 없으면 전체 재구성한다.
+     */
+    @Override
+    public void applyChanges(Collection<String> organizationCodes) {
+        List<String> codes = List.copyOf(new LinkedHashSet<>(organizationCodes));
+        if (codes.isEmpty()) {
+            return;
+        }
+        Long remainingMs = redisTemplate.getExpire(generatedKey(), TimeUnit.MILLISECONDS);
+        if (remainingMs == null || remainingMs == -2) {
+            rebuild();
+            return;
+        }
+        List<Object> previous = redisTemplate.opsForHash().multiGet(nodesKey(), new ArrayList<>(codes));
+        Map<String, DwOrganizationNode> current = organizationTreeService.activeNodes(codes);
+        Duration ttl = remainingMs > 0 ? Duration.ofMillis(remainingMs) : null;
+        transaction(operations -> {
+            for (int i = 0; i < codes.size(); i++) {
+                String code = codes.get(i);
+                String previousParent = parentOf(previous.get(i));
+                DwOrganizationNode node = current.get(code);
+                String parent = node == null ? null : node.parentOrganizationCode();
+                if (previousParent != null && !previousParent.equals(parent)) {
+                    operations.opsForSet().remove(childrenKey(previousParent), code);
+                }
+                String payload = node == null ? null : writeNode(node);
+                if (payload == null) {
+                    operations.opsForHash().delete(nodesKey(), code);
+                    continue;
+                }
+                operations.opsForHash().put(nodesKey(), code, payload);
+                if (parent != null) {
+                    operations.opsForSet().add(childrenKey(parent), code);
+                    operations.opsForSet().add(parentsKey(), parent);
+                    if (ttl != null) {
+                        operations.expire(childrenKey(parent), ttl);
+                    }
+                }
+            }
+            if (ttl != null) {
+                operations.expire(nodesKey(), ttl);
+                operations.expire(parentsKey(), ttl);
+            }
+            operations.opsForValue().increment(versionKey());
+        });
+        log.debug("Applied {} organization changes to read model", codes.size());
     }
 
+    /**
+     * 저장된 노드를 지운다. 버전 키는 남겨 다음 재구성에서도 버전이 이어진다.
+     */
     @Override
     public void evict() {
         try {
-            redisTemplate.delete(key());
+            Set<String> parents = redisTemplate.opsForSet().members(parentsKey());
+            List<String> keys = new ArrayList<>(List.of(generatedKey(), nodesKey(), parentsKey()));
+            if (parents != null) {
+                parents.forEach(parent -> keys.add(childrenKey(parent)));
+            }
+            redisTemplate.delete(keys);
         } catch (DataAccessException ex) {
             log.warn("Failed to delete organization read model cache", ex);
         }
     }
 
-    private void persist(OrganizationTreeReadModel model) {
+    private Optional<OrganizationTreeReadModel> subtree(OrganizationTreeReadModel source,
+                                                        List<DwOrganizationNode> nodes,
+                                                        String organizationCode) {
+        List<DwOrganizationNode> subtree = OrganizationTreeSnapshot.fromNodes(nodes).descendantsIncluding(organizationCode);
+        if (subtree.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new OrganizationTreeReadModel(source.version(), source.generatedAt(), subtree));
+    }
+
+    private List<Object> membersOf(List<String> parents) {
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String parent : parents) {
+                connection.setCommands().sMembers(childrenKey(parent).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+    }
+
+    private void transaction(Consumer<RedisOperations<String, String>> commands) {
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                stringOperations.multi();
+                commands.accept(stringOperations);
+                return stringOperations.exec();
+            }
+        });
+    }
+
+    private OrganizationTreeReadModel model(String generatedAt, List<DwOrganizationNode> nodes) {
+        return new OrganizationTreeReadModel(currentVersion(), OffsetDateTime.parse(generatedAt), nodes);
+    }
+
+    private String currentVersion() {
+        return Objects.requireNonNullElse(redisTemplate.opsForValue().get(versionKey()), "0");
+    }
+
+    private String parentOf(Object payload) {
+        if (payload == null) {
+            return null;
+        }
         try {
-            String serialized = objectMapper.writeValueAsString(model);
-            redisTemplate.opsForValue().set(key(), serialized, properties.getTtl());
+            return readNode((String) payload).parentOrganizationCode();
         } catch (JsonProcessingException ex) {
-            log.error("Failed to serialize organization read model", ex);
+            log.warn("Ignoring unreadable organization read model node", ex);
+            return null;
         }
     }
 
-    private String computeVersion(List<DwOrganizationNode> nodes) {
+    private DwOrganizationNode readNode(String payload) throws JsonProcessingException {
+        return objectMapper.readValue(payload, DwOrganizationNode.class);
+    }
+
+    private String writeNode(DwOrganizationNode node) {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            nodes.stream()
-                    .map(node -> node.organizationCode() + ":" + node.version())
-                    .sorted()
-                    .map(value -> value.getBytes(StandardCharsets.UTF_8))
-                    .forEach(digest::update);
-            return HexFormat.of().formatHex(digest.digest());
-        } catch (NoSuchAlgorithmException ex) {
-            throw new IllegalStateException("SHA-256 algorithm missing", ex);
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException ex) {
+            log.error("Failed to serialize organization node {}", node.organizationCode(), ex);
+            return null;
         }
     }
 
-    private String key() {
+    private String base() {
         return properties.getKeyPrefix() + ":" + properties.getTenantId();
     }
+
+    private String nodesKey() {
+        return base() + ":nodes";
+    }
+
+    private String childrenKey(String parent) {
+        return base() + ":children:" + parent;
+    }
+
+    private String parentsKey() {
+        return base() + ":parents";
+    }
+
+    private String generatedKey() {
+        return base() + ":generated";
+    }
+
+    private String versionKey() {
+        return base() + ":version";
+    }
 }
@@ -1,30 +1,50 @@
 package com.example.server.readmodel;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
 import java.util.Optional;
-import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Component;
 
 import com.example.dw.application.readmodel.PermissionMenuReadModel;
 import com.example.dw.application.readmodel.PermissionMenuReadModelPort;
 import com.example.dw.application.readmodel.PermissionMenuReadModelSource;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
+/**
+ * 사용자별 메뉴 Read Model을 내용 주소 방식으로 저장한다.
+ * <p>
+ * 모델은 항목 JSON의 SHA-256 해시를 버전 겸 키로 삼아 {@code <prefix>:<tenant>:model:<hash>}에 한 번만 저장하고,
+ * 사용자 키 {@code <prefix>:<tenant>:<principal>}에는 해시만 둔다. 같은 메뉴를 받는 사용자는 같은 모델을 공유하며,
+ * 버전은 노드와 재생성 횟수에 관계없이 내용이 같으면 같다. 해시로 찾은 모델은 바뀌지 않으므로 노드 로컬에 캐시한다.
+ */
 @Component
 @ConditionalOnProperty(prefix = "readmodel.permission-menu", name = "enabled", havingValue = "true")
 public class RedisPermissionMenuReadModelPort implements PermissionMenuReadModelPort {
 
     private static final Logger log = LoggerFactory.getLogger(RedisPermissionMenuReadModelPort.class);
+    /** 해시 앞 128비트만 쓴다. */
+    private static final int VERSION_BYTES = 16;
 
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
     private final PermissionMenuReadModelSource source;
     private final PermissionMenuReadModelProperties properties;
+    private final Cache<String, PermissionMenuReadModel> models;
 
     public RedisPermissionMenuReadModelPort(StringRedisTemplate redisTemplate,
                                             ObjectMapper objectMapper,
@@ -34,6 +54,10 @@ public class RedisPermissionMenuReadModelPort implements PermissionMenuReadModel
         this.objectMapper = objectMapper;
         this.source = source;
         this.properties = properties;
+        this.models = Caffeine.newBuilder()
+                .maximumSize(properties.getModelCacheSize())
+                .expireAfterAccess(properties.getTtl())
+                .build();
     }
 
     @Override
@@ -46,32 +70,26 @@ public class RedisPermissionMenuReadModelPort implements PermissionMenuReadModel
         if (!isEnabled()) {
             return Optional.empty();
         }
-        String payload = redisTemplate.opsForValue().get(key(principalId));
-        if (payload == null) {
+        String pointer = redisTemplate.opsForValue().get(key(principalId));
+        if (pointer == null) {
             if (properties.isRefreshOnMiss()) {
                 return Optional.of(rebuild(principalId));
             }
             return Optional.empty();
         }
-        try {
-            return Optional.of(objectMapper.readValue(payload, PermissionMenuReadModel.class));
-        }
-        catch (Exception ex) {
-            log.warn("Failed to deserialize permission menu read model, rebuilding... principal={}", principalId, ex);
+        Optional<PermissionMenuReadModel> model = pointer.startsWith("{") ? readLegacy(pointer) : loadModel(pointer);
+        if (model.isEmpty()) {
+            log.warn("Permission menu read model unreadable or missing, rebuilding... principal={}", principalId);
             return Optional.of(rebuild(principalId));
         }
+        return model;
     }
 
     @Override
     public PermissionMenuReadModel rebuild(String principalId) {
-        PermissionMenuReadModel snapshot = source.snapshot(principalId);
-        PermissionMenuReadModel enriched = new PermissionMenuReadModel(
-                stableVersion(snapshot),
-                snapshot.generatedAt() != null ? snapshot.generatedAt() : OffsetDateTime.now(),
-                snapshot.items()
-        );
-        persist(principalId, enriched);
-        return enriched;
+        PermissionMenuReadModel model = store(source.snapshot(principalId));
+        redisTemplate.opsForValue().set(key(principalId), model.version(), properties.getTtl());
+        return model;
     }
 
     @Override
@@ -79,13 +97,76 @@ public class RedisPermissionMenuReadModelPort implements PermissionMenuReadModel
         redisTemplate.delete(key(principalId));
     }
 
-    private void persist(String principalId, PermissionMenuReadModel model) {
+    /**
+     * 모델을 해시 키에 저장(또는 TTL 연장)하고, 버전이 내용 해시로 바뀐 모델을 돌려준다.
+     */
+    public PermissionMenuReadModel store(PermissionMenuReadModel snapshot) {
+        String version = contentHash(snapshot);
+        PermissionMenuReadModel model = new PermissionMenuReadModel(
+                version,
+                snapshot.generatedAt() != null ? snapshot.generatedAt() : OffsetDateTime.now(),
+                snapshot.items()
+        );
         try {
-            String payload = objectMapper.writeValueAsString(model);
-            redisTemplate.opsForValue().set(key(principalId), payload, properties.getTtl());
+            redisTemplate.opsForValue().set(modelKey(version), objectMapper.writeValueAsString(model), properties.getTtl());
         }
-        catch (Exception ex) {
-            throw new IllegalStateException("Failed to persist permission menu read model for principal=" + principalId, ex);
+        catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to persist permission menu read model version=" + version, ex);
+        }
+        models.put(version, model);
+        return model;
+    }
+
+    /**
+     * 여러 사용자를 같은 모델 버전에 한 번의 파이프라인으로 연결한다.
+     */
+    public void assign(Collection<String> principalIds, String version) {
+        byte[] value = version.getBytes(StandardCharsets.UTF_8);
+        Expiration expiration = Expiration.from(properties.getTtl());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String principalId : principalIds) {
+                connection.stringCommands().set(key(principalId).getBytes(StandardCharsets.UTF_8), value,
+                        expiration, SetOption.upsert());
+            }
+            return null;
+        });
+    }
+
+    private Optional<PermissionMenuReadModel> loadModel(String version) {
+        PermissionMenuReadModel cached = models.getIfPresent(version);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        String payload = redisTemplate.opsForValue().get(modelKey(version));
+        if (payload == null) {
+            return Optional.empty();
+        }
+        Optional<PermissionMenuReadModel> model = readLegacy(payload);
+        model.ifPresent(value -> models.put(version, value));
+        return model;
+    }
+
+    private Optional<PermissionMenuReadModel> readLegacy(String payload) {
+        try {
+            return Optional.of(objectMapper.readValue(payload, PermissionMenuReadModel.class));
+        }
+        catch (JsonProcessingException ex) {
+            log.warn("Failed to deserialize permission menu read model", ex);
+            return Optional.empty();
+        }
+    }
+
+    private String contentHash(PermissionMenuReadModel snapshot) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(objectMapper.writeValueAsBytes(snapshot.items()));
+            return HexFormat.of().formatHex(hash, 0, VERSION_BYTES);
+        }
+        catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 algorithm missing", ex);
+        }
+        catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize permission menu items", ex);
         }
     }
 
@@ -93,10 +174,7 @@ public class RedisPermissionMenuReadModelPort implements PermissionMenuReadModel
         return properties.getKeyPrefix() + ":" + properties.getTenantId() + ":" + principalId;
     }
 
-    private String stableVersion(PermissionMenuReadModel model) {
-        if (model.version() != null && !model.version().isBlank()) {
-            return model.version();
-        }
-        return UUID.randomUUID().toString();
+    private String modelKey(String version) {
+        return properties.getKeyPrefix() + ":" + properties.getTenantId() + ":model:" + version;
     }
 }
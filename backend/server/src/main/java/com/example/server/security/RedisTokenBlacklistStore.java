@@ -0,0 +1,95 @@
+package com.example.server.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.example.auth.security.JwtProperties;
+import com.example.auth.security.TokenBlacklistStore;
+
+/**
+ * 만료 버킷마다 Redis Set({@code <prefix>:<bucket>})에 JTI를 보관하는 {@link TokenBlacklistStore}.
+ * <p>
+ * 버킷 키는 버킷의 마지막 만료 시각에 {@code EXPIREAT}로 사라지므로 Redis 쪽 정리는 키 만료로 끝난다.
+ * 살아 있는 버킷 번호는 Sorted Set({@code <prefix>:buckets})에 두고, 추가 사실은 채널로 다른 노드에 알린다.
+ * 메시지 형식은 {@code <bucket>:<jti>}이다. 추가는 Lua 스크립트 하나로 Set 추가·만료 설정·색인·알림을
+ * 원자적으로 처리하므로, 중간에 실패해 만료 없는 버킷 키나 색인에 없는 버킷이 남지 않는다.
+ */
+public class RedisTokenBlacklistStore implements TokenBlacklistStore {
+
+    /** 노드 간 시계 차이를 흡수하기 위해 버킷 키를 조금 더 남겨 둔다. */
+    private static final Duration EXPIRY_GRACE = Duration.ofMinutes(1);
+    private static final int SCAN_BATCH = 1000;
+
+    /** KEYS: 버킷 키, 색인 키 / ARGV: jti, 만료 epoch 초, 버킷 번호, 채널. */
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SADD', KEYS[1], ARGV[1])
+            redis.call('EXPIREAT', KEYS[1], ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[3])
+            return redis.call('PUBLISH', ARGV[4], ARGV[3] .. ':' .. ARGV[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final String indexKey;
+    private final String channel;
+
+    public RedisTokenBlacklistStore(StringRedisTemplate redisTemplate, JwtProperties.Blacklist properties) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = properties.getKeyPrefix();
+        this.indexKey = properties.getKeyPrefix() + ":buckets";
+        this.channel = properties.getChannel();
+    }
+
+    @Override
+    public void add(long bucket, String jti, Instant bucketExpiresAt) {
+        redisTemplate.execute(ADD_SCRIPT, List.of(bucketKey(bucket), indexKey),
+                jti,
+                Long.toString(bucketExpiresAt.plus(EXPIRY_GRACE).getEpochSecond()),
+                Long.toString(bucket),
+                channel);
+    }
+
+    @Override
+    public boolean contains(long bucket, String jti) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(bucketKey(bucket), jti));
+    }
+
+    @Override
+    public Set<Long> buckets() {
+        Set<String> members = redisTemplate.opsForZSet().range(indexKey, 0, -1);
+        Set<Long> buckets = new HashSet<>();
+        if (members != null) {
+            for (String member : members) {
+                buckets.add(Long.parseLong(member));
+            }
+        }
+        return buckets;
+    }
+
+    @Override
+    public void forEachMember(long bucket, Consumer<String> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_BATCH).build();
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(bucketKey(bucket), options)) {
+            cursor.forEachRemaining(consumer);
+        }
+    }
+
+    @Override
+    public void dropBefore(long bucket) {
+        redisTemplate.opsForZSet().removeRangeByScore(indexKey, Double.NEGATIVE_INFINITY, bucket - 1);
+    }
+
+    private String bucketKey(long bucket) {
+        return keyPrefix + ":" + bucket;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.server.security;
+
+import java.nio.charset.StandardCharsets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import com.example.auth.security.BucketedTokenBlacklistService;
+
+/**
+ * 다른 노드의 블랙리스트 추가 알림({@code <bucket>:<jti>})을 받아 로컬 Bloom 필터에 반영한다.
+ */
+public class RedisTokenBlacklistSubscriber implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisTokenBlacklistSubscriber.class);
+
+    private final BucketedTokenBlacklistService blacklistService;
+
+    public RedisTokenBlacklistSubscriber(BucketedTokenBlacklistService blacklistService) {
+        this.blacklistService = blacklistService;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator <= 0 || separator == body.length() - 1) {
+            log.warn("Ignoring malformed token blacklist message: {}", body);
+            return;
+        }
+        try {
+            blacklistService.acceptRemote(Long.parseLong(body.substring(0, separator)), body.substring(separator + 1));
+        }
+        catch (NumberFormatException ex) {
+            log.warn("Ignoring malformed token blacklist message: {}", body);
+        }
+    }
+}
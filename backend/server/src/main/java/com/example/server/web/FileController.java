@@ -6,8 +6,6 @@ import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import com.example.admin.permission.exception.PermissionDeniedException;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -28,14 +26,20 @@ import com.example.admin.permission.annotation.RequirePermission;
 import com.example.admin.permission.context.AuthContextHolder;
 import com.example.admin.permission.context.AuthContext;
 import com.example.common.file.FileDownload;
+import com.example.common.file.FileStatus;
 import com.example.common.file.dto.FileMetadataDto;
+import com.example.file.dto.FileSummaryPage;
+import com.example.file.dto.FileSummaryQuery;
 import com.example.file.dto.FileUploadCommand;
 import com.example.file.api.dto.FileUploadRequest;
 import com.example.file.port.FileManagementPort;
+import com.example.server.file.FileDownloadResponder;
 import com.example.server.file.dto.FileMetadataResponse;
 import com.example.draft.application.dto.DraftReferenceResponse;
 import com.example.draft.application.dto.DraftResponse;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
@@ -44,6 +48,8 @@ import jakarta.validation.Valid;
 @Tag(name = "File", description = "파일 업로드/다운로드/삭제 API")
 public class FileController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final FileManagementPort fileManagementPort;
     private final com.example.draft.application.DraftApplicationService draftApplicationService;
 
@@ -78,21 +84,44 @@ public class FileController {
         return FileMetadataResponse.fromDto(metadata);
     }
 
+    /**
+     * 최신순 파일 목록 한 페이지. 다음 페이지가 있으면 {@value #NEXT_CURSOR_HEADER} 헤더로 커서를 내려주며,
+     * 클라이언트는 이를 {@code cursor} 파라미터로 돌려보낸다.
+     * <p>
+     * 페이지 파라미터가 없어도 전체가 아니라 첫 페이지({@link FileSummaryQuery#DEFAULT_SIZE}건, 최대
+     * {@link FileSummaryQuery#MAX_SIZE}건)만 돌려준다. 전체가 필요하면 헤더가 없을 때까지 이어서 조회한다.
+     */
     @GetMapping
     @RequirePermission(feature = FeatureCode.FILE, action = ActionCode.READ)
-    public java.util.List<FileMetadataResponse> listFiles() {
+    public ResponseEntity<java.util.List<FileMetadataResponse>> listFiles(
+            @RequestParam(value = "owner", required = false) String owner,
+            @RequestParam(value = "status", required = false) FileStatus status,
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
         var policyMatch = com.example.common.policy.MaskingContextHolder.get();
         java.util.function.UnaryOperator<String> masker = com.example.common.masking.MaskingFunctions.masker(policyMatch);
-        return fileManagementPort.list()
-                .stream()
+        FileSummaryPage<FileMetadataDto> page = fileManagementPort.list(
+                new FileSummaryQuery(owner, status, name, cursor, size));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items().stream()
                 .map(meta -> FileMetadataResponse.fromDto(meta, masker))
-                .toList();
+                .toList());
     }
 
+    /**
+     * 파일 본문을 내려준다. ETag/조건부 요청/Range 처리는 {@link FileDownloadResponder}가 맡는다.
+     * 다운로드 기록(최근 열람 시각, 접근 로그, 감사)은 본문을 실제로 내려줄 때 다운로드당 한 번만 남긴다.
+     */
     @GetMapping("/{id}")
     @RequirePermission(feature = FeatureCode.FILE, action = ActionCode.DOWNLOAD)
-    public ResponseEntity<Resource> download(@PathVariable UUID id,
-                                             @RequestParam(value = "draftId", required = false) UUID draftId) {
+    public void download(@PathVariable UUID id,
+                         @RequestParam(value = "draftId", required = false) UUID draftId,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
         String actor = currentUsername();
         var match = com.example.common.policy.MaskingContextHolder.get();
         var masker = com.example.common.masking.MaskingFunctions.masker(match);
@@ -114,16 +143,16 @@ public class FileController {
                 throw new com.example.file.FilePolicyViolationException("해당 기안에 첨부되지 않은 파일입니다.");
             }
         }
-        FileDownload download = fileManagementPort.download(id, actor, allowed);
+        // 본문만 열고, 기록은 응답이 200 또는 첫 구간 206으로 정해졌을 때 한 번만 남긴다(304·416·이어받기 구간 제외).
+        FileDownload download = fileManagementPort.openDownload(id, actor, allowed);
         String maskedName = masker.apply(download.metadata().originalName());
         String filename = URLEncoder.encode(maskedName, StandardCharsets.UTF_8);
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + filename)
-                .contentType(MediaType.parseMediaType(
-                        download.metadata().contentType() != null ? download.metadata().contentType()
-                                : MediaType.APPLICATION_OCTET_STREAM_VALUE))
-                .contentLength(download.metadata().size())
-                .body(download.resource());
+        MediaType contentType = MediaType.parseMediaType(
+                download.metadata().contentType() != null ? download.metadata().contentType()
+                        : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        FileDownloadResponder.write(request, response, download, contentType,
+                "attachment; filename*=UTF-8''" + filename,
+                () -> fileManagementPort.recordDownload(id, actor));
     }
 
     @DeleteMapping("/{id}")
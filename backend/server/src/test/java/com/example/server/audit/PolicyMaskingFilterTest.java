@@ -17,6 +17,7 @@ import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -29,9 +30,12 @@ import com.example.common.masking.DataKind;
 import com.example.common.masking.MaskingContextHolder;
 import com.example.common.masking.MaskingTarget;
 import com.example.common.masking.SubjectType;
+import com.example.common.policy.MaskingMatch;
 import com.example.common.policy.MaskingPolicyProvider;
+import com.example.common.policy.MaskingQuery;
 import com.example.common.policy.RowAccessMatch;
 import com.example.common.policy.RowAccessPolicyProvider;
+import com.example.common.policy.RowAccessQuery;
 import com.example.common.security.RowScope;
 import com.example.common.security.RowScopeContextHolder;
 
@@ -191,4 +195,72 @@ class PolicyMaskingFilterTest {
         assertThat(asserted[0]).isTrue();
         assertThat(MaskingContextHolder.get()).isNull();
     }
+
+    @Test
+    @DisplayName("Given 같은 요청에서 이미 평가된 결과 When 필터 재실행 Then 다시 평가하지 않고 재사용한다")
+    void reuseDecisionsAlreadyOnRequest() throws ServletException, IOException {
+        RowAccessPolicyProvider provider = Mockito.mock(RowAccessPolicyProvider.class);
+        MaskingPolicyProvider maskingProvider = Mockito.mock(MaskingPolicyProvider.class);
+        AuthContextHolder.set(AuthContext.of(
+                "user1",
+                "ORG1",
+                "AUDIT_VIEWER",
+                FeatureCode.AUDIT_LOG,
+                ActionCode.READ,
+                null
+        ));
+        RowAccessMatch rowMatch = RowAccessMatch.builder()
+                .policyId(UUID.randomUUID())
+                .rowScope(RowScope.ORG)
+                .priority(1)
+                .build();
+        MaskingMatch maskingMatch = MaskingMatch.builder()
+                .policyId(UUID.randomUUID())
+                .maskingEnabled(true)
+                .build();
+        PolicyMaskingFilter filter = new PolicyMaskingFilter(provider, maskingProvider);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/customers");
+        request.setAttribute(PolicyMaskingFilter.ATTR_ROW_ACCESS_MATCH, rowMatch);
+        request.setAttribute(PolicyMaskingFilter.ATTR_MASKING_MATCH, maskingMatch);
+        final boolean[] checked = {false};
+        FilterChain chain = (req, res) -> {
+            assertThat(RowScopeContextHolder.get()).isNotNull();
+            assertThat(com.example.common.policy.RowAccessContextHolder.get()).isSameAs(rowMatch);
+            checked[0] = true;
+        };
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(checked[0]).isTrue();
+        verify(provider, never()).evaluate(any());
+        verify(maskingProvider, never()).evaluate(any());
+    }
+
+    @Test
+    @DisplayName("Given 인증 컨텍스트 When 필터 실행 Then 두 정책을 같은 평가 시점으로 조회한다")
+    void evaluatesBothPoliciesAtSameInstant() throws ServletException, IOException {
+        RowAccessPolicyProvider provider = Mockito.mock(RowAccessPolicyProvider.class);
+        MaskingPolicyProvider maskingProvider = Mockito.mock(MaskingPolicyProvider.class);
+        when(provider.evaluate(any())).thenReturn(Optional.empty());
+        when(maskingProvider.evaluate(any())).thenReturn(Optional.empty());
+        AuthContextHolder.set(AuthContext.of(
+                "user1",
+                "ORG1",
+                "AUDIT_VIEWER",
+                FeatureCode.AUDIT_LOG,
+                ActionCode.READ,
+                null
+        ));
+        PolicyMaskingFilter filter = new PolicyMaskingFilter(provider, maskingProvider);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/customers"), new MockHttpServletResponse(),
+                Mockito.mock(FilterChain.class));
+
+        ArgumentCaptor<RowAccessQuery> rowQuery = ArgumentCaptor.forClass(RowAccessQuery.class);
+        ArgumentCaptor<MaskingQuery> maskingQuery = ArgumentCaptor.forClass(MaskingQuery.class);
+        verify(provider).evaluate(rowQuery.capture());
+        verify(maskingProvider).evaluate(maskingQuery.capture());
+        assertThat(rowQuery.getValue().now()).isNotNull().isEqualTo(maskingQuery.getValue().now());
+        assertThat(rowQuery.getValue().featureCode()).isEqualTo("AUDIT_LOG");
+    }
 }
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.anyString;
 
 import java.time.Instant;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,8 @@ import org.mockito.Mockito;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
+import com.example.admin.maskingpolicy.service.MaskingPolicyService;
+import com.example.admin.rowaccesspolicy.service.RowAccessPolicyService;
 import com.example.common.cache.CacheInvalidationEvent;
 import com.example.common.cache.CacheInvalidationType;
 import com.example.common.cache.CacheNames;
@@ -26,7 +29,10 @@ class CacheInvalidationHandlerTest {
     private final OrganizationReadModelPort readModelPort = Mockito.mock(OrganizationReadModelPort.class);
     private final MenuReadModelPort menuReadModelPort = Mockito.mock(MenuReadModelPort.class);
     private final PermissionMenuReadModelPort permissionMenuReadModelPort = Mockito.mock(PermissionMenuReadModelPort.class);
-    private final CacheInvalidationHandler handler = new CacheInvalidationHandler(cacheManager, readModelPort, menuReadModelPort, permissionMenuReadModelPort);
+    private final RowAccessPolicyService rowAccessPolicyService = Mockito.mock(RowAccessPolicyService.class);
+    private final MaskingPolicyService maskingPolicyService = Mockito.mock(MaskingPolicyService.class);
+    private final CacheInvalidationHandler handler = new CacheInvalidationHandler(cacheManager, readModelPort, menuReadModelPort,
+            permissionMenuReadModelPort, rowAccessPolicyService, maskingPolicyService);
 
     @Test
     void evictsRowScopeCache() {
@@ -44,13 +50,28 @@ class CacheInvalidationHandlerTest {
         when(cacheManager.getCache(CacheNames.DW_ORG_TREE)).thenReturn(cache);
         when(readModelPort.isEnabled()).thenReturn(true);
 
-        handler.handle(new CacheInvalidationEvent(CacheInvalidationType.ORGANIZATION, "t1", "s1", 1L, Instant.now()));
+        handler.handle(new CacheInvalidationEvent(CacheInvalidationType.ORGANIZATION, "t1", null, 1L, Instant.now()));
 
         verify(cache).clear();
         verify(readModelPort).evict();
         verify(readModelPort).rebuild();
     }
 
+    @Test
+    @DisplayName("scopeId에 조직 코드가 있으면 해당 노드만 Read Model에 반영한다")
+    void orgEventWithCodesAppliesChanges() {
+        Cache cache = Mockito.mock(Cache.class);
+        when(cacheManager.getCache(CacheNames.DW_ORG_TREE)).thenReturn(cache);
+        when(readModelPort.isEnabled()).thenReturn(true);
+
+        handler.handle(new CacheInvalidationEvent(CacheInvalidationType.ORGANIZATION, null, "A, B", 1L, Instant.now()));
+
+        verify(cache).clear();
+        verify(readModelPort).applyChanges(List.of("A", "B"));
+        verify(readModelPort, times(0)).rebuild();
+        verify(readModelPort, times(0)).evict();
+    }
+
     @Test
     @DisplayName("Read model 비활성화 상태에서는 캐시만 비우고 rebuild를 호출하지 않는다")
     void orgEventSkipsReadModelWhenDisabled() {
@@ -117,4 +138,62 @@ class CacheInvalidationHandlerTest {
     void nullEventIsIgnored() {
         handler.handle(null);
     }
+
+    @Test
+    @DisplayName("ROW_ACCESS_POLICY 이벤트는 행 접근 정책 인덱스를 다시 만든다")
+    void rowAccessPolicyReloadsIndex() {
+        handler.handle(new CacheInvalidationEvent(CacheInvalidationType.ROW_ACCESS_POLICY, null, "p1", null, Instant.now()));
+
+        verify(rowAccessPolicyService).reload();
+        verify(maskingPolicyService, times(0)).reload();
+    }
+
+    @Test
+    @DisplayName("MASKING 이벤트는 코드 캐시를 비우고 마스킹 정책 인덱스를 다시 만든다")
+    void maskingReloadsIndex() {
+        Cache cache = Mockito.mock(Cache.class);
+        when(cacheManager.getCache(CacheNames.COMMON_CODE_AGGREGATES)).thenReturn(cache);
+
+        handler.handle(new CacheInvalidationEvent(CacheInvalidationType.MASKING, null, "p1", null, Instant.now()));
+
+        verify(cache).clear();
+        verify(maskingPolicyService).reload();
+    }
+
+    @Test
+    @DisplayName("정책 서비스가 없으면 정책 이벤트를 무시한다")
+    void policyEventsWithoutServices() {
+        CacheInvalidationHandler bare = new CacheInvalidationHandler(cacheManager, null, null, null, null, null);
+
+        bare.handle(new CacheInvalidationEvent(CacheInvalidationType.ROW_ACCESS_POLICY, null, "p1", null, Instant.now()));
+        bare.handle(new CacheInvalidationEvent(CacheInvalidationType.MASKING, null, "p1", null, Instant.now()));
+
+        verify(rowAccessPolicyService, times(0)).reload();
+    }
+
+    @Test
+    @DisplayName("CACHE_ENTRY 이벤트는 2단계 캐시 관리자에 항목 무효화를 넘긴다")
+    void cacheEntryEventDelegatesToTwoLevelManager() {
+        TwoLevelCacheManager twoLevelCacheManager = Mockito.mock(TwoLevelCacheManager.class);
+        CacheInvalidationHandler twoLevelHandler = new CacheInvalidationHandler(twoLevelCacheManager, null, null, null,
+                null, null);
+        CacheInvalidationEvent event = CacheInvalidationEvent.entry(CacheNames.USER_DETAILS, "alice", 3L);
+
+        twoLevelHandler.handle(event);
+
+        verify(twoLevelCacheManager).onRemoteInvalidation(event);
+    }
+
+    @Test
+    @DisplayName("2단계 캐시는 유형 이벤트로 L1만 비우고 공유 L2를 다시 비우거나 항목 이벤트를 보내지 않는다")
+    void typeEventClearsOnlyLocalTier() {
+        TwoLevelCache cache = Mockito.mock(TwoLevelCache.class);
+        when(cacheManager.getCache(CacheNames.ORGANIZATION_ROW_SCOPE)).thenReturn(cache);
+        Instant issuedAt = Instant.parse("2026-01-01T00:00:00Z");
+
+        handler.handle(new CacheInvalidationEvent(CacheInvalidationType.ROW_SCOPE, "t1", "s1", 1L, issuedAt));
+
+        verify(cache).clearLocal(issuedAt.toEpochMilli());
+        verify(cache, times(0)).clear();
+    }
 }
@@ -0,0 +1,68 @@
+package com.example.server.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.example.admin.maskingpolicy.service.MaskingPolicyService;
+import com.example.admin.rowaccesspolicy.service.RowAccessPolicyService;
+import com.example.common.cache.CacheInvalidationEvent;
+import com.example.common.cache.CacheInvalidationPublisher;
+import com.example.common.cache.CacheInvalidationType;
+import com.example.common.policy.PolicyChangedEvent;
+
+class PolicyChangeBroadcasterTest {
+
+    private final CacheInvalidationPublisher publisher = Mockito.mock(CacheInvalidationPublisher.class);
+    private final PolicyChangeBroadcaster broadcaster = new PolicyChangeBroadcaster(publisher);
+
+    @Test
+    @DisplayName("행 접근 정책 변경은 ROW_ACCESS_POLICY 무효화로 발행한다")
+    void rowAccessPolicyChange() {
+        broadcaster.onPolicyChanged(new PolicyChangedEvent(RowAccessPolicyService.POLICY_CODE, "root-1"));
+
+        ArgumentCaptor<CacheInvalidationEvent> captor = ArgumentCaptor.forClass(CacheInvalidationEvent.class);
+        verify(publisher).publish(captor.capture());
+        assertThat(captor.getValue().type()).isEqualTo(CacheInvalidationType.ROW_ACCESS_POLICY);
+        assertThat(captor.getValue().scopeId()).isEqualTo("root-1");
+        assertThat(captor.getValue().issuedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("마스킹 정책 변경은 MASKING 무효화로 발행한다")
+    void maskingPolicyChange() {
+        broadcaster.onPolicyChanged(new PolicyChangedEvent(MaskingPolicyService.POLICY_CODE, "root-2"));
+
+        ArgumentCaptor<CacheInvalidationEvent> captor = ArgumentCaptor.forClass(CacheInvalidationEvent.class);
+        verify(publisher).publish(captor.capture());
+        assertThat(captor.getValue().type()).isEqualTo(CacheInvalidationType.MASKING);
+    }
+
+    @Test
+    @DisplayName("다른 정책 코드와 null 이벤트는 발행하지 않는다")
+    void ignoresUnrelatedEvents() {
+        broadcaster.onPolicyChanged(new PolicyChangedEvent("security.policy", "x"));
+        broadcaster.onPolicyChanged(null);
+
+        verify(publisher, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("publisher가 없거나 발행이 실패해도 예외를 전파하지 않는다")
+    void toleratesMissingOrFailingPublisher() {
+        doThrow(new IllegalStateException("redis down")).when(publisher).publish(any());
+
+        assertThatNoException().isThrownBy(() ->
+                broadcaster.onPolicyChanged(new PolicyChangedEvent(RowAccessPolicyService.POLICY_CODE, "r")));
+        assertThatNoException().isThrownBy(() -> new PolicyChangeBroadcaster(null)
+                .onPolicyChanged(new PolicyChangedEvent(RowAccessPolicyService.POLICY_CODE, "r")));
+    }
+}
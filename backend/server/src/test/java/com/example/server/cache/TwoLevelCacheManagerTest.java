@@ -0,0 +1,289 @@
+package com.example.server.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.example.common.cache.CacheInvalidationEvent;
+import com.example.common.cache.CacheInvalidationType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TwoLevelCacheManagerTest {
+
+    private static final CacheSpec SPEC = new CacheSpec(Duration.ofMinutes(5), 100, Duration.ofMinutes(10), null);
+
+    private final ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager();
+    private final List<CacheInvalidationEvent> published = new ArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService pool = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("L1 미스는 L2에서 채우고, 둘 다 없으면 적재 후 두 단계에 버전과 함께 저장한다")
+    void readThroughPopulatesBothTiers() {
+        TwoLevelCacheManager manager = manager(SPEC);
+        Cache cache = manager.getCache("users");
+
+        assertThat(cache.get("alice", () -> "Alice")).isEqualTo("Alice");
+
+        Cache.ValueWrapper stored = remote.getCache("users").get("alice");
+        assertThat(stored).isNotNull();
+        assertThat(stored.get()).isInstanceOf(TwoLevelCache.VersionedValue.class);
+
+        TwoLevelCacheManager otherNode = manager(SPEC);
+        assertThat(otherNode.getCache("users").get("alice", () -> "reloaded")).isEqualTo("Alice");
+        assertThat(registry.get("cache_two_level_requests_total")
+                .tags("cache", "users", "tier", "remote", "result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache_two_level_load_ms").tag("cache", "users").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("put/evict는 항목 단위 이벤트를 보내고, 자기 이벤트로는 방금 쓴 L1 항목을 지우지 않는다")
+    void putBroadcastsEntryInvalidation() {
+        TwoLevelCacheManager manager = manager(SPEC);
+        Cache cache = manager.getCache("users");
+
+        cache.put("alice", "v1");
+
+        assertThat(published).hasSize(1);
+        CacheInvalidationEvent event = published.get(0);
+        assertThat(event.type()).isEqualTo(CacheInvalidationType.CACHE_ENTRY);
+        assertThat(event.cacheName()).isEqualTo("users");
+        assertThat(event.cacheKey()).isEqualTo("alice");
+
+        manager.onRemoteInvalidation(event);
+        assertThat(((TwoLevelCache) cache).localSize()).isEqualTo(1);
+
+        manager.onRemoteInvalidation(CacheInvalidationEvent.entry("users", "alice", event.version() + 1));
+        assertThat(((TwoLevelCache) cache).localSize()).isZero();
+
+        cache.evict("alice");
+        assertThat(published).hasSize(2);
+        assertThat(remote.getCache("users").get("alice")).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 캐시 전체 무효화는 L1만 비운다")
+    void remoteClearDropsLocalOnly() {
+        TwoLevelCacheManager manager = manager(SPEC);
+        Cache cache = manager.getCache("users");
+        cache.get("alice", () -> "Alice");
+
+        manager.onRemoteInvalidation(CacheInvalidationEvent.entry("users", null, 1L));
+
+        assertThat(((TwoLevelCache) cache).localSize()).isZero();
+        assertThat(remote.getCache("users").get("alice")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("L2를 읽는 도중 들어온 원격 무효화는 읽기가 끝난 뒤 적용돼 옛 값을 L1에 남기지 않는다")
+    void remoteInvalidationDuringRemoteReadWins() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        AtomicBoolean blocking = new AtomicBoolean();
+        ConcurrentMapCacheManager slowRemote = new ConcurrentMapCacheManager() {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return new ConcurrentMapCache(name) {
+                    @Override
+                    public ValueWrapper get(Object key) {
+                        ValueWrapper value = super.get(key);
+                        if (blocking.get()) {
+                            reading.countDown();
+                            try {
+                                resume.await(5, TimeUnit.SECONDS);
+                            } catch (InterruptedException ex) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                        return value;
+                    }
+                };
+            }
+        };
+        TwoLevelCacheManager reader = new TwoLevelCacheManager(List.of(), name -> SPEC, slowRemote, published::add,
+                pool, registry);
+        TwoLevelCacheManager writer = new TwoLevelCacheManager(List.of(), name -> SPEC, slowRemote, published::add,
+                pool, registry);
+        writer.getCache("users").put("alice", "v1");
+        blocking.set(true);
+
+        Future<?> lookup = pool.submit(() -> reader.getCache("users").get("alice"));
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+        blocking.set(false);
+        writer.getCache("users").put("alice", "v2");
+        Future<?> invalidation = pool.submit(() -> reader.onRemoteInvalidation(published.get(published.size() - 1)));
+        Thread.sleep(100);
+        resume.countDown();
+        lookup.get(5, TimeUnit.SECONDS);
+        invalidation.get(5, TimeUnit.SECONDS);
+
+        assertThat(reader.getCache("users").get("alice").get()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("문자열 표현이 같아도 타입이 다른 키는 서로 다른 항목이다")
+    void keysOfDifferentTypesDoNotCollide() {
+        Cache cache = manager(SPEC).getCache("users");
+
+        cache.put(1L, "long");
+        cache.put("1", "string");
+
+        assertThat(cache.get(1L).get()).isEqualTo("long");
+        assertThat(cache.get("1").get()).isEqualTo("string");
+        assertThat(TwoLevelCache.keyOf(1L)).isEqualTo("java.lang.Long:1");
+    }
+
+    @Test
+    @DisplayName("유형 단위 무효화는 공유 L2를 지우지 않고, 그 이전에 쓴 L2 항목은 미스로 보고 다시 적재한다")
+    void clearLocalKeepsRemoteButIgnoresOlderEntries() {
+        TwoLevelCacheManager manager = manager(SPEC);
+        TwoLevelCache cache = (TwoLevelCache) manager.getCache("users");
+        cache.get("alice", () -> "old");
+
+        cache.clearLocal(System.currentTimeMillis() + 1_000);
+
+        assertThat(cache.localSize()).isZero();
+        assertThat(remote.getCache("users").get("alice")).isNotNull();
+        assertThat(cache.get("alice")).isNull();
+        assertThat(cache.get("alice", () -> "new")).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 조회해도 적재는 한 번만 일어난다")
+    void concurrentMissesLoadOnce() throws Exception {
+        Cache cache = manager(SPEC).getCache("users");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return cache.get("alice", () -> {
+                    loads.incrementAndGet();
+                    Thread.sleep(50);
+                    return "Alice";
+                });
+            }));
+        }
+
+        start.countDown();
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Alice");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("refreshAfter가 지난 항목은 기존 값을 돌려주고 백그라운드에서 다시 적재한다")
+    void refreshAheadReloadsStaleEntry() throws Exception {
+        CacheSpec refreshing = new CacheSpec(Duration.ofMinutes(5), 100, Duration.ofMinutes(10), Duration.ZERO);
+        Cache cache = manager(refreshing).getCache("users");
+        cache.put("alice", "v1");
+
+        assertThat(cache.get("alice", () -> "v2")).isEqualTo("v1");
+
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(cache.get("alice", String.class)).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("백그라운드 재적재 도중 put/evict가 있었으면 재적재 결과로 덮어쓰지 않는다")
+    void refreshAheadDoesNotOverwriteConcurrentWrites() throws Exception {
+        CacheSpec refreshing = new CacheSpec(Duration.ofMinutes(5), 100, Duration.ofMinutes(10), Duration.ZERO);
+        Cache cache = manager(refreshing).getCache("users");
+        cache.put("alice", "v1");
+        cache.put("bob", "v1");
+        CountDownLatch loading = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<String> slowLoader = () -> {
+            loading.countDown();
+            release.await();
+            return "stale";
+        };
+
+        assertThat(cache.get("alice", slowLoader)).isEqualTo("v1");
+        assertThat(cache.get("bob", slowLoader)).isEqualTo("v1");
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.put("alice", "v2");
+        cache.evict("bob");
+        release.countDown();
+
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(cache.get("alice", String.class)).isEqualTo("v2");
+        assertThat(((TwoLevelCache.VersionedValue) remote.getCache("users").get("alice").get()).value())
+                .isEqualTo("v2");
+        assertThat(cache.get("bob")).isNull();
+        assertThat(remote.getCache("users").get("bob")).isNull();
+    }
+
+    @Test
+    @DisplayName("버전은 노드 안에서 단조 증가하고 노드 식별자 비트로 노드마다 구분된다")
+    void versionsAreMonotonicAndCarryNodeId() {
+        TwoLevelCacheManager manager = manager(SPEC);
+        long mask = (1L << TwoLevelCacheManager.NODE_BITS) - 1;
+
+        long previous = manager.nextVersion();
+        for (int i = 0; i < 10_000; i++) {
+            long next = manager.nextVersion();
+            assertThat(next).isGreaterThan(previous);
+            assertThat(next & mask).isEqualTo(previous & mask);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("적재 실패는 ValueRetrievalException으로 전달되고 캐시하지 않는다")
+    void loaderFailureIsNotCached() {
+        Cache cache = manager(SPEC).getCache("users");
+
+        assertThatThrownBy(() -> cache.get("alice", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+
+        assertThat(cache.get("alice")).isNull();
+    }
+
+    @Test
+    @DisplayName("L2가 없으면 L1만으로 동작하고 null 값도 캐시한다")
+    void localOnlyCachesNullValues() {
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(List.of("users"), name -> SPEC, null, null,
+                Runnable::run, registry);
+        Cache cache = manager.getCache("users");
+
+        cache.put("ghost", null);
+
+        assertThat(manager.getCacheNames()).containsExactly("users");
+        assertThat(cache.get("ghost")).isNotNull();
+        assertThat(cache.get("ghost").get()).isNull();
+    }
+
+    private TwoLevelCacheManager manager(CacheSpec spec) {
+        return new TwoLevelCacheManager(List.of(), name -> spec, remote, published::add, pool, registry);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.server.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.server.cache.CacheSpec;
+
+class CacheTtlPropertiesTest {
+
+    @Test
+    @DisplayName("캐시별 설정은 지정한 값만 덮어쓰고 나머지는 전역 기본값을 쓴다")
+    void resolveMergesPerCacheSpecWithDefaults() {
+        CacheTtlProperties properties = new CacheTtlProperties();
+        properties.setLocalTtlSeconds(60);
+        properties.setRedisTtlSeconds(120);
+        properties.setLocalMaximumSize(500);
+        CacheTtlProperties.Spec spec = new CacheTtlProperties.Spec();
+        spec.setLocalMaximumSize(50L);
+        spec.setRefreshAfter(Duration.ofSeconds(30));
+        properties.getSpecs().put("userDetails", spec);
+
+        CacheSpec configured = properties.resolve("userDetails");
+        CacheSpec fallback = properties.resolve("greetings");
+
+        assertThat(configured).isEqualTo(new CacheSpec(Duration.ofSeconds(60), 50, Duration.ofSeconds(120),
+                Duration.ofSeconds(30)));
+        assertThat(fallback).isEqualTo(new CacheSpec(Duration.ofSeconds(60), 500, Duration.ofSeconds(120), null));
+    }
+}
@@ -3,9 +3,13 @@ package com.example.server.export;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -72,16 +76,21 @@ class ExportMaskingE2ETest {
         when(emp.getEmploymentType()).thenReturn("FULL_TIME");
         when(emp.getEmploymentStatus()).thenReturn("ACTIVE");
         when(emp.getEmail()).thenReturn("alice@example.com");
-        when(hrEmployeeRepository.findAll()).thenReturn(List.of(emp));
+        when(hrEmployeeRepository.findPageAfter(null, 1)).thenReturn(List.of(emp));
 
-        var result = mockMvc.perform(get("/api/exports/hr-employees")
+        var started = mockMvc.perform(get("/api/exports/hr-employees")
                         .param("limit", "1")
                         .param("reasonCode", "CS001"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        var result = mockMvc.perform(asyncDispatch(started))
                 .andExpect(status().isOk())
                 .andReturn();
 
-        String body = result.getResponse().getContentAsString();
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body).startsWith("employeeId,fullName");
         assertThat(body).doesNotContain("alice@example.com");
+        verify(auditPort).record(any(), any());
     }
 
     @Test
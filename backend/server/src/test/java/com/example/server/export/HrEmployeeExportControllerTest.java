@@ -1,14 +1,15 @@
 package com.example.server.export;
 
-import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-import java.util.List;
-import java.util.UUID;
-
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,13 +17,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.example.common.masking.MaskingContextHolder;
 import com.example.common.masking.MaskingTarget;
 import com.example.auth.security.JwtTokenProvider;
 import com.example.server.security.JwtAuthenticationFilter;
 import com.example.dw.application.export.ExportExecutionHelper;
-import com.example.dw.domain.HrEmployeeEntity;
 import com.example.dw.infrastructure.persistence.HrEmployeeRepository;
 
 @WebMvcTest(controllers = HrEmployeeExportController.class)
@@ -45,22 +46,39 @@ class HrEmployeeExportControllerTest {
     JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Test
-    @DisplayName("HR 직원 CSV export 엔드포인트는 200을 반환한다")
-    void exportHrEmployeesReturnsOk() throws Exception {
-        HrEmployeeEntity emp = HrEmployeeEntity.snapshot("E001", 1, "Alice", "alice@example.com",
-                "ORG1", "FULL", "ACTIVE", java.time.LocalDate.now(), null, UUID.randomUUID(), java.time.OffsetDateTime.now());
+    @DisplayName("HR 직원 CSV export 엔드포인트는 응답 스트림으로 CSV를 내보낸다")
+    void exportHrEmployeesStreamsCsv() throws Exception {
+        MaskingContextHolder.set(MaskingTarget.builder().defaultMask(true).build());
+        try {
+            MvcResult started = mockMvc.perform(get("/api/exports/hr-employees")
+                            .param("reasonCode", "RSN01"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
 
-        given(repository.findAll()).willReturn(List.of(emp));
-        given(helper.exportCsv(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.anyList(),
-                org.mockito.ArgumentMatchers.any(), anyBoolean())).willReturn("id\nE001".getBytes());
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Disposition", org.hamcrest.Matchers.containsString("hr_employees.csv")));
+        } finally {
+            MaskingContextHolder.clear();
+        }
 
-        MaskingContextHolder.set(MaskingTarget.builder().defaultMask(true).build());
+        verify(helper).streamCsv(any(), anyList(), any(), any(), eq(true), any(), eq(false));
+    }
+
+    @Test
+    @DisplayName("gzip=true면 gzip 파일명과 content type으로 압축 스트림을 요청한다")
+    void exportHrEmployeesGzip() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/exports/hr-employees")
+                        .param("reasonCode", "RSN01")
+                        .param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
 
-        mockMvc.perform(get("/api/exports/hr-employees")
-                        .param("reasonCode", "RSN01"))
+        mockMvc.perform(asyncDispatch(started))
                 .andExpect(status().isOk())
-                .andExpect(header().string("Content-Disposition", org.hamcrest.Matchers.containsString("hr_employees.csv")));
+                .andExpect(header().string("Content-Disposition", org.hamcrest.Matchers.containsString("hr_employees.csv.gz")))
+                .andExpect(header().string("Content-Type", "application/gzip"));
 
-        MaskingContextHolder.clear();
+        verify(helper).streamCsv(any(), anyList(), any(), any(), eq(true), any(), eq(true));
     }
 }
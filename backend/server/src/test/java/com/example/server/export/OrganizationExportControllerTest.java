@@ -3,9 +3,13 @@ package com.example.server.export;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.hamcrest.Matchers;
 
@@ -22,7 +26,9 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import com.example.dw.application.export.ExportExecutionHelper;
 import com.example.dw.application.export.writer.ExportWriterService;
 import com.example.auth.security.JwtTokenProvider;
 import com.example.server.security.JwtAuthenticationFilter;
@@ -47,6 +53,9 @@ class OrganizationExportControllerTest {
     @MockBean
     ExportWriterService exportWriterService;
 
+    @MockBean
+    ExportExecutionHelper exportExecutionHelper;
+
     @MockBean
     JwtTokenProvider jwtTokenProvider;
 
@@ -80,4 +89,19 @@ class OrganizationExportControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(header().string("Content-Disposition", Matchers.containsString("organizations.pdf")));
     }
+
+    @Test
+    @DisplayName("조직 CSV export 엔드포인트는 응답 스트림으로 CSV를 내보낸다")
+    void exportOrgCsvStreams() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/exports/orgs/csv")
+                        .param("reasonCode", "RSN01"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", Matchers.containsString("organizations.csv")));
+
+        verify(exportExecutionHelper).streamCsv(any(), anyList(), any(), any(), eq(true), any(), eq(false));
+    }
 }
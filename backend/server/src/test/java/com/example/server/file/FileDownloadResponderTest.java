@@ -0,0 +1,161 @@
+package com.example.server.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.common.file.FileDownload;
+import com.example.common.file.FileStatus;
+import com.example.common.file.dto.FileMetadataDto;
+
+class FileDownloadResponderTest {
+
+    private static final String BODY = "0123456789abcdefghij";
+    private static final String CHECKSUM = "c0ffee";
+    private static final String ETAG = "\"" + CHECKSUM + "\"";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("조건 없는 요청은 전체 본문과 체크섬 ETag를 내려준다")
+    void fullBodyWithEtag() throws Exception {
+        MockHttpServletResponse response = write(get(), fileResource());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getContentLengthLong()).isEqualTo(BODY.length());
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 ETag와 같으면 본문 없이 304를 돌려준다")
+    void notModifiedWhenEtagMatches() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+        MockHttpServletResponse response = write(request, fileResource());
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단일 구간 요청은 206과 Content-Range로 해당 바이트만 보낸다")
+    void singleRange() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+        MockHttpServletResponse response = write(request, fileResource());
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 5-9/20");
+        assertThat(response.getContentLengthLong()).isEqualTo(5);
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+    }
+
+    @Test
+    @DisplayName("여러 구간 요청은 multipart/byteranges로 보내고 길이를 정확히 알린다")
+    void multipleRanges() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1,-3");
+
+        MockHttpServletResponse response = write(request, fileResource());
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        String body = response.getContentAsString(StandardCharsets.US_ASCII);
+        assertThat(body).contains("Content-Range: bytes 0-1/20\r\n\r\n01\r\n")
+                .contains("Content-Range: bytes 17-19/20\r\n\r\nhij\r\n");
+        assertThat(response.getContentLengthLong()).isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("If-Range가 현재 ETag와 다르면 구간을 무시하고 전체를 보낸다")
+    void ifRangeMismatchSendsFullBody() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-4");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+
+        MockHttpServletResponse response = write(request, fileResource());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("파일 범위를 벗어난 구간은 416으로 거절한다")
+    void unsatisfiableRange() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=50-60");
+
+        MockHttpServletResponse response = write(request, fileResource());
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+    }
+
+    @Test
+    @DisplayName("컨테이너가 sendfile을 지원하면 본문을 쓰지 않고 파일 구간을 위임한다")
+    void delegatesToSendfile() throws Exception {
+        MockHttpServletRequest request = get();
+        request.setAttribute(FileDownloadResponder.SENDFILE_SUPPORT, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-");
+        FileSystemResource resource = fileResource();
+
+        MockHttpServletResponse response = write(request, resource);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute(FileDownloadResponder.SENDFILE_FILENAME))
+                .isEqualTo(resource.getFile().getAbsolutePath());
+        assertThat(request.getAttribute(FileDownloadResponder.SENDFILE_START)).isEqualTo(10L);
+        assertThat(request.getAttribute(FileDownloadResponder.SENDFILE_END)).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("파일이 아닌 리소스도 구간을 잘라 보낸다")
+    void rangeOverNonFileResource() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=18-");
+
+        MockHttpServletResponse response = write(request, new ByteArrayResource(BODY.getBytes(StandardCharsets.US_ASCII)));
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("ij");
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request, Resource resource) throws Exception {
+        FileMetadataDto metadata = new FileMetadataDto(UUID.randomUUID(), "a.txt", "text/plain", BODY.length(),
+                CHECKSUM, "tester", FileStatus.ACTIVE, null, null, null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FileDownloadResponder.write(request, response, new FileDownload(metadata, resource), MediaType.TEXT_PLAIN,
+                "attachment; filename*=UTF-8''a.txt");
+        return response;
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/files/1");
+    }
+
+    private FileSystemResource fileResource() throws Exception {
+        Path file = tempDir.resolve("body.bin");
+        Files.writeString(file, BODY, StandardCharsets.US_ASCII);
+        return new FileSystemResource(file);
+    }
+}
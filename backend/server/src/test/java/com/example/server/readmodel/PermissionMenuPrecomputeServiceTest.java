@@ -0,0 +1,105 @@
+package com.example.server.readmodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.example.admin.user.domain.UserAccount;
+import com.example.admin.user.service.UserAccountService;
+import com.example.common.user.spi.UserAccountInfo;
+import com.example.dw.application.readmodel.PermissionMenuReadModel;
+import com.example.dw.application.readmodel.PermissionMenuReadModelSource;
+
+@ExtendWith(MockitoExtension.class)
+class PermissionMenuPrecomputeServiceTest {
+
+    @Mock
+    UserAccountService userAccountService;
+    @Mock
+    RedisPermissionMenuReadModelPort port;
+
+    private final PermissionMenuReadModelSource source = mock(PermissionMenuReadModelSource.class);
+    private final PermissionMenuReadModelProperties properties = new PermissionMenuReadModelProperties();
+    private PermissionMenuPrecomputeService service;
+
+    @BeforeEach
+    void setUp() {
+        properties.setPrecomputePageSize(2);
+        service = new PermissionMenuPrecomputeService(userAccountService, source, port, properties);
+        lenient().when(source.permissionSetKey(any(UserAccountInfo.class)))
+                .thenAnswer(invocation -> "group:" + invocation.<UserAccountInfo>getArgument(0).getPermissionGroupCode());
+    }
+
+    @Test
+    @DisplayName("권한 묶음마다 snapshot을 한 번만 만들고 묶음의 사용자를 모두 연결한다")
+    void computesOncePerPermissionSet() {
+        UserAccount a = account("a", "G1");
+        UserAccount b = account("b", "G2");
+        UserAccount c = account("c", "G1");
+        given(userAccountService.findAll(any(), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(a, b), PageRequest.of(0, 2), 3))
+                .willReturn(new PageImpl<>(List.of(c), PageRequest.of(1, 2), 3));
+        given(source.snapshot(anyString())).willAnswer(invocation ->
+                new PermissionMenuReadModel(null, OffsetDateTime.now(), List.of()));
+        given(port.store(any())).willReturn(new PermissionMenuReadModel("h1", OffsetDateTime.now(), List.of()));
+
+        PermissionMenuPrecomputeService.PrecomputeResult result = service.precomputeAll();
+
+        assertThat(result.principals()).isEqualTo(3);
+        assertThat(result.permissionSets()).isEqualTo(2);
+        assertThat(result.models()).isEqualTo(1);
+        verify(source).snapshot("a");
+        verify(source).snapshot("b");
+        verify(source, never()).snapshot("c");
+        verify(port).assign(List.of("a", "c"), "h1");
+        verify(port).assign(List.of("b"), "h1");
+    }
+
+    @Test
+    @DisplayName("한 묶음이 실패해도 나머지 묶음은 계속 계산한다")
+    void continuesAfterFailedSet() {
+        given(userAccountService.findAll(any(), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(account("a", "G1"), account("b", "G2")), PageRequest.of(0, 2), 2));
+        given(source.snapshot("a")).willThrow(new IllegalStateException("boom"));
+        given(source.snapshot("b")).willReturn(new PermissionMenuReadModel(null, OffsetDateTime.now(), List.of()));
+        given(port.store(any())).willReturn(new PermissionMenuReadModel("h2", OffsetDateTime.now(), List.of()));
+
+        PermissionMenuPrecomputeService.PrecomputeResult result = service.precomputeAll();
+
+        assertThat(result.failedSets()).isEqualTo(1);
+        verify(port, times(1)).assign(List.of("b"), "h2");
+    }
+
+    @Test
+    void skipsStartupPrecomputeByDefault() {
+        service.precomputeOnStartup();
+
+        verify(userAccountService, never()).findAll(any(), any(Pageable.class));
+    }
+
+    private static UserAccount account(String username, String groupCode) {
+        UserAccount account = mock(UserAccount.class);
+        given(account.getUsername()).willReturn(username);
+        given(account.getPermissionGroupCode()).willReturn(groupCode);
+        return account;
+    }
+}
@@ -96,6 +96,16 @@ class PermissionMenuReadModelSourceImplTest {
         assertThat(model.items()).isEmpty();
     }
 
+    @Test
+    void permissionSetKeyDependsOnlyOnPermissionGroup() {
+        String first = source.permissionSetKey(createMockUserAccountInfo("a", "ORG1", "GROUP1"));
+        String second = source.permissionSetKey(createMockUserAccountInfo("b", "ORG2", "GROUP1"));
+        String fallback = source.permissionSetKey(createMockUserAccountInfo("c", "ORG1", null));
+
+        assertThat(first).isEqualTo(second).isEqualTo("group:GROUP1");
+        assertThat(fallback).isEqualTo("group:DEFAULT");
+    }
+
     private UserAccountInfo createMockUserAccountInfo(String username, String orgCode, String permGroupCode) {
         UserAccountInfo user = mock(UserAccountInfo.class);
         given(user.getUsername()).willReturn(username);
@@ -7,72 +7,77 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.example.admin.permission.event.PermissionSetChangedEvent;
-import com.example.dw.application.readmodel.OrganizationReadModelPort;
 import com.example.dw.application.readmodel.MenuReadModelPort;
 import com.example.dw.application.readmodel.PermissionMenuReadModelPort;
+import com.example.server.readmodel.ReadModelRebuildScheduler.Model;
+import com.example.server.readmodel.ReadModelRebuildScheduler.Priority;
 
 class PermissionSetChangedListenerTest {
 
-    private final OrganizationReadModelPort readModelPort = Mockito.mock(OrganizationReadModelPort.class);
     private final MenuReadModelPort menuReadModelPort = Mockito.mock(MenuReadModelPort.class);
     private final PermissionMenuReadModelPort permissionMenuReadModelPort = Mockito.mock(PermissionMenuReadModelPort.class);
-    private final PermissionSetChangedListener listener = new PermissionSetChangedListener(readModelPort, menuReadModelPort, permissionMenuReadModelPort);
+    private final PermissionSetChangedListener listener = new PermissionSetChangedListener(menuReadModelPort, permissionMenuReadModelPort, null);
 
     @Test
     void triggersRebuildWhenEnabled() {
-        when(readModelPort.isEnabled()).thenReturn(true);
         when(menuReadModelPort.isEnabled()).thenReturn(true);
         when(permissionMenuReadModelPort.isEnabled()).thenReturn(true);
 
         listener.onPermissionChanged(new PermissionSetChangedEvent("user-1"));
 
-        verify(readModelPort).rebuild();
         verify(menuReadModelPort).rebuild();
         verify(permissionMenuReadModelPort).rebuild("user-1");
     }
 
-    @Test
-    void skipsWhenOrganizationReadModelDisabled() {
-        when(readModelPort.isEnabled()).thenReturn(false);
-
-        listener.onPermissionChanged(new PermissionSetChangedEvent("user-2"));
-
-        Mockito.verifyNoInteractions(menuReadModelPort, permissionMenuReadModelPort);
-        Mockito.verify(readModelPort, Mockito.never()).rebuild();
-    }
-
     @Test
     void permissionMenuSkippedWhenPrincipalMissing() {
-        when(readModelPort.isEnabled()).thenReturn(true);
         when(menuReadModelPort.isEnabled()).thenReturn(true);
         when(permissionMenuReadModelPort.isEnabled()).thenReturn(true);
 
         listener.onPermissionChanged(new PermissionSetChangedEvent(null));
 
-        verify(readModelPort).rebuild();
         verify(menuReadModelPort).rebuild();
         Mockito.verify(permissionMenuReadModelPort, Mockito.never()).rebuild(Mockito.any());
     }
 
     @Test
-    void skipsWhenOrganizationReadModelPortIsNull() {
-        PermissionSetChangedListener listener = new PermissionSetChangedListener(null, menuReadModelPort, permissionMenuReadModelPort);
+    void skipsWhenPortsAreNull() {
+        PermissionSetChangedListener listener = new PermissionSetChangedListener(null, null, null);
 
         listener.onPermissionChanged(new PermissionSetChangedEvent("user3"));
-
-        Mockito.verifyNoInteractions(menuReadModelPort, permissionMenuReadModelPort);
     }
 
     @Test
     void menuReadModelDisabledDoesNotRebuild() {
-        when(readModelPort.isEnabled()).thenReturn(true);
         when(menuReadModelPort.isEnabled()).thenReturn(false);
         when(permissionMenuReadModelPort.isEnabled()).thenReturn(false);
 
         listener.onPermissionChanged(new PermissionSetChangedEvent("user4"));
 
-        verify(readModelPort).rebuild();
         Mockito.verify(menuReadModelPort, Mockito.never()).rebuild();
         Mockito.verify(permissionMenuReadModelPort, Mockito.never()).rebuild(Mockito.any());
     }
+
+    @Test
+    void permissionMenuRebuildsEvenWhenMenuDisabled() {
+        when(menuReadModelPort.isEnabled()).thenReturn(false);
+        when(permissionMenuReadModelPort.isEnabled()).thenReturn(true);
+
+        listener.onPermissionChanged(new PermissionSetChangedEvent("user5"));
+
+        Mockito.verify(menuReadModelPort, Mockito.never()).rebuild();
+        verify(permissionMenuReadModelPort).rebuild("user5");
+    }
+
+    @Test
+    void delegatesToSchedulerWhenPresent() {
+        ReadModelRebuildScheduler scheduler = Mockito.mock(ReadModelRebuildScheduler.class);
+        PermissionSetChangedListener listener = new PermissionSetChangedListener(menuReadModelPort, permissionMenuReadModelPort, scheduler);
+
+        listener.onPermissionChanged(new PermissionSetChangedEvent("user6"));
+
+        verify(scheduler).request(Model.MENU, null, Priority.NORMAL);
+        verify(scheduler).request(Model.PERMISSION_MENU, "user6", Priority.NORMAL);
+        Mockito.verifyNoInteractions(menuReadModelPort, permissionMenuReadModelPort);
+    }
 }
@@ -0,0 +1,179 @@
+package com.example.server.readmodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.example.server.readmodel.ReadModelRebuildScheduler.Model;
+import com.example.server.readmodel.ReadModelRebuildScheduler.Priority;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReadModelRebuildSchedulerTest {
+
+    private final ReadModelWorker worker = mock(ReadModelWorker.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReadModelRebuildScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReadModelWorkerProperties properties = new ReadModelWorkerProperties();
+        properties.setDebounce(Duration.ofMillis(50));
+        properties.setThreads(1);
+        scheduler = new ReadModelRebuildScheduler(worker, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("디바운스 창 안의 같은 요청은 한 번의 재생성으로 합친다")
+    void coalescesBurstIntoSingleRebuild() {
+        for (int i = 0; i < 20; i++) {
+            scheduler.request(Model.MENU, null, Priority.NORMAL);
+        }
+
+        verify(worker, timeout(1000)).rebuildMenu();
+        verify(worker, after(200).times(1)).rebuildMenu();
+        assertThat(scheduler.stats().coalesced()).isEqualTo(19);
+        assertThat(meterRegistry.get("readmodel_rebuild_ms").tag("model", "MENU").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("principal이 다르면 따로 재생성하고, principal 없는 권한 메뉴 요청은 무시한다")
+    void rebuildsPerPrincipal() {
+        scheduler.request(Model.PERMISSION_MENU, "u1", Priority.NORMAL);
+        scheduler.request(Model.PERMISSION_MENU, "u2", Priority.NORMAL);
+        scheduler.request(Model.PERMISSION_MENU, "u1", Priority.NORMAL);
+        scheduler.request(Model.PERMISSION_MENU, null, Priority.NORMAL);
+
+        verify(worker, timeout(1000)).rebuildPermissionMenu("u1");
+        verify(worker, timeout(1000)).rebuildPermissionMenu("u2");
+        verify(worker, after(200).times(1)).rebuildPermissionMenu("u1");
+    }
+
+    @Test
+    @DisplayName("재생성 중 들어온 요청은 잃지 않고 한 번 더 재생성한다")
+    void requestDuringRebuildTriggersAnotherRun() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return null;
+        }).doNothing().when(worker).rebuildOrganization();
+
+        scheduler.request(Model.ORGANIZATION, null, Priority.NORMAL);
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        scheduler.request(Model.ORGANIZATION, null, Priority.NORMAL);
+        release.countDown();
+
+        verify(worker, timeout(1000).times(2)).rebuildOrganization();
+    }
+
+    @Test
+    @DisplayName("대기 중인 작업은 우선순위가 높은 것부터 실행한다")
+    void runsHigherPriorityFirst() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return null;
+        }).when(worker).rebuildPermissionMenu("blocker");
+
+        scheduler.request(Model.PERMISSION_MENU, "blocker", Priority.NORMAL);
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        scheduler.request(Model.MENU, null, Priority.LOW);
+        scheduler.request(Model.ORGANIZATION, null, Priority.HIGH);
+        Thread.sleep(150);
+        assertThat(scheduler.stats().queueDepth()).isEqualTo(2);
+        release.countDown();
+
+        verify(worker, timeout(1000)).rebuildMenu();
+        InOrder order = inOrder(worker);
+        order.verify(worker).rebuildOrganization();
+        order.verify(worker).rebuildMenu();
+    }
+
+    @Test
+    @DisplayName("재생성 실패는 집계하고 다음 요청을 막지 않는다")
+    void countsFailures() {
+        doThrow(new IllegalStateException("boom")).doNothing().when(worker).rebuildMenu();
+
+        scheduler.request(Model.MENU, null, Priority.NORMAL);
+        verify(worker, timeout(1000)).rebuildMenu();
+        verify(worker, after(100).times(1)).rebuildMenu();
+        scheduler.request(Model.MENU, null, Priority.NORMAL);
+
+        verify(worker, timeout(1000).times(2)).rebuildMenu();
+        assertThat(scheduler.stats().failed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키는 겹쳐 실행하지 않고, 실행 중에 나온 작업은 끝난 뒤 한 번 더 실행한다")
+    void sameKeyNeverRunsConcurrently() throws Exception {
+        ReadModelWorkerProperties properties = new ReadModelWorkerProperties();
+        properties.setDebounce(Duration.ofMillis(20));
+        properties.setThreads(4);
+        ReadModelRebuildScheduler parallel = new ReadModelRebuildScheduler(worker, properties, meterRegistry);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            started.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            inFlight.decrementAndGet();
+            return null;
+        }).when(worker).rebuildPermissionMenu("u1");
+        try {
+            parallel.request(Model.PERMISSION_MENU, "u1", Priority.NORMAL);
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+            parallel.request(Model.PERMISSION_MENU, "u1", Priority.NORMAL);
+            Thread.sleep(150);
+            release.countDown();
+
+            verify(worker, timeout(2000).times(2)).rebuildPermissionMenu("u1");
+            assertThat(maxInFlight).hasValue(1);
+        } finally {
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("대기·실행 중인 작업이 없는 키의 상태는 남기지 않는다")
+    void dropsStateOfIdleKeys() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            scheduler.request(Model.PERMISSION_MENU, "u" + i, Priority.LOW);
+        }
+        scheduler.request(Model.MENU, null, Priority.NORMAL);
+
+        verify(worker, timeout(2000)).rebuildPermissionMenu("u49");
+        verify(worker, timeout(2000)).rebuildMenu();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (scheduler.trackedKeys() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(scheduler.trackedKeys()).isZero();
+    }
+}
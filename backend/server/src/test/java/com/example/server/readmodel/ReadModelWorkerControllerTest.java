@@ -1,24 +1,33 @@
 package com.example.server.readmodel;
 
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.example.server.readmodel.ReadModelRebuildScheduler.Model;
+import com.example.server.readmodel.ReadModelRebuildScheduler.Priority;
+import com.example.server.readmodel.ReadModelRebuildScheduler.RebuildStats;
+
 class ReadModelWorkerControllerTest {
 
     private MockMvc mockMvc;
-    private ReadModelWorker worker;
+    private ReadModelRebuildScheduler scheduler;
 
     @BeforeEach
     void setUp() {
-        this.worker = mock(ReadModelWorker.class);
-        ReadModelWorkerController controller = new ReadModelWorkerController(worker);
+        this.scheduler = mock(ReadModelRebuildScheduler.class);
+        ReadModelWorkerController controller = new ReadModelWorkerController(scheduler);
         this.mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
     }
 
@@ -26,20 +35,31 @@ class ReadModelWorkerControllerTest {
     void rebuildOrganization() throws Exception {
         mockMvc.perform(post("/internal/read-model/organization/rebuild"))
                 .andExpect(status().isAccepted());
-        verify(worker).rebuildOrganization();
+        verify(scheduler).request(Model.ORGANIZATION, null, Priority.HIGH);
     }
 
     @Test
     void rebuildMenu() throws Exception {
         mockMvc.perform(post("/internal/read-model/menu/rebuild"))
                 .andExpect(status().isAccepted());
-        verify(worker).rebuildMenu();
+        verify(scheduler).request(Model.MENU, null, Priority.HIGH);
     }
 
     @Test
     void rebuildPermissionMenu() throws Exception {
         mockMvc.perform(post("/internal/read-model/permission-menu/user1/rebuild"))
                 .andExpect(status().isAccepted());
-        verify(worker).rebuildPermissionMenu("user1");
+        verify(scheduler).request(Model.PERMISSION_MENU, "user1", Priority.HIGH);
+    }
+
+    @Test
+    void stats() throws Exception {
+        given(scheduler.stats()).willReturn(new RebuildStats(3, 1, 2, 10, 5, 1, 0, Map.of(Model.MENU, 42L)));
+
+        mockMvc.perform(get("/internal/read-model/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.queueDepth").value(3))
+                .andExpect(jsonPath("$.coalesced").value(5))
+                .andExpect(jsonPath("$.lastRebuildMs.MENU").value(42));
     }
 }
@@ -2,15 +2,13 @@ package com.example.server.readmodel;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.eq;
-import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -20,9 +18,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
+import com.example.dw.application.DwOrganizationNode;
 import com.example.dw.application.DwOrganizationTreeService;
 import com.example.dw.application.readmodel.OrganizationTreeReadModel;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -46,17 +48,25 @@ class RedisOrganizationReadModelPortMoreTest {
     @Mock
     ValueOperations<String, String> valueOperations;
 
+    @Mock
+    HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    SetOperations<String, String> setOperations;
+
     @InjectMocks
     RedisOrganizationReadModelPort port;
 
     @Test
-    @DisplayName("캐시 역직렬화 실패 시 빈 Optional을 반환한다")
+    @DisplayName("노드 역직렬화 실패 시 빈 Optional을 반환한다")
     void returnsEmptyWhenDeserializeFails() throws Exception {
         given(properties.getKeyPrefix()).willReturn("org-cache");
         given(properties.getTenantId()).willReturn("t1");
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get("org-cache:t1")).thenReturn("broken-payload");
-        lenient().when(objectMapper.readValue("broken-payload", OrganizationTreeReadModel.class))
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(valueOperations.get("org-cache:t1:generated")).thenReturn("2024-01-01T00:00Z");
+        when(hashOperations.entries("org-cache:t1:nodes")).thenReturn(Map.of("ORG", "broken-payload"));
+        when(objectMapper.readValue("broken-payload", DwOrganizationNode.class))
                 .thenThrow(new JsonProcessingException("boom") {});
 
         Optional<OrganizationTreeReadModel> result = port.load();
@@ -69,30 +79,33 @@ class RedisOrganizationReadModelPortMoreTest {
     void evictSwallowsDataAccessException() {
         given(properties.getKeyPrefix()).willReturn("org-cache");
         given(properties.getTenantId()).willReturn("t1");
-        given(redisTemplate.delete("org-cache:t1")).willThrow(new DataAccessException("fail") {});
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(redisTemplate.delete(anyCollection())).willThrow(new DataAccessException("fail") {});
 
         port.evict();
     }
 
     @Test
     @DisplayName("캐시 미스이고 refreshOnMiss=true이면 rebuild를 수행한다")
-    void rebuildOnCacheMissWhenRefreshEnabled() throws Exception {
+    void rebuildOnCacheMissWhenRefreshEnabled() {
         given(properties.getKeyPrefix()).willReturn("org-cache");
         given(properties.getTenantId()).willReturn("t1");
         given(properties.isRefreshOnMiss()).willReturn(true);
         given(properties.getTtl()).willReturn(java.time.Duration.ofMinutes(5));
 
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get("org-cache:t1")).thenReturn(null);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(valueOperations.get("org-cache:t1:generated")).thenReturn(null);
+        when(valueOperations.get("org-cache:t1:version")).thenReturn("7");
 
-        var tree = mock(com.example.dw.application.DwOrganizationTreeService.OrganizationTreeSnapshot.class);
+        var tree = mock(DwOrganizationTreeService.OrganizationTreeSnapshot.class);
         given(organizationTreeService.snapshot()).willReturn(tree);
         given(tree.flatten()).willReturn(java.util.List.of());
-        when(objectMapper.writeValueAsString(any(OrganizationTreeReadModel.class))).thenReturn("{}");
 
         Optional<OrganizationTreeReadModel> result = port.load();
 
         assertThat(result).isPresent();
-        verify(valueOperations).set(eq("org-cache:t1"), eq("{}"), eq(java.time.Duration.ofMinutes(5)));
+        assertThat(result.orElseThrow().version()).isEqualTo("7");
+        verify(redisTemplate).execute(any(SessionCallback.class));
     }
 }
@@ -1,79 +1,161 @@
 package com.example.server.readmodel;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
 
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 
 import com.example.dw.application.DwOrganizationNode;
 import com.example.dw.application.DwOrganizationTreeService;
 import com.example.dw.application.DwOrganizationTreeService.OrganizationTreeSnapshot;
 import com.example.dw.application.readmodel.OrganizationTreeReadModel;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
-@SuppressWarnings("unchecked")
+import redis.embedded.RedisServer;
+
+@DisplayName("RedisOrganizationReadModelPort 테스트")
 class RedisOrganizationReadModelPortTest {
 
-    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int REDIS_PORT = 6394;
+    private static RedisServer redisServer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
     private final DwOrganizationTreeService treeService = mock(DwOrganizationTreeService.class);
     private final OrganizationReadModelProperties properties = new OrganizationReadModelProperties();
 
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisOrganizationReadModelPort port;
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", REDIS_PORT));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        port = new RedisOrganizationReadModelPort(redisTemplate, objectMapper, treeService, properties);
+        given(treeService.snapshot()).willReturn(OrganizationTreeSnapshot.fromNodes(List.of(
+                node("ROOT", null), node("A", "ROOT"), node("A1", "A"), node("B", "ROOT"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
     @Test
-    @DisplayName("캐시에 없고 refresh가 꺼져 있으면 Optional.empty를 반환한다")
-    void loadReturnsEmptyWhenCacheMissAndNoRefresh() {
-        properties.setRefreshOnMiss(false);
-        ValueOperations<String, String> ops = mock(ValueOperations.class);
-        given(redisTemplate.opsForValue()).willReturn(ops);
-        given(ops.get(any())).willReturn(null);
+    @DisplayName("rebuild는 노드를 해시 필드로, 하위 조직을 상위별 Set으로 저장한다")
+    void rebuildStoresNodesAndChildren() {
+        OrganizationTreeReadModel model = port.rebuild();
 
-        RedisOrganizationReadModelPort port = new RedisOrganizationReadModelPort(redisTemplate, objectMapper, treeService, properties);
+        assertThat(model.nodes()).hasSize(4);
+        assertThat(model.version()).isEqualTo("1");
+        assertThat(redisTemplate.opsForHash().keys("rm:org:default:nodes")).containsExactlyInAnyOrder("ROOT", "A", "A1", "B");
+        assertThat(redisTemplate.opsForSet().members("rm:org:default:children:ROOT")).containsExactlyInAnyOrder("A", "B");
+        assertThat(redisTemplate.getExpire("rm:org:default:nodes")).isPositive();
+        assertThat(port.load().orElseThrow().nodes())
+                .extracting(DwOrganizationNode::organizationCode)
+                .containsExactly("A", "A1", "B", "ROOT");
+    }
 
-        assertThat(port.load()).isEmpty();
+    @Test
+    @DisplayName("하위 트리 조회는 요청한 조직과 그 하위 조직만 읽는다")
+    void loadSubtreeReadsOnlyDescendants() {
+        port.rebuild();
+
+        OrganizationTreeReadModel subtree = port.loadSubtree("A").orElseThrow();
+
+        assertThat(subtree.nodes()).extracting(DwOrganizationNode::organizationCode).containsExactly("A", "A1");
+        assertThat(port.loadSubtree("UNKNOWN")).isEmpty();
     }
 
     @Test
-    @DisplayName("캐시 페이로드 역직렬화 실패 시 empty를 반환한다")
-    void loadReturnsEmptyOnDeserializeError() {
-        properties.setRefreshOnMiss(false);
-        ValueOperations<String, String> ops = mock(ValueOperations.class);
-        given(redisTemplate.opsForValue()).willReturn(ops);
-        given(ops.get(any())).willReturn("not-json");
+    @DisplayName("변경 적용은 바뀐 노드만 다시 쓰고 상위 조직 이동과 삭제를 반영한다")
+    void applyChangesMovesAndRemovesNodes() {
+        port.rebuild();
+        given(treeService.activeNodes(List.of("A1", "B"))).willReturn(Map.of("A1", node("A1", "ROOT")));
+
+        port.applyChanges(List.of("A1", "B"));
+
+        assertThat(redisTemplate.opsForSet().members("rm:org:default:children:A")).isEmpty();
+        assertThat(redisTemplate.opsForSet().members("rm:org:default:children:ROOT")).containsExactlyInAnyOrder("A", "A1");
+        assertThat(redisTemplate.opsForHash().hasKey("rm:org:default:nodes", "B")).isFalse();
+        assertThat(port.loadSubtree("ROOT").orElseThrow().nodes())
+                .extracting(DwOrganizationNode::organizationCode)
+                .containsExactly("ROOT", "A", "A1");
+        verify(treeService).snapshot();
+    }
 
-        RedisOrganizationReadModelPort port = new RedisOrganizationReadModelPort(redisTemplate, objectMapper, treeService, properties);
+    @Test
+    @DisplayName("버전은 재구성과 변경 적용, evict 이후에도 계속 증가한다")
+    void versionIsMonotonic() {
+        port.rebuild();
+        given(treeService.activeNodes(List.of("B"))).willReturn(Map.of("B", node("B", "ROOT")));
+        port.applyChanges(List.of("B"));
+        assertThat(port.load().orElseThrow().version()).isEqualTo("2");
 
-        assertThat(port.load()).isEmpty();
+        port.evict();
+        assertThat(redisTemplate.hasKey("rm:org:default:nodes")).isFalse();
+
+        assertThat(port.load().orElseThrow().version()).isEqualTo("3");
     }
 
     @Test
-    @DisplayName("rebuild는 snapshot을 사용해 저장하고 반환한다")
-    void rebuildPersistsSnapshot() {
-        ValueOperations<String, String> ops = mock(ValueOperations.class);
-        given(redisTemplate.opsForValue()).willReturn(ops);
-        properties.setRefreshOnMiss(true);
+    @DisplayName("저장된 모델이 없으면 변경 적용 대신 전체 재구성한다")
+    void applyChangesWithoutModelRebuilds() {
+        port.applyChanges(List.of("A"));
 
-        DwOrganizationNode node = new DwOrganizationNode(UUID.randomUUID(), "ORG", 1, "Org", null, "ACTIVE",
-                null, null, null, OffsetDateTime.now(ZoneOffset.UTC));
-        OrganizationTreeSnapshot snapshot = OrganizationTreeSnapshot.fromNodes(List.of(node));
-        given(treeService.snapshot()).willReturn(snapshot);
+        verify(treeService).snapshot();
+        verify(treeService, never()).activeNodes(List.of("A"));
+        assertThat(redisTemplate.opsForHash().size("rm:org:default:nodes")).isEqualTo(4);
+    }
 
-        RedisOrganizationReadModelPort port = new RedisOrganizationReadModelPort(redisTemplate, objectMapper, treeService, properties);
+    @Test
+    @DisplayName("캐시에 없고 refresh가 꺼져 있으면 Optional.empty를 반환한다")
+    void loadReturnsEmptyWhenCacheMissAndNoRefresh() {
+        properties.setRefreshOnMiss(false);
 
-        OrganizationTreeReadModel model = port.rebuild();
+        assertThat(port.load()).isEmpty();
+        assertThat(port.loadSubtree("A")).isEmpty();
+        verify(treeService, never()).snapshot();
+    }
 
-        assertThat(model.nodes()).hasSize(1);
+    private static DwOrganizationNode node(String code, String parent) {
+        return new DwOrganizationNode(UUID.randomUUID(), code, 1, code, parent, "ACTIVE",
+                null, null, null, OffsetDateTime.now(ZoneOffset.UTC));
     }
 }
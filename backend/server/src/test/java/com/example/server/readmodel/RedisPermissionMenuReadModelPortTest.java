@@ -94,10 +94,40 @@ class RedisPermissionMenuReadModelPortTest {
         PermissionMenuReadModel rebuilt = readModelPort.rebuild("user1");
 
         assertThat(rebuilt.items()).hasSize(1);
-        assertThat(rebuilt.version()).isEqualTo("v-perm");
+        assertThat(rebuilt.version()).hasSize(32).isNotEqualTo("v-perm");
         assertThat(readModelPort.load("user1")).isPresent()
                 .get()
-                .satisfies(model -> assertThat(model.version()).isEqualTo("v-perm"));
+                .satisfies(model -> assertThat(model.version()).isEqualTo(rebuilt.version()));
+    }
+
+    @Test
+    @DisplayName("항목이 같으면 재생성마다 같은 버전을 얻고 모델 키 하나를 공유한다")
+    void identicalMenusShareContentAddressedModel() {
+        List<PermissionMenuItem> items = List.of(new PermissionMenuItem("MENU1", "메뉴1", "FEATURE1", "READ", "/menu1"));
+        when(source.snapshot("a")).thenReturn(new PermissionMenuReadModel("random-1", OffsetDateTime.now(), items));
+        when(source.snapshot("b")).thenReturn(new PermissionMenuReadModel("random-2", OffsetDateTime.now(), items));
+
+        PermissionMenuReadModel first = readModelPort.rebuild("a");
+        PermissionMenuReadModel second = readModelPort.rebuild("b");
+
+        assertThat(second.version()).isEqualTo(first.version());
+        assertThat(redisTemplate.keys("rm:perm:test:model:*")).containsExactly("rm:perm:test:model:" + first.version());
+        assertThat(redisTemplate.opsForValue().get("rm:perm:test:a")).isEqualTo(first.version());
+    }
+
+    @Test
+    @DisplayName("assign은 여러 사용자를 저장된 모델 버전에 연결한다")
+    void assignLinksPrincipalsToStoredModel() {
+        RedisPermissionMenuReadModelPort port = (RedisPermissionMenuReadModelPort) readModelPort;
+        PermissionMenuReadModel model = port.store(new PermissionMenuReadModel("ignored", OffsetDateTime.now(),
+                List.of(new PermissionMenuItem("MENU2", "메뉴2", "FEATURE2", "READ", "/menu2"))));
+
+        port.assign(List.of("u1", "u2"), model.version());
+
+        assertThat(readModelPort.load("u1").orElseThrow().items()).extracting(PermissionMenuItem::code).containsExactly("MENU2");
+        assertThat(readModelPort.load("u2").orElseThrow().version()).isEqualTo(model.version());
+        assertThat(redisTemplate.getExpire("rm:perm:test:u1")).isPositive();
+        verifyNoInteractions(source);
     }
 
     @Test
@@ -140,6 +170,7 @@ class RedisPermissionMenuReadModelPortTest {
 
         PermissionMenuReadModel model = readModelPort.load("userZ").orElseThrow();
 
-        assertThat(model.version()).isEqualTo("recovered");
+        verify(source).snapshot("userZ");
+        assertThat(redisTemplate.opsForValue().get("rm:perm:test:userZ")).isEqualTo(model.version());
     }
 }
@@ -1,7 +1,10 @@
 package com.example.server.security;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,11 +21,15 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 import com.example.auth.security.JwtTokenProvider;
+import com.example.auth.security.JwtTokenProvider.VerifiedToken;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("JwtAuthenticationFilter 테스트")
@@ -53,8 +60,7 @@ class JwtAuthenticationFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
         UserDetails userDetails = User.withUsername("tester").password("pw").roles("USER").build();
 
-        given(jwtTokenProvider.isValid("abc.def")).willReturn(true);
-        given(jwtTokenProvider.extractUsername("abc.def")).willReturn("tester");
+        given(jwtTokenProvider.verify("abc.def")).willReturn(Optional.of(verified("tester")));
         given(userDetailsService.loadUserByUsername("tester")).willReturn(userDetails);
 
         filter.doFilterInternal(request, response, filterChain);
@@ -83,7 +89,7 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer invalid");
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        given(jwtTokenProvider.isValid("invalid")).willReturn(false);
+        given(jwtTokenProvider.verify("invalid")).willReturn(Optional.empty());
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -100,11 +106,10 @@ class JwtAuthenticationFilterTest {
         SecurityContextHolder.getContext().setAuthentication(
                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
 
-        given(jwtTokenProvider.isValid("token")).willReturn(true);
-
         filter.doFilterInternal(request, response, filterChain);
 
         assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("tester");
+        verify(jwtTokenProvider, never()).verify(anyString());
     }
 
     @Test
@@ -138,7 +143,7 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer expired");
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        given(jwtTokenProvider.isValid("expired")).willReturn(false);
+        given(jwtTokenProvider.verify("expired")).willReturn(Optional.empty());
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -152,10 +157,30 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer badsig");
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        given(jwtTokenProvider.isValid("badsig")).willReturn(false);
+        given(jwtTokenProvider.verify("badsig")).willReturn(Optional.empty());
 
         filter.doFilterInternal(request, response, filterChain);
 
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
+
+    @Test
+    @DisplayName("Given 유효한 토큰 When 필터링하면 Then 토큰을 한 번만 검증하고 다시 파싱하지 않는다")
+    void givenValidTokenWhenFilterThenVerifiesOnce() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer abc.def");
+        UserDetails userDetails = User.withUsername("tester").password("pw").roles("USER").build();
+        given(jwtTokenProvider.verify("abc.def")).willReturn(Optional.of(verified("tester")));
+        given(userDetailsService.loadUserByUsername("tester")).willReturn(userDetails);
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), filterChain);
+
+        verify(jwtTokenProvider).verify("abc.def");
+        verify(jwtTokenProvider, never()).isValid(anyString());
+        verify(jwtTokenProvider, never()).extractUsername(anyString());
+    }
+
+    private static VerifiedToken verified(String username) {
+        return new VerifiedToken(username, List.of("ROLE_USER"), "jti-1", Instant.now().plusSeconds(60));
+    }
 }
@@ -0,0 +1,94 @@
+package com.example.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.example.auth.security.JwtProperties;
+
+import redis.embedded.RedisServer;
+
+@DisplayName("RedisTokenBlacklistStore 테스트")
+class RedisTokenBlacklistStoreTest {
+
+    private static final int REDIS_PORT = 6395;
+    private static RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisTokenBlacklistStore store;
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", REDIS_PORT));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        store = new RedisTokenBlacklistStore(redisTemplate, new JwtProperties.Blacklist());
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("버킷별 Set에 저장하고 버킷 종료 시각에 키가 만료되도록 설정한다")
+    void addStoresIntoBucketSetWithExpiry() {
+        Instant bucketEnd = Instant.now().plusSeconds(3600);
+
+        store.add(42L, "jti-1", bucketEnd);
+        store.add(42L, "jti-2", bucketEnd);
+        store.add(43L, "jti-3", bucketEnd.plusSeconds(3600));
+
+        assertThat(store.contains(42L, "jti-1")).isTrue();
+        assertThat(store.contains(43L, "jti-1")).isFalse();
+        assertThat(store.buckets()).containsExactlyInAnyOrder(42L, 43L);
+        assertThat(redisTemplate.getExpire("auth:jwt-blacklist:42")).isPositive();
+        assertThat(redisTemplate.opsForZSet().score("auth:jwt-blacklist:buckets", "42")).isEqualTo(42.0);
+
+        List<String> members = new ArrayList<>();
+        store.forEachMember(42L, members::add);
+        assertThat(members).containsExactlyInAnyOrder("jti-1", "jti-2");
+    }
+
+    @Test
+    @DisplayName("dropBefore는 지난 버킷을 색인에서 제거한다")
+    void dropBeforeTrimsIndex() {
+        Instant bucketEnd = Instant.now().plusSeconds(3600);
+        store.add(10L, "old", bucketEnd);
+        store.add(11L, "new", bucketEnd);
+
+        store.dropBefore(11L);
+
+        assertThat(store.buckets()).containsExactly(11L);
+    }
+}
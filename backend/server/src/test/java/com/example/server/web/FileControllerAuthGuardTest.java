@@ -12,6 +12,9 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.admin.permission.exception.PermissionDeniedException;
@@ -45,7 +48,7 @@ class FileControllerAuthGuardTest {
         when(draftApplicationService.getDraft(draftId, null, null, false))
                 .thenThrow(new PermissionDeniedException("인증 정보가 없습니다."));
 
-        assertThatThrownBy(() -> controller.download(UUID.randomUUID(), draftId))
+        assertThatThrownBy(() -> controller.download(UUID.randomUUID(), draftId, new MockHttpServletRequest(), new MockHttpServletResponse()))
                 .isInstanceOf(PermissionDeniedException.class);
     }
 
@@ -64,7 +67,7 @@ class FileControllerAuthGuardTest {
 
     @Test
     @DisplayName("draftId가 있고 첨부가 일치하면 다운로드를 허용한다")
-    void downloadWithDraftAttachmentAllowed() {
+    void downloadWithDraftAttachmentAllowed() throws IOException {
         UUID fileId = UUID.randomUUID();
         UUID draftId = UUID.randomUUID();
         DraftResponse draft = new DraftResponse(draftId, "t", "c", "BF", "ORG", "creator",
@@ -79,10 +82,11 @@ class FileControllerAuthGuardTest {
                 .thenReturn(List.of(new DraftReferenceResponse(UUID.randomUUID(), "ref-user", "ORG", "adder", null)));
         FileMetadataDto metadata = new FileMetadataDto(fileId, "a.txt", "text/plain", 1L, "h",
                 "creator", FileStatus.ACTIVE, null, null, null);
-        when(fileManagementPort.download(any(), any(), any()))
-                .thenReturn(new FileDownload(metadata, null));
+        when(fileManagementPort.openDownload(any(), any(), any()))
+                .thenReturn(new FileDownload(metadata, new ByteArrayResource("a".getBytes())));
         AuthContextHolder.set(com.example.admin.permission.context.AuthContext.of("user", "ORG", "PG", null, null, null));
 
-        controller.download(fileId, draftId);
+        controller.download(fileId, draftId, new MockHttpServletRequest("GET", "/api/files/" + fileId),
+                new MockHttpServletResponse());
     }
 }
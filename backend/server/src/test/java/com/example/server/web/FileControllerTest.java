@@ -21,6 +21,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 
 import com.example.common.security.ActionCode;
@@ -36,6 +40,8 @@ import com.example.draft.application.DraftApplicationService;
 import com.example.draft.application.dto.DraftAttachmentResponse;
 import com.example.draft.application.dto.DraftApprovalStepResponse;
 import com.example.draft.application.dto.DraftResponse;
+import com.example.file.dto.FileSummaryPage;
+import com.example.file.dto.FileSummaryQuery;
 import com.example.file.port.FileManagementPort;
 
 @ExtendWith(MockitoExtension.class)
@@ -83,26 +89,43 @@ class FileControllerTest {
 
     @Test
     @DisplayName("Given 다운로드 요청 When 호출하면 Then 리소스를 반환한다")
-    void givenDownload_whenRequesting_thenReturnResource() {
+    void givenDownload_whenRequesting_thenReturnResource() throws Exception {
         setAuth(ActionCode.DOWNLOAD);
         FileMetadataDto metadata = sampleMetadata();
-        given(fileManagementPort.download(metadata.id(), "tester", List.of("tester")))
+        given(fileManagementPort.openDownload(metadata.id(), "tester", List.of("tester")))
                 .willReturn(new FileDownload(metadata, new ByteArrayResource("data".getBytes())));
 
-        var response = controller.download(metadata.id(), null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.download(metadata.id(), null, new MockHttpServletRequest("GET", "/api/files"), response);
 
-        assertThat(response.getHeaders().getContentDisposition().getFilename()).contains("hello.txt");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("hello.txt");
+        assertThat(response.getContentAsString()).isEqualTo("data");
     }
 
     @Test
     @DisplayName("Given 목록 요청 When 호출하면 Then 파일 메타데이터 목록을 반환한다")
     void givenList_whenRequested_thenReturnMetadata() {
         setAuth(ActionCode.READ);
-        given(fileManagementPort.list()).willReturn(List.of(sampleMetadata()));
+        given(fileManagementPort.list(any(FileSummaryQuery.class)))
+                .willReturn(new FileSummaryPage<>(List.of(sampleMetadata()), null));
 
-        java.util.List<FileMetadataResponse> response = controller.listFiles();
+        var response = controller.listFiles(null, null, null, null, 50);
 
-        assertThat(response).hasSize(1);
+        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getHeaders().containsKey(FileController.NEXT_CURSOR_HEADER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 커서를 헤더로 내려주고 조회 조건을 그대로 전달한다")
+    void listExposesNextCursor() {
+        setAuth(ActionCode.READ);
+        given(fileManagementPort.list(any(FileSummaryQuery.class)))
+                .willReturn(new FileSummaryPage<>(List.of(sampleMetadata()), "next"));
+
+        var response = controller.listFiles("tester", FileStatus.ACTIVE, "hel", "prev", 1);
+
+        assertThat(response.getHeaders().getFirst(FileController.NEXT_CURSOR_HEADER)).isEqualTo("next");
+        verify(fileManagementPort).list(new FileSummaryQuery("tester", FileStatus.ACTIVE, "hel", "prev", 1));
     }
 
     @Test
@@ -110,9 +133,9 @@ class FileControllerTest {
     void downloadThrowsWhenServiceFails() {
         setAuth(ActionCode.DOWNLOAD);
         UUID id = sampleMetadata().id();
-        given(fileManagementPort.download(id, "tester", List.of("tester"))).willThrow(new RuntimeException("fail"));
+        given(fileManagementPort.openDownload(id, "tester", List.of("tester"))).willThrow(new RuntimeException("fail"));
 
-        assertThatThrownBy(() -> controller.download(id, null))
+        assertThatThrownBy(() -> controller.download(id, null, new MockHttpServletRequest(), new MockHttpServletResponse()))
                 .isInstanceOf(RuntimeException.class);
     }
 
@@ -131,11 +154,11 @@ class FileControllerTest {
     @DisplayName("목록이 비어 있으면 빈 리스트를 반환한다")
     void listReturnsEmpty() {
         setAuth(ActionCode.READ);
-        given(fileManagementPort.list()).willReturn(List.of());
+        given(fileManagementPort.list(any(FileSummaryQuery.class))).willReturn(new FileSummaryPage<>(List.of(), null));
 
-        var response = controller.listFiles();
+        var response = controller.listFiles(null, null, null, null, 50);
 
-        assertThat(response).isEmpty();
+        assertThat(response.getBody()).isEmpty();
     }
 
     private FileMetadataDto sampleMetadata() {
@@ -166,7 +189,7 @@ class FileControllerTest {
         given(draftApplicationService.getDraft(any(), any(), any(), org.mockito.ArgumentMatchers.eq(false))).willReturn(draft);
         given(draftApplicationService.listReferences(any(), any(), any(), org.mockito.ArgumentMatchers.eq(false))).willReturn(List.of());
 
-        assertThatThrownBy(() -> controller.download(fileId, UUID.randomUUID()))
+        assertThatThrownBy(() -> controller.download(fileId, UUID.randomUUID(), new MockHttpServletRequest(), new MockHttpServletResponse()))
                 .isInstanceOf(com.example.file.FilePolicyViolationException.class)
                 .hasMessageContaining("첨부되지 않은 파일");
     }
@@ -185,7 +208,7 @@ class FileControllerTest {
 
     @Test
     @DisplayName("draftId가 있고 첨부가 일치하면 다운로드를 허용한다")
-    void downloadWithDraftId_whenAttached_returnsResource() {
+    void downloadWithDraftId_whenAttached_returnsResource() throws Exception {
         setAuth(ActionCode.DOWNLOAD);
         FileMetadataDto metadata = sampleMetadata();
         UUID draftId = UUID.randomUUID();
@@ -196,11 +219,12 @@ class FileControllerTest {
                 null, null);
         given(draftApplicationService.getDraft(eq(draftId), any(), any(), eq(false))).willReturn(draft);
         given(draftApplicationService.listReferences(eq(draftId), any(), any(), eq(false))).willReturn(List.of());
-        given(fileManagementPort.download(eq(metadata.id()), any(), any()))
+        given(fileManagementPort.openDownload(eq(metadata.id()), any(), any()))
                 .willReturn(new FileDownload(metadata, new ByteArrayResource("data".getBytes())));
 
-        var resp = controller.download(metadata.id(), draftId);
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        controller.download(metadata.id(), draftId, new MockHttpServletRequest("GET", "/api/files"), resp);
 
-        assertThat(resp.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(HttpStatus.valueOf(resp.getStatus()).is2xxSuccessful()).isTrue();
     }
 }
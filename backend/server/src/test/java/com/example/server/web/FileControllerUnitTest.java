@@ -13,7 +13,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
 import com.example.common.security.ActionCode;
 import com.example.common.security.FeatureCode;
@@ -44,17 +46,18 @@ class FileControllerUnitTest {
 
     @Test
     @DisplayName("draftId 없이 다운로드하면 기본 content-type 과 파일명이 설정된다")
-    void downloadWithoutDraft() {
+    void downloadWithoutDraft() throws Exception {
         UUID id = UUID.randomUUID();
         FileMetadataDto metadata = new FileMetadataDto(id, "hello.txt", null, 12, "hash",
                 "system", FileStatus.ACTIVE, null, null, null);
         FileDownload download = new FileDownload(metadata, new ByteArrayResource("hi".getBytes()));
-        when(fileManagementPort.download(id, "system", List.of("system"))).thenReturn(download);
+        when(fileManagementPort.openDownload(id, "system", List.of("system"))).thenReturn(download);
 
-        ResponseEntity<?> response = controller.download(id, null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.download(id, null, new MockHttpServletRequest("GET", "/api/files/" + id), response);
 
-        assertThat(response.getHeaders().getContentDisposition().getFilename()).contains("hello.txt");
-        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("application/octet-stream");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("hello.txt");
+        assertThat(response.getContentType()).isEqualTo("application/octet-stream");
     }
 
     @Test
@@ -70,7 +73,7 @@ class FileControllerUnitTest {
         when(draftApplicationService.getDraft(draftId, "ORG", "user", false)).thenReturn(draft);
         when(draftApplicationService.listReferences(draftId, "ORG", "user", false)).thenReturn(List.of());
 
-        assertThatThrownBy(() -> controller.download(fileId, draftId))
+        assertThatThrownBy(() -> controller.download(fileId, draftId, new MockHttpServletRequest(), new MockHttpServletResponse()))
                 .isInstanceOf(FilePolicyViolationException.class);
     }
 }
@@ -1,6 +1,9 @@
 package com.example.server.web;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -29,6 +32,8 @@ import com.example.server.security.JwtAuthenticationFilter;
 import com.example.common.file.FileDownload;
 import com.example.common.file.dto.FileMetadataDto;
 import com.example.common.file.FileStatus;
+import com.example.file.dto.FileSummaryPage;
+import com.example.file.dto.FileSummaryQuery;
 import com.example.file.port.FileManagementPort;
 
 @WebMvcTest(FileController.class)
@@ -97,7 +102,7 @@ class FileControllerWebMvcTest {
         FileMetadataDto metadata = new FileMetadataDto(id, "report.pdf", MediaType.APPLICATION_PDF_VALUE,
                 10, "hash", "system", FileStatus.ACTIVE, null, java.time.OffsetDateTime.now(), java.time.OffsetDateTime.now());
         FileDownload download = new FileDownload(metadata, new org.springframework.core.io.ByteArrayResource(new byte[]{1,2}));
-        when(fileManagementPort.download(any(), any(), any())).thenReturn(download);
+        when(fileManagementPort.openDownload(any(), any(), any())).thenReturn(download);
 
         mockMvc.perform(get("/api/files/" + id))
                 .andExpect(status().isOk());
@@ -108,7 +113,8 @@ class FileControllerWebMvcTest {
     void list_returnsItems() throws Exception {
         FileMetadataDto metadata = new FileMetadataDto(UUID.randomUUID(), "one.txt", MediaType.TEXT_PLAIN_VALUE,
                 3, "h", "tester", FileStatus.ACTIVE, null, java.time.OffsetDateTime.now(), java.time.OffsetDateTime.now());
-        when(fileManagementPort.list()).thenReturn(java.util.List.of(metadata));
+        when(fileManagementPort.list(any(FileSummaryQuery.class)))
+                .thenReturn(new FileSummaryPage<>(java.util.List.of(metadata), null));
 
         mockMvc.perform(get("/api/files"))
                 .andExpect(status().isOk())
@@ -117,7 +123,8 @@ class FileControllerWebMvcTest {
     @Test
     @DisplayName("파일 목록이 비어 있으면 빈 배열을 반환한다")
     void listFiles_returnsEmptyArray() throws Exception {
-        when(fileManagementPort.list()).thenReturn(Collections.emptyList());
+        when(fileManagementPort.list(any(FileSummaryQuery.class)))
+                .thenReturn(new FileSummaryPage<>(Collections.emptyList(), null));
 
         mockMvc.perform(get("/api/files"))
                 .andExpect(status().isOk())
@@ -128,7 +135,7 @@ class FileControllerWebMvcTest {
     @DisplayName("다운로드 시 FileStorageException이 발생하면 500을 반환한다")
     void download_whenServiceThrows_returns500() throws Exception {
         UUID id = UUID.randomUUID();
-        when(fileManagementPort.download(any(), any(), any()))
+        when(fileManagementPort.openDownload(any(), any(), any()))
                 .thenThrow(new com.example.file.FileStorageException("fail", null));
 
         mockMvc.perform(get("/api/files/" + id))
@@ -143,7 +150,7 @@ class FileControllerWebMvcTest {
         FileMetadataDto metadata = new FileMetadataDto(id, "report.pdf", MediaType.APPLICATION_PDF_VALUE,
                 10, "hash", "tester", FileStatus.ACTIVE, null, java.time.OffsetDateTime.now(), java.time.OffsetDateTime.now());
         FileDownload download = new FileDownload(metadata, new org.springframework.core.io.ByteArrayResource(new byte[]{1,2,3}));
-        when(fileManagementPort.download(any(), any(), any())).thenReturn(download);
+        when(fileManagementPort.openDownload(any(), any(), any())).thenReturn(download);
 
         mockMvc.perform(get("/api/files/" + id))
                 .andExpect(status().isOk())
@@ -152,4 +159,26 @@ class FileControllerWebMvcTest {
                     org.assertj.core.api.Assertions.assertThat(disposition).contains("report.pdf");
                 });
     }
+
+    @Test
+    @DisplayName("다운로드 기록은 200과 첫 구간 206에서만 한 번 남기고 304·이어받기 구간에서는 남기지 않는다")
+    void download_recordsOnlyDeliveredDownloads() throws Exception {
+        UUID id = UUID.randomUUID();
+        FileMetadataDto metadata = new FileMetadataDto(id, "report.pdf", MediaType.APPLICATION_PDF_VALUE,
+                4, "hash", "system", FileStatus.ACTIVE, null, java.time.OffsetDateTime.now(), java.time.OffsetDateTime.now());
+        when(fileManagementPort.openDownload(any(), any(), any())).thenAnswer(invocation ->
+                new FileDownload(metadata, new org.springframework.core.io.ByteArrayResource(new byte[]{1, 2, 3, 4})));
+
+        mockMvc.perform(get("/api/files/" + id).header("If-None-Match", "\"hash\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/files/" + id).header("Range", "bytes=2-").header("If-Range", "\"hash\""))
+                .andExpect(status().isPartialContent());
+        verify(fileManagementPort, never()).recordDownload(any(), any());
+
+        mockMvc.perform(get("/api/files/" + id).header("Range", "bytes=0-1"))
+                .andExpect(status().isPartialContent());
+        mockMvc.perform(get("/api/files/" + id))
+                .andExpect(status().isOk());
+        verify(fileManagementPort, times(2)).recordDownload(id, "system");
+    }
 }
@@ -114,7 +114,7 @@ class FileFlowWebMvcTest {
                 "tester", FileStatus.ACTIVE, null, null, null);
         given(fileManagementPort.upload(any())).willReturn(metadata);
         given(fileManagementPort.list()).willReturn(List.of(metadata));
-        given(fileManagementPort.download(eq(id), any(), anyList()))
+        given(fileManagementPort.openDownload(eq(id), any(), anyList()))
                 .willReturn(new FileDownload(metadata, new org.springframework.core.io.ByteArrayResource("hi".getBytes(StandardCharsets.UTF_8))));
         given(fileManagementPort.delete(eq(id), eq("tester"))).willReturn(metadata);
 
@@ -185,7 +185,7 @@ class FileFlowWebMvcTest {
                         null, null, null, null, null, null, null,
                         List.<DraftApprovalStepResponse>of(), List.<DraftAttachmentResponse>of(), null, null));
         // 첨부되지 않으면 controller에서 download 호출 전에 정책 위반을 던지므로 download는 호출되지 않아도 됨
-        given(fileManagementPort.download(eq(fileId), any(), anyList()))
+        given(fileManagementPort.openDownload(eq(fileId), any(), anyList()))
                 .willThrow(new FilePolicyViolationException("해당 기안에 첨부되지 않은 파일입니다."));
 
         MockMultipartFile file = new MockMultipartFile("file", "x.txt", "text/plain", "hi".getBytes());
@@ -200,7 +200,7 @@ class FileFlowWebMvcTest {
     @DisplayName("파일이 없으면 404를 반환한다")
     void download_notFound_returns404() throws Exception {
         UUID fileId = UUID.randomUUID();
-        given(fileManagementPort.download(eq(fileId), any(), anyList()))
+        given(fileManagementPort.openDownload(eq(fileId), any(), anyList()))
                 .willThrow(new StoredFileNotFoundException(fileId));
 
         mockMvc.perform(get("/api/files/{id}", fileId))
@@ -222,7 +222,7 @@ class FileFlowWebMvcTest {
     @DisplayName("다운로드 권한이 없으면 403을 반환한다")
     void download_forbidden_returns403() throws Exception {
         UUID fileId = UUID.randomUUID();
-        given(fileManagementPort.download(eq(fileId), any(), anyList()))
+        given(fileManagementPort.openDownload(eq(fileId), any(), anyList()))
                 .willThrow(new PermissionDeniedException("denied"));
 
         mockMvc.perform(get("/api/files/{id}", fileId))
@@ -0,0 +1,30 @@
+-- 감사 로그 해시 체인 공유 헤드 + 비동기 연결
+-- 적재는 chain_seq/hash_chain 없이 INSERT하고, AuditHashChainLinker가 이 헤드 행을 잠가 커밋된 미연결 행을 이어 붙인다.
+-- 헤드 행은 애플리케이션이 만들지 않으므로 배포 전에 이 스크립트를 적용해야 한다.
+-- 선행: 2026-10-17-audit-log-chain-seq.sql
+
+CREATE TABLE IF NOT EXISTS audit_chain_head (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    chain_key VARCHAR(32) NOT NULL,
+    last_seq BIGINT NOT NULL,
+    last_hash VARCHAR(128),
+    CONSTRAINT uk_audit_chain_head_chain_key UNIQUE (chain_key)
+);
+
+-- 체인 도입 이전 행 중 해시가 비어 있는 행은 빈 해시로 표시해 연결 대상(chain_seq, hash_chain 모두 NULL)에서 제외한다.
+UPDATE audit_log SET hash_chain = '' WHERE chain_seq IS NULL AND hash_chain IS NULL;
+
+-- 헤드는 마지막 순번 행에서, 순번 이력이 없으면 가장 최근 행의 해시를 앵커로 시작한다.
+INSERT INTO audit_chain_head (chain_key, last_seq, last_hash)
+SELECT 'audit_log',
+       COALESCE((SELECT chain_seq FROM audit_log WHERE chain_seq IS NOT NULL ORDER BY chain_seq DESC LIMIT 1), 0),
+       COALESCE((SELECT hash_chain FROM audit_log WHERE chain_seq IS NOT NULL ORDER BY chain_seq DESC LIMIT 1),
+                (SELECT hash_chain FROM audit_log ORDER BY event_time DESC LIMIT 1),
+                '')
+ON CONFLICT (chain_key) DO NOTHING;
+
+-- 연결 대상 조회(AuditLogRepository.findUnlinked)용 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_audit_log_unlinked ON audit_log(event_time, id)
+    WHERE chain_seq IS NULL AND hash_chain IS NULL;
+
+-- 롤백: DROP INDEX idx_audit_log_unlinked; DROP TABLE audit_chain_head;
@@ -0,0 +1,21 @@
+-- 감사 로그 일별 롤업 테이블 및 월간 요약 지표 컬럼 추가
+-- AuditDailyRollupJob이 매일 최근 N일을 (event_type, success) GROUP BY 한 번으로 재집계하고,
+-- 월간 리포트는 이 테이블만 합산한다. 이벤트가 없던 날은 event_type='-' , event_count=0 마커 행을 남긴다.
+
+CREATE TABLE IF NOT EXISTS audit_daily_rollup (
+    id          UUID PRIMARY KEY,
+    rollup_day  DATE        NOT NULL,
+    event_type  VARCHAR(64) NOT NULL,
+    success     BOOLEAN     NOT NULL,
+    event_count BIGINT      NOT NULL,
+    updated_at  TIMESTAMP   NOT NULL,
+    CONSTRAINT uk_audit_daily_rollup UNIQUE (rollup_day, event_type, success)
+);
+
+ALTER TABLE audit_monthly_summary
+    ADD COLUMN IF NOT EXISTS failure_count BIGINT,
+    ADD COLUMN IF NOT EXISTS unmask_count BIGINT,
+    ADD COLUMN IF NOT EXISTS drm_download_count BIGINT;
+
+-- 롤백: DROP TABLE audit_daily_rollup;
+--       ALTER TABLE audit_monthly_summary DROP COLUMN failure_count, DROP COLUMN unmask_count, DROP COLUMN drm_download_count;
@@ -0,0 +1,9 @@
+-- audit_log 해시 체인 순번 컬럼 추가
+-- 체인 헤드(audit_chain_head)는 2026-10-17-audit-chain-head.sql이 chain_seq 최댓값에서 만든다.
+
+ALTER TABLE audit_log
+    ADD COLUMN IF NOT EXISTS chain_seq BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_audit_log_chain_seq ON audit_log(chain_seq);
+
+-- 롤백: DROP INDEX idx_audit_log_chain_seq; ALTER TABLE audit_log DROP COLUMN chain_seq;
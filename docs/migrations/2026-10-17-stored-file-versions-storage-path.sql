@@ -0,0 +1,6 @@
+-- stored_file_versions.storage_path 인덱스
+-- 내용 주소 저장소에서 여러 버전이 같은 blob을 공유하므로 ContentAddressedBlobSweeper가 storage_path로 참조 수를 센다.
+
+CREATE INDEX IF NOT EXISTS idx_stored_file_versions_storage_path ON stored_file_versions(storage_path);
+
+-- 롤백: DROP INDEX idx_stored_file_versions_storage_path;
@@ -0,0 +1,32 @@
+-- stored_files 이름 키 + 목록/스캔 큐 인덱스
+-- original_name_key: 중복 검사·이름 검색용 정규화 이름(StoredFile.nameKey와 같은 규칙: NFC 정규화 후 소문자)
+-- active_name_key: 삭제되지 않은 파일만 original_name_key 값을 갖고 삭제되면 NULL → 유니크 제약이 활성 파일 이름만 묶는다.
+-- 선행: 2025-11-20-file-scan-fields.sql (scan_status)
+
+-- 1. 컬럼 추가
+ALTER TABLE stored_files
+    ADD COLUMN IF NOT EXISTS original_name_key VARCHAR(255),
+    ADD COLUMN IF NOT EXISTS active_name_key VARCHAR(255);
+
+-- 2. 백필 (유니크 제약보다 먼저 실행). NORMALIZE는 UTF8 데이터베이스(PostgreSQL 13+)에서 동작한다.
+UPDATE stored_files
+   SET original_name_key = LOWER(NORMALIZE(original_name, NFC))
+ WHERE original_name_key IS NULL;
+
+UPDATE stored_files
+   SET active_name_key = CASE WHEN status = 'DELETED' THEN NULL ELSE original_name_key END
+ WHERE active_name_key IS DISTINCT FROM CASE WHEN status = 'DELETED' THEN NULL ELSE original_name_key END;
+
+-- 3. 유니크 제약. 아래 조회 결과가 있으면 같은 이름의 활성 파일을 정리(이름 변경/삭제)한 뒤 실행한다.
+-- SELECT active_name_key, COUNT(*) FROM stored_files
+--  WHERE active_name_key IS NOT NULL GROUP BY active_name_key HAVING COUNT(*) > 1;
+ALTER TABLE stored_files
+    ADD CONSTRAINT uk_stored_files_active_name_key UNIQUE (active_name_key);
+
+-- 4. 목록(keyset)·소유자별 목록·이름 검색·스캔 큐 인덱스
+CREATE INDEX IF NOT EXISTS idx_stored_files_created ON stored_files(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_stored_files_owner_created ON stored_files(owner_username, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_stored_files_name_key ON stored_files(original_name_key);
+CREATE INDEX IF NOT EXISTS idx_stored_files_scan_queue ON stored_files(scan_status, created_at);
+
+-- 롤백: DROP INDEX idx_stored_files_scan_queue; DROP INDEX idx_stored_files_name_key; DROP INDEX idx_stored_files_owner_created; DROP INDEX idx_stored_files_created; ALTER TABLE stored_files DROP CONSTRAINT uk_stored_files_active_name_key, DROP COLUMN active_name_key, DROP COLUMN original_name_key;
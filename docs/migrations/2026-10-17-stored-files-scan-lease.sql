@@ -0,0 +1,12 @@
+-- 재스캔 점유 기한 + 재스캔 대기열 부분 인덱스
+-- FileScanWorkQueue가 PENDING/FAILED 파일을 FOR UPDATE SKIP LOCKED로 점유하며 scan_lease_until까지 다른 노드가 가져가지 않는다.
+-- 선행: 2025-11-20-file-scan-fields.sql (scan_status)
+
+ALTER TABLE stored_files
+    ADD COLUMN IF NOT EXISTS scan_lease_until TIMESTAMPTZ;
+
+-- 대기열(StoredFileRepository.claimScanCandidates)은 created_at 순으로 읽으므로 대기 상태 행만 담는 부분 인덱스를 둔다.
+CREATE INDEX IF NOT EXISTS idx_stored_files_rescan_pending ON stored_files(created_at)
+    WHERE scan_status IN ('PENDING', 'FAILED');
+
+-- 롤백: DROP INDEX idx_stored_files_rescan_pending; ALTER TABLE stored_files DROP COLUMN scan_lease_until;